@@ -0,0 +1,94 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.benchmark;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures loads the payloads checked in under src/main/resources/fixtures, so that the benchmarks
+ * run offline against representative objects.
+ */
+public class Fixtures {
+
+  /** POD is the name of a running pod w/ managed fields, as returned by the apiserver. */
+  public static final String POD = "pod.json";
+
+  /** DEPLOYMENT is the name of a deployment, as returned by the apiserver. */
+  public static final String DEPLOYMENT = "deployment.json";
+
+  /** CRD is the name of a custom resource definition w/ a structural schema. */
+  public static final String CRD = "crd.json";
+
+  /** MANIFESTS is the name of a multi-document yaml of a configmap, a service and a deployment. */
+  public static final String MANIFESTS = "manifests.yaml";
+
+  private Fixtures() {}
+
+  /**
+   * Loads a fixture.
+   *
+   * @param name the name of the fixture
+   * @return the content of the fixture
+   */
+  public static String load(String name) {
+    try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+      if (in == null) {
+        throw new IllegalArgumentException("No such fixture: " + name);
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        out.write(buffer, 0, n);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns copies of the pod fixture, each w/ a name and uid of its own. The pods are spread
+   * round-robin over the namespaces "namespace-0".."namespace-{namespaces-1}" and the instances
+   * "instance-0".."instance-{instances-1}", the value of their app.kubernetes.io/instance label.
+   *
+   * @param count the number of pods
+   * @param namespaces the number of namespaces
+   * @param instances the number of instances
+   * @return the pods
+   */
+  public static List<V1Pod> pods(int count, int namespaces, int instances) {
+    JSON json = new JSON();
+    String pod = load(POD);
+    List<V1Pod> pods = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      V1Pod copy = json.deserialize(pod, V1Pod.class);
+      copy.getMetadata()
+          .name("pod-" + i)
+          .namespace("namespace-" + (i % namespaces))
+          .uid("00000000-0000-0000-0000-" + String.format("%012d", i))
+          .resourceVersion(String.valueOf(i + 1))
+          .putLabelsItem("app.kubernetes.io/instance", "instance-" + (i % instances));
+      pods.add(copy);
+    }
+    return pods;
+  }
+}
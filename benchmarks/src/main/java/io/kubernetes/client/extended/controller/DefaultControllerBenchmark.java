@@ -0,0 +1,105 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.controller;
+
+import io.kubernetes.client.extended.controller.reconciler.Request;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.extended.workqueue.DefaultRateLimitingQueue;
+import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the reconciliations per second of a controller w/ an asynchronous reconciler, each
+ * reconciliation waiting on a fake 1ms api round-trip, at several bounds of the reconciliations in
+ * flight.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultControllerBenchmark {
+
+  private static final int REQUESTS = 1000;
+  private static final long ROUND_TRIP_MICROS = 1000;
+
+  @Param({"10", "100", "1000"})
+  public int maxConcurrentReconciles;
+
+  private final Semaphore reconciled = new Semaphore(0);
+  private ScheduledExecutorService apiServer;
+  private DefaultController controller;
+  private Thread controllerThread;
+  // every request added is distinct, so that none is deduplicated.
+  private long nextRequest;
+
+  @Setup
+  public void setup() {
+    apiServer = Executors.newScheduledThreadPool(2);
+    RateLimitingQueue<Request> workQueue = new DefaultRateLimitingQueue<>();
+    controller =
+        new DefaultController(
+            "benchmark",
+            request -> {
+              CompletableFuture<Result> result = new CompletableFuture<>();
+              apiServer.schedule(
+                  () -> {
+                    result.complete(new Result(false));
+                    reconciled.release();
+                  },
+                  ROUND_TRIP_MICROS,
+                  TimeUnit.MICROSECONDS);
+              return result;
+            },
+            maxConcurrentReconciles,
+            workQueue);
+    controller.setWorkerCount(1);
+    controller.setWorkerThreadPool(Executors.newSingleThreadScheduledExecutor());
+    controllerThread = new Thread(controller::run, "controller");
+    controllerThread.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    controller.shutdown();
+    controllerThread.join(TimeUnit.SECONDS.toMillis(10));
+    apiServer.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS)
+  public void reconcile() throws InterruptedException {
+    for (int i = 0; i < REQUESTS; i++) {
+      controller.getWorkQueue().add(new Request("namespace", "name-" + nextRequest++));
+    }
+    reconciled.acquire(REQUESTS);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of {@link DefaultWorkQueue} and {@link ConcurrentWorkQueue}, the
+ * benchmark thread adding items which are processed by a number of worker threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkQueueBenchmark {
+
+  private static final int ITEMS = 1000;
+
+  @Param({"DefaultWorkQueue", "ConcurrentWorkQueue"})
+  public String queue;
+
+  @Param({"1", "4", "16", "64"})
+  public int workers;
+
+  private final Semaphore processed = new Semaphore(0);
+  private final List<Thread> workerThreads = new ArrayList<>();
+  private WorkQueue<Long> workQueue;
+  // every item added is distinct, so that none is deduplicated.
+  private long nextItem;
+
+  @Setup
+  public void setup() {
+    workQueue =
+        "DefaultWorkQueue".equals(queue) ? new DefaultWorkQueue<>() : new ConcurrentWorkQueue<>();
+    for (int i = 0; i < workers; i++) {
+      Thread worker = new Thread(this::work, "worker-" + i);
+      worker.start();
+      workerThreads.add(worker);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    workQueue.shutDown();
+    for (Thread worker : workerThreads) {
+      worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEMS)
+  public void addAndProcess() throws InterruptedException {
+    for (int i = 0; i < ITEMS; i++) {
+      workQueue.add(nextItem++);
+    }
+    processed.acquire(ITEMS);
+  }
+
+  private void work() {
+    try {
+      while (true) {
+        Long item = workQueue.get();
+        if (item == null) {
+          // shutting down
+          return;
+        }
+        workQueue.done(item);
+        processed.release();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
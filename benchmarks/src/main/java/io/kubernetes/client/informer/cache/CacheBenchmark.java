@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Cache} and {@link ConcurrentCache}, readers looking pods up by key and by
+ * namespace while the informer thread keeps updating them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+  private static final int PODS = 10000;
+  private static final int NAMESPACES = 100;
+
+  @Param({"Cache", "ConcurrentCache"})
+  public String indexer;
+
+  private Indexer<V1Pod> cache;
+  private List<V1Pod> pods;
+  private String[] keys;
+
+  @Setup
+  public void setup() {
+    cache = "Cache".equals(indexer) ? new Cache<>() : new ConcurrentCache<>();
+    pods = Fixtures.pods(PODS, NAMESPACES, 1);
+    keys = new String[PODS];
+    for (int i = 0; i < PODS; i++) {
+      keys[i] = Caches.metaNamespaceKeyFunc(pods.get(i));
+    }
+    cache.replace(pods, "0");
+  }
+
+  @Benchmark
+  @Group("readWhileWriting")
+  @GroupThreads(3)
+  public V1Pod getByKey() {
+    return cache.getByKey(keys[ThreadLocalRandom.current().nextInt(PODS)]);
+  }
+
+  @Benchmark
+  @Group("readWhileWriting")
+  @GroupThreads(1)
+  public void update() {
+    cache.update(pods.get(ThreadLocalRandom.current().nextInt(PODS)));
+  }
+
+  @Benchmark
+  @Group("listWhileWriting")
+  @GroupThreads(3)
+  public List<V1Pod> byNamespace() {
+    return cache.byIndex(
+        Caches.NAMESPACE_INDEX, "namespace-" + ThreadLocalRandom.current().nextInt(NAMESPACES));
+  }
+
+  @Benchmark
+  @Group("listWhileWriting")
+  @GroupThreads(1)
+  public void updateWhileListing() {
+    cache.update(pods.get(ThreadLocalRandom.current().nextInt(PODS)));
+  }
+}
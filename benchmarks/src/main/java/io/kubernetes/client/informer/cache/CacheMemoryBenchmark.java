@@ -0,0 +1,138 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a {@link Cache} of pods, each decoded separately like they're
+ * listed and watched by an informer, depending on the transform the informer applies to them,
+ * stripping their managed fields and last applied configuration, and interning them by {@link
+ * ObjectInterner} as well. The retained bytes are reported by the "retainedBytes" counter, which
+ * JMH sums over the iterations and forks, hence a single measured iteration.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CacheMemoryBenchmark {
+
+  private static final int PODS = 20000;
+
+  @Param({"none", "stripManagedFields", "intern"})
+  public String transform;
+
+  private JSON json;
+  private Function<V1Pod, V1Pod> transformer;
+  private List<String> podJsons;
+
+  @Setup
+  public void setup() {
+    json = new JSON();
+    transformer = transformer(transform);
+    podJsons = new ArrayList<>(PODS);
+    for (V1Pod pod : Fixtures.pods(PODS, 10, 100)) {
+      podJsons.add(json.serialize(lastApplied(pod)));
+    }
+  }
+
+  @Benchmark
+  public Cache<V1Pod> cache(RetainedHeap retainedHeap) throws InterruptedException {
+    long before = usedHeap();
+    Cache<V1Pod> cache = new Cache<>();
+    for (String podJson : podJsons) {
+      cache.add(transformer.apply(json.deserialize(podJson, V1Pod.class)));
+    }
+    retainedHeap.retainedBytes = usedHeap() - before;
+    return cache;
+  }
+
+  /** RetainedHeap reports the heap retained by the cache built by the benchmark. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  private static Function<V1Pod, V1Pod> transformer(String transform) {
+    switch (transform) {
+      case "none":
+        return Function.identity();
+      case "stripManagedFields":
+        return obj ->
+            Caches.stripLastAppliedConfigurationTransform(Caches.stripManagedFieldsTransform(obj));
+      case "intern":
+        ObjectInterner interner = new ObjectInterner();
+        return obj ->
+            interner.intern(
+                Caches.stripLastAppliedConfigurationTransform(
+                    Caches.stripManagedFieldsTransform(obj)));
+      default:
+        throw new IllegalArgumentException("No such transform: " + transform);
+    }
+  }
+
+  // annotates the pod w/ the configuration kubectl would have applied, like a pod of a
+  // kubectl-applied deployment.
+  private V1Pod lastApplied(V1Pod pod) {
+    V1Pod applied =
+        new V1Pod()
+            .apiVersion("v1")
+            .kind("Pod")
+            .metadata(
+                new V1ObjectMeta()
+                    .name(pod.getMetadata().getName())
+                    .namespace(pod.getMetadata().getNamespace())
+                    .labels(pod.getMetadata().getLabels()))
+            .spec(pod.getSpec());
+    pod.getMetadata()
+        .putAnnotationsItem(Caches.LAST_APPLIED_CONFIGURATION_ANNOTATION, json.serialize(applied));
+    return pod;
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures queueing updates into a {@link DeltaFIFO} and popping them into the indexer, like the
+ * controller of an informer does. The updates of a key pile up before they're popped when
+ * updatesPerKey is above one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeltaFIFOBenchmark {
+
+  private static final int UPDATES = 1000;
+
+  @Param({"1", "10"})
+  public int updatesPerKey;
+
+  private Cache<V1Pod> cache;
+  private DeltaFIFO fifo;
+  private List<V1Pod> pods;
+
+  @Setup
+  public void setup() {
+    cache = new Cache<>();
+    fifo = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, cache);
+    pods = Fixtures.pods(UPDATES / updatesPerKey, 1, 1);
+    cache.replace(pods, "0");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(UPDATES)
+  public void updateAndPop(Blackhole blackhole) {
+    for (int i = 0; i < UPDATES; i++) {
+      fifo.update(pods.get(i % pods.size()));
+    }
+    while (fifo.poll(
+            deltas -> {
+              V1Pod pod = (V1Pod) deltas.peekLast().getRight();
+              cache.update(pod);
+              blackhole.consume(pod);
+            })
+        != null) {}
+  }
+}
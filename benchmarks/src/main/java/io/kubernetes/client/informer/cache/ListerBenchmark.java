@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.labels.EqualityMatcher;
+import io.kubernetes.client.util.labels.LabelSelector;
+import io.kubernetes.client.util.labels.SetMatcher;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures listing the pods matching a label selector, looked up in the label index vs. scanning
+ * the whole cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListerBenchmark {
+
+  @Param({"1000", "10000"})
+  public int pods;
+
+  @Param({"true", "false"})
+  public boolean labelIndex;
+
+  private Lister<V1Pod> lister;
+  private LabelSelector equalitySelector;
+  private LabelSelector setSelector;
+
+  @Setup
+  public void setup() {
+    Cache<V1Pod> cache = new Cache<>();
+    if (labelIndex) {
+      cache.addIndexers(Collections.singletonMap(Caches.LABEL_INDEX, Caches::metaLabelIndexFunc));
+    }
+    cache.replace(Fixtures.pods(pods, 10, 1000), "0");
+    lister = new Lister<>(cache);
+    equalitySelector =
+        LabelSelector.and(
+            EqualityMatcher.equal("app.kubernetes.io/name", "frontend"),
+            EqualityMatcher.equal("app.kubernetes.io/instance", "instance-7"));
+    setSelector =
+        LabelSelector.and(
+            SetMatcher.in("app.kubernetes.io/instance", "instance-7", "instance-8", "instance-9"),
+            SetMatcher.exists("pod-template-hash"));
+  }
+
+  @Benchmark
+  public List<V1Pod> listByEquality() {
+    return lister.list(equalitySelector);
+  }
+
+  @Benchmark
+  public List<V1Pod> listBySet() {
+    return lister.list(setSelector);
+  }
+}
@@ -0,0 +1,187 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.impl;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.cache.Cache;
+import io.kubernetes.client.informer.cache.ConcurrentCache;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the ingestion of watch events by an informer end-to-end: decoding the lines of the
+ * watch, queueing the deltas, updating the indexer and notifying an event handler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedIndexInformerBenchmark {
+
+  private static final int PODS = 1000;
+  private static final int EVENTS = 1000;
+
+  @Param({"Cache", "ConcurrentCache"})
+  public String indexer;
+
+  private final Semaphore handled = new Semaphore(0);
+  private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+  private final List<String> eventLines = new ArrayList<>(PODS);
+  private DefaultSharedIndexInformer<V1Pod, V1PodList> informer;
+  private Thread informerThread;
+
+  @Setup
+  public void setup() throws InterruptedException {
+    JSON json = new JSON();
+    List<V1Pod> pods = Fixtures.pods(PODS, 10, 10);
+    for (V1Pod pod : pods) {
+      eventLines.add("{\"type\":\"MODIFIED\",\"object\":" + json.serialize(pod) + "}");
+    }
+    V1PodList list = new V1PodList().metadata(new V1ListMeta().resourceVersion("0")).items(pods);
+    ListerWatcher<V1Pod, V1PodList> listerWatcher = new QueueListerWatcher(json, list);
+    informer =
+        "Cache".equals(indexer)
+            ? new DefaultSharedIndexInformer<>(V1Pod.class, listerWatcher, 0, new Cache<>())
+            : new DefaultSharedIndexInformer<>(
+                V1Pod.class, listerWatcher, 0, new ConcurrentCache<>());
+    informer.addEventHandler(
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {}
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {
+            handled.release();
+          }
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+        });
+    informerThread = new Thread(informer::run, "informer");
+    informerThread.start();
+    while (!informer.hasSynced()) {
+      Thread.sleep(10);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    informer.stop();
+    informerThread.join(TimeUnit.SECONDS.toMillis(10));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void ingest() throws InterruptedException {
+    for (int i = 0; i < EVENTS; i++) {
+      lines.add(eventLines.get(i % PODS));
+    }
+    handled.acquire(EVENTS);
+  }
+
+  // QueueListerWatcher lists the pods of the fixture, and watches the lines added by the benchmark.
+  private class QueueListerWatcher implements ListerWatcher<V1Pod, V1PodList> {
+    private final JSON json;
+    private final V1PodList list;
+
+    private QueueListerWatcher(JSON json, V1PodList list) {
+      this.json = json;
+      this.list = list;
+    }
+
+    @Override
+    public V1PodList list(CallGeneratorParams params) {
+      return list;
+    }
+
+    @Override
+    public Watchable<V1Pod> watch(CallGeneratorParams params) {
+      return new QueueWatch(json);
+    }
+  }
+
+  private class QueueWatch implements Watchable<V1Pod> {
+    private final Type watchType = new TypeToken<Watch.Response<V1Pod>>() {}.getType();
+    private final JSON json;
+    private volatile boolean closed;
+    private String next;
+
+    private QueueWatch(JSON json) {
+      this.json = json;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        while (next == null && !closed) {
+          next = lines.poll(100, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return next != null;
+    }
+
+    @Override
+    public Watch.Response<V1Pod> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      String line = next;
+      next = null;
+      return json.deserialize(line, watchType);
+    }
+
+    @Override
+    public Iterator<Watch.Response<V1Pod>> iterator() {
+      return this;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1PodList;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormatterBuilder;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the timestamps of the models by {@link JSON}, parsed by the RFC3339 fast path or by the
+ * general ISO formatter it falls back to: decoding a list of the pod fixture, which carries a dozen
+ * timestamps per pod, and parsing a single timestamp into a Joda DateTime or, for the models
+ * generated w/ java.time timestamps, into an OffsetDateTime.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeBenchmark {
+
+  private static final String TIMESTAMP = "\"2020-11-24T09:31:07Z\"";
+
+  @Param({"rfc3339", "iso"})
+  public String parser;
+
+  @Param({"1000"})
+  public int pods;
+
+  private JSON json;
+  private String podList;
+
+  @Setup
+  public void setup() {
+    json = new JSON();
+    if ("iso".equals(parser)) {
+      json.setDateTimeFormat(
+          new DateTimeFormatterBuilder()
+              .append(
+                  ISODateTimeFormat.dateTime().getPrinter(),
+                  ISODateTimeFormat.dateOptionalTimeParser().getParser())
+              .toFormatter());
+    }
+    podList =
+        json.serialize(
+            new V1PodList()
+                .apiVersion("v1")
+                .kind("PodList")
+                .metadata(new V1ListMeta().resourceVersion("1"))
+                .items(Fixtures.pods(pods, 10, 100)));
+  }
+
+  @Benchmark
+  public V1PodList deserializePodList() {
+    return json.deserialize(podList, V1PodList.class);
+  }
+
+  @Benchmark
+  public DateTime deserializeTimestamp() {
+    return json.deserialize(TIMESTAMP, DateTime.class);
+  }
+
+  @Benchmark
+  public OffsetDateTime deserializeOffsetTimestamp() {
+    return json.deserialize(TIMESTAMP, OffsetDateTime.class);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the (de)serialization of the models by {@link JSON}, from a string as well as streamed
+ * from the bytes of a response like {@link ApiClient} does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONBenchmark {
+
+  @Param({Fixtures.POD, Fixtures.DEPLOYMENT, Fixtures.CRD})
+  public String payload;
+
+  private JSON json;
+  private Class<?> type;
+  private String body;
+  private byte[] bytes;
+  private Object object;
+
+  @Setup
+  public void setup() {
+    json = new JSON();
+    switch (payload) {
+      case Fixtures.POD:
+        type = V1Pod.class;
+        break;
+      case Fixtures.DEPLOYMENT:
+        type = V1Deployment.class;
+        break;
+      default:
+        type = V1CustomResourceDefinition.class;
+    }
+    body = Fixtures.load(payload);
+    bytes = body.getBytes(StandardCharsets.UTF_8);
+    object = json.deserialize(body, type);
+  }
+
+  @Benchmark
+  public Object deserializeString() {
+    return json.deserialize(body, type);
+  }
+
+  @Benchmark
+  public Object deserializeStream() {
+    return json.deserialize(
+        new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), type);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return json.serialize(object);
+  }
+}
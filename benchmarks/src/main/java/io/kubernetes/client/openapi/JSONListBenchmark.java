@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1PodList;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the decoding of list responses of the pod fixture by {@link JSON}, either from the body
+ * read into a string first, which {@link ApiClient} does w/o streaming deserialization, or streamed
+ * from the bytes of the body. Run it w/ "-prof gc" to compare the allocations as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class JSONListBenchmark {
+
+  @Param({"1000", "10000", "50000"})
+  public int items;
+
+  private JSON json;
+  private byte[] bytes;
+
+  @Setup
+  public void setup() {
+    json = new JSON();
+    bytes =
+        json.serialize(
+                new V1PodList()
+                    .apiVersion("v1")
+                    .kind("PodList")
+                    .metadata(new V1ListMeta().resourceVersion("1"))
+                    .items(Fixtures.pods(items, 10, 100)))
+            .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public V1PodList deserializeString() {
+    return json.deserialize(new String(bytes, StandardCharsets.UTF_8), V1PodList.class);
+  }
+
+  @Benchmark
+  public V1PodList deserializeStream() {
+    return json.deserialize(
+        new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8),
+        V1PodList.class);
+  }
+}
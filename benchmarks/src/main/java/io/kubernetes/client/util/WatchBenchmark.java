@@ -0,0 +1,67 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures parsing the lines of a watch of pods, an event and an error status. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WatchBenchmark {
+
+  private static final String STATUS_LINE =
+      "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"metadata\":{},"
+          + "\"status\":\"Failure\",\"message\":\"too old resource version: 1 (48213377)\","
+          + "\"reason\":\"Expired\",\"code\":410}}";
+
+  private Watch<V1Pod> watch;
+  private String eventLine;
+
+  @Setup
+  public void setup() {
+    JSON json = new JSON();
+    // the apiserver writes each event on a line of its own
+    String pod = json.serialize(json.deserialize(Fixtures.load(Fixtures.POD), V1Pod.class));
+    eventLine = "{\"type\":\"MODIFIED\",\"object\":" + pod + "}";
+    watch = new Watch<>(json, null, new TypeToken<Watch.Response<V1Pod>>() {}.getType(), null);
+  }
+
+  @Benchmark
+  public Watch.Response<V1Pod> parseEvent() throws IOException {
+    return watch.parseLine(eventLine);
+  }
+
+  @Benchmark
+  public Watch.Response<V1Pod> parseStatus() throws IOException {
+    return watch.parseLine(STATUS_LINE);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the streams of exec, attach and port-forward through {@link
+ * WebSocketStreamHandler}, w/o the network: receiving messages read from a stream by another
+ * thread, and sending the writes to a stream. Each operation is a message of messageSize bytes, the
+ * throughput in bytes is the operations per second times messageSize.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebSocketStreamHandlerBenchmark {
+
+  @Param({"4096", "65536"})
+  public int messageSize;
+
+  private WebSocketStreamHandler handler;
+  private byte[] message;
+  private byte[] data;
+  private OutputStream outputStream;
+  private Thread reader;
+
+  @Setup
+  public void setup() {
+    handler = new WebSocketStreamHandler();
+    handler.open("v4.channel.k8s.io", new DiscardingWebSocket());
+    // a received message starts w/ the stream it belongs to, stdout here
+    message = new byte[messageSize + 1];
+    message[0] = 1;
+    data = new byte[messageSize];
+    outputStream = handler.getOutputStream(0);
+    InputStream stdout = handler.getInputStream(1);
+    reader =
+        new Thread(
+            () -> {
+              byte[] buffer = new byte[64 * 1024];
+              try {
+                while (stdout.read(buffer) != -1) {
+                  // discards the stream
+                }
+              } catch (IOException e) {
+                // closed
+              }
+            },
+            "reader");
+    reader.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    handler.close();
+    reader.join(TimeUnit.SECONDS.toMillis(10));
+  }
+
+  @Benchmark
+  public void receive() {
+    handler.bytesMessage(new ByteArrayInputStream(message));
+  }
+
+  @Benchmark
+  public void send() throws IOException {
+    outputStream.write(data);
+  }
+
+  // DiscardingWebSocket accepts the messages sent right away.
+  private static class DiscardingWebSocket implements WebSocket {
+    @Override
+    public Request request() {
+      return new Request.Builder().url("http://localhost").build();
+    }
+
+    @Override
+    public long queueSize() {
+      return 0;
+    }
+
+    @Override
+    public boolean send(String text) {
+      return true;
+    }
+
+    @Override
+    public boolean send(ByteString bytes) {
+      return true;
+    }
+
+    @Override
+    public boolean close(int code, String reason) {
+      return true;
+    }
+
+    @Override
+    public void cancel() {}
+  }
+}
@@ -0,0 +1,66 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import io.kubernetes.client.benchmark.Fixtures;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures loading and dumping manifests by {@link Yaml}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class YamlBenchmark {
+
+  private String manifests;
+  private V1Deployment deployment;
+  private String deploymentYaml;
+
+  @Setup
+  public void setup() {
+    manifests = Fixtures.load(Fixtures.MANIFESTS);
+    deployment = new JSON().deserialize(Fixtures.load(Fixtures.DEPLOYMENT), V1Deployment.class);
+    deploymentYaml = Yaml.dump(deployment);
+  }
+
+  @Benchmark
+  public List<Object> loadAll() throws IOException {
+    return Yaml.loadAll(manifests);
+  }
+
+  @Benchmark
+  public V1Deployment loadAs() {
+    return Yaml.loadAs(deploymentYaml, V1Deployment.class);
+  }
+
+  @Benchmark
+  public String dump() {
+    return Yaml.dump(deployment);
+  }
+}
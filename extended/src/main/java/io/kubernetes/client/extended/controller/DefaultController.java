@@ -12,6 +12,7 @@ limitations under the License.
 */
 package io.kubernetes.client.extended.controller;
 
+import io.kubernetes.client.extended.controller.reconciler.AsyncReconciler;
 import io.kubernetes.client.extended.controller.reconciler.Reconciler;
 import io.kubernetes.client.extended.controller.reconciler.Request;
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -21,9 +22,11 @@ import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -35,6 +38,10 @@ import org.slf4j.LoggerFactory;
  * <p>- a reconciler implemented by developers specifying what to do in reaction of notifications.
  * see more documentation on the Reconciler interface - a work-queue continuously filled with task
  * items managed by Informer framework - a set of worker threads acutally running reconciler.
+ *
+ * <p>With an {@link AsyncReconciler}, the worker threads only dispatch the requests to the
+ * reconciler and the reconciliations finish asynchronously, at most a bounded number of them are in
+ * flight at once.
  */
 public class DefaultController implements Controller {
   private static final Logger log = LoggerFactory.getLogger(DefaultController.class);
@@ -47,8 +54,17 @@ public class DefaultController implements Controller {
       Counter.build("controller_reconcile_count_total", "Total count of controller reconciliation")
           .labelNames("name", "requeue")
           .register();
+  private static Gauge gaugeInFlightReconciles =
+      Gauge.build(
+              "controller_reconcile_in_flight",
+              "Current number of the controller's asynchronous reconciliations in flight")
+          .labelNames("name")
+          .register();
 
   private final Reconciler reconciler;
+  private final AsyncReconciler asyncReconciler;
+  private final int maxConcurrentReconciles;
+  private final Semaphore inFlightReconciles;
   private final String name;
   private final RateLimitingQueue<Request> workQueue;
   private final Supplier<Boolean>[] readyFuncs;
@@ -92,6 +108,38 @@ public class DefaultController implements Controller {
       Supplier<Boolean>... readyFuncs) {
     this.name = name;
     this.reconciler = reconciler;
+    this.asyncReconciler = null;
+    this.maxConcurrentReconciles = 0;
+    this.inFlightReconciles = null;
+    this.workQueue = workQueue;
+    this.readyFuncs = readyFuncs;
+    this.readyTimeout = Duration.ofSeconds(30);
+    this.readyCheckInternal = Duration.ofSeconds(1);
+  }
+
+  /**
+   * Instantiates a new Default controller running an asynchronous reconciler.
+   *
+   * @param name the name
+   * @param asyncReconciler the asynchronous reconciler
+   * @param maxConcurrentReconciles the maximum number of reconciliations in flight
+   * @param workQueue the work queue
+   * @param readyFuncs the ready funcs
+   */
+  public DefaultController(
+      String name,
+      AsyncReconciler asyncReconciler,
+      int maxConcurrentReconciles,
+      RateLimitingQueue<Request> workQueue,
+      Supplier<Boolean>... readyFuncs) {
+    if (maxConcurrentReconciles <= 0) {
+      throw new IllegalArgumentException("maxConcurrentReconciles must be positive");
+    }
+    this.name = name;
+    this.reconciler = null;
+    this.asyncReconciler = asyncReconciler;
+    this.maxConcurrentReconciles = maxConcurrentReconciles;
+    this.inFlightReconciles = new Semaphore(maxConcurrentReconciles);
     this.workQueue = workQueue;
     this.readyFuncs = readyFuncs;
     this.readyTimeout = Duration.ofSeconds(30);
@@ -200,6 +248,11 @@ public class DefaultController implements Controller {
       }
       log.debug("Controller {} start reconciling {}..", this.name, request);
 
+      if (this.asyncReconciler != null) {
+        reconcileAsync(request);
+        continue;
+      }
+
       // do reconciliation, invoke user customized logic.
       Result result = null;
       try {
@@ -207,32 +260,82 @@ public class DefaultController implements Controller {
       } catch (Throwable t) {
         log.error("Reconciler aborted unexpectedly", t);
         result = new Result(true);
-      } finally {
-        counterControllerReconcile.labels(this.name, Boolean.toString(result.isRequeue())).inc();
       }
+      handleResult(request, result);
+    }
+  }
 
-      try {
-        // checks whether do a re-queue (on failure)
-        if (result.isRequeue()) {
-          if (result.getRequeueAfter() == null) {
-            log.debug("Controller {} reconciling {} failed, requeuing {}..", this.name, request);
-            workQueue.addRateLimited(request);
-          } else {
-            log.debug(
-                "Controller {} reconciling {} failed, requeuing after {}..",
-                this.name,
-                request,
-                result.getRequeueAfter());
-            workQueue.addAfter(request, result.getRequeueAfter());
+  // reconcileAsync dispatches the request to the asynchronous reconciler, the request is handled
+  // as done once the returned future completes.
+  private void reconcileAsync(Request request) {
+    try {
+      // the worker stops taking requests while the reconciliations in flight are at the bound.
+      inFlightReconciles.acquire();
+    } catch (InterruptedException e) {
+      log.error("Controller worker interrupted.. requeuing {}", request, e);
+      workQueue.addRateLimited(request);
+      workQueue.done(request);
+      return;
+    }
+    gaugeInFlightReconciles.labels(name).inc();
+
+    CompletableFuture<Result> future;
+    try {
+      future = this.asyncReconciler.reconcile(request);
+      if (future == null) {
+        throw new IllegalStateException("Reconciler returned no future");
+      }
+    } catch (Throwable t) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(t);
+    }
+    future.whenComplete(
+        (result, t) -> {
+          try {
+            if (t != null) {
+              log.error("Reconciler aborted unexpectedly", t);
+              handleResult(request, new Result(true));
+            } else {
+              handleResult(request, result);
+            }
+          } catch (Throwable e) {
+            // the stage would swallow it otherwise
+            log.error("Controller {} failed handling the result of {}", this.name, request, e);
+          } finally {
+            gaugeInFlightReconciles.labels(name).dec();
+            inFlightReconciles.release();
           }
+        });
+  }
+
+  private void handleResult(Request request, Result result) {
+    try {
+      if (result == null) {
+        log.error(
+            "Controller {} reconciling {} returned no result, requeuing..", this.name, request);
+        result = new Result(true);
+      }
+      counterControllerReconcile.labels(this.name, Boolean.toString(result.isRequeue())).inc();
+      // checks whether do a re-queue (on failure)
+      if (result.isRequeue()) {
+        if (result.getRequeueAfter() == null) {
+          log.debug("Controller {} reconciling {} failed, requeuing {}..", this.name, request);
+          workQueue.addRateLimited(request);
         } else {
-          workQueue.forget(request);
+          log.debug(
+              "Controller {} reconciling {} failed, requeuing after {}..",
+              this.name,
+              request,
+              result.getRequeueAfter());
+          workQueue.addAfter(request, result.getRequeueAfter());
         }
-      } finally {
-        workQueue.done(request);
-        gaugeWorkQueueLength.labels(name).set(workQueue.length());
-        log.debug("Controller {} finished reconciling {}..", this.name, request);
+      } else {
+        workQueue.forget(request);
       }
+    } finally {
+      workQueue.done(request);
+      gaugeWorkQueueLength.labels(name).set(workQueue.length());
+      log.debug("Controller {} finished reconciling {}..", this.name, request);
     }
   }
 
@@ -264,6 +367,14 @@ public class DefaultController implements Controller {
     return reconciler;
   }
 
+  public AsyncReconciler getAsyncReconciler() {
+    return asyncReconciler;
+  }
+
+  public int getMaxConcurrentReconciles() {
+    return maxConcurrentReconciles;
+  }
+
   public Duration getReadyTimeout() {
     return readyTimeout;
   }
@@ -16,4 +16,7 @@ package io.kubernetes.client.extended.controller.builder;
 public class Constants {
   /** The default worker count. */
   public static final int DEFAULT_WORKER_COUNT = 16;
+
+  /** The default maximum number of asynchronous reconciliations in flight. */
+  public static final int DEFAULT_MAX_CONCURRENT_RECONCILES = 256;
 }
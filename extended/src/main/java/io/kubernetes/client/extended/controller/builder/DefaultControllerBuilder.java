@@ -17,11 +17,13 @@ import io.kubernetes.client.extended.controller.Controller;
 import io.kubernetes.client.extended.controller.ControllerWatch;
 import io.kubernetes.client.extended.controller.Controllers;
 import io.kubernetes.client.extended.controller.DefaultController;
+import io.kubernetes.client.extended.controller.reconciler.AsyncReconciler;
 import io.kubernetes.client.extended.controller.reconciler.Reconciler;
 import io.kubernetes.client.extended.controller.reconciler.Request;
 import io.kubernetes.client.extended.workqueue.DefaultRateLimitingQueue;
 import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
 import io.kubernetes.client.extended.workqueue.WorkQueue;
+import io.kubernetes.client.extended.workqueue.ratelimiter.DefaultControllerRateLimiter;
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import java.time.Duration;
@@ -40,13 +42,17 @@ public class DefaultControllerBuilder {
   private Duration readyTimeout;
 
   private SharedInformerFactory informerFactory;
+  private List<Function<WorkQueue<Request>, ? extends ControllerWatch<?>>> controllerWatchGetters;
   private List<Supplier<Boolean>> readyFuncs;
   private Reconciler reconciler;
+  private AsyncReconciler asyncReconciler;
+  private int maxConcurrentReconciles;
 
   DefaultControllerBuilder() {
     this.workerCount = Constants.DEFAULT_WORKER_COUNT;
+    this.maxConcurrentReconciles = Constants.DEFAULT_MAX_CONCURRENT_RECONCILES;
     this.controllerName = "default-controller";
-    this.workQueue = new DefaultRateLimitingQueue<>(Executors.newSingleThreadExecutor());
+    this.controllerWatchGetters = new ArrayList<>();
     this.readyFuncs = new ArrayList<>();
   }
 
@@ -62,7 +68,9 @@ public class DefaultControllerBuilder {
   }
 
   /**
-   * Starts building watches over resource.
+   * Starts building watches over resource. The watch is built and its event handler added to the
+   * informer upon {@link #build}, so that it enqueues into the work-queue the controller is built
+   * with, however the builder calls are ordered.
    *
    * @param <ApiType> the type parameter for the singular response
    * @param controllerWatchGetter the controller watch getter
@@ -70,7 +78,11 @@ public class DefaultControllerBuilder {
    */
   public <ApiType extends KubernetesObject> DefaultControllerBuilder watch(
       Function<WorkQueue<Request>, ControllerWatch<ApiType>> controllerWatchGetter) {
-    ControllerWatch<ApiType> watch = controllerWatchGetter.apply(this.workQueue);
+    this.controllerWatchGetters.add(controllerWatchGetter);
+    return this;
+  }
+
+  private <ApiType extends KubernetesObject> void addWatch(ControllerWatch<ApiType> watch) {
     Class<ApiType> apiTypeClass = watch.getResourceClass();
     SharedIndexInformer<ApiType> informer =
         informerFactory.getExistingSharedIndexInformer(apiTypeClass);
@@ -83,7 +95,6 @@ public class DefaultControllerBuilder {
     }
     informer.addEventHandlerWithResyncPeriod(
         watch.getResourceEventHandler(), watch.getResyncPeriod().toMillis());
-    return this;
   }
 
   /**
@@ -98,7 +109,8 @@ public class DefaultControllerBuilder {
   }
 
   /**
-   * Overrides workQueue for the controller.
+   * Overrides workQueue for the controller. By default, the controller gets a {@link
+   * DefaultRateLimitingQueue} named after the controller.
    *
    * @param workQueue the work queue
    * @return the controller builder
@@ -146,6 +158,29 @@ public class DefaultControllerBuilder {
     return this;
   }
 
+  /**
+   * Sets an asynchronous reconciler of the controller, the worker threads then only dispatch the
+   * requests to the reconciler.
+   *
+   * @param asyncReconciler the asynchronous reconciler
+   * @return the controller builder
+   */
+  public DefaultControllerBuilder withAsyncReconciler(AsyncReconciler asyncReconciler) {
+    this.asyncReconciler = asyncReconciler;
+    return this;
+  }
+
+  /**
+   * Overrides the maximum number of asynchronous reconciliations in flight.
+   *
+   * @param maxConcurrentReconciles the max concurrent reconciles
+   * @return the controller builder
+   */
+  public DefaultControllerBuilder withMaxConcurrentReconciles(int maxConcurrentReconciles) {
+    this.maxConcurrentReconciles = maxConcurrentReconciles;
+    return this;
+  }
+
   /**
    * Build the controller.
    *
@@ -153,16 +188,43 @@ public class DefaultControllerBuilder {
    * @throws IllegalStateException the illegal state exception
    */
   public Controller build() throws IllegalStateException {
-    if (this.reconciler == null) {
+    if (this.reconciler == null && this.asyncReconciler == null) {
       throw new IllegalStateException("Missing reconciler when building controller.");
     }
+    if (this.reconciler != null && this.asyncReconciler != null) {
+      throw new IllegalStateException(
+          "Both reconciler and async reconciler are set when building controller.");
+    }
+
+    if (this.workQueue == null) {
+      this.workQueue =
+          new DefaultRateLimitingQueue<>(
+              this.controllerName,
+              Executors.newSingleThreadExecutor(),
+              new DefaultControllerRateLimiter<>());
+    }
+    for (Function<WorkQueue<Request>, ? extends ControllerWatch<?>> controllerWatchGetter :
+        this.controllerWatchGetters) {
+      addWatch(controllerWatchGetter.apply(this.workQueue));
+    }
 
-    DefaultController controller =
-        new DefaultController(
-            this.controllerName,
-            this.reconciler,
-            this.workQueue,
-            this.readyFuncs.stream().toArray(Supplier[]::new));
+    DefaultController controller;
+    if (this.asyncReconciler != null) {
+      controller =
+          new DefaultController(
+              this.controllerName,
+              this.asyncReconciler,
+              this.maxConcurrentReconciles,
+              this.workQueue,
+              this.readyFuncs.stream().toArray(Supplier[]::new));
+    } else {
+      controller =
+          new DefaultController(
+              this.controllerName,
+              this.reconciler,
+              this.workQueue,
+              this.readyFuncs.stream().toArray(Supplier[]::new));
+    }
 
     if (this.readyTimeout != null) {
       controller.setReadyTimeout(this.readyTimeout);
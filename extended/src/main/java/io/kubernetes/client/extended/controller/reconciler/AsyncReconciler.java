@@ -0,0 +1,35 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.controller.reconciler;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncReconciler is the non-blocking counterpart of {@link Reconciler}. Instead of blocking the
+ * worker thread until the reconciliation finishes, it returns a future completing w/ the result,
+ * e.g. chained on the async api calls, so that the controller can keep many reconciliations in
+ * flight w/ a few threads.
+ *
+ * <p>A future completing exceptionally is requeued w/ rate limiting, the same as a {@link Result}
+ * requesting requeue.
+ */
+public interface AsyncReconciler {
+
+  /**
+   * Reconcile asynchronously.
+   *
+   * @param request the reconcile request, triggered by watch events
+   * @return the future of the result
+   */
+  CompletableFuture<Result> reconcile(Request request);
+}
@@ -12,26 +12,71 @@ limitations under the License.
 */
 package io.kubernetes.client.extended.kubectl;
 
-import static io.kubernetes.client.extended.kubectl.KubectlExec.copyAsync;
-
 import io.kubernetes.client.PortForward;
 import io.kubernetes.client.extended.kubectl.exception.KubectlException;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.WebSocketStreamHandler;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Forwards local ports to the ports of a pod.
+ *
+ * <p>The local connections are served by a single selector thread, the thread calling {@link
+ * #execute()}, and any number of connections can be forwarded concurrently. Each connection is
+ * forwarded over a web socket of its own, as the streaming protocol carries a single stream per
+ * port, which is opened by another thread so that slow handshakes don't hold up the established
+ * connections. Note that OkHttp reads each web socket on a thread of the dispatcher of the client,
+ * so the concurrent connections are also bounded by its maxRequestsPerHost.
+ */
 public class KubectlPortForward
     extends Kubectl.ResourceAndContainerBuilder<V1Pod, KubectlPortForward>
     implements Kubectl.Executable<Boolean> {
+  private static final Logger log = LoggerFactory.getLogger(KubectlPortForward.class);
+
+  // the size of the buffer reading from a local connection.
+  private static final int BUFFER_SIZE = 32 * 1024;
+  // the bytes received from the pod a connection buffers before holding back the web socket.
+  private static final int MAX_RECEIVED_BYTES = 256 * 1024;
+  // the bytes queued to be sent to the pod before a connection stops reading its local connection.
+  private static final int MAX_SENT_BYTES = 256 * 1024;
+  // how often the connections holding back their local connections check the queue drained.
+  private static final long SENT_DRAIN_CHECK_MILLIS = 10;
+
   List<Integer> localPorts;
   List<Integer> targetPorts;
-  boolean running;
+  volatile boolean running;
+
+  private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+  private volatile Selector selector;
+  // the connections not reading their local connections until their web sockets drain.
+  private final Set<Connection> readsPaused = ConcurrentHashMap.newKeySet();
 
   KubectlPortForward() {
     super(V1Pod.class);
@@ -58,58 +103,328 @@ public class KubectlPortForward
     try {
       executeInternal();
       return true;
-    } catch (ApiException | IOException | InterruptedException ex) {
+    } catch (IOException ex) {
       throw new KubectlException(ex);
     }
   }
 
   public void shutdown() {
     running = false;
+    Selector selector = this.selector;
+    if (selector != null) {
+      selector.wakeup();
+    }
   }
 
-  private void executeInternal()
-      throws ApiException, KubectlException, IOException, InterruptedException {
+  private void executeInternal() throws IOException {
     PortForward pf = new PortForward(apiClient);
-    PortForward.PortForwardResult result = pf.forward(namespace, name, targetPorts);
-    if (result == null) {
-      throw new KubectlException("PortForward failed!");
-    }
-    // TODO: Convert this to NIO to reduce the number of threads?
-    List<Thread> threads = new ArrayList<>();
-    for (int i = 0; i < localPorts.size(); i++) {
-      int targetPort = targetPorts.get(i);
-      threads.add(
-          portForward(
-              new ServerSocket(localPorts.get(i)),
-              result.getInputStream(targetPort),
-              result.getOutboundStream(targetPort)));
-    }
-    for (Thread t : threads) {
-      t.join();
+    List<ServerSocketChannel> servers = new ArrayList<>();
+    ExecutorService connector = Executors.newSingleThreadExecutor();
+    try (Selector selector = Selector.open()) {
+      this.selector = selector;
+      try {
+        for (int i = 0; i < localPorts.size(); i++) {
+          ServerSocketChannel server = ServerSocketChannel.open();
+          servers.add(server);
+          server.bind(new InetSocketAddress(localPorts.get(i)));
+          server.configureBlocking(false);
+          server.register(selector, SelectionKey.OP_ACCEPT, targetPorts.get(i));
+        }
+        while (running) {
+          // OkHttp doesn't tell when a web socket drains, so it's polled while reads are paused
+          selector.select(readsPaused.isEmpty() ? 0 : SENT_DRAIN_CHECK_MILLIS);
+          Runnable task;
+          while ((task = selectorTasks.poll()) != null) {
+            task.run();
+          }
+          resumeDrainedReads();
+          Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+          while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+              continue;
+            }
+            if (key.isAcceptable()) {
+              accept(pf, connector, key);
+            } else {
+              ((Connection) key.attachment()).handle(key);
+            }
+          }
+        }
+      } finally {
+        this.selector = null;
+        connector.shutdownNow();
+        for (SelectionKey key : selector.keys()) {
+          if (key.attachment() instanceof Connection) {
+            ((Connection) key.attachment()).release();
+          }
+        }
+        for (ServerSocketChannel server : servers) {
+          server.close();
+        }
+      }
+    }
+  }
+
+  private void accept(PortForward pf, ExecutorService connector, SelectionKey key)
+      throws IOException {
+    SocketChannel channel = ((ServerSocketChannel) key.channel()).accept();
+    if (channel == null) {
+      return;
+    }
+    channel.configureBlocking(false);
+    int targetPort = (Integer) key.attachment();
+    Connection connection = new Connection(channel);
+    // opening the web socket blocks until the handshake completes, so it's off the selector thread
+    connector.execute(() -> connection.connect(pf, targetPort));
+  }
+
+  private void resumeDrainedReads() {
+    Iterator<Connection> connections = readsPaused.iterator();
+    while (connections.hasNext()) {
+      Connection connection = connections.next();
+      if (connection.resumeReadIfDrained()) {
+        connections.remove();
+      }
     }
   }
 
-  private Thread portForward(ServerSocket server, InputStream in, OutputStream out) {
-    Thread t =
-        new Thread(
-            new Runnable() {
-              @Override
-              public void run() {
-                while (running) {
-                  try {
-                    Socket sock = server.accept();
-                    Thread t1 = copyAsync(sock.getInputStream(), out);
-                    Thread t2 = copyAsync(in, sock.getOutputStream());
-
-                    t1.join();
-                    t2.join();
-                  } catch (InterruptedException | IOException ex) {
-                    ex.printStackTrace();
-                  }
-                }
-              }
-            });
-    t.start();
-    return t;
+  private boolean runOnSelector(Runnable task) {
+    Selector selector = this.selector;
+    if (selector == null) {
+      return false;
+    }
+    selectorTasks.add(task);
+    selector.wakeup();
+    return true;
+  }
+
+  // Connection forwards a local connection over a web socket of its own, the data received from
+  // the pod is queued by the web socket thread and written to the local connection by the selector
+  // thread once it's writable. The data read from the local connection is sent w/o blocking the
+  // selector thread, which stops reading the local connection while the web socket's queue is full.
+  private class Connection extends WebSocketStreamHandler {
+    private final SocketChannel channel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    // the following fields are guarded by the queue of the received data.
+    private final Deque<ByteBuffer> received = new ArrayDeque<>();
+    private int receivedBytes;
+    private boolean remoteClosed;
+    private boolean released;
+
+    // the first two bytes of the data stream are the port, which is read by PortForwardResult.
+    private int portPrefixRemaining = 2;
+    private int errorPortPrefixRemaining = 2;
+
+    private volatile OutputStream outbound;
+    // accessed by the selector thread only.
+    private SelectionKey key;
+
+    private Connection(SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    private void connect(PortForward pf, int targetPort) {
+      try {
+        PortForward.PortForwardResult result =
+            pf.forward(namespace, name, Collections.singletonList(targetPort), this);
+        outbound = result.getOutboundStream(targetPort);
+        if (outbound == null) {
+          throw new IOException("Port " + targetPort + " is not forwarded");
+        }
+      } catch (ApiException | IOException ex) {
+        log.error("Failed to forward to port {} of pod {}/{}", targetPort, namespace, name, ex);
+        if (!runOnSelector(this::release)) {
+          release();
+        }
+        return;
+      }
+      if (!runOnSelector(this::register)) {
+        // the forwarding has been shut down meanwhile
+        release();
+      }
+    }
+
+    private void register() {
+      try {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+      } catch (IOException ex) {
+        release();
+        return;
+      }
+      // flushes the data received before the registration
+      flush();
+    }
+
+    @Override
+    protected void handleMessage(int stream, InputStream inStream) throws IOException {
+      if (stream != 0 && stream != 1) {
+        super.handleMessage(stream, inStream);
+        return;
+      }
+      try {
+        if (stream == 0 && portPrefixRemaining > 0) {
+          byte[] prefix = new byte[Math.min(portPrefixRemaining, inStream.available())];
+          int n = inStream.read(prefix);
+          portPrefixRemaining -= Math.max(n, 0);
+          super.handleMessage(stream, new ByteArrayInputStream(prefix));
+        } else if (stream == 1 && errorPortPrefixRemaining > 0) {
+          errorPortPrefixRemaining -= inStream.skip(errorPortPrefixRemaining);
+        }
+        // the messages are delivered in memory, available() being the whole remaining message
+        byte[] data = new byte[inStream.available()];
+        int n = inStream.read(data);
+        if (n <= 0) {
+          return;
+        }
+        if (stream == 1) {
+          log.error(
+              "Error forwarding to pod {}/{}: {}",
+              namespace,
+              name,
+              new String(data, 0, n, StandardCharsets.UTF_8));
+          close();
+          return;
+        }
+        receive(ByteBuffer.wrap(data, 0, n));
+      } finally {
+        inStream.close();
+      }
+    }
+
+    private void receive(ByteBuffer data) throws InterruptedIOException {
+      synchronized (received) {
+        // holds back the web socket while the local connection doesn't keep up
+        while (receivedBytes >= MAX_RECEIVED_BYTES && !released) {
+          try {
+            received.wait();
+          } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+          }
+        }
+        if (released) {
+          return;
+        }
+        received.add(data);
+        receivedBytes += data.remaining();
+      }
+      scheduleFlush();
+    }
+
+    @Override
+    public void close() {
+      // called once the web socket is closed, by either side
+      super.close();
+      synchronized (received) {
+        remoteClosed = true;
+      }
+      scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+      if (flushScheduled.compareAndSet(false, true)) {
+        runOnSelector(this::flush);
+      }
+    }
+
+    private void handle(SelectionKey key) {
+      if (key.isReadable()) {
+        read();
+      }
+      if (key.isValid() && key.isWritable()) {
+        flush();
+      }
+    }
+
+    private void read() {
+      try {
+        readBuffer.clear();
+        int n = channel.read(readBuffer);
+        if (n < 0) {
+          release();
+        } else if (n > 0) {
+          outbound.write(readBuffer.array(), 0, n);
+          if (queueSize() >= MAX_SENT_BYTES) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            readsPaused.add(this);
+          }
+        }
+      } catch (IOException ex) {
+        log.debug("Closing the connection forwarded to pod {}/{}", namespace, name, ex);
+        release();
+      }
+    }
+
+    // reads the local connection again once the web socket's queue drained, returns true unless
+    // it's still paused.
+    private boolean resumeReadIfDrained() {
+      if (!key.isValid()) {
+        return true;
+      }
+      if (queueSize() >= MAX_SENT_BYTES) {
+        return false;
+      }
+      key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+      return true;
+    }
+
+    private void flush() {
+      flushScheduled.set(false);
+      if (key == null || !key.isValid()) {
+        return;
+      }
+      boolean done;
+      synchronized (received) {
+        try {
+          while (!received.isEmpty()) {
+            ByteBuffer head = received.peek();
+            receivedBytes -= channel.write(head);
+            if (head.hasRemaining()) {
+              break;
+            }
+            received.poll();
+          }
+        } catch (IOException ex) {
+          log.debug("Closing the connection forwarded to pod {}/{}", namespace, name, ex);
+          released = true;
+        }
+        received.notifyAll();
+        boolean drained = received.isEmpty();
+        done = released || (drained && remoteClosed);
+        if (!released) {
+          // waits for the local connection to be writable again if it's not drained
+          key.interestOps(
+              drained
+                  ? key.interestOps() & ~SelectionKey.OP_WRITE
+                  : key.interestOps() | SelectionKey.OP_WRITE);
+        }
+      }
+      if (done) {
+        release();
+      }
+    }
+
+    // releases the local connection and the web socket, called by the selector thread only.
+    private void release() {
+      synchronized (received) {
+        released = true;
+        received.clear();
+        receivedBytes = 0;
+        received.notifyAll();
+      }
+      if (key != null) {
+        key.cancel();
+      }
+      readsPaused.remove(this);
+      try {
+        channel.close();
+      } catch (IOException ex) {
+        log.debug("Error closing the connection forwarded to pod {}/{}", namespace, name, ex);
+      }
+      super.close();
+    }
   }
 }
@@ -0,0 +1,136 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link WorkQueue} implementation scaling across many producers and workers. It keeps the
+ * semantics of {@link DefaultWorkQueue}, i.e. an item is queued at most once and an item added
+ * while being processed is queued again only when it's done, w/o a queue-wide lock:
+ *
+ * <p>- the state of each item lives in a concurrent map, so that the state transitions of different
+ * items only contend when their keys hash to the same bin.
+ *
+ * <p>- the items ready for processing are kept in a lock-free FIFO queue.
+ *
+ * <p>- the workers block on a semaphore counting the ready items, so that each added item wakes
+ * exactly one waiting worker.
+ */
+public class ConcurrentWorkQueue<T> implements WorkQueue<T> {
+
+  private enum State {
+    // in the queue, waiting to be processed
+    QUEUED,
+    // being processed
+    PROCESSING,
+    // being processed, and added again in the meanwhile
+    PROCESSING_DIRTY,
+  }
+
+  private final ConcurrentMap<T, State> states = new ConcurrentHashMap<>();
+
+  // queue defines the order in which we will work on items. Every element of queue is in the
+  // QUEUED state.
+  private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+  // a permit per item in the queue, plus one once shutting down which the workers pass along.
+  private final Semaphore ready = new Semaphore(0);
+
+  private final LongAdder length = new LongAdder();
+
+  private volatile boolean shuttingDown = false;
+
+  @Override
+  public void add(T item) {
+    if (shuttingDown) {
+      return;
+    }
+    for (; ; ) {
+      State state = states.putIfAbsent(item, State.QUEUED);
+      if (state == null) {
+        enqueue(item);
+        return;
+      }
+      if (state != State.PROCESSING) {
+        // already dirty
+        return;
+      }
+      if (states.replace(item, State.PROCESSING, State.PROCESSING_DIRTY)) {
+        return;
+      }
+      // the item was done in the meanwhile, retry
+    }
+  }
+
+  @Override
+  public int length() {
+    return length.intValue();
+  }
+
+  @Override
+  public T get() throws InterruptedException {
+    ready.acquire();
+    T item = queue.poll();
+    if (item == null) {
+      // We must be shutting down, wakes up the next waiting worker.
+      ready.release();
+      return null;
+    }
+    length.decrement();
+    states.put(item, State.PROCESSING);
+    return item;
+  }
+
+  @Override
+  public void done(T item) {
+    for (; ; ) {
+      if (states.remove(item, State.PROCESSING)) {
+        return;
+      }
+      if (states.replace(item, State.PROCESSING_DIRTY, State.QUEUED)) {
+        enqueue(item);
+        return;
+      }
+      State state = states.get(item);
+      if (state == null || state == State.QUEUED) {
+        // not being processed
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void shutDown() {
+    if (!shuttingDown) {
+      shuttingDown = true;
+      ready.release();
+    }
+  }
+
+  @Override
+  public boolean isShuttingDown() {
+    return shuttingDown;
+  }
+
+  private void enqueue(T item) {
+    queue.offer(item);
+    length.increment();
+    ready.release();
+  }
+}
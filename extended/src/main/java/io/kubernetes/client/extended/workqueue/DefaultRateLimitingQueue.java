@@ -14,6 +14,7 @@ package io.kubernetes.client.extended.workqueue;
 
 import io.kubernetes.client.extended.workqueue.ratelimiter.DefaultControllerRateLimiter;
 import io.kubernetes.client.extended.workqueue.ratelimiter.RateLimiter;
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -21,6 +22,7 @@ import java.util.concurrent.Executors;
 public class DefaultRateLimitingQueue<T> extends DefaultDelayingQueue<T>
     implements RateLimitingQueue<T> {
 
+  private final String name;
   private RateLimiter<T> rateLimiter;
 
   public DefaultRateLimitingQueue() {
@@ -32,7 +34,20 @@ public class DefaultRateLimitingQueue<T> extends DefaultDelayingQueue<T>
   }
 
   public DefaultRateLimitingQueue(ExecutorService waitingWorker, RateLimiter<T> rateLimiter) {
+    this("", waitingWorker, rateLimiter);
+  }
+
+  /**
+   * Instantiates a new Default rate limiting queue.
+   *
+   * @param name the name of the queue, labelling the metrics
+   * @param waitingWorker the waiting worker
+   * @param rateLimiter the rate limiter
+   */
+  public DefaultRateLimitingQueue(
+      String name, ExecutorService waitingWorker, RateLimiter<T> rateLimiter) {
     super(waitingWorker);
+    this.name = name;
     this.rateLimiter = rateLimiter;
   }
 
@@ -48,6 +63,8 @@ public class DefaultRateLimitingQueue<T> extends DefaultDelayingQueue<T>
 
   @Override
   public void addRateLimited(T item) {
-    super.addAfter(item, rateLimiter.when(item));
+    Duration delay = rateLimiter.when(item);
+    RateLimitingQueueMetrics.observeRequeue(name, delay);
+    super.addAfter(item, delay);
   }
 }
@@ -0,0 +1,42 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import java.time.Duration;
+
+/** The metrics of the rate limited requeues, labelled by the name of the queue. */
+final class RateLimitingQueueMetrics {
+
+  private static Counter counterRateLimitedRequeues =
+      Counter.build(
+              "workqueue_rate_limited_requeues_total", "Total count of the rate limited requeues")
+          .labelNames("name")
+          .register();
+
+  private static Histogram histogramRateLimitedDelay =
+      Histogram.build(
+              "workqueue_rate_limited_delay_seconds",
+              "The delays computed by the rate limiter for the requeues")
+          .labelNames("name")
+          .exponentialBuckets(0.005, 4, 10)
+          .register();
+
+  private RateLimitingQueueMetrics() {}
+
+  static void observeRequeue(String name, Duration delay) {
+    counterRateLimitedRequeues.labels(name).inc();
+    histogramRateLimitedDelay.labels(name).observe(delay.toNanos() / 1e9);
+  }
+}
@@ -0,0 +1,318 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import io.prometheus.client.Gauge;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A delaying queue implementation scheduling the delayed items on a hierarchical timing wheel, an
+ * alternative to {@link DefaultDelayingQueue} for queues requeuing a large number of items, e.g.
+ * after an apiserver outage.
+ *
+ * <p>The wheel has {@link #LEVELS} levels of {@link #SLOTS} slots, a slot of the lowest level spans
+ * one tick and a slot of each higher level spans a full revolution of the level below. An item is
+ * linked into the slot of the lowest level covering its delay, so adding, rescheduling and firing
+ * an item are O(1), and the items of a higher level slot cascade down to the lower levels when the
+ * wheel reaches it. Delays are rounded up to the tick.
+ *
+ * <p>Unlike {@link DefaultDelayingQueue}, items are added to the wheel directly by the callers of
+ * {@link #addAfter}, so that no item is dropped however many are pending.
+ */
+public class TimingWheelDelayingQueue<T> extends ConcurrentWorkQueue<T>
+    implements DelayingQueue<T> {
+
+  private static Gauge gaugeDelayedItems =
+      Gauge.build(
+              "workqueue_delayed_items", "Current number of the items waiting to be added later")
+          .labelNames("name")
+          .register();
+
+  public static final Duration DEFAULT_TICK = Duration.ofMillis(10);
+
+  static final int SLOT_BITS = 6;
+  static final int SLOTS = 1 << SLOT_BITS;
+  static final int LEVELS = 4;
+
+  private final String name;
+  private final long tickNanos;
+  private final long startNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition pendingChanged = lock.newCondition();
+
+  // the following fields are guarded by the lock.
+  private final Entry<T>[][] wheel;
+  private final Map<T, Entry<T>> pending = new HashMap<>();
+  // the last tick the wheel has advanced to.
+  private long currentTick;
+  // the tick the waiting loop sleeps until, Long.MAX_VALUE while nothing is pending.
+  private long wakeTick = Long.MAX_VALUE;
+
+  public TimingWheelDelayingQueue() {
+    this(Executors.newSingleThreadExecutor());
+  }
+
+  public TimingWheelDelayingQueue(ExecutorService waitingWorker) {
+    this("", waitingWorker, DEFAULT_TICK);
+  }
+
+  /**
+   * Instantiates a new timing wheel delaying queue.
+   *
+   * @param name the name of the queue, labelling the metrics
+   * @param waitingWorker the executor running the loop advancing the wheel
+   * @param tick the resolution of the delays
+   */
+  @SuppressWarnings("unchecked")
+  public TimingWheelDelayingQueue(String name, ExecutorService waitingWorker, Duration tick) {
+    if (tick.isNegative() || tick.isZero()) {
+      throw new IllegalArgumentException("tick must be positive");
+    }
+    this.name = name;
+    this.tickNanos = tick.toNanos();
+    this.startNanos = System.nanoTime();
+    this.wheel = new Entry[LEVELS][SLOTS];
+    waitingWorker.submit(this::waitingLoop);
+  }
+
+  @Override
+  public void addAfter(T item, Duration duration) {
+    // don't add if we're already shutting down
+    if (super.isShuttingDown()) {
+      return;
+    }
+    // immediately add things w/o delay
+    if (duration.isZero() || duration.isNegative()) {
+      super.add(item);
+      return;
+    }
+    // ticks are counted from the start, rounding the deadline up
+    long deadlineTick =
+        (System.nanoTime() - startNanos + duration.toNanos() + tickNanos - 1) / tickNanos;
+    lock.lock();
+    try {
+      Entry<T> existing = pending.get(item);
+      if (existing != null) {
+        // keeps the earlier of the deadlines
+        if (deadlineTick < existing.deadlineTick) {
+          unlink(existing);
+          existing.deadlineTick = deadlineTick;
+          link(existing);
+          wakeUpBeforeLocked(deadlineTick);
+        }
+        return;
+      }
+      Entry<T> entry = new Entry<>(item, deadlineTick);
+      link(entry);
+      pending.put(item, entry);
+      gaugeDelayedItems.labels(name).inc();
+      wakeUpBeforeLocked(deadlineTick);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void shutDown() {
+    super.shutDown();
+    lock.lock();
+    try {
+      pendingChanged.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of the items waiting to be added later.
+   *
+   * @return the number of delayed items
+   */
+  public int delayedLength() {
+    lock.lock();
+    try {
+      return pending.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void waitingLoop() {
+    List<T> ready = new ArrayList<>();
+    try {
+      while (!super.isShuttingDown()) {
+        lock.lock();
+        try {
+          long nowTick = (System.nanoTime() - startNanos) / tickNanos;
+          while (currentTick < nowTick) {
+            advanceLocked(ready);
+          }
+          // checks the shutdown again while holding the lock, so that the signal of shutDown isn't
+          // missed.
+          if (ready.isEmpty() && !super.isShuttingDown()) {
+            if (pending.isEmpty()) {
+              wakeTick = Long.MAX_VALUE;
+              pendingChanged.await();
+            } else {
+              // sleeps until the next tick firing or cascading a slot, rather than every tick
+              wakeTick = nextEventTickLocked();
+              pendingChanged.awaitNanos(startNanos + wakeTick * tickNanos - System.nanoTime());
+            }
+          }
+        } finally {
+          lock.unlock();
+        }
+        // fires the ready items to the work-queue outside the lock.
+        for (T item : ready) {
+          super.add(item);
+        }
+        ready.clear();
+      }
+    } catch (InterruptedException e) {
+      // empty block
+    }
+  }
+
+  // wakes the waiting loop up if it sleeps past the deadline.
+  private void wakeUpBeforeLocked(long deadlineTick) {
+    if (deadlineTick < wakeTick) {
+      wakeTick = deadlineTick;
+      pendingChanged.signal();
+    }
+  }
+
+  // returns the next tick at which advancing the wheel fires a slot of the lowest level or
+  // cascades a slot of a higher level, scanning a revolution of each level.
+  private long nextEventTickLocked() {
+    long next = Long.MAX_VALUE;
+    for (int level = 0; level < LEVELS; level++) {
+      long span = 1L << (SLOT_BITS * level);
+      long tick = (currentTick / span + 1) * span;
+      for (int i = 0; i < SLOTS && tick < next; i++, tick += span) {
+        if (wheel[level][slotOf(tick, level)] != null) {
+          next = tick;
+          break;
+        }
+      }
+    }
+    return next;
+  }
+
+  // advances the wheel by a tick, collecting the items getting ready.
+  private void advanceLocked(List<T> ready) {
+    currentTick++;
+    // cascades the higher level slots starting a revolution of the level below
+    for (int level = LEVELS - 1; level > 0; level--) {
+      if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+        Entry<T> entry = detachSlot(level, slotOf(currentTick, level));
+        while (entry != null) {
+          Entry<T> next = entry.next;
+          entry.next = null;
+          entry.prev = null;
+          if (entry.deadlineTick <= currentTick) {
+            fire(entry, ready);
+          } else {
+            link(entry);
+          }
+          entry = next;
+        }
+      }
+    }
+    Entry<T> entry = detachSlot(0, slotOf(currentTick, 0));
+    while (entry != null) {
+      Entry<T> next = entry.next;
+      entry.next = null;
+      entry.prev = null;
+      fire(entry, ready);
+      entry = next;
+    }
+  }
+
+  private void fire(Entry<T> entry, List<T> ready) {
+    pending.remove(entry.data);
+    gaugeDelayedItems.labels(name).dec();
+    ready.add(entry.data);
+  }
+
+  // links the entry into the slot of the lowest level covering its delay, an entry already due
+  // goes to the slot of the next tick.
+  private void link(Entry<T> entry) {
+    long delta = Math.max(entry.deadlineTick - currentTick, 1);
+    int level = 0;
+    while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+      level++;
+    }
+    long tick = currentTick + delta;
+    long maxDelta = 1L << (SLOT_BITS * LEVELS);
+    if (delta >= maxDelta) {
+      // beyond the wheel, parked in the furthest slot and re-linked when cascaded
+      tick = currentTick + maxDelta - 1;
+    }
+    int slot = slotOf(tick, level);
+    entry.level = level;
+    entry.slot = slot;
+    entry.next = wheel[level][slot];
+    if (entry.next != null) {
+      entry.next.prev = entry;
+    }
+    wheel[level][slot] = entry;
+  }
+
+  private void unlink(Entry<T> entry) {
+    if (entry.prev != null) {
+      entry.prev.next = entry.next;
+    } else {
+      wheel[entry.level][entry.slot] = entry.next;
+    }
+    if (entry.next != null) {
+      entry.next.prev = entry.prev;
+    }
+    entry.next = null;
+    entry.prev = null;
+  }
+
+  private Entry<T> detachSlot(int level, int slot) {
+    Entry<T> head = wheel[level][slot];
+    wheel[level][slot] = null;
+    return head;
+  }
+
+  private static int slotOf(long tick, int level) {
+    return (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+  }
+
+  // Entry holds the data to add, the tick it should be added at and its position in the wheel.
+  private static class Entry<T> {
+
+    private Entry(T data, long deadlineTick) {
+      this.data = data;
+      this.deadlineTick = deadlineTick;
+    }
+
+    private final T data;
+    private long deadlineTick;
+    private int level;
+    private int slot;
+    private Entry<T> prev;
+    private Entry<T> next;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import io.kubernetes.client.extended.workqueue.ratelimiter.DefaultControllerRateLimiter;
+import io.kubernetes.client.extended.workqueue.ratelimiter.RateLimiter;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** The rate limiting queue implementation on top of {@link TimingWheelDelayingQueue}. */
+public class TimingWheelRateLimitingQueue<T> extends TimingWheelDelayingQueue<T>
+    implements RateLimitingQueue<T> {
+
+  private final String name;
+  private RateLimiter<T> rateLimiter;
+
+  public TimingWheelRateLimitingQueue() {
+    this(Executors.newSingleThreadExecutor());
+  }
+
+  public TimingWheelRateLimitingQueue(ExecutorService waitingWorker) {
+    this(waitingWorker, new DefaultControllerRateLimiter<>());
+  }
+
+  public TimingWheelRateLimitingQueue(ExecutorService waitingWorker, RateLimiter<T> rateLimiter) {
+    this("", waitingWorker, DEFAULT_TICK, rateLimiter);
+  }
+
+  public TimingWheelRateLimitingQueue(
+      String name, ExecutorService waitingWorker, Duration tick, RateLimiter<T> rateLimiter) {
+    super(name, waitingWorker, tick);
+    this.name = name;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public int numRequeues(T item) {
+    return rateLimiter.numRequeues(item);
+  }
+
+  @Override
+  public void forget(T item) {
+    rateLimiter.forget(item);
+  }
+
+  @Override
+  public void addRateLimited(T item) {
+    Duration delay = rateLimiter.when(item);
+    RateLimitingQueueMetrics.observeRequeue(name, delay);
+    super.addAfter(item, delay);
+  }
+}
@@ -27,9 +27,10 @@ public class DefaultControllerRateLimiter<T> implements RateLimiter<T> {
     this.internalRateLimiter =
         new MaxOfRateLimiter<>(
             Arrays.asList(
+                // forgets the items not failing again for twice the max delay
                 new ItemExponentialFailureRateLimiter<>(
-                    Duration.ofMillis(5), Duration.ofSeconds(1000)),
-                new BucketRateLimiter<>(100, 10, Duration.ofMinutes(1))));
+                    Duration.ofMillis(5), Duration.ofSeconds(1000), Duration.ofSeconds(2000)),
+                new TokenBucketRateLimiter<>(100, 10, Duration.ofMinutes(1))));
   }
 
   @Override
@@ -0,0 +1,97 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue.ratelimiter;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FailureTracker counts the failures of the items for the per-item rate limiters. With an expiry,
+ * the items not failing again within the expiry are forgotten, so that the items never forgotten by
+ * the caller don't pile up. The expired items are swept at most once per expiry.
+ */
+final class FailureTracker<T> {
+
+  private final ConcurrentMap<T, Failures> failures = new ConcurrentHashMap<>();
+
+  // zero if the failures never expire.
+  private final long expiryNanos;
+
+  private final AtomicLong nextSweepNanos;
+
+  FailureTracker(Duration expiry) {
+    if (expiry.isNegative()) {
+      throw new IllegalArgumentException("expiry must not be negative");
+    }
+    this.expiryNanos = expiry.toNanos();
+    this.nextSweepNanos = new AtomicLong(System.nanoTime() + expiryNanos);
+  }
+
+  /**
+   * Records a failure of the item.
+   *
+   * @return the number of failures including this one
+   */
+  int fail(T item) {
+    long now = System.nanoTime();
+    sweep(now);
+    return failures.compute(
+            item,
+            (k, v) -> {
+              if (v == null || isExpired(v, now)) {
+                v = new Failures();
+              }
+              v.count++;
+              v.lastFailureNanos = now;
+              return v;
+            })
+        .count;
+  }
+
+  int count(T item) {
+    Failures v = failures.get(item);
+    if (v == null || isExpired(v, System.nanoTime())) {
+      return 0;
+    }
+    return v.count;
+  }
+
+  void forget(T item) {
+    failures.remove(item);
+  }
+
+  int size() {
+    return failures.size();
+  }
+
+  private boolean isExpired(Failures v, long now) {
+    return expiryNanos > 0 && now - v.lastFailureNanos >= expiryNanos;
+  }
+
+  private void sweep(long now) {
+    if (expiryNanos == 0) {
+      return;
+    }
+    long next = nextSweepNanos.get();
+    if (now - next >= 0 && nextSweepNanos.compareAndSet(next, now + expiryNanos)) {
+      failures.values().removeIf(v -> isExpired(v, now));
+    }
+  }
+
+  private static class Failures {
+    private volatile int count;
+    private volatile long lastFailureNanos;
+  }
+}
@@ -13,40 +13,50 @@ limitations under the License.
 package io.kubernetes.client.extended.workqueue.ratelimiter;
 
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * ItemExponentialFailureRateLimiter does a simple baseDelay*10<sup>num-failures</sup> limit dealing
- * with max failures and expiration are up to the caller
+ * ItemExponentialFailureRateLimiter does a simple baseDelay*2<sup>num-failures</sup> limit dealing
+ * with max failures and expiration are up to the caller, unless a failure expiry is given, in which
+ * case the items not failing again within the expiry are forgotten.
  */
 public class ItemExponentialFailureRateLimiter<T> implements RateLimiter<T> {
 
   private Duration baseDelay;
   private Duration maxDelay;
 
-  private ConcurrentMap<T, AtomicLong> failures = new ConcurrentHashMap<>();
+  private FailureTracker<T> failures;
 
   public ItemExponentialFailureRateLimiter(Duration baseDelay, Duration maxDelay) {
+    this(baseDelay, maxDelay, Duration.ZERO);
+  }
+
+  /**
+   * @param baseDelay the delay of the first failure
+   * @param maxDelay the maximum delay
+   * @param failureExpiry the period after which the failures of an item are forgotten if it doesn't
+   *     fail again, zero if they never expire
+   */
+  public ItemExponentialFailureRateLimiter(
+      Duration baseDelay, Duration maxDelay, Duration failureExpiry) {
     this.baseDelay = baseDelay;
     this.maxDelay = maxDelay;
+    this.failures = new FailureTracker<>(failureExpiry);
   }
 
   @Override
   public Duration when(T item) {
-    long exp = failures.computeIfAbsent(item, k -> new AtomicLong()).getAndIncrement();
+    long exp = failures.fail(item) - 1;
     long d = maxDelay.toMillis() >> exp;
     return d > baseDelay.toMillis() ? baseDelay.multipliedBy(1 << exp) : maxDelay;
   }
 
   @Override
   public void forget(T item) {
-    failures.remove(item);
+    failures.forget(item);
   }
 
   @Override
   public int numRequeues(T item) {
-    return (int) failures.computeIfAbsent(item, k -> new AtomicLong()).get();
+    return failures.count(item);
   }
 }
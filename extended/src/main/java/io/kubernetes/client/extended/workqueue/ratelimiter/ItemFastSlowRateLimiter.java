@@ -13,9 +13,6 @@ limitations under the License.
 package io.kubernetes.client.extended.workqueue.ratelimiter;
 
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ItemFastSlowRateLimiter does a quick retry for a certain number of attempts, then a slow retry
@@ -27,17 +24,30 @@ public class ItemFastSlowRateLimiter<T> implements RateLimiter<T> {
   private Duration slowDelay;
   private int maxFastAttempts;
 
-  private ConcurrentMap<T, AtomicInteger> failures = new ConcurrentHashMap<>();
+  private FailureTracker<T> failures;
 
   public ItemFastSlowRateLimiter(Duration fastDelay, Duration slowDelay, int maxFastAttempts) {
+    this(fastDelay, slowDelay, maxFastAttempts, Duration.ZERO);
+  }
+
+  /**
+   * @param fastDelay the delay of the fast attempts
+   * @param slowDelay the delay of the slow attempts
+   * @param maxFastAttempts the number of fast attempts
+   * @param failureExpiry the period after which the failures of an item are forgotten if it doesn't
+   *     fail again, zero if they never expire
+   */
+  public ItemFastSlowRateLimiter(
+      Duration fastDelay, Duration slowDelay, int maxFastAttempts, Duration failureExpiry) {
     this.fastDelay = fastDelay;
     this.slowDelay = slowDelay;
     this.maxFastAttempts = maxFastAttempts;
+    this.failures = new FailureTracker<>(failureExpiry);
   }
 
   @Override
   public Duration when(T item) {
-    int attempts = failures.computeIfAbsent(item, k -> new AtomicInteger()).incrementAndGet();
+    int attempts = failures.fail(item);
     if (attempts <= maxFastAttempts) {
       return fastDelay;
     }
@@ -46,11 +56,11 @@ public class ItemFastSlowRateLimiter<T> implements RateLimiter<T> {
 
   @Override
   public void forget(T item) {
-    failures.remove(item);
+    failures.forget(item);
   }
 
   @Override
   public int numRequeues(T item) {
-    return (int) failures.computeIfAbsent(item, k -> new AtomicInteger()).get();
+    return failures.count(item);
   }
 }
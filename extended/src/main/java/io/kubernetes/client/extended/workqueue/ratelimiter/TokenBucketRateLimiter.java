@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue.ratelimiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket implementation for RateLimiter, behaving as {@link BucketRateLimiter}.
+ *
+ * <p>Instead of counting tokens, it tracks the time at which the bucket would be refilled up to the
+ * tokens already consumed, i.e. the generic cell rate algorithm, so that taking a token is a single
+ * compare-and-set on that time.
+ */
+public class TokenBucketRateLimiter<T> implements RateLimiter<T> {
+
+  // the time it takes to generate a token.
+  private final long intervalNanos;
+  // the time it takes to generate a full bucket.
+  private final long burstNanos;
+  // the time at which the bucket would have generated all the tokens consumed so far.
+  private final AtomicLong theoreticalArrivalNanos;
+
+  /**
+   * @param capacity Capacity is the maximum number of tokens can be consumed.
+   * @param tokensGeneratedInPeriod Tokens generated in period.
+   * @param period Period that generating specific number of tokens.
+   */
+  public TokenBucketRateLimiter(long capacity, long tokensGeneratedInPeriod, Duration period) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    if (tokensGeneratedInPeriod <= 0) {
+      throw new IllegalArgumentException("tokensGeneratedInPeriod must be positive");
+    }
+    if (period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException("period must be positive");
+    }
+    this.intervalNanos = Math.max(1, period.toNanos() / tokensGeneratedInPeriod);
+    this.burstNanos = capacity * intervalNanos;
+    this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+  }
+
+  @Override
+  public Duration when(T item) {
+    long now = System.nanoTime();
+    long arrival;
+    long next;
+    do {
+      arrival = theoreticalArrivalNanos.get();
+      // an idle bucket doesn't refill beyond its capacity
+      next = Math.max(arrival - now, 0) + now + intervalNanos;
+    } while (!theoreticalArrivalNanos.compareAndSet(arrival, next));
+    long waitNanos = next - now - burstNanos;
+    return waitNanos > 0 ? Duration.ofNanos(waitNanos) : Duration.ZERO;
+  }
+
+  @Override
+  public void forget(T item) {}
+
+  @Override
+  public int numRequeues(T item) {
+    return 0;
+  }
+}
@@ -15,6 +15,7 @@ package io.kubernetes.client.extended.controller;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import io.kubernetes.client.extended.controller.reconciler.AsyncReconciler;
 import io.kubernetes.client.extended.controller.reconciler.Reconciler;
 import io.kubernetes.client.extended.controller.reconciler.Request;
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -23,9 +24,14 @@ import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -154,4 +160,96 @@ public class DefaultControllerTest {
     assertTrue(resumed.get());
     assertTrue(finishedRequests.size() >= 1);
   }
+
+  @Test
+  public void testAsyncReconcilerBoundsReconcilesInFlight() throws InterruptedException {
+    ScheduledExecutorService fakeApi = Executors.newSingleThreadScheduledExecutor();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    CountDownLatch finished = new CountDownLatch(100);
+    AsyncReconciler reconciler =
+        request -> {
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          CompletableFuture<Result> future = new CompletableFuture<>();
+          // completes the reconciliation after a round-trip to the fake api
+          fakeApi.schedule(
+              () -> {
+                inFlight.decrementAndGet();
+                finished.countDown();
+                future.complete(new Result(false));
+              },
+              50,
+              TimeUnit.MILLISECONDS);
+          return future;
+        };
+    DefaultController testController = new DefaultController("", reconciler, 10, workQueue);
+    testController.setWorkerCount(1);
+    testController.setWorkerThreadPool(Executors.newScheduledThreadPool(1));
+
+    for (int i = 0; i < 100; i++) {
+      workQueue.add(new Request("test" + i));
+    }
+    controllerThead.submit(testController::run);
+
+    // a single worker thread reconciling one by one would take 5s
+    assertTrue(finished.await(3, TimeUnit.SECONDS));
+    testController.shutdown();
+    fakeApi.shutdown();
+    assertTrue(maxInFlight.get() > 1);
+    assertTrue(maxInFlight.get() <= 10);
+  }
+
+  @Test
+  public void testAsyncReconcilerRequeuesOnExceptionalCompletion() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    CountDownLatch succeeded = new CountDownLatch(1);
+    AsyncReconciler reconciler =
+        request -> {
+          CompletableFuture<Result> future = new CompletableFuture<>();
+          if (attempts.incrementAndGet() == 1) {
+            future.completeExceptionally(new RuntimeException("Oops!!"));
+          } else {
+            succeeded.countDown();
+            future.complete(new Result(false));
+          }
+          return future;
+        };
+    DefaultController testController = new DefaultController("", reconciler, 1, workQueue);
+    testController.setWorkerCount(1);
+    testController.setWorkerThreadPool(Executors.newScheduledThreadPool(1));
+
+    controllerThead.submit(testController::run);
+    workQueue.add(new Request("test1"));
+
+    assertTrue(succeeded.await(5, TimeUnit.SECONDS));
+    testController.shutdown();
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  public void testAsyncReconcilerRequeuesOnNullResult() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    CountDownLatch succeeded = new CountDownLatch(1);
+    AsyncReconciler reconciler =
+        request -> {
+          if (attempts.incrementAndGet() == 1) {
+            return CompletableFuture.completedFuture(null);
+          }
+          succeeded.countDown();
+          return CompletableFuture.completedFuture(new Result(false));
+        };
+    DefaultController testController = new DefaultController("", reconciler, 1, workQueue);
+    testController.setWorkerCount(1);
+    testController.setWorkerThreadPool(Executors.newScheduledThreadPool(1));
+
+    controllerThead.submit(testController::run);
+    workQueue.add(new Request("test1"));
+
+    // the request is done and requeued, instead of being stuck in processing
+    assertTrue(succeeded.await(5, TimeUnit.SECONDS));
+    cooldown();
+    testController.shutdown();
+    assertEquals(2, attempts.get());
+    assertEquals(0, workQueue.length());
+  }
 }
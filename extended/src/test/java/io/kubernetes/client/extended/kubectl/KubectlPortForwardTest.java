@@ -0,0 +1,182 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.kubectl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.util.ClientBuilder;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.ByteString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KubectlPortForwardTest {
+
+  private static final int TARGET_PORT = 8080;
+
+  private final MockWebServer server = new MockWebServer();
+  private final AtomicInteger webSockets = new AtomicInteger();
+  private ApiClient apiClient;
+  private ExecutorService executorService;
+
+  @Before
+  public void setup() throws IOException {
+    // the pod side echoes the data forwarded to it
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            webSockets.incrementAndGet();
+            return new MockResponse().withWebSocketUpgrade(new EchoListener());
+          }
+        });
+    server.start();
+    apiClient =
+        new ClientBuilder()
+            .setBasePath(server.url("/").toString())
+            .setMaxRequestsPerHost(64)
+            .build();
+    executorService = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void teardown() throws IOException {
+    executorService.shutdownNow();
+    server.shutdown();
+  }
+
+  @Test
+  public void testConcurrentConnectionsShouldBeForwarded() throws Exception {
+    int localPort = freePort();
+    KubectlPortForward forward =
+        Kubectl.portforward()
+            .apiClient(apiClient)
+            .namespace("default")
+            .name("foo")
+            .ports(localPort, TARGET_PORT);
+    CompletableFuture<Boolean> forwarding =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return forward.execute();
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            },
+            executorService);
+
+    int connections = 16;
+    byte[] data = new byte[1024 * 1024];
+    new Random(0).nextBytes(data);
+    List<Future<byte[]>> echoes = new ArrayList<>();
+    for (int i = 0; i < connections; i++) {
+      echoes.add(executorService.submit(() -> echo(localPort, data)));
+    }
+    for (Future<byte[]> echo : echoes) {
+      assertArrayEquals(data, echo.get(30, TimeUnit.SECONDS));
+    }
+    assertEquals(connections, webSockets.get());
+
+    forward.shutdown();
+    assertTrue(forwarding.get(10, TimeUnit.SECONDS));
+  }
+
+  private static byte[] echo(int localPort, byte[] data) throws Exception {
+    try (Socket socket = connect(localPort)) {
+      OutputStream out = socket.getOutputStream();
+      InputStream in = socket.getInputStream();
+      CompletableFuture<Void> writing =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  out.write(data);
+                  out.flush();
+                } catch (IOException e) {
+                  throw new RuntimeException(e);
+                }
+              });
+      byte[] echoed = new byte[data.length];
+      new DataInputStream(in).readFully(echoed);
+      writing.get();
+      return echoed;
+    }
+  }
+
+  private static Socket connect(int port) throws Exception {
+    // retries until the forwarding listens
+    for (int i = 0; ; i++) {
+      try {
+        return new Socket("localhost", port);
+      } catch (ConnectException e) {
+        if (i > 100) {
+          throw e;
+        }
+        Thread.sleep(50);
+      }
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static class EchoListener extends WebSocketListener {
+    @Override
+    public void onOpen(WebSocket webSocket, Response response) {
+      // the first two bytes of the data and error streams are the port in little-endian
+      byte[] port = new byte[] {(byte) (TARGET_PORT & 0xFF), (byte) (TARGET_PORT >> 8)};
+      webSocket.send(ByteString.of((byte) 0, port[0], port[1]));
+      webSocket.send(ByteString.of((byte) 1, port[0], port[1]));
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, ByteString bytes) {
+      if (bytes.getByte(0) == 0) {
+        webSocket.send(bytes);
+      }
+    }
+
+    @Override
+    public void onClosing(WebSocket webSocket, int code, String reason) {
+      webSocket.close(code, reason);
+    }
+  }
+}
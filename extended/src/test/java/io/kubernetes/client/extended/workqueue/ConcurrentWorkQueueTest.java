@@ -0,0 +1,151 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+
+public class ConcurrentWorkQueueTest {
+
+  @Test
+  public void testMultiProducerAndConsumers() throws Exception {
+    ConcurrentWorkQueue<String> queue = new ConcurrentWorkQueue<>();
+    final int producerCount = 10;
+    final int consumerCount = 8;
+    Set<String> processing = ConcurrentHashMap.newKeySet();
+    Map<String, Boolean> processedAfterLastAdd = new ConcurrentHashMap<>();
+    AtomicBoolean concurrentlyProcessed = new AtomicBoolean(false);
+
+    CountDownLatch producerLatch = new CountDownLatch(producerCount);
+    for (int i = 0; i < producerCount; i++) {
+      final int num = i;
+      new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  String item = String.valueOf((num * 1000 + j) % 20);
+                  processedAfterLastAdd.put(item, false);
+                  queue.add(item);
+                }
+                producerLatch.countDown();
+              })
+          .start();
+    }
+
+    CountDownLatch consumerLatch = new CountDownLatch(consumerCount);
+    for (int i = 0; i < consumerCount; i++) {
+      new Thread(
+              () -> {
+                try {
+                  for (; ; ) {
+                    String item = queue.get();
+                    if (item == null) {
+                      return;
+                    }
+                    if (!processing.add(item)) {
+                      concurrentlyProcessed.set(true);
+                    }
+                    processedAfterLastAdd.put(item, true);
+                    processing.remove(item);
+                    queue.done(item);
+                  }
+                } catch (InterruptedException e) {
+                  // empty body
+                } finally {
+                  consumerLatch.countDown();
+                }
+              })
+          .start();
+    }
+
+    producerLatch.await();
+    // drains the queue before shutting down
+    while (queue.length() > 0 || processedAfterLastAdd.containsValue(false)) {
+      Thread.sleep(10);
+    }
+    queue.shutDown();
+    queue.add("added after shutdown!");
+    assertTrue(consumerLatch.await(5, TimeUnit.SECONDS));
+    assertFalse("An item was processed concurrently", concurrentlyProcessed.get());
+    assertEquals(0, queue.length());
+  }
+
+  @Test
+  public void testLen() throws Exception {
+    ConcurrentWorkQueue<String> queue = new ConcurrentWorkQueue<>();
+    queue.add("foo");
+    assertEquals(1, queue.length());
+    queue.add("bar");
+    assertEquals(2, queue.length());
+    queue.add("foo"); // should not increase the queue length.
+    assertEquals(2, queue.length());
+  }
+
+  @Test
+  public void testReinsert() throws Exception {
+    ConcurrentWorkQueue<String> queue = new ConcurrentWorkQueue<>();
+    queue.add("foo");
+
+    // Start processing
+    String item = queue.get();
+    assertEquals("foo", item);
+
+    // Add it back while processing, twice
+    queue.add(item);
+    queue.add(item);
+    assertEquals(0, queue.length());
+
+    // Finish it up
+    queue.done(item);
+
+    // It should be back on the queue, once
+    assertEquals(1, queue.length());
+    item = queue.get();
+    assertEquals("foo", item);
+
+    // Finish that one up
+    queue.done(item);
+
+    assertEquals(0, queue.length());
+  }
+
+  @Test
+  public void testShutDownWakesUpAllWorkers() throws Exception {
+    ConcurrentWorkQueue<String> queue = new ConcurrentWorkQueue<>();
+    CountDownLatch workerLatch = new CountDownLatch(4);
+    for (int i = 0; i < 4; i++) {
+      new Thread(
+              () -> {
+                try {
+                  assertNull(queue.get());
+                  workerLatch.countDown();
+                } catch (InterruptedException e) {
+                  // empty body
+                }
+              })
+          .start();
+    }
+    queue.shutDown();
+    assertTrue(workerLatch.await(5, TimeUnit.SECONDS));
+    assertTrue(queue.isShuttingDown());
+  }
+}
@@ -0,0 +1,114 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.kubernetes.client.extended.wait.Wait;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class TimingWheelDelayingQueueTest {
+
+  @Test
+  public void testSimpleDelayingQueue() throws Exception {
+    TimingWheelDelayingQueue<String> queue = new TimingWheelDelayingQueue<>();
+    queue.addAfter("foo", Duration.ofMillis(50));
+    assertEquals(0, queue.length());
+    assertEquals(1, queue.delayedLength());
+
+    assertTrue(waitForAdded(queue, 1));
+    assertEquals(0, queue.delayedLength());
+    String item = queue.get();
+    queue.done(item);
+    assertEquals(0, queue.length());
+    queue.shutDown();
+  }
+
+  @Test
+  public void testDeduping() throws Exception {
+    TimingWheelDelayingQueue<String> queue = new TimingWheelDelayingQueue<>();
+    String item = "foo";
+
+    // the later should be ignored
+    queue.addAfter(item, Duration.ofMillis(50));
+    queue.addAfter(item, Duration.ofSeconds(10));
+    assertEquals(1, queue.delayedLength());
+    assertTrue(waitForAdded(queue, 1));
+    assertEquals(0, queue.delayedLength());
+    queue.done(queue.get());
+
+    // the earlier should override
+    queue.addAfter(item, Duration.ofSeconds(10));
+    queue.addAfter(item, Duration.ofMillis(50));
+    assertEquals(1, queue.delayedLength());
+    assertTrue(waitForAdded(queue, 1));
+    assertEquals(0, queue.delayedLength());
+    queue.shutDown();
+  }
+
+  @Test
+  public void testCascadingKeepsOrder() throws Exception {
+    // 1ms ticks, the delays span the three lower levels of the wheel
+    TimingWheelDelayingQueue<String> queue =
+        new TimingWheelDelayingQueue<>(
+            "", Executors.newSingleThreadExecutor(), Duration.ofMillis(1));
+    queue.addAfter("foo", Duration.ofMillis(4200));
+    queue.addAfter("bar", Duration.ofMillis(700));
+    queue.addAfter("baz", Duration.ofMillis(30));
+
+    Thread.sleep(500L);
+    assertEquals(1, queue.length());
+    assertEquals(2, queue.delayedLength());
+    assertTrue(waitForAdded(queue, 3));
+    assertEquals("baz", queue.get());
+    assertEquals("bar", queue.get());
+    assertEquals("foo", queue.get());
+    queue.shutDown();
+  }
+
+  @Test
+  public void testManyDelayedItemsAreNotDropped() throws Exception {
+    TimingWheelDelayingQueue<String> queue = new TimingWheelDelayingQueue<>();
+    for (int i = 0; i < 100000; i++) {
+      queue.addAfter(String.valueOf(i), Duration.ofMillis(i % 500));
+    }
+    assertTrue(waitForAdded(queue, 100000));
+    assertEquals(0, queue.delayedLength());
+    queue.shutDown();
+  }
+
+  @Test
+  public void testShutDownStopsWaitingLoop() throws Exception {
+    // shutting down right after starting races the waiting loop going to sleep
+    for (int i = 0; i < 100; i++) {
+      ExecutorService waitingWorker = Executors.newSingleThreadExecutor();
+      TimingWheelDelayingQueue<String> queue =
+          new TimingWheelDelayingQueue<>("", waitingWorker, Duration.ofMillis(1));
+      if (i % 2 == 0) {
+        queue.addAfter("foo", Duration.ofHours(1));
+      }
+      queue.shutDown();
+      waitingWorker.shutdown();
+      assertTrue(waitingWorker.awaitTermination(1, TimeUnit.SECONDS));
+    }
+  }
+
+  private boolean waitForAdded(TimingWheelDelayingQueue queue, int size) {
+    return Wait.poll(Duration.ofMillis(10), Duration.ofSeconds(10), () -> queue.length() == size);
+  }
+}
@@ -95,4 +95,21 @@ public class ItemExponentialFailureRateLimiterTest {
     assertEquals(Duration.ofSeconds(-1000), rateLimiter.when("one"));
     assertEquals(Duration.ofSeconds(-1000), rateLimiter.when("one"));
   }
+
+  @Test
+  public void testFailuresExpire() throws InterruptedException {
+    RateLimiter<String> rateLimiter =
+        new ItemExponentialFailureRateLimiter<>(
+            Duration.ofMillis(1), Duration.ofSeconds(1), Duration.ofMillis(100));
+
+    assertEquals(Duration.ofMillis(1), rateLimiter.when("one"));
+    assertEquals(Duration.ofMillis(2), rateLimiter.when("one"));
+    assertEquals(2, rateLimiter.numRequeues("one"));
+
+    Thread.sleep(150);
+
+    // never forgotten by the caller, but expired
+    assertEquals(0, rateLimiter.numRequeues("one"));
+    assertEquals(Duration.ofMillis(1), rateLimiter.when("one"));
+  }
 }
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.extended.workqueue.ratelimiter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class TokenBucketRateLimiterTest {
+
+  @Test
+  public void testTokenBucketRateLimiterBasic() {
+    RateLimiter<String> rateLimiter = new TokenBucketRateLimiter<>(2, 1, Duration.ofMinutes(10));
+    assertEquals(Duration.ZERO, rateLimiter.when("one"));
+    assertEquals(Duration.ZERO, rateLimiter.when("one"));
+
+    Duration waitDuration = rateLimiter.when("one");
+    Duration diff = waitDuration.minus(Duration.ofMinutes(10));
+    // waitDuration might be smaller than expect duration because of time is elapsed.
+    assertTrue(diff.isZero() || (diff.isNegative() && !diff.plusSeconds(1).isNegative()));
+
+    waitDuration = rateLimiter.when("one");
+    diff = waitDuration.minus(Duration.ofMinutes(20));
+    assertTrue(diff.isZero() || (diff.isNegative() && !diff.plusSeconds(1).isNegative()));
+  }
+
+  @Test
+  public void testTokenBucketRateLimiterTokenAdded() throws InterruptedException {
+    RateLimiter<String> rateLimiter = new TokenBucketRateLimiter<>(2, 1, Duration.ofMillis(200));
+
+    assertEquals(Duration.ZERO, rateLimiter.when("one"));
+    assertEquals(Duration.ZERO, rateLimiter.when("one"));
+    assertTrue(rateLimiter.when("one").toMillis() > 0);
+
+    Thread.sleep(600);
+
+    // refilled up to the capacity only
+    assertEquals(Duration.ZERO, rateLimiter.when("two"));
+    assertEquals(Duration.ZERO, rateLimiter.when("two"));
+    assertTrue(rateLimiter.when("two").toMillis() > 0);
+  }
+
+  @Test
+  public void testConcurrentConsumersShareTheBurst() throws InterruptedException {
+    RateLimiter<String> rateLimiter = new TokenBucketRateLimiter<>(100, 1, Duration.ofMinutes(1));
+    AtomicInteger undelayed = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(8);
+    for (int i = 0; i < 8; i++) {
+      new Thread(
+              () -> {
+                for (int j = 0; j < 50; j++) {
+                  if (rateLimiter.when("item").isZero()) {
+                    undelayed.incrementAndGet();
+                  }
+                }
+                latch.countDown();
+              })
+          .start();
+    }
+    latch.await();
+    assertEquals(100, undelayed.get());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeCapacity() {
+    new TokenBucketRateLimiter<>(-2, 1, Duration.ofSeconds(2));
+  }
+}
@@ -0,0 +1,264 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.custom;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * RFC3339Formatter parses and prints the timestamps of the kubernetes objects, e.g.
+ * "2020-11-24T09:31:07Z" or "2020-11-24T09:31:07.123456+01:00", w/o going through a general purpose
+ * formatter. Anything else is left to the caller: the parse methods return null for text which
+ * isn't in that shape, and the print methods return null for values they can't print the way
+ * ISODateTimeFormat.dateTime() does, so that the caller falls back to its formatter.
+ */
+public class RFC3339Formatter {
+
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  /**
+   * Parses a timestamp into a DateTime of the default time zone, like
+   * ISODateTimeFormat.dateOptionalTimeParser() does.
+   *
+   * @param text the timestamp
+   * @return the DateTime, null if the text isn't a RFC3339 timestamp
+   */
+  public DateTime parseDateTime(String text) {
+    Timestamp timestamp = parse(text);
+    if (timestamp == null) {
+      return null;
+    }
+    long millis =
+        epochDay(timestamp.year, timestamp.month, timestamp.day) * MILLIS_PER_DAY
+            + ((timestamp.hour * 60L + timestamp.minute) * 60L + timestamp.second) * 1000L
+            + timestamp.nano / 1_000_000
+            - timestamp.offsetSeconds * 1000L;
+    return new DateTime(millis);
+  }
+
+  /**
+   * Parses a timestamp into an OffsetDateTime, keeping its offset and its fraction of second.
+   *
+   * @param text the timestamp
+   * @return the OffsetDateTime, null if the text isn't a RFC3339 timestamp
+   */
+  public OffsetDateTime parseOffsetDateTime(String text) {
+    Timestamp timestamp = parse(text);
+    if (timestamp == null) {
+      return null;
+    }
+    return OffsetDateTime.of(
+        timestamp.year,
+        timestamp.month,
+        timestamp.day,
+        timestamp.hour,
+        timestamp.minute,
+        timestamp.second,
+        timestamp.nano,
+        timestamp.offsetSeconds == 0
+            ? ZoneOffset.UTC
+            : ZoneOffset.ofTotalSeconds(timestamp.offsetSeconds));
+  }
+
+  /**
+   * Prints a DateTime like ISODateTimeFormat.dateTime() does, e.g. "2020-11-24T09:31:07.000Z".
+   *
+   * @param dateTime the DateTime
+   * @return the timestamp, null if the DateTime isn't of the ISO chronology, of a year in 0..9999
+   *     and of an offset of whole minutes
+   */
+  public String print(DateTime dateTime) {
+    if (!(dateTime.getChronology() instanceof ISOChronology)) {
+      return null;
+    }
+    DateTimeZone zone = dateTime.getZone();
+    long millis = dateTime.getMillis();
+    int offsetMillis = zone == DateTimeZone.UTC ? 0 : zone.getOffset(millis);
+    if (offsetMillis % 60_000 != 0) {
+      return null;
+    }
+    long local = millis + offsetMillis;
+    long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+    int millisOfDay = (int) Math.floorMod(local, MILLIS_PER_DAY);
+
+    // the civil date of the epoch day, see http://howardhinnant.github.io/date_algorithms.html
+    long days = epochDay + 719_468;
+    long era = Math.floorDiv(days, 146_097);
+    long dayOfEra = days - era * 146_097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long monthIndex = (5 * dayOfYear + 2) / 153;
+    int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+    int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    if (year < 0 || year > 9999) {
+      return null;
+    }
+
+    char[] out = new char[offsetMillis == 0 ? 24 : 29];
+    digits(out, 0, (int) year, 4);
+    out[4] = '-';
+    digits(out, 5, month, 2);
+    out[7] = '-';
+    digits(out, 8, day, 2);
+    out[10] = 'T';
+    digits(out, 11, millisOfDay / 3_600_000, 2);
+    out[13] = ':';
+    digits(out, 14, millisOfDay / 60_000 % 60, 2);
+    out[16] = ':';
+    digits(out, 17, millisOfDay / 1000 % 60, 2);
+    out[19] = '.';
+    digits(out, 20, millisOfDay % 1000, 3);
+    if (offsetMillis == 0) {
+      out[23] = 'Z';
+    } else {
+      int offsetMinutes = Math.abs(offsetMillis) / 60_000;
+      out[23] = offsetMillis < 0 ? '-' : '+';
+      digits(out, 24, offsetMinutes / 60, 2);
+      out[26] = ':';
+      digits(out, 27, offsetMinutes % 60, 2);
+    }
+    return new String(out);
+  }
+
+  private static void digits(char[] out, int position, int value, int width) {
+    for (int i = position + width - 1; i >= position; i--) {
+      out[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  // parses "yyyy-MM-ddTHH:mm:ss[.f{1,9}](Z|+HH:mm|-HH:mm)", null if the text isn't in that shape.
+  private static Timestamp parse(String text) {
+    int length = text.length();
+    if (length < 20
+        || text.charAt(4) != '-'
+        || text.charAt(7) != '-'
+        || text.charAt(10) != 'T'
+        || text.charAt(13) != ':'
+        || text.charAt(16) != ':') {
+      return null;
+    }
+    Timestamp timestamp = new Timestamp();
+    timestamp.year = number(text, 0, 4);
+    timestamp.month = number(text, 5, 2);
+    timestamp.day = number(text, 8, 2);
+    timestamp.hour = number(text, 11, 2);
+    timestamp.minute = number(text, 14, 2);
+    timestamp.second = number(text, 17, 2);
+    if (timestamp.year < 0
+        || timestamp.month < 1
+        || timestamp.month > 12
+        || timestamp.day < 1
+        || timestamp.day > daysInMonth(timestamp.year, timestamp.month)
+        || timestamp.hour < 0
+        || timestamp.hour > 23
+        || timestamp.minute < 0
+        || timestamp.minute > 59
+        || timestamp.second < 0
+        || timestamp.second > 59) {
+      return null;
+    }
+
+    int position = 19;
+    if (text.charAt(position) == '.') {
+      int start = ++position;
+      while (position < length && isDigit(text.charAt(position))) {
+        timestamp.nano = timestamp.nano * 10 + (text.charAt(position) - '0');
+        position++;
+      }
+      int fractionDigits = position - start;
+      if (fractionDigits == 0 || fractionDigits > 9) {
+        return null;
+      }
+      for (int i = fractionDigits; i < 9; i++) {
+        timestamp.nano *= 10;
+      }
+    }
+
+    if (position == length - 1 && text.charAt(position) == 'Z') {
+      return timestamp;
+    }
+    if (position != length - 6 || text.charAt(position + 3) != ':') {
+      return null;
+    }
+    char sign = text.charAt(position);
+    int offsetHours = number(text, position + 1, 2);
+    int offsetMinutes = number(text, position + 4, 2);
+    if ((sign != '+' && sign != '-')
+        || offsetHours < 0
+        || offsetHours > 18
+        || offsetMinutes < 0
+        || offsetMinutes > 59) {
+      return null;
+    }
+    timestamp.offsetSeconds = (offsetHours * 60 + offsetMinutes) * 60 * (sign == '-' ? -1 : 1);
+    return timestamp;
+  }
+
+  // the decimal number of the digits at the position, -1 if they aren't all digits
+  private static int number(String text, int position, int digits) {
+    int value = 0;
+    for (int i = position; i < position + digits; i++) {
+      char c = text.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int daysInMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  // the days since 1970-01-01 of the civil date, see
+  // http://howardhinnant.github.io/date_algorithms.html
+  private static long epochDay(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400);
+    long yearOfEra = y - era * 400;
+    long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146_097 + dayOfEra - 719_468;
+  }
+
+  private static class Timestamp {
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int second;
+    private int nano;
+    private int offsetSeconds;
+  }
+}
@@ -758,6 +758,10 @@ public class ApiClient {
       return (T) downloadFileFromResponse(response);
     }
 
+    if (json.isStreamable(response, returnType)) {
+      return json.deserialize(response, returnType);
+    }
+
     String respBody;
     try {
       if (response.body() != null) respBody = response.body().string();
@@ -15,19 +15,27 @@ package io.kubernetes.client.openapi;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import io.gsonfire.GsonFireBuilder;
+import io.kubernetes.client.custom.RFC3339Formatter;
+import io.kubernetes.client.openapi.adapters.ModelTypeAdapterFactory;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
+import okhttp3.Response;
 import okio.ByteString;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
@@ -36,11 +44,16 @@ import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.ISODateTimeFormat;
 
 public class JSON {
+  private static final Pattern JSON_MIME =
+      Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
+
   private Gson gson;
   private boolean isLenientOnJson = false;
+  private boolean streamingDeserialization = true;
   private DateTypeAdapter dateTypeAdapter = new DateTypeAdapter();
   private SqlDateTypeAdapter sqlDateTypeAdapter = new SqlDateTypeAdapter();
   private DateTimeTypeAdapter dateTimeTypeAdapter = new DateTimeTypeAdapter();
+  private OffsetDateTimeTypeAdapter offsetDateTimeTypeAdapter = new OffsetDateTimeTypeAdapter();
   private LocalDateTypeAdapter localDateTypeAdapter = new LocalDateTypeAdapter();
   private ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
 
@@ -76,8 +89,11 @@ public class JSON {
             .registerTypeAdapter(Date.class, dateTypeAdapter)
             .registerTypeAdapter(java.sql.Date.class, sqlDateTypeAdapter)
             .registerTypeAdapter(DateTime.class, dateTimeTypeAdapter)
+            .registerTypeAdapter(OffsetDateTime.class, offsetDateTimeTypeAdapter)
             .registerTypeAdapter(LocalDate.class, localDateTypeAdapter)
             .registerTypeAdapter(byte[].class, byteArrayAdapter)
+            // reads and writes the models w/o reflection
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
             .create();
   }
 
@@ -106,6 +122,29 @@ public class JSON {
     return this;
   }
 
+  /**
+   * True if JSON response bodies are decoded directly from the response stream.
+   *
+   * @return True if streaming deserialization is enabled
+   */
+  public boolean isStreamingDeserialization() {
+    return streamingDeserialization;
+  }
+
+  /**
+   * Enable/disable decoding JSON response bodies directly from the response stream. When enabled
+   * (the default), the body is never buffered as a whole string, which roughly halves the memory
+   * needed to decode large responses such as lists. When disabled, the body is read into a string
+   * before decoding.
+   *
+   * @param streamingDeserialization True to enable streaming deserialization
+   * @return JSON
+   */
+  public JSON setStreamingDeserialization(boolean streamingDeserialization) {
+    this.streamingDeserialization = streamingDeserialization;
+    return this;
+  }
+
   /**
    * Serialize the given Java object into JSON string.
    *
@@ -147,6 +186,64 @@ public class JSON {
     }
   }
 
+  /**
+   * Deserialize the given JSON stream to Java object, w/o buffering the whole stream in memory.
+   *
+   * @param <T> Type
+   * @param body The JSON stream
+   * @param returnType The type to deserialize into
+   * @return The deserialized Java object, null if the stream is empty
+   */
+  public <T> T deserialize(Reader body, Type returnType) {
+    if (isLenientOnJson) {
+      JsonReader jsonReader = new JsonReader(body);
+      jsonReader.setLenient(true);
+      return gson.fromJson(jsonReader, returnType);
+    }
+    return gson.fromJson(body, returnType);
+  }
+
+  /**
+   * Whether the body of the response is decoded from the response stream by {@link
+   * #deserialize(Response, Type)}, which is the case for JSON bodies decoded into other types than
+   * strings unless streaming deserialization is disabled. The generated {@link
+   * ApiClient#deserialize(Response, Type)} defers to it, see scripts/update-client.sh.
+   *
+   * @param response The response
+   * @param returnType The type to deserialize into
+   * @return True if the body is decoded from the stream
+   */
+  public boolean isStreamable(Response response, Type returnType) {
+    if (!streamingDeserialization || response.body() == null || returnType.equals(String.class)) {
+      return false;
+    }
+    String contentType = response.headers().get("Content-Type");
+    // the content type defaults to json, see ApiClient#isJsonMime
+    return contentType == null
+        || contentType.equals("*/*")
+        || JSON_MIME.matcher(contentType).matches();
+  }
+
+  /**
+   * Deserialize the JSON body of the response from the response stream, w/o buffering the whole
+   * body in memory.
+   *
+   * @param <T> Type
+   * @param response The response
+   * @param returnType The type to deserialize into
+   * @return The deserialized Java object, null if the body is empty
+   * @throws ApiException If fail to read the response body
+   */
+  public <T> T deserialize(Response response, Type returnType) throws ApiException {
+    try (Reader reader = response.body().charStream()) {
+      return deserialize(reader, returnType);
+    } catch (JsonIOException e) {
+      throw new ApiException(e.getCause() instanceof IOException ? e.getCause() : e);
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+
   /** Gson TypeAdapter for Byte Array type */
   public class ByteArrayAdapter extends TypeAdapter<byte[]> {
 
@@ -176,19 +273,25 @@ public class JSON {
     }
   }
 
-  /** Gson TypeAdapter for Joda DateTime type */
+  /**
+   * Gson TypeAdapter for Joda DateTime type. If the formatter is null, the RFC3339 timestamps of
+   * the kubernetes objects are parsed and printed w/o a general formatter, falling back to the ISO
+   * formatter for anything else.
+   */
   public static class DateTimeTypeAdapter extends TypeAdapter<DateTime> {
 
+    private static final DateTimeFormatter isoFormatter =
+        new DateTimeFormatterBuilder()
+            .append(
+                ISODateTimeFormat.dateTime().getPrinter(),
+                ISODateTimeFormat.dateOptionalTimeParser().getParser())
+            .toFormatter();
+
+    private final RFC3339Formatter rfc3339Formatter = new RFC3339Formatter();
+
     private DateTimeFormatter formatter;
 
-    public DateTimeTypeAdapter() {
-      this(
-          new DateTimeFormatterBuilder()
-              .append(
-                  ISODateTimeFormat.dateTime().getPrinter(),
-                  ISODateTimeFormat.dateOptionalTimeParser().getParser())
-              .toFormatter());
-    }
+    public DateTimeTypeAdapter() {}
 
     public DateTimeTypeAdapter(DateTimeFormatter formatter) {
       this.formatter = formatter;
@@ -202,8 +305,11 @@ public class JSON {
     public void write(JsonWriter out, DateTime date) throws IOException {
       if (date == null) {
         out.nullValue();
-      } else {
+      } else if (formatter != null) {
         out.value(formatter.print(date));
+      } else {
+        String value = rfc3339Formatter.print(date);
+        out.value(value != null ? value : isoFormatter.print(date));
       }
     }
 
@@ -215,7 +321,65 @@ public class JSON {
           return null;
         default:
           String date = in.nextString();
-          return formatter.parseDateTime(date);
+          if (formatter != null) {
+            return formatter.parseDateTime(date);
+          }
+          DateTime value = rfc3339Formatter.parseDateTime(date);
+          return value != null ? value : isoFormatter.parseDateTime(date);
+      }
+    }
+  }
+
+  /**
+   * Gson TypeAdapter for java.time OffsetDateTime type, for the models generated w/ java.time
+   * timestamps instead of Joda ones. If the formatter is null, the RFC3339 timestamps of the
+   * kubernetes objects are parsed w/o a general formatter, falling back to ISO_OFFSET_DATE_TIME for
+   * anything else.
+   */
+  public static class OffsetDateTimeTypeAdapter extends TypeAdapter<OffsetDateTime> {
+
+    private final RFC3339Formatter rfc3339Formatter = new RFC3339Formatter();
+
+    private java.time.format.DateTimeFormatter formatter;
+
+    public OffsetDateTimeTypeAdapter() {}
+
+    public OffsetDateTimeTypeAdapter(java.time.format.DateTimeFormatter formatter) {
+      this.formatter = formatter;
+    }
+
+    public void setFormat(java.time.format.DateTimeFormatter dateFormat) {
+      this.formatter = dateFormat;
+    }
+
+    @Override
+    public void write(JsonWriter out, OffsetDateTime date) throws IOException {
+      if (date == null) {
+        out.nullValue();
+      } else if (formatter != null) {
+        out.value(formatter.format(date));
+      } else {
+        out.value(java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(date));
+      }
+    }
+
+    @Override
+    public OffsetDateTime read(JsonReader in) throws IOException {
+      switch (in.peek()) {
+        case NULL:
+          in.nextNull();
+          return null;
+        default:
+          String date = in.nextString();
+          try {
+            if (formatter != null) {
+              return OffsetDateTime.parse(date, formatter);
+            }
+            OffsetDateTime value = rfc3339Formatter.parseOffsetDateTime(date);
+            return value != null ? value : OffsetDateTime.parse(date);
+          } catch (DateTimeParseException e) {
+            throw new JsonParseException(e);
+          }
       }
     }
   }
@@ -264,6 +428,11 @@ public class JSON {
     return this;
   }
 
+  public JSON setOffsetDateTimeFormat(java.time.format.DateTimeFormatter dateFormat) {
+    offsetDateTimeTypeAdapter.setFormat(dateFormat);
+    return this;
+  }
+
   public JSON setLocalDateFormat(DateTimeFormatter dateFormat) {
     localDateTypeAdapter.setFormat(dateFormat);
     return this;
@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1beta1ServiceReference;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1beta1WebhookClientConfig;
+import java.io.IOException;
+
+/** Reads and writes {@link AdmissionregistrationV1beta1WebhookClientConfig} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class AdmissionregistrationV1beta1WebhookClientConfigTypeAdapter
+    extends TypeAdapter<AdmissionregistrationV1beta1WebhookClientConfig> {
+  private final TypeAdapter<byte[]> byteArrayAdapter;
+  private final TypeAdapter<AdmissionregistrationV1beta1ServiceReference>
+      admissionregistrationV1beta1ServiceReferenceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public AdmissionregistrationV1beta1WebhookClientConfigTypeAdapter(Gson gson) {
+    this.byteArrayAdapter = gson.getAdapter(byte[].class);
+    this.admissionregistrationV1beta1ServiceReferenceAdapter =
+        gson.getAdapter(AdmissionregistrationV1beta1ServiceReference.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, AdmissionregistrationV1beta1WebhookClientConfig value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("caBundle");
+    byteArrayAdapter.write(out, value.getCaBundle());
+    out.name("service");
+    admissionregistrationV1beta1ServiceReferenceAdapter.write(out, value.getService());
+    out.name("url");
+    stringAdapter.write(out, value.getUrl());
+    out.endObject();
+  }
+
+  @Override
+  public AdmissionregistrationV1beta1WebhookClientConfig read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    AdmissionregistrationV1beta1WebhookClientConfig value =
+        new AdmissionregistrationV1beta1WebhookClientConfig();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "caBundle":
+          value.setCaBundle(byteArrayAdapter.read(in));
+          break;
+        case "service":
+          value.setService(admissionregistrationV1beta1ServiceReferenceAdapter.read(in));
+          break;
+        case "url":
+          value.setUrl(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ApiextensionsV1ServiceReference;
+import java.io.IOException;
+
+/** Reads and writes {@link ApiextensionsV1ServiceReference} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class ApiextensionsV1ServiceReferenceTypeAdapter
+    extends TypeAdapter<ApiextensionsV1ServiceReference> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  public ApiextensionsV1ServiceReferenceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, ApiextensionsV1ServiceReference value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("namespace");
+    stringAdapter.write(out, value.getNamespace());
+    out.name("path");
+    stringAdapter.write(out, value.getPath());
+    out.name("port");
+    integerAdapter.write(out, value.getPort());
+    out.endObject();
+  }
+
+  @Override
+  public ApiextensionsV1ServiceReference read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    ApiextensionsV1ServiceReference value = new ApiextensionsV1ServiceReference();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "namespace":
+          value.setNamespace(stringAdapter.read(in));
+          break;
+        case "path":
+          value.setPath(stringAdapter.read(in));
+          break;
+        case "port":
+          value.setPort(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventSeries;
+import io.kubernetes.client.openapi.models.V1EventSource;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link CoreV1Event} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class CoreV1EventTypeAdapter extends TypeAdapter<CoreV1Event> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+  private final TypeAdapter<V1ObjectReference> v1ObjectReferenceAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<CoreV1EventSeries> coreV1EventSeriesAdapter;
+  private final TypeAdapter<V1EventSource> v1EventSourceAdapter;
+
+  public CoreV1EventTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+    this.v1ObjectReferenceAdapter = gson.getAdapter(V1ObjectReference.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.coreV1EventSeriesAdapter = gson.getAdapter(CoreV1EventSeries.class);
+    this.v1EventSourceAdapter = gson.getAdapter(V1EventSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, CoreV1Event value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("action");
+    stringAdapter.write(out, value.getAction());
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("count");
+    integerAdapter.write(out, value.getCount());
+    out.name("eventTime");
+    dateTimeAdapter.write(out, value.getEventTime());
+    out.name("firstTimestamp");
+    dateTimeAdapter.write(out, value.getFirstTimestamp());
+    out.name("involvedObject");
+    v1ObjectReferenceAdapter.write(out, value.getInvolvedObject());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("lastTimestamp");
+    dateTimeAdapter.write(out, value.getLastTimestamp());
+    out.name("message");
+    stringAdapter.write(out, value.getMessage());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("reason");
+    stringAdapter.write(out, value.getReason());
+    out.name("related");
+    v1ObjectReferenceAdapter.write(out, value.getRelated());
+    out.name("reportingComponent");
+    stringAdapter.write(out, value.getReportingComponent());
+    out.name("reportingInstance");
+    stringAdapter.write(out, value.getReportingInstance());
+    out.name("series");
+    coreV1EventSeriesAdapter.write(out, value.getSeries());
+    out.name("source");
+    v1EventSourceAdapter.write(out, value.getSource());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public CoreV1Event read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    CoreV1Event value = new CoreV1Event();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "action":
+          value.setAction(stringAdapter.read(in));
+          break;
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "count":
+          value.setCount(integerAdapter.read(in));
+          break;
+        case "eventTime":
+          value.setEventTime(dateTimeAdapter.read(in));
+          break;
+        case "firstTimestamp":
+          value.setFirstTimestamp(dateTimeAdapter.read(in));
+          break;
+        case "involvedObject":
+          value.setInvolvedObject(v1ObjectReferenceAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "lastTimestamp":
+          value.setLastTimestamp(dateTimeAdapter.read(in));
+          break;
+        case "message":
+          value.setMessage(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "reason":
+          value.setReason(stringAdapter.read(in));
+          break;
+        case "related":
+          value.setRelated(v1ObjectReferenceAdapter.read(in));
+          break;
+        case "reportingComponent":
+          value.setReportingComponent(stringAdapter.read(in));
+          break;
+        case "reportingInstance":
+          value.setReportingInstance(stringAdapter.read(in));
+          break;
+        case "series":
+          value.setSeries(coreV1EventSeriesAdapter.read(in));
+          break;
+        case "source":
+          value.setSource(v1EventSourceAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
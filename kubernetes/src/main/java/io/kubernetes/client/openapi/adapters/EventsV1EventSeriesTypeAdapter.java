@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.EventsV1EventSeries;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link EventsV1EventSeries} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class EventsV1EventSeriesTypeAdapter extends TypeAdapter<EventsV1EventSeries> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+
+  public EventsV1EventSeriesTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, EventsV1EventSeries value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("count");
+    integerAdapter.write(out, value.getCount());
+    out.name("lastObservedTime");
+    dateTimeAdapter.write(out, value.getLastObservedTime());
+    out.endObject();
+  }
+
+  @Override
+  public EventsV1EventSeries read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    EventsV1EventSeries value = new EventsV1EventSeries();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "count":
+          value.setCount(integerAdapter.read(in));
+          break;
+        case "lastObservedTime":
+          value.setLastObservedTime(dateTimeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
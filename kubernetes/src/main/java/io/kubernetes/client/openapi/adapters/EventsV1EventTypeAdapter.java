@@ -0,0 +1,161 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.EventsV1Event;
+import io.kubernetes.client.openapi.models.EventsV1EventSeries;
+import io.kubernetes.client.openapi.models.V1EventSource;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link EventsV1Event} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class EventsV1EventTypeAdapter extends TypeAdapter<EventsV1Event> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+  private final TypeAdapter<V1EventSource> v1EventSourceAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<V1ObjectReference> v1ObjectReferenceAdapter;
+  private final TypeAdapter<EventsV1EventSeries> eventsV1EventSeriesAdapter;
+
+  public EventsV1EventTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+    this.v1EventSourceAdapter = gson.getAdapter(V1EventSource.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.v1ObjectReferenceAdapter = gson.getAdapter(V1ObjectReference.class);
+    this.eventsV1EventSeriesAdapter = gson.getAdapter(EventsV1EventSeries.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, EventsV1Event value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("action");
+    stringAdapter.write(out, value.getAction());
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("deprecatedCount");
+    integerAdapter.write(out, value.getDeprecatedCount());
+    out.name("deprecatedFirstTimestamp");
+    dateTimeAdapter.write(out, value.getDeprecatedFirstTimestamp());
+    out.name("deprecatedLastTimestamp");
+    dateTimeAdapter.write(out, value.getDeprecatedLastTimestamp());
+    out.name("deprecatedSource");
+    v1EventSourceAdapter.write(out, value.getDeprecatedSource());
+    out.name("eventTime");
+    dateTimeAdapter.write(out, value.getEventTime());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("note");
+    stringAdapter.write(out, value.getNote());
+    out.name("reason");
+    stringAdapter.write(out, value.getReason());
+    out.name("regarding");
+    v1ObjectReferenceAdapter.write(out, value.getRegarding());
+    out.name("related");
+    v1ObjectReferenceAdapter.write(out, value.getRelated());
+    out.name("reportingController");
+    stringAdapter.write(out, value.getReportingController());
+    out.name("reportingInstance");
+    stringAdapter.write(out, value.getReportingInstance());
+    out.name("series");
+    eventsV1EventSeriesAdapter.write(out, value.getSeries());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public EventsV1Event read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    EventsV1Event value = new EventsV1Event();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "action":
+          value.setAction(stringAdapter.read(in));
+          break;
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "deprecatedCount":
+          value.setDeprecatedCount(integerAdapter.read(in));
+          break;
+        case "deprecatedFirstTimestamp":
+          value.setDeprecatedFirstTimestamp(dateTimeAdapter.read(in));
+          break;
+        case "deprecatedLastTimestamp":
+          value.setDeprecatedLastTimestamp(dateTimeAdapter.read(in));
+          break;
+        case "deprecatedSource":
+          value.setDeprecatedSource(v1EventSourceAdapter.read(in));
+          break;
+        case "eventTime":
+          value.setEventTime(dateTimeAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "note":
+          value.setNote(stringAdapter.read(in));
+          break;
+        case "reason":
+          value.setReason(stringAdapter.read(in));
+          break;
+        case "regarding":
+          value.setRegarding(v1ObjectReferenceAdapter.read(in));
+          break;
+        case "related":
+          value.setRelated(v1ObjectReferenceAdapter.read(in));
+          break;
+        case "reportingController":
+          value.setReportingController(stringAdapter.read(in));
+          break;
+        case "reportingInstance":
+          value.setReportingInstance(stringAdapter.read(in));
+          break;
+        case "series":
+          value.setSeries(eventsV1EventSeriesAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
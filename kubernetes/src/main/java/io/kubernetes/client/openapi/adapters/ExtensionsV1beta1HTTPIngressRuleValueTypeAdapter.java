@@ -0,0 +1,74 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1HTTPIngressPath;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1HTTPIngressRuleValue;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link ExtensionsV1beta1HTTPIngressRuleValue} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class ExtensionsV1beta1HTTPIngressRuleValueTypeAdapter
+    extends TypeAdapter<ExtensionsV1beta1HTTPIngressRuleValue> {
+  private final TypeAdapter<List<ExtensionsV1beta1HTTPIngressPath>>
+      listExtensionsV1beta1HTTPIngressPathAdapter;
+
+  @SuppressWarnings("unchecked")
+  public ExtensionsV1beta1HTTPIngressRuleValueTypeAdapter(Gson gson) {
+    this.listExtensionsV1beta1HTTPIngressPathAdapter =
+        (TypeAdapter<List<ExtensionsV1beta1HTTPIngressPath>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, ExtensionsV1beta1HTTPIngressPath.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, ExtensionsV1beta1HTTPIngressRuleValue value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("paths");
+    listExtensionsV1beta1HTTPIngressPathAdapter.write(out, value.getPaths());
+    out.endObject();
+  }
+
+  @Override
+  public ExtensionsV1beta1HTTPIngressRuleValue read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    ExtensionsV1beta1HTTPIngressRuleValue value = new ExtensionsV1beta1HTTPIngressRuleValue();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "paths":
+          value.setPaths(listExtensionsV1beta1HTTPIngressPathAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
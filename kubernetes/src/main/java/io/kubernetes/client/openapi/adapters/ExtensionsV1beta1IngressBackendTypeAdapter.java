@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressBackend;
+import io.kubernetes.client.openapi.models.V1TypedLocalObjectReference;
+import java.io.IOException;
+
+/** Reads and writes {@link ExtensionsV1beta1IngressBackend} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class ExtensionsV1beta1IngressBackendTypeAdapter
+    extends TypeAdapter<ExtensionsV1beta1IngressBackend> {
+  private final TypeAdapter<V1TypedLocalObjectReference> v1TypedLocalObjectReferenceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+
+  public ExtensionsV1beta1IngressBackendTypeAdapter(Gson gson) {
+    this.v1TypedLocalObjectReferenceAdapter = gson.getAdapter(V1TypedLocalObjectReference.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, ExtensionsV1beta1IngressBackend value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("resource");
+    v1TypedLocalObjectReferenceAdapter.write(out, value.getResource());
+    out.name("serviceName");
+    stringAdapter.write(out, value.getServiceName());
+    out.name("servicePort");
+    intOrStringAdapter.write(out, value.getServicePort());
+    out.endObject();
+  }
+
+  @Override
+  public ExtensionsV1beta1IngressBackend read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    ExtensionsV1beta1IngressBackend value = new ExtensionsV1beta1IngressBackend();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "resource":
+          value.setResource(v1TypedLocalObjectReferenceAdapter.read(in));
+          break;
+        case "serviceName":
+          value.setServiceName(stringAdapter.read(in));
+          break;
+        case "servicePort":
+          value.setServicePort(intOrStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
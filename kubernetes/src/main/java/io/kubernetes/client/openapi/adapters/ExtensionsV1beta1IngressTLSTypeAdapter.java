@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressTLS;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link ExtensionsV1beta1IngressTLS} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class ExtensionsV1beta1IngressTLSTypeAdapter
+    extends TypeAdapter<ExtensionsV1beta1IngressTLS> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public ExtensionsV1beta1IngressTLSTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, ExtensionsV1beta1IngressTLS value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("hosts");
+    listStringAdapter.write(out, value.getHosts());
+    out.name("secretName");
+    stringAdapter.write(out, value.getSecretName());
+    out.endObject();
+  }
+
+  @Override
+  public ExtensionsV1beta1IngressTLS read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    ExtensionsV1beta1IngressTLS value = new ExtensionsV1beta1IngressTLS();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "hosts":
+          value.setHosts(listStringAdapter.read(in));
+          break;
+        case "secretName":
+          value.setSecretName(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1Ingress;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressSpec;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import java.io.IOException;
+
+/** Reads and writes {@link ExtensionsV1beta1Ingress} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class ExtensionsV1beta1IngressTypeAdapter extends TypeAdapter<ExtensionsV1beta1Ingress> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<ExtensionsV1beta1IngressSpec> extensionsV1beta1IngressSpecAdapter;
+  private final TypeAdapter<ExtensionsV1beta1IngressStatus> extensionsV1beta1IngressStatusAdapter;
+
+  public ExtensionsV1beta1IngressTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.extensionsV1beta1IngressSpecAdapter = gson.getAdapter(ExtensionsV1beta1IngressSpec.class);
+    this.extensionsV1beta1IngressStatusAdapter =
+        gson.getAdapter(ExtensionsV1beta1IngressStatus.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, ExtensionsV1beta1Ingress value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("spec");
+    extensionsV1beta1IngressSpecAdapter.write(out, value.getSpec());
+    out.name("status");
+    extensionsV1beta1IngressStatusAdapter.write(out, value.getStatus());
+    out.endObject();
+  }
+
+  @Override
+  public ExtensionsV1beta1Ingress read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    ExtensionsV1beta1Ingress value = new ExtensionsV1beta1Ingress();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "spec":
+          value.setSpec(extensionsV1beta1IngressSpecAdapter.read(in));
+          break;
+        case "status":
+          value.setStatus(extensionsV1beta1IngressStatusAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.FlowcontrolV1alpha1Subject;
+import io.kubernetes.client.openapi.models.V1alpha1GroupSubject;
+import io.kubernetes.client.openapi.models.V1alpha1ServiceAccountSubject;
+import io.kubernetes.client.openapi.models.V1alpha1UserSubject;
+import java.io.IOException;
+
+/** Reads and writes {@link FlowcontrolV1alpha1Subject} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class FlowcontrolV1alpha1SubjectTypeAdapter extends TypeAdapter<FlowcontrolV1alpha1Subject> {
+  private final TypeAdapter<V1alpha1GroupSubject> v1alpha1GroupSubjectAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1alpha1ServiceAccountSubject> v1alpha1ServiceAccountSubjectAdapter;
+  private final TypeAdapter<V1alpha1UserSubject> v1alpha1UserSubjectAdapter;
+
+  public FlowcontrolV1alpha1SubjectTypeAdapter(Gson gson) {
+    this.v1alpha1GroupSubjectAdapter = gson.getAdapter(V1alpha1GroupSubject.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1alpha1ServiceAccountSubjectAdapter =
+        gson.getAdapter(V1alpha1ServiceAccountSubject.class);
+    this.v1alpha1UserSubjectAdapter = gson.getAdapter(V1alpha1UserSubject.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, FlowcontrolV1alpha1Subject value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("group");
+    v1alpha1GroupSubjectAdapter.write(out, value.getGroup());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("serviceAccount");
+    v1alpha1ServiceAccountSubjectAdapter.write(out, value.getServiceAccount());
+    out.name("user");
+    v1alpha1UserSubjectAdapter.write(out, value.getUser());
+    out.endObject();
+  }
+
+  @Override
+  public FlowcontrolV1alpha1Subject read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    FlowcontrolV1alpha1Subject value = new FlowcontrolV1alpha1Subject();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "group":
+          value.setGroup(v1alpha1GroupSubjectAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "serviceAccount":
+          value.setServiceAccount(v1alpha1ServiceAccountSubjectAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(v1alpha1UserSubjectAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
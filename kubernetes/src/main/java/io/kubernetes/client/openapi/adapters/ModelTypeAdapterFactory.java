@@ -0,0 +1,1428 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1ServiceReference;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1beta1ServiceReference;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1beta1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.ApiextensionsV1ServiceReference;
+import io.kubernetes.client.openapi.models.ApiextensionsV1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.ApiextensionsV1beta1ServiceReference;
+import io.kubernetes.client.openapi.models.ApiextensionsV1beta1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.ApiregistrationV1ServiceReference;
+import io.kubernetes.client.openapi.models.ApiregistrationV1beta1ServiceReference;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventList;
+import io.kubernetes.client.openapi.models.CoreV1EventSeries;
+import io.kubernetes.client.openapi.models.EventsV1Event;
+import io.kubernetes.client.openapi.models.EventsV1EventList;
+import io.kubernetes.client.openapi.models.EventsV1EventSeries;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1HTTPIngressPath;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1HTTPIngressRuleValue;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1Ingress;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressBackend;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressList;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressRule;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressSpec;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressStatus;
+import io.kubernetes.client.openapi.models.ExtensionsV1beta1IngressTLS;
+import io.kubernetes.client.openapi.models.FlowcontrolV1alpha1Subject;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1HTTPIngressPath;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1HTTPIngressRuleValue;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1Ingress;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressBackend;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressList;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressRule;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressSpec;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressStatus;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressTLS;
+import io.kubernetes.client.openapi.models.RbacV1alpha1Subject;
+import io.kubernetes.client.openapi.models.V1APIGroup;
+import io.kubernetes.client.openapi.models.V1APIGroupList;
+import io.kubernetes.client.openapi.models.V1APIResource;
+import io.kubernetes.client.openapi.models.V1APIResourceList;
+import io.kubernetes.client.openapi.models.V1APIService;
+import io.kubernetes.client.openapi.models.V1APIServiceCondition;
+import io.kubernetes.client.openapi.models.V1APIServiceList;
+import io.kubernetes.client.openapi.models.V1APIServiceSpec;
+import io.kubernetes.client.openapi.models.V1APIServiceStatus;
+import io.kubernetes.client.openapi.models.V1APIVersions;
+import io.kubernetes.client.openapi.models.V1AWSElasticBlockStoreVolumeSource;
+import io.kubernetes.client.openapi.models.V1Affinity;
+import io.kubernetes.client.openapi.models.V1AggregationRule;
+import io.kubernetes.client.openapi.models.V1AttachedVolume;
+import io.kubernetes.client.openapi.models.V1AzureDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1AzureFilePersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1AzureFileVolumeSource;
+import io.kubernetes.client.openapi.models.V1Binding;
+import io.kubernetes.client.openapi.models.V1BoundObjectReference;
+import io.kubernetes.client.openapi.models.V1CSIDriver;
+import io.kubernetes.client.openapi.models.V1CSIDriverList;
+import io.kubernetes.client.openapi.models.V1CSIDriverSpec;
+import io.kubernetes.client.openapi.models.V1CSINode;
+import io.kubernetes.client.openapi.models.V1CSINodeDriver;
+import io.kubernetes.client.openapi.models.V1CSINodeList;
+import io.kubernetes.client.openapi.models.V1CSINodeSpec;
+import io.kubernetes.client.openapi.models.V1CSIPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1CSIVolumeSource;
+import io.kubernetes.client.openapi.models.V1Capabilities;
+import io.kubernetes.client.openapi.models.V1CephFSPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1CephFSVolumeSource;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequest;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestCondition;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestList;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestSpec;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestStatus;
+import io.kubernetes.client.openapi.models.V1CinderPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1CinderVolumeSource;
+import io.kubernetes.client.openapi.models.V1ClientIPConfig;
+import io.kubernetes.client.openapi.models.V1ClusterRole;
+import io.kubernetes.client.openapi.models.V1ClusterRoleBinding;
+import io.kubernetes.client.openapi.models.V1ClusterRoleBindingList;
+import io.kubernetes.client.openapi.models.V1ClusterRoleList;
+import io.kubernetes.client.openapi.models.V1ComponentCondition;
+import io.kubernetes.client.openapi.models.V1ComponentStatus;
+import io.kubernetes.client.openapi.models.V1ComponentStatusList;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapEnvSource;
+import io.kubernetes.client.openapi.models.V1ConfigMapKeySelector;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ConfigMapNodeConfigSource;
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
+import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerImage;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ControllerRevision;
+import io.kubernetes.client.openapi.models.V1ControllerRevisionList;
+import io.kubernetes.client.openapi.models.V1CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V1CustomResourceColumnDefinition;
+import io.kubernetes.client.openapi.models.V1CustomResourceConversion;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionCondition;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionList;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionNames;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionSpec;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionStatus;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionVersion;
+import io.kubernetes.client.openapi.models.V1CustomResourceSubresourceScale;
+import io.kubernetes.client.openapi.models.V1CustomResourceSubresources;
+import io.kubernetes.client.openapi.models.V1CustomResourceValidation;
+import io.kubernetes.client.openapi.models.V1DaemonEndpoint;
+import io.kubernetes.client.openapi.models.V1DaemonSet;
+import io.kubernetes.client.openapi.models.V1DaemonSetCondition;
+import io.kubernetes.client.openapi.models.V1DaemonSetList;
+import io.kubernetes.client.openapi.models.V1DaemonSetSpec;
+import io.kubernetes.client.openapi.models.V1DaemonSetStatus;
+import io.kubernetes.client.openapi.models.V1DaemonSetUpdateStrategy;
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentCondition;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1DeploymentStatus;
+import io.kubernetes.client.openapi.models.V1DeploymentStrategy;
+import io.kubernetes.client.openapi.models.V1DownwardAPIProjection;
+import io.kubernetes.client.openapi.models.V1DownwardAPIVolumeFile;
+import io.kubernetes.client.openapi.models.V1DownwardAPIVolumeSource;
+import io.kubernetes.client.openapi.models.V1EmptyDirVolumeSource;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
+import io.kubernetes.client.openapi.models.V1EndpointPort;
+import io.kubernetes.client.openapi.models.V1EndpointSubset;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsList;
+import io.kubernetes.client.openapi.models.V1EnvFromSource;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1EphemeralContainer;
+import io.kubernetes.client.openapi.models.V1EphemeralVolumeSource;
+import io.kubernetes.client.openapi.models.V1EventSource;
+import io.kubernetes.client.openapi.models.V1ExecAction;
+import io.kubernetes.client.openapi.models.V1ExternalDocumentation;
+import io.kubernetes.client.openapi.models.V1FCVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlexPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlexVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlockerVolumeSource;
+import io.kubernetes.client.openapi.models.V1GCEPersistentDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1GitRepoVolumeSource;
+import io.kubernetes.client.openapi.models.V1GlusterfsPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1GlusterfsVolumeSource;
+import io.kubernetes.client.openapi.models.V1GroupVersionForDiscovery;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1HTTPHeader;
+import io.kubernetes.client.openapi.models.V1HTTPIngressPath;
+import io.kubernetes.client.openapi.models.V1HTTPIngressRuleValue;
+import io.kubernetes.client.openapi.models.V1Handler;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscaler;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscalerList;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscalerSpec;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscalerStatus;
+import io.kubernetes.client.openapi.models.V1HostAlias;
+import io.kubernetes.client.openapi.models.V1HostPathVolumeSource;
+import io.kubernetes.client.openapi.models.V1IPBlock;
+import io.kubernetes.client.openapi.models.V1ISCSIPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1ISCSIVolumeSource;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1IngressBackend;
+import io.kubernetes.client.openapi.models.V1IngressClass;
+import io.kubernetes.client.openapi.models.V1IngressClassList;
+import io.kubernetes.client.openapi.models.V1IngressClassSpec;
+import io.kubernetes.client.openapi.models.V1IngressList;
+import io.kubernetes.client.openapi.models.V1IngressRule;
+import io.kubernetes.client.openapi.models.V1IngressServiceBackend;
+import io.kubernetes.client.openapi.models.V1IngressSpec;
+import io.kubernetes.client.openapi.models.V1IngressStatus;
+import io.kubernetes.client.openapi.models.V1IngressTLS;
+import io.kubernetes.client.openapi.models.V1JSONSchemaProps;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1JobSpec;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import io.kubernetes.client.openapi.models.V1KeyToPath;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1LabelSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1Lifecycle;
+import io.kubernetes.client.openapi.models.V1LimitRange;
+import io.kubernetes.client.openapi.models.V1LimitRangeItem;
+import io.kubernetes.client.openapi.models.V1LimitRangeList;
+import io.kubernetes.client.openapi.models.V1LimitRangeSpec;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1LoadBalancerIngress;
+import io.kubernetes.client.openapi.models.V1LoadBalancerStatus;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1LocalSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1LocalVolumeSource;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1MutatingWebhook;
+import io.kubernetes.client.openapi.models.V1MutatingWebhookConfiguration;
+import io.kubernetes.client.openapi.models.V1MutatingWebhookConfigurationList;
+import io.kubernetes.client.openapi.models.V1NFSVolumeSource;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1NamespaceCondition;
+import io.kubernetes.client.openapi.models.V1NamespaceList;
+import io.kubernetes.client.openapi.models.V1NamespaceSpec;
+import io.kubernetes.client.openapi.models.V1NamespaceStatus;
+import io.kubernetes.client.openapi.models.V1NetworkPolicy;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyEgressRule;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyIngressRule;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyList;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPeer;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPort;
+import io.kubernetes.client.openapi.models.V1NetworkPolicySpec;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.kubernetes.client.openapi.models.V1NodeAddress;
+import io.kubernetes.client.openapi.models.V1NodeAffinity;
+import io.kubernetes.client.openapi.models.V1NodeCondition;
+import io.kubernetes.client.openapi.models.V1NodeConfigSource;
+import io.kubernetes.client.openapi.models.V1NodeConfigStatus;
+import io.kubernetes.client.openapi.models.V1NodeDaemonEndpoints;
+import io.kubernetes.client.openapi.models.V1NodeList;
+import io.kubernetes.client.openapi.models.V1NodeSelector;
+import io.kubernetes.client.openapi.models.V1NodeSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1NodeSelectorTerm;
+import io.kubernetes.client.openapi.models.V1NodeSpec;
+import io.kubernetes.client.openapi.models.V1NodeStatus;
+import io.kubernetes.client.openapi.models.V1NodeSystemInfo;
+import io.kubernetes.client.openapi.models.V1NonResourceAttributes;
+import io.kubernetes.client.openapi.models.V1NonResourceRule;
+import io.kubernetes.client.openapi.models.V1ObjectFieldSelector;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1PersistentVolume;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimCondition;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimSpec;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimStatus;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimTemplate;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimVolumeSource;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeList;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeSpec;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeStatus;
+import io.kubernetes.client.openapi.models.V1PhotonPersistentDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodAffinity;
+import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
+import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodDNSConfig;
+import io.kubernetes.client.openapi.models.V1PodDNSConfigOption;
+import io.kubernetes.client.openapi.models.V1PodIP;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodReadinessGate;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1PodTemplate;
+import io.kubernetes.client.openapi.models.V1PodTemplateList;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import io.kubernetes.client.openapi.models.V1PolicyRule;
+import io.kubernetes.client.openapi.models.V1PortworxVolumeSource;
+import io.kubernetes.client.openapi.models.V1Preconditions;
+import io.kubernetes.client.openapi.models.V1PreferredSchedulingTerm;
+import io.kubernetes.client.openapi.models.V1PriorityClass;
+import io.kubernetes.client.openapi.models.V1PriorityClassList;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
+import io.kubernetes.client.openapi.models.V1QuobyteVolumeSource;
+import io.kubernetes.client.openapi.models.V1RBDPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1RBDVolumeSource;
+import io.kubernetes.client.openapi.models.V1ReplicaSet;
+import io.kubernetes.client.openapi.models.V1ReplicaSetCondition;
+import io.kubernetes.client.openapi.models.V1ReplicaSetList;
+import io.kubernetes.client.openapi.models.V1ReplicaSetSpec;
+import io.kubernetes.client.openapi.models.V1ReplicaSetStatus;
+import io.kubernetes.client.openapi.models.V1ReplicationController;
+import io.kubernetes.client.openapi.models.V1ReplicationControllerCondition;
+import io.kubernetes.client.openapi.models.V1ReplicationControllerList;
+import io.kubernetes.client.openapi.models.V1ReplicationControllerSpec;
+import io.kubernetes.client.openapi.models.V1ReplicationControllerStatus;
+import io.kubernetes.client.openapi.models.V1ResourceAttributes;
+import io.kubernetes.client.openapi.models.V1ResourceFieldSelector;
+import io.kubernetes.client.openapi.models.V1ResourceQuota;
+import io.kubernetes.client.openapi.models.V1ResourceQuotaList;
+import io.kubernetes.client.openapi.models.V1ResourceQuotaSpec;
+import io.kubernetes.client.openapi.models.V1ResourceQuotaStatus;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1ResourceRule;
+import io.kubernetes.client.openapi.models.V1Role;
+import io.kubernetes.client.openapi.models.V1RoleBinding;
+import io.kubernetes.client.openapi.models.V1RoleBindingList;
+import io.kubernetes.client.openapi.models.V1RoleList;
+import io.kubernetes.client.openapi.models.V1RoleRef;
+import io.kubernetes.client.openapi.models.V1RollingUpdateDaemonSet;
+import io.kubernetes.client.openapi.models.V1RollingUpdateDeployment;
+import io.kubernetes.client.openapi.models.V1RollingUpdateStatefulSetStrategy;
+import io.kubernetes.client.openapi.models.V1RuleWithOperations;
+import io.kubernetes.client.openapi.models.V1SELinuxOptions;
+import io.kubernetes.client.openapi.models.V1Scale;
+import io.kubernetes.client.openapi.models.V1ScaleIOPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1ScaleIOVolumeSource;
+import io.kubernetes.client.openapi.models.V1ScaleSpec;
+import io.kubernetes.client.openapi.models.V1ScaleStatus;
+import io.kubernetes.client.openapi.models.V1ScopeSelector;
+import io.kubernetes.client.openapi.models.V1ScopedResourceSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1SeccompProfile;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretEnvSource;
+import io.kubernetes.client.openapi.models.V1SecretKeySelector;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import io.kubernetes.client.openapi.models.V1SecretProjection;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecurityContext;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReviewSpec;
+import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
+import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
+import io.kubernetes.client.openapi.models.V1ServerAddressByClientCIDR;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceAccount;
+import io.kubernetes.client.openapi.models.V1ServiceAccountList;
+import io.kubernetes.client.openapi.models.V1ServiceAccountTokenProjection;
+import io.kubernetes.client.openapi.models.V1ServiceBackendPort;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1ServiceStatus;
+import io.kubernetes.client.openapi.models.V1SessionAffinityConfig;
+import io.kubernetes.client.openapi.models.V1StatefulSet;
+import io.kubernetes.client.openapi.models.V1StatefulSetCondition;
+import io.kubernetes.client.openapi.models.V1StatefulSetList;
+import io.kubernetes.client.openapi.models.V1StatefulSetSpec;
+import io.kubernetes.client.openapi.models.V1StatefulSetStatus;
+import io.kubernetes.client.openapi.models.V1StatefulSetUpdateStrategy;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.openapi.models.V1StatusCause;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
+import io.kubernetes.client.openapi.models.V1StorageClass;
+import io.kubernetes.client.openapi.models.V1StorageClassList;
+import io.kubernetes.client.openapi.models.V1StorageOSPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1StorageOSVolumeSource;
+import io.kubernetes.client.openapi.models.V1Subject;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import io.kubernetes.client.openapi.models.V1Sysctl;
+import io.kubernetes.client.openapi.models.V1TCPSocketAction;
+import io.kubernetes.client.openapi.models.V1Taint;
+import io.kubernetes.client.openapi.models.V1TokenRequest;
+import io.kubernetes.client.openapi.models.V1TokenRequestSpec;
+import io.kubernetes.client.openapi.models.V1TokenRequestStatus;
+import io.kubernetes.client.openapi.models.V1TokenReview;
+import io.kubernetes.client.openapi.models.V1TokenReviewSpec;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import io.kubernetes.client.openapi.models.V1TopologySelectorLabelRequirement;
+import io.kubernetes.client.openapi.models.V1TopologySelectorTerm;
+import io.kubernetes.client.openapi.models.V1TopologySpreadConstraint;
+import io.kubernetes.client.openapi.models.V1TypedLocalObjectReference;
+import io.kubernetes.client.openapi.models.V1UserInfo;
+import io.kubernetes.client.openapi.models.V1ValidatingWebhook;
+import io.kubernetes.client.openapi.models.V1ValidatingWebhookConfiguration;
+import io.kubernetes.client.openapi.models.V1ValidatingWebhookConfigurationList;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeAttachment;
+import io.kubernetes.client.openapi.models.V1VolumeAttachmentList;
+import io.kubernetes.client.openapi.models.V1VolumeAttachmentSource;
+import io.kubernetes.client.openapi.models.V1VolumeAttachmentSpec;
+import io.kubernetes.client.openapi.models.V1VolumeAttachmentStatus;
+import io.kubernetes.client.openapi.models.V1VolumeDevice;
+import io.kubernetes.client.openapi.models.V1VolumeError;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.openapi.models.V1VolumeNodeAffinity;
+import io.kubernetes.client.openapi.models.V1VolumeNodeResources;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
+import io.kubernetes.client.openapi.models.V1VsphereVirtualDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1WatchEvent;
+import io.kubernetes.client.openapi.models.V1WebhookConversion;
+import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
+import io.kubernetes.client.openapi.models.V1WindowsSecurityContextOptions;
+import io.kubernetes.client.openapi.models.V1alpha1AggregationRule;
+import io.kubernetes.client.openapi.models.V1alpha1ClusterRole;
+import io.kubernetes.client.openapi.models.V1alpha1ClusterRoleBinding;
+import io.kubernetes.client.openapi.models.V1alpha1ClusterRoleBindingList;
+import io.kubernetes.client.openapi.models.V1alpha1ClusterRoleList;
+import io.kubernetes.client.openapi.models.V1alpha1FlowDistinguisherMethod;
+import io.kubernetes.client.openapi.models.V1alpha1FlowSchema;
+import io.kubernetes.client.openapi.models.V1alpha1FlowSchemaCondition;
+import io.kubernetes.client.openapi.models.V1alpha1FlowSchemaList;
+import io.kubernetes.client.openapi.models.V1alpha1FlowSchemaSpec;
+import io.kubernetes.client.openapi.models.V1alpha1FlowSchemaStatus;
+import io.kubernetes.client.openapi.models.V1alpha1GroupSubject;
+import io.kubernetes.client.openapi.models.V1alpha1LimitResponse;
+import io.kubernetes.client.openapi.models.V1alpha1LimitedPriorityLevelConfiguration;
+import io.kubernetes.client.openapi.models.V1alpha1NonResourcePolicyRule;
+import io.kubernetes.client.openapi.models.V1alpha1Overhead;
+import io.kubernetes.client.openapi.models.V1alpha1PodPreset;
+import io.kubernetes.client.openapi.models.V1alpha1PodPresetList;
+import io.kubernetes.client.openapi.models.V1alpha1PodPresetSpec;
+import io.kubernetes.client.openapi.models.V1alpha1PolicyRule;
+import io.kubernetes.client.openapi.models.V1alpha1PolicyRulesWithSubjects;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityClass;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityClassList;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfiguration;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationCondition;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationList;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationReference;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationSpec;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationStatus;
+import io.kubernetes.client.openapi.models.V1alpha1QueuingConfiguration;
+import io.kubernetes.client.openapi.models.V1alpha1ResourcePolicyRule;
+import io.kubernetes.client.openapi.models.V1alpha1Role;
+import io.kubernetes.client.openapi.models.V1alpha1RoleBinding;
+import io.kubernetes.client.openapi.models.V1alpha1RoleBindingList;
+import io.kubernetes.client.openapi.models.V1alpha1RoleList;
+import io.kubernetes.client.openapi.models.V1alpha1RoleRef;
+import io.kubernetes.client.openapi.models.V1alpha1RuntimeClass;
+import io.kubernetes.client.openapi.models.V1alpha1RuntimeClassList;
+import io.kubernetes.client.openapi.models.V1alpha1RuntimeClassSpec;
+import io.kubernetes.client.openapi.models.V1alpha1Scheduling;
+import io.kubernetes.client.openapi.models.V1alpha1ServiceAccountSubject;
+import io.kubernetes.client.openapi.models.V1alpha1UserSubject;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachment;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentList;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentSource;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentSpec;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentStatus;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeError;
+import io.kubernetes.client.openapi.models.V1beta1APIService;
+import io.kubernetes.client.openapi.models.V1beta1APIServiceCondition;
+import io.kubernetes.client.openapi.models.V1beta1APIServiceList;
+import io.kubernetes.client.openapi.models.V1beta1APIServiceSpec;
+import io.kubernetes.client.openapi.models.V1beta1APIServiceStatus;
+import io.kubernetes.client.openapi.models.V1beta1AggregationRule;
+import io.kubernetes.client.openapi.models.V1beta1AllowedCSIDriver;
+import io.kubernetes.client.openapi.models.V1beta1AllowedFlexVolume;
+import io.kubernetes.client.openapi.models.V1beta1AllowedHostPath;
+import io.kubernetes.client.openapi.models.V1beta1CSIDriver;
+import io.kubernetes.client.openapi.models.V1beta1CSIDriverList;
+import io.kubernetes.client.openapi.models.V1beta1CSIDriverSpec;
+import io.kubernetes.client.openapi.models.V1beta1CSINode;
+import io.kubernetes.client.openapi.models.V1beta1CSINodeDriver;
+import io.kubernetes.client.openapi.models.V1beta1CSINodeList;
+import io.kubernetes.client.openapi.models.V1beta1CSINodeSpec;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequest;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequestCondition;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequestList;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequestSpec;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequestStatus;
+import io.kubernetes.client.openapi.models.V1beta1ClusterRole;
+import io.kubernetes.client.openapi.models.V1beta1ClusterRoleBinding;
+import io.kubernetes.client.openapi.models.V1beta1ClusterRoleBindingList;
+import io.kubernetes.client.openapi.models.V1beta1ClusterRoleList;
+import io.kubernetes.client.openapi.models.V1beta1CronJob;
+import io.kubernetes.client.openapi.models.V1beta1CronJobList;
+import io.kubernetes.client.openapi.models.V1beta1CronJobSpec;
+import io.kubernetes.client.openapi.models.V1beta1CronJobStatus;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceColumnDefinition;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceConversion;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionCondition;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionList;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionNames;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionSpec;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionStatus;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionVersion;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresourceScale;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresources;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceValidation;
+import io.kubernetes.client.openapi.models.V1beta1Endpoint;
+import io.kubernetes.client.openapi.models.V1beta1EndpointConditions;
+import io.kubernetes.client.openapi.models.V1beta1EndpointPort;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSliceList;
+import io.kubernetes.client.openapi.models.V1beta1Event;
+import io.kubernetes.client.openapi.models.V1beta1EventList;
+import io.kubernetes.client.openapi.models.V1beta1EventSeries;
+import io.kubernetes.client.openapi.models.V1beta1Eviction;
+import io.kubernetes.client.openapi.models.V1beta1ExternalDocumentation;
+import io.kubernetes.client.openapi.models.V1beta1FSGroupStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1HostPortRange;
+import io.kubernetes.client.openapi.models.V1beta1IDRange;
+import io.kubernetes.client.openapi.models.V1beta1IngressClass;
+import io.kubernetes.client.openapi.models.V1beta1IngressClassList;
+import io.kubernetes.client.openapi.models.V1beta1IngressClassSpec;
+import io.kubernetes.client.openapi.models.V1beta1JSONSchemaProps;
+import io.kubernetes.client.openapi.models.V1beta1JobTemplateSpec;
+import io.kubernetes.client.openapi.models.V1beta1Lease;
+import io.kubernetes.client.openapi.models.V1beta1LeaseList;
+import io.kubernetes.client.openapi.models.V1beta1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1beta1LocalSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1beta1MutatingWebhook;
+import io.kubernetes.client.openapi.models.V1beta1MutatingWebhookConfiguration;
+import io.kubernetes.client.openapi.models.V1beta1MutatingWebhookConfigurationList;
+import io.kubernetes.client.openapi.models.V1beta1NonResourceAttributes;
+import io.kubernetes.client.openapi.models.V1beta1NonResourceRule;
+import io.kubernetes.client.openapi.models.V1beta1Overhead;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetSpec;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetStatus;
+import io.kubernetes.client.openapi.models.V1beta1PodSecurityPolicy;
+import io.kubernetes.client.openapi.models.V1beta1PodSecurityPolicyList;
+import io.kubernetes.client.openapi.models.V1beta1PodSecurityPolicySpec;
+import io.kubernetes.client.openapi.models.V1beta1PolicyRule;
+import io.kubernetes.client.openapi.models.V1beta1PriorityClass;
+import io.kubernetes.client.openapi.models.V1beta1PriorityClassList;
+import io.kubernetes.client.openapi.models.V1beta1ResourceAttributes;
+import io.kubernetes.client.openapi.models.V1beta1ResourceRule;
+import io.kubernetes.client.openapi.models.V1beta1Role;
+import io.kubernetes.client.openapi.models.V1beta1RoleBinding;
+import io.kubernetes.client.openapi.models.V1beta1RoleBindingList;
+import io.kubernetes.client.openapi.models.V1beta1RoleList;
+import io.kubernetes.client.openapi.models.V1beta1RoleRef;
+import io.kubernetes.client.openapi.models.V1beta1RuleWithOperations;
+import io.kubernetes.client.openapi.models.V1beta1RunAsGroupStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1RunAsUserStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1RuntimeClass;
+import io.kubernetes.client.openapi.models.V1beta1RuntimeClassList;
+import io.kubernetes.client.openapi.models.V1beta1RuntimeClassStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1SELinuxStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1Scheduling;
+import io.kubernetes.client.openapi.models.V1beta1SelfSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1beta1SelfSubjectAccessReviewSpec;
+import io.kubernetes.client.openapi.models.V1beta1SelfSubjectRulesReview;
+import io.kubernetes.client.openapi.models.V1beta1SelfSubjectRulesReviewSpec;
+import io.kubernetes.client.openapi.models.V1beta1StorageClass;
+import io.kubernetes.client.openapi.models.V1beta1StorageClassList;
+import io.kubernetes.client.openapi.models.V1beta1Subject;
+import io.kubernetes.client.openapi.models.V1beta1SubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1beta1SubjectAccessReviewSpec;
+import io.kubernetes.client.openapi.models.V1beta1SubjectAccessReviewStatus;
+import io.kubernetes.client.openapi.models.V1beta1SubjectRulesReviewStatus;
+import io.kubernetes.client.openapi.models.V1beta1SupplementalGroupsStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1TokenReview;
+import io.kubernetes.client.openapi.models.V1beta1TokenReviewSpec;
+import io.kubernetes.client.openapi.models.V1beta1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1beta1UserInfo;
+import io.kubernetes.client.openapi.models.V1beta1ValidatingWebhook;
+import io.kubernetes.client.openapi.models.V1beta1ValidatingWebhookConfiguration;
+import io.kubernetes.client.openapi.models.V1beta1ValidatingWebhookConfigurationList;
+import io.kubernetes.client.openapi.models.V1beta1VolumeAttachment;
+import io.kubernetes.client.openapi.models.V1beta1VolumeAttachmentList;
+import io.kubernetes.client.openapi.models.V1beta1VolumeAttachmentSource;
+import io.kubernetes.client.openapi.models.V1beta1VolumeAttachmentSpec;
+import io.kubernetes.client.openapi.models.V1beta1VolumeAttachmentStatus;
+import io.kubernetes.client.openapi.models.V1beta1VolumeError;
+import io.kubernetes.client.openapi.models.V1beta1VolumeNodeResources;
+import io.kubernetes.client.openapi.models.V2alpha1CronJob;
+import io.kubernetes.client.openapi.models.V2alpha1CronJobList;
+import io.kubernetes.client.openapi.models.V2alpha1CronJobSpec;
+import io.kubernetes.client.openapi.models.V2alpha1CronJobStatus;
+import io.kubernetes.client.openapi.models.V2alpha1JobTemplateSpec;
+import io.kubernetes.client.openapi.models.V2beta1CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V2beta1ExternalMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1ExternalMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscaler;
+import io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscalerCondition;
+import io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscalerList;
+import io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscalerSpec;
+import io.kubernetes.client.openapi.models.V2beta1HorizontalPodAutoscalerStatus;
+import io.kubernetes.client.openapi.models.V2beta1MetricSpec;
+import io.kubernetes.client.openapi.models.V2beta1MetricStatus;
+import io.kubernetes.client.openapi.models.V2beta1ObjectMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1ObjectMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta1PodsMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1PodsMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta1ResourceMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1ResourceMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V2beta2ExternalMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2ExternalMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2HPAScalingPolicy;
+import io.kubernetes.client.openapi.models.V2beta2HPAScalingRules;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscaler;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerBehavior;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerCondition;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerList;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerSpec;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerStatus;
+import io.kubernetes.client.openapi.models.V2beta2MetricIdentifier;
+import io.kubernetes.client.openapi.models.V2beta2MetricSpec;
+import io.kubernetes.client.openapi.models.V2beta2MetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2MetricTarget;
+import io.kubernetes.client.openapi.models.V2beta2MetricValueStatus;
+import io.kubernetes.client.openapi.models.V2beta2ObjectMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2ObjectMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2PodsMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2PodsMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2ResourceMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2ResourceMetricStatus;
+import io.kubernetes.client.openapi.models.VersionInfo;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ModelTypeAdapterFactory creates the generated type adapters of the models, which read and write
+ * them w/o reflection. Only the models themselves are handled, the subclasses of a model are left
+ * to the reflective adapters.
+ */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+  private static final Map<Class<?>, Function<Gson, TypeAdapter<?>>> adapters = new HashMap<>();
+
+  static {
+    adapters.put(
+        AdmissionregistrationV1ServiceReference.class,
+        AdmissionregistrationV1ServiceReferenceTypeAdapter::new);
+    adapters.put(
+        AdmissionregistrationV1WebhookClientConfig.class,
+        AdmissionregistrationV1WebhookClientConfigTypeAdapter::new);
+    adapters.put(
+        AdmissionregistrationV1beta1ServiceReference.class,
+        AdmissionregistrationV1beta1ServiceReferenceTypeAdapter::new);
+    adapters.put(
+        AdmissionregistrationV1beta1WebhookClientConfig.class,
+        AdmissionregistrationV1beta1WebhookClientConfigTypeAdapter::new);
+    adapters.put(
+        ApiextensionsV1ServiceReference.class, ApiextensionsV1ServiceReferenceTypeAdapter::new);
+    adapters.put(
+        ApiextensionsV1WebhookClientConfig.class,
+        ApiextensionsV1WebhookClientConfigTypeAdapter::new);
+    adapters.put(
+        ApiextensionsV1beta1ServiceReference.class,
+        ApiextensionsV1beta1ServiceReferenceTypeAdapter::new);
+    adapters.put(
+        ApiextensionsV1beta1WebhookClientConfig.class,
+        ApiextensionsV1beta1WebhookClientConfigTypeAdapter::new);
+    adapters.put(
+        ApiregistrationV1ServiceReference.class, ApiregistrationV1ServiceReferenceTypeAdapter::new);
+    adapters.put(
+        ApiregistrationV1beta1ServiceReference.class,
+        ApiregistrationV1beta1ServiceReferenceTypeAdapter::new);
+    adapters.put(CoreV1Event.class, CoreV1EventTypeAdapter::new);
+    adapters.put(CoreV1EventList.class, CoreV1EventListTypeAdapter::new);
+    adapters.put(CoreV1EventSeries.class, CoreV1EventSeriesTypeAdapter::new);
+    adapters.put(EventsV1Event.class, EventsV1EventTypeAdapter::new);
+    adapters.put(EventsV1EventList.class, EventsV1EventListTypeAdapter::new);
+    adapters.put(EventsV1EventSeries.class, EventsV1EventSeriesTypeAdapter::new);
+    adapters.put(
+        ExtensionsV1beta1HTTPIngressPath.class, ExtensionsV1beta1HTTPIngressPathTypeAdapter::new);
+    adapters.put(
+        ExtensionsV1beta1HTTPIngressRuleValue.class,
+        ExtensionsV1beta1HTTPIngressRuleValueTypeAdapter::new);
+    adapters.put(ExtensionsV1beta1Ingress.class, ExtensionsV1beta1IngressTypeAdapter::new);
+    adapters.put(
+        ExtensionsV1beta1IngressBackend.class, ExtensionsV1beta1IngressBackendTypeAdapter::new);
+    adapters.put(ExtensionsV1beta1IngressList.class, ExtensionsV1beta1IngressListTypeAdapter::new);
+    adapters.put(ExtensionsV1beta1IngressRule.class, ExtensionsV1beta1IngressRuleTypeAdapter::new);
+    adapters.put(ExtensionsV1beta1IngressSpec.class, ExtensionsV1beta1IngressSpecTypeAdapter::new);
+    adapters.put(
+        ExtensionsV1beta1IngressStatus.class, ExtensionsV1beta1IngressStatusTypeAdapter::new);
+    adapters.put(ExtensionsV1beta1IngressTLS.class, ExtensionsV1beta1IngressTLSTypeAdapter::new);
+    adapters.put(FlowcontrolV1alpha1Subject.class, FlowcontrolV1alpha1SubjectTypeAdapter::new);
+    adapters.put(
+        NetworkingV1beta1HTTPIngressPath.class, NetworkingV1beta1HTTPIngressPathTypeAdapter::new);
+    adapters.put(
+        NetworkingV1beta1HTTPIngressRuleValue.class,
+        NetworkingV1beta1HTTPIngressRuleValueTypeAdapter::new);
+    adapters.put(NetworkingV1beta1Ingress.class, NetworkingV1beta1IngressTypeAdapter::new);
+    adapters.put(
+        NetworkingV1beta1IngressBackend.class, NetworkingV1beta1IngressBackendTypeAdapter::new);
+    adapters.put(NetworkingV1beta1IngressList.class, NetworkingV1beta1IngressListTypeAdapter::new);
+    adapters.put(NetworkingV1beta1IngressRule.class, NetworkingV1beta1IngressRuleTypeAdapter::new);
+    adapters.put(NetworkingV1beta1IngressSpec.class, NetworkingV1beta1IngressSpecTypeAdapter::new);
+    adapters.put(
+        NetworkingV1beta1IngressStatus.class, NetworkingV1beta1IngressStatusTypeAdapter::new);
+    adapters.put(NetworkingV1beta1IngressTLS.class, NetworkingV1beta1IngressTLSTypeAdapter::new);
+    adapters.put(RbacV1alpha1Subject.class, RbacV1alpha1SubjectTypeAdapter::new);
+    adapters.put(V1APIGroup.class, V1APIGroupTypeAdapter::new);
+    adapters.put(V1APIGroupList.class, V1APIGroupListTypeAdapter::new);
+    adapters.put(V1APIResource.class, V1APIResourceTypeAdapter::new);
+    adapters.put(V1APIResourceList.class, V1APIResourceListTypeAdapter::new);
+    adapters.put(V1APIService.class, V1APIServiceTypeAdapter::new);
+    adapters.put(V1APIServiceCondition.class, V1APIServiceConditionTypeAdapter::new);
+    adapters.put(V1APIServiceList.class, V1APIServiceListTypeAdapter::new);
+    adapters.put(V1APIServiceSpec.class, V1APIServiceSpecTypeAdapter::new);
+    adapters.put(V1APIServiceStatus.class, V1APIServiceStatusTypeAdapter::new);
+    adapters.put(V1APIVersions.class, V1APIVersionsTypeAdapter::new);
+    adapters.put(
+        V1AWSElasticBlockStoreVolumeSource.class,
+        V1AWSElasticBlockStoreVolumeSourceTypeAdapter::new);
+    adapters.put(V1Affinity.class, V1AffinityTypeAdapter::new);
+    adapters.put(V1AggregationRule.class, V1AggregationRuleTypeAdapter::new);
+    adapters.put(V1AttachedVolume.class, V1AttachedVolumeTypeAdapter::new);
+    adapters.put(V1AzureDiskVolumeSource.class, V1AzureDiskVolumeSourceTypeAdapter::new);
+    adapters.put(
+        V1AzureFilePersistentVolumeSource.class, V1AzureFilePersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1AzureFileVolumeSource.class, V1AzureFileVolumeSourceTypeAdapter::new);
+    adapters.put(V1Binding.class, V1BindingTypeAdapter::new);
+    adapters.put(V1BoundObjectReference.class, V1BoundObjectReferenceTypeAdapter::new);
+    adapters.put(V1CSIDriver.class, V1CSIDriverTypeAdapter::new);
+    adapters.put(V1CSIDriverList.class, V1CSIDriverListTypeAdapter::new);
+    adapters.put(V1CSIDriverSpec.class, V1CSIDriverSpecTypeAdapter::new);
+    adapters.put(V1CSINode.class, V1CSINodeTypeAdapter::new);
+    adapters.put(V1CSINodeDriver.class, V1CSINodeDriverTypeAdapter::new);
+    adapters.put(V1CSINodeList.class, V1CSINodeListTypeAdapter::new);
+    adapters.put(V1CSINodeSpec.class, V1CSINodeSpecTypeAdapter::new);
+    adapters.put(V1CSIPersistentVolumeSource.class, V1CSIPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1CSIVolumeSource.class, V1CSIVolumeSourceTypeAdapter::new);
+    adapters.put(V1Capabilities.class, V1CapabilitiesTypeAdapter::new);
+    adapters.put(
+        V1CephFSPersistentVolumeSource.class, V1CephFSPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1CephFSVolumeSource.class, V1CephFSVolumeSourceTypeAdapter::new);
+    adapters.put(V1CertificateSigningRequest.class, V1CertificateSigningRequestTypeAdapter::new);
+    adapters.put(
+        V1CertificateSigningRequestCondition.class,
+        V1CertificateSigningRequestConditionTypeAdapter::new);
+    adapters.put(
+        V1CertificateSigningRequestList.class, V1CertificateSigningRequestListTypeAdapter::new);
+    adapters.put(
+        V1CertificateSigningRequestSpec.class, V1CertificateSigningRequestSpecTypeAdapter::new);
+    adapters.put(
+        V1CertificateSigningRequestStatus.class, V1CertificateSigningRequestStatusTypeAdapter::new);
+    adapters.put(
+        V1CinderPersistentVolumeSource.class, V1CinderPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1CinderVolumeSource.class, V1CinderVolumeSourceTypeAdapter::new);
+    adapters.put(V1ClientIPConfig.class, V1ClientIPConfigTypeAdapter::new);
+    adapters.put(V1ClusterRole.class, V1ClusterRoleTypeAdapter::new);
+    adapters.put(V1ClusterRoleBinding.class, V1ClusterRoleBindingTypeAdapter::new);
+    adapters.put(V1ClusterRoleBindingList.class, V1ClusterRoleBindingListTypeAdapter::new);
+    adapters.put(V1ClusterRoleList.class, V1ClusterRoleListTypeAdapter::new);
+    adapters.put(V1ComponentCondition.class, V1ComponentConditionTypeAdapter::new);
+    adapters.put(V1ComponentStatus.class, V1ComponentStatusTypeAdapter::new);
+    adapters.put(V1ComponentStatusList.class, V1ComponentStatusListTypeAdapter::new);
+    adapters.put(V1ConfigMap.class, V1ConfigMapTypeAdapter::new);
+    adapters.put(V1ConfigMapEnvSource.class, V1ConfigMapEnvSourceTypeAdapter::new);
+    adapters.put(V1ConfigMapKeySelector.class, V1ConfigMapKeySelectorTypeAdapter::new);
+    adapters.put(V1ConfigMapList.class, V1ConfigMapListTypeAdapter::new);
+    adapters.put(V1ConfigMapNodeConfigSource.class, V1ConfigMapNodeConfigSourceTypeAdapter::new);
+    adapters.put(V1ConfigMapProjection.class, V1ConfigMapProjectionTypeAdapter::new);
+    adapters.put(V1ConfigMapVolumeSource.class, V1ConfigMapVolumeSourceTypeAdapter::new);
+    adapters.put(V1Container.class, V1ContainerTypeAdapter::new);
+    adapters.put(V1ContainerImage.class, V1ContainerImageTypeAdapter::new);
+    adapters.put(V1ContainerPort.class, V1ContainerPortTypeAdapter::new);
+    adapters.put(V1ContainerState.class, V1ContainerStateTypeAdapter::new);
+    adapters.put(V1ContainerStateRunning.class, V1ContainerStateRunningTypeAdapter::new);
+    adapters.put(V1ContainerStateTerminated.class, V1ContainerStateTerminatedTypeAdapter::new);
+    adapters.put(V1ContainerStateWaiting.class, V1ContainerStateWaitingTypeAdapter::new);
+    adapters.put(V1ContainerStatus.class, V1ContainerStatusTypeAdapter::new);
+    adapters.put(V1ControllerRevision.class, V1ControllerRevisionTypeAdapter::new);
+    adapters.put(V1ControllerRevisionList.class, V1ControllerRevisionListTypeAdapter::new);
+    adapters.put(
+        V1CrossVersionObjectReference.class, V1CrossVersionObjectReferenceTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceColumnDefinition.class, V1CustomResourceColumnDefinitionTypeAdapter::new);
+    adapters.put(V1CustomResourceConversion.class, V1CustomResourceConversionTypeAdapter::new);
+    adapters.put(V1CustomResourceDefinition.class, V1CustomResourceDefinitionTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceDefinitionCondition.class,
+        V1CustomResourceDefinitionConditionTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceDefinitionList.class, V1CustomResourceDefinitionListTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceDefinitionNames.class, V1CustomResourceDefinitionNamesTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceDefinitionSpec.class, V1CustomResourceDefinitionSpecTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceDefinitionStatus.class, V1CustomResourceDefinitionStatusTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceDefinitionVersion.class, V1CustomResourceDefinitionVersionTypeAdapter::new);
+    adapters.put(
+        V1CustomResourceSubresourceScale.class, V1CustomResourceSubresourceScaleTypeAdapter::new);
+    adapters.put(V1CustomResourceSubresources.class, V1CustomResourceSubresourcesTypeAdapter::new);
+    adapters.put(V1CustomResourceValidation.class, V1CustomResourceValidationTypeAdapter::new);
+    adapters.put(V1DaemonEndpoint.class, V1DaemonEndpointTypeAdapter::new);
+    adapters.put(V1DaemonSet.class, V1DaemonSetTypeAdapter::new);
+    adapters.put(V1DaemonSetCondition.class, V1DaemonSetConditionTypeAdapter::new);
+    adapters.put(V1DaemonSetList.class, V1DaemonSetListTypeAdapter::new);
+    adapters.put(V1DaemonSetSpec.class, V1DaemonSetSpecTypeAdapter::new);
+    adapters.put(V1DaemonSetStatus.class, V1DaemonSetStatusTypeAdapter::new);
+    adapters.put(V1DaemonSetUpdateStrategy.class, V1DaemonSetUpdateStrategyTypeAdapter::new);
+    adapters.put(V1DeleteOptions.class, V1DeleteOptionsTypeAdapter::new);
+    adapters.put(V1Deployment.class, V1DeploymentTypeAdapter::new);
+    adapters.put(V1DeploymentCondition.class, V1DeploymentConditionTypeAdapter::new);
+    adapters.put(V1DeploymentList.class, V1DeploymentListTypeAdapter::new);
+    adapters.put(V1DeploymentSpec.class, V1DeploymentSpecTypeAdapter::new);
+    adapters.put(V1DeploymentStatus.class, V1DeploymentStatusTypeAdapter::new);
+    adapters.put(V1DeploymentStrategy.class, V1DeploymentStrategyTypeAdapter::new);
+    adapters.put(V1DownwardAPIProjection.class, V1DownwardAPIProjectionTypeAdapter::new);
+    adapters.put(V1DownwardAPIVolumeFile.class, V1DownwardAPIVolumeFileTypeAdapter::new);
+    adapters.put(V1DownwardAPIVolumeSource.class, V1DownwardAPIVolumeSourceTypeAdapter::new);
+    adapters.put(V1EmptyDirVolumeSource.class, V1EmptyDirVolumeSourceTypeAdapter::new);
+    adapters.put(V1EndpointAddress.class, V1EndpointAddressTypeAdapter::new);
+    adapters.put(V1EndpointPort.class, V1EndpointPortTypeAdapter::new);
+    adapters.put(V1EndpointSubset.class, V1EndpointSubsetTypeAdapter::new);
+    adapters.put(V1Endpoints.class, V1EndpointsTypeAdapter::new);
+    adapters.put(V1EndpointsList.class, V1EndpointsListTypeAdapter::new);
+    adapters.put(V1EnvFromSource.class, V1EnvFromSourceTypeAdapter::new);
+    adapters.put(V1EnvVar.class, V1EnvVarTypeAdapter::new);
+    adapters.put(V1EnvVarSource.class, V1EnvVarSourceTypeAdapter::new);
+    adapters.put(V1EphemeralContainer.class, V1EphemeralContainerTypeAdapter::new);
+    adapters.put(V1EphemeralVolumeSource.class, V1EphemeralVolumeSourceTypeAdapter::new);
+    adapters.put(V1EventSource.class, V1EventSourceTypeAdapter::new);
+    adapters.put(V1ExecAction.class, V1ExecActionTypeAdapter::new);
+    adapters.put(V1ExternalDocumentation.class, V1ExternalDocumentationTypeAdapter::new);
+    adapters.put(V1FCVolumeSource.class, V1FCVolumeSourceTypeAdapter::new);
+    adapters.put(V1FlexPersistentVolumeSource.class, V1FlexPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1FlexVolumeSource.class, V1FlexVolumeSourceTypeAdapter::new);
+    adapters.put(V1FlockerVolumeSource.class, V1FlockerVolumeSourceTypeAdapter::new);
+    adapters.put(
+        V1GCEPersistentDiskVolumeSource.class, V1GCEPersistentDiskVolumeSourceTypeAdapter::new);
+    adapters.put(V1GitRepoVolumeSource.class, V1GitRepoVolumeSourceTypeAdapter::new);
+    adapters.put(
+        V1GlusterfsPersistentVolumeSource.class, V1GlusterfsPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1GlusterfsVolumeSource.class, V1GlusterfsVolumeSourceTypeAdapter::new);
+    adapters.put(V1GroupVersionForDiscovery.class, V1GroupVersionForDiscoveryTypeAdapter::new);
+    adapters.put(V1HTTPGetAction.class, V1HTTPGetActionTypeAdapter::new);
+    adapters.put(V1HTTPHeader.class, V1HTTPHeaderTypeAdapter::new);
+    adapters.put(V1HTTPIngressPath.class, V1HTTPIngressPathTypeAdapter::new);
+    adapters.put(V1HTTPIngressRuleValue.class, V1HTTPIngressRuleValueTypeAdapter::new);
+    adapters.put(V1Handler.class, V1HandlerTypeAdapter::new);
+    adapters.put(V1HorizontalPodAutoscaler.class, V1HorizontalPodAutoscalerTypeAdapter::new);
+    adapters.put(
+        V1HorizontalPodAutoscalerList.class, V1HorizontalPodAutoscalerListTypeAdapter::new);
+    adapters.put(
+        V1HorizontalPodAutoscalerSpec.class, V1HorizontalPodAutoscalerSpecTypeAdapter::new);
+    adapters.put(
+        V1HorizontalPodAutoscalerStatus.class, V1HorizontalPodAutoscalerStatusTypeAdapter::new);
+    adapters.put(V1HostAlias.class, V1HostAliasTypeAdapter::new);
+    adapters.put(V1HostPathVolumeSource.class, V1HostPathVolumeSourceTypeAdapter::new);
+    adapters.put(V1IPBlock.class, V1IPBlockTypeAdapter::new);
+    adapters.put(
+        V1ISCSIPersistentVolumeSource.class, V1ISCSIPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1ISCSIVolumeSource.class, V1ISCSIVolumeSourceTypeAdapter::new);
+    adapters.put(V1Ingress.class, V1IngressTypeAdapter::new);
+    adapters.put(V1IngressBackend.class, V1IngressBackendTypeAdapter::new);
+    adapters.put(V1IngressClass.class, V1IngressClassTypeAdapter::new);
+    adapters.put(V1IngressClassList.class, V1IngressClassListTypeAdapter::new);
+    adapters.put(V1IngressClassSpec.class, V1IngressClassSpecTypeAdapter::new);
+    adapters.put(V1IngressList.class, V1IngressListTypeAdapter::new);
+    adapters.put(V1IngressRule.class, V1IngressRuleTypeAdapter::new);
+    adapters.put(V1IngressServiceBackend.class, V1IngressServiceBackendTypeAdapter::new);
+    adapters.put(V1IngressSpec.class, V1IngressSpecTypeAdapter::new);
+    adapters.put(V1IngressStatus.class, V1IngressStatusTypeAdapter::new);
+    adapters.put(V1IngressTLS.class, V1IngressTLSTypeAdapter::new);
+    adapters.put(V1JSONSchemaProps.class, V1JSONSchemaPropsTypeAdapter::new);
+    adapters.put(V1Job.class, V1JobTypeAdapter::new);
+    adapters.put(V1JobCondition.class, V1JobConditionTypeAdapter::new);
+    adapters.put(V1JobList.class, V1JobListTypeAdapter::new);
+    adapters.put(V1JobSpec.class, V1JobSpecTypeAdapter::new);
+    adapters.put(V1JobStatus.class, V1JobStatusTypeAdapter::new);
+    adapters.put(V1KeyToPath.class, V1KeyToPathTypeAdapter::new);
+    adapters.put(V1LabelSelector.class, V1LabelSelectorTypeAdapter::new);
+    adapters.put(V1LabelSelectorRequirement.class, V1LabelSelectorRequirementTypeAdapter::new);
+    adapters.put(V1Lease.class, V1LeaseTypeAdapter::new);
+    adapters.put(V1LeaseList.class, V1LeaseListTypeAdapter::new);
+    adapters.put(V1LeaseSpec.class, V1LeaseSpecTypeAdapter::new);
+    adapters.put(V1Lifecycle.class, V1LifecycleTypeAdapter::new);
+    adapters.put(V1LimitRange.class, V1LimitRangeTypeAdapter::new);
+    adapters.put(V1LimitRangeItem.class, V1LimitRangeItemTypeAdapter::new);
+    adapters.put(V1LimitRangeList.class, V1LimitRangeListTypeAdapter::new);
+    adapters.put(V1LimitRangeSpec.class, V1LimitRangeSpecTypeAdapter::new);
+    adapters.put(V1ListMeta.class, V1ListMetaTypeAdapter::new);
+    adapters.put(V1LoadBalancerIngress.class, V1LoadBalancerIngressTypeAdapter::new);
+    adapters.put(V1LoadBalancerStatus.class, V1LoadBalancerStatusTypeAdapter::new);
+    adapters.put(V1LocalObjectReference.class, V1LocalObjectReferenceTypeAdapter::new);
+    adapters.put(V1LocalSubjectAccessReview.class, V1LocalSubjectAccessReviewTypeAdapter::new);
+    adapters.put(V1LocalVolumeSource.class, V1LocalVolumeSourceTypeAdapter::new);
+    adapters.put(V1ManagedFieldsEntry.class, V1ManagedFieldsEntryTypeAdapter::new);
+    adapters.put(V1MutatingWebhook.class, V1MutatingWebhookTypeAdapter::new);
+    adapters.put(
+        V1MutatingWebhookConfiguration.class, V1MutatingWebhookConfigurationTypeAdapter::new);
+    adapters.put(
+        V1MutatingWebhookConfigurationList.class,
+        V1MutatingWebhookConfigurationListTypeAdapter::new);
+    adapters.put(V1NFSVolumeSource.class, V1NFSVolumeSourceTypeAdapter::new);
+    adapters.put(V1Namespace.class, V1NamespaceTypeAdapter::new);
+    adapters.put(V1NamespaceCondition.class, V1NamespaceConditionTypeAdapter::new);
+    adapters.put(V1NamespaceList.class, V1NamespaceListTypeAdapter::new);
+    adapters.put(V1NamespaceSpec.class, V1NamespaceSpecTypeAdapter::new);
+    adapters.put(V1NamespaceStatus.class, V1NamespaceStatusTypeAdapter::new);
+    adapters.put(V1NetworkPolicy.class, V1NetworkPolicyTypeAdapter::new);
+    adapters.put(V1NetworkPolicyEgressRule.class, V1NetworkPolicyEgressRuleTypeAdapter::new);
+    adapters.put(V1NetworkPolicyIngressRule.class, V1NetworkPolicyIngressRuleTypeAdapter::new);
+    adapters.put(V1NetworkPolicyList.class, V1NetworkPolicyListTypeAdapter::new);
+    adapters.put(V1NetworkPolicyPeer.class, V1NetworkPolicyPeerTypeAdapter::new);
+    adapters.put(V1NetworkPolicyPort.class, V1NetworkPolicyPortTypeAdapter::new);
+    adapters.put(V1NetworkPolicySpec.class, V1NetworkPolicySpecTypeAdapter::new);
+    adapters.put(V1Node.class, V1NodeTypeAdapter::new);
+    adapters.put(V1NodeAddress.class, V1NodeAddressTypeAdapter::new);
+    adapters.put(V1NodeAffinity.class, V1NodeAffinityTypeAdapter::new);
+    adapters.put(V1NodeCondition.class, V1NodeConditionTypeAdapter::new);
+    adapters.put(V1NodeConfigSource.class, V1NodeConfigSourceTypeAdapter::new);
+    adapters.put(V1NodeConfigStatus.class, V1NodeConfigStatusTypeAdapter::new);
+    adapters.put(V1NodeDaemonEndpoints.class, V1NodeDaemonEndpointsTypeAdapter::new);
+    adapters.put(V1NodeList.class, V1NodeListTypeAdapter::new);
+    adapters.put(V1NodeSelector.class, V1NodeSelectorTypeAdapter::new);
+    adapters.put(V1NodeSelectorRequirement.class, V1NodeSelectorRequirementTypeAdapter::new);
+    adapters.put(V1NodeSelectorTerm.class, V1NodeSelectorTermTypeAdapter::new);
+    adapters.put(V1NodeSpec.class, V1NodeSpecTypeAdapter::new);
+    adapters.put(V1NodeStatus.class, V1NodeStatusTypeAdapter::new);
+    adapters.put(V1NodeSystemInfo.class, V1NodeSystemInfoTypeAdapter::new);
+    adapters.put(V1NonResourceAttributes.class, V1NonResourceAttributesTypeAdapter::new);
+    adapters.put(V1NonResourceRule.class, V1NonResourceRuleTypeAdapter::new);
+    adapters.put(V1ObjectFieldSelector.class, V1ObjectFieldSelectorTypeAdapter::new);
+    adapters.put(V1ObjectMeta.class, V1ObjectMetaTypeAdapter::new);
+    adapters.put(V1ObjectReference.class, V1ObjectReferenceTypeAdapter::new);
+    adapters.put(V1OwnerReference.class, V1OwnerReferenceTypeAdapter::new);
+    adapters.put(V1PersistentVolume.class, V1PersistentVolumeTypeAdapter::new);
+    adapters.put(V1PersistentVolumeClaim.class, V1PersistentVolumeClaimTypeAdapter::new);
+    adapters.put(
+        V1PersistentVolumeClaimCondition.class, V1PersistentVolumeClaimConditionTypeAdapter::new);
+    adapters.put(V1PersistentVolumeClaimList.class, V1PersistentVolumeClaimListTypeAdapter::new);
+    adapters.put(V1PersistentVolumeClaimSpec.class, V1PersistentVolumeClaimSpecTypeAdapter::new);
+    adapters.put(
+        V1PersistentVolumeClaimStatus.class, V1PersistentVolumeClaimStatusTypeAdapter::new);
+    adapters.put(
+        V1PersistentVolumeClaimTemplate.class, V1PersistentVolumeClaimTemplateTypeAdapter::new);
+    adapters.put(
+        V1PersistentVolumeClaimVolumeSource.class,
+        V1PersistentVolumeClaimVolumeSourceTypeAdapter::new);
+    adapters.put(V1PersistentVolumeList.class, V1PersistentVolumeListTypeAdapter::new);
+    adapters.put(V1PersistentVolumeSpec.class, V1PersistentVolumeSpecTypeAdapter::new);
+    adapters.put(V1PersistentVolumeStatus.class, V1PersistentVolumeStatusTypeAdapter::new);
+    adapters.put(
+        V1PhotonPersistentDiskVolumeSource.class,
+        V1PhotonPersistentDiskVolumeSourceTypeAdapter::new);
+    adapters.put(V1Pod.class, V1PodTypeAdapter::new);
+    adapters.put(V1PodAffinity.class, V1PodAffinityTypeAdapter::new);
+    adapters.put(V1PodAffinityTerm.class, V1PodAffinityTermTypeAdapter::new);
+    adapters.put(V1PodAntiAffinity.class, V1PodAntiAffinityTypeAdapter::new);
+    adapters.put(V1PodCondition.class, V1PodConditionTypeAdapter::new);
+    adapters.put(V1PodDNSConfig.class, V1PodDNSConfigTypeAdapter::new);
+    adapters.put(V1PodDNSConfigOption.class, V1PodDNSConfigOptionTypeAdapter::new);
+    adapters.put(V1PodIP.class, V1PodIPTypeAdapter::new);
+    adapters.put(V1PodList.class, V1PodListTypeAdapter::new);
+    adapters.put(V1PodReadinessGate.class, V1PodReadinessGateTypeAdapter::new);
+    adapters.put(V1PodSecurityContext.class, V1PodSecurityContextTypeAdapter::new);
+    adapters.put(V1PodSpec.class, V1PodSpecTypeAdapter::new);
+    adapters.put(V1PodStatus.class, V1PodStatusTypeAdapter::new);
+    adapters.put(V1PodTemplate.class, V1PodTemplateTypeAdapter::new);
+    adapters.put(V1PodTemplateList.class, V1PodTemplateListTypeAdapter::new);
+    adapters.put(V1PodTemplateSpec.class, V1PodTemplateSpecTypeAdapter::new);
+    adapters.put(V1PolicyRule.class, V1PolicyRuleTypeAdapter::new);
+    adapters.put(V1PortworxVolumeSource.class, V1PortworxVolumeSourceTypeAdapter::new);
+    adapters.put(V1Preconditions.class, V1PreconditionsTypeAdapter::new);
+    adapters.put(V1PreferredSchedulingTerm.class, V1PreferredSchedulingTermTypeAdapter::new);
+    adapters.put(V1PriorityClass.class, V1PriorityClassTypeAdapter::new);
+    adapters.put(V1PriorityClassList.class, V1PriorityClassListTypeAdapter::new);
+    adapters.put(V1Probe.class, V1ProbeTypeAdapter::new);
+    adapters.put(V1ProjectedVolumeSource.class, V1ProjectedVolumeSourceTypeAdapter::new);
+    adapters.put(V1QuobyteVolumeSource.class, V1QuobyteVolumeSourceTypeAdapter::new);
+    adapters.put(V1RBDPersistentVolumeSource.class, V1RBDPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1RBDVolumeSource.class, V1RBDVolumeSourceTypeAdapter::new);
+    adapters.put(V1ReplicaSet.class, V1ReplicaSetTypeAdapter::new);
+    adapters.put(V1ReplicaSetCondition.class, V1ReplicaSetConditionTypeAdapter::new);
+    adapters.put(V1ReplicaSetList.class, V1ReplicaSetListTypeAdapter::new);
+    adapters.put(V1ReplicaSetSpec.class, V1ReplicaSetSpecTypeAdapter::new);
+    adapters.put(V1ReplicaSetStatus.class, V1ReplicaSetStatusTypeAdapter::new);
+    adapters.put(V1ReplicationController.class, V1ReplicationControllerTypeAdapter::new);
+    adapters.put(
+        V1ReplicationControllerCondition.class, V1ReplicationControllerConditionTypeAdapter::new);
+    adapters.put(V1ReplicationControllerList.class, V1ReplicationControllerListTypeAdapter::new);
+    adapters.put(V1ReplicationControllerSpec.class, V1ReplicationControllerSpecTypeAdapter::new);
+    adapters.put(
+        V1ReplicationControllerStatus.class, V1ReplicationControllerStatusTypeAdapter::new);
+    adapters.put(V1ResourceAttributes.class, V1ResourceAttributesTypeAdapter::new);
+    adapters.put(V1ResourceFieldSelector.class, V1ResourceFieldSelectorTypeAdapter::new);
+    adapters.put(V1ResourceQuota.class, V1ResourceQuotaTypeAdapter::new);
+    adapters.put(V1ResourceQuotaList.class, V1ResourceQuotaListTypeAdapter::new);
+    adapters.put(V1ResourceQuotaSpec.class, V1ResourceQuotaSpecTypeAdapter::new);
+    adapters.put(V1ResourceQuotaStatus.class, V1ResourceQuotaStatusTypeAdapter::new);
+    adapters.put(V1ResourceRequirements.class, V1ResourceRequirementsTypeAdapter::new);
+    adapters.put(V1ResourceRule.class, V1ResourceRuleTypeAdapter::new);
+    adapters.put(V1Role.class, V1RoleTypeAdapter::new);
+    adapters.put(V1RoleBinding.class, V1RoleBindingTypeAdapter::new);
+    adapters.put(V1RoleBindingList.class, V1RoleBindingListTypeAdapter::new);
+    adapters.put(V1RoleList.class, V1RoleListTypeAdapter::new);
+    adapters.put(V1RoleRef.class, V1RoleRefTypeAdapter::new);
+    adapters.put(V1RollingUpdateDaemonSet.class, V1RollingUpdateDaemonSetTypeAdapter::new);
+    adapters.put(V1RollingUpdateDeployment.class, V1RollingUpdateDeploymentTypeAdapter::new);
+    adapters.put(
+        V1RollingUpdateStatefulSetStrategy.class,
+        V1RollingUpdateStatefulSetStrategyTypeAdapter::new);
+    adapters.put(V1RuleWithOperations.class, V1RuleWithOperationsTypeAdapter::new);
+    adapters.put(V1SELinuxOptions.class, V1SELinuxOptionsTypeAdapter::new);
+    adapters.put(V1Scale.class, V1ScaleTypeAdapter::new);
+    adapters.put(
+        V1ScaleIOPersistentVolumeSource.class, V1ScaleIOPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1ScaleIOVolumeSource.class, V1ScaleIOVolumeSourceTypeAdapter::new);
+    adapters.put(V1ScaleSpec.class, V1ScaleSpecTypeAdapter::new);
+    adapters.put(V1ScaleStatus.class, V1ScaleStatusTypeAdapter::new);
+    adapters.put(V1ScopeSelector.class, V1ScopeSelectorTypeAdapter::new);
+    adapters.put(
+        V1ScopedResourceSelectorRequirement.class,
+        V1ScopedResourceSelectorRequirementTypeAdapter::new);
+    adapters.put(V1SeccompProfile.class, V1SeccompProfileTypeAdapter::new);
+    adapters.put(V1Secret.class, V1SecretTypeAdapter::new);
+    adapters.put(V1SecretEnvSource.class, V1SecretEnvSourceTypeAdapter::new);
+    adapters.put(V1SecretKeySelector.class, V1SecretKeySelectorTypeAdapter::new);
+    adapters.put(V1SecretList.class, V1SecretListTypeAdapter::new);
+    adapters.put(V1SecretProjection.class, V1SecretProjectionTypeAdapter::new);
+    adapters.put(V1SecretReference.class, V1SecretReferenceTypeAdapter::new);
+    adapters.put(V1SecretVolumeSource.class, V1SecretVolumeSourceTypeAdapter::new);
+    adapters.put(V1SecurityContext.class, V1SecurityContextTypeAdapter::new);
+    adapters.put(V1SelfSubjectAccessReview.class, V1SelfSubjectAccessReviewTypeAdapter::new);
+    adapters.put(
+        V1SelfSubjectAccessReviewSpec.class, V1SelfSubjectAccessReviewSpecTypeAdapter::new);
+    adapters.put(V1SelfSubjectRulesReview.class, V1SelfSubjectRulesReviewTypeAdapter::new);
+    adapters.put(V1SelfSubjectRulesReviewSpec.class, V1SelfSubjectRulesReviewSpecTypeAdapter::new);
+    adapters.put(V1ServerAddressByClientCIDR.class, V1ServerAddressByClientCIDRTypeAdapter::new);
+    adapters.put(V1Service.class, V1ServiceTypeAdapter::new);
+    adapters.put(V1ServiceAccount.class, V1ServiceAccountTypeAdapter::new);
+    adapters.put(V1ServiceAccountList.class, V1ServiceAccountListTypeAdapter::new);
+    adapters.put(
+        V1ServiceAccountTokenProjection.class, V1ServiceAccountTokenProjectionTypeAdapter::new);
+    adapters.put(V1ServiceBackendPort.class, V1ServiceBackendPortTypeAdapter::new);
+    adapters.put(V1ServiceList.class, V1ServiceListTypeAdapter::new);
+    adapters.put(V1ServicePort.class, V1ServicePortTypeAdapter::new);
+    adapters.put(V1ServiceSpec.class, V1ServiceSpecTypeAdapter::new);
+    adapters.put(V1ServiceStatus.class, V1ServiceStatusTypeAdapter::new);
+    adapters.put(V1SessionAffinityConfig.class, V1SessionAffinityConfigTypeAdapter::new);
+    adapters.put(V1StatefulSet.class, V1StatefulSetTypeAdapter::new);
+    adapters.put(V1StatefulSetCondition.class, V1StatefulSetConditionTypeAdapter::new);
+    adapters.put(V1StatefulSetList.class, V1StatefulSetListTypeAdapter::new);
+    adapters.put(V1StatefulSetSpec.class, V1StatefulSetSpecTypeAdapter::new);
+    adapters.put(V1StatefulSetStatus.class, V1StatefulSetStatusTypeAdapter::new);
+    adapters.put(V1StatefulSetUpdateStrategy.class, V1StatefulSetUpdateStrategyTypeAdapter::new);
+    adapters.put(V1Status.class, V1StatusTypeAdapter::new);
+    adapters.put(V1StatusCause.class, V1StatusCauseTypeAdapter::new);
+    adapters.put(V1StatusDetails.class, V1StatusDetailsTypeAdapter::new);
+    adapters.put(V1StorageClass.class, V1StorageClassTypeAdapter::new);
+    adapters.put(V1StorageClassList.class, V1StorageClassListTypeAdapter::new);
+    adapters.put(
+        V1StorageOSPersistentVolumeSource.class, V1StorageOSPersistentVolumeSourceTypeAdapter::new);
+    adapters.put(V1StorageOSVolumeSource.class, V1StorageOSVolumeSourceTypeAdapter::new);
+    adapters.put(V1Subject.class, V1SubjectTypeAdapter::new);
+    adapters.put(V1SubjectAccessReview.class, V1SubjectAccessReviewTypeAdapter::new);
+    adapters.put(V1SubjectAccessReviewSpec.class, V1SubjectAccessReviewSpecTypeAdapter::new);
+    adapters.put(V1SubjectAccessReviewStatus.class, V1SubjectAccessReviewStatusTypeAdapter::new);
+    adapters.put(V1SubjectRulesReviewStatus.class, V1SubjectRulesReviewStatusTypeAdapter::new);
+    adapters.put(V1Sysctl.class, V1SysctlTypeAdapter::new);
+    adapters.put(V1TCPSocketAction.class, V1TCPSocketActionTypeAdapter::new);
+    adapters.put(V1Taint.class, V1TaintTypeAdapter::new);
+    adapters.put(V1TokenRequest.class, V1TokenRequestTypeAdapter::new);
+    adapters.put(V1TokenRequestSpec.class, V1TokenRequestSpecTypeAdapter::new);
+    adapters.put(V1TokenRequestStatus.class, V1TokenRequestStatusTypeAdapter::new);
+    adapters.put(V1TokenReview.class, V1TokenReviewTypeAdapter::new);
+    adapters.put(V1TokenReviewSpec.class, V1TokenReviewSpecTypeAdapter::new);
+    adapters.put(V1TokenReviewStatus.class, V1TokenReviewStatusTypeAdapter::new);
+    adapters.put(V1Toleration.class, V1TolerationTypeAdapter::new);
+    adapters.put(
+        V1TopologySelectorLabelRequirement.class,
+        V1TopologySelectorLabelRequirementTypeAdapter::new);
+    adapters.put(V1TopologySelectorTerm.class, V1TopologySelectorTermTypeAdapter::new);
+    adapters.put(V1TopologySpreadConstraint.class, V1TopologySpreadConstraintTypeAdapter::new);
+    adapters.put(V1TypedLocalObjectReference.class, V1TypedLocalObjectReferenceTypeAdapter::new);
+    adapters.put(V1UserInfo.class, V1UserInfoTypeAdapter::new);
+    adapters.put(V1ValidatingWebhook.class, V1ValidatingWebhookTypeAdapter::new);
+    adapters.put(
+        V1ValidatingWebhookConfiguration.class, V1ValidatingWebhookConfigurationTypeAdapter::new);
+    adapters.put(
+        V1ValidatingWebhookConfigurationList.class,
+        V1ValidatingWebhookConfigurationListTypeAdapter::new);
+    adapters.put(V1Volume.class, V1VolumeTypeAdapter::new);
+    adapters.put(V1VolumeAttachment.class, V1VolumeAttachmentTypeAdapter::new);
+    adapters.put(V1VolumeAttachmentList.class, V1VolumeAttachmentListTypeAdapter::new);
+    adapters.put(V1VolumeAttachmentSource.class, V1VolumeAttachmentSourceTypeAdapter::new);
+    adapters.put(V1VolumeAttachmentSpec.class, V1VolumeAttachmentSpecTypeAdapter::new);
+    adapters.put(V1VolumeAttachmentStatus.class, V1VolumeAttachmentStatusTypeAdapter::new);
+    adapters.put(V1VolumeDevice.class, V1VolumeDeviceTypeAdapter::new);
+    adapters.put(V1VolumeError.class, V1VolumeErrorTypeAdapter::new);
+    adapters.put(V1VolumeMount.class, V1VolumeMountTypeAdapter::new);
+    adapters.put(V1VolumeNodeAffinity.class, V1VolumeNodeAffinityTypeAdapter::new);
+    adapters.put(V1VolumeNodeResources.class, V1VolumeNodeResourcesTypeAdapter::new);
+    adapters.put(V1VolumeProjection.class, V1VolumeProjectionTypeAdapter::new);
+    adapters.put(
+        V1VsphereVirtualDiskVolumeSource.class, V1VsphereVirtualDiskVolumeSourceTypeAdapter::new);
+    adapters.put(V1WatchEvent.class, V1WatchEventTypeAdapter::new);
+    adapters.put(V1WebhookConversion.class, V1WebhookConversionTypeAdapter::new);
+    adapters.put(V1WeightedPodAffinityTerm.class, V1WeightedPodAffinityTermTypeAdapter::new);
+    adapters.put(
+        V1WindowsSecurityContextOptions.class, V1WindowsSecurityContextOptionsTypeAdapter::new);
+    adapters.put(V1alpha1AggregationRule.class, V1alpha1AggregationRuleTypeAdapter::new);
+    adapters.put(V1alpha1ClusterRole.class, V1alpha1ClusterRoleTypeAdapter::new);
+    adapters.put(V1alpha1ClusterRoleBinding.class, V1alpha1ClusterRoleBindingTypeAdapter::new);
+    adapters.put(
+        V1alpha1ClusterRoleBindingList.class, V1alpha1ClusterRoleBindingListTypeAdapter::new);
+    adapters.put(V1alpha1ClusterRoleList.class, V1alpha1ClusterRoleListTypeAdapter::new);
+    adapters.put(
+        V1alpha1FlowDistinguisherMethod.class, V1alpha1FlowDistinguisherMethodTypeAdapter::new);
+    adapters.put(V1alpha1FlowSchema.class, V1alpha1FlowSchemaTypeAdapter::new);
+    adapters.put(V1alpha1FlowSchemaCondition.class, V1alpha1FlowSchemaConditionTypeAdapter::new);
+    adapters.put(V1alpha1FlowSchemaList.class, V1alpha1FlowSchemaListTypeAdapter::new);
+    adapters.put(V1alpha1FlowSchemaSpec.class, V1alpha1FlowSchemaSpecTypeAdapter::new);
+    adapters.put(V1alpha1FlowSchemaStatus.class, V1alpha1FlowSchemaStatusTypeAdapter::new);
+    adapters.put(V1alpha1GroupSubject.class, V1alpha1GroupSubjectTypeAdapter::new);
+    adapters.put(V1alpha1LimitResponse.class, V1alpha1LimitResponseTypeAdapter::new);
+    adapters.put(
+        V1alpha1LimitedPriorityLevelConfiguration.class,
+        V1alpha1LimitedPriorityLevelConfigurationTypeAdapter::new);
+    adapters.put(
+        V1alpha1NonResourcePolicyRule.class, V1alpha1NonResourcePolicyRuleTypeAdapter::new);
+    adapters.put(V1alpha1Overhead.class, V1alpha1OverheadTypeAdapter::new);
+    adapters.put(V1alpha1PodPreset.class, V1alpha1PodPresetTypeAdapter::new);
+    adapters.put(V1alpha1PodPresetList.class, V1alpha1PodPresetListTypeAdapter::new);
+    adapters.put(V1alpha1PodPresetSpec.class, V1alpha1PodPresetSpecTypeAdapter::new);
+    adapters.put(V1alpha1PolicyRule.class, V1alpha1PolicyRuleTypeAdapter::new);
+    adapters.put(
+        V1alpha1PolicyRulesWithSubjects.class, V1alpha1PolicyRulesWithSubjectsTypeAdapter::new);
+    adapters.put(V1alpha1PriorityClass.class, V1alpha1PriorityClassTypeAdapter::new);
+    adapters.put(V1alpha1PriorityClassList.class, V1alpha1PriorityClassListTypeAdapter::new);
+    adapters.put(
+        V1alpha1PriorityLevelConfiguration.class,
+        V1alpha1PriorityLevelConfigurationTypeAdapter::new);
+    adapters.put(
+        V1alpha1PriorityLevelConfigurationCondition.class,
+        V1alpha1PriorityLevelConfigurationConditionTypeAdapter::new);
+    adapters.put(
+        V1alpha1PriorityLevelConfigurationList.class,
+        V1alpha1PriorityLevelConfigurationListTypeAdapter::new);
+    adapters.put(
+        V1alpha1PriorityLevelConfigurationReference.class,
+        V1alpha1PriorityLevelConfigurationReferenceTypeAdapter::new);
+    adapters.put(
+        V1alpha1PriorityLevelConfigurationSpec.class,
+        V1alpha1PriorityLevelConfigurationSpecTypeAdapter::new);
+    adapters.put(
+        V1alpha1PriorityLevelConfigurationStatus.class,
+        V1alpha1PriorityLevelConfigurationStatusTypeAdapter::new);
+    adapters.put(V1alpha1QueuingConfiguration.class, V1alpha1QueuingConfigurationTypeAdapter::new);
+    adapters.put(V1alpha1ResourcePolicyRule.class, V1alpha1ResourcePolicyRuleTypeAdapter::new);
+    adapters.put(V1alpha1Role.class, V1alpha1RoleTypeAdapter::new);
+    adapters.put(V1alpha1RoleBinding.class, V1alpha1RoleBindingTypeAdapter::new);
+    adapters.put(V1alpha1RoleBindingList.class, V1alpha1RoleBindingListTypeAdapter::new);
+    adapters.put(V1alpha1RoleList.class, V1alpha1RoleListTypeAdapter::new);
+    adapters.put(V1alpha1RoleRef.class, V1alpha1RoleRefTypeAdapter::new);
+    adapters.put(V1alpha1RuntimeClass.class, V1alpha1RuntimeClassTypeAdapter::new);
+    adapters.put(V1alpha1RuntimeClassList.class, V1alpha1RuntimeClassListTypeAdapter::new);
+    adapters.put(V1alpha1RuntimeClassSpec.class, V1alpha1RuntimeClassSpecTypeAdapter::new);
+    adapters.put(V1alpha1Scheduling.class, V1alpha1SchedulingTypeAdapter::new);
+    adapters.put(
+        V1alpha1ServiceAccountSubject.class, V1alpha1ServiceAccountSubjectTypeAdapter::new);
+    adapters.put(V1alpha1UserSubject.class, V1alpha1UserSubjectTypeAdapter::new);
+    adapters.put(V1alpha1VolumeAttachment.class, V1alpha1VolumeAttachmentTypeAdapter::new);
+    adapters.put(V1alpha1VolumeAttachmentList.class, V1alpha1VolumeAttachmentListTypeAdapter::new);
+    adapters.put(
+        V1alpha1VolumeAttachmentSource.class, V1alpha1VolumeAttachmentSourceTypeAdapter::new);
+    adapters.put(V1alpha1VolumeAttachmentSpec.class, V1alpha1VolumeAttachmentSpecTypeAdapter::new);
+    adapters.put(
+        V1alpha1VolumeAttachmentStatus.class, V1alpha1VolumeAttachmentStatusTypeAdapter::new);
+    adapters.put(V1alpha1VolumeError.class, V1alpha1VolumeErrorTypeAdapter::new);
+    adapters.put(V1beta1APIService.class, V1beta1APIServiceTypeAdapter::new);
+    adapters.put(V1beta1APIServiceCondition.class, V1beta1APIServiceConditionTypeAdapter::new);
+    adapters.put(V1beta1APIServiceList.class, V1beta1APIServiceListTypeAdapter::new);
+    adapters.put(V1beta1APIServiceSpec.class, V1beta1APIServiceSpecTypeAdapter::new);
+    adapters.put(V1beta1APIServiceStatus.class, V1beta1APIServiceStatusTypeAdapter::new);
+    adapters.put(V1beta1AggregationRule.class, V1beta1AggregationRuleTypeAdapter::new);
+    adapters.put(V1beta1AllowedCSIDriver.class, V1beta1AllowedCSIDriverTypeAdapter::new);
+    adapters.put(V1beta1AllowedFlexVolume.class, V1beta1AllowedFlexVolumeTypeAdapter::new);
+    adapters.put(V1beta1AllowedHostPath.class, V1beta1AllowedHostPathTypeAdapter::new);
+    adapters.put(V1beta1CSIDriver.class, V1beta1CSIDriverTypeAdapter::new);
+    adapters.put(V1beta1CSIDriverList.class, V1beta1CSIDriverListTypeAdapter::new);
+    adapters.put(V1beta1CSIDriverSpec.class, V1beta1CSIDriverSpecTypeAdapter::new);
+    adapters.put(V1beta1CSINode.class, V1beta1CSINodeTypeAdapter::new);
+    adapters.put(V1beta1CSINodeDriver.class, V1beta1CSINodeDriverTypeAdapter::new);
+    adapters.put(V1beta1CSINodeList.class, V1beta1CSINodeListTypeAdapter::new);
+    adapters.put(V1beta1CSINodeSpec.class, V1beta1CSINodeSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1CertificateSigningRequest.class, V1beta1CertificateSigningRequestTypeAdapter::new);
+    adapters.put(
+        V1beta1CertificateSigningRequestCondition.class,
+        V1beta1CertificateSigningRequestConditionTypeAdapter::new);
+    adapters.put(
+        V1beta1CertificateSigningRequestList.class,
+        V1beta1CertificateSigningRequestListTypeAdapter::new);
+    adapters.put(
+        V1beta1CertificateSigningRequestSpec.class,
+        V1beta1CertificateSigningRequestSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1CertificateSigningRequestStatus.class,
+        V1beta1CertificateSigningRequestStatusTypeAdapter::new);
+    adapters.put(V1beta1ClusterRole.class, V1beta1ClusterRoleTypeAdapter::new);
+    adapters.put(V1beta1ClusterRoleBinding.class, V1beta1ClusterRoleBindingTypeAdapter::new);
+    adapters.put(
+        V1beta1ClusterRoleBindingList.class, V1beta1ClusterRoleBindingListTypeAdapter::new);
+    adapters.put(V1beta1ClusterRoleList.class, V1beta1ClusterRoleListTypeAdapter::new);
+    adapters.put(V1beta1CronJob.class, V1beta1CronJobTypeAdapter::new);
+    adapters.put(V1beta1CronJobList.class, V1beta1CronJobListTypeAdapter::new);
+    adapters.put(V1beta1CronJobSpec.class, V1beta1CronJobSpecTypeAdapter::new);
+    adapters.put(V1beta1CronJobStatus.class, V1beta1CronJobStatusTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceColumnDefinition.class,
+        V1beta1CustomResourceColumnDefinitionTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceConversion.class, V1beta1CustomResourceConversionTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinition.class, V1beta1CustomResourceDefinitionTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinitionCondition.class,
+        V1beta1CustomResourceDefinitionConditionTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinitionList.class,
+        V1beta1CustomResourceDefinitionListTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinitionNames.class,
+        V1beta1CustomResourceDefinitionNamesTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinitionSpec.class,
+        V1beta1CustomResourceDefinitionSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinitionStatus.class,
+        V1beta1CustomResourceDefinitionStatusTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceDefinitionVersion.class,
+        V1beta1CustomResourceDefinitionVersionTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceSubresourceScale.class,
+        V1beta1CustomResourceSubresourceScaleTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceSubresources.class, V1beta1CustomResourceSubresourcesTypeAdapter::new);
+    adapters.put(
+        V1beta1CustomResourceValidation.class, V1beta1CustomResourceValidationTypeAdapter::new);
+    adapters.put(V1beta1Endpoint.class, V1beta1EndpointTypeAdapter::new);
+    adapters.put(V1beta1EndpointConditions.class, V1beta1EndpointConditionsTypeAdapter::new);
+    adapters.put(V1beta1EndpointPort.class, V1beta1EndpointPortTypeAdapter::new);
+    adapters.put(V1beta1EndpointSlice.class, V1beta1EndpointSliceTypeAdapter::new);
+    adapters.put(V1beta1EndpointSliceList.class, V1beta1EndpointSliceListTypeAdapter::new);
+    adapters.put(V1beta1Event.class, V1beta1EventTypeAdapter::new);
+    adapters.put(V1beta1EventList.class, V1beta1EventListTypeAdapter::new);
+    adapters.put(V1beta1EventSeries.class, V1beta1EventSeriesTypeAdapter::new);
+    adapters.put(V1beta1Eviction.class, V1beta1EvictionTypeAdapter::new);
+    adapters.put(V1beta1ExternalDocumentation.class, V1beta1ExternalDocumentationTypeAdapter::new);
+    adapters.put(
+        V1beta1FSGroupStrategyOptions.class, V1beta1FSGroupStrategyOptionsTypeAdapter::new);
+    adapters.put(V1beta1HostPortRange.class, V1beta1HostPortRangeTypeAdapter::new);
+    adapters.put(V1beta1IDRange.class, V1beta1IDRangeTypeAdapter::new);
+    adapters.put(V1beta1IngressClass.class, V1beta1IngressClassTypeAdapter::new);
+    adapters.put(V1beta1IngressClassList.class, V1beta1IngressClassListTypeAdapter::new);
+    adapters.put(V1beta1IngressClassSpec.class, V1beta1IngressClassSpecTypeAdapter::new);
+    adapters.put(V1beta1JSONSchemaProps.class, V1beta1JSONSchemaPropsTypeAdapter::new);
+    adapters.put(V1beta1JobTemplateSpec.class, V1beta1JobTemplateSpecTypeAdapter::new);
+    adapters.put(V1beta1Lease.class, V1beta1LeaseTypeAdapter::new);
+    adapters.put(V1beta1LeaseList.class, V1beta1LeaseListTypeAdapter::new);
+    adapters.put(V1beta1LeaseSpec.class, V1beta1LeaseSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1LocalSubjectAccessReview.class, V1beta1LocalSubjectAccessReviewTypeAdapter::new);
+    adapters.put(V1beta1MutatingWebhook.class, V1beta1MutatingWebhookTypeAdapter::new);
+    adapters.put(
+        V1beta1MutatingWebhookConfiguration.class,
+        V1beta1MutatingWebhookConfigurationTypeAdapter::new);
+    adapters.put(
+        V1beta1MutatingWebhookConfigurationList.class,
+        V1beta1MutatingWebhookConfigurationListTypeAdapter::new);
+    adapters.put(V1beta1NonResourceAttributes.class, V1beta1NonResourceAttributesTypeAdapter::new);
+    adapters.put(V1beta1NonResourceRule.class, V1beta1NonResourceRuleTypeAdapter::new);
+    adapters.put(V1beta1Overhead.class, V1beta1OverheadTypeAdapter::new);
+    adapters.put(V1beta1PodDisruptionBudget.class, V1beta1PodDisruptionBudgetTypeAdapter::new);
+    adapters.put(
+        V1beta1PodDisruptionBudgetList.class, V1beta1PodDisruptionBudgetListTypeAdapter::new);
+    adapters.put(
+        V1beta1PodDisruptionBudgetSpec.class, V1beta1PodDisruptionBudgetSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1PodDisruptionBudgetStatus.class, V1beta1PodDisruptionBudgetStatusTypeAdapter::new);
+    adapters.put(V1beta1PodSecurityPolicy.class, V1beta1PodSecurityPolicyTypeAdapter::new);
+    adapters.put(V1beta1PodSecurityPolicyList.class, V1beta1PodSecurityPolicyListTypeAdapter::new);
+    adapters.put(V1beta1PodSecurityPolicySpec.class, V1beta1PodSecurityPolicySpecTypeAdapter::new);
+    adapters.put(V1beta1PolicyRule.class, V1beta1PolicyRuleTypeAdapter::new);
+    adapters.put(V1beta1PriorityClass.class, V1beta1PriorityClassTypeAdapter::new);
+    adapters.put(V1beta1PriorityClassList.class, V1beta1PriorityClassListTypeAdapter::new);
+    adapters.put(V1beta1ResourceAttributes.class, V1beta1ResourceAttributesTypeAdapter::new);
+    adapters.put(V1beta1ResourceRule.class, V1beta1ResourceRuleTypeAdapter::new);
+    adapters.put(V1beta1Role.class, V1beta1RoleTypeAdapter::new);
+    adapters.put(V1beta1RoleBinding.class, V1beta1RoleBindingTypeAdapter::new);
+    adapters.put(V1beta1RoleBindingList.class, V1beta1RoleBindingListTypeAdapter::new);
+    adapters.put(V1beta1RoleList.class, V1beta1RoleListTypeAdapter::new);
+    adapters.put(V1beta1RoleRef.class, V1beta1RoleRefTypeAdapter::new);
+    adapters.put(V1beta1RuleWithOperations.class, V1beta1RuleWithOperationsTypeAdapter::new);
+    adapters.put(
+        V1beta1RunAsGroupStrategyOptions.class, V1beta1RunAsGroupStrategyOptionsTypeAdapter::new);
+    adapters.put(
+        V1beta1RunAsUserStrategyOptions.class, V1beta1RunAsUserStrategyOptionsTypeAdapter::new);
+    adapters.put(V1beta1RuntimeClass.class, V1beta1RuntimeClassTypeAdapter::new);
+    adapters.put(V1beta1RuntimeClassList.class, V1beta1RuntimeClassListTypeAdapter::new);
+    adapters.put(
+        V1beta1RuntimeClassStrategyOptions.class,
+        V1beta1RuntimeClassStrategyOptionsTypeAdapter::new);
+    adapters.put(
+        V1beta1SELinuxStrategyOptions.class, V1beta1SELinuxStrategyOptionsTypeAdapter::new);
+    adapters.put(V1beta1Scheduling.class, V1beta1SchedulingTypeAdapter::new);
+    adapters.put(
+        V1beta1SelfSubjectAccessReview.class, V1beta1SelfSubjectAccessReviewTypeAdapter::new);
+    adapters.put(
+        V1beta1SelfSubjectAccessReviewSpec.class,
+        V1beta1SelfSubjectAccessReviewSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1SelfSubjectRulesReview.class, V1beta1SelfSubjectRulesReviewTypeAdapter::new);
+    adapters.put(
+        V1beta1SelfSubjectRulesReviewSpec.class, V1beta1SelfSubjectRulesReviewSpecTypeAdapter::new);
+    adapters.put(V1beta1StorageClass.class, V1beta1StorageClassTypeAdapter::new);
+    adapters.put(V1beta1StorageClassList.class, V1beta1StorageClassListTypeAdapter::new);
+    adapters.put(V1beta1Subject.class, V1beta1SubjectTypeAdapter::new);
+    adapters.put(V1beta1SubjectAccessReview.class, V1beta1SubjectAccessReviewTypeAdapter::new);
+    adapters.put(
+        V1beta1SubjectAccessReviewSpec.class, V1beta1SubjectAccessReviewSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1SubjectAccessReviewStatus.class, V1beta1SubjectAccessReviewStatusTypeAdapter::new);
+    adapters.put(
+        V1beta1SubjectRulesReviewStatus.class, V1beta1SubjectRulesReviewStatusTypeAdapter::new);
+    adapters.put(
+        V1beta1SupplementalGroupsStrategyOptions.class,
+        V1beta1SupplementalGroupsStrategyOptionsTypeAdapter::new);
+    adapters.put(V1beta1TokenReview.class, V1beta1TokenReviewTypeAdapter::new);
+    adapters.put(V1beta1TokenReviewSpec.class, V1beta1TokenReviewSpecTypeAdapter::new);
+    adapters.put(V1beta1TokenReviewStatus.class, V1beta1TokenReviewStatusTypeAdapter::new);
+    adapters.put(V1beta1UserInfo.class, V1beta1UserInfoTypeAdapter::new);
+    adapters.put(V1beta1ValidatingWebhook.class, V1beta1ValidatingWebhookTypeAdapter::new);
+    adapters.put(
+        V1beta1ValidatingWebhookConfiguration.class,
+        V1beta1ValidatingWebhookConfigurationTypeAdapter::new);
+    adapters.put(
+        V1beta1ValidatingWebhookConfigurationList.class,
+        V1beta1ValidatingWebhookConfigurationListTypeAdapter::new);
+    adapters.put(V1beta1VolumeAttachment.class, V1beta1VolumeAttachmentTypeAdapter::new);
+    adapters.put(V1beta1VolumeAttachmentList.class, V1beta1VolumeAttachmentListTypeAdapter::new);
+    adapters.put(
+        V1beta1VolumeAttachmentSource.class, V1beta1VolumeAttachmentSourceTypeAdapter::new);
+    adapters.put(V1beta1VolumeAttachmentSpec.class, V1beta1VolumeAttachmentSpecTypeAdapter::new);
+    adapters.put(
+        V1beta1VolumeAttachmentStatus.class, V1beta1VolumeAttachmentStatusTypeAdapter::new);
+    adapters.put(V1beta1VolumeError.class, V1beta1VolumeErrorTypeAdapter::new);
+    adapters.put(V1beta1VolumeNodeResources.class, V1beta1VolumeNodeResourcesTypeAdapter::new);
+    adapters.put(V2alpha1CronJob.class, V2alpha1CronJobTypeAdapter::new);
+    adapters.put(V2alpha1CronJobList.class, V2alpha1CronJobListTypeAdapter::new);
+    adapters.put(V2alpha1CronJobSpec.class, V2alpha1CronJobSpecTypeAdapter::new);
+    adapters.put(V2alpha1CronJobStatus.class, V2alpha1CronJobStatusTypeAdapter::new);
+    adapters.put(V2alpha1JobTemplateSpec.class, V2alpha1JobTemplateSpecTypeAdapter::new);
+    adapters.put(
+        V2beta1CrossVersionObjectReference.class,
+        V2beta1CrossVersionObjectReferenceTypeAdapter::new);
+    adapters.put(V2beta1ExternalMetricSource.class, V2beta1ExternalMetricSourceTypeAdapter::new);
+    adapters.put(V2beta1ExternalMetricStatus.class, V2beta1ExternalMetricStatusTypeAdapter::new);
+    adapters.put(
+        V2beta1HorizontalPodAutoscaler.class, V2beta1HorizontalPodAutoscalerTypeAdapter::new);
+    adapters.put(
+        V2beta1HorizontalPodAutoscalerCondition.class,
+        V2beta1HorizontalPodAutoscalerConditionTypeAdapter::new);
+    adapters.put(
+        V2beta1HorizontalPodAutoscalerList.class,
+        V2beta1HorizontalPodAutoscalerListTypeAdapter::new);
+    adapters.put(
+        V2beta1HorizontalPodAutoscalerSpec.class,
+        V2beta1HorizontalPodAutoscalerSpecTypeAdapter::new);
+    adapters.put(
+        V2beta1HorizontalPodAutoscalerStatus.class,
+        V2beta1HorizontalPodAutoscalerStatusTypeAdapter::new);
+    adapters.put(V2beta1MetricSpec.class, V2beta1MetricSpecTypeAdapter::new);
+    adapters.put(V2beta1MetricStatus.class, V2beta1MetricStatusTypeAdapter::new);
+    adapters.put(V2beta1ObjectMetricSource.class, V2beta1ObjectMetricSourceTypeAdapter::new);
+    adapters.put(V2beta1ObjectMetricStatus.class, V2beta1ObjectMetricStatusTypeAdapter::new);
+    adapters.put(V2beta1PodsMetricSource.class, V2beta1PodsMetricSourceTypeAdapter::new);
+    adapters.put(V2beta1PodsMetricStatus.class, V2beta1PodsMetricStatusTypeAdapter::new);
+    adapters.put(V2beta1ResourceMetricSource.class, V2beta1ResourceMetricSourceTypeAdapter::new);
+    adapters.put(V2beta1ResourceMetricStatus.class, V2beta1ResourceMetricStatusTypeAdapter::new);
+    adapters.put(
+        V2beta2CrossVersionObjectReference.class,
+        V2beta2CrossVersionObjectReferenceTypeAdapter::new);
+    adapters.put(V2beta2ExternalMetricSource.class, V2beta2ExternalMetricSourceTypeAdapter::new);
+    adapters.put(V2beta2ExternalMetricStatus.class, V2beta2ExternalMetricStatusTypeAdapter::new);
+    adapters.put(V2beta2HPAScalingPolicy.class, V2beta2HPAScalingPolicyTypeAdapter::new);
+    adapters.put(V2beta2HPAScalingRules.class, V2beta2HPAScalingRulesTypeAdapter::new);
+    adapters.put(
+        V2beta2HorizontalPodAutoscaler.class, V2beta2HorizontalPodAutoscalerTypeAdapter::new);
+    adapters.put(
+        V2beta2HorizontalPodAutoscalerBehavior.class,
+        V2beta2HorizontalPodAutoscalerBehaviorTypeAdapter::new);
+    adapters.put(
+        V2beta2HorizontalPodAutoscalerCondition.class,
+        V2beta2HorizontalPodAutoscalerConditionTypeAdapter::new);
+    adapters.put(
+        V2beta2HorizontalPodAutoscalerList.class,
+        V2beta2HorizontalPodAutoscalerListTypeAdapter::new);
+    adapters.put(
+        V2beta2HorizontalPodAutoscalerSpec.class,
+        V2beta2HorizontalPodAutoscalerSpecTypeAdapter::new);
+    adapters.put(
+        V2beta2HorizontalPodAutoscalerStatus.class,
+        V2beta2HorizontalPodAutoscalerStatusTypeAdapter::new);
+    adapters.put(V2beta2MetricIdentifier.class, V2beta2MetricIdentifierTypeAdapter::new);
+    adapters.put(V2beta2MetricSpec.class, V2beta2MetricSpecTypeAdapter::new);
+    adapters.put(V2beta2MetricStatus.class, V2beta2MetricStatusTypeAdapter::new);
+    adapters.put(V2beta2MetricTarget.class, V2beta2MetricTargetTypeAdapter::new);
+    adapters.put(V2beta2MetricValueStatus.class, V2beta2MetricValueStatusTypeAdapter::new);
+    adapters.put(V2beta2ObjectMetricSource.class, V2beta2ObjectMetricSourceTypeAdapter::new);
+    adapters.put(V2beta2ObjectMetricStatus.class, V2beta2ObjectMetricStatusTypeAdapter::new);
+    adapters.put(V2beta2PodsMetricSource.class, V2beta2PodsMetricSourceTypeAdapter::new);
+    adapters.put(V2beta2PodsMetricStatus.class, V2beta2PodsMetricStatusTypeAdapter::new);
+    adapters.put(V2beta2ResourceMetricSource.class, V2beta2ResourceMetricSourceTypeAdapter::new);
+    adapters.put(V2beta2ResourceMetricStatus.class, V2beta2ResourceMetricStatusTypeAdapter::new);
+    adapters.put(VersionInfo.class, VersionInfoTypeAdapter::new);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Function<Gson, TypeAdapter<?>> adapter = adapters.get(type.getRawType());
+    return adapter != null ? (TypeAdapter<T>) adapter.apply(gson) : null;
+  }
+}
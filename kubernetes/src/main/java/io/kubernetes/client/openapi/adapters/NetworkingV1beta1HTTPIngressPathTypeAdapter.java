@@ -0,0 +1,79 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1HTTPIngressPath;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressBackend;
+import java.io.IOException;
+
+/** Reads and writes {@link NetworkingV1beta1HTTPIngressPath} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class NetworkingV1beta1HTTPIngressPathTypeAdapter
+    extends TypeAdapter<NetworkingV1beta1HTTPIngressPath> {
+  private final TypeAdapter<NetworkingV1beta1IngressBackend> networkingV1beta1IngressBackendAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public NetworkingV1beta1HTTPIngressPathTypeAdapter(Gson gson) {
+    this.networkingV1beta1IngressBackendAdapter =
+        gson.getAdapter(NetworkingV1beta1IngressBackend.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, NetworkingV1beta1HTTPIngressPath value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("backend");
+    networkingV1beta1IngressBackendAdapter.write(out, value.getBackend());
+    out.name("path");
+    stringAdapter.write(out, value.getPath());
+    out.name("pathType");
+    stringAdapter.write(out, value.getPathType());
+    out.endObject();
+  }
+
+  @Override
+  public NetworkingV1beta1HTTPIngressPath read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    NetworkingV1beta1HTTPIngressPath value = new NetworkingV1beta1HTTPIngressPath();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "backend":
+          value.setBackend(networkingV1beta1IngressBackendAdapter.read(in));
+          break;
+        case "path":
+          value.setPath(stringAdapter.read(in));
+          break;
+        case "pathType":
+          value.setPathType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
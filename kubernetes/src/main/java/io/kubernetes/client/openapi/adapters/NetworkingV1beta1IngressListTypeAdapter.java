@@ -0,0 +1,91 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1Ingress;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link NetworkingV1beta1IngressList} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class NetworkingV1beta1IngressListTypeAdapter
+    extends TypeAdapter<NetworkingV1beta1IngressList> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<NetworkingV1beta1Ingress>> listNetworkingV1beta1IngressAdapter;
+  private final TypeAdapter<V1ListMeta> v1ListMetaAdapter;
+
+  @SuppressWarnings("unchecked")
+  public NetworkingV1beta1IngressListTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listNetworkingV1beta1IngressAdapter =
+        (TypeAdapter<List<NetworkingV1beta1Ingress>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, NetworkingV1beta1Ingress.class));
+    this.v1ListMetaAdapter = gson.getAdapter(V1ListMeta.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, NetworkingV1beta1IngressList value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("items");
+    listNetworkingV1beta1IngressAdapter.write(out, value.getItems());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ListMetaAdapter.write(out, value.getMetadata());
+    out.endObject();
+  }
+
+  @Override
+  public NetworkingV1beta1IngressList read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    NetworkingV1beta1IngressList value = new NetworkingV1beta1IngressList();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "items":
+          value.setItems(listNetworkingV1beta1IngressAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ListMetaAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1HTTPIngressRuleValue;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressRule;
+import java.io.IOException;
+
+/** Reads and writes {@link NetworkingV1beta1IngressRule} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class NetworkingV1beta1IngressRuleTypeAdapter
+    extends TypeAdapter<NetworkingV1beta1IngressRule> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<NetworkingV1beta1HTTPIngressRuleValue>
+      networkingV1beta1HTTPIngressRuleValueAdapter;
+
+  public NetworkingV1beta1IngressRuleTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.networkingV1beta1HTTPIngressRuleValueAdapter =
+        gson.getAdapter(NetworkingV1beta1HTTPIngressRuleValue.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, NetworkingV1beta1IngressRule value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("host");
+    stringAdapter.write(out, value.getHost());
+    out.name("http");
+    networkingV1beta1HTTPIngressRuleValueAdapter.write(out, value.getHttp());
+    out.endObject();
+  }
+
+  @Override
+  public NetworkingV1beta1IngressRule read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    NetworkingV1beta1IngressRule value = new NetworkingV1beta1IngressRule();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "host":
+          value.setHost(stringAdapter.read(in));
+          break;
+        case "http":
+          value.setHttp(networkingV1beta1HTTPIngressRuleValueAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressBackend;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressRule;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressSpec;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressTLS;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link NetworkingV1beta1IngressSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class NetworkingV1beta1IngressSpecTypeAdapter
+    extends TypeAdapter<NetworkingV1beta1IngressSpec> {
+  private final TypeAdapter<NetworkingV1beta1IngressBackend> networkingV1beta1IngressBackendAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<NetworkingV1beta1IngressRule>>
+      listNetworkingV1beta1IngressRuleAdapter;
+  private final TypeAdapter<List<NetworkingV1beta1IngressTLS>>
+      listNetworkingV1beta1IngressTLSAdapter;
+
+  @SuppressWarnings("unchecked")
+  public NetworkingV1beta1IngressSpecTypeAdapter(Gson gson) {
+    this.networkingV1beta1IngressBackendAdapter =
+        gson.getAdapter(NetworkingV1beta1IngressBackend.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listNetworkingV1beta1IngressRuleAdapter =
+        (TypeAdapter<List<NetworkingV1beta1IngressRule>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, NetworkingV1beta1IngressRule.class));
+    this.listNetworkingV1beta1IngressTLSAdapter =
+        (TypeAdapter<List<NetworkingV1beta1IngressTLS>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, NetworkingV1beta1IngressTLS.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, NetworkingV1beta1IngressSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("backend");
+    networkingV1beta1IngressBackendAdapter.write(out, value.getBackend());
+    out.name("ingressClassName");
+    stringAdapter.write(out, value.getIngressClassName());
+    out.name("rules");
+    listNetworkingV1beta1IngressRuleAdapter.write(out, value.getRules());
+    out.name("tls");
+    listNetworkingV1beta1IngressTLSAdapter.write(out, value.getTls());
+    out.endObject();
+  }
+
+  @Override
+  public NetworkingV1beta1IngressSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    NetworkingV1beta1IngressSpec value = new NetworkingV1beta1IngressSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "backend":
+          value.setBackend(networkingV1beta1IngressBackendAdapter.read(in));
+          break;
+        case "ingressClassName":
+          value.setIngressClassName(stringAdapter.read(in));
+          break;
+        case "rules":
+          value.setRules(listNetworkingV1beta1IngressRuleAdapter.read(in));
+          break;
+        case "tls":
+          value.setTls(listNetworkingV1beta1IngressTLSAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
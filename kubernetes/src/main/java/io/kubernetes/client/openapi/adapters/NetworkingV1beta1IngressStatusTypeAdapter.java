@@ -0,0 +1,66 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.NetworkingV1beta1IngressStatus;
+import io.kubernetes.client.openapi.models.V1LoadBalancerStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link NetworkingV1beta1IngressStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class NetworkingV1beta1IngressStatusTypeAdapter
+    extends TypeAdapter<NetworkingV1beta1IngressStatus> {
+  private final TypeAdapter<V1LoadBalancerStatus> v1LoadBalancerStatusAdapter;
+
+  public NetworkingV1beta1IngressStatusTypeAdapter(Gson gson) {
+    this.v1LoadBalancerStatusAdapter = gson.getAdapter(V1LoadBalancerStatus.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, NetworkingV1beta1IngressStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("loadBalancer");
+    v1LoadBalancerStatusAdapter.write(out, value.getLoadBalancer());
+    out.endObject();
+  }
+
+  @Override
+  public NetworkingV1beta1IngressStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    NetworkingV1beta1IngressStatus value = new NetworkingV1beta1IngressStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "loadBalancer":
+          value.setLoadBalancer(v1LoadBalancerStatusAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1APIGroup;
+import io.kubernetes.client.openapi.models.V1APIGroupList;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1APIGroupList} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1APIGroupListTypeAdapter extends TypeAdapter<V1APIGroupList> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1APIGroup>> listV1APIGroupAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1APIGroupListTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1APIGroupAdapter =
+        (TypeAdapter<List<V1APIGroup>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1APIGroup.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1APIGroupList value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("groups");
+    listV1APIGroupAdapter.write(out, value.getGroups());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.endObject();
+  }
+
+  @Override
+  public V1APIGroupList read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1APIGroupList value = new V1APIGroupList();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "groups":
+          value.setGroups(listV1APIGroupAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1APIGroup;
+import io.kubernetes.client.openapi.models.V1GroupVersionForDiscovery;
+import io.kubernetes.client.openapi.models.V1ServerAddressByClientCIDR;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1APIGroup} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1APIGroupTypeAdapter extends TypeAdapter<V1APIGroup> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1GroupVersionForDiscovery> v1GroupVersionForDiscoveryAdapter;
+  private final TypeAdapter<List<V1ServerAddressByClientCIDR>>
+      listV1ServerAddressByClientCIDRAdapter;
+  private final TypeAdapter<List<V1GroupVersionForDiscovery>> listV1GroupVersionForDiscoveryAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1APIGroupTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1GroupVersionForDiscoveryAdapter = gson.getAdapter(V1GroupVersionForDiscovery.class);
+    this.listV1ServerAddressByClientCIDRAdapter =
+        (TypeAdapter<List<V1ServerAddressByClientCIDR>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1ServerAddressByClientCIDR.class));
+    this.listV1GroupVersionForDiscoveryAdapter =
+        (TypeAdapter<List<V1GroupVersionForDiscovery>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1GroupVersionForDiscovery.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1APIGroup value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("preferredVersion");
+    v1GroupVersionForDiscoveryAdapter.write(out, value.getPreferredVersion());
+    out.name("serverAddressByClientCIDRs");
+    listV1ServerAddressByClientCIDRAdapter.write(out, value.getServerAddressByClientCIDRs());
+    out.name("versions");
+    listV1GroupVersionForDiscoveryAdapter.write(out, value.getVersions());
+    out.endObject();
+  }
+
+  @Override
+  public V1APIGroup read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1APIGroup value = new V1APIGroup();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "preferredVersion":
+          value.setPreferredVersion(v1GroupVersionForDiscoveryAdapter.read(in));
+          break;
+        case "serverAddressByClientCIDRs":
+          value.setServerAddressByClientCIDRs(listV1ServerAddressByClientCIDRAdapter.read(in));
+          break;
+        case "versions":
+          value.setVersions(listV1GroupVersionForDiscoveryAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1APIResource;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1APIResource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1APIResourceTypeAdapter extends TypeAdapter<V1APIResource> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1APIResourceTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1APIResource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("categories");
+    listStringAdapter.write(out, value.getCategories());
+    out.name("group");
+    stringAdapter.write(out, value.getGroup());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("namespaced");
+    booleanAdapter.write(out, value.getNamespaced());
+    out.name("shortNames");
+    listStringAdapter.write(out, value.getShortNames());
+    out.name("singularName");
+    stringAdapter.write(out, value.getSingularName());
+    out.name("storageVersionHash");
+    stringAdapter.write(out, value.getStorageVersionHash());
+    out.name("verbs");
+    listStringAdapter.write(out, value.getVerbs());
+    out.name("version");
+    stringAdapter.write(out, value.getVersion());
+    out.endObject();
+  }
+
+  @Override
+  public V1APIResource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1APIResource value = new V1APIResource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "categories":
+          value.setCategories(listStringAdapter.read(in));
+          break;
+        case "group":
+          value.setGroup(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "namespaced":
+          value.setNamespaced(booleanAdapter.read(in));
+          break;
+        case "shortNames":
+          value.setShortNames(listStringAdapter.read(in));
+          break;
+        case "singularName":
+          value.setSingularName(stringAdapter.read(in));
+          break;
+        case "storageVersionHash":
+          value.setStorageVersionHash(stringAdapter.read(in));
+          break;
+        case "verbs":
+          value.setVerbs(listStringAdapter.read(in));
+          break;
+        case "version":
+          value.setVersion(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ApiregistrationV1ServiceReference;
+import io.kubernetes.client.openapi.models.V1APIServiceSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1APIServiceSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1APIServiceSpecTypeAdapter extends TypeAdapter<V1APIServiceSpec> {
+  private final TypeAdapter<byte[]> byteArrayAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<ApiregistrationV1ServiceReference>
+      apiregistrationV1ServiceReferenceAdapter;
+
+  public V1APIServiceSpecTypeAdapter(Gson gson) {
+    this.byteArrayAdapter = gson.getAdapter(byte[].class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.apiregistrationV1ServiceReferenceAdapter =
+        gson.getAdapter(ApiregistrationV1ServiceReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1APIServiceSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("caBundle");
+    byteArrayAdapter.write(out, value.getCaBundle());
+    out.name("group");
+    stringAdapter.write(out, value.getGroup());
+    out.name("groupPriorityMinimum");
+    integerAdapter.write(out, value.getGroupPriorityMinimum());
+    out.name("insecureSkipTLSVerify");
+    booleanAdapter.write(out, value.getInsecureSkipTLSVerify());
+    out.name("service");
+    apiregistrationV1ServiceReferenceAdapter.write(out, value.getService());
+    out.name("version");
+    stringAdapter.write(out, value.getVersion());
+    out.name("versionPriority");
+    integerAdapter.write(out, value.getVersionPriority());
+    out.endObject();
+  }
+
+  @Override
+  public V1APIServiceSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1APIServiceSpec value = new V1APIServiceSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "caBundle":
+          value.setCaBundle(byteArrayAdapter.read(in));
+          break;
+        case "group":
+          value.setGroup(stringAdapter.read(in));
+          break;
+        case "groupPriorityMinimum":
+          value.setGroupPriorityMinimum(integerAdapter.read(in));
+          break;
+        case "insecureSkipTLSVerify":
+          value.setInsecureSkipTLSVerify(booleanAdapter.read(in));
+          break;
+        case "service":
+          value.setService(apiregistrationV1ServiceReferenceAdapter.read(in));
+          break;
+        case "version":
+          value.setVersion(stringAdapter.read(in));
+          break;
+        case "versionPriority":
+          value.setVersionPriority(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
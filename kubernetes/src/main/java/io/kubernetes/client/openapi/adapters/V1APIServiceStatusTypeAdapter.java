@@ -0,0 +1,70 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1APIServiceCondition;
+import io.kubernetes.client.openapi.models.V1APIServiceStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1APIServiceStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1APIServiceStatusTypeAdapter extends TypeAdapter<V1APIServiceStatus> {
+  private final TypeAdapter<List<V1APIServiceCondition>> listV1APIServiceConditionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1APIServiceStatusTypeAdapter(Gson gson) {
+    this.listV1APIServiceConditionAdapter =
+        (TypeAdapter<List<V1APIServiceCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1APIServiceCondition.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1APIServiceStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("conditions");
+    listV1APIServiceConditionAdapter.write(out, value.getConditions());
+    out.endObject();
+  }
+
+  @Override
+  public V1APIServiceStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1APIServiceStatus value = new V1APIServiceStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "conditions":
+          value.setConditions(listV1APIServiceConditionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1APIVersions;
+import io.kubernetes.client.openapi.models.V1ServerAddressByClientCIDR;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1APIVersions} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1APIVersionsTypeAdapter extends TypeAdapter<V1APIVersions> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1ServerAddressByClientCIDR>>
+      listV1ServerAddressByClientCIDRAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1APIVersionsTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1ServerAddressByClientCIDRAdapter =
+        (TypeAdapter<List<V1ServerAddressByClientCIDR>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1ServerAddressByClientCIDR.class));
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1APIVersions value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("serverAddressByClientCIDRs");
+    listV1ServerAddressByClientCIDRAdapter.write(out, value.getServerAddressByClientCIDRs());
+    out.name("versions");
+    listStringAdapter.write(out, value.getVersions());
+    out.endObject();
+  }
+
+  @Override
+  public V1APIVersions read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1APIVersions value = new V1APIVersions();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "serverAddressByClientCIDRs":
+          value.setServerAddressByClientCIDRs(listV1ServerAddressByClientCIDRAdapter.read(in));
+          break;
+        case "versions":
+          value.setVersions(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Affinity;
+import io.kubernetes.client.openapi.models.V1NodeAffinity;
+import io.kubernetes.client.openapi.models.V1PodAffinity;
+import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
+import java.io.IOException;
+
+/** Reads and writes {@link V1Affinity} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1AffinityTypeAdapter extends TypeAdapter<V1Affinity> {
+  private final TypeAdapter<V1NodeAffinity> v1NodeAffinityAdapter;
+  private final TypeAdapter<V1PodAffinity> v1PodAffinityAdapter;
+  private final TypeAdapter<V1PodAntiAffinity> v1PodAntiAffinityAdapter;
+
+  public V1AffinityTypeAdapter(Gson gson) {
+    this.v1NodeAffinityAdapter = gson.getAdapter(V1NodeAffinity.class);
+    this.v1PodAffinityAdapter = gson.getAdapter(V1PodAffinity.class);
+    this.v1PodAntiAffinityAdapter = gson.getAdapter(V1PodAntiAffinity.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Affinity value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("nodeAffinity");
+    v1NodeAffinityAdapter.write(out, value.getNodeAffinity());
+    out.name("podAffinity");
+    v1PodAffinityAdapter.write(out, value.getPodAffinity());
+    out.name("podAntiAffinity");
+    v1PodAntiAffinityAdapter.write(out, value.getPodAntiAffinity());
+    out.endObject();
+  }
+
+  @Override
+  public V1Affinity read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Affinity value = new V1Affinity();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "nodeAffinity":
+          value.setNodeAffinity(v1NodeAffinityAdapter.read(in));
+          break;
+        case "podAffinity":
+          value.setPodAffinity(v1PodAffinityAdapter.read(in));
+          break;
+        case "podAntiAffinity":
+          value.setPodAntiAffinity(v1PodAntiAffinityAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1AzureFilePersistentVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1AzureFilePersistentVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1AzureFilePersistentVolumeSourceTypeAdapter
+    extends TypeAdapter<V1AzureFilePersistentVolumeSource> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1AzureFilePersistentVolumeSourceTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1AzureFilePersistentVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretName");
+    stringAdapter.write(out, value.getSecretName());
+    out.name("secretNamespace");
+    stringAdapter.write(out, value.getSecretNamespace());
+    out.name("shareName");
+    stringAdapter.write(out, value.getShareName());
+    out.endObject();
+  }
+
+  @Override
+  public V1AzureFilePersistentVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1AzureFilePersistentVolumeSource value = new V1AzureFilePersistentVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretName":
+          value.setSecretName(stringAdapter.read(in));
+          break;
+        case "secretNamespace":
+          value.setSecretNamespace(stringAdapter.read(in));
+          break;
+        case "shareName":
+          value.setShareName(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
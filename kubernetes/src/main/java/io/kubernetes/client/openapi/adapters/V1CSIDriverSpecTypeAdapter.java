@@ -0,0 +1,93 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CSIDriverSpec;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1CSIDriverSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CSIDriverSpecTypeAdapter extends TypeAdapter<V1CSIDriverSpec> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CSIDriverSpecTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CSIDriverSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("attachRequired");
+    booleanAdapter.write(out, value.getAttachRequired());
+    out.name("fsGroupPolicy");
+    stringAdapter.write(out, value.getFsGroupPolicy());
+    out.name("podInfoOnMount");
+    booleanAdapter.write(out, value.getPodInfoOnMount());
+    out.name("storageCapacity");
+    booleanAdapter.write(out, value.getStorageCapacity());
+    out.name("volumeLifecycleModes");
+    listStringAdapter.write(out, value.getVolumeLifecycleModes());
+    out.endObject();
+  }
+
+  @Override
+  public V1CSIDriverSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CSIDriverSpec value = new V1CSIDriverSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "attachRequired":
+          value.setAttachRequired(booleanAdapter.read(in));
+          break;
+        case "fsGroupPolicy":
+          value.setFsGroupPolicy(stringAdapter.read(in));
+          break;
+        case "podInfoOnMount":
+          value.setPodInfoOnMount(booleanAdapter.read(in));
+          break;
+        case "storageCapacity":
+          value.setStorageCapacity(booleanAdapter.read(in));
+          break;
+        case "volumeLifecycleModes":
+          value.setVolumeLifecycleModes(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CSINodeDriver;
+import io.kubernetes.client.openapi.models.V1VolumeNodeResources;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1CSINodeDriver} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CSINodeDriverTypeAdapter extends TypeAdapter<V1CSINodeDriver> {
+  private final TypeAdapter<V1VolumeNodeResources> v1VolumeNodeResourcesAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CSINodeDriverTypeAdapter(Gson gson) {
+    this.v1VolumeNodeResourcesAdapter = gson.getAdapter(V1VolumeNodeResources.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CSINodeDriver value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("allocatable");
+    v1VolumeNodeResourcesAdapter.write(out, value.getAllocatable());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("nodeID");
+    stringAdapter.write(out, value.getNodeID());
+    out.name("topologyKeys");
+    listStringAdapter.write(out, value.getTopologyKeys());
+    out.endObject();
+  }
+
+  @Override
+  public V1CSINodeDriver read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CSINodeDriver value = new V1CSINodeDriver();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "allocatable":
+          value.setAllocatable(v1VolumeNodeResourcesAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "nodeID":
+          value.setNodeID(stringAdapter.read(in));
+          break;
+        case "topologyKeys":
+          value.setTopologyKeys(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CSIPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1CSIPersistentVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CSIPersistentVolumeSourceTypeAdapter
+    extends TypeAdapter<V1CSIPersistentVolumeSource> {
+  private final TypeAdapter<V1SecretReference> v1SecretReferenceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CSIPersistentVolumeSourceTypeAdapter(Gson gson) {
+    this.v1SecretReferenceAdapter = gson.getAdapter(V1SecretReference.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CSIPersistentVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("controllerExpandSecretRef");
+    v1SecretReferenceAdapter.write(out, value.getControllerExpandSecretRef());
+    out.name("controllerPublishSecretRef");
+    v1SecretReferenceAdapter.write(out, value.getControllerPublishSecretRef());
+    out.name("driver");
+    stringAdapter.write(out, value.getDriver());
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("nodePublishSecretRef");
+    v1SecretReferenceAdapter.write(out, value.getNodePublishSecretRef());
+    out.name("nodeStageSecretRef");
+    v1SecretReferenceAdapter.write(out, value.getNodeStageSecretRef());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("volumeAttributes");
+    mapStringStringAdapter.write(out, value.getVolumeAttributes());
+    out.name("volumeHandle");
+    stringAdapter.write(out, value.getVolumeHandle());
+    out.endObject();
+  }
+
+  @Override
+  public V1CSIPersistentVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CSIPersistentVolumeSource value = new V1CSIPersistentVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "controllerExpandSecretRef":
+          value.setControllerExpandSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "controllerPublishSecretRef":
+          value.setControllerPublishSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "driver":
+          value.setDriver(stringAdapter.read(in));
+          break;
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "nodePublishSecretRef":
+          value.setNodePublishSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "nodeStageSecretRef":
+          value.setNodeStageSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "volumeAttributes":
+          value.setVolumeAttributes(mapStringStringAdapter.read(in));
+          break;
+        case "volumeHandle":
+          value.setVolumeHandle(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CSIVolumeSource;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1CSIVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CSIVolumeSourceTypeAdapter extends TypeAdapter<V1CSIVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1LocalObjectReference> v1LocalObjectReferenceAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CSIVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1LocalObjectReferenceAdapter = gson.getAdapter(V1LocalObjectReference.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CSIVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("driver");
+    stringAdapter.write(out, value.getDriver());
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("nodePublishSecretRef");
+    v1LocalObjectReferenceAdapter.write(out, value.getNodePublishSecretRef());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("volumeAttributes");
+    mapStringStringAdapter.write(out, value.getVolumeAttributes());
+    out.endObject();
+  }
+
+  @Override
+  public V1CSIVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CSIVolumeSource value = new V1CSIVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "driver":
+          value.setDriver(stringAdapter.read(in));
+          break;
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "nodePublishSecretRef":
+          value.setNodePublishSecretRef(v1LocalObjectReferenceAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "volumeAttributes":
+          value.setVolumeAttributes(mapStringStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Capabilities;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1Capabilities} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CapabilitiesTypeAdapter extends TypeAdapter<V1Capabilities> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CapabilitiesTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Capabilities value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("add");
+    listStringAdapter.write(out, value.getAdd());
+    out.name("drop");
+    listStringAdapter.write(out, value.getDrop());
+    out.endObject();
+  }
+
+  @Override
+  public V1Capabilities read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Capabilities value = new V1Capabilities();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "add":
+          value.setAdd(listStringAdapter.read(in));
+          break;
+        case "drop":
+          value.setDrop(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
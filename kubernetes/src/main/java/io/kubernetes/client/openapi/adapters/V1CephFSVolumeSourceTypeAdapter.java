@@ -0,0 +1,101 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CephFSVolumeSource;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1CephFSVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CephFSVolumeSourceTypeAdapter extends TypeAdapter<V1CephFSVolumeSource> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1LocalObjectReference> v1LocalObjectReferenceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CephFSVolumeSourceTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1LocalObjectReferenceAdapter = gson.getAdapter(V1LocalObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CephFSVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("monitors");
+    listStringAdapter.write(out, value.getMonitors());
+    out.name("path");
+    stringAdapter.write(out, value.getPath());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretFile");
+    stringAdapter.write(out, value.getSecretFile());
+    out.name("secretRef");
+    v1LocalObjectReferenceAdapter.write(out, value.getSecretRef());
+    out.name("user");
+    stringAdapter.write(out, value.getUser());
+    out.endObject();
+  }
+
+  @Override
+  public V1CephFSVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CephFSVolumeSource value = new V1CephFSVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "monitors":
+          value.setMonitors(listStringAdapter.read(in));
+          break;
+        case "path":
+          value.setPath(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretFile":
+          value.setSecretFile(stringAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1LocalObjectReferenceAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
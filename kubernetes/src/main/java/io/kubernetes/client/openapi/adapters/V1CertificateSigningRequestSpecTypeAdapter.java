@@ -0,0 +1,113 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestSpec;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1CertificateSigningRequestSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CertificateSigningRequestSpecTypeAdapter
+    extends TypeAdapter<V1CertificateSigningRequestSpec> {
+  private final TypeAdapter<Map<String, List<String>>> mapStringListStringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<byte[]> byteArrayAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CertificateSigningRequestSpecTypeAdapter(Gson gson) {
+    this.mapStringListStringAdapter =
+        (TypeAdapter<Map<String, List<String>>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    Map.class,
+                    String.class,
+                    TypeToken.getParameterized(List.class, String.class).getType()));
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.byteArrayAdapter = gson.getAdapter(byte[].class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CertificateSigningRequestSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("extra");
+    mapStringListStringAdapter.write(out, value.getExtra());
+    out.name("groups");
+    listStringAdapter.write(out, value.getGroups());
+    out.name("request");
+    byteArrayAdapter.write(out, value.getRequest());
+    out.name("signerName");
+    stringAdapter.write(out, value.getSignerName());
+    out.name("uid");
+    stringAdapter.write(out, value.getUid());
+    out.name("usages");
+    listStringAdapter.write(out, value.getUsages());
+    out.name("username");
+    stringAdapter.write(out, value.getUsername());
+    out.endObject();
+  }
+
+  @Override
+  public V1CertificateSigningRequestSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CertificateSigningRequestSpec value = new V1CertificateSigningRequestSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "extra":
+          value.setExtra(mapStringListStringAdapter.read(in));
+          break;
+        case "groups":
+          value.setGroups(listStringAdapter.read(in));
+          break;
+        case "request":
+          value.setRequest(byteArrayAdapter.read(in));
+          break;
+        case "signerName":
+          value.setSignerName(stringAdapter.read(in));
+          break;
+        case "uid":
+          value.setUid(stringAdapter.read(in));
+          break;
+        case "usages":
+          value.setUsages(listStringAdapter.read(in));
+          break;
+        case "username":
+          value.setUsername(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestCondition;
+import io.kubernetes.client.openapi.models.V1CertificateSigningRequestStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1CertificateSigningRequestStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CertificateSigningRequestStatusTypeAdapter
+    extends TypeAdapter<V1CertificateSigningRequestStatus> {
+  private final TypeAdapter<byte[]> byteArrayAdapter;
+  private final TypeAdapter<List<V1CertificateSigningRequestCondition>>
+      listV1CertificateSigningRequestConditionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CertificateSigningRequestStatusTypeAdapter(Gson gson) {
+    this.byteArrayAdapter = gson.getAdapter(byte[].class);
+    this.listV1CertificateSigningRequestConditionAdapter =
+        (TypeAdapter<List<V1CertificateSigningRequestCondition>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1CertificateSigningRequestCondition.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CertificateSigningRequestStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("certificate");
+    byteArrayAdapter.write(out, value.getCertificate());
+    out.name("conditions");
+    listV1CertificateSigningRequestConditionAdapter.write(out, value.getConditions());
+    out.endObject();
+  }
+
+  @Override
+  public V1CertificateSigningRequestStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CertificateSigningRequestStatus value = new V1CertificateSigningRequestStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "certificate":
+          value.setCertificate(byteArrayAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1CertificateSigningRequestConditionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CinderPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import java.io.IOException;
+
+/** Reads and writes {@link V1CinderPersistentVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CinderPersistentVolumeSourceTypeAdapter
+    extends TypeAdapter<V1CinderPersistentVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1SecretReference> v1SecretReferenceAdapter;
+
+  public V1CinderPersistentVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1SecretReferenceAdapter = gson.getAdapter(V1SecretReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CinderPersistentVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretRef");
+    v1SecretReferenceAdapter.write(out, value.getSecretRef());
+    out.name("volumeID");
+    stringAdapter.write(out, value.getVolumeID());
+    out.endObject();
+  }
+
+  @Override
+  public V1CinderPersistentVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CinderPersistentVolumeSource value = new V1CinderPersistentVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "volumeID":
+          value.setVolumeID(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CinderVolumeSource;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import java.io.IOException;
+
+/** Reads and writes {@link V1CinderVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CinderVolumeSourceTypeAdapter extends TypeAdapter<V1CinderVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1LocalObjectReference> v1LocalObjectReferenceAdapter;
+
+  public V1CinderVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1LocalObjectReferenceAdapter = gson.getAdapter(V1LocalObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CinderVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretRef");
+    v1LocalObjectReferenceAdapter.write(out, value.getSecretRef());
+    out.name("volumeID");
+    stringAdapter.write(out, value.getVolumeID());
+    out.endObject();
+  }
+
+  @Override
+  public V1CinderVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CinderVolumeSource value = new V1CinderVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1LocalObjectReferenceAdapter.read(in));
+          break;
+        case "volumeID":
+          value.setVolumeID(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ComponentCondition;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ComponentCondition} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ComponentConditionTypeAdapter extends TypeAdapter<V1ComponentCondition> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1ComponentConditionTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ComponentCondition value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("error");
+    stringAdapter.write(out, value.getError());
+    out.name("message");
+    stringAdapter.write(out, value.getMessage());
+    out.name("status");
+    stringAdapter.write(out, value.getStatus());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V1ComponentCondition read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ComponentCondition value = new V1ComponentCondition();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "error":
+          value.setError(stringAdapter.read(in));
+          break;
+        case "message":
+          value.setMessage(stringAdapter.read(in));
+          break;
+        case "status":
+          value.setStatus(stringAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ComponentCondition;
+import io.kubernetes.client.openapi.models.V1ComponentStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ComponentStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ComponentStatusTypeAdapter extends TypeAdapter<V1ComponentStatus> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1ComponentCondition>> listV1ComponentConditionAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ComponentStatusTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1ComponentConditionAdapter =
+        (TypeAdapter<List<V1ComponentCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ComponentCondition.class));
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ComponentStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("conditions");
+    listV1ComponentConditionAdapter.write(out, value.getConditions());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.endObject();
+  }
+
+  @Override
+  public V1ComponentStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ComponentStatus value = new V1ComponentStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1ComponentConditionAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
+import io.kubernetes.client.openapi.models.V1KeyToPath;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ConfigMapProjection} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ConfigMapProjectionTypeAdapter extends TypeAdapter<V1ConfigMapProjection> {
+  private final TypeAdapter<List<V1KeyToPath>> listV1KeyToPathAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ConfigMapProjectionTypeAdapter(Gson gson) {
+    this.listV1KeyToPathAdapter =
+        (TypeAdapter<List<V1KeyToPath>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1KeyToPath.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ConfigMapProjection value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("items");
+    listV1KeyToPathAdapter.write(out, value.getItems());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("optional");
+    booleanAdapter.write(out, value.getOptional());
+    out.endObject();
+  }
+
+  @Override
+  public V1ConfigMapProjection read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ConfigMapProjection value = new V1ConfigMapProjection();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "items":
+          value.setItems(listV1KeyToPathAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "optional":
+          value.setOptional(booleanAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1ConfigMap} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ConfigMapTypeAdapter extends TypeAdapter<V1ConfigMap> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Map<String, byte[]>> mapStringByteArrayAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ConfigMapTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.mapStringByteArrayAdapter =
+        (TypeAdapter<Map<String, byte[]>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, byte[].class));
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ConfigMap value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("binaryData");
+    mapStringByteArrayAdapter.write(out, value.getBinaryData());
+    out.name("data");
+    mapStringStringAdapter.write(out, value.getData());
+    out.name("immutable");
+    booleanAdapter.write(out, value.getImmutable());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.endObject();
+  }
+
+  @Override
+  public V1ConfigMap read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ConfigMap value = new V1ConfigMap();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "binaryData":
+          value.setBinaryData(mapStringByteArrayAdapter.read(in));
+          break;
+        case "data":
+          value.setData(mapStringStringAdapter.read(in));
+          break;
+        case "immutable":
+          value.setImmutable(booleanAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ContainerImage;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ContainerImage} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ContainerImageTypeAdapter extends TypeAdapter<V1ContainerImage> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ContainerImageTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ContainerImage value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("names");
+    listStringAdapter.write(out, value.getNames());
+    out.name("sizeBytes");
+    longAdapter.write(out, value.getSizeBytes());
+    out.endObject();
+  }
+
+  @Override
+  public V1ContainerImage read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ContainerImage value = new V1ContainerImage();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "names":
+          value.setNames(listStringAdapter.read(in));
+          break;
+        case "sizeBytes":
+          value.setSizeBytes(longAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
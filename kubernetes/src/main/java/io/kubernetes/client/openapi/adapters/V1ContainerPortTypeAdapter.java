@@ -0,0 +1,86 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ContainerPort} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ContainerPortTypeAdapter extends TypeAdapter<V1ContainerPort> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1ContainerPortTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ContainerPort value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("containerPort");
+    integerAdapter.write(out, value.getContainerPort());
+    out.name("hostIP");
+    stringAdapter.write(out, value.getHostIP());
+    out.name("hostPort");
+    integerAdapter.write(out, value.getHostPort());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("protocol");
+    stringAdapter.write(out, value.getProtocol());
+    out.endObject();
+  }
+
+  @Override
+  public V1ContainerPort read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ContainerPort value = new V1ContainerPort();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "containerPort":
+          value.setContainerPort(integerAdapter.read(in));
+          break;
+        case "hostIP":
+          value.setHostIP(stringAdapter.read(in));
+          break;
+        case "hostPort":
+          value.setHostPort(integerAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "protocol":
+          value.setProtocol(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
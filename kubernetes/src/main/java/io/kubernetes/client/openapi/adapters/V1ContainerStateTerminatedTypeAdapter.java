@@ -0,0 +1,99 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1ContainerStateTerminated} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ContainerStateTerminatedTypeAdapter extends TypeAdapter<V1ContainerStateTerminated> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+
+  public V1ContainerStateTerminatedTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ContainerStateTerminated value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("containerID");
+    stringAdapter.write(out, value.getContainerID());
+    out.name("exitCode");
+    integerAdapter.write(out, value.getExitCode());
+    out.name("finishedAt");
+    dateTimeAdapter.write(out, value.getFinishedAt());
+    out.name("message");
+    stringAdapter.write(out, value.getMessage());
+    out.name("reason");
+    stringAdapter.write(out, value.getReason());
+    out.name("signal");
+    integerAdapter.write(out, value.getSignal());
+    out.name("startedAt");
+    dateTimeAdapter.write(out, value.getStartedAt());
+    out.endObject();
+  }
+
+  @Override
+  public V1ContainerStateTerminated read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ContainerStateTerminated value = new V1ContainerStateTerminated();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "containerID":
+          value.setContainerID(stringAdapter.read(in));
+          break;
+        case "exitCode":
+          value.setExitCode(integerAdapter.read(in));
+          break;
+        case "finishedAt":
+          value.setFinishedAt(dateTimeAdapter.read(in));
+          break;
+        case "message":
+          value.setMessage(stringAdapter.read(in));
+          break;
+        case "reason":
+          value.setReason(stringAdapter.read(in));
+          break;
+        case "signal":
+          value.setSignal(integerAdapter.read(in));
+          break;
+        case "startedAt":
+          value.setStartedAt(dateTimeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ContainerState} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ContainerStateTypeAdapter extends TypeAdapter<V1ContainerState> {
+  private final TypeAdapter<V1ContainerStateRunning> v1ContainerStateRunningAdapter;
+  private final TypeAdapter<V1ContainerStateTerminated> v1ContainerStateTerminatedAdapter;
+  private final TypeAdapter<V1ContainerStateWaiting> v1ContainerStateWaitingAdapter;
+
+  public V1ContainerStateTypeAdapter(Gson gson) {
+    this.v1ContainerStateRunningAdapter = gson.getAdapter(V1ContainerStateRunning.class);
+    this.v1ContainerStateTerminatedAdapter = gson.getAdapter(V1ContainerStateTerminated.class);
+    this.v1ContainerStateWaitingAdapter = gson.getAdapter(V1ContainerStateWaiting.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ContainerState value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("running");
+    v1ContainerStateRunningAdapter.write(out, value.getRunning());
+    out.name("terminated");
+    v1ContainerStateTerminatedAdapter.write(out, value.getTerminated());
+    out.name("waiting");
+    v1ContainerStateWaitingAdapter.write(out, value.getWaiting());
+    out.endObject();
+  }
+
+  @Override
+  public V1ContainerState read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ContainerState value = new V1ContainerState();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "running":
+          value.setRunning(v1ContainerStateRunningAdapter.read(in));
+          break;
+        case "terminated":
+          value.setTerminated(v1ContainerStateTerminatedAdapter.read(in));
+          break;
+        case "waiting":
+          value.setWaiting(v1ContainerStateWaitingAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
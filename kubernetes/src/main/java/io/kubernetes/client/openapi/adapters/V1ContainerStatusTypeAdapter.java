@@ -0,0 +1,111 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ContainerStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ContainerStatusTypeAdapter extends TypeAdapter<V1ContainerStatus> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ContainerState> v1ContainerStateAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  public V1ContainerStatusTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ContainerStateAdapter = gson.getAdapter(V1ContainerState.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ContainerStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("containerID");
+    stringAdapter.write(out, value.getContainerID());
+    out.name("image");
+    stringAdapter.write(out, value.getImage());
+    out.name("imageID");
+    stringAdapter.write(out, value.getImageID());
+    out.name("lastState");
+    v1ContainerStateAdapter.write(out, value.getLastState());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("ready");
+    booleanAdapter.write(out, value.getReady());
+    out.name("restartCount");
+    integerAdapter.write(out, value.getRestartCount());
+    out.name("started");
+    booleanAdapter.write(out, value.getStarted());
+    out.name("state");
+    v1ContainerStateAdapter.write(out, value.getState());
+    out.endObject();
+  }
+
+  @Override
+  public V1ContainerStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ContainerStatus value = new V1ContainerStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "containerID":
+          value.setContainerID(stringAdapter.read(in));
+          break;
+        case "image":
+          value.setImage(stringAdapter.read(in));
+          break;
+        case "imageID":
+          value.setImageID(stringAdapter.read(in));
+          break;
+        case "lastState":
+          value.setLastState(v1ContainerStateAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "ready":
+          value.setReady(booleanAdapter.read(in));
+          break;
+        case "restartCount":
+          value.setRestartCount(integerAdapter.read(in));
+          break;
+        case "started":
+          value.setStarted(booleanAdapter.read(in));
+          break;
+        case "state":
+          value.setState(v1ContainerStateAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,215 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvFromSource;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Lifecycle;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1SecurityContext;
+import io.kubernetes.client.openapi.models.V1VolumeDevice;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1Container} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ContainerTypeAdapter extends TypeAdapter<V1Container> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<List<V1EnvVar>> listV1EnvVarAdapter;
+  private final TypeAdapter<List<V1EnvFromSource>> listV1EnvFromSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1Lifecycle> v1LifecycleAdapter;
+  private final TypeAdapter<V1Probe> v1ProbeAdapter;
+  private final TypeAdapter<List<V1ContainerPort>> listV1ContainerPortAdapter;
+  private final TypeAdapter<V1ResourceRequirements> v1ResourceRequirementsAdapter;
+  private final TypeAdapter<V1SecurityContext> v1SecurityContextAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1VolumeDevice>> listV1VolumeDeviceAdapter;
+  private final TypeAdapter<List<V1VolumeMount>> listV1VolumeMountAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ContainerTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.listV1EnvVarAdapter =
+        (TypeAdapter<List<V1EnvVar>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EnvVar.class));
+    this.listV1EnvFromSourceAdapter =
+        (TypeAdapter<List<V1EnvFromSource>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EnvFromSource.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1LifecycleAdapter = gson.getAdapter(V1Lifecycle.class);
+    this.v1ProbeAdapter = gson.getAdapter(V1Probe.class);
+    this.listV1ContainerPortAdapter =
+        (TypeAdapter<List<V1ContainerPort>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ContainerPort.class));
+    this.v1ResourceRequirementsAdapter = gson.getAdapter(V1ResourceRequirements.class);
+    this.v1SecurityContextAdapter = gson.getAdapter(V1SecurityContext.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1VolumeDeviceAdapter =
+        (TypeAdapter<List<V1VolumeDevice>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1VolumeDevice.class));
+    this.listV1VolumeMountAdapter =
+        (TypeAdapter<List<V1VolumeMount>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1VolumeMount.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Container value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("args");
+    listStringAdapter.write(out, value.getArgs());
+    out.name("command");
+    listStringAdapter.write(out, value.getCommand());
+    out.name("env");
+    listV1EnvVarAdapter.write(out, value.getEnv());
+    out.name("envFrom");
+    listV1EnvFromSourceAdapter.write(out, value.getEnvFrom());
+    out.name("image");
+    stringAdapter.write(out, value.getImage());
+    out.name("imagePullPolicy");
+    stringAdapter.write(out, value.getImagePullPolicy());
+    out.name("lifecycle");
+    v1LifecycleAdapter.write(out, value.getLifecycle());
+    out.name("livenessProbe");
+    v1ProbeAdapter.write(out, value.getLivenessProbe());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("ports");
+    listV1ContainerPortAdapter.write(out, value.getPorts());
+    out.name("readinessProbe");
+    v1ProbeAdapter.write(out, value.getReadinessProbe());
+    out.name("resources");
+    v1ResourceRequirementsAdapter.write(out, value.getResources());
+    out.name("securityContext");
+    v1SecurityContextAdapter.write(out, value.getSecurityContext());
+    out.name("startupProbe");
+    v1ProbeAdapter.write(out, value.getStartupProbe());
+    out.name("stdin");
+    booleanAdapter.write(out, value.getStdin());
+    out.name("stdinOnce");
+    booleanAdapter.write(out, value.getStdinOnce());
+    out.name("terminationMessagePath");
+    stringAdapter.write(out, value.getTerminationMessagePath());
+    out.name("terminationMessagePolicy");
+    stringAdapter.write(out, value.getTerminationMessagePolicy());
+    out.name("tty");
+    booleanAdapter.write(out, value.getTty());
+    out.name("volumeDevices");
+    listV1VolumeDeviceAdapter.write(out, value.getVolumeDevices());
+    out.name("volumeMounts");
+    listV1VolumeMountAdapter.write(out, value.getVolumeMounts());
+    out.name("workingDir");
+    stringAdapter.write(out, value.getWorkingDir());
+    out.endObject();
+  }
+
+  @Override
+  public V1Container read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Container value = new V1Container();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "args":
+          value.setArgs(listStringAdapter.read(in));
+          break;
+        case "command":
+          value.setCommand(listStringAdapter.read(in));
+          break;
+        case "env":
+          value.setEnv(listV1EnvVarAdapter.read(in));
+          break;
+        case "envFrom":
+          value.setEnvFrom(listV1EnvFromSourceAdapter.read(in));
+          break;
+        case "image":
+          value.setImage(stringAdapter.read(in));
+          break;
+        case "imagePullPolicy":
+          value.setImagePullPolicy(stringAdapter.read(in));
+          break;
+        case "lifecycle":
+          value.setLifecycle(v1LifecycleAdapter.read(in));
+          break;
+        case "livenessProbe":
+          value.setLivenessProbe(v1ProbeAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "ports":
+          value.setPorts(listV1ContainerPortAdapter.read(in));
+          break;
+        case "readinessProbe":
+          value.setReadinessProbe(v1ProbeAdapter.read(in));
+          break;
+        case "resources":
+          value.setResources(v1ResourceRequirementsAdapter.read(in));
+          break;
+        case "securityContext":
+          value.setSecurityContext(v1SecurityContextAdapter.read(in));
+          break;
+        case "startupProbe":
+          value.setStartupProbe(v1ProbeAdapter.read(in));
+          break;
+        case "stdin":
+          value.setStdin(booleanAdapter.read(in));
+          break;
+        case "stdinOnce":
+          value.setStdinOnce(booleanAdapter.read(in));
+          break;
+        case "terminationMessagePath":
+          value.setTerminationMessagePath(stringAdapter.read(in));
+          break;
+        case "terminationMessagePolicy":
+          value.setTerminationMessagePolicy(stringAdapter.read(in));
+          break;
+        case "tty":
+          value.setTty(booleanAdapter.read(in));
+          break;
+        case "volumeDevices":
+          value.setVolumeDevices(listV1VolumeDeviceAdapter.read(in));
+          break;
+        case "volumeMounts":
+          value.setVolumeMounts(listV1VolumeMountAdapter.read(in));
+          break;
+        case "workingDir":
+          value.setWorkingDir(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
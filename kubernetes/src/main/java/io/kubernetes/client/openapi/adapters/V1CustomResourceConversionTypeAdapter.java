@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CustomResourceConversion;
+import io.kubernetes.client.openapi.models.V1WebhookConversion;
+import java.io.IOException;
+
+/** Reads and writes {@link V1CustomResourceConversion} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CustomResourceConversionTypeAdapter extends TypeAdapter<V1CustomResourceConversion> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1WebhookConversion> v1WebhookConversionAdapter;
+
+  public V1CustomResourceConversionTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1WebhookConversionAdapter = gson.getAdapter(V1WebhookConversion.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CustomResourceConversion value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("strategy");
+    stringAdapter.write(out, value.getStrategy());
+    out.name("webhook");
+    v1WebhookConversionAdapter.write(out, value.getWebhook());
+    out.endObject();
+  }
+
+  @Override
+  public V1CustomResourceConversion read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CustomResourceConversion value = new V1CustomResourceConversion();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "strategy":
+          value.setStrategy(stringAdapter.read(in));
+          break;
+        case "webhook":
+          value.setWebhook(v1WebhookConversionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionNames;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1CustomResourceDefinitionNames} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CustomResourceDefinitionNamesTypeAdapter
+    extends TypeAdapter<V1CustomResourceDefinitionNames> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CustomResourceDefinitionNamesTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CustomResourceDefinitionNames value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("categories");
+    listStringAdapter.write(out, value.getCategories());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("listKind");
+    stringAdapter.write(out, value.getListKind());
+    out.name("plural");
+    stringAdapter.write(out, value.getPlural());
+    out.name("shortNames");
+    listStringAdapter.write(out, value.getShortNames());
+    out.name("singular");
+    stringAdapter.write(out, value.getSingular());
+    out.endObject();
+  }
+
+  @Override
+  public V1CustomResourceDefinitionNames read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CustomResourceDefinitionNames value = new V1CustomResourceDefinitionNames();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "categories":
+          value.setCategories(listStringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "listKind":
+          value.setListKind(stringAdapter.read(in));
+          break;
+        case "plural":
+          value.setPlural(stringAdapter.read(in));
+          break;
+        case "shortNames":
+          value.setShortNames(listStringAdapter.read(in));
+          break;
+        case "singular":
+          value.setSingular(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
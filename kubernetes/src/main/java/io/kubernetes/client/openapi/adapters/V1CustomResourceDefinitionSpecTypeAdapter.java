@@ -0,0 +1,109 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CustomResourceConversion;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionNames;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionSpec;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionVersion;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1CustomResourceDefinitionSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CustomResourceDefinitionSpecTypeAdapter
+    extends TypeAdapter<V1CustomResourceDefinitionSpec> {
+  private final TypeAdapter<V1CustomResourceConversion> v1CustomResourceConversionAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1CustomResourceDefinitionNames> v1CustomResourceDefinitionNamesAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1CustomResourceDefinitionVersion>>
+      listV1CustomResourceDefinitionVersionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1CustomResourceDefinitionSpecTypeAdapter(Gson gson) {
+    this.v1CustomResourceConversionAdapter = gson.getAdapter(V1CustomResourceConversion.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1CustomResourceDefinitionNamesAdapter =
+        gson.getAdapter(V1CustomResourceDefinitionNames.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1CustomResourceDefinitionVersionAdapter =
+        (TypeAdapter<List<V1CustomResourceDefinitionVersion>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1CustomResourceDefinitionVersion.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CustomResourceDefinitionSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("conversion");
+    v1CustomResourceConversionAdapter.write(out, value.getConversion());
+    out.name("group");
+    stringAdapter.write(out, value.getGroup());
+    out.name("names");
+    v1CustomResourceDefinitionNamesAdapter.write(out, value.getNames());
+    out.name("preserveUnknownFields");
+    booleanAdapter.write(out, value.getPreserveUnknownFields());
+    out.name("scope");
+    stringAdapter.write(out, value.getScope());
+    out.name("versions");
+    listV1CustomResourceDefinitionVersionAdapter.write(out, value.getVersions());
+    out.endObject();
+  }
+
+  @Override
+  public V1CustomResourceDefinitionSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CustomResourceDefinitionSpec value = new V1CustomResourceDefinitionSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "conversion":
+          value.setConversion(v1CustomResourceConversionAdapter.read(in));
+          break;
+        case "group":
+          value.setGroup(stringAdapter.read(in));
+          break;
+        case "names":
+          value.setNames(v1CustomResourceDefinitionNamesAdapter.read(in));
+          break;
+        case "preserveUnknownFields":
+          value.setPreserveUnknownFields(booleanAdapter.read(in));
+          break;
+        case "scope":
+          value.setScope(stringAdapter.read(in));
+          break;
+        case "versions":
+          value.setVersions(listV1CustomResourceDefinitionVersionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CustomResourceValidation;
+import io.kubernetes.client.openapi.models.V1JSONSchemaProps;
+import java.io.IOException;
+
+/** Reads and writes {@link V1CustomResourceValidation} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1CustomResourceValidationTypeAdapter extends TypeAdapter<V1CustomResourceValidation> {
+  private final TypeAdapter<V1JSONSchemaProps> v1JSONSchemaPropsAdapter;
+
+  public V1CustomResourceValidationTypeAdapter(Gson gson) {
+    this.v1JSONSchemaPropsAdapter = gson.getAdapter(V1JSONSchemaProps.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1CustomResourceValidation value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("openAPIV3Schema");
+    v1JSONSchemaPropsAdapter.write(out, value.getOpenAPIV3Schema());
+    out.endObject();
+  }
+
+  @Override
+  public V1CustomResourceValidation read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1CustomResourceValidation value = new V1CustomResourceValidation();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "openAPIV3Schema":
+          value.setOpenAPIV3Schema(v1JSONSchemaPropsAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
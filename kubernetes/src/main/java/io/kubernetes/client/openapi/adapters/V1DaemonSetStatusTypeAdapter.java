@@ -0,0 +1,119 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DaemonSetCondition;
+import io.kubernetes.client.openapi.models.V1DaemonSetStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1DaemonSetStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1DaemonSetStatusTypeAdapter extends TypeAdapter<V1DaemonSetStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1DaemonSetCondition>> listV1DaemonSetConditionAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1DaemonSetStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1DaemonSetConditionAdapter =
+        (TypeAdapter<List<V1DaemonSetCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1DaemonSetCondition.class));
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1DaemonSetStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("collisionCount");
+    integerAdapter.write(out, value.getCollisionCount());
+    out.name("conditions");
+    listV1DaemonSetConditionAdapter.write(out, value.getConditions());
+    out.name("currentNumberScheduled");
+    integerAdapter.write(out, value.getCurrentNumberScheduled());
+    out.name("desiredNumberScheduled");
+    integerAdapter.write(out, value.getDesiredNumberScheduled());
+    out.name("numberAvailable");
+    integerAdapter.write(out, value.getNumberAvailable());
+    out.name("numberMisscheduled");
+    integerAdapter.write(out, value.getNumberMisscheduled());
+    out.name("numberReady");
+    integerAdapter.write(out, value.getNumberReady());
+    out.name("numberUnavailable");
+    integerAdapter.write(out, value.getNumberUnavailable());
+    out.name("observedGeneration");
+    longAdapter.write(out, value.getObservedGeneration());
+    out.name("updatedNumberScheduled");
+    integerAdapter.write(out, value.getUpdatedNumberScheduled());
+    out.endObject();
+  }
+
+  @Override
+  public V1DaemonSetStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1DaemonSetStatus value = new V1DaemonSetStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "collisionCount":
+          value.setCollisionCount(integerAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1DaemonSetConditionAdapter.read(in));
+          break;
+        case "currentNumberScheduled":
+          value.setCurrentNumberScheduled(integerAdapter.read(in));
+          break;
+        case "desiredNumberScheduled":
+          value.setDesiredNumberScheduled(integerAdapter.read(in));
+          break;
+        case "numberAvailable":
+          value.setNumberAvailable(integerAdapter.read(in));
+          break;
+        case "numberMisscheduled":
+          value.setNumberMisscheduled(integerAdapter.read(in));
+          break;
+        case "numberReady":
+          value.setNumberReady(integerAdapter.read(in));
+          break;
+        case "numberUnavailable":
+          value.setNumberUnavailable(integerAdapter.read(in));
+          break;
+        case "observedGeneration":
+          value.setObservedGeneration(longAdapter.read(in));
+          break;
+        case "updatedNumberScheduled":
+          value.setUpdatedNumberScheduled(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1Preconditions;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1DeleteOptions} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1DeleteOptionsTypeAdapter extends TypeAdapter<V1DeleteOptions> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1Preconditions> v1PreconditionsAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1DeleteOptionsTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1PreconditionsAdapter = gson.getAdapter(V1Preconditions.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1DeleteOptions value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("dryRun");
+    listStringAdapter.write(out, value.getDryRun());
+    out.name("gracePeriodSeconds");
+    longAdapter.write(out, value.getGracePeriodSeconds());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("orphanDependents");
+    booleanAdapter.write(out, value.getOrphanDependents());
+    out.name("preconditions");
+    v1PreconditionsAdapter.write(out, value.getPreconditions());
+    out.name("propagationPolicy");
+    stringAdapter.write(out, value.getPropagationPolicy());
+    out.endObject();
+  }
+
+  @Override
+  public V1DeleteOptions read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1DeleteOptions value = new V1DeleteOptions();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "dryRun":
+          value.setDryRun(listStringAdapter.read(in));
+          break;
+        case "gracePeriodSeconds":
+          value.setGracePeriodSeconds(longAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "orphanDependents":
+          value.setOrphanDependents(booleanAdapter.read(in));
+          break;
+        case "preconditions":
+          value.setPreconditions(v1PreconditionsAdapter.read(in));
+          break;
+        case "propagationPolicy":
+          value.setPropagationPolicy(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
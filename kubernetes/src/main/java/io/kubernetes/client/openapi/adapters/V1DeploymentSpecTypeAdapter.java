@@ -0,0 +1,110 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1DeploymentStrategy;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1DeploymentSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1DeploymentSpecTypeAdapter extends TypeAdapter<V1DeploymentSpec> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<V1DeploymentStrategy> v1DeploymentStrategyAdapter;
+  private final TypeAdapter<V1PodTemplateSpec> v1PodTemplateSpecAdapter;
+
+  public V1DeploymentSpecTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.v1DeploymentStrategyAdapter = gson.getAdapter(V1DeploymentStrategy.class);
+    this.v1PodTemplateSpecAdapter = gson.getAdapter(V1PodTemplateSpec.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1DeploymentSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("minReadySeconds");
+    integerAdapter.write(out, value.getMinReadySeconds());
+    out.name("paused");
+    booleanAdapter.write(out, value.getPaused());
+    out.name("progressDeadlineSeconds");
+    integerAdapter.write(out, value.getProgressDeadlineSeconds());
+    out.name("replicas");
+    integerAdapter.write(out, value.getReplicas());
+    out.name("revisionHistoryLimit");
+    integerAdapter.write(out, value.getRevisionHistoryLimit());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("strategy");
+    v1DeploymentStrategyAdapter.write(out, value.getStrategy());
+    out.name("template");
+    v1PodTemplateSpecAdapter.write(out, value.getTemplate());
+    out.endObject();
+  }
+
+  @Override
+  public V1DeploymentSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1DeploymentSpec value = new V1DeploymentSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "minReadySeconds":
+          value.setMinReadySeconds(integerAdapter.read(in));
+          break;
+        case "paused":
+          value.setPaused(booleanAdapter.read(in));
+          break;
+        case "progressDeadlineSeconds":
+          value.setProgressDeadlineSeconds(integerAdapter.read(in));
+          break;
+        case "replicas":
+          value.setReplicas(integerAdapter.read(in));
+          break;
+        case "revisionHistoryLimit":
+          value.setRevisionHistoryLimit(integerAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "strategy":
+          value.setStrategy(v1DeploymentStrategyAdapter.read(in));
+          break;
+        case "template":
+          value.setTemplate(v1PodTemplateSpecAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
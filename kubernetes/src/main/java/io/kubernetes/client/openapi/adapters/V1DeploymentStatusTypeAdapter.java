@@ -0,0 +1,109 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DeploymentCondition;
+import io.kubernetes.client.openapi.models.V1DeploymentStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1DeploymentStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1DeploymentStatusTypeAdapter extends TypeAdapter<V1DeploymentStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1DeploymentCondition>> listV1DeploymentConditionAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1DeploymentStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1DeploymentConditionAdapter =
+        (TypeAdapter<List<V1DeploymentCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1DeploymentCondition.class));
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1DeploymentStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("availableReplicas");
+    integerAdapter.write(out, value.getAvailableReplicas());
+    out.name("collisionCount");
+    integerAdapter.write(out, value.getCollisionCount());
+    out.name("conditions");
+    listV1DeploymentConditionAdapter.write(out, value.getConditions());
+    out.name("observedGeneration");
+    longAdapter.write(out, value.getObservedGeneration());
+    out.name("readyReplicas");
+    integerAdapter.write(out, value.getReadyReplicas());
+    out.name("replicas");
+    integerAdapter.write(out, value.getReplicas());
+    out.name("unavailableReplicas");
+    integerAdapter.write(out, value.getUnavailableReplicas());
+    out.name("updatedReplicas");
+    integerAdapter.write(out, value.getUpdatedReplicas());
+    out.endObject();
+  }
+
+  @Override
+  public V1DeploymentStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1DeploymentStatus value = new V1DeploymentStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "availableReplicas":
+          value.setAvailableReplicas(integerAdapter.read(in));
+          break;
+        case "collisionCount":
+          value.setCollisionCount(integerAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1DeploymentConditionAdapter.read(in));
+          break;
+        case "observedGeneration":
+          value.setObservedGeneration(longAdapter.read(in));
+          break;
+        case "readyReplicas":
+          value.setReadyReplicas(integerAdapter.read(in));
+          break;
+        case "replicas":
+          value.setReplicas(integerAdapter.read(in));
+          break;
+        case "unavailableReplicas":
+          value.setUnavailableReplicas(integerAdapter.read(in));
+          break;
+        case "updatedReplicas":
+          value.setUpdatedReplicas(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
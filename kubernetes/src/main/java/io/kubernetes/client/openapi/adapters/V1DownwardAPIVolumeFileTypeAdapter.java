@@ -0,0 +1,87 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DownwardAPIVolumeFile;
+import io.kubernetes.client.openapi.models.V1ObjectFieldSelector;
+import io.kubernetes.client.openapi.models.V1ResourceFieldSelector;
+import java.io.IOException;
+
+/** Reads and writes {@link V1DownwardAPIVolumeFile} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1DownwardAPIVolumeFileTypeAdapter extends TypeAdapter<V1DownwardAPIVolumeFile> {
+  private final TypeAdapter<V1ObjectFieldSelector> v1ObjectFieldSelectorAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ResourceFieldSelector> v1ResourceFieldSelectorAdapter;
+
+  public V1DownwardAPIVolumeFileTypeAdapter(Gson gson) {
+    this.v1ObjectFieldSelectorAdapter = gson.getAdapter(V1ObjectFieldSelector.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ResourceFieldSelectorAdapter = gson.getAdapter(V1ResourceFieldSelector.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1DownwardAPIVolumeFile value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fieldRef");
+    v1ObjectFieldSelectorAdapter.write(out, value.getFieldRef());
+    out.name("mode");
+    integerAdapter.write(out, value.getMode());
+    out.name("path");
+    stringAdapter.write(out, value.getPath());
+    out.name("resourceFieldRef");
+    v1ResourceFieldSelectorAdapter.write(out, value.getResourceFieldRef());
+    out.endObject();
+  }
+
+  @Override
+  public V1DownwardAPIVolumeFile read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1DownwardAPIVolumeFile value = new V1DownwardAPIVolumeFile();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fieldRef":
+          value.setFieldRef(v1ObjectFieldSelectorAdapter.read(in));
+          break;
+        case "mode":
+          value.setMode(integerAdapter.read(in));
+          break;
+        case "path":
+          value.setPath(stringAdapter.read(in));
+          break;
+        case "resourceFieldRef":
+          value.setResourceFieldRef(v1ResourceFieldSelectorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
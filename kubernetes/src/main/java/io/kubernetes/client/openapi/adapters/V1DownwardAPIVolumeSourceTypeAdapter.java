@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DownwardAPIVolumeFile;
+import io.kubernetes.client.openapi.models.V1DownwardAPIVolumeSource;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1DownwardAPIVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1DownwardAPIVolumeSourceTypeAdapter extends TypeAdapter<V1DownwardAPIVolumeSource> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1DownwardAPIVolumeFile>> listV1DownwardAPIVolumeFileAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1DownwardAPIVolumeSourceTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1DownwardAPIVolumeFileAdapter =
+        (TypeAdapter<List<V1DownwardAPIVolumeFile>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1DownwardAPIVolumeFile.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1DownwardAPIVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("defaultMode");
+    integerAdapter.write(out, value.getDefaultMode());
+    out.name("items");
+    listV1DownwardAPIVolumeFileAdapter.write(out, value.getItems());
+    out.endObject();
+  }
+
+  @Override
+  public V1DownwardAPIVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1DownwardAPIVolumeSource value = new V1DownwardAPIVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "defaultMode":
+          value.setDefaultMode(integerAdapter.read(in));
+          break;
+        case "items":
+          value.setItems(listV1DownwardAPIVolumeFileAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
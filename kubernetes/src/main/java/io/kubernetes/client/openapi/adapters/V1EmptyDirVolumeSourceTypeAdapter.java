@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1EmptyDirVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1EmptyDirVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EmptyDirVolumeSourceTypeAdapter extends TypeAdapter<V1EmptyDirVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Quantity> quantityAdapter;
+
+  public V1EmptyDirVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.quantityAdapter = gson.getAdapter(Quantity.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EmptyDirVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("medium");
+    stringAdapter.write(out, value.getMedium());
+    out.name("sizeLimit");
+    quantityAdapter.write(out, value.getSizeLimit());
+    out.endObject();
+  }
+
+  @Override
+  public V1EmptyDirVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EmptyDirVolumeSource value = new V1EmptyDirVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "medium":
+          value.setMedium(stringAdapter.read(in));
+          break;
+        case "sizeLimit":
+          value.setSizeLimit(quantityAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import java.io.IOException;
+
+/** Reads and writes {@link V1EndpointAddress} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EndpointAddressTypeAdapter extends TypeAdapter<V1EndpointAddress> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectReference> v1ObjectReferenceAdapter;
+
+  public V1EndpointAddressTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectReferenceAdapter = gson.getAdapter(V1ObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EndpointAddress value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("hostname");
+    stringAdapter.write(out, value.getHostname());
+    out.name("ip");
+    stringAdapter.write(out, value.getIp());
+    out.name("nodeName");
+    stringAdapter.write(out, value.getNodeName());
+    out.name("targetRef");
+    v1ObjectReferenceAdapter.write(out, value.getTargetRef());
+    out.endObject();
+  }
+
+  @Override
+  public V1EndpointAddress read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EndpointAddress value = new V1EndpointAddress();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "hostname":
+          value.setHostname(stringAdapter.read(in));
+          break;
+        case "ip":
+          value.setIp(stringAdapter.read(in));
+          break;
+        case "nodeName":
+          value.setNodeName(stringAdapter.read(in));
+          break;
+        case "targetRef":
+          value.setTargetRef(v1ObjectReferenceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
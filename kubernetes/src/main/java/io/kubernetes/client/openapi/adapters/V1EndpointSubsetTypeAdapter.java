@@ -0,0 +1,85 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
+import io.kubernetes.client.openapi.models.V1EndpointPort;
+import io.kubernetes.client.openapi.models.V1EndpointSubset;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1EndpointSubset} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EndpointSubsetTypeAdapter extends TypeAdapter<V1EndpointSubset> {
+  private final TypeAdapter<List<V1EndpointAddress>> listV1EndpointAddressAdapter;
+  private final TypeAdapter<List<V1EndpointPort>> listV1EndpointPortAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1EndpointSubsetTypeAdapter(Gson gson) {
+    this.listV1EndpointAddressAdapter =
+        (TypeAdapter<List<V1EndpointAddress>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EndpointAddress.class));
+    this.listV1EndpointPortAdapter =
+        (TypeAdapter<List<V1EndpointPort>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EndpointPort.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EndpointSubset value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("addresses");
+    listV1EndpointAddressAdapter.write(out, value.getAddresses());
+    out.name("notReadyAddresses");
+    listV1EndpointAddressAdapter.write(out, value.getNotReadyAddresses());
+    out.name("ports");
+    listV1EndpointPortAdapter.write(out, value.getPorts());
+    out.endObject();
+  }
+
+  @Override
+  public V1EndpointSubset read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EndpointSubset value = new V1EndpointSubset();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "addresses":
+          value.setAddresses(listV1EndpointAddressAdapter.read(in));
+          break;
+        case "notReadyAddresses":
+          value.setNotReadyAddresses(listV1EndpointAddressAdapter.read(in));
+          break;
+        case "ports":
+          value.setPorts(listV1EndpointPortAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
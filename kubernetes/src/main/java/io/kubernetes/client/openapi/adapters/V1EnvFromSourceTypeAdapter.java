@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ConfigMapEnvSource;
+import io.kubernetes.client.openapi.models.V1EnvFromSource;
+import io.kubernetes.client.openapi.models.V1SecretEnvSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1EnvFromSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EnvFromSourceTypeAdapter extends TypeAdapter<V1EnvFromSource> {
+  private final TypeAdapter<V1ConfigMapEnvSource> v1ConfigMapEnvSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1SecretEnvSource> v1SecretEnvSourceAdapter;
+
+  public V1EnvFromSourceTypeAdapter(Gson gson) {
+    this.v1ConfigMapEnvSourceAdapter = gson.getAdapter(V1ConfigMapEnvSource.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1SecretEnvSourceAdapter = gson.getAdapter(V1SecretEnvSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EnvFromSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("configMapRef");
+    v1ConfigMapEnvSourceAdapter.write(out, value.getConfigMapRef());
+    out.name("prefix");
+    stringAdapter.write(out, value.getPrefix());
+    out.name("secretRef");
+    v1SecretEnvSourceAdapter.write(out, value.getSecretRef());
+    out.endObject();
+  }
+
+  @Override
+  public V1EnvFromSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EnvFromSource value = new V1EnvFromSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "configMapRef":
+          value.setConfigMapRef(v1ConfigMapEnvSourceAdapter.read(in));
+          break;
+        case "prefix":
+          value.setPrefix(stringAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1SecretEnvSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ConfigMapKeySelector;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1ObjectFieldSelector;
+import io.kubernetes.client.openapi.models.V1ResourceFieldSelector;
+import io.kubernetes.client.openapi.models.V1SecretKeySelector;
+import java.io.IOException;
+
+/** Reads and writes {@link V1EnvVarSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EnvVarSourceTypeAdapter extends TypeAdapter<V1EnvVarSource> {
+  private final TypeAdapter<V1ConfigMapKeySelector> v1ConfigMapKeySelectorAdapter;
+  private final TypeAdapter<V1ObjectFieldSelector> v1ObjectFieldSelectorAdapter;
+  private final TypeAdapter<V1ResourceFieldSelector> v1ResourceFieldSelectorAdapter;
+  private final TypeAdapter<V1SecretKeySelector> v1SecretKeySelectorAdapter;
+
+  public V1EnvVarSourceTypeAdapter(Gson gson) {
+    this.v1ConfigMapKeySelectorAdapter = gson.getAdapter(V1ConfigMapKeySelector.class);
+    this.v1ObjectFieldSelectorAdapter = gson.getAdapter(V1ObjectFieldSelector.class);
+    this.v1ResourceFieldSelectorAdapter = gson.getAdapter(V1ResourceFieldSelector.class);
+    this.v1SecretKeySelectorAdapter = gson.getAdapter(V1SecretKeySelector.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EnvVarSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("configMapKeyRef");
+    v1ConfigMapKeySelectorAdapter.write(out, value.getConfigMapKeyRef());
+    out.name("fieldRef");
+    v1ObjectFieldSelectorAdapter.write(out, value.getFieldRef());
+    out.name("resourceFieldRef");
+    v1ResourceFieldSelectorAdapter.write(out, value.getResourceFieldRef());
+    out.name("secretKeyRef");
+    v1SecretKeySelectorAdapter.write(out, value.getSecretKeyRef());
+    out.endObject();
+  }
+
+  @Override
+  public V1EnvVarSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EnvVarSource value = new V1EnvVarSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "configMapKeyRef":
+          value.setConfigMapKeyRef(v1ConfigMapKeySelectorAdapter.read(in));
+          break;
+        case "fieldRef":
+          value.setFieldRef(v1ObjectFieldSelectorAdapter.read(in));
+          break;
+        case "resourceFieldRef":
+          value.setResourceFieldRef(v1ResourceFieldSelectorAdapter.read(in));
+          break;
+        case "secretKeyRef":
+          value.setSecretKeyRef(v1SecretKeySelectorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
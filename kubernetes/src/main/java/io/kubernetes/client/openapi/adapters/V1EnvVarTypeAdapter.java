@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1EnvVar} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EnvVarTypeAdapter extends TypeAdapter<V1EnvVar> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1EnvVarSource> v1EnvVarSourceAdapter;
+
+  public V1EnvVarTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1EnvVarSourceAdapter = gson.getAdapter(V1EnvVarSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EnvVar value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("value");
+    stringAdapter.write(out, value.getValue());
+    out.name("valueFrom");
+    v1EnvVarSourceAdapter.write(out, value.getValueFrom());
+    out.endObject();
+  }
+
+  @Override
+  public V1EnvVar read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EnvVar value = new V1EnvVar();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "value":
+          value.setValue(stringAdapter.read(in));
+          break;
+        case "valueFrom":
+          value.setValueFrom(v1EnvVarSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
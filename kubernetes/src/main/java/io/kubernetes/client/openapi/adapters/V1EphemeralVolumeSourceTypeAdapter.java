@@ -0,0 +1,73 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1EphemeralVolumeSource;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimTemplate;
+import java.io.IOException;
+
+/** Reads and writes {@link V1EphemeralVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1EphemeralVolumeSourceTypeAdapter extends TypeAdapter<V1EphemeralVolumeSource> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1PersistentVolumeClaimTemplate> v1PersistentVolumeClaimTemplateAdapter;
+
+  public V1EphemeralVolumeSourceTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1PersistentVolumeClaimTemplateAdapter =
+        gson.getAdapter(V1PersistentVolumeClaimTemplate.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1EphemeralVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("volumeClaimTemplate");
+    v1PersistentVolumeClaimTemplateAdapter.write(out, value.getVolumeClaimTemplate());
+    out.endObject();
+  }
+
+  @Override
+  public V1EphemeralVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1EphemeralVolumeSource value = new V1EphemeralVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "volumeClaimTemplate":
+          value.setVolumeClaimTemplate(v1PersistentVolumeClaimTemplateAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ExternalDocumentation;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ExternalDocumentation} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ExternalDocumentationTypeAdapter extends TypeAdapter<V1ExternalDocumentation> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1ExternalDocumentationTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ExternalDocumentation value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("description");
+    stringAdapter.write(out, value.getDescription());
+    out.name("url");
+    stringAdapter.write(out, value.getUrl());
+    out.endObject();
+  }
+
+  @Override
+  public V1ExternalDocumentation read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ExternalDocumentation value = new V1ExternalDocumentation();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "description":
+          value.setDescription(stringAdapter.read(in));
+          break;
+        case "url":
+          value.setUrl(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1FCVolumeSource;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1FCVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1FCVolumeSourceTypeAdapter extends TypeAdapter<V1FCVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1FCVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1FCVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("lun");
+    integerAdapter.write(out, value.getLun());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("targetWWNs");
+    listStringAdapter.write(out, value.getTargetWWNs());
+    out.name("wwids");
+    listStringAdapter.write(out, value.getWwids());
+    out.endObject();
+  }
+
+  @Override
+  public V1FCVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1FCVolumeSource value = new V1FCVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "lun":
+          value.setLun(integerAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "targetWWNs":
+          value.setTargetWWNs(listStringAdapter.read(in));
+          break;
+        case "wwids":
+          value.setWwids(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
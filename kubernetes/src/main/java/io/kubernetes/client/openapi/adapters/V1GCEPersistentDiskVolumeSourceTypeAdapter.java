@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1GCEPersistentDiskVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1GCEPersistentDiskVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1GCEPersistentDiskVolumeSourceTypeAdapter
+    extends TypeAdapter<V1GCEPersistentDiskVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  public V1GCEPersistentDiskVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1GCEPersistentDiskVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("partition");
+    integerAdapter.write(out, value.getPartition());
+    out.name("pdName");
+    stringAdapter.write(out, value.getPdName());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.endObject();
+  }
+
+  @Override
+  public V1GCEPersistentDiskVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1GCEPersistentDiskVolumeSource value = new V1GCEPersistentDiskVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "partition":
+          value.setPartition(integerAdapter.read(in));
+          break;
+        case "pdName":
+          value.setPdName(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1GlusterfsPersistentVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1GlusterfsPersistentVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1GlusterfsPersistentVolumeSourceTypeAdapter
+    extends TypeAdapter<V1GlusterfsPersistentVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  public V1GlusterfsPersistentVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1GlusterfsPersistentVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("endpoints");
+    stringAdapter.write(out, value.getEndpoints());
+    out.name("endpointsNamespace");
+    stringAdapter.write(out, value.getEndpointsNamespace());
+    out.name("path");
+    stringAdapter.write(out, value.getPath());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.endObject();
+  }
+
+  @Override
+  public V1GlusterfsPersistentVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1GlusterfsPersistentVolumeSource value = new V1GlusterfsPersistentVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "endpoints":
+          value.setEndpoints(stringAdapter.read(in));
+          break;
+        case "endpointsNamespace":
+          value.setEndpointsNamespace(stringAdapter.read(in));
+          break;
+        case "path":
+          value.setPath(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1HTTPHeader;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1HTTPGetAction} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1HTTPGetActionTypeAdapter extends TypeAdapter<V1HTTPGetAction> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1HTTPHeader>> listV1HTTPHeaderAdapter;
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1HTTPGetActionTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1HTTPHeaderAdapter =
+        (TypeAdapter<List<V1HTTPHeader>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1HTTPHeader.class));
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1HTTPGetAction value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("host");
+    stringAdapter.write(out, value.getHost());
+    out.name("httpHeaders");
+    listV1HTTPHeaderAdapter.write(out, value.getHttpHeaders());
+    out.name("path");
+    stringAdapter.write(out, value.getPath());
+    out.name("port");
+    intOrStringAdapter.write(out, value.getPort());
+    out.name("scheme");
+    stringAdapter.write(out, value.getScheme());
+    out.endObject();
+  }
+
+  @Override
+  public V1HTTPGetAction read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1HTTPGetAction value = new V1HTTPGetAction();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "host":
+          value.setHost(stringAdapter.read(in));
+          break;
+        case "httpHeaders":
+          value.setHttpHeaders(listV1HTTPHeaderAdapter.read(in));
+          break;
+        case "path":
+          value.setPath(stringAdapter.read(in));
+          break;
+        case "port":
+          value.setPort(intOrStringAdapter.read(in));
+          break;
+        case "scheme":
+          value.setScheme(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ExecAction;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1Handler;
+import io.kubernetes.client.openapi.models.V1TCPSocketAction;
+import java.io.IOException;
+
+/** Reads and writes {@link V1Handler} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1HandlerTypeAdapter extends TypeAdapter<V1Handler> {
+  private final TypeAdapter<V1ExecAction> v1ExecActionAdapter;
+  private final TypeAdapter<V1HTTPGetAction> v1HTTPGetActionAdapter;
+  private final TypeAdapter<V1TCPSocketAction> v1TCPSocketActionAdapter;
+
+  public V1HandlerTypeAdapter(Gson gson) {
+    this.v1ExecActionAdapter = gson.getAdapter(V1ExecAction.class);
+    this.v1HTTPGetActionAdapter = gson.getAdapter(V1HTTPGetAction.class);
+    this.v1TCPSocketActionAdapter = gson.getAdapter(V1TCPSocketAction.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Handler value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("exec");
+    v1ExecActionAdapter.write(out, value.getExec());
+    out.name("httpGet");
+    v1HTTPGetActionAdapter.write(out, value.getHttpGet());
+    out.name("tcpSocket");
+    v1TCPSocketActionAdapter.write(out, value.getTcpSocket());
+    out.endObject();
+  }
+
+  @Override
+  public V1Handler read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Handler value = new V1Handler();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "exec":
+          value.setExec(v1ExecActionAdapter.read(in));
+          break;
+        case "httpGet":
+          value.setHttpGet(v1HTTPGetActionAdapter.read(in));
+          break;
+        case "tcpSocket":
+          value.setTcpSocket(v1TCPSocketActionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
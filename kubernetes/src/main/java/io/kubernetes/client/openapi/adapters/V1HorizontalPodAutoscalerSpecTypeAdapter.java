@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscalerSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1HorizontalPodAutoscalerSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1HorizontalPodAutoscalerSpecTypeAdapter
+    extends TypeAdapter<V1HorizontalPodAutoscalerSpec> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<V1CrossVersionObjectReference> v1CrossVersionObjectReferenceAdapter;
+
+  public V1HorizontalPodAutoscalerSpecTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.v1CrossVersionObjectReferenceAdapter =
+        gson.getAdapter(V1CrossVersionObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1HorizontalPodAutoscalerSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("maxReplicas");
+    integerAdapter.write(out, value.getMaxReplicas());
+    out.name("minReplicas");
+    integerAdapter.write(out, value.getMinReplicas());
+    out.name("scaleTargetRef");
+    v1CrossVersionObjectReferenceAdapter.write(out, value.getScaleTargetRef());
+    out.name("targetCPUUtilizationPercentage");
+    integerAdapter.write(out, value.getTargetCPUUtilizationPercentage());
+    out.endObject();
+  }
+
+  @Override
+  public V1HorizontalPodAutoscalerSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1HorizontalPodAutoscalerSpec value = new V1HorizontalPodAutoscalerSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "maxReplicas":
+          value.setMaxReplicas(integerAdapter.read(in));
+          break;
+        case "minReplicas":
+          value.setMinReplicas(integerAdapter.read(in));
+          break;
+        case "scaleTargetRef":
+          value.setScaleTargetRef(v1CrossVersionObjectReferenceAdapter.read(in));
+          break;
+        case "targetCPUUtilizationPercentage":
+          value.setTargetCPUUtilizationPercentage(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscalerStatus;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1HorizontalPodAutoscalerStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1HorizontalPodAutoscalerStatusTypeAdapter
+    extends TypeAdapter<V1HorizontalPodAutoscalerStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  public V1HorizontalPodAutoscalerStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1HorizontalPodAutoscalerStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("currentCPUUtilizationPercentage");
+    integerAdapter.write(out, value.getCurrentCPUUtilizationPercentage());
+    out.name("currentReplicas");
+    integerAdapter.write(out, value.getCurrentReplicas());
+    out.name("desiredReplicas");
+    integerAdapter.write(out, value.getDesiredReplicas());
+    out.name("lastScaleTime");
+    dateTimeAdapter.write(out, value.getLastScaleTime());
+    out.name("observedGeneration");
+    longAdapter.write(out, value.getObservedGeneration());
+    out.endObject();
+  }
+
+  @Override
+  public V1HorizontalPodAutoscalerStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1HorizontalPodAutoscalerStatus value = new V1HorizontalPodAutoscalerStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "currentCPUUtilizationPercentage":
+          value.setCurrentCPUUtilizationPercentage(integerAdapter.read(in));
+          break;
+        case "currentReplicas":
+          value.setCurrentReplicas(integerAdapter.read(in));
+          break;
+        case "desiredReplicas":
+          value.setDesiredReplicas(integerAdapter.read(in));
+          break;
+        case "lastScaleTime":
+          value.setLastScaleTime(dateTimeAdapter.read(in));
+          break;
+        case "observedGeneration":
+          value.setObservedGeneration(longAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ISCSIPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ISCSIPersistentVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ISCSIPersistentVolumeSourceTypeAdapter
+    extends TypeAdapter<V1ISCSIPersistentVolumeSource> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<V1SecretReference> v1SecretReferenceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ISCSIPersistentVolumeSourceTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.v1SecretReferenceAdapter = gson.getAdapter(V1SecretReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ISCSIPersistentVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("chapAuthDiscovery");
+    booleanAdapter.write(out, value.getChapAuthDiscovery());
+    out.name("chapAuthSession");
+    booleanAdapter.write(out, value.getChapAuthSession());
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("initiatorName");
+    stringAdapter.write(out, value.getInitiatorName());
+    out.name("iqn");
+    stringAdapter.write(out, value.getIqn());
+    out.name("iscsiInterface");
+    stringAdapter.write(out, value.getIscsiInterface());
+    out.name("lun");
+    integerAdapter.write(out, value.getLun());
+    out.name("portals");
+    listStringAdapter.write(out, value.getPortals());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretRef");
+    v1SecretReferenceAdapter.write(out, value.getSecretRef());
+    out.name("targetPortal");
+    stringAdapter.write(out, value.getTargetPortal());
+    out.endObject();
+  }
+
+  @Override
+  public V1ISCSIPersistentVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ISCSIPersistentVolumeSource value = new V1ISCSIPersistentVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "chapAuthDiscovery":
+          value.setChapAuthDiscovery(booleanAdapter.read(in));
+          break;
+        case "chapAuthSession":
+          value.setChapAuthSession(booleanAdapter.read(in));
+          break;
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "initiatorName":
+          value.setInitiatorName(stringAdapter.read(in));
+          break;
+        case "iqn":
+          value.setIqn(stringAdapter.read(in));
+          break;
+        case "iscsiInterface":
+          value.setIscsiInterface(stringAdapter.read(in));
+          break;
+        case "lun":
+          value.setLun(integerAdapter.read(in));
+          break;
+        case "portals":
+          value.setPortals(listStringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "targetPortal":
+          value.setTargetPortal(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
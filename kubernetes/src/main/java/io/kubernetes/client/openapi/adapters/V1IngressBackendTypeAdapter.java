@@ -0,0 +1,73 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1IngressBackend;
+import io.kubernetes.client.openapi.models.V1IngressServiceBackend;
+import io.kubernetes.client.openapi.models.V1TypedLocalObjectReference;
+import java.io.IOException;
+
+/** Reads and writes {@link V1IngressBackend} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1IngressBackendTypeAdapter extends TypeAdapter<V1IngressBackend> {
+  private final TypeAdapter<V1TypedLocalObjectReference> v1TypedLocalObjectReferenceAdapter;
+  private final TypeAdapter<V1IngressServiceBackend> v1IngressServiceBackendAdapter;
+
+  public V1IngressBackendTypeAdapter(Gson gson) {
+    this.v1TypedLocalObjectReferenceAdapter = gson.getAdapter(V1TypedLocalObjectReference.class);
+    this.v1IngressServiceBackendAdapter = gson.getAdapter(V1IngressServiceBackend.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1IngressBackend value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("resource");
+    v1TypedLocalObjectReferenceAdapter.write(out, value.getResource());
+    out.name("service");
+    v1IngressServiceBackendAdapter.write(out, value.getService());
+    out.endObject();
+  }
+
+  @Override
+  public V1IngressBackend read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1IngressBackend value = new V1IngressBackend();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "resource":
+          value.setResource(v1TypedLocalObjectReferenceAdapter.read(in));
+          break;
+        case "service":
+          value.setService(v1IngressServiceBackendAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
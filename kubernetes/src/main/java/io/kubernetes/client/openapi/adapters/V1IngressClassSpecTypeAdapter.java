@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1IngressClassSpec;
+import io.kubernetes.client.openapi.models.V1TypedLocalObjectReference;
+import java.io.IOException;
+
+/** Reads and writes {@link V1IngressClassSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1IngressClassSpecTypeAdapter extends TypeAdapter<V1IngressClassSpec> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1TypedLocalObjectReference> v1TypedLocalObjectReferenceAdapter;
+
+  public V1IngressClassSpecTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1TypedLocalObjectReferenceAdapter = gson.getAdapter(V1TypedLocalObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1IngressClassSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("controller");
+    stringAdapter.write(out, value.getController());
+    out.name("parameters");
+    v1TypedLocalObjectReferenceAdapter.write(out, value.getParameters());
+    out.endObject();
+  }
+
+  @Override
+  public V1IngressClassSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1IngressClassSpec value = new V1IngressClassSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "controller":
+          value.setController(stringAdapter.read(in));
+          break;
+        case "parameters":
+          value.setParameters(v1TypedLocalObjectReferenceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1HTTPIngressRuleValue;
+import io.kubernetes.client.openapi.models.V1IngressRule;
+import java.io.IOException;
+
+/** Reads and writes {@link V1IngressRule} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1IngressRuleTypeAdapter extends TypeAdapter<V1IngressRule> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1HTTPIngressRuleValue> v1HTTPIngressRuleValueAdapter;
+
+  public V1IngressRuleTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1HTTPIngressRuleValueAdapter = gson.getAdapter(V1HTTPIngressRuleValue.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1IngressRule value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("host");
+    stringAdapter.write(out, value.getHost());
+    out.name("http");
+    v1HTTPIngressRuleValueAdapter.write(out, value.getHttp());
+    out.endObject();
+  }
+
+  @Override
+  public V1IngressRule read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1IngressRule value = new V1IngressRule();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "host":
+          value.setHost(stringAdapter.read(in));
+          break;
+        case "http":
+          value.setHttp(v1HTTPIngressRuleValueAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1IngressBackend;
+import io.kubernetes.client.openapi.models.V1IngressRule;
+import io.kubernetes.client.openapi.models.V1IngressSpec;
+import io.kubernetes.client.openapi.models.V1IngressTLS;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1IngressSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1IngressSpecTypeAdapter extends TypeAdapter<V1IngressSpec> {
+  private final TypeAdapter<V1IngressBackend> v1IngressBackendAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1IngressRule>> listV1IngressRuleAdapter;
+  private final TypeAdapter<List<V1IngressTLS>> listV1IngressTLSAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1IngressSpecTypeAdapter(Gson gson) {
+    this.v1IngressBackendAdapter = gson.getAdapter(V1IngressBackend.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1IngressRuleAdapter =
+        (TypeAdapter<List<V1IngressRule>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1IngressRule.class));
+    this.listV1IngressTLSAdapter =
+        (TypeAdapter<List<V1IngressTLS>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1IngressTLS.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1IngressSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("defaultBackend");
+    v1IngressBackendAdapter.write(out, value.getDefaultBackend());
+    out.name("ingressClassName");
+    stringAdapter.write(out, value.getIngressClassName());
+    out.name("rules");
+    listV1IngressRuleAdapter.write(out, value.getRules());
+    out.name("tls");
+    listV1IngressTLSAdapter.write(out, value.getTls());
+    out.endObject();
+  }
+
+  @Override
+  public V1IngressSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1IngressSpec value = new V1IngressSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "defaultBackend":
+          value.setDefaultBackend(v1IngressBackendAdapter.read(in));
+          break;
+        case "ingressClassName":
+          value.setIngressClassName(stringAdapter.read(in));
+          break;
+        case "rules":
+          value.setRules(listV1IngressRuleAdapter.read(in));
+          break;
+        case "tls":
+          value.setTls(listV1IngressTLSAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1JobSpec;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1JobSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1JobSpecTypeAdapter extends TypeAdapter<V1JobSpec> {
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<V1PodTemplateSpec> v1PodTemplateSpecAdapter;
+
+  public V1JobSpecTypeAdapter(Gson gson) {
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.v1PodTemplateSpecAdapter = gson.getAdapter(V1PodTemplateSpec.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1JobSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("activeDeadlineSeconds");
+    longAdapter.write(out, value.getActiveDeadlineSeconds());
+    out.name("backoffLimit");
+    integerAdapter.write(out, value.getBackoffLimit());
+    out.name("completions");
+    integerAdapter.write(out, value.getCompletions());
+    out.name("manualSelector");
+    booleanAdapter.write(out, value.getManualSelector());
+    out.name("parallelism");
+    integerAdapter.write(out, value.getParallelism());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("template");
+    v1PodTemplateSpecAdapter.write(out, value.getTemplate());
+    out.name("ttlSecondsAfterFinished");
+    integerAdapter.write(out, value.getTtlSecondsAfterFinished());
+    out.endObject();
+  }
+
+  @Override
+  public V1JobSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1JobSpec value = new V1JobSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "activeDeadlineSeconds":
+          value.setActiveDeadlineSeconds(longAdapter.read(in));
+          break;
+        case "backoffLimit":
+          value.setBackoffLimit(integerAdapter.read(in));
+          break;
+        case "completions":
+          value.setCompletions(integerAdapter.read(in));
+          break;
+        case "manualSelector":
+          value.setManualSelector(booleanAdapter.read(in));
+          break;
+        case "parallelism":
+          value.setParallelism(integerAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "template":
+          value.setTemplate(v1PodTemplateSpecAdapter.read(in));
+          break;
+        case "ttlSecondsAfterFinished":
+          value.setTtlSecondsAfterFinished(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
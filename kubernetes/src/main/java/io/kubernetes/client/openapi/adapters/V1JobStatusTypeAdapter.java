@@ -0,0 +1,100 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import java.io.IOException;
+import java.util.List;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1JobStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1JobStatusTypeAdapter extends TypeAdapter<V1JobStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+  private final TypeAdapter<List<V1JobCondition>> listV1JobConditionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1JobStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+    this.listV1JobConditionAdapter =
+        (TypeAdapter<List<V1JobCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1JobCondition.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1JobStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("active");
+    integerAdapter.write(out, value.getActive());
+    out.name("completionTime");
+    dateTimeAdapter.write(out, value.getCompletionTime());
+    out.name("conditions");
+    listV1JobConditionAdapter.write(out, value.getConditions());
+    out.name("failed");
+    integerAdapter.write(out, value.getFailed());
+    out.name("startTime");
+    dateTimeAdapter.write(out, value.getStartTime());
+    out.name("succeeded");
+    integerAdapter.write(out, value.getSucceeded());
+    out.endObject();
+  }
+
+  @Override
+  public V1JobStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1JobStatus value = new V1JobStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "active":
+          value.setActive(integerAdapter.read(in));
+          break;
+        case "completionTime":
+          value.setCompletionTime(dateTimeAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1JobConditionAdapter.read(in));
+          break;
+        case "failed":
+          value.setFailed(integerAdapter.read(in));
+          break;
+        case "startTime":
+          value.setStartTime(dateTimeAdapter.read(in));
+          break;
+        case "succeeded":
+          value.setSucceeded(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelectorRequirement;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1LabelSelectorRequirement} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1LabelSelectorRequirementTypeAdapter extends TypeAdapter<V1LabelSelectorRequirement> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1LabelSelectorRequirementTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1LabelSelectorRequirement value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("key");
+    stringAdapter.write(out, value.getKey());
+    out.name("operator");
+    stringAdapter.write(out, value.getOperator());
+    out.name("values");
+    listStringAdapter.write(out, value.getValues());
+    out.endObject();
+  }
+
+  @Override
+  public V1LabelSelectorRequirement read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1LabelSelectorRequirement value = new V1LabelSelectorRequirement();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "key":
+          value.setKey(stringAdapter.read(in));
+          break;
+        case "operator":
+          value.setOperator(stringAdapter.read(in));
+          break;
+        case "values":
+          value.setValues(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
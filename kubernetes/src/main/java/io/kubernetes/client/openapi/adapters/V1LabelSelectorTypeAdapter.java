@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1LabelSelectorRequirement;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1LabelSelector} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1LabelSelectorTypeAdapter extends TypeAdapter<V1LabelSelector> {
+  private final TypeAdapter<List<V1LabelSelectorRequirement>> listV1LabelSelectorRequirementAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1LabelSelectorTypeAdapter(Gson gson) {
+    this.listV1LabelSelectorRequirementAdapter =
+        (TypeAdapter<List<V1LabelSelectorRequirement>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1LabelSelectorRequirement.class));
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1LabelSelector value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("matchExpressions");
+    listV1LabelSelectorRequirementAdapter.write(out, value.getMatchExpressions());
+    out.name("matchLabels");
+    mapStringStringAdapter.write(out, value.getMatchLabels());
+    out.endObject();
+  }
+
+  @Override
+  public V1LabelSelector read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1LabelSelector value = new V1LabelSelector();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "matchExpressions":
+          value.setMatchExpressions(listV1LabelSelectorRequirementAdapter.read(in));
+          break;
+        case "matchLabels":
+          value.setMatchLabels(mapStringStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
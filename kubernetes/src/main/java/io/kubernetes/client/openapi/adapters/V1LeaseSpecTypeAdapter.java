@@ -0,0 +1,89 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1LeaseSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1LeaseSpecTypeAdapter extends TypeAdapter<V1LeaseSpec> {
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  public V1LeaseSpecTypeAdapter(Gson gson) {
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1LeaseSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("acquireTime");
+    dateTimeAdapter.write(out, value.getAcquireTime());
+    out.name("holderIdentity");
+    stringAdapter.write(out, value.getHolderIdentity());
+    out.name("leaseDurationSeconds");
+    integerAdapter.write(out, value.getLeaseDurationSeconds());
+    out.name("leaseTransitions");
+    integerAdapter.write(out, value.getLeaseTransitions());
+    out.name("renewTime");
+    dateTimeAdapter.write(out, value.getRenewTime());
+    out.endObject();
+  }
+
+  @Override
+  public V1LeaseSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1LeaseSpec value = new V1LeaseSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "acquireTime":
+          value.setAcquireTime(dateTimeAdapter.read(in));
+          break;
+        case "holderIdentity":
+          value.setHolderIdentity(stringAdapter.read(in));
+          break;
+        case "leaseDurationSeconds":
+          value.setLeaseDurationSeconds(integerAdapter.read(in));
+          break;
+        case "leaseTransitions":
+          value.setLeaseTransitions(integerAdapter.read(in));
+          break;
+        case "renewTime":
+          value.setRenewTime(dateTimeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Handler;
+import io.kubernetes.client.openapi.models.V1Lifecycle;
+import java.io.IOException;
+
+/** Reads and writes {@link V1Lifecycle} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1LifecycleTypeAdapter extends TypeAdapter<V1Lifecycle> {
+  private final TypeAdapter<V1Handler> v1HandlerAdapter;
+
+  public V1LifecycleTypeAdapter(Gson gson) {
+    this.v1HandlerAdapter = gson.getAdapter(V1Handler.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Lifecycle value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("postStart");
+    v1HandlerAdapter.write(out, value.getPostStart());
+    out.name("preStop");
+    v1HandlerAdapter.write(out, value.getPreStop());
+    out.endObject();
+  }
+
+  @Override
+  public V1Lifecycle read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Lifecycle value = new V1Lifecycle();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "postStart":
+          value.setPostStart(v1HandlerAdapter.read(in));
+          break;
+        case "preStop":
+          value.setPreStop(v1HandlerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
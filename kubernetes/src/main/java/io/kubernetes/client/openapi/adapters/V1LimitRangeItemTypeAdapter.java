@@ -0,0 +1,97 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1LimitRangeItem;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1LimitRangeItem} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1LimitRangeItemTypeAdapter extends TypeAdapter<V1LimitRangeItem> {
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1LimitRangeItemTypeAdapter(Gson gson) {
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1LimitRangeItem value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("default");
+    mapStringQuantityAdapter.write(out, value.getDefault());
+    out.name("defaultRequest");
+    mapStringQuantityAdapter.write(out, value.getDefaultRequest());
+    out.name("max");
+    mapStringQuantityAdapter.write(out, value.getMax());
+    out.name("maxLimitRequestRatio");
+    mapStringQuantityAdapter.write(out, value.getMaxLimitRequestRatio());
+    out.name("min");
+    mapStringQuantityAdapter.write(out, value.getMin());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V1LimitRangeItem read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1LimitRangeItem value = new V1LimitRangeItem();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "default":
+          value.setDefault(mapStringQuantityAdapter.read(in));
+          break;
+        case "defaultRequest":
+          value.setDefaultRequest(mapStringQuantityAdapter.read(in));
+          break;
+        case "max":
+          value.setMax(mapStringQuantityAdapter.read(in));
+          break;
+        case "maxLimitRequestRatio":
+          value.setMaxLimitRequestRatio(mapStringQuantityAdapter.read(in));
+          break;
+        case "min":
+          value.setMin(mapStringQuantityAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ListMeta} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ListMetaTypeAdapter extends TypeAdapter<V1ListMeta> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  public V1ListMetaTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ListMeta value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("continue");
+    stringAdapter.write(out, value.getContinue());
+    out.name("remainingItemCount");
+    longAdapter.write(out, value.getRemainingItemCount());
+    out.name("resourceVersion");
+    stringAdapter.write(out, value.getResourceVersion());
+    out.name("selfLink");
+    stringAdapter.write(out, value.getSelfLink());
+    out.endObject();
+  }
+
+  @Override
+  public V1ListMeta read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ListMeta value = new V1ListMeta();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "continue":
+          value.setContinue(stringAdapter.read(in));
+          break;
+        case "remainingItemCount":
+          value.setRemainingItemCount(longAdapter.read(in));
+          break;
+        case "resourceVersion":
+          value.setResourceVersion(stringAdapter.read(in));
+          break;
+        case "selfLink":
+          value.setSelfLink(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LoadBalancerIngress;
+import io.kubernetes.client.openapi.models.V1LoadBalancerStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1LoadBalancerStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1LoadBalancerStatusTypeAdapter extends TypeAdapter<V1LoadBalancerStatus> {
+  private final TypeAdapter<List<V1LoadBalancerIngress>> listV1LoadBalancerIngressAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1LoadBalancerStatusTypeAdapter(Gson gson) {
+    this.listV1LoadBalancerIngressAdapter =
+        (TypeAdapter<List<V1LoadBalancerIngress>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1LoadBalancerIngress.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1LoadBalancerStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("ingress");
+    listV1LoadBalancerIngressAdapter.write(out, value.getIngress());
+    out.endObject();
+  }
+
+  @Override
+  public V1LoadBalancerStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1LoadBalancerStatus value = new V1LoadBalancerStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "ingress":
+          value.setIngress(listV1LoadBalancerIngressAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
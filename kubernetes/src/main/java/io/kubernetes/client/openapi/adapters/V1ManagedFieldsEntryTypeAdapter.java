@@ -0,0 +1,94 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1ManagedFieldsEntry} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ManagedFieldsEntryTypeAdapter extends TypeAdapter<V1ManagedFieldsEntry> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Object> objectAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+
+  public V1ManagedFieldsEntryTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.objectAdapter = gson.getAdapter(Object.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ManagedFieldsEntry value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("fieldsType");
+    stringAdapter.write(out, value.getFieldsType());
+    out.name("fieldsV1");
+    objectAdapter.write(out, value.getFieldsV1());
+    out.name("manager");
+    stringAdapter.write(out, value.getManager());
+    out.name("operation");
+    stringAdapter.write(out, value.getOperation());
+    out.name("time");
+    dateTimeAdapter.write(out, value.getTime());
+    out.endObject();
+  }
+
+  @Override
+  public V1ManagedFieldsEntry read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ManagedFieldsEntry value = new V1ManagedFieldsEntry();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "fieldsType":
+          value.setFieldsType(stringAdapter.read(in));
+          break;
+        case "fieldsV1":
+          value.setFieldsV1(objectAdapter.read(in));
+          break;
+        case "manager":
+          value.setManager(stringAdapter.read(in));
+          break;
+        case "operation":
+          value.setOperation(stringAdapter.read(in));
+          break;
+        case "time":
+          value.setTime(dateTimeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
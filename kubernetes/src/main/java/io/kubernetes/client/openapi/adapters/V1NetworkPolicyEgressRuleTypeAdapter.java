@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyEgressRule;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPeer;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPort;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1NetworkPolicyEgressRule} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NetworkPolicyEgressRuleTypeAdapter extends TypeAdapter<V1NetworkPolicyEgressRule> {
+  private final TypeAdapter<List<V1NetworkPolicyPort>> listV1NetworkPolicyPortAdapter;
+  private final TypeAdapter<List<V1NetworkPolicyPeer>> listV1NetworkPolicyPeerAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NetworkPolicyEgressRuleTypeAdapter(Gson gson) {
+    this.listV1NetworkPolicyPortAdapter =
+        (TypeAdapter<List<V1NetworkPolicyPort>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1NetworkPolicyPort.class));
+    this.listV1NetworkPolicyPeerAdapter =
+        (TypeAdapter<List<V1NetworkPolicyPeer>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1NetworkPolicyPeer.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NetworkPolicyEgressRule value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("ports");
+    listV1NetworkPolicyPortAdapter.write(out, value.getPorts());
+    out.name("to");
+    listV1NetworkPolicyPeerAdapter.write(out, value.getTo());
+    out.endObject();
+  }
+
+  @Override
+  public V1NetworkPolicyEgressRule read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NetworkPolicyEgressRule value = new V1NetworkPolicyEgressRule();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "ports":
+          value.setPorts(listV1NetworkPolicyPortAdapter.read(in));
+          break;
+        case "to":
+          value.setTo(listV1NetworkPolicyPeerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
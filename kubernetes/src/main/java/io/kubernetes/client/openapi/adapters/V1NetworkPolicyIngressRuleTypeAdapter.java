@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyIngressRule;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPeer;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPort;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1NetworkPolicyIngressRule} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NetworkPolicyIngressRuleTypeAdapter extends TypeAdapter<V1NetworkPolicyIngressRule> {
+  private final TypeAdapter<List<V1NetworkPolicyPeer>> listV1NetworkPolicyPeerAdapter;
+  private final TypeAdapter<List<V1NetworkPolicyPort>> listV1NetworkPolicyPortAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NetworkPolicyIngressRuleTypeAdapter(Gson gson) {
+    this.listV1NetworkPolicyPeerAdapter =
+        (TypeAdapter<List<V1NetworkPolicyPeer>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1NetworkPolicyPeer.class));
+    this.listV1NetworkPolicyPortAdapter =
+        (TypeAdapter<List<V1NetworkPolicyPort>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1NetworkPolicyPort.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NetworkPolicyIngressRule value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("from");
+    listV1NetworkPolicyPeerAdapter.write(out, value.getFrom());
+    out.name("ports");
+    listV1NetworkPolicyPortAdapter.write(out, value.getPorts());
+    out.endObject();
+  }
+
+  @Override
+  public V1NetworkPolicyIngressRule read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NetworkPolicyIngressRule value = new V1NetworkPolicyIngressRule();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "from":
+          value.setFrom(listV1NetworkPolicyPeerAdapter.read(in));
+          break;
+        case "ports":
+          value.setPorts(listV1NetworkPolicyPortAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
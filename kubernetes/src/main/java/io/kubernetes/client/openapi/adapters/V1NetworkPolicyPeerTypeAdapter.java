@@ -0,0 +1,78 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1IPBlock;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyPeer;
+import java.io.IOException;
+
+/** Reads and writes {@link V1NetworkPolicyPeer} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NetworkPolicyPeerTypeAdapter extends TypeAdapter<V1NetworkPolicyPeer> {
+  private final TypeAdapter<V1IPBlock> v1IPBlockAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+
+  public V1NetworkPolicyPeerTypeAdapter(Gson gson) {
+    this.v1IPBlockAdapter = gson.getAdapter(V1IPBlock.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NetworkPolicyPeer value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("ipBlock");
+    v1IPBlockAdapter.write(out, value.getIpBlock());
+    out.name("namespaceSelector");
+    v1LabelSelectorAdapter.write(out, value.getNamespaceSelector());
+    out.name("podSelector");
+    v1LabelSelectorAdapter.write(out, value.getPodSelector());
+    out.endObject();
+  }
+
+  @Override
+  public V1NetworkPolicyPeer read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NetworkPolicyPeer value = new V1NetworkPolicyPeer();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "ipBlock":
+          value.setIpBlock(v1IPBlockAdapter.read(in));
+          break;
+        case "namespaceSelector":
+          value.setNamespaceSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "podSelector":
+          value.setPodSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyEgressRule;
+import io.kubernetes.client.openapi.models.V1NetworkPolicyIngressRule;
+import io.kubernetes.client.openapi.models.V1NetworkPolicySpec;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1NetworkPolicySpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NetworkPolicySpecTypeAdapter extends TypeAdapter<V1NetworkPolicySpec> {
+  private final TypeAdapter<List<V1NetworkPolicyEgressRule>> listV1NetworkPolicyEgressRuleAdapter;
+  private final TypeAdapter<List<V1NetworkPolicyIngressRule>> listV1NetworkPolicyIngressRuleAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NetworkPolicySpecTypeAdapter(Gson gson) {
+    this.listV1NetworkPolicyEgressRuleAdapter =
+        (TypeAdapter<List<V1NetworkPolicyEgressRule>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1NetworkPolicyEgressRule.class));
+    this.listV1NetworkPolicyIngressRuleAdapter =
+        (TypeAdapter<List<V1NetworkPolicyIngressRule>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1NetworkPolicyIngressRule.class));
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NetworkPolicySpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("egress");
+    listV1NetworkPolicyEgressRuleAdapter.write(out, value.getEgress());
+    out.name("ingress");
+    listV1NetworkPolicyIngressRuleAdapter.write(out, value.getIngress());
+    out.name("podSelector");
+    v1LabelSelectorAdapter.write(out, value.getPodSelector());
+    out.name("policyTypes");
+    listStringAdapter.write(out, value.getPolicyTypes());
+    out.endObject();
+  }
+
+  @Override
+  public V1NetworkPolicySpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NetworkPolicySpec value = new V1NetworkPolicySpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "egress":
+          value.setEgress(listV1NetworkPolicyEgressRuleAdapter.read(in));
+          break;
+        case "ingress":
+          value.setIngress(listV1NetworkPolicyIngressRuleAdapter.read(in));
+          break;
+        case "podSelector":
+          value.setPodSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "policyTypes":
+          value.setPolicyTypes(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
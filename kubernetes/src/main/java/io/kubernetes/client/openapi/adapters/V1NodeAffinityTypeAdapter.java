@@ -0,0 +1,81 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NodeAffinity;
+import io.kubernetes.client.openapi.models.V1NodeSelector;
+import io.kubernetes.client.openapi.models.V1PreferredSchedulingTerm;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1NodeAffinity} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeAffinityTypeAdapter extends TypeAdapter<V1NodeAffinity> {
+  private final TypeAdapter<List<V1PreferredSchedulingTerm>> listV1PreferredSchedulingTermAdapter;
+  private final TypeAdapter<V1NodeSelector> v1NodeSelectorAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NodeAffinityTypeAdapter(Gson gson) {
+    this.listV1PreferredSchedulingTermAdapter =
+        (TypeAdapter<List<V1PreferredSchedulingTerm>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1PreferredSchedulingTerm.class));
+    this.v1NodeSelectorAdapter = gson.getAdapter(V1NodeSelector.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeAffinity value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("preferredDuringSchedulingIgnoredDuringExecution");
+    listV1PreferredSchedulingTermAdapter.write(
+        out, value.getPreferredDuringSchedulingIgnoredDuringExecution());
+    out.name("requiredDuringSchedulingIgnoredDuringExecution");
+    v1NodeSelectorAdapter.write(out, value.getRequiredDuringSchedulingIgnoredDuringExecution());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeAffinity read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeAffinity value = new V1NodeAffinity();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "preferredDuringSchedulingIgnoredDuringExecution":
+          value.setPreferredDuringSchedulingIgnoredDuringExecution(
+              listV1PreferredSchedulingTermAdapter.read(in));
+          break;
+        case "requiredDuringSchedulingIgnoredDuringExecution":
+          value.setRequiredDuringSchedulingIgnoredDuringExecution(v1NodeSelectorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ConfigMapNodeConfigSource;
+import io.kubernetes.client.openapi.models.V1NodeConfigSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1NodeConfigSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeConfigSourceTypeAdapter extends TypeAdapter<V1NodeConfigSource> {
+  private final TypeAdapter<V1ConfigMapNodeConfigSource> v1ConfigMapNodeConfigSourceAdapter;
+
+  public V1NodeConfigSourceTypeAdapter(Gson gson) {
+    this.v1ConfigMapNodeConfigSourceAdapter = gson.getAdapter(V1ConfigMapNodeConfigSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeConfigSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("configMap");
+    v1ConfigMapNodeConfigSourceAdapter.write(out, value.getConfigMap());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeConfigSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeConfigSource value = new V1NodeConfigSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "configMap":
+          value.setConfigMap(v1ConfigMapNodeConfigSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NodeConfigSource;
+import io.kubernetes.client.openapi.models.V1NodeConfigStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V1NodeConfigStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeConfigStatusTypeAdapter extends TypeAdapter<V1NodeConfigStatus> {
+  private final TypeAdapter<V1NodeConfigSource> v1NodeConfigSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1NodeConfigStatusTypeAdapter(Gson gson) {
+    this.v1NodeConfigSourceAdapter = gson.getAdapter(V1NodeConfigSource.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeConfigStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("active");
+    v1NodeConfigSourceAdapter.write(out, value.getActive());
+    out.name("assigned");
+    v1NodeConfigSourceAdapter.write(out, value.getAssigned());
+    out.name("error");
+    stringAdapter.write(out, value.getError());
+    out.name("lastKnownGood");
+    v1NodeConfigSourceAdapter.write(out, value.getLastKnownGood());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeConfigStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeConfigStatus value = new V1NodeConfigStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "active":
+          value.setActive(v1NodeConfigSourceAdapter.read(in));
+          break;
+        case "assigned":
+          value.setAssigned(v1NodeConfigSourceAdapter.read(in));
+          break;
+        case "error":
+          value.setError(stringAdapter.read(in));
+          break;
+        case "lastKnownGood":
+          value.setLastKnownGood(v1NodeConfigSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1DaemonEndpoint;
+import io.kubernetes.client.openapi.models.V1NodeDaemonEndpoints;
+import java.io.IOException;
+
+/** Reads and writes {@link V1NodeDaemonEndpoints} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeDaemonEndpointsTypeAdapter extends TypeAdapter<V1NodeDaemonEndpoints> {
+  private final TypeAdapter<V1DaemonEndpoint> v1DaemonEndpointAdapter;
+
+  public V1NodeDaemonEndpointsTypeAdapter(Gson gson) {
+    this.v1DaemonEndpointAdapter = gson.getAdapter(V1DaemonEndpoint.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeDaemonEndpoints value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("kubeletEndpoint");
+    v1DaemonEndpointAdapter.write(out, value.getKubeletEndpoint());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeDaemonEndpoints read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeDaemonEndpoints value = new V1NodeDaemonEndpoints();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "kubeletEndpoint":
+          value.setKubeletEndpoint(v1DaemonEndpointAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
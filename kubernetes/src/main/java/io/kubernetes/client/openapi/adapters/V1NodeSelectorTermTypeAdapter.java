@@ -0,0 +1,76 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NodeSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1NodeSelectorTerm;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1NodeSelectorTerm} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeSelectorTermTypeAdapter extends TypeAdapter<V1NodeSelectorTerm> {
+  private final TypeAdapter<List<V1NodeSelectorRequirement>> listV1NodeSelectorRequirementAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NodeSelectorTermTypeAdapter(Gson gson) {
+    this.listV1NodeSelectorRequirementAdapter =
+        (TypeAdapter<List<V1NodeSelectorRequirement>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1NodeSelectorRequirement.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeSelectorTerm value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("matchExpressions");
+    listV1NodeSelectorRequirementAdapter.write(out, value.getMatchExpressions());
+    out.name("matchFields");
+    listV1NodeSelectorRequirementAdapter.write(out, value.getMatchFields());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeSelectorTerm read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeSelectorTerm value = new V1NodeSelectorTerm();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "matchExpressions":
+          value.setMatchExpressions(listV1NodeSelectorRequirementAdapter.read(in));
+          break;
+        case "matchFields":
+          value.setMatchFields(listV1NodeSelectorRequirementAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
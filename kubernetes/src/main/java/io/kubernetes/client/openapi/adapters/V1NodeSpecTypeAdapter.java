@@ -0,0 +1,111 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NodeConfigSource;
+import io.kubernetes.client.openapi.models.V1NodeSpec;
+import io.kubernetes.client.openapi.models.V1Taint;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1NodeSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeSpecTypeAdapter extends TypeAdapter<V1NodeSpec> {
+  private final TypeAdapter<V1NodeConfigSource> v1NodeConfigSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<List<V1Taint>> listV1TaintAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NodeSpecTypeAdapter(Gson gson) {
+    this.v1NodeConfigSourceAdapter = gson.getAdapter(V1NodeConfigSource.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.listV1TaintAdapter =
+        (TypeAdapter<List<V1Taint>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Taint.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("configSource");
+    v1NodeConfigSourceAdapter.write(out, value.getConfigSource());
+    out.name("externalID");
+    stringAdapter.write(out, value.getExternalID());
+    out.name("podCIDR");
+    stringAdapter.write(out, value.getPodCIDR());
+    out.name("podCIDRs");
+    listStringAdapter.write(out, value.getPodCIDRs());
+    out.name("providerID");
+    stringAdapter.write(out, value.getProviderID());
+    out.name("taints");
+    listV1TaintAdapter.write(out, value.getTaints());
+    out.name("unschedulable");
+    booleanAdapter.write(out, value.getUnschedulable());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeSpec value = new V1NodeSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "configSource":
+          value.setConfigSource(v1NodeConfigSourceAdapter.read(in));
+          break;
+        case "externalID":
+          value.setExternalID(stringAdapter.read(in));
+          break;
+        case "podCIDR":
+          value.setPodCIDR(stringAdapter.read(in));
+          break;
+        case "podCIDRs":
+          value.setPodCIDRs(listStringAdapter.read(in));
+          break;
+        case "providerID":
+          value.setProviderID(stringAdapter.read(in));
+          break;
+        case "taints":
+          value.setTaints(listV1TaintAdapter.read(in));
+          break;
+        case "unschedulable":
+          value.setUnschedulable(booleanAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
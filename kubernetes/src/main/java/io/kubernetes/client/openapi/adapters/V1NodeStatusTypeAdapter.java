@@ -0,0 +1,156 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1AttachedVolume;
+import io.kubernetes.client.openapi.models.V1ContainerImage;
+import io.kubernetes.client.openapi.models.V1NodeAddress;
+import io.kubernetes.client.openapi.models.V1NodeCondition;
+import io.kubernetes.client.openapi.models.V1NodeConfigStatus;
+import io.kubernetes.client.openapi.models.V1NodeDaemonEndpoints;
+import io.kubernetes.client.openapi.models.V1NodeStatus;
+import io.kubernetes.client.openapi.models.V1NodeSystemInfo;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1NodeStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeStatusTypeAdapter extends TypeAdapter<V1NodeStatus> {
+  private final TypeAdapter<List<V1NodeAddress>> listV1NodeAddressAdapter;
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+  private final TypeAdapter<List<V1NodeCondition>> listV1NodeConditionAdapter;
+  private final TypeAdapter<V1NodeConfigStatus> v1NodeConfigStatusAdapter;
+  private final TypeAdapter<V1NodeDaemonEndpoints> v1NodeDaemonEndpointsAdapter;
+  private final TypeAdapter<List<V1ContainerImage>> listV1ContainerImageAdapter;
+  private final TypeAdapter<V1NodeSystemInfo> v1NodeSystemInfoAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1AttachedVolume>> listV1AttachedVolumeAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1NodeStatusTypeAdapter(Gson gson) {
+    this.listV1NodeAddressAdapter =
+        (TypeAdapter<List<V1NodeAddress>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1NodeAddress.class));
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+    this.listV1NodeConditionAdapter =
+        (TypeAdapter<List<V1NodeCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1NodeCondition.class));
+    this.v1NodeConfigStatusAdapter = gson.getAdapter(V1NodeConfigStatus.class);
+    this.v1NodeDaemonEndpointsAdapter = gson.getAdapter(V1NodeDaemonEndpoints.class);
+    this.listV1ContainerImageAdapter =
+        (TypeAdapter<List<V1ContainerImage>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ContainerImage.class));
+    this.v1NodeSystemInfoAdapter = gson.getAdapter(V1NodeSystemInfo.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1AttachedVolumeAdapter =
+        (TypeAdapter<List<V1AttachedVolume>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1AttachedVolume.class));
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("addresses");
+    listV1NodeAddressAdapter.write(out, value.getAddresses());
+    out.name("allocatable");
+    mapStringQuantityAdapter.write(out, value.getAllocatable());
+    out.name("capacity");
+    mapStringQuantityAdapter.write(out, value.getCapacity());
+    out.name("conditions");
+    listV1NodeConditionAdapter.write(out, value.getConditions());
+    out.name("config");
+    v1NodeConfigStatusAdapter.write(out, value.getConfig());
+    out.name("daemonEndpoints");
+    v1NodeDaemonEndpointsAdapter.write(out, value.getDaemonEndpoints());
+    out.name("images");
+    listV1ContainerImageAdapter.write(out, value.getImages());
+    out.name("nodeInfo");
+    v1NodeSystemInfoAdapter.write(out, value.getNodeInfo());
+    out.name("phase");
+    stringAdapter.write(out, value.getPhase());
+    out.name("volumesAttached");
+    listV1AttachedVolumeAdapter.write(out, value.getVolumesAttached());
+    out.name("volumesInUse");
+    listStringAdapter.write(out, value.getVolumesInUse());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeStatus value = new V1NodeStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "addresses":
+          value.setAddresses(listV1NodeAddressAdapter.read(in));
+          break;
+        case "allocatable":
+          value.setAllocatable(mapStringQuantityAdapter.read(in));
+          break;
+        case "capacity":
+          value.setCapacity(mapStringQuantityAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1NodeConditionAdapter.read(in));
+          break;
+        case "config":
+          value.setConfig(v1NodeConfigStatusAdapter.read(in));
+          break;
+        case "daemonEndpoints":
+          value.setDaemonEndpoints(v1NodeDaemonEndpointsAdapter.read(in));
+          break;
+        case "images":
+          value.setImages(listV1ContainerImageAdapter.read(in));
+          break;
+        case "nodeInfo":
+          value.setNodeInfo(v1NodeSystemInfoAdapter.read(in));
+          break;
+        case "phase":
+          value.setPhase(stringAdapter.read(in));
+          break;
+        case "volumesAttached":
+          value.setVolumesAttached(listV1AttachedVolumeAdapter.read(in));
+          break;
+        case "volumesInUse":
+          value.setVolumesInUse(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NodeSystemInfo;
+import java.io.IOException;
+
+/** Reads and writes {@link V1NodeSystemInfo} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1NodeSystemInfoTypeAdapter extends TypeAdapter<V1NodeSystemInfo> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1NodeSystemInfoTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1NodeSystemInfo value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("architecture");
+    stringAdapter.write(out, value.getArchitecture());
+    out.name("bootID");
+    stringAdapter.write(out, value.getBootID());
+    out.name("containerRuntimeVersion");
+    stringAdapter.write(out, value.getContainerRuntimeVersion());
+    out.name("kernelVersion");
+    stringAdapter.write(out, value.getKernelVersion());
+    out.name("kubeProxyVersion");
+    stringAdapter.write(out, value.getKubeProxyVersion());
+    out.name("kubeletVersion");
+    stringAdapter.write(out, value.getKubeletVersion());
+    out.name("machineID");
+    stringAdapter.write(out, value.getMachineID());
+    out.name("operatingSystem");
+    stringAdapter.write(out, value.getOperatingSystem());
+    out.name("osImage");
+    stringAdapter.write(out, value.getOsImage());
+    out.name("systemUUID");
+    stringAdapter.write(out, value.getSystemUUID());
+    out.endObject();
+  }
+
+  @Override
+  public V1NodeSystemInfo read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1NodeSystemInfo value = new V1NodeSystemInfo();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "architecture":
+          value.setArchitecture(stringAdapter.read(in));
+          break;
+        case "bootID":
+          value.setBootID(stringAdapter.read(in));
+          break;
+        case "containerRuntimeVersion":
+          value.setContainerRuntimeVersion(stringAdapter.read(in));
+          break;
+        case "kernelVersion":
+          value.setKernelVersion(stringAdapter.read(in));
+          break;
+        case "kubeProxyVersion":
+          value.setKubeProxyVersion(stringAdapter.read(in));
+          break;
+        case "kubeletVersion":
+          value.setKubeletVersion(stringAdapter.read(in));
+          break;
+        case "machineID":
+          value.setMachineID(stringAdapter.read(in));
+          break;
+        case "operatingSystem":
+          value.setOperatingSystem(stringAdapter.read(in));
+          break;
+        case "osImage":
+          value.setOsImage(stringAdapter.read(in));
+          break;
+        case "systemUUID":
+          value.setSystemUUID(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
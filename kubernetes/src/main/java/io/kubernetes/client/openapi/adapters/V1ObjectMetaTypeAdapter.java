@@ -0,0 +1,166 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1ObjectMeta} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ObjectMetaTypeAdapter extends TypeAdapter<V1ObjectMeta> {
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<List<V1ManagedFieldsEntry>> listV1ManagedFieldsEntryAdapter;
+  private final TypeAdapter<List<V1OwnerReference>> listV1OwnerReferenceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ObjectMetaTypeAdapter(Gson gson) {
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.listV1ManagedFieldsEntryAdapter =
+        (TypeAdapter<List<V1ManagedFieldsEntry>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ManagedFieldsEntry.class));
+    this.listV1OwnerReferenceAdapter =
+        (TypeAdapter<List<V1OwnerReference>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1OwnerReference.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ObjectMeta value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("annotations");
+    mapStringStringAdapter.write(out, value.getAnnotations());
+    out.name("clusterName");
+    stringAdapter.write(out, value.getClusterName());
+    out.name("creationTimestamp");
+    dateTimeAdapter.write(out, value.getCreationTimestamp());
+    out.name("deletionGracePeriodSeconds");
+    longAdapter.write(out, value.getDeletionGracePeriodSeconds());
+    out.name("deletionTimestamp");
+    dateTimeAdapter.write(out, value.getDeletionTimestamp());
+    out.name("finalizers");
+    listStringAdapter.write(out, value.getFinalizers());
+    out.name("generateName");
+    stringAdapter.write(out, value.getGenerateName());
+    out.name("generation");
+    longAdapter.write(out, value.getGeneration());
+    out.name("labels");
+    mapStringStringAdapter.write(out, value.getLabels());
+    out.name("managedFields");
+    listV1ManagedFieldsEntryAdapter.write(out, value.getManagedFields());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("namespace");
+    stringAdapter.write(out, value.getNamespace());
+    out.name("ownerReferences");
+    listV1OwnerReferenceAdapter.write(out, value.getOwnerReferences());
+    out.name("resourceVersion");
+    stringAdapter.write(out, value.getResourceVersion());
+    out.name("selfLink");
+    stringAdapter.write(out, value.getSelfLink());
+    out.name("uid");
+    stringAdapter.write(out, value.getUid());
+    out.endObject();
+  }
+
+  @Override
+  public V1ObjectMeta read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ObjectMeta value = new V1ObjectMeta();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "annotations":
+          value.setAnnotations(mapStringStringAdapter.read(in));
+          break;
+        case "clusterName":
+          value.setClusterName(stringAdapter.read(in));
+          break;
+        case "creationTimestamp":
+          value.setCreationTimestamp(dateTimeAdapter.read(in));
+          break;
+        case "deletionGracePeriodSeconds":
+          value.setDeletionGracePeriodSeconds(longAdapter.read(in));
+          break;
+        case "deletionTimestamp":
+          value.setDeletionTimestamp(dateTimeAdapter.read(in));
+          break;
+        case "finalizers":
+          value.setFinalizers(listStringAdapter.read(in));
+          break;
+        case "generateName":
+          value.setGenerateName(stringAdapter.read(in));
+          break;
+        case "generation":
+          value.setGeneration(longAdapter.read(in));
+          break;
+        case "labels":
+          value.setLabels(mapStringStringAdapter.read(in));
+          break;
+        case "managedFields":
+          value.setManagedFields(listV1ManagedFieldsEntryAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "namespace":
+          value.setNamespace(stringAdapter.read(in));
+          break;
+        case "ownerReferences":
+          value.setOwnerReferences(listV1OwnerReferenceAdapter.read(in));
+          break;
+        case "resourceVersion":
+          value.setResourceVersion(stringAdapter.read(in));
+          break;
+        case "selfLink":
+          value.setSelfLink(stringAdapter.read(in));
+          break;
+        case "uid":
+          value.setUid(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1TypedLocalObjectReference;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1PersistentVolumeClaimSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PersistentVolumeClaimSpecTypeAdapter
+    extends TypeAdapter<V1PersistentVolumeClaimSpec> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<V1TypedLocalObjectReference> v1TypedLocalObjectReferenceAdapter;
+  private final TypeAdapter<V1ResourceRequirements> v1ResourceRequirementsAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PersistentVolumeClaimSpecTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.v1TypedLocalObjectReferenceAdapter = gson.getAdapter(V1TypedLocalObjectReference.class);
+    this.v1ResourceRequirementsAdapter = gson.getAdapter(V1ResourceRequirements.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PersistentVolumeClaimSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("accessModes");
+    listStringAdapter.write(out, value.getAccessModes());
+    out.name("dataSource");
+    v1TypedLocalObjectReferenceAdapter.write(out, value.getDataSource());
+    out.name("resources");
+    v1ResourceRequirementsAdapter.write(out, value.getResources());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("storageClassName");
+    stringAdapter.write(out, value.getStorageClassName());
+    out.name("volumeMode");
+    stringAdapter.write(out, value.getVolumeMode());
+    out.name("volumeName");
+    stringAdapter.write(out, value.getVolumeName());
+    out.endObject();
+  }
+
+  @Override
+  public V1PersistentVolumeClaimSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PersistentVolumeClaimSpec value = new V1PersistentVolumeClaimSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "accessModes":
+          value.setAccessModes(listStringAdapter.read(in));
+          break;
+        case "dataSource":
+          value.setDataSource(v1TypedLocalObjectReferenceAdapter.read(in));
+          break;
+        case "resources":
+          value.setResources(v1ResourceRequirementsAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "storageClassName":
+          value.setStorageClassName(stringAdapter.read(in));
+          break;
+        case "volumeMode":
+          value.setVolumeMode(stringAdapter.read(in));
+          break;
+        case "volumeName":
+          value.setVolumeName(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
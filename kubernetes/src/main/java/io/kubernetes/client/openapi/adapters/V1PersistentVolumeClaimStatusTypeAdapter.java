@@ -0,0 +1,100 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimCondition;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimStatus;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1PersistentVolumeClaimStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PersistentVolumeClaimStatusTypeAdapter
+    extends TypeAdapter<V1PersistentVolumeClaimStatus> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+  private final TypeAdapter<List<V1PersistentVolumeClaimCondition>>
+      listV1PersistentVolumeClaimConditionAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PersistentVolumeClaimStatusTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+    this.listV1PersistentVolumeClaimConditionAdapter =
+        (TypeAdapter<List<V1PersistentVolumeClaimCondition>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1PersistentVolumeClaimCondition.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PersistentVolumeClaimStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("accessModes");
+    listStringAdapter.write(out, value.getAccessModes());
+    out.name("capacity");
+    mapStringQuantityAdapter.write(out, value.getCapacity());
+    out.name("conditions");
+    listV1PersistentVolumeClaimConditionAdapter.write(out, value.getConditions());
+    out.name("phase");
+    stringAdapter.write(out, value.getPhase());
+    out.endObject();
+  }
+
+  @Override
+  public V1PersistentVolumeClaimStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PersistentVolumeClaimStatus value = new V1PersistentVolumeClaimStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "accessModes":
+          value.setAccessModes(listStringAdapter.read(in));
+          break;
+        case "capacity":
+          value.setCapacity(mapStringQuantityAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1PersistentVolumeClaimConditionAdapter.read(in));
+          break;
+        case "phase":
+          value.setPhase(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,311 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1AWSElasticBlockStoreVolumeSource;
+import io.kubernetes.client.openapi.models.V1AzureDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1AzureFilePersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1CSIPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1CephFSPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1CinderPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1FCVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlexPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlockerVolumeSource;
+import io.kubernetes.client.openapi.models.V1GCEPersistentDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1GlusterfsPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1HostPathVolumeSource;
+import io.kubernetes.client.openapi.models.V1ISCSIPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1LocalVolumeSource;
+import io.kubernetes.client.openapi.models.V1NFSVolumeSource;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeSpec;
+import io.kubernetes.client.openapi.models.V1PhotonPersistentDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1PortworxVolumeSource;
+import io.kubernetes.client.openapi.models.V1QuobyteVolumeSource;
+import io.kubernetes.client.openapi.models.V1RBDPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1ScaleIOPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1StorageOSPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1VolumeNodeAffinity;
+import io.kubernetes.client.openapi.models.V1VsphereVirtualDiskVolumeSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1PersistentVolumeSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PersistentVolumeSpecTypeAdapter extends TypeAdapter<V1PersistentVolumeSpec> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<V1AWSElasticBlockStoreVolumeSource>
+      v1AWSElasticBlockStoreVolumeSourceAdapter;
+  private final TypeAdapter<V1AzureDiskVolumeSource> v1AzureDiskVolumeSourceAdapter;
+  private final TypeAdapter<V1AzureFilePersistentVolumeSource>
+      v1AzureFilePersistentVolumeSourceAdapter;
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+  private final TypeAdapter<V1CephFSPersistentVolumeSource> v1CephFSPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1CinderPersistentVolumeSource> v1CinderPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1ObjectReference> v1ObjectReferenceAdapter;
+  private final TypeAdapter<V1CSIPersistentVolumeSource> v1CSIPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1FCVolumeSource> v1FCVolumeSourceAdapter;
+  private final TypeAdapter<V1FlexPersistentVolumeSource> v1FlexPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1FlockerVolumeSource> v1FlockerVolumeSourceAdapter;
+  private final TypeAdapter<V1GCEPersistentDiskVolumeSource> v1GCEPersistentDiskVolumeSourceAdapter;
+  private final TypeAdapter<V1GlusterfsPersistentVolumeSource>
+      v1GlusterfsPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1HostPathVolumeSource> v1HostPathVolumeSourceAdapter;
+  private final TypeAdapter<V1ISCSIPersistentVolumeSource> v1ISCSIPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1LocalVolumeSource> v1LocalVolumeSourceAdapter;
+  private final TypeAdapter<V1NFSVolumeSource> v1NFSVolumeSourceAdapter;
+  private final TypeAdapter<V1VolumeNodeAffinity> v1VolumeNodeAffinityAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1PhotonPersistentDiskVolumeSource>
+      v1PhotonPersistentDiskVolumeSourceAdapter;
+  private final TypeAdapter<V1PortworxVolumeSource> v1PortworxVolumeSourceAdapter;
+  private final TypeAdapter<V1QuobyteVolumeSource> v1QuobyteVolumeSourceAdapter;
+  private final TypeAdapter<V1RBDPersistentVolumeSource> v1RBDPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1ScaleIOPersistentVolumeSource> v1ScaleIOPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1StorageOSPersistentVolumeSource>
+      v1StorageOSPersistentVolumeSourceAdapter;
+  private final TypeAdapter<V1VsphereVirtualDiskVolumeSource>
+      v1VsphereVirtualDiskVolumeSourceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PersistentVolumeSpecTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.v1AWSElasticBlockStoreVolumeSourceAdapter =
+        gson.getAdapter(V1AWSElasticBlockStoreVolumeSource.class);
+    this.v1AzureDiskVolumeSourceAdapter = gson.getAdapter(V1AzureDiskVolumeSource.class);
+    this.v1AzureFilePersistentVolumeSourceAdapter =
+        gson.getAdapter(V1AzureFilePersistentVolumeSource.class);
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+    this.v1CephFSPersistentVolumeSourceAdapter =
+        gson.getAdapter(V1CephFSPersistentVolumeSource.class);
+    this.v1CinderPersistentVolumeSourceAdapter =
+        gson.getAdapter(V1CinderPersistentVolumeSource.class);
+    this.v1ObjectReferenceAdapter = gson.getAdapter(V1ObjectReference.class);
+    this.v1CSIPersistentVolumeSourceAdapter = gson.getAdapter(V1CSIPersistentVolumeSource.class);
+    this.v1FCVolumeSourceAdapter = gson.getAdapter(V1FCVolumeSource.class);
+    this.v1FlexPersistentVolumeSourceAdapter = gson.getAdapter(V1FlexPersistentVolumeSource.class);
+    this.v1FlockerVolumeSourceAdapter = gson.getAdapter(V1FlockerVolumeSource.class);
+    this.v1GCEPersistentDiskVolumeSourceAdapter =
+        gson.getAdapter(V1GCEPersistentDiskVolumeSource.class);
+    this.v1GlusterfsPersistentVolumeSourceAdapter =
+        gson.getAdapter(V1GlusterfsPersistentVolumeSource.class);
+    this.v1HostPathVolumeSourceAdapter = gson.getAdapter(V1HostPathVolumeSource.class);
+    this.v1ISCSIPersistentVolumeSourceAdapter =
+        gson.getAdapter(V1ISCSIPersistentVolumeSource.class);
+    this.v1LocalVolumeSourceAdapter = gson.getAdapter(V1LocalVolumeSource.class);
+    this.v1NFSVolumeSourceAdapter = gson.getAdapter(V1NFSVolumeSource.class);
+    this.v1VolumeNodeAffinityAdapter = gson.getAdapter(V1VolumeNodeAffinity.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1PhotonPersistentDiskVolumeSourceAdapter =
+        gson.getAdapter(V1PhotonPersistentDiskVolumeSource.class);
+    this.v1PortworxVolumeSourceAdapter = gson.getAdapter(V1PortworxVolumeSource.class);
+    this.v1QuobyteVolumeSourceAdapter = gson.getAdapter(V1QuobyteVolumeSource.class);
+    this.v1RBDPersistentVolumeSourceAdapter = gson.getAdapter(V1RBDPersistentVolumeSource.class);
+    this.v1ScaleIOPersistentVolumeSourceAdapter =
+        gson.getAdapter(V1ScaleIOPersistentVolumeSource.class);
+    this.v1StorageOSPersistentVolumeSourceAdapter =
+        gson.getAdapter(V1StorageOSPersistentVolumeSource.class);
+    this.v1VsphereVirtualDiskVolumeSourceAdapter =
+        gson.getAdapter(V1VsphereVirtualDiskVolumeSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PersistentVolumeSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("accessModes");
+    listStringAdapter.write(out, value.getAccessModes());
+    out.name("awsElasticBlockStore");
+    v1AWSElasticBlockStoreVolumeSourceAdapter.write(out, value.getAwsElasticBlockStore());
+    out.name("azureDisk");
+    v1AzureDiskVolumeSourceAdapter.write(out, value.getAzureDisk());
+    out.name("azureFile");
+    v1AzureFilePersistentVolumeSourceAdapter.write(out, value.getAzureFile());
+    out.name("capacity");
+    mapStringQuantityAdapter.write(out, value.getCapacity());
+    out.name("cephfs");
+    v1CephFSPersistentVolumeSourceAdapter.write(out, value.getCephfs());
+    out.name("cinder");
+    v1CinderPersistentVolumeSourceAdapter.write(out, value.getCinder());
+    out.name("claimRef");
+    v1ObjectReferenceAdapter.write(out, value.getClaimRef());
+    out.name("csi");
+    v1CSIPersistentVolumeSourceAdapter.write(out, value.getCsi());
+    out.name("fc");
+    v1FCVolumeSourceAdapter.write(out, value.getFc());
+    out.name("flexVolume");
+    v1FlexPersistentVolumeSourceAdapter.write(out, value.getFlexVolume());
+    out.name("flocker");
+    v1FlockerVolumeSourceAdapter.write(out, value.getFlocker());
+    out.name("gcePersistentDisk");
+    v1GCEPersistentDiskVolumeSourceAdapter.write(out, value.getGcePersistentDisk());
+    out.name("glusterfs");
+    v1GlusterfsPersistentVolumeSourceAdapter.write(out, value.getGlusterfs());
+    out.name("hostPath");
+    v1HostPathVolumeSourceAdapter.write(out, value.getHostPath());
+    out.name("iscsi");
+    v1ISCSIPersistentVolumeSourceAdapter.write(out, value.getIscsi());
+    out.name("local");
+    v1LocalVolumeSourceAdapter.write(out, value.getLocal());
+    out.name("mountOptions");
+    listStringAdapter.write(out, value.getMountOptions());
+    out.name("nfs");
+    v1NFSVolumeSourceAdapter.write(out, value.getNfs());
+    out.name("nodeAffinity");
+    v1VolumeNodeAffinityAdapter.write(out, value.getNodeAffinity());
+    out.name("persistentVolumeReclaimPolicy");
+    stringAdapter.write(out, value.getPersistentVolumeReclaimPolicy());
+    out.name("photonPersistentDisk");
+    v1PhotonPersistentDiskVolumeSourceAdapter.write(out, value.getPhotonPersistentDisk());
+    out.name("portworxVolume");
+    v1PortworxVolumeSourceAdapter.write(out, value.getPortworxVolume());
+    out.name("quobyte");
+    v1QuobyteVolumeSourceAdapter.write(out, value.getQuobyte());
+    out.name("rbd");
+    v1RBDPersistentVolumeSourceAdapter.write(out, value.getRbd());
+    out.name("scaleIO");
+    v1ScaleIOPersistentVolumeSourceAdapter.write(out, value.getScaleIO());
+    out.name("storageClassName");
+    stringAdapter.write(out, value.getStorageClassName());
+    out.name("storageos");
+    v1StorageOSPersistentVolumeSourceAdapter.write(out, value.getStorageos());
+    out.name("volumeMode");
+    stringAdapter.write(out, value.getVolumeMode());
+    out.name("vsphereVolume");
+    v1VsphereVirtualDiskVolumeSourceAdapter.write(out, value.getVsphereVolume());
+    out.endObject();
+  }
+
+  @Override
+  public V1PersistentVolumeSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PersistentVolumeSpec value = new V1PersistentVolumeSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "accessModes":
+          value.setAccessModes(listStringAdapter.read(in));
+          break;
+        case "awsElasticBlockStore":
+          value.setAwsElasticBlockStore(v1AWSElasticBlockStoreVolumeSourceAdapter.read(in));
+          break;
+        case "azureDisk":
+          value.setAzureDisk(v1AzureDiskVolumeSourceAdapter.read(in));
+          break;
+        case "azureFile":
+          value.setAzureFile(v1AzureFilePersistentVolumeSourceAdapter.read(in));
+          break;
+        case "capacity":
+          value.setCapacity(mapStringQuantityAdapter.read(in));
+          break;
+        case "cephfs":
+          value.setCephfs(v1CephFSPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "cinder":
+          value.setCinder(v1CinderPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "claimRef":
+          value.setClaimRef(v1ObjectReferenceAdapter.read(in));
+          break;
+        case "csi":
+          value.setCsi(v1CSIPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "fc":
+          value.setFc(v1FCVolumeSourceAdapter.read(in));
+          break;
+        case "flexVolume":
+          value.setFlexVolume(v1FlexPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "flocker":
+          value.setFlocker(v1FlockerVolumeSourceAdapter.read(in));
+          break;
+        case "gcePersistentDisk":
+          value.setGcePersistentDisk(v1GCEPersistentDiskVolumeSourceAdapter.read(in));
+          break;
+        case "glusterfs":
+          value.setGlusterfs(v1GlusterfsPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "hostPath":
+          value.setHostPath(v1HostPathVolumeSourceAdapter.read(in));
+          break;
+        case "iscsi":
+          value.setIscsi(v1ISCSIPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "local":
+          value.setLocal(v1LocalVolumeSourceAdapter.read(in));
+          break;
+        case "mountOptions":
+          value.setMountOptions(listStringAdapter.read(in));
+          break;
+        case "nfs":
+          value.setNfs(v1NFSVolumeSourceAdapter.read(in));
+          break;
+        case "nodeAffinity":
+          value.setNodeAffinity(v1VolumeNodeAffinityAdapter.read(in));
+          break;
+        case "persistentVolumeReclaimPolicy":
+          value.setPersistentVolumeReclaimPolicy(stringAdapter.read(in));
+          break;
+        case "photonPersistentDisk":
+          value.setPhotonPersistentDisk(v1PhotonPersistentDiskVolumeSourceAdapter.read(in));
+          break;
+        case "portworxVolume":
+          value.setPortworxVolume(v1PortworxVolumeSourceAdapter.read(in));
+          break;
+        case "quobyte":
+          value.setQuobyte(v1QuobyteVolumeSourceAdapter.read(in));
+          break;
+        case "rbd":
+          value.setRbd(v1RBDPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "scaleIO":
+          value.setScaleIO(v1ScaleIOPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "storageClassName":
+          value.setStorageClassName(stringAdapter.read(in));
+          break;
+        case "storageos":
+          value.setStorageos(v1StorageOSPersistentVolumeSourceAdapter.read(in));
+          break;
+        case "volumeMode":
+          value.setVolumeMode(stringAdapter.read(in));
+          break;
+        case "vsphereVolume":
+          value.setVsphereVolume(v1VsphereVirtualDiskVolumeSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
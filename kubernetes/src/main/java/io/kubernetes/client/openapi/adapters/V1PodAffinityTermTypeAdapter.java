@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1PodAffinityTerm} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PodAffinityTermTypeAdapter extends TypeAdapter<V1PodAffinityTerm> {
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PodAffinityTermTypeAdapter(Gson gson) {
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PodAffinityTerm value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("labelSelector");
+    v1LabelSelectorAdapter.write(out, value.getLabelSelector());
+    out.name("namespaces");
+    listStringAdapter.write(out, value.getNamespaces());
+    out.name("topologyKey");
+    stringAdapter.write(out, value.getTopologyKey());
+    out.endObject();
+  }
+
+  @Override
+  public V1PodAffinityTerm read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PodAffinityTerm value = new V1PodAffinityTerm();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "labelSelector":
+          value.setLabelSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "namespaces":
+          value.setNamespaces(listStringAdapter.read(in));
+          break;
+        case "topologyKey":
+          value.setTopologyKey(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
+import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
+import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1PodAntiAffinity} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PodAntiAffinityTypeAdapter extends TypeAdapter<V1PodAntiAffinity> {
+  private final TypeAdapter<List<V1WeightedPodAffinityTerm>> listV1WeightedPodAffinityTermAdapter;
+  private final TypeAdapter<List<V1PodAffinityTerm>> listV1PodAffinityTermAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PodAntiAffinityTypeAdapter(Gson gson) {
+    this.listV1WeightedPodAffinityTermAdapter =
+        (TypeAdapter<List<V1WeightedPodAffinityTerm>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1WeightedPodAffinityTerm.class));
+    this.listV1PodAffinityTermAdapter =
+        (TypeAdapter<List<V1PodAffinityTerm>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1PodAffinityTerm.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PodAntiAffinity value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("preferredDuringSchedulingIgnoredDuringExecution");
+    listV1WeightedPodAffinityTermAdapter.write(
+        out, value.getPreferredDuringSchedulingIgnoredDuringExecution());
+    out.name("requiredDuringSchedulingIgnoredDuringExecution");
+    listV1PodAffinityTermAdapter.write(
+        out, value.getRequiredDuringSchedulingIgnoredDuringExecution());
+    out.endObject();
+  }
+
+  @Override
+  public V1PodAntiAffinity read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PodAntiAffinity value = new V1PodAntiAffinity();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "preferredDuringSchedulingIgnoredDuringExecution":
+          value.setPreferredDuringSchedulingIgnoredDuringExecution(
+              listV1WeightedPodAffinityTermAdapter.read(in));
+          break;
+        case "requiredDuringSchedulingIgnoredDuringExecution":
+          value.setRequiredDuringSchedulingIgnoredDuringExecution(
+              listV1PodAffinityTermAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1PodDNSConfig;
+import io.kubernetes.client.openapi.models.V1PodDNSConfigOption;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1PodDNSConfig} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PodDNSConfigTypeAdapter extends TypeAdapter<V1PodDNSConfig> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<List<V1PodDNSConfigOption>> listV1PodDNSConfigOptionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PodDNSConfigTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.listV1PodDNSConfigOptionAdapter =
+        (TypeAdapter<List<V1PodDNSConfigOption>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1PodDNSConfigOption.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PodDNSConfig value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("nameservers");
+    listStringAdapter.write(out, value.getNameservers());
+    out.name("options");
+    listV1PodDNSConfigOptionAdapter.write(out, value.getOptions());
+    out.name("searches");
+    listStringAdapter.write(out, value.getSearches());
+    out.endObject();
+  }
+
+  @Override
+  public V1PodDNSConfig read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PodDNSConfig value = new V1PodDNSConfig();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "nameservers":
+          value.setNameservers(listStringAdapter.read(in));
+          break;
+        case "options":
+          value.setOptions(listV1PodDNSConfigOptionAdapter.read(in));
+          break;
+        case "searches":
+          value.setSearches(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1SELinuxOptions;
+import io.kubernetes.client.openapi.models.V1SeccompProfile;
+import io.kubernetes.client.openapi.models.V1Sysctl;
+import io.kubernetes.client.openapi.models.V1WindowsSecurityContextOptions;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1PodSecurityContext} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PodSecurityContextTypeAdapter extends TypeAdapter<V1PodSecurityContext> {
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1SELinuxOptions> v1SELinuxOptionsAdapter;
+  private final TypeAdapter<V1SeccompProfile> v1SeccompProfileAdapter;
+  private final TypeAdapter<List<Long>> listLongAdapter;
+  private final TypeAdapter<List<V1Sysctl>> listV1SysctlAdapter;
+  private final TypeAdapter<V1WindowsSecurityContextOptions> v1WindowsSecurityContextOptionsAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PodSecurityContextTypeAdapter(Gson gson) {
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1SELinuxOptionsAdapter = gson.getAdapter(V1SELinuxOptions.class);
+    this.v1SeccompProfileAdapter = gson.getAdapter(V1SeccompProfile.class);
+    this.listLongAdapter =
+        (TypeAdapter<List<Long>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, Long.class));
+    this.listV1SysctlAdapter =
+        (TypeAdapter<List<V1Sysctl>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Sysctl.class));
+    this.v1WindowsSecurityContextOptionsAdapter =
+        gson.getAdapter(V1WindowsSecurityContextOptions.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PodSecurityContext value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsGroup");
+    longAdapter.write(out, value.getFsGroup());
+    out.name("fsGroupChangePolicy");
+    stringAdapter.write(out, value.getFsGroupChangePolicy());
+    out.name("runAsGroup");
+    longAdapter.write(out, value.getRunAsGroup());
+    out.name("runAsNonRoot");
+    booleanAdapter.write(out, value.getRunAsNonRoot());
+    out.name("runAsUser");
+    longAdapter.write(out, value.getRunAsUser());
+    out.name("seLinuxOptions");
+    v1SELinuxOptionsAdapter.write(out, value.getSeLinuxOptions());
+    out.name("seccompProfile");
+    v1SeccompProfileAdapter.write(out, value.getSeccompProfile());
+    out.name("supplementalGroups");
+    listLongAdapter.write(out, value.getSupplementalGroups());
+    out.name("sysctls");
+    listV1SysctlAdapter.write(out, value.getSysctls());
+    out.name("windowsOptions");
+    v1WindowsSecurityContextOptionsAdapter.write(out, value.getWindowsOptions());
+    out.endObject();
+  }
+
+  @Override
+  public V1PodSecurityContext read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PodSecurityContext value = new V1PodSecurityContext();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsGroup":
+          value.setFsGroup(longAdapter.read(in));
+          break;
+        case "fsGroupChangePolicy":
+          value.setFsGroupChangePolicy(stringAdapter.read(in));
+          break;
+        case "runAsGroup":
+          value.setRunAsGroup(longAdapter.read(in));
+          break;
+        case "runAsNonRoot":
+          value.setRunAsNonRoot(booleanAdapter.read(in));
+          break;
+        case "runAsUser":
+          value.setRunAsUser(longAdapter.read(in));
+          break;
+        case "seLinuxOptions":
+          value.setSeLinuxOptions(v1SELinuxOptionsAdapter.read(in));
+          break;
+        case "seccompProfile":
+          value.setSeccompProfile(v1SeccompProfileAdapter.read(in));
+          break;
+        case "supplementalGroups":
+          value.setSupplementalGroups(listLongAdapter.read(in));
+          break;
+        case "sysctls":
+          value.setSysctls(listV1SysctlAdapter.read(in));
+          break;
+        case "windowsOptions":
+          value.setWindowsOptions(v1WindowsSecurityContextOptionsAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
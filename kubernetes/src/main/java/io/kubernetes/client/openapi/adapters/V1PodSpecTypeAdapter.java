@@ -0,0 +1,303 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Affinity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EphemeralContainer;
+import io.kubernetes.client.openapi.models.V1HostAlias;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1PodDNSConfig;
+import io.kubernetes.client.openapi.models.V1PodReadinessGate;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import io.kubernetes.client.openapi.models.V1TopologySpreadConstraint;
+import io.kubernetes.client.openapi.models.V1Volume;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1PodSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PodSpecTypeAdapter extends TypeAdapter<V1PodSpec> {
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<V1Affinity> v1AffinityAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1Container>> listV1ContainerAdapter;
+  private final TypeAdapter<V1PodDNSConfig> v1PodDNSConfigAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1EphemeralContainer>> listV1EphemeralContainerAdapter;
+  private final TypeAdapter<List<V1HostAlias>> listV1HostAliasAdapter;
+  private final TypeAdapter<List<V1LocalObjectReference>> listV1LocalObjectReferenceAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1PodReadinessGate>> listV1PodReadinessGateAdapter;
+  private final TypeAdapter<V1PodSecurityContext> v1PodSecurityContextAdapter;
+  private final TypeAdapter<List<V1Toleration>> listV1TolerationAdapter;
+  private final TypeAdapter<List<V1TopologySpreadConstraint>> listV1TopologySpreadConstraintAdapter;
+  private final TypeAdapter<List<V1Volume>> listV1VolumeAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PodSpecTypeAdapter(Gson gson) {
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.v1AffinityAdapter = gson.getAdapter(V1Affinity.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1ContainerAdapter =
+        (TypeAdapter<List<V1Container>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Container.class));
+    this.v1PodDNSConfigAdapter = gson.getAdapter(V1PodDNSConfig.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1EphemeralContainerAdapter =
+        (TypeAdapter<List<V1EphemeralContainer>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EphemeralContainer.class));
+    this.listV1HostAliasAdapter =
+        (TypeAdapter<List<V1HostAlias>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1HostAlias.class));
+    this.listV1LocalObjectReferenceAdapter =
+        (TypeAdapter<List<V1LocalObjectReference>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1LocalObjectReference.class));
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1PodReadinessGateAdapter =
+        (TypeAdapter<List<V1PodReadinessGate>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1PodReadinessGate.class));
+    this.v1PodSecurityContextAdapter = gson.getAdapter(V1PodSecurityContext.class);
+    this.listV1TolerationAdapter =
+        (TypeAdapter<List<V1Toleration>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Toleration.class));
+    this.listV1TopologySpreadConstraintAdapter =
+        (TypeAdapter<List<V1TopologySpreadConstraint>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1TopologySpreadConstraint.class));
+    this.listV1VolumeAdapter =
+        (TypeAdapter<List<V1Volume>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Volume.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PodSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("activeDeadlineSeconds");
+    longAdapter.write(out, value.getActiveDeadlineSeconds());
+    out.name("affinity");
+    v1AffinityAdapter.write(out, value.getAffinity());
+    out.name("automountServiceAccountToken");
+    booleanAdapter.write(out, value.getAutomountServiceAccountToken());
+    out.name("containers");
+    listV1ContainerAdapter.write(out, value.getContainers());
+    out.name("dnsConfig");
+    v1PodDNSConfigAdapter.write(out, value.getDnsConfig());
+    out.name("dnsPolicy");
+    stringAdapter.write(out, value.getDnsPolicy());
+    out.name("enableServiceLinks");
+    booleanAdapter.write(out, value.getEnableServiceLinks());
+    out.name("ephemeralContainers");
+    listV1EphemeralContainerAdapter.write(out, value.getEphemeralContainers());
+    out.name("hostAliases");
+    listV1HostAliasAdapter.write(out, value.getHostAliases());
+    out.name("hostIPC");
+    booleanAdapter.write(out, value.getHostIPC());
+    out.name("hostNetwork");
+    booleanAdapter.write(out, value.getHostNetwork());
+    out.name("hostPID");
+    booleanAdapter.write(out, value.getHostPID());
+    out.name("hostname");
+    stringAdapter.write(out, value.getHostname());
+    out.name("imagePullSecrets");
+    listV1LocalObjectReferenceAdapter.write(out, value.getImagePullSecrets());
+    out.name("initContainers");
+    listV1ContainerAdapter.write(out, value.getInitContainers());
+    out.name("nodeName");
+    stringAdapter.write(out, value.getNodeName());
+    out.name("nodeSelector");
+    mapStringStringAdapter.write(out, value.getNodeSelector());
+    out.name("overhead");
+    mapStringQuantityAdapter.write(out, value.getOverhead());
+    out.name("preemptionPolicy");
+    stringAdapter.write(out, value.getPreemptionPolicy());
+    out.name("priority");
+    integerAdapter.write(out, value.getPriority());
+    out.name("priorityClassName");
+    stringAdapter.write(out, value.getPriorityClassName());
+    out.name("readinessGates");
+    listV1PodReadinessGateAdapter.write(out, value.getReadinessGates());
+    out.name("restartPolicy");
+    stringAdapter.write(out, value.getRestartPolicy());
+    out.name("runtimeClassName");
+    stringAdapter.write(out, value.getRuntimeClassName());
+    out.name("schedulerName");
+    stringAdapter.write(out, value.getSchedulerName());
+    out.name("securityContext");
+    v1PodSecurityContextAdapter.write(out, value.getSecurityContext());
+    out.name("serviceAccount");
+    stringAdapter.write(out, value.getServiceAccount());
+    out.name("serviceAccountName");
+    stringAdapter.write(out, value.getServiceAccountName());
+    out.name("setHostnameAsFQDN");
+    booleanAdapter.write(out, value.getSetHostnameAsFQDN());
+    out.name("shareProcessNamespace");
+    booleanAdapter.write(out, value.getShareProcessNamespace());
+    out.name("subdomain");
+    stringAdapter.write(out, value.getSubdomain());
+    out.name("terminationGracePeriodSeconds");
+    longAdapter.write(out, value.getTerminationGracePeriodSeconds());
+    out.name("tolerations");
+    listV1TolerationAdapter.write(out, value.getTolerations());
+    out.name("topologySpreadConstraints");
+    listV1TopologySpreadConstraintAdapter.write(out, value.getTopologySpreadConstraints());
+    out.name("volumes");
+    listV1VolumeAdapter.write(out, value.getVolumes());
+    out.endObject();
+  }
+
+  @Override
+  public V1PodSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PodSpec value = new V1PodSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "activeDeadlineSeconds":
+          value.setActiveDeadlineSeconds(longAdapter.read(in));
+          break;
+        case "affinity":
+          value.setAffinity(v1AffinityAdapter.read(in));
+          break;
+        case "automountServiceAccountToken":
+          value.setAutomountServiceAccountToken(booleanAdapter.read(in));
+          break;
+        case "containers":
+          value.setContainers(listV1ContainerAdapter.read(in));
+          break;
+        case "dnsConfig":
+          value.setDnsConfig(v1PodDNSConfigAdapter.read(in));
+          break;
+        case "dnsPolicy":
+          value.setDnsPolicy(stringAdapter.read(in));
+          break;
+        case "enableServiceLinks":
+          value.setEnableServiceLinks(booleanAdapter.read(in));
+          break;
+        case "ephemeralContainers":
+          value.setEphemeralContainers(listV1EphemeralContainerAdapter.read(in));
+          break;
+        case "hostAliases":
+          value.setHostAliases(listV1HostAliasAdapter.read(in));
+          break;
+        case "hostIPC":
+          value.setHostIPC(booleanAdapter.read(in));
+          break;
+        case "hostNetwork":
+          value.setHostNetwork(booleanAdapter.read(in));
+          break;
+        case "hostPID":
+          value.setHostPID(booleanAdapter.read(in));
+          break;
+        case "hostname":
+          value.setHostname(stringAdapter.read(in));
+          break;
+        case "imagePullSecrets":
+          value.setImagePullSecrets(listV1LocalObjectReferenceAdapter.read(in));
+          break;
+        case "initContainers":
+          value.setInitContainers(listV1ContainerAdapter.read(in));
+          break;
+        case "nodeName":
+          value.setNodeName(stringAdapter.read(in));
+          break;
+        case "nodeSelector":
+          value.setNodeSelector(mapStringStringAdapter.read(in));
+          break;
+        case "overhead":
+          value.setOverhead(mapStringQuantityAdapter.read(in));
+          break;
+        case "preemptionPolicy":
+          value.setPreemptionPolicy(stringAdapter.read(in));
+          break;
+        case "priority":
+          value.setPriority(integerAdapter.read(in));
+          break;
+        case "priorityClassName":
+          value.setPriorityClassName(stringAdapter.read(in));
+          break;
+        case "readinessGates":
+          value.setReadinessGates(listV1PodReadinessGateAdapter.read(in));
+          break;
+        case "restartPolicy":
+          value.setRestartPolicy(stringAdapter.read(in));
+          break;
+        case "runtimeClassName":
+          value.setRuntimeClassName(stringAdapter.read(in));
+          break;
+        case "schedulerName":
+          value.setSchedulerName(stringAdapter.read(in));
+          break;
+        case "securityContext":
+          value.setSecurityContext(v1PodSecurityContextAdapter.read(in));
+          break;
+        case "serviceAccount":
+          value.setServiceAccount(stringAdapter.read(in));
+          break;
+        case "serviceAccountName":
+          value.setServiceAccountName(stringAdapter.read(in));
+          break;
+        case "setHostnameAsFQDN":
+          value.setSetHostnameAsFQDN(booleanAdapter.read(in));
+          break;
+        case "shareProcessNamespace":
+          value.setShareProcessNamespace(booleanAdapter.read(in));
+          break;
+        case "subdomain":
+          value.setSubdomain(stringAdapter.read(in));
+          break;
+        case "terminationGracePeriodSeconds":
+          value.setTerminationGracePeriodSeconds(longAdapter.read(in));
+          break;
+        case "tolerations":
+          value.setTolerations(listV1TolerationAdapter.read(in));
+          break;
+        case "topologySpreadConstraints":
+          value.setTopologySpreadConstraints(listV1TopologySpreadConstraintAdapter.read(in));
+          break;
+        case "volumes":
+          value.setVolumes(listV1VolumeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodIP;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import java.io.IOException;
+import java.util.List;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1PodStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1PodStatusTypeAdapter extends TypeAdapter<V1PodStatus> {
+  private final TypeAdapter<List<V1PodCondition>> listV1PodConditionAdapter;
+  private final TypeAdapter<List<V1ContainerStatus>> listV1ContainerStatusAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<V1PodIP>> listV1PodIPAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1PodStatusTypeAdapter(Gson gson) {
+    this.listV1PodConditionAdapter =
+        (TypeAdapter<List<V1PodCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1PodCondition.class));
+    this.listV1ContainerStatusAdapter =
+        (TypeAdapter<List<V1ContainerStatus>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ContainerStatus.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listV1PodIPAdapter =
+        (TypeAdapter<List<V1PodIP>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1PodIP.class));
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1PodStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("conditions");
+    listV1PodConditionAdapter.write(out, value.getConditions());
+    out.name("containerStatuses");
+    listV1ContainerStatusAdapter.write(out, value.getContainerStatuses());
+    out.name("ephemeralContainerStatuses");
+    listV1ContainerStatusAdapter.write(out, value.getEphemeralContainerStatuses());
+    out.name("hostIP");
+    stringAdapter.write(out, value.getHostIP());
+    out.name("initContainerStatuses");
+    listV1ContainerStatusAdapter.write(out, value.getInitContainerStatuses());
+    out.name("message");
+    stringAdapter.write(out, value.getMessage());
+    out.name("nominatedNodeName");
+    stringAdapter.write(out, value.getNominatedNodeName());
+    out.name("phase");
+    stringAdapter.write(out, value.getPhase());
+    out.name("podIP");
+    stringAdapter.write(out, value.getPodIP());
+    out.name("podIPs");
+    listV1PodIPAdapter.write(out, value.getPodIPs());
+    out.name("qosClass");
+    stringAdapter.write(out, value.getQosClass());
+    out.name("reason");
+    stringAdapter.write(out, value.getReason());
+    out.name("startTime");
+    dateTimeAdapter.write(out, value.getStartTime());
+    out.endObject();
+  }
+
+  @Override
+  public V1PodStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1PodStatus value = new V1PodStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "conditions":
+          value.setConditions(listV1PodConditionAdapter.read(in));
+          break;
+        case "containerStatuses":
+          value.setContainerStatuses(listV1ContainerStatusAdapter.read(in));
+          break;
+        case "ephemeralContainerStatuses":
+          value.setEphemeralContainerStatuses(listV1ContainerStatusAdapter.read(in));
+          break;
+        case "hostIP":
+          value.setHostIP(stringAdapter.read(in));
+          break;
+        case "initContainerStatuses":
+          value.setInitContainerStatuses(listV1ContainerStatusAdapter.read(in));
+          break;
+        case "message":
+          value.setMessage(stringAdapter.read(in));
+          break;
+        case "nominatedNodeName":
+          value.setNominatedNodeName(stringAdapter.read(in));
+          break;
+        case "phase":
+          value.setPhase(stringAdapter.read(in));
+          break;
+        case "podIP":
+          value.setPodIP(stringAdapter.read(in));
+          break;
+        case "podIPs":
+          value.setPodIPs(listV1PodIPAdapter.read(in));
+          break;
+        case "qosClass":
+          value.setQosClass(stringAdapter.read(in));
+          break;
+        case "reason":
+          value.setReason(stringAdapter.read(in));
+          break;
+        case "startTime":
+          value.setStartTime(dateTimeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
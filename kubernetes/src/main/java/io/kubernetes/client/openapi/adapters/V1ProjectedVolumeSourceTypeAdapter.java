@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ProjectedVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ProjectedVolumeSourceTypeAdapter extends TypeAdapter<V1ProjectedVolumeSource> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1VolumeProjection>> listV1VolumeProjectionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ProjectedVolumeSourceTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1VolumeProjectionAdapter =
+        (TypeAdapter<List<V1VolumeProjection>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1VolumeProjection.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ProjectedVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("defaultMode");
+    integerAdapter.write(out, value.getDefaultMode());
+    out.name("sources");
+    listV1VolumeProjectionAdapter.write(out, value.getSources());
+    out.endObject();
+  }
+
+  @Override
+  public V1ProjectedVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ProjectedVolumeSource value = new V1ProjectedVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "defaultMode":
+          value.setDefaultMode(integerAdapter.read(in));
+          break;
+        case "sources":
+          value.setSources(listV1VolumeProjectionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
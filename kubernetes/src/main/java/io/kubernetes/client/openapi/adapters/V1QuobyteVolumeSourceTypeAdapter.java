@@ -0,0 +1,91 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1QuobyteVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1QuobyteVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1QuobyteVolumeSourceTypeAdapter extends TypeAdapter<V1QuobyteVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  public V1QuobyteVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1QuobyteVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("group");
+    stringAdapter.write(out, value.getGroup());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("registry");
+    stringAdapter.write(out, value.getRegistry());
+    out.name("tenant");
+    stringAdapter.write(out, value.getTenant());
+    out.name("user");
+    stringAdapter.write(out, value.getUser());
+    out.name("volume");
+    stringAdapter.write(out, value.getVolume());
+    out.endObject();
+  }
+
+  @Override
+  public V1QuobyteVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1QuobyteVolumeSource value = new V1QuobyteVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "group":
+          value.setGroup(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "registry":
+          value.setRegistry(stringAdapter.read(in));
+          break;
+        case "tenant":
+          value.setTenant(stringAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(stringAdapter.read(in));
+          break;
+        case "volume":
+          value.setVolume(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
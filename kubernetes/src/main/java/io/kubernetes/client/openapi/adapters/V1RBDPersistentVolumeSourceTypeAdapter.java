@@ -0,0 +1,112 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1RBDPersistentVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1RBDPersistentVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1RBDPersistentVolumeSourceTypeAdapter
+    extends TypeAdapter<V1RBDPersistentVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1SecretReference> v1SecretReferenceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1RBDPersistentVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1SecretReferenceAdapter = gson.getAdapter(V1SecretReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1RBDPersistentVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("image");
+    stringAdapter.write(out, value.getImage());
+    out.name("keyring");
+    stringAdapter.write(out, value.getKeyring());
+    out.name("monitors");
+    listStringAdapter.write(out, value.getMonitors());
+    out.name("pool");
+    stringAdapter.write(out, value.getPool());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretRef");
+    v1SecretReferenceAdapter.write(out, value.getSecretRef());
+    out.name("user");
+    stringAdapter.write(out, value.getUser());
+    out.endObject();
+  }
+
+  @Override
+  public V1RBDPersistentVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1RBDPersistentVolumeSource value = new V1RBDPersistentVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "image":
+          value.setImage(stringAdapter.read(in));
+          break;
+        case "keyring":
+          value.setKeyring(stringAdapter.read(in));
+          break;
+        case "monitors":
+          value.setMonitors(listStringAdapter.read(in));
+          break;
+        case "pool":
+          value.setPool(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1SecretReferenceAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
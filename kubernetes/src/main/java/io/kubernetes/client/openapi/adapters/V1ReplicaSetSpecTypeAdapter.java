@@ -0,0 +1,85 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import io.kubernetes.client.openapi.models.V1ReplicaSetSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ReplicaSetSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ReplicaSetSpecTypeAdapter extends TypeAdapter<V1ReplicaSetSpec> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<V1PodTemplateSpec> v1PodTemplateSpecAdapter;
+
+  public V1ReplicaSetSpecTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.v1PodTemplateSpecAdapter = gson.getAdapter(V1PodTemplateSpec.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ReplicaSetSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("minReadySeconds");
+    integerAdapter.write(out, value.getMinReadySeconds());
+    out.name("replicas");
+    integerAdapter.write(out, value.getReplicas());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("template");
+    v1PodTemplateSpecAdapter.write(out, value.getTemplate());
+    out.endObject();
+  }
+
+  @Override
+  public V1ReplicaSetSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ReplicaSetSpec value = new V1ReplicaSetSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "minReadySeconds":
+          value.setMinReadySeconds(integerAdapter.read(in));
+          break;
+        case "replicas":
+          value.setReplicas(integerAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "template":
+          value.setTemplate(v1PodTemplateSpecAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
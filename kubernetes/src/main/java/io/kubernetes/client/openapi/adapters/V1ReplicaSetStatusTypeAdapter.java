@@ -0,0 +1,99 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ReplicaSetCondition;
+import io.kubernetes.client.openapi.models.V1ReplicaSetStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ReplicaSetStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ReplicaSetStatusTypeAdapter extends TypeAdapter<V1ReplicaSetStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1ReplicaSetCondition>> listV1ReplicaSetConditionAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ReplicaSetStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1ReplicaSetConditionAdapter =
+        (TypeAdapter<List<V1ReplicaSetCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ReplicaSetCondition.class));
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ReplicaSetStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("availableReplicas");
+    integerAdapter.write(out, value.getAvailableReplicas());
+    out.name("conditions");
+    listV1ReplicaSetConditionAdapter.write(out, value.getConditions());
+    out.name("fullyLabeledReplicas");
+    integerAdapter.write(out, value.getFullyLabeledReplicas());
+    out.name("observedGeneration");
+    longAdapter.write(out, value.getObservedGeneration());
+    out.name("readyReplicas");
+    integerAdapter.write(out, value.getReadyReplicas());
+    out.name("replicas");
+    integerAdapter.write(out, value.getReplicas());
+    out.endObject();
+  }
+
+  @Override
+  public V1ReplicaSetStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ReplicaSetStatus value = new V1ReplicaSetStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "availableReplicas":
+          value.setAvailableReplicas(integerAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1ReplicaSetConditionAdapter.read(in));
+          break;
+        case "fullyLabeledReplicas":
+          value.setFullyLabeledReplicas(integerAdapter.read(in));
+          break;
+        case "observedGeneration":
+          value.setObservedGeneration(longAdapter.read(in));
+          break;
+        case "readyReplicas":
+          value.setReadyReplicas(integerAdapter.read(in));
+          break;
+        case "replicas":
+          value.setReplicas(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1ResourceFieldSelector;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ResourceFieldSelector} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ResourceFieldSelectorTypeAdapter extends TypeAdapter<V1ResourceFieldSelector> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Quantity> quantityAdapter;
+
+  public V1ResourceFieldSelectorTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.quantityAdapter = gson.getAdapter(Quantity.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ResourceFieldSelector value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("containerName");
+    stringAdapter.write(out, value.getContainerName());
+    out.name("divisor");
+    quantityAdapter.write(out, value.getDivisor());
+    out.name("resource");
+    stringAdapter.write(out, value.getResource());
+    out.endObject();
+  }
+
+  @Override
+  public V1ResourceFieldSelector read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ResourceFieldSelector value = new V1ResourceFieldSelector();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "containerName":
+          value.setContainerName(stringAdapter.read(in));
+          break;
+        case "divisor":
+          value.setDivisor(quantityAdapter.read(in));
+          break;
+        case "resource":
+          value.setResource(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1ResourceRequirements} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ResourceRequirementsTypeAdapter extends TypeAdapter<V1ResourceRequirements> {
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ResourceRequirementsTypeAdapter(Gson gson) {
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ResourceRequirements value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("limits");
+    mapStringQuantityAdapter.write(out, value.getLimits());
+    out.name("requests");
+    mapStringQuantityAdapter.write(out, value.getRequests());
+    out.endObject();
+  }
+
+  @Override
+  public V1ResourceRequirements read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ResourceRequirements value = new V1ResourceRequirements();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "limits":
+          value.setLimits(mapStringQuantityAdapter.read(in));
+          break;
+        case "requests":
+          value.setRequests(mapStringQuantityAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
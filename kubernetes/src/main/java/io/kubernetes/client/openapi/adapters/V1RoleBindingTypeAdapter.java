@@ -0,0 +1,98 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1RoleBinding;
+import io.kubernetes.client.openapi.models.V1RoleRef;
+import io.kubernetes.client.openapi.models.V1Subject;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1RoleBinding} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1RoleBindingTypeAdapter extends TypeAdapter<V1RoleBinding> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<V1RoleRef> v1RoleRefAdapter;
+  private final TypeAdapter<List<V1Subject>> listV1SubjectAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1RoleBindingTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.v1RoleRefAdapter = gson.getAdapter(V1RoleRef.class);
+    this.listV1SubjectAdapter =
+        (TypeAdapter<List<V1Subject>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Subject.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1RoleBinding value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("roleRef");
+    v1RoleRefAdapter.write(out, value.getRoleRef());
+    out.name("subjects");
+    listV1SubjectAdapter.write(out, value.getSubjects());
+    out.endObject();
+  }
+
+  @Override
+  public V1RoleBinding read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1RoleBinding value = new V1RoleBinding();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "roleRef":
+          value.setRoleRef(v1RoleRefAdapter.read(in));
+          break;
+        case "subjects":
+          value.setSubjects(listV1SubjectAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
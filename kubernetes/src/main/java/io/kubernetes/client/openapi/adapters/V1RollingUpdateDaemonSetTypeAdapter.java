@@ -0,0 +1,65 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1RollingUpdateDaemonSet;
+import java.io.IOException;
+
+/** Reads and writes {@link V1RollingUpdateDaemonSet} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1RollingUpdateDaemonSetTypeAdapter extends TypeAdapter<V1RollingUpdateDaemonSet> {
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+
+  public V1RollingUpdateDaemonSetTypeAdapter(Gson gson) {
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1RollingUpdateDaemonSet value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("maxUnavailable");
+    intOrStringAdapter.write(out, value.getMaxUnavailable());
+    out.endObject();
+  }
+
+  @Override
+  public V1RollingUpdateDaemonSet read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1RollingUpdateDaemonSet value = new V1RollingUpdateDaemonSet();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "maxUnavailable":
+          value.setMaxUnavailable(intOrStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
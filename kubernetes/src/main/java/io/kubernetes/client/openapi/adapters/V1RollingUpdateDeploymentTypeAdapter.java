@@ -0,0 +1,70 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1RollingUpdateDeployment;
+import java.io.IOException;
+
+/** Reads and writes {@link V1RollingUpdateDeployment} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1RollingUpdateDeploymentTypeAdapter extends TypeAdapter<V1RollingUpdateDeployment> {
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+
+  public V1RollingUpdateDeploymentTypeAdapter(Gson gson) {
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1RollingUpdateDeployment value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("maxSurge");
+    intOrStringAdapter.write(out, value.getMaxSurge());
+    out.name("maxUnavailable");
+    intOrStringAdapter.write(out, value.getMaxUnavailable());
+    out.endObject();
+  }
+
+  @Override
+  public V1RollingUpdateDeployment read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1RollingUpdateDeployment value = new V1RollingUpdateDeployment();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "maxSurge":
+          value.setMaxSurge(intOrStringAdapter.read(in));
+          break;
+        case "maxUnavailable":
+          value.setMaxUnavailable(intOrStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
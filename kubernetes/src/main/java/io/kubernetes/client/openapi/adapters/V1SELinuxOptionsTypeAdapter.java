@@ -0,0 +1,79 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1SELinuxOptions;
+import java.io.IOException;
+
+/** Reads and writes {@link V1SELinuxOptions} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1SELinuxOptionsTypeAdapter extends TypeAdapter<V1SELinuxOptions> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1SELinuxOptionsTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1SELinuxOptions value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("level");
+    stringAdapter.write(out, value.getLevel());
+    out.name("role");
+    stringAdapter.write(out, value.getRole());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.name("user");
+    stringAdapter.write(out, value.getUser());
+    out.endObject();
+  }
+
+  @Override
+  public V1SELinuxOptions read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1SELinuxOptions value = new V1SELinuxOptions();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "level":
+          value.setLevel(stringAdapter.read(in));
+          break;
+        case "role":
+          value.setRole(stringAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ScaleIOVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ScaleIOVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ScaleIOVolumeSourceTypeAdapter extends TypeAdapter<V1ScaleIOVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1LocalObjectReference> v1LocalObjectReferenceAdapter;
+
+  public V1ScaleIOVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1LocalObjectReferenceAdapter = gson.getAdapter(V1LocalObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ScaleIOVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("gateway");
+    stringAdapter.write(out, value.getGateway());
+    out.name("protectionDomain");
+    stringAdapter.write(out, value.getProtectionDomain());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("secretRef");
+    v1LocalObjectReferenceAdapter.write(out, value.getSecretRef());
+    out.name("sslEnabled");
+    booleanAdapter.write(out, value.getSslEnabled());
+    out.name("storageMode");
+    stringAdapter.write(out, value.getStorageMode());
+    out.name("storagePool");
+    stringAdapter.write(out, value.getStoragePool());
+    out.name("system");
+    stringAdapter.write(out, value.getSystem());
+    out.name("volumeName");
+    stringAdapter.write(out, value.getVolumeName());
+    out.endObject();
+  }
+
+  @Override
+  public V1ScaleIOVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ScaleIOVolumeSource value = new V1ScaleIOVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "gateway":
+          value.setGateway(stringAdapter.read(in));
+          break;
+        case "protectionDomain":
+          value.setProtectionDomain(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "secretRef":
+          value.setSecretRef(v1LocalObjectReferenceAdapter.read(in));
+          break;
+        case "sslEnabled":
+          value.setSslEnabled(booleanAdapter.read(in));
+          break;
+        case "storageMode":
+          value.setStorageMode(stringAdapter.read(in));
+          break;
+        case "storagePool":
+          value.setStoragePool(stringAdapter.read(in));
+          break;
+        case "system":
+          value.setSystem(stringAdapter.read(in));
+          break;
+        case "volumeName":
+          value.setVolumeName(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ScopeSelector;
+import io.kubernetes.client.openapi.models.V1ScopedResourceSelectorRequirement;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ScopeSelector} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ScopeSelectorTypeAdapter extends TypeAdapter<V1ScopeSelector> {
+  private final TypeAdapter<List<V1ScopedResourceSelectorRequirement>>
+      listV1ScopedResourceSelectorRequirementAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ScopeSelectorTypeAdapter(Gson gson) {
+    this.listV1ScopedResourceSelectorRequirementAdapter =
+        (TypeAdapter<List<V1ScopedResourceSelectorRequirement>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1ScopedResourceSelectorRequirement.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ScopeSelector value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("matchExpressions");
+    listV1ScopedResourceSelectorRequirementAdapter.write(out, value.getMatchExpressions());
+    out.endObject();
+  }
+
+  @Override
+  public V1ScopeSelector read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ScopeSelector value = new V1ScopeSelector();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "matchExpressions":
+          value.setMatchExpressions(listV1ScopedResourceSelectorRequirementAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
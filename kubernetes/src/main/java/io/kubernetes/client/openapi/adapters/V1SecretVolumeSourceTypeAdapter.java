@@ -0,0 +1,91 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1KeyToPath;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1SecretVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1SecretVolumeSourceTypeAdapter extends TypeAdapter<V1SecretVolumeSource> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1KeyToPath>> listV1KeyToPathAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1SecretVolumeSourceTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1KeyToPathAdapter =
+        (TypeAdapter<List<V1KeyToPath>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1KeyToPath.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1SecretVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("defaultMode");
+    integerAdapter.write(out, value.getDefaultMode());
+    out.name("items");
+    listV1KeyToPathAdapter.write(out, value.getItems());
+    out.name("optional");
+    booleanAdapter.write(out, value.getOptional());
+    out.name("secretName");
+    stringAdapter.write(out, value.getSecretName());
+    out.endObject();
+  }
+
+  @Override
+  public V1SecretVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1SecretVolumeSource value = new V1SecretVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "defaultMode":
+          value.setDefaultMode(integerAdapter.read(in));
+          break;
+        case "items":
+          value.setItems(listV1KeyToPathAdapter.read(in));
+          break;
+        case "optional":
+          value.setOptional(booleanAdapter.read(in));
+          break;
+        case "secretName":
+          value.setSecretName(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
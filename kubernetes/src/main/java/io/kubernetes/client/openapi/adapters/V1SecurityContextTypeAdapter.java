@@ -0,0 +1,131 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Capabilities;
+import io.kubernetes.client.openapi.models.V1SELinuxOptions;
+import io.kubernetes.client.openapi.models.V1SeccompProfile;
+import io.kubernetes.client.openapi.models.V1SecurityContext;
+import io.kubernetes.client.openapi.models.V1WindowsSecurityContextOptions;
+import java.io.IOException;
+
+/** Reads and writes {@link V1SecurityContext} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1SecurityContextTypeAdapter extends TypeAdapter<V1SecurityContext> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1Capabilities> v1CapabilitiesAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<V1SELinuxOptions> v1SELinuxOptionsAdapter;
+  private final TypeAdapter<V1SeccompProfile> v1SeccompProfileAdapter;
+  private final TypeAdapter<V1WindowsSecurityContextOptions> v1WindowsSecurityContextOptionsAdapter;
+
+  public V1SecurityContextTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1CapabilitiesAdapter = gson.getAdapter(V1Capabilities.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.v1SELinuxOptionsAdapter = gson.getAdapter(V1SELinuxOptions.class);
+    this.v1SeccompProfileAdapter = gson.getAdapter(V1SeccompProfile.class);
+    this.v1WindowsSecurityContextOptionsAdapter =
+        gson.getAdapter(V1WindowsSecurityContextOptions.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1SecurityContext value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("allowPrivilegeEscalation");
+    booleanAdapter.write(out, value.getAllowPrivilegeEscalation());
+    out.name("capabilities");
+    v1CapabilitiesAdapter.write(out, value.getCapabilities());
+    out.name("privileged");
+    booleanAdapter.write(out, value.getPrivileged());
+    out.name("procMount");
+    stringAdapter.write(out, value.getProcMount());
+    out.name("readOnlyRootFilesystem");
+    booleanAdapter.write(out, value.getReadOnlyRootFilesystem());
+    out.name("runAsGroup");
+    longAdapter.write(out, value.getRunAsGroup());
+    out.name("runAsNonRoot");
+    booleanAdapter.write(out, value.getRunAsNonRoot());
+    out.name("runAsUser");
+    longAdapter.write(out, value.getRunAsUser());
+    out.name("seLinuxOptions");
+    v1SELinuxOptionsAdapter.write(out, value.getSeLinuxOptions());
+    out.name("seccompProfile");
+    v1SeccompProfileAdapter.write(out, value.getSeccompProfile());
+    out.name("windowsOptions");
+    v1WindowsSecurityContextOptionsAdapter.write(out, value.getWindowsOptions());
+    out.endObject();
+  }
+
+  @Override
+  public V1SecurityContext read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1SecurityContext value = new V1SecurityContext();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "allowPrivilegeEscalation":
+          value.setAllowPrivilegeEscalation(booleanAdapter.read(in));
+          break;
+        case "capabilities":
+          value.setCapabilities(v1CapabilitiesAdapter.read(in));
+          break;
+        case "privileged":
+          value.setPrivileged(booleanAdapter.read(in));
+          break;
+        case "procMount":
+          value.setProcMount(stringAdapter.read(in));
+          break;
+        case "readOnlyRootFilesystem":
+          value.setReadOnlyRootFilesystem(booleanAdapter.read(in));
+          break;
+        case "runAsGroup":
+          value.setRunAsGroup(longAdapter.read(in));
+          break;
+        case "runAsNonRoot":
+          value.setRunAsNonRoot(booleanAdapter.read(in));
+          break;
+        case "runAsUser":
+          value.setRunAsUser(longAdapter.read(in));
+          break;
+        case "seLinuxOptions":
+          value.setSeLinuxOptions(v1SELinuxOptionsAdapter.read(in));
+          break;
+        case "seccompProfile":
+          value.setSeccompProfile(v1SeccompProfileAdapter.read(in));
+          break;
+        case "windowsOptions":
+          value.setWindowsOptions(v1WindowsSecurityContextOptionsAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
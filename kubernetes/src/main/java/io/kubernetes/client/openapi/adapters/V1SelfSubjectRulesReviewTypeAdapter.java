@@ -0,0 +1,93 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
+import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V1SelfSubjectRulesReview} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1SelfSubjectRulesReviewTypeAdapter extends TypeAdapter<V1SelfSubjectRulesReview> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<V1SelfSubjectRulesReviewSpec> v1SelfSubjectRulesReviewSpecAdapter;
+  private final TypeAdapter<V1SubjectRulesReviewStatus> v1SubjectRulesReviewStatusAdapter;
+
+  public V1SelfSubjectRulesReviewTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.v1SelfSubjectRulesReviewSpecAdapter = gson.getAdapter(V1SelfSubjectRulesReviewSpec.class);
+    this.v1SubjectRulesReviewStatusAdapter = gson.getAdapter(V1SubjectRulesReviewStatus.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1SelfSubjectRulesReview value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("spec");
+    v1SelfSubjectRulesReviewSpecAdapter.write(out, value.getSpec());
+    out.name("status");
+    v1SubjectRulesReviewStatusAdapter.write(out, value.getStatus());
+    out.endObject();
+  }
+
+  @Override
+  public V1SelfSubjectRulesReview read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1SelfSubjectRulesReview value = new V1SelfSubjectRulesReview();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "spec":
+          value.setSpec(v1SelfSubjectRulesReviewSpecAdapter.read(in));
+          break;
+        case "status":
+          value.setStatus(v1SubjectRulesReviewStatusAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
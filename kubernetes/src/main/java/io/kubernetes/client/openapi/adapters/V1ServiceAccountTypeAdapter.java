@@ -0,0 +1,107 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1ServiceAccount;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1ServiceAccount} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ServiceAccountTypeAdapter extends TypeAdapter<V1ServiceAccount> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1LocalObjectReference>> listV1LocalObjectReferenceAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<List<V1ObjectReference>> listV1ObjectReferenceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ServiceAccountTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1LocalObjectReferenceAdapter =
+        (TypeAdapter<List<V1LocalObjectReference>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1LocalObjectReference.class));
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.listV1ObjectReferenceAdapter =
+        (TypeAdapter<List<V1ObjectReference>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ObjectReference.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ServiceAccount value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("automountServiceAccountToken");
+    booleanAdapter.write(out, value.getAutomountServiceAccountToken());
+    out.name("imagePullSecrets");
+    listV1LocalObjectReferenceAdapter.write(out, value.getImagePullSecrets());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("secrets");
+    listV1ObjectReferenceAdapter.write(out, value.getSecrets());
+    out.endObject();
+  }
+
+  @Override
+  public V1ServiceAccount read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ServiceAccount value = new V1ServiceAccount();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "automountServiceAccountToken":
+          value.setAutomountServiceAccountToken(booleanAdapter.read(in));
+          break;
+        case "imagePullSecrets":
+          value.setImagePullSecrets(listV1LocalObjectReferenceAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "secrets":
+          value.setSecrets(listV1ObjectReferenceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
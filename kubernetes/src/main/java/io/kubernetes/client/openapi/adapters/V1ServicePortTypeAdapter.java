@@ -0,0 +1,94 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import java.io.IOException;
+
+/** Reads and writes {@link V1ServicePort} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ServicePortTypeAdapter extends TypeAdapter<V1ServicePort> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+
+  public V1ServicePortTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ServicePort value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("appProtocol");
+    stringAdapter.write(out, value.getAppProtocol());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("nodePort");
+    integerAdapter.write(out, value.getNodePort());
+    out.name("port");
+    integerAdapter.write(out, value.getPort());
+    out.name("protocol");
+    stringAdapter.write(out, value.getProtocol());
+    out.name("targetPort");
+    intOrStringAdapter.write(out, value.getTargetPort());
+    out.endObject();
+  }
+
+  @Override
+  public V1ServicePort read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ServicePort value = new V1ServicePort();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "appProtocol":
+          value.setAppProtocol(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "nodePort":
+          value.setNodePort(integerAdapter.read(in));
+          break;
+        case "port":
+          value.setPort(integerAdapter.read(in));
+          break;
+        case "protocol":
+          value.setProtocol(stringAdapter.read(in));
+          break;
+        case "targetPort":
+          value.setTargetPort(intOrStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
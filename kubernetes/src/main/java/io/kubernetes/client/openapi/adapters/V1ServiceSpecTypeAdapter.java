@@ -0,0 +1,158 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1SessionAffinityConfig;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1ServiceSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1ServiceSpecTypeAdapter extends TypeAdapter<V1ServiceSpec> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1ServicePort>> listV1ServicePortAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+  private final TypeAdapter<V1SessionAffinityConfig> v1SessionAffinityConfigAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1ServiceSpecTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1ServicePortAdapter =
+        (TypeAdapter<List<V1ServicePort>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ServicePort.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+    this.v1SessionAffinityConfigAdapter = gson.getAdapter(V1SessionAffinityConfig.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1ServiceSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("clusterIP");
+    stringAdapter.write(out, value.getClusterIP());
+    out.name("externalIPs");
+    listStringAdapter.write(out, value.getExternalIPs());
+    out.name("externalName");
+    stringAdapter.write(out, value.getExternalName());
+    out.name("externalTrafficPolicy");
+    stringAdapter.write(out, value.getExternalTrafficPolicy());
+    out.name("healthCheckNodePort");
+    integerAdapter.write(out, value.getHealthCheckNodePort());
+    out.name("ipFamily");
+    stringAdapter.write(out, value.getIpFamily());
+    out.name("loadBalancerIP");
+    stringAdapter.write(out, value.getLoadBalancerIP());
+    out.name("loadBalancerSourceRanges");
+    listStringAdapter.write(out, value.getLoadBalancerSourceRanges());
+    out.name("ports");
+    listV1ServicePortAdapter.write(out, value.getPorts());
+    out.name("publishNotReadyAddresses");
+    booleanAdapter.write(out, value.getPublishNotReadyAddresses());
+    out.name("selector");
+    mapStringStringAdapter.write(out, value.getSelector());
+    out.name("sessionAffinity");
+    stringAdapter.write(out, value.getSessionAffinity());
+    out.name("sessionAffinityConfig");
+    v1SessionAffinityConfigAdapter.write(out, value.getSessionAffinityConfig());
+    out.name("topologyKeys");
+    listStringAdapter.write(out, value.getTopologyKeys());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V1ServiceSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1ServiceSpec value = new V1ServiceSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "clusterIP":
+          value.setClusterIP(stringAdapter.read(in));
+          break;
+        case "externalIPs":
+          value.setExternalIPs(listStringAdapter.read(in));
+          break;
+        case "externalName":
+          value.setExternalName(stringAdapter.read(in));
+          break;
+        case "externalTrafficPolicy":
+          value.setExternalTrafficPolicy(stringAdapter.read(in));
+          break;
+        case "healthCheckNodePort":
+          value.setHealthCheckNodePort(integerAdapter.read(in));
+          break;
+        case "ipFamily":
+          value.setIpFamily(stringAdapter.read(in));
+          break;
+        case "loadBalancerIP":
+          value.setLoadBalancerIP(stringAdapter.read(in));
+          break;
+        case "loadBalancerSourceRanges":
+          value.setLoadBalancerSourceRanges(listStringAdapter.read(in));
+          break;
+        case "ports":
+          value.setPorts(listV1ServicePortAdapter.read(in));
+          break;
+        case "publishNotReadyAddresses":
+          value.setPublishNotReadyAddresses(booleanAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(mapStringStringAdapter.read(in));
+          break;
+        case "sessionAffinity":
+          value.setSessionAffinity(stringAdapter.read(in));
+          break;
+        case "sessionAffinityConfig":
+          value.setSessionAffinityConfig(v1SessionAffinityConfigAdapter.read(in));
+          break;
+        case "topologyKeys":
+          value.setTopologyKeys(listStringAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
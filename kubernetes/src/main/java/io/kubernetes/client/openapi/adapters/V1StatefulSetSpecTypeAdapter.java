@@ -0,0 +1,118 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import io.kubernetes.client.openapi.models.V1StatefulSetSpec;
+import io.kubernetes.client.openapi.models.V1StatefulSetUpdateStrategy;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1StatefulSetSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1StatefulSetSpecTypeAdapter extends TypeAdapter<V1StatefulSetSpec> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<V1PodTemplateSpec> v1PodTemplateSpecAdapter;
+  private final TypeAdapter<V1StatefulSetUpdateStrategy> v1StatefulSetUpdateStrategyAdapter;
+  private final TypeAdapter<List<V1PersistentVolumeClaim>> listV1PersistentVolumeClaimAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1StatefulSetSpecTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.v1PodTemplateSpecAdapter = gson.getAdapter(V1PodTemplateSpec.class);
+    this.v1StatefulSetUpdateStrategyAdapter = gson.getAdapter(V1StatefulSetUpdateStrategy.class);
+    this.listV1PersistentVolumeClaimAdapter =
+        (TypeAdapter<List<V1PersistentVolumeClaim>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1PersistentVolumeClaim.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1StatefulSetSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("podManagementPolicy");
+    stringAdapter.write(out, value.getPodManagementPolicy());
+    out.name("replicas");
+    integerAdapter.write(out, value.getReplicas());
+    out.name("revisionHistoryLimit");
+    integerAdapter.write(out, value.getRevisionHistoryLimit());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("serviceName");
+    stringAdapter.write(out, value.getServiceName());
+    out.name("template");
+    v1PodTemplateSpecAdapter.write(out, value.getTemplate());
+    out.name("updateStrategy");
+    v1StatefulSetUpdateStrategyAdapter.write(out, value.getUpdateStrategy());
+    out.name("volumeClaimTemplates");
+    listV1PersistentVolumeClaimAdapter.write(out, value.getVolumeClaimTemplates());
+    out.endObject();
+  }
+
+  @Override
+  public V1StatefulSetSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1StatefulSetSpec value = new V1StatefulSetSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "podManagementPolicy":
+          value.setPodManagementPolicy(stringAdapter.read(in));
+          break;
+        case "replicas":
+          value.setReplicas(integerAdapter.read(in));
+          break;
+        case "revisionHistoryLimit":
+          value.setRevisionHistoryLimit(integerAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "serviceName":
+          value.setServiceName(stringAdapter.read(in));
+          break;
+        case "template":
+          value.setTemplate(v1PodTemplateSpecAdapter.read(in));
+          break;
+        case "updateStrategy":
+          value.setUpdateStrategy(v1StatefulSetUpdateStrategyAdapter.read(in));
+          break;
+        case "volumeClaimTemplates":
+          value.setVolumeClaimTemplates(listV1PersistentVolumeClaimAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
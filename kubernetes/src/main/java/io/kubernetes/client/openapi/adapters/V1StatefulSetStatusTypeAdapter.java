@@ -0,0 +1,116 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1StatefulSetCondition;
+import io.kubernetes.client.openapi.models.V1StatefulSetStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1StatefulSetStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1StatefulSetStatusTypeAdapter extends TypeAdapter<V1StatefulSetStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V1StatefulSetCondition>> listV1StatefulSetConditionAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1StatefulSetStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV1StatefulSetConditionAdapter =
+        (TypeAdapter<List<V1StatefulSetCondition>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1StatefulSetCondition.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1StatefulSetStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("collisionCount");
+    integerAdapter.write(out, value.getCollisionCount());
+    out.name("conditions");
+    listV1StatefulSetConditionAdapter.write(out, value.getConditions());
+    out.name("currentReplicas");
+    integerAdapter.write(out, value.getCurrentReplicas());
+    out.name("currentRevision");
+    stringAdapter.write(out, value.getCurrentRevision());
+    out.name("observedGeneration");
+    longAdapter.write(out, value.getObservedGeneration());
+    out.name("readyReplicas");
+    integerAdapter.write(out, value.getReadyReplicas());
+    out.name("replicas");
+    integerAdapter.write(out, value.getReplicas());
+    out.name("updateRevision");
+    stringAdapter.write(out, value.getUpdateRevision());
+    out.name("updatedReplicas");
+    integerAdapter.write(out, value.getUpdatedReplicas());
+    out.endObject();
+  }
+
+  @Override
+  public V1StatefulSetStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1StatefulSetStatus value = new V1StatefulSetStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "collisionCount":
+          value.setCollisionCount(integerAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1StatefulSetConditionAdapter.read(in));
+          break;
+        case "currentReplicas":
+          value.setCurrentReplicas(integerAdapter.read(in));
+          break;
+        case "currentRevision":
+          value.setCurrentRevision(stringAdapter.read(in));
+          break;
+        case "observedGeneration":
+          value.setObservedGeneration(longAdapter.read(in));
+          break;
+        case "readyReplicas":
+          value.setReadyReplicas(integerAdapter.read(in));
+          break;
+        case "replicas":
+          value.setReplicas(integerAdapter.read(in));
+          break;
+        case "updateRevision":
+          value.setUpdateRevision(stringAdapter.read(in));
+          break;
+        case "updatedReplicas":
+          value.setUpdatedReplicas(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
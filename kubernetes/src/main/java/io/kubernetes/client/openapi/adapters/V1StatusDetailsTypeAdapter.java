@@ -0,0 +1,99 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1StatusCause;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1StatusDetails} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1StatusDetailsTypeAdapter extends TypeAdapter<V1StatusDetails> {
+  private final TypeAdapter<List<V1StatusCause>> listV1StatusCauseAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1StatusDetailsTypeAdapter(Gson gson) {
+    this.listV1StatusCauseAdapter =
+        (TypeAdapter<List<V1StatusCause>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1StatusCause.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1StatusDetails value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("causes");
+    listV1StatusCauseAdapter.write(out, value.getCauses());
+    out.name("group");
+    stringAdapter.write(out, value.getGroup());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("retryAfterSeconds");
+    integerAdapter.write(out, value.getRetryAfterSeconds());
+    out.name("uid");
+    stringAdapter.write(out, value.getUid());
+    out.endObject();
+  }
+
+  @Override
+  public V1StatusDetails read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1StatusDetails value = new V1StatusDetails();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "causes":
+          value.setCauses(listV1StatusCauseAdapter.read(in));
+          break;
+        case "group":
+          value.setGroup(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "retryAfterSeconds":
+          value.setRetryAfterSeconds(integerAdapter.read(in));
+          break;
+        case "uid":
+          value.setUid(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1NonResourceAttributes;
+import io.kubernetes.client.openapi.models.V1ResourceAttributes;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1SubjectAccessReviewSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1SubjectAccessReviewSpecTypeAdapter extends TypeAdapter<V1SubjectAccessReviewSpec> {
+  private final TypeAdapter<Map<String, List<String>>> mapStringListStringAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<V1NonResourceAttributes> v1NonResourceAttributesAdapter;
+  private final TypeAdapter<V1ResourceAttributes> v1ResourceAttributesAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1SubjectAccessReviewSpecTypeAdapter(Gson gson) {
+    this.mapStringListStringAdapter =
+        (TypeAdapter<Map<String, List<String>>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    Map.class,
+                    String.class,
+                    TypeToken.getParameterized(List.class, String.class).getType()));
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.v1NonResourceAttributesAdapter = gson.getAdapter(V1NonResourceAttributes.class);
+    this.v1ResourceAttributesAdapter = gson.getAdapter(V1ResourceAttributes.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1SubjectAccessReviewSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("extra");
+    mapStringListStringAdapter.write(out, value.getExtra());
+    out.name("groups");
+    listStringAdapter.write(out, value.getGroups());
+    out.name("nonResourceAttributes");
+    v1NonResourceAttributesAdapter.write(out, value.getNonResourceAttributes());
+    out.name("resourceAttributes");
+    v1ResourceAttributesAdapter.write(out, value.getResourceAttributes());
+    out.name("uid");
+    stringAdapter.write(out, value.getUid());
+    out.name("user");
+    stringAdapter.write(out, value.getUser());
+    out.endObject();
+  }
+
+  @Override
+  public V1SubjectAccessReviewSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1SubjectAccessReviewSpec value = new V1SubjectAccessReviewSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "extra":
+          value.setExtra(mapStringListStringAdapter.read(in));
+          break;
+        case "groups":
+          value.setGroups(listStringAdapter.read(in));
+          break;
+        case "nonResourceAttributes":
+          value.setNonResourceAttributes(v1NonResourceAttributesAdapter.read(in));
+          break;
+        case "resourceAttributes":
+          value.setResourceAttributes(v1ResourceAttributesAdapter.read(in));
+          break;
+        case "uid":
+          value.setUid(stringAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V1SubjectAccessReviewStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1SubjectAccessReviewStatusTypeAdapter
+    extends TypeAdapter<V1SubjectAccessReviewStatus> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1SubjectAccessReviewStatusTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1SubjectAccessReviewStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("allowed");
+    booleanAdapter.write(out, value.getAllowed());
+    out.name("denied");
+    booleanAdapter.write(out, value.getDenied());
+    out.name("evaluationError");
+    stringAdapter.write(out, value.getEvaluationError());
+    out.name("reason");
+    stringAdapter.write(out, value.getReason());
+    out.endObject();
+  }
+
+  @Override
+  public V1SubjectAccessReviewStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1SubjectAccessReviewStatus value = new V1SubjectAccessReviewStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "allowed":
+          value.setAllowed(booleanAdapter.read(in));
+          break;
+        case "denied":
+          value.setDenied(booleanAdapter.read(in));
+          break;
+        case "evaluationError":
+          value.setEvaluationError(stringAdapter.read(in));
+          break;
+        case "reason":
+          value.setReason(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
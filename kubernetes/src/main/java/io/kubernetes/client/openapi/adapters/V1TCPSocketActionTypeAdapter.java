@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1TCPSocketAction;
+import java.io.IOException;
+
+/** Reads and writes {@link V1TCPSocketAction} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1TCPSocketActionTypeAdapter extends TypeAdapter<V1TCPSocketAction> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+
+  public V1TCPSocketActionTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1TCPSocketAction value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("host");
+    stringAdapter.write(out, value.getHost());
+    out.name("port");
+    intOrStringAdapter.write(out, value.getPort());
+    out.endObject();
+  }
+
+  @Override
+  public V1TCPSocketAction read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1TCPSocketAction value = new V1TCPSocketAction();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "host":
+          value.setHost(stringAdapter.read(in));
+          break;
+        case "port":
+          value.setPort(intOrStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Taint;
+import java.io.IOException;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1Taint} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1TaintTypeAdapter extends TypeAdapter<V1Taint> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+
+  public V1TaintTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Taint value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("effect");
+    stringAdapter.write(out, value.getEffect());
+    out.name("key");
+    stringAdapter.write(out, value.getKey());
+    out.name("timeAdded");
+    dateTimeAdapter.write(out, value.getTimeAdded());
+    out.name("value");
+    stringAdapter.write(out, value.getValue());
+    out.endObject();
+  }
+
+  @Override
+  public V1Taint read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Taint value = new V1Taint();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "effect":
+          value.setEffect(stringAdapter.read(in));
+          break;
+        case "key":
+          value.setKey(stringAdapter.read(in));
+          break;
+        case "timeAdded":
+          value.setTimeAdded(dateTimeAdapter.read(in));
+          break;
+        case "value":
+          value.setValue(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
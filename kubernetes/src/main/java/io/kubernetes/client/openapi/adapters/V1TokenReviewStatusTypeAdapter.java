@@ -0,0 +1,91 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1UserInfo;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1TokenReviewStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1TokenReviewStatusTypeAdapter extends TypeAdapter<V1TokenReviewStatus> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1UserInfo> v1UserInfoAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1TokenReviewStatusTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1UserInfoAdapter = gson.getAdapter(V1UserInfo.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1TokenReviewStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("audiences");
+    listStringAdapter.write(out, value.getAudiences());
+    out.name("authenticated");
+    booleanAdapter.write(out, value.getAuthenticated());
+    out.name("error");
+    stringAdapter.write(out, value.getError());
+    out.name("user");
+    v1UserInfoAdapter.write(out, value.getUser());
+    out.endObject();
+  }
+
+  @Override
+  public V1TokenReviewStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1TokenReviewStatus value = new V1TokenReviewStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "audiences":
+          value.setAudiences(listStringAdapter.read(in));
+          break;
+        case "authenticated":
+          value.setAuthenticated(booleanAdapter.read(in));
+          break;
+        case "error":
+          value.setError(stringAdapter.read(in));
+          break;
+        case "user":
+          value.setUser(v1UserInfoAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import java.io.IOException;
+
+/** Reads and writes {@link V1Toleration} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1TolerationTypeAdapter extends TypeAdapter<V1Toleration> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  public V1TolerationTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Toleration value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("effect");
+    stringAdapter.write(out, value.getEffect());
+    out.name("key");
+    stringAdapter.write(out, value.getKey());
+    out.name("operator");
+    stringAdapter.write(out, value.getOperator());
+    out.name("tolerationSeconds");
+    longAdapter.write(out, value.getTolerationSeconds());
+    out.name("value");
+    stringAdapter.write(out, value.getValue());
+    out.endObject();
+  }
+
+  @Override
+  public V1Toleration read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Toleration value = new V1Toleration();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "effect":
+          value.setEffect(stringAdapter.read(in));
+          break;
+        case "key":
+          value.setKey(stringAdapter.read(in));
+          break;
+        case "operator":
+          value.setOperator(stringAdapter.read(in));
+          break;
+        case "tolerationSeconds":
+          value.setTolerationSeconds(longAdapter.read(in));
+          break;
+        case "value":
+          value.setValue(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
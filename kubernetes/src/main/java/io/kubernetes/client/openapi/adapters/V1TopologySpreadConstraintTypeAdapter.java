@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1TopologySpreadConstraint;
+import java.io.IOException;
+
+/** Reads and writes {@link V1TopologySpreadConstraint} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1TopologySpreadConstraintTypeAdapter extends TypeAdapter<V1TopologySpreadConstraint> {
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1TopologySpreadConstraintTypeAdapter(Gson gson) {
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1TopologySpreadConstraint value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("labelSelector");
+    v1LabelSelectorAdapter.write(out, value.getLabelSelector());
+    out.name("maxSkew");
+    integerAdapter.write(out, value.getMaxSkew());
+    out.name("topologyKey");
+    stringAdapter.write(out, value.getTopologyKey());
+    out.name("whenUnsatisfiable");
+    stringAdapter.write(out, value.getWhenUnsatisfiable());
+    out.endObject();
+  }
+
+  @Override
+  public V1TopologySpreadConstraint read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1TopologySpreadConstraint value = new V1TopologySpreadConstraint();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "labelSelector":
+          value.setLabelSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "maxSkew":
+          value.setMaxSkew(integerAdapter.read(in));
+          break;
+        case "topologyKey":
+          value.setTopologyKey(stringAdapter.read(in));
+          break;
+        case "whenUnsatisfiable":
+          value.setWhenUnsatisfiable(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import java.io.IOException;
+
+/** Reads and writes {@link V1VolumeMount} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1VolumeMountTypeAdapter extends TypeAdapter<V1VolumeMount> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  public V1VolumeMountTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1VolumeMount value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("mountPath");
+    stringAdapter.write(out, value.getMountPath());
+    out.name("mountPropagation");
+    stringAdapter.write(out, value.getMountPropagation());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("readOnly");
+    booleanAdapter.write(out, value.getReadOnly());
+    out.name("subPath");
+    stringAdapter.write(out, value.getSubPath());
+    out.name("subPathExpr");
+    stringAdapter.write(out, value.getSubPathExpr());
+    out.endObject();
+  }
+
+  @Override
+  public V1VolumeMount read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1VolumeMount value = new V1VolumeMount();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "mountPath":
+          value.setMountPath(stringAdapter.read(in));
+          break;
+        case "mountPropagation":
+          value.setMountPropagation(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "readOnly":
+          value.setReadOnly(booleanAdapter.read(in));
+          break;
+        case "subPath":
+          value.setSubPath(stringAdapter.read(in));
+          break;
+        case "subPathExpr":
+          value.setSubPathExpr(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
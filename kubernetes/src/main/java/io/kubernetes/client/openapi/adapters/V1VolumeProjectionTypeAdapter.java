@@ -0,0 +1,90 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
+import io.kubernetes.client.openapi.models.V1DownwardAPIProjection;
+import io.kubernetes.client.openapi.models.V1SecretProjection;
+import io.kubernetes.client.openapi.models.V1ServiceAccountTokenProjection;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
+import java.io.IOException;
+
+/** Reads and writes {@link V1VolumeProjection} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1VolumeProjectionTypeAdapter extends TypeAdapter<V1VolumeProjection> {
+  private final TypeAdapter<V1ConfigMapProjection> v1ConfigMapProjectionAdapter;
+  private final TypeAdapter<V1DownwardAPIProjection> v1DownwardAPIProjectionAdapter;
+  private final TypeAdapter<V1SecretProjection> v1SecretProjectionAdapter;
+  private final TypeAdapter<V1ServiceAccountTokenProjection> v1ServiceAccountTokenProjectionAdapter;
+
+  public V1VolumeProjectionTypeAdapter(Gson gson) {
+    this.v1ConfigMapProjectionAdapter = gson.getAdapter(V1ConfigMapProjection.class);
+    this.v1DownwardAPIProjectionAdapter = gson.getAdapter(V1DownwardAPIProjection.class);
+    this.v1SecretProjectionAdapter = gson.getAdapter(V1SecretProjection.class);
+    this.v1ServiceAccountTokenProjectionAdapter =
+        gson.getAdapter(V1ServiceAccountTokenProjection.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1VolumeProjection value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("configMap");
+    v1ConfigMapProjectionAdapter.write(out, value.getConfigMap());
+    out.name("downwardAPI");
+    v1DownwardAPIProjectionAdapter.write(out, value.getDownwardAPI());
+    out.name("secret");
+    v1SecretProjectionAdapter.write(out, value.getSecret());
+    out.name("serviceAccountToken");
+    v1ServiceAccountTokenProjectionAdapter.write(out, value.getServiceAccountToken());
+    out.endObject();
+  }
+
+  @Override
+  public V1VolumeProjection read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1VolumeProjection value = new V1VolumeProjection();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "configMap":
+          value.setConfigMap(v1ConfigMapProjectionAdapter.read(in));
+          break;
+        case "downwardAPI":
+          value.setDownwardAPI(v1DownwardAPIProjectionAdapter.read(in));
+          break;
+        case "secret":
+          value.setSecret(v1SecretProjectionAdapter.read(in));
+          break;
+        case "serviceAccountToken":
+          value.setServiceAccountToken(v1ServiceAccountTokenProjectionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,305 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1AWSElasticBlockStoreVolumeSource;
+import io.kubernetes.client.openapi.models.V1AzureDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1AzureFileVolumeSource;
+import io.kubernetes.client.openapi.models.V1CSIVolumeSource;
+import io.kubernetes.client.openapi.models.V1CephFSVolumeSource;
+import io.kubernetes.client.openapi.models.V1CinderVolumeSource;
+import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1DownwardAPIVolumeSource;
+import io.kubernetes.client.openapi.models.V1EmptyDirVolumeSource;
+import io.kubernetes.client.openapi.models.V1EphemeralVolumeSource;
+import io.kubernetes.client.openapi.models.V1FCVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlexVolumeSource;
+import io.kubernetes.client.openapi.models.V1FlockerVolumeSource;
+import io.kubernetes.client.openapi.models.V1GCEPersistentDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1GitRepoVolumeSource;
+import io.kubernetes.client.openapi.models.V1GlusterfsVolumeSource;
+import io.kubernetes.client.openapi.models.V1HostPathVolumeSource;
+import io.kubernetes.client.openapi.models.V1ISCSIVolumeSource;
+import io.kubernetes.client.openapi.models.V1NFSVolumeSource;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimVolumeSource;
+import io.kubernetes.client.openapi.models.V1PhotonPersistentDiskVolumeSource;
+import io.kubernetes.client.openapi.models.V1PortworxVolumeSource;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
+import io.kubernetes.client.openapi.models.V1QuobyteVolumeSource;
+import io.kubernetes.client.openapi.models.V1RBDVolumeSource;
+import io.kubernetes.client.openapi.models.V1ScaleIOVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1StorageOSVolumeSource;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VsphereVirtualDiskVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1Volume} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1VolumeTypeAdapter extends TypeAdapter<V1Volume> {
+  private final TypeAdapter<V1AWSElasticBlockStoreVolumeSource>
+      v1AWSElasticBlockStoreVolumeSourceAdapter;
+  private final TypeAdapter<V1AzureDiskVolumeSource> v1AzureDiskVolumeSourceAdapter;
+  private final TypeAdapter<V1AzureFileVolumeSource> v1AzureFileVolumeSourceAdapter;
+  private final TypeAdapter<V1CephFSVolumeSource> v1CephFSVolumeSourceAdapter;
+  private final TypeAdapter<V1CinderVolumeSource> v1CinderVolumeSourceAdapter;
+  private final TypeAdapter<V1ConfigMapVolumeSource> v1ConfigMapVolumeSourceAdapter;
+  private final TypeAdapter<V1CSIVolumeSource> v1CSIVolumeSourceAdapter;
+  private final TypeAdapter<V1DownwardAPIVolumeSource> v1DownwardAPIVolumeSourceAdapter;
+  private final TypeAdapter<V1EmptyDirVolumeSource> v1EmptyDirVolumeSourceAdapter;
+  private final TypeAdapter<V1EphemeralVolumeSource> v1EphemeralVolumeSourceAdapter;
+  private final TypeAdapter<V1FCVolumeSource> v1FCVolumeSourceAdapter;
+  private final TypeAdapter<V1FlexVolumeSource> v1FlexVolumeSourceAdapter;
+  private final TypeAdapter<V1FlockerVolumeSource> v1FlockerVolumeSourceAdapter;
+  private final TypeAdapter<V1GCEPersistentDiskVolumeSource> v1GCEPersistentDiskVolumeSourceAdapter;
+  private final TypeAdapter<V1GitRepoVolumeSource> v1GitRepoVolumeSourceAdapter;
+  private final TypeAdapter<V1GlusterfsVolumeSource> v1GlusterfsVolumeSourceAdapter;
+  private final TypeAdapter<V1HostPathVolumeSource> v1HostPathVolumeSourceAdapter;
+  private final TypeAdapter<V1ISCSIVolumeSource> v1ISCSIVolumeSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1NFSVolumeSource> v1NFSVolumeSourceAdapter;
+  private final TypeAdapter<V1PersistentVolumeClaimVolumeSource>
+      v1PersistentVolumeClaimVolumeSourceAdapter;
+  private final TypeAdapter<V1PhotonPersistentDiskVolumeSource>
+      v1PhotonPersistentDiskVolumeSourceAdapter;
+  private final TypeAdapter<V1PortworxVolumeSource> v1PortworxVolumeSourceAdapter;
+  private final TypeAdapter<V1ProjectedVolumeSource> v1ProjectedVolumeSourceAdapter;
+  private final TypeAdapter<V1QuobyteVolumeSource> v1QuobyteVolumeSourceAdapter;
+  private final TypeAdapter<V1RBDVolumeSource> v1RBDVolumeSourceAdapter;
+  private final TypeAdapter<V1ScaleIOVolumeSource> v1ScaleIOVolumeSourceAdapter;
+  private final TypeAdapter<V1SecretVolumeSource> v1SecretVolumeSourceAdapter;
+  private final TypeAdapter<V1StorageOSVolumeSource> v1StorageOSVolumeSourceAdapter;
+  private final TypeAdapter<V1VsphereVirtualDiskVolumeSource>
+      v1VsphereVirtualDiskVolumeSourceAdapter;
+
+  public V1VolumeTypeAdapter(Gson gson) {
+    this.v1AWSElasticBlockStoreVolumeSourceAdapter =
+        gson.getAdapter(V1AWSElasticBlockStoreVolumeSource.class);
+    this.v1AzureDiskVolumeSourceAdapter = gson.getAdapter(V1AzureDiskVolumeSource.class);
+    this.v1AzureFileVolumeSourceAdapter = gson.getAdapter(V1AzureFileVolumeSource.class);
+    this.v1CephFSVolumeSourceAdapter = gson.getAdapter(V1CephFSVolumeSource.class);
+    this.v1CinderVolumeSourceAdapter = gson.getAdapter(V1CinderVolumeSource.class);
+    this.v1ConfigMapVolumeSourceAdapter = gson.getAdapter(V1ConfigMapVolumeSource.class);
+    this.v1CSIVolumeSourceAdapter = gson.getAdapter(V1CSIVolumeSource.class);
+    this.v1DownwardAPIVolumeSourceAdapter = gson.getAdapter(V1DownwardAPIVolumeSource.class);
+    this.v1EmptyDirVolumeSourceAdapter = gson.getAdapter(V1EmptyDirVolumeSource.class);
+    this.v1EphemeralVolumeSourceAdapter = gson.getAdapter(V1EphemeralVolumeSource.class);
+    this.v1FCVolumeSourceAdapter = gson.getAdapter(V1FCVolumeSource.class);
+    this.v1FlexVolumeSourceAdapter = gson.getAdapter(V1FlexVolumeSource.class);
+    this.v1FlockerVolumeSourceAdapter = gson.getAdapter(V1FlockerVolumeSource.class);
+    this.v1GCEPersistentDiskVolumeSourceAdapter =
+        gson.getAdapter(V1GCEPersistentDiskVolumeSource.class);
+    this.v1GitRepoVolumeSourceAdapter = gson.getAdapter(V1GitRepoVolumeSource.class);
+    this.v1GlusterfsVolumeSourceAdapter = gson.getAdapter(V1GlusterfsVolumeSource.class);
+    this.v1HostPathVolumeSourceAdapter = gson.getAdapter(V1HostPathVolumeSource.class);
+    this.v1ISCSIVolumeSourceAdapter = gson.getAdapter(V1ISCSIVolumeSource.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1NFSVolumeSourceAdapter = gson.getAdapter(V1NFSVolumeSource.class);
+    this.v1PersistentVolumeClaimVolumeSourceAdapter =
+        gson.getAdapter(V1PersistentVolumeClaimVolumeSource.class);
+    this.v1PhotonPersistentDiskVolumeSourceAdapter =
+        gson.getAdapter(V1PhotonPersistentDiskVolumeSource.class);
+    this.v1PortworxVolumeSourceAdapter = gson.getAdapter(V1PortworxVolumeSource.class);
+    this.v1ProjectedVolumeSourceAdapter = gson.getAdapter(V1ProjectedVolumeSource.class);
+    this.v1QuobyteVolumeSourceAdapter = gson.getAdapter(V1QuobyteVolumeSource.class);
+    this.v1RBDVolumeSourceAdapter = gson.getAdapter(V1RBDVolumeSource.class);
+    this.v1ScaleIOVolumeSourceAdapter = gson.getAdapter(V1ScaleIOVolumeSource.class);
+    this.v1SecretVolumeSourceAdapter = gson.getAdapter(V1SecretVolumeSource.class);
+    this.v1StorageOSVolumeSourceAdapter = gson.getAdapter(V1StorageOSVolumeSource.class);
+    this.v1VsphereVirtualDiskVolumeSourceAdapter =
+        gson.getAdapter(V1VsphereVirtualDiskVolumeSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1Volume value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("awsElasticBlockStore");
+    v1AWSElasticBlockStoreVolumeSourceAdapter.write(out, value.getAwsElasticBlockStore());
+    out.name("azureDisk");
+    v1AzureDiskVolumeSourceAdapter.write(out, value.getAzureDisk());
+    out.name("azureFile");
+    v1AzureFileVolumeSourceAdapter.write(out, value.getAzureFile());
+    out.name("cephfs");
+    v1CephFSVolumeSourceAdapter.write(out, value.getCephfs());
+    out.name("cinder");
+    v1CinderVolumeSourceAdapter.write(out, value.getCinder());
+    out.name("configMap");
+    v1ConfigMapVolumeSourceAdapter.write(out, value.getConfigMap());
+    out.name("csi");
+    v1CSIVolumeSourceAdapter.write(out, value.getCsi());
+    out.name("downwardAPI");
+    v1DownwardAPIVolumeSourceAdapter.write(out, value.getDownwardAPI());
+    out.name("emptyDir");
+    v1EmptyDirVolumeSourceAdapter.write(out, value.getEmptyDir());
+    out.name("ephemeral");
+    v1EphemeralVolumeSourceAdapter.write(out, value.getEphemeral());
+    out.name("fc");
+    v1FCVolumeSourceAdapter.write(out, value.getFc());
+    out.name("flexVolume");
+    v1FlexVolumeSourceAdapter.write(out, value.getFlexVolume());
+    out.name("flocker");
+    v1FlockerVolumeSourceAdapter.write(out, value.getFlocker());
+    out.name("gcePersistentDisk");
+    v1GCEPersistentDiskVolumeSourceAdapter.write(out, value.getGcePersistentDisk());
+    out.name("gitRepo");
+    v1GitRepoVolumeSourceAdapter.write(out, value.getGitRepo());
+    out.name("glusterfs");
+    v1GlusterfsVolumeSourceAdapter.write(out, value.getGlusterfs());
+    out.name("hostPath");
+    v1HostPathVolumeSourceAdapter.write(out, value.getHostPath());
+    out.name("iscsi");
+    v1ISCSIVolumeSourceAdapter.write(out, value.getIscsi());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("nfs");
+    v1NFSVolumeSourceAdapter.write(out, value.getNfs());
+    out.name("persistentVolumeClaim");
+    v1PersistentVolumeClaimVolumeSourceAdapter.write(out, value.getPersistentVolumeClaim());
+    out.name("photonPersistentDisk");
+    v1PhotonPersistentDiskVolumeSourceAdapter.write(out, value.getPhotonPersistentDisk());
+    out.name("portworxVolume");
+    v1PortworxVolumeSourceAdapter.write(out, value.getPortworxVolume());
+    out.name("projected");
+    v1ProjectedVolumeSourceAdapter.write(out, value.getProjected());
+    out.name("quobyte");
+    v1QuobyteVolumeSourceAdapter.write(out, value.getQuobyte());
+    out.name("rbd");
+    v1RBDVolumeSourceAdapter.write(out, value.getRbd());
+    out.name("scaleIO");
+    v1ScaleIOVolumeSourceAdapter.write(out, value.getScaleIO());
+    out.name("secret");
+    v1SecretVolumeSourceAdapter.write(out, value.getSecret());
+    out.name("storageos");
+    v1StorageOSVolumeSourceAdapter.write(out, value.getStorageos());
+    out.name("vsphereVolume");
+    v1VsphereVirtualDiskVolumeSourceAdapter.write(out, value.getVsphereVolume());
+    out.endObject();
+  }
+
+  @Override
+  public V1Volume read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1Volume value = new V1Volume();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "awsElasticBlockStore":
+          value.setAwsElasticBlockStore(v1AWSElasticBlockStoreVolumeSourceAdapter.read(in));
+          break;
+        case "azureDisk":
+          value.setAzureDisk(v1AzureDiskVolumeSourceAdapter.read(in));
+          break;
+        case "azureFile":
+          value.setAzureFile(v1AzureFileVolumeSourceAdapter.read(in));
+          break;
+        case "cephfs":
+          value.setCephfs(v1CephFSVolumeSourceAdapter.read(in));
+          break;
+        case "cinder":
+          value.setCinder(v1CinderVolumeSourceAdapter.read(in));
+          break;
+        case "configMap":
+          value.setConfigMap(v1ConfigMapVolumeSourceAdapter.read(in));
+          break;
+        case "csi":
+          value.setCsi(v1CSIVolumeSourceAdapter.read(in));
+          break;
+        case "downwardAPI":
+          value.setDownwardAPI(v1DownwardAPIVolumeSourceAdapter.read(in));
+          break;
+        case "emptyDir":
+          value.setEmptyDir(v1EmptyDirVolumeSourceAdapter.read(in));
+          break;
+        case "ephemeral":
+          value.setEphemeral(v1EphemeralVolumeSourceAdapter.read(in));
+          break;
+        case "fc":
+          value.setFc(v1FCVolumeSourceAdapter.read(in));
+          break;
+        case "flexVolume":
+          value.setFlexVolume(v1FlexVolumeSourceAdapter.read(in));
+          break;
+        case "flocker":
+          value.setFlocker(v1FlockerVolumeSourceAdapter.read(in));
+          break;
+        case "gcePersistentDisk":
+          value.setGcePersistentDisk(v1GCEPersistentDiskVolumeSourceAdapter.read(in));
+          break;
+        case "gitRepo":
+          value.setGitRepo(v1GitRepoVolumeSourceAdapter.read(in));
+          break;
+        case "glusterfs":
+          value.setGlusterfs(v1GlusterfsVolumeSourceAdapter.read(in));
+          break;
+        case "hostPath":
+          value.setHostPath(v1HostPathVolumeSourceAdapter.read(in));
+          break;
+        case "iscsi":
+          value.setIscsi(v1ISCSIVolumeSourceAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "nfs":
+          value.setNfs(v1NFSVolumeSourceAdapter.read(in));
+          break;
+        case "persistentVolumeClaim":
+          value.setPersistentVolumeClaim(v1PersistentVolumeClaimVolumeSourceAdapter.read(in));
+          break;
+        case "photonPersistentDisk":
+          value.setPhotonPersistentDisk(v1PhotonPersistentDiskVolumeSourceAdapter.read(in));
+          break;
+        case "portworxVolume":
+          value.setPortworxVolume(v1PortworxVolumeSourceAdapter.read(in));
+          break;
+        case "projected":
+          value.setProjected(v1ProjectedVolumeSourceAdapter.read(in));
+          break;
+        case "quobyte":
+          value.setQuobyte(v1QuobyteVolumeSourceAdapter.read(in));
+          break;
+        case "rbd":
+          value.setRbd(v1RBDVolumeSourceAdapter.read(in));
+          break;
+        case "scaleIO":
+          value.setScaleIO(v1ScaleIOVolumeSourceAdapter.read(in));
+          break;
+        case "secret":
+          value.setSecret(v1SecretVolumeSourceAdapter.read(in));
+          break;
+        case "storageos":
+          value.setStorageos(v1StorageOSVolumeSourceAdapter.read(in));
+          break;
+        case "vsphereVolume":
+          value.setVsphereVolume(v1VsphereVirtualDiskVolumeSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1VsphereVirtualDiskVolumeSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1VsphereVirtualDiskVolumeSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1VsphereVirtualDiskVolumeSourceTypeAdapter
+    extends TypeAdapter<V1VsphereVirtualDiskVolumeSource> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1VsphereVirtualDiskVolumeSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1VsphereVirtualDiskVolumeSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("fsType");
+    stringAdapter.write(out, value.getFsType());
+    out.name("storagePolicyID");
+    stringAdapter.write(out, value.getStoragePolicyID());
+    out.name("storagePolicyName");
+    stringAdapter.write(out, value.getStoragePolicyName());
+    out.name("volumePath");
+    stringAdapter.write(out, value.getVolumePath());
+    out.endObject();
+  }
+
+  @Override
+  public V1VsphereVirtualDiskVolumeSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1VsphereVirtualDiskVolumeSource value = new V1VsphereVirtualDiskVolumeSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "fsType":
+          value.setFsType(stringAdapter.read(in));
+          break;
+        case "storagePolicyID":
+          value.setStoragePolicyID(stringAdapter.read(in));
+          break;
+        case "storagePolicyName":
+          value.setStoragePolicyName(stringAdapter.read(in));
+          break;
+        case "volumePath":
+          value.setVolumePath(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ApiextensionsV1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.V1WebhookConversion;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1WebhookConversion} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1WebhookConversionTypeAdapter extends TypeAdapter<V1WebhookConversion> {
+  private final TypeAdapter<ApiextensionsV1WebhookClientConfig>
+      apiextensionsV1WebhookClientConfigAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1WebhookConversionTypeAdapter(Gson gson) {
+    this.apiextensionsV1WebhookClientConfigAdapter =
+        gson.getAdapter(ApiextensionsV1WebhookClientConfig.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1WebhookConversion value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("clientConfig");
+    apiextensionsV1WebhookClientConfigAdapter.write(out, value.getClientConfig());
+    out.name("conversionReviewVersions");
+    listStringAdapter.write(out, value.getConversionReviewVersions());
+    out.endObject();
+  }
+
+  @Override
+  public V1WebhookConversion read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1WebhookConversion value = new V1WebhookConversion();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "clientConfig":
+          value.setClientConfig(apiextensionsV1WebhookClientConfigAdapter.read(in));
+          break;
+        case "conversionReviewVersions":
+          value.setConversionReviewVersions(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
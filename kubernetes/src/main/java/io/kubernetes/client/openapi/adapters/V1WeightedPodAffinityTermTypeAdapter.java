@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
+import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
+import java.io.IOException;
+
+/** Reads and writes {@link V1WeightedPodAffinityTerm} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1WeightedPodAffinityTermTypeAdapter extends TypeAdapter<V1WeightedPodAffinityTerm> {
+  private final TypeAdapter<V1PodAffinityTerm> v1PodAffinityTermAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  public V1WeightedPodAffinityTermTypeAdapter(Gson gson) {
+    this.v1PodAffinityTermAdapter = gson.getAdapter(V1PodAffinityTerm.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1WeightedPodAffinityTerm value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("podAffinityTerm");
+    v1PodAffinityTermAdapter.write(out, value.getPodAffinityTerm());
+    out.name("weight");
+    integerAdapter.write(out, value.getWeight());
+    out.endObject();
+  }
+
+  @Override
+  public V1WeightedPodAffinityTerm read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1WeightedPodAffinityTerm value = new V1WeightedPodAffinityTerm();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "podAffinityTerm":
+          value.setPodAffinityTerm(v1PodAffinityTermAdapter.read(in));
+          break;
+        case "weight":
+          value.setWeight(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1alpha1AggregationRule;
+import io.kubernetes.client.openapi.models.V1alpha1ClusterRole;
+import io.kubernetes.client.openapi.models.V1alpha1PolicyRule;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1ClusterRole} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1ClusterRoleTypeAdapter extends TypeAdapter<V1alpha1ClusterRole> {
+  private final TypeAdapter<V1alpha1AggregationRule> v1alpha1AggregationRuleAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<List<V1alpha1PolicyRule>> listV1alpha1PolicyRuleAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1ClusterRoleTypeAdapter(Gson gson) {
+    this.v1alpha1AggregationRuleAdapter = gson.getAdapter(V1alpha1AggregationRule.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.listV1alpha1PolicyRuleAdapter =
+        (TypeAdapter<List<V1alpha1PolicyRule>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1alpha1PolicyRule.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1ClusterRole value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("aggregationRule");
+    v1alpha1AggregationRuleAdapter.write(out, value.getAggregationRule());
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("rules");
+    listV1alpha1PolicyRuleAdapter.write(out, value.getRules());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1ClusterRole read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1ClusterRole value = new V1alpha1ClusterRole();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "aggregationRule":
+          value.setAggregationRule(v1alpha1AggregationRuleAdapter.read(in));
+          break;
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "rules":
+          value.setRules(listV1alpha1PolicyRuleAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
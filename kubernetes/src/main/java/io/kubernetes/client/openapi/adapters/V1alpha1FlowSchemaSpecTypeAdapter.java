@@ -0,0 +1,100 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1FlowDistinguisherMethod;
+import io.kubernetes.client.openapi.models.V1alpha1FlowSchemaSpec;
+import io.kubernetes.client.openapi.models.V1alpha1PolicyRulesWithSubjects;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationReference;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1FlowSchemaSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1FlowSchemaSpecTypeAdapter extends TypeAdapter<V1alpha1FlowSchemaSpec> {
+  private final TypeAdapter<V1alpha1FlowDistinguisherMethod> v1alpha1FlowDistinguisherMethodAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<V1alpha1PriorityLevelConfigurationReference>
+      v1alpha1PriorityLevelConfigurationReferenceAdapter;
+  private final TypeAdapter<List<V1alpha1PolicyRulesWithSubjects>>
+      listV1alpha1PolicyRulesWithSubjectsAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1FlowSchemaSpecTypeAdapter(Gson gson) {
+    this.v1alpha1FlowDistinguisherMethodAdapter =
+        gson.getAdapter(V1alpha1FlowDistinguisherMethod.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.v1alpha1PriorityLevelConfigurationReferenceAdapter =
+        gson.getAdapter(V1alpha1PriorityLevelConfigurationReference.class);
+    this.listV1alpha1PolicyRulesWithSubjectsAdapter =
+        (TypeAdapter<List<V1alpha1PolicyRulesWithSubjects>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1alpha1PolicyRulesWithSubjects.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1FlowSchemaSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("distinguisherMethod");
+    v1alpha1FlowDistinguisherMethodAdapter.write(out, value.getDistinguisherMethod());
+    out.name("matchingPrecedence");
+    integerAdapter.write(out, value.getMatchingPrecedence());
+    out.name("priorityLevelConfiguration");
+    v1alpha1PriorityLevelConfigurationReferenceAdapter.write(
+        out, value.getPriorityLevelConfiguration());
+    out.name("rules");
+    listV1alpha1PolicyRulesWithSubjectsAdapter.write(out, value.getRules());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1FlowSchemaSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1FlowSchemaSpec value = new V1alpha1FlowSchemaSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "distinguisherMethod":
+          value.setDistinguisherMethod(v1alpha1FlowDistinguisherMethodAdapter.read(in));
+          break;
+        case "matchingPrecedence":
+          value.setMatchingPrecedence(integerAdapter.read(in));
+          break;
+        case "priorityLevelConfiguration":
+          value.setPriorityLevelConfiguration(
+              v1alpha1PriorityLevelConfigurationReferenceAdapter.read(in));
+          break;
+        case "rules":
+          value.setRules(listV1alpha1PolicyRulesWithSubjectsAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
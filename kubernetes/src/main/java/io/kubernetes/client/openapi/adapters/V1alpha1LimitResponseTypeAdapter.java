@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1LimitResponse;
+import io.kubernetes.client.openapi.models.V1alpha1QueuingConfiguration;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1LimitResponse} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1LimitResponseTypeAdapter extends TypeAdapter<V1alpha1LimitResponse> {
+  private final TypeAdapter<V1alpha1QueuingConfiguration> v1alpha1QueuingConfigurationAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1alpha1LimitResponseTypeAdapter(Gson gson) {
+    this.v1alpha1QueuingConfigurationAdapter = gson.getAdapter(V1alpha1QueuingConfiguration.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1LimitResponse value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("queuing");
+    v1alpha1QueuingConfigurationAdapter.write(out, value.getQueuing());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1LimitResponse read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1LimitResponse value = new V1alpha1LimitResponse();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "queuing":
+          value.setQueuing(v1alpha1QueuingConfigurationAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
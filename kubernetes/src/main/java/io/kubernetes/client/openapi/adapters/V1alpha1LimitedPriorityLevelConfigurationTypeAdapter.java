@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1LimitResponse;
+import io.kubernetes.client.openapi.models.V1alpha1LimitedPriorityLevelConfiguration;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1LimitedPriorityLevelConfiguration} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1LimitedPriorityLevelConfigurationTypeAdapter
+    extends TypeAdapter<V1alpha1LimitedPriorityLevelConfiguration> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<V1alpha1LimitResponse> v1alpha1LimitResponseAdapter;
+
+  public V1alpha1LimitedPriorityLevelConfigurationTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.v1alpha1LimitResponseAdapter = gson.getAdapter(V1alpha1LimitResponse.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1LimitedPriorityLevelConfiguration value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("assuredConcurrencyShares");
+    integerAdapter.write(out, value.getAssuredConcurrencyShares());
+    out.name("limitResponse");
+    v1alpha1LimitResponseAdapter.write(out, value.getLimitResponse());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1LimitedPriorityLevelConfiguration read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1LimitedPriorityLevelConfiguration value =
+        new V1alpha1LimitedPriorityLevelConfiguration();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "assuredConcurrencyShares":
+          value.setAssuredConcurrencyShares(integerAdapter.read(in));
+          break;
+        case "limitResponse":
+          value.setLimitResponse(v1alpha1LimitResponseAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
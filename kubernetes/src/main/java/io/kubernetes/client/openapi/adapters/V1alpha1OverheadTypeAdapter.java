@@ -0,0 +1,70 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1alpha1Overhead;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1alpha1Overhead} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1OverheadTypeAdapter extends TypeAdapter<V1alpha1Overhead> {
+  private final TypeAdapter<Map<String, Quantity>> mapStringQuantityAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1OverheadTypeAdapter(Gson gson) {
+    this.mapStringQuantityAdapter =
+        (TypeAdapter<Map<String, Quantity>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Quantity.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1Overhead value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("podFixed");
+    mapStringQuantityAdapter.write(out, value.getPodFixed());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1Overhead read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1Overhead value = new V1alpha1Overhead();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "podFixed":
+          value.setPodFixed(mapStringQuantityAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
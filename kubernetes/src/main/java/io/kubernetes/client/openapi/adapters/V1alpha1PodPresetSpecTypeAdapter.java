@@ -0,0 +1,108 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1EnvFromSource;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.openapi.models.V1alpha1PodPresetSpec;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1PodPresetSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1PodPresetSpecTypeAdapter extends TypeAdapter<V1alpha1PodPresetSpec> {
+  private final TypeAdapter<List<V1EnvVar>> listV1EnvVarAdapter;
+  private final TypeAdapter<List<V1EnvFromSource>> listV1EnvFromSourceAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<List<V1VolumeMount>> listV1VolumeMountAdapter;
+  private final TypeAdapter<List<V1Volume>> listV1VolumeAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1PodPresetSpecTypeAdapter(Gson gson) {
+    this.listV1EnvVarAdapter =
+        (TypeAdapter<List<V1EnvVar>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EnvVar.class));
+    this.listV1EnvFromSourceAdapter =
+        (TypeAdapter<List<V1EnvFromSource>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1EnvFromSource.class));
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.listV1VolumeMountAdapter =
+        (TypeAdapter<List<V1VolumeMount>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1VolumeMount.class));
+    this.listV1VolumeAdapter =
+        (TypeAdapter<List<V1Volume>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Volume.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1PodPresetSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("env");
+    listV1EnvVarAdapter.write(out, value.getEnv());
+    out.name("envFrom");
+    listV1EnvFromSourceAdapter.write(out, value.getEnvFrom());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("volumeMounts");
+    listV1VolumeMountAdapter.write(out, value.getVolumeMounts());
+    out.name("volumes");
+    listV1VolumeAdapter.write(out, value.getVolumes());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1PodPresetSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1PodPresetSpec value = new V1alpha1PodPresetSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "env":
+          value.setEnv(listV1EnvVarAdapter.read(in));
+          break;
+        case "envFrom":
+          value.setEnvFrom(listV1EnvFromSourceAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "volumeMounts":
+          value.setVolumeMounts(listV1VolumeMountAdapter.read(in));
+          break;
+        case "volumes":
+          value.setVolumes(listV1VolumeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
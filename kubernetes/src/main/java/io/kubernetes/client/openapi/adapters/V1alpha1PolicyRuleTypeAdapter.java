@@ -0,0 +1,89 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1PolicyRule;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1PolicyRule} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1PolicyRuleTypeAdapter extends TypeAdapter<V1alpha1PolicyRule> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1PolicyRuleTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1PolicyRule value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiGroups");
+    listStringAdapter.write(out, value.getApiGroups());
+    out.name("nonResourceURLs");
+    listStringAdapter.write(out, value.getNonResourceURLs());
+    out.name("resourceNames");
+    listStringAdapter.write(out, value.getResourceNames());
+    out.name("resources");
+    listStringAdapter.write(out, value.getResources());
+    out.name("verbs");
+    listStringAdapter.write(out, value.getVerbs());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1PolicyRule read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1PolicyRule value = new V1alpha1PolicyRule();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiGroups":
+          value.setApiGroups(listStringAdapter.read(in));
+          break;
+        case "nonResourceURLs":
+          value.setNonResourceURLs(listStringAdapter.read(in));
+          break;
+        case "resourceNames":
+          value.setResourceNames(listStringAdapter.read(in));
+          break;
+        case "resources":
+          value.setResources(listStringAdapter.read(in));
+          break;
+        case "verbs":
+          value.setVerbs(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.FlowcontrolV1alpha1Subject;
+import io.kubernetes.client.openapi.models.V1alpha1NonResourcePolicyRule;
+import io.kubernetes.client.openapi.models.V1alpha1PolicyRulesWithSubjects;
+import io.kubernetes.client.openapi.models.V1alpha1ResourcePolicyRule;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1PolicyRulesWithSubjects} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1PolicyRulesWithSubjectsTypeAdapter
+    extends TypeAdapter<V1alpha1PolicyRulesWithSubjects> {
+  private final TypeAdapter<List<V1alpha1NonResourcePolicyRule>>
+      listV1alpha1NonResourcePolicyRuleAdapter;
+  private final TypeAdapter<List<V1alpha1ResourcePolicyRule>> listV1alpha1ResourcePolicyRuleAdapter;
+  private final TypeAdapter<List<FlowcontrolV1alpha1Subject>> listFlowcontrolV1alpha1SubjectAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1PolicyRulesWithSubjectsTypeAdapter(Gson gson) {
+    this.listV1alpha1NonResourcePolicyRuleAdapter =
+        (TypeAdapter<List<V1alpha1NonResourcePolicyRule>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1alpha1NonResourcePolicyRule.class));
+    this.listV1alpha1ResourcePolicyRuleAdapter =
+        (TypeAdapter<List<V1alpha1ResourcePolicyRule>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1alpha1ResourcePolicyRule.class));
+    this.listFlowcontrolV1alpha1SubjectAdapter =
+        (TypeAdapter<List<FlowcontrolV1alpha1Subject>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, FlowcontrolV1alpha1Subject.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1PolicyRulesWithSubjects value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("nonResourceRules");
+    listV1alpha1NonResourcePolicyRuleAdapter.write(out, value.getNonResourceRules());
+    out.name("resourceRules");
+    listV1alpha1ResourcePolicyRuleAdapter.write(out, value.getResourceRules());
+    out.name("subjects");
+    listFlowcontrolV1alpha1SubjectAdapter.write(out, value.getSubjects());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1PolicyRulesWithSubjects read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1PolicyRulesWithSubjects value = new V1alpha1PolicyRulesWithSubjects();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "nonResourceRules":
+          value.setNonResourceRules(listV1alpha1NonResourcePolicyRuleAdapter.read(in));
+          break;
+        case "resourceRules":
+          value.setResourceRules(listV1alpha1ResourcePolicyRuleAdapter.read(in));
+          break;
+        case "subjects":
+          value.setSubjects(listFlowcontrolV1alpha1SubjectAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1LimitedPriorityLevelConfiguration;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1PriorityLevelConfigurationSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1PriorityLevelConfigurationSpecTypeAdapter
+    extends TypeAdapter<V1alpha1PriorityLevelConfigurationSpec> {
+  private final TypeAdapter<V1alpha1LimitedPriorityLevelConfiguration>
+      v1alpha1LimitedPriorityLevelConfigurationAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1alpha1PriorityLevelConfigurationSpecTypeAdapter(Gson gson) {
+    this.v1alpha1LimitedPriorityLevelConfigurationAdapter =
+        gson.getAdapter(V1alpha1LimitedPriorityLevelConfiguration.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1PriorityLevelConfigurationSpec value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("limited");
+    v1alpha1LimitedPriorityLevelConfigurationAdapter.write(out, value.getLimited());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1PriorityLevelConfigurationSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1PriorityLevelConfigurationSpec value = new V1alpha1PriorityLevelConfigurationSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "limited":
+          value.setLimited(v1alpha1LimitedPriorityLevelConfigurationAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationCondition;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1PriorityLevelConfigurationStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1PriorityLevelConfigurationStatusTypeAdapter
+    extends TypeAdapter<V1alpha1PriorityLevelConfigurationStatus> {
+  private final TypeAdapter<List<V1alpha1PriorityLevelConfigurationCondition>>
+      listV1alpha1PriorityLevelConfigurationConditionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1PriorityLevelConfigurationStatusTypeAdapter(Gson gson) {
+    this.listV1alpha1PriorityLevelConfigurationConditionAdapter =
+        (TypeAdapter<List<V1alpha1PriorityLevelConfigurationCondition>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    List.class, V1alpha1PriorityLevelConfigurationCondition.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1PriorityLevelConfigurationStatus value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("conditions");
+    listV1alpha1PriorityLevelConfigurationConditionAdapter.write(out, value.getConditions());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1PriorityLevelConfigurationStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1PriorityLevelConfigurationStatus value = new V1alpha1PriorityLevelConfigurationStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "conditions":
+          value.setConditions(listV1alpha1PriorityLevelConfigurationConditionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
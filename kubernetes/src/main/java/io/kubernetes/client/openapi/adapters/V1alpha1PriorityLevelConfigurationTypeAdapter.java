@@ -0,0 +1,98 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfiguration;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationSpec;
+import io.kubernetes.client.openapi.models.V1alpha1PriorityLevelConfigurationStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1PriorityLevelConfiguration} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1PriorityLevelConfigurationTypeAdapter
+    extends TypeAdapter<V1alpha1PriorityLevelConfiguration> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<V1alpha1PriorityLevelConfigurationSpec>
+      v1alpha1PriorityLevelConfigurationSpecAdapter;
+  private final TypeAdapter<V1alpha1PriorityLevelConfigurationStatus>
+      v1alpha1PriorityLevelConfigurationStatusAdapter;
+
+  public V1alpha1PriorityLevelConfigurationTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.v1alpha1PriorityLevelConfigurationSpecAdapter =
+        gson.getAdapter(V1alpha1PriorityLevelConfigurationSpec.class);
+    this.v1alpha1PriorityLevelConfigurationStatusAdapter =
+        gson.getAdapter(V1alpha1PriorityLevelConfigurationStatus.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1PriorityLevelConfiguration value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("spec");
+    v1alpha1PriorityLevelConfigurationSpecAdapter.write(out, value.getSpec());
+    out.name("status");
+    v1alpha1PriorityLevelConfigurationStatusAdapter.write(out, value.getStatus());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1PriorityLevelConfiguration read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1PriorityLevelConfiguration value = new V1alpha1PriorityLevelConfiguration();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "spec":
+          value.setSpec(v1alpha1PriorityLevelConfigurationSpecAdapter.read(in));
+          break;
+        case "status":
+          value.setStatus(v1alpha1PriorityLevelConfigurationStatusAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1QueuingConfiguration;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1QueuingConfiguration} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1QueuingConfigurationTypeAdapter
+    extends TypeAdapter<V1alpha1QueuingConfiguration> {
+  private final TypeAdapter<Integer> integerAdapter;
+
+  public V1alpha1QueuingConfigurationTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1QueuingConfiguration value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("handSize");
+    integerAdapter.write(out, value.getHandSize());
+    out.name("queueLengthLimit");
+    integerAdapter.write(out, value.getQueueLengthLimit());
+    out.name("queues");
+    integerAdapter.write(out, value.getQueues());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1QueuingConfiguration read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1QueuingConfiguration value = new V1alpha1QueuingConfiguration();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "handSize":
+          value.setHandSize(integerAdapter.read(in));
+          break;
+        case "queueLengthLimit":
+          value.setQueueLengthLimit(integerAdapter.read(in));
+          break;
+        case "queues":
+          value.setQueues(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
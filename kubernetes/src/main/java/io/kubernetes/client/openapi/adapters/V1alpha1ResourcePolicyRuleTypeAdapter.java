@@ -0,0 +1,91 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1ResourcePolicyRule;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1alpha1ResourcePolicyRule} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1ResourcePolicyRuleTypeAdapter extends TypeAdapter<V1alpha1ResourcePolicyRule> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1ResourcePolicyRuleTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1ResourcePolicyRule value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiGroups");
+    listStringAdapter.write(out, value.getApiGroups());
+    out.name("clusterScope");
+    booleanAdapter.write(out, value.getClusterScope());
+    out.name("namespaces");
+    listStringAdapter.write(out, value.getNamespaces());
+    out.name("resources");
+    listStringAdapter.write(out, value.getResources());
+    out.name("verbs");
+    listStringAdapter.write(out, value.getVerbs());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1ResourcePolicyRule read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1ResourcePolicyRule value = new V1alpha1ResourcePolicyRule();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiGroups":
+          value.setApiGroups(listStringAdapter.read(in));
+          break;
+        case "clusterScope":
+          value.setClusterScope(booleanAdapter.read(in));
+          break;
+        case "namespaces":
+          value.setNamespaces(listStringAdapter.read(in));
+          break;
+        case "resources":
+          value.setResources(listStringAdapter.read(in));
+          break;
+        case "verbs":
+          value.setVerbs(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
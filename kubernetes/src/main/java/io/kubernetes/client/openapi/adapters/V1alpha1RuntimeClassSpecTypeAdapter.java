@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1Overhead;
+import io.kubernetes.client.openapi.models.V1alpha1RuntimeClassSpec;
+import io.kubernetes.client.openapi.models.V1alpha1Scheduling;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1RuntimeClassSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1RuntimeClassSpecTypeAdapter extends TypeAdapter<V1alpha1RuntimeClassSpec> {
+  private final TypeAdapter<V1alpha1Overhead> v1alpha1OverheadAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1alpha1Scheduling> v1alpha1SchedulingAdapter;
+
+  public V1alpha1RuntimeClassSpecTypeAdapter(Gson gson) {
+    this.v1alpha1OverheadAdapter = gson.getAdapter(V1alpha1Overhead.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1alpha1SchedulingAdapter = gson.getAdapter(V1alpha1Scheduling.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1RuntimeClassSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("overhead");
+    v1alpha1OverheadAdapter.write(out, value.getOverhead());
+    out.name("runtimeHandler");
+    stringAdapter.write(out, value.getRuntimeHandler());
+    out.name("scheduling");
+    v1alpha1SchedulingAdapter.write(out, value.getScheduling());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1RuntimeClassSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1RuntimeClassSpec value = new V1alpha1RuntimeClassSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "overhead":
+          value.setOverhead(v1alpha1OverheadAdapter.read(in));
+          break;
+        case "runtimeHandler":
+          value.setRuntimeHandler(stringAdapter.read(in));
+          break;
+        case "scheduling":
+          value.setScheduling(v1alpha1SchedulingAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
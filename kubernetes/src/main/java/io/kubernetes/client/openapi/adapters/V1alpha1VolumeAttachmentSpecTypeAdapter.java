@@ -0,0 +1,79 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentSource;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1alpha1VolumeAttachmentSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1VolumeAttachmentSpecTypeAdapter
+    extends TypeAdapter<V1alpha1VolumeAttachmentSpec> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1alpha1VolumeAttachmentSource> v1alpha1VolumeAttachmentSourceAdapter;
+
+  public V1alpha1VolumeAttachmentSpecTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1alpha1VolumeAttachmentSourceAdapter =
+        gson.getAdapter(V1alpha1VolumeAttachmentSource.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1VolumeAttachmentSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("attacher");
+    stringAdapter.write(out, value.getAttacher());
+    out.name("nodeName");
+    stringAdapter.write(out, value.getNodeName());
+    out.name("source");
+    v1alpha1VolumeAttachmentSourceAdapter.write(out, value.getSource());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1VolumeAttachmentSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1VolumeAttachmentSpec value = new V1alpha1VolumeAttachmentSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "attacher":
+          value.setAttacher(stringAdapter.read(in));
+          break;
+        case "nodeName":
+          value.setNodeName(stringAdapter.read(in));
+          break;
+        case "source":
+          value.setSource(v1alpha1VolumeAttachmentSourceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeAttachmentStatus;
+import io.kubernetes.client.openapi.models.V1alpha1VolumeError;
+import java.io.IOException;
+import java.util.Map;
+
+/** Reads and writes {@link V1alpha1VolumeAttachmentStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1alpha1VolumeAttachmentStatusTypeAdapter
+    extends TypeAdapter<V1alpha1VolumeAttachmentStatus> {
+  private final TypeAdapter<V1alpha1VolumeError> v1alpha1VolumeErrorAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1alpha1VolumeAttachmentStatusTypeAdapter(Gson gson) {
+    this.v1alpha1VolumeErrorAdapter = gson.getAdapter(V1alpha1VolumeError.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1alpha1VolumeAttachmentStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("attachError");
+    v1alpha1VolumeErrorAdapter.write(out, value.getAttachError());
+    out.name("attached");
+    booleanAdapter.write(out, value.getAttached());
+    out.name("attachmentMetadata");
+    mapStringStringAdapter.write(out, value.getAttachmentMetadata());
+    out.name("detachError");
+    v1alpha1VolumeErrorAdapter.write(out, value.getDetachError());
+    out.endObject();
+  }
+
+  @Override
+  public V1alpha1VolumeAttachmentStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1alpha1VolumeAttachmentStatus value = new V1alpha1VolumeAttachmentStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "attachError":
+          value.setAttachError(v1alpha1VolumeErrorAdapter.read(in));
+          break;
+        case "attached":
+          value.setAttached(booleanAdapter.read(in));
+          break;
+        case "attachmentMetadata":
+          value.setAttachmentMetadata(mapStringStringAdapter.read(in));
+          break;
+        case "detachError":
+          value.setDetachError(v1alpha1VolumeErrorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
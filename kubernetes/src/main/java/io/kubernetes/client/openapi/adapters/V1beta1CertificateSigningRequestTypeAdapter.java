@@ -0,0 +1,98 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequest;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequestSpec;
+import io.kubernetes.client.openapi.models.V1beta1CertificateSigningRequestStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1CertificateSigningRequest} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CertificateSigningRequestTypeAdapter
+    extends TypeAdapter<V1beta1CertificateSigningRequest> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<V1beta1CertificateSigningRequestSpec>
+      v1beta1CertificateSigningRequestSpecAdapter;
+  private final TypeAdapter<V1beta1CertificateSigningRequestStatus>
+      v1beta1CertificateSigningRequestStatusAdapter;
+
+  public V1beta1CertificateSigningRequestTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.v1beta1CertificateSigningRequestSpecAdapter =
+        gson.getAdapter(V1beta1CertificateSigningRequestSpec.class);
+    this.v1beta1CertificateSigningRequestStatusAdapter =
+        gson.getAdapter(V1beta1CertificateSigningRequestStatus.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CertificateSigningRequest value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("spec");
+    v1beta1CertificateSigningRequestSpecAdapter.write(out, value.getSpec());
+    out.name("status");
+    v1beta1CertificateSigningRequestStatusAdapter.write(out, value.getStatus());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CertificateSigningRequest read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CertificateSigningRequest value = new V1beta1CertificateSigningRequest();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "spec":
+          value.setSpec(v1beta1CertificateSigningRequestSpecAdapter.read(in));
+          break;
+        case "status":
+          value.setStatus(v1beta1CertificateSigningRequestStatusAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
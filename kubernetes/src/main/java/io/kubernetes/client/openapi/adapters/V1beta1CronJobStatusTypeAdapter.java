@@ -0,0 +1,78 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1beta1CronJobStatus;
+import java.io.IOException;
+import java.util.List;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1beta1CronJobStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CronJobStatusTypeAdapter extends TypeAdapter<V1beta1CronJobStatus> {
+  private final TypeAdapter<List<V1ObjectReference>> listV1ObjectReferenceAdapter;
+  private final TypeAdapter<DateTime> dateTimeAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1CronJobStatusTypeAdapter(Gson gson) {
+    this.listV1ObjectReferenceAdapter =
+        (TypeAdapter<List<V1ObjectReference>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1ObjectReference.class));
+    this.dateTimeAdapter = gson.getAdapter(DateTime.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CronJobStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("active");
+    listV1ObjectReferenceAdapter.write(out, value.getActive());
+    out.name("lastScheduleTime");
+    dateTimeAdapter.write(out, value.getLastScheduleTime());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CronJobStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CronJobStatus value = new V1beta1CronJobStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "active":
+          value.setActive(listV1ObjectReferenceAdapter.read(in));
+          break;
+        case "lastScheduleTime":
+          value.setLastScheduleTime(dateTimeAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceColumnDefinition;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1CustomResourceColumnDefinition} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CustomResourceColumnDefinitionTypeAdapter
+    extends TypeAdapter<V1beta1CustomResourceColumnDefinition> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  public V1beta1CustomResourceColumnDefinitionTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CustomResourceColumnDefinition value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("JSONPath");
+    stringAdapter.write(out, value.getJsONPath());
+    out.name("description");
+    stringAdapter.write(out, value.getDescription());
+    out.name("format");
+    stringAdapter.write(out, value.getFormat());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("priority");
+    integerAdapter.write(out, value.getPriority());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CustomResourceColumnDefinition read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CustomResourceColumnDefinition value = new V1beta1CustomResourceColumnDefinition();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "JSONPath":
+          value.setJsONPath(stringAdapter.read(in));
+          break;
+        case "description":
+          value.setDescription(stringAdapter.read(in));
+          break;
+        case "format":
+          value.setFormat(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "priority":
+          value.setPriority(integerAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.ApiextensionsV1beta1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceConversion;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1CustomResourceConversion} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CustomResourceConversionTypeAdapter
+    extends TypeAdapter<V1beta1CustomResourceConversion> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<ApiextensionsV1beta1WebhookClientConfig>
+      apiextensionsV1beta1WebhookClientConfigAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1CustomResourceConversionTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.apiextensionsV1beta1WebhookClientConfigAdapter =
+        gson.getAdapter(ApiextensionsV1beta1WebhookClientConfig.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CustomResourceConversion value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("conversionReviewVersions");
+    listStringAdapter.write(out, value.getConversionReviewVersions());
+    out.name("strategy");
+    stringAdapter.write(out, value.getStrategy());
+    out.name("webhookClientConfig");
+    apiextensionsV1beta1WebhookClientConfigAdapter.write(out, value.getWebhookClientConfig());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CustomResourceConversion read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CustomResourceConversion value = new V1beta1CustomResourceConversion();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "conversionReviewVersions":
+          value.setConversionReviewVersions(listStringAdapter.read(in));
+          break;
+        case "strategy":
+          value.setStrategy(stringAdapter.read(in));
+          break;
+        case "webhookClientConfig":
+          value.setWebhookClientConfig(apiextensionsV1beta1WebhookClientConfigAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceColumnDefinition;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceConversion;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionNames;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionSpec;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionVersion;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresources;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceValidation;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1CustomResourceDefinitionSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CustomResourceDefinitionSpecTypeAdapter
+    extends TypeAdapter<V1beta1CustomResourceDefinitionSpec> {
+  private final TypeAdapter<List<V1beta1CustomResourceColumnDefinition>>
+      listV1beta1CustomResourceColumnDefinitionAdapter;
+  private final TypeAdapter<V1beta1CustomResourceConversion> v1beta1CustomResourceConversionAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1beta1CustomResourceDefinitionNames>
+      v1beta1CustomResourceDefinitionNamesAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1beta1CustomResourceSubresources>
+      v1beta1CustomResourceSubresourcesAdapter;
+  private final TypeAdapter<V1beta1CustomResourceValidation> v1beta1CustomResourceValidationAdapter;
+  private final TypeAdapter<List<V1beta1CustomResourceDefinitionVersion>>
+      listV1beta1CustomResourceDefinitionVersionAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1CustomResourceDefinitionSpecTypeAdapter(Gson gson) {
+    this.listV1beta1CustomResourceColumnDefinitionAdapter =
+        (TypeAdapter<List<V1beta1CustomResourceColumnDefinition>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    List.class, V1beta1CustomResourceColumnDefinition.class));
+    this.v1beta1CustomResourceConversionAdapter =
+        gson.getAdapter(V1beta1CustomResourceConversion.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1beta1CustomResourceDefinitionNamesAdapter =
+        gson.getAdapter(V1beta1CustomResourceDefinitionNames.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1beta1CustomResourceSubresourcesAdapter =
+        gson.getAdapter(V1beta1CustomResourceSubresources.class);
+    this.v1beta1CustomResourceValidationAdapter =
+        gson.getAdapter(V1beta1CustomResourceValidation.class);
+    this.listV1beta1CustomResourceDefinitionVersionAdapter =
+        (TypeAdapter<List<V1beta1CustomResourceDefinitionVersion>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    List.class, V1beta1CustomResourceDefinitionVersion.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CustomResourceDefinitionSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("additionalPrinterColumns");
+    listV1beta1CustomResourceColumnDefinitionAdapter.write(
+        out, value.getAdditionalPrinterColumns());
+    out.name("conversion");
+    v1beta1CustomResourceConversionAdapter.write(out, value.getConversion());
+    out.name("group");
+    stringAdapter.write(out, value.getGroup());
+    out.name("names");
+    v1beta1CustomResourceDefinitionNamesAdapter.write(out, value.getNames());
+    out.name("preserveUnknownFields");
+    booleanAdapter.write(out, value.getPreserveUnknownFields());
+    out.name("scope");
+    stringAdapter.write(out, value.getScope());
+    out.name("subresources");
+    v1beta1CustomResourceSubresourcesAdapter.write(out, value.getSubresources());
+    out.name("validation");
+    v1beta1CustomResourceValidationAdapter.write(out, value.getValidation());
+    out.name("version");
+    stringAdapter.write(out, value.getVersion());
+    out.name("versions");
+    listV1beta1CustomResourceDefinitionVersionAdapter.write(out, value.getVersions());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CustomResourceDefinitionSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CustomResourceDefinitionSpec value = new V1beta1CustomResourceDefinitionSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "additionalPrinterColumns":
+          value.setAdditionalPrinterColumns(
+              listV1beta1CustomResourceColumnDefinitionAdapter.read(in));
+          break;
+        case "conversion":
+          value.setConversion(v1beta1CustomResourceConversionAdapter.read(in));
+          break;
+        case "group":
+          value.setGroup(stringAdapter.read(in));
+          break;
+        case "names":
+          value.setNames(v1beta1CustomResourceDefinitionNamesAdapter.read(in));
+          break;
+        case "preserveUnknownFields":
+          value.setPreserveUnknownFields(booleanAdapter.read(in));
+          break;
+        case "scope":
+          value.setScope(stringAdapter.read(in));
+          break;
+        case "subresources":
+          value.setSubresources(v1beta1CustomResourceSubresourcesAdapter.read(in));
+          break;
+        case "validation":
+          value.setValidation(v1beta1CustomResourceValidationAdapter.read(in));
+          break;
+        case "version":
+          value.setVersion(stringAdapter.read(in));
+          break;
+        case "versions":
+          value.setVersions(listV1beta1CustomResourceDefinitionVersionAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionCondition;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionNames;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1CustomResourceDefinitionStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CustomResourceDefinitionStatusTypeAdapter
+    extends TypeAdapter<V1beta1CustomResourceDefinitionStatus> {
+  private final TypeAdapter<V1beta1CustomResourceDefinitionNames>
+      v1beta1CustomResourceDefinitionNamesAdapter;
+  private final TypeAdapter<List<V1beta1CustomResourceDefinitionCondition>>
+      listV1beta1CustomResourceDefinitionConditionAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1CustomResourceDefinitionStatusTypeAdapter(Gson gson) {
+    this.v1beta1CustomResourceDefinitionNamesAdapter =
+        gson.getAdapter(V1beta1CustomResourceDefinitionNames.class);
+    this.listV1beta1CustomResourceDefinitionConditionAdapter =
+        (TypeAdapter<List<V1beta1CustomResourceDefinitionCondition>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    List.class, V1beta1CustomResourceDefinitionCondition.class));
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CustomResourceDefinitionStatus value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("acceptedNames");
+    v1beta1CustomResourceDefinitionNamesAdapter.write(out, value.getAcceptedNames());
+    out.name("conditions");
+    listV1beta1CustomResourceDefinitionConditionAdapter.write(out, value.getConditions());
+    out.name("storedVersions");
+    listStringAdapter.write(out, value.getStoredVersions());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CustomResourceDefinitionStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CustomResourceDefinitionStatus value = new V1beta1CustomResourceDefinitionStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "acceptedNames":
+          value.setAcceptedNames(v1beta1CustomResourceDefinitionNamesAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(listV1beta1CustomResourceDefinitionConditionAdapter.read(in));
+          break;
+        case "storedVersions":
+          value.setStoredVersions(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
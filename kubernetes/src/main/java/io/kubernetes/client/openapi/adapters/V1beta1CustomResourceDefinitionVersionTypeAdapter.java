@@ -0,0 +1,125 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceColumnDefinition;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinitionVersion;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresources;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceValidation;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1CustomResourceDefinitionVersion} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CustomResourceDefinitionVersionTypeAdapter
+    extends TypeAdapter<V1beta1CustomResourceDefinitionVersion> {
+  private final TypeAdapter<List<V1beta1CustomResourceColumnDefinition>>
+      listV1beta1CustomResourceColumnDefinitionAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1beta1CustomResourceValidation> v1beta1CustomResourceValidationAdapter;
+  private final TypeAdapter<V1beta1CustomResourceSubresources>
+      v1beta1CustomResourceSubresourcesAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1CustomResourceDefinitionVersionTypeAdapter(Gson gson) {
+    this.listV1beta1CustomResourceColumnDefinitionAdapter =
+        (TypeAdapter<List<V1beta1CustomResourceColumnDefinition>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(
+                    List.class, V1beta1CustomResourceColumnDefinition.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1beta1CustomResourceValidationAdapter =
+        gson.getAdapter(V1beta1CustomResourceValidation.class);
+    this.v1beta1CustomResourceSubresourcesAdapter =
+        gson.getAdapter(V1beta1CustomResourceSubresources.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CustomResourceDefinitionVersion value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("additionalPrinterColumns");
+    listV1beta1CustomResourceColumnDefinitionAdapter.write(
+        out, value.getAdditionalPrinterColumns());
+    out.name("deprecated");
+    booleanAdapter.write(out, value.getDeprecated());
+    out.name("deprecationWarning");
+    stringAdapter.write(out, value.getDeprecationWarning());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("schema");
+    v1beta1CustomResourceValidationAdapter.write(out, value.getSchema());
+    out.name("served");
+    booleanAdapter.write(out, value.getServed());
+    out.name("storage");
+    booleanAdapter.write(out, value.getStorage());
+    out.name("subresources");
+    v1beta1CustomResourceSubresourcesAdapter.write(out, value.getSubresources());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CustomResourceDefinitionVersion read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CustomResourceDefinitionVersion value = new V1beta1CustomResourceDefinitionVersion();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "additionalPrinterColumns":
+          value.setAdditionalPrinterColumns(
+              listV1beta1CustomResourceColumnDefinitionAdapter.read(in));
+          break;
+        case "deprecated":
+          value.setDeprecated(booleanAdapter.read(in));
+          break;
+        case "deprecationWarning":
+          value.setDeprecationWarning(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "schema":
+          value.setSchema(v1beta1CustomResourceValidationAdapter.read(in));
+          break;
+        case "served":
+          value.setServed(booleanAdapter.read(in));
+          break;
+        case "storage":
+          value.setStorage(booleanAdapter.read(in));
+          break;
+        case "subresources":
+          value.setSubresources(v1beta1CustomResourceSubresourcesAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresourceScale;
+import io.kubernetes.client.openapi.models.V1beta1CustomResourceSubresources;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1CustomResourceSubresources} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1CustomResourceSubresourcesTypeAdapter
+    extends TypeAdapter<V1beta1CustomResourceSubresources> {
+  private final TypeAdapter<V1beta1CustomResourceSubresourceScale>
+      v1beta1CustomResourceSubresourceScaleAdapter;
+  private final TypeAdapter<Object> objectAdapter;
+
+  public V1beta1CustomResourceSubresourcesTypeAdapter(Gson gson) {
+    this.v1beta1CustomResourceSubresourceScaleAdapter =
+        gson.getAdapter(V1beta1CustomResourceSubresourceScale.class);
+    this.objectAdapter = gson.getAdapter(Object.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1CustomResourceSubresources value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("scale");
+    v1beta1CustomResourceSubresourceScaleAdapter.write(out, value.getScale());
+    out.name("status");
+    objectAdapter.write(out, value.getStatus());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1CustomResourceSubresources read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1CustomResourceSubresources value = new V1beta1CustomResourceSubresources();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "scale":
+          value.setScale(v1beta1CustomResourceSubresourceScaleAdapter.read(in));
+          break;
+        case "status":
+          value.setStatus(objectAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
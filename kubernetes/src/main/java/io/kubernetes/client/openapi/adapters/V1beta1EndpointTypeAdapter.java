@@ -0,0 +1,102 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1beta1Endpoint;
+import io.kubernetes.client.openapi.models.V1beta1EndpointConditions;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1beta1Endpoint} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1EndpointTypeAdapter extends TypeAdapter<V1beta1Endpoint> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<V1beta1EndpointConditions> v1beta1EndpointConditionsAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectReference> v1ObjectReferenceAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1EndpointTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.v1beta1EndpointConditionsAdapter = gson.getAdapter(V1beta1EndpointConditions.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectReferenceAdapter = gson.getAdapter(V1ObjectReference.class);
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1Endpoint value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("addresses");
+    listStringAdapter.write(out, value.getAddresses());
+    out.name("conditions");
+    v1beta1EndpointConditionsAdapter.write(out, value.getConditions());
+    out.name("hostname");
+    stringAdapter.write(out, value.getHostname());
+    out.name("targetRef");
+    v1ObjectReferenceAdapter.write(out, value.getTargetRef());
+    out.name("topology");
+    mapStringStringAdapter.write(out, value.getTopology());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1Endpoint read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1Endpoint value = new V1beta1Endpoint();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "addresses":
+          value.setAddresses(listStringAdapter.read(in));
+          break;
+        case "conditions":
+          value.setConditions(v1beta1EndpointConditionsAdapter.read(in));
+          break;
+        case "hostname":
+          value.setHostname(stringAdapter.read(in));
+          break;
+        case "targetRef":
+          value.setTargetRef(v1ObjectReferenceAdapter.read(in));
+          break;
+        case "topology":
+          value.setTopology(mapStringStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1IDRange;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1IDRange} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1IDRangeTypeAdapter extends TypeAdapter<V1beta1IDRange> {
+  private final TypeAdapter<Long> longAdapter;
+
+  public V1beta1IDRangeTypeAdapter(Gson gson) {
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1IDRange value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("max");
+    longAdapter.write(out, value.getMax());
+    out.name("min");
+    longAdapter.write(out, value.getMin());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1IDRange read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1IDRange value = new V1beta1IDRange();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "max":
+          value.setMax(longAdapter.read(in));
+          break;
+        case "min":
+          value.setMin(longAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,303 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1ExternalDocumentation;
+import io.kubernetes.client.openapi.models.V1beta1JSONSchemaProps;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1beta1JSONSchemaProps} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1JSONSchemaPropsTypeAdapter extends TypeAdapter<V1beta1JSONSchemaProps> {
+  private final TypeAdapter<Object> objectAdapter;
+  private final TypeAdapter<List<V1beta1JSONSchemaProps>> listV1beta1JSONSchemaPropsAdapter;
+  private final TypeAdapter<Map<String, V1beta1JSONSchemaProps>>
+      mapStringV1beta1JSONSchemaPropsAdapter;
+  private final TypeAdapter<Map<String, Object>> mapStringObjectAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<List<Object>> listObjectAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<V1beta1ExternalDocumentation> v1beta1ExternalDocumentationAdapter;
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<Double> doubleAdapter;
+  private final TypeAdapter<V1beta1JSONSchemaProps> v1beta1JSONSchemaPropsAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1JSONSchemaPropsTypeAdapter(Gson gson) {
+    this.objectAdapter = gson.getAdapter(Object.class);
+    this.listV1beta1JSONSchemaPropsAdapter =
+        (TypeAdapter<List<V1beta1JSONSchemaProps>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1JSONSchemaProps.class));
+    this.mapStringV1beta1JSONSchemaPropsAdapter =
+        (TypeAdapter<Map<String, V1beta1JSONSchemaProps>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(Map.class, String.class, V1beta1JSONSchemaProps.class));
+    this.mapStringObjectAdapter =
+        (TypeAdapter<Map<String, Object>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, Object.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.listObjectAdapter =
+        (TypeAdapter<List<Object>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, Object.class));
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.v1beta1ExternalDocumentationAdapter = gson.getAdapter(V1beta1ExternalDocumentation.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.doubleAdapter = gson.getAdapter(Double.class);
+    this.v1beta1JSONSchemaPropsAdapter = gson.getAdapter(V1beta1JSONSchemaProps.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1JSONSchemaProps value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("additionalItems");
+    objectAdapter.write(out, value.getAdditionalItems());
+    out.name("additionalProperties");
+    objectAdapter.write(out, value.getAdditionalProperties());
+    out.name("allOf");
+    listV1beta1JSONSchemaPropsAdapter.write(out, value.getAllOf());
+    out.name("anyOf");
+    listV1beta1JSONSchemaPropsAdapter.write(out, value.getAnyOf());
+    out.name("default");
+    objectAdapter.write(out, value.getDefault());
+    out.name("definitions");
+    mapStringV1beta1JSONSchemaPropsAdapter.write(out, value.getDefinitions());
+    out.name("dependencies");
+    mapStringObjectAdapter.write(out, value.getDependencies());
+    out.name("description");
+    stringAdapter.write(out, value.getDescription());
+    out.name("enum");
+    listObjectAdapter.write(out, value.getEnum());
+    out.name("example");
+    objectAdapter.write(out, value.getExample());
+    out.name("exclusiveMaximum");
+    booleanAdapter.write(out, value.getExclusiveMaximum());
+    out.name("exclusiveMinimum");
+    booleanAdapter.write(out, value.getExclusiveMinimum());
+    out.name("externalDocs");
+    v1beta1ExternalDocumentationAdapter.write(out, value.getExternalDocs());
+    out.name("format");
+    stringAdapter.write(out, value.getFormat());
+    out.name("id");
+    stringAdapter.write(out, value.getId());
+    out.name("items");
+    objectAdapter.write(out, value.getItems());
+    out.name("maxItems");
+    longAdapter.write(out, value.getMaxItems());
+    out.name("maxLength");
+    longAdapter.write(out, value.getMaxLength());
+    out.name("maxProperties");
+    longAdapter.write(out, value.getMaxProperties());
+    out.name("maximum");
+    doubleAdapter.write(out, value.getMaximum());
+    out.name("minItems");
+    longAdapter.write(out, value.getMinItems());
+    out.name("minLength");
+    longAdapter.write(out, value.getMinLength());
+    out.name("minProperties");
+    longAdapter.write(out, value.getMinProperties());
+    out.name("minimum");
+    doubleAdapter.write(out, value.getMinimum());
+    out.name("multipleOf");
+    doubleAdapter.write(out, value.getMultipleOf());
+    out.name("not");
+    v1beta1JSONSchemaPropsAdapter.write(out, value.getNot());
+    out.name("nullable");
+    booleanAdapter.write(out, value.getNullable());
+    out.name("oneOf");
+    listV1beta1JSONSchemaPropsAdapter.write(out, value.getOneOf());
+    out.name("pattern");
+    stringAdapter.write(out, value.getPattern());
+    out.name("patternProperties");
+    mapStringV1beta1JSONSchemaPropsAdapter.write(out, value.getPatternProperties());
+    out.name("properties");
+    mapStringV1beta1JSONSchemaPropsAdapter.write(out, value.getProperties());
+    out.name("required");
+    listStringAdapter.write(out, value.getRequired());
+    out.name("title");
+    stringAdapter.write(out, value.getTitle());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.name("uniqueItems");
+    booleanAdapter.write(out, value.getUniqueItems());
+    out.name("x-kubernetes-embedded-resource");
+    booleanAdapter.write(out, value.getxKubernetesEmbeddedResource());
+    out.name("x-kubernetes-int-or-string");
+    booleanAdapter.write(out, value.getxKubernetesIntOrString());
+    out.name("x-kubernetes-list-map-keys");
+    listStringAdapter.write(out, value.getxKubernetesListMapKeys());
+    out.name("x-kubernetes-list-type");
+    stringAdapter.write(out, value.getxKubernetesListType());
+    out.name("x-kubernetes-map-type");
+    stringAdapter.write(out, value.getxKubernetesMapType());
+    out.name("x-kubernetes-preserve-unknown-fields");
+    booleanAdapter.write(out, value.getxKubernetesPreserveUnknownFields());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1JSONSchemaProps read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1JSONSchemaProps value = new V1beta1JSONSchemaProps();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "additionalItems":
+          value.setAdditionalItems(objectAdapter.read(in));
+          break;
+        case "additionalProperties":
+          value.setAdditionalProperties(objectAdapter.read(in));
+          break;
+        case "allOf":
+          value.setAllOf(listV1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "anyOf":
+          value.setAnyOf(listV1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "default":
+          value.setDefault(objectAdapter.read(in));
+          break;
+        case "definitions":
+          value.setDefinitions(mapStringV1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "dependencies":
+          value.setDependencies(mapStringObjectAdapter.read(in));
+          break;
+        case "description":
+          value.setDescription(stringAdapter.read(in));
+          break;
+        case "enum":
+          value.setEnum(listObjectAdapter.read(in));
+          break;
+        case "example":
+          value.setExample(objectAdapter.read(in));
+          break;
+        case "exclusiveMaximum":
+          value.setExclusiveMaximum(booleanAdapter.read(in));
+          break;
+        case "exclusiveMinimum":
+          value.setExclusiveMinimum(booleanAdapter.read(in));
+          break;
+        case "externalDocs":
+          value.setExternalDocs(v1beta1ExternalDocumentationAdapter.read(in));
+          break;
+        case "format":
+          value.setFormat(stringAdapter.read(in));
+          break;
+        case "id":
+          value.setId(stringAdapter.read(in));
+          break;
+        case "items":
+          value.setItems(objectAdapter.read(in));
+          break;
+        case "maxItems":
+          value.setMaxItems(longAdapter.read(in));
+          break;
+        case "maxLength":
+          value.setMaxLength(longAdapter.read(in));
+          break;
+        case "maxProperties":
+          value.setMaxProperties(longAdapter.read(in));
+          break;
+        case "maximum":
+          value.setMaximum(doubleAdapter.read(in));
+          break;
+        case "minItems":
+          value.setMinItems(longAdapter.read(in));
+          break;
+        case "minLength":
+          value.setMinLength(longAdapter.read(in));
+          break;
+        case "minProperties":
+          value.setMinProperties(longAdapter.read(in));
+          break;
+        case "minimum":
+          value.setMinimum(doubleAdapter.read(in));
+          break;
+        case "multipleOf":
+          value.setMultipleOf(doubleAdapter.read(in));
+          break;
+        case "not":
+          value.setNot(v1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "nullable":
+          value.setNullable(booleanAdapter.read(in));
+          break;
+        case "oneOf":
+          value.setOneOf(listV1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "pattern":
+          value.setPattern(stringAdapter.read(in));
+          break;
+        case "patternProperties":
+          value.setPatternProperties(mapStringV1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "properties":
+          value.setProperties(mapStringV1beta1JSONSchemaPropsAdapter.read(in));
+          break;
+        case "required":
+          value.setRequired(listStringAdapter.read(in));
+          break;
+        case "title":
+          value.setTitle(stringAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        case "uniqueItems":
+          value.setUniqueItems(booleanAdapter.read(in));
+          break;
+        case "x-kubernetes-embedded-resource":
+          value.setxKubernetesEmbeddedResource(booleanAdapter.read(in));
+          break;
+        case "x-kubernetes-int-or-string":
+          value.setxKubernetesIntOrString(booleanAdapter.read(in));
+          break;
+        case "x-kubernetes-list-map-keys":
+          value.setxKubernetesListMapKeys(listStringAdapter.read(in));
+          break;
+        case "x-kubernetes-list-type":
+          value.setxKubernetesListType(stringAdapter.read(in));
+          break;
+        case "x-kubernetes-map-type":
+          value.setxKubernetesMapType(stringAdapter.read(in));
+          break;
+        case "x-kubernetes-preserve-unknown-fields":
+          value.setxKubernetesPreserveUnknownFields(booleanAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
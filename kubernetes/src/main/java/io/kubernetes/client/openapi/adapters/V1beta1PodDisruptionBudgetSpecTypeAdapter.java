@@ -0,0 +1,79 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1PodDisruptionBudgetSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1PodDisruptionBudgetSpecTypeAdapter
+    extends TypeAdapter<V1beta1PodDisruptionBudgetSpec> {
+  private final TypeAdapter<IntOrString> intOrStringAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+
+  public V1beta1PodDisruptionBudgetSpecTypeAdapter(Gson gson) {
+    this.intOrStringAdapter = gson.getAdapter(IntOrString.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1PodDisruptionBudgetSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("maxUnavailable");
+    intOrStringAdapter.write(out, value.getMaxUnavailable());
+    out.name("minAvailable");
+    intOrStringAdapter.write(out, value.getMinAvailable());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1PodDisruptionBudgetSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1PodDisruptionBudgetSpec value = new V1beta1PodDisruptionBudgetSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "maxUnavailable":
+          value.setMaxUnavailable(intOrStringAdapter.read(in));
+          break;
+        case "minAvailable":
+          value.setMinAvailable(intOrStringAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
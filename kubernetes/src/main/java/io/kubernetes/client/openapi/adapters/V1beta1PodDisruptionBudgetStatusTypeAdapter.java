@@ -0,0 +1,100 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetStatus;
+import java.io.IOException;
+import java.util.Map;
+import org.joda.time.DateTime;
+
+/** Reads and writes {@link V1beta1PodDisruptionBudgetStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1PodDisruptionBudgetStatusTypeAdapter
+    extends TypeAdapter<V1beta1PodDisruptionBudgetStatus> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Map<String, DateTime>> mapStringDateTimeAdapter;
+  private final TypeAdapter<Long> longAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1PodDisruptionBudgetStatusTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.mapStringDateTimeAdapter =
+        (TypeAdapter<Map<String, DateTime>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, DateTime.class));
+    this.longAdapter = gson.getAdapter(Long.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1PodDisruptionBudgetStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("currentHealthy");
+    integerAdapter.write(out, value.getCurrentHealthy());
+    out.name("desiredHealthy");
+    integerAdapter.write(out, value.getDesiredHealthy());
+    out.name("disruptedPods");
+    mapStringDateTimeAdapter.write(out, value.getDisruptedPods());
+    out.name("disruptionsAllowed");
+    integerAdapter.write(out, value.getDisruptionsAllowed());
+    out.name("expectedPods");
+    integerAdapter.write(out, value.getExpectedPods());
+    out.name("observedGeneration");
+    longAdapter.write(out, value.getObservedGeneration());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1PodDisruptionBudgetStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1PodDisruptionBudgetStatus value = new V1beta1PodDisruptionBudgetStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "currentHealthy":
+          value.setCurrentHealthy(integerAdapter.read(in));
+          break;
+        case "desiredHealthy":
+          value.setDesiredHealthy(integerAdapter.read(in));
+          break;
+        case "disruptedPods":
+          value.setDisruptedPods(mapStringDateTimeAdapter.read(in));
+          break;
+        case "disruptionsAllowed":
+          value.setDisruptionsAllowed(integerAdapter.read(in));
+          break;
+        case "expectedPods":
+          value.setExpectedPods(integerAdapter.read(in));
+          break;
+        case "observedGeneration":
+          value.setObservedGeneration(longAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
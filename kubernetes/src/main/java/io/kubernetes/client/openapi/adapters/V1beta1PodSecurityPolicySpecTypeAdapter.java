@@ -0,0 +1,234 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1AllowedCSIDriver;
+import io.kubernetes.client.openapi.models.V1beta1AllowedFlexVolume;
+import io.kubernetes.client.openapi.models.V1beta1AllowedHostPath;
+import io.kubernetes.client.openapi.models.V1beta1FSGroupStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1HostPortRange;
+import io.kubernetes.client.openapi.models.V1beta1PodSecurityPolicySpec;
+import io.kubernetes.client.openapi.models.V1beta1RunAsGroupStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1RunAsUserStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1RuntimeClassStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1SELinuxStrategyOptions;
+import io.kubernetes.client.openapi.models.V1beta1SupplementalGroupsStrategyOptions;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1PodSecurityPolicySpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1PodSecurityPolicySpecTypeAdapter
+    extends TypeAdapter<V1beta1PodSecurityPolicySpec> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1beta1AllowedCSIDriver>> listV1beta1AllowedCSIDriverAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<List<V1beta1AllowedFlexVolume>> listV1beta1AllowedFlexVolumeAdapter;
+  private final TypeAdapter<List<V1beta1AllowedHostPath>> listV1beta1AllowedHostPathAdapter;
+  private final TypeAdapter<V1beta1FSGroupStrategyOptions> v1beta1FSGroupStrategyOptionsAdapter;
+  private final TypeAdapter<List<V1beta1HostPortRange>> listV1beta1HostPortRangeAdapter;
+  private final TypeAdapter<V1beta1RunAsGroupStrategyOptions>
+      v1beta1RunAsGroupStrategyOptionsAdapter;
+  private final TypeAdapter<V1beta1RunAsUserStrategyOptions> v1beta1RunAsUserStrategyOptionsAdapter;
+  private final TypeAdapter<V1beta1RuntimeClassStrategyOptions>
+      v1beta1RuntimeClassStrategyOptionsAdapter;
+  private final TypeAdapter<V1beta1SELinuxStrategyOptions> v1beta1SELinuxStrategyOptionsAdapter;
+  private final TypeAdapter<V1beta1SupplementalGroupsStrategyOptions>
+      v1beta1SupplementalGroupsStrategyOptionsAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1PodSecurityPolicySpecTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1beta1AllowedCSIDriverAdapter =
+        (TypeAdapter<List<V1beta1AllowedCSIDriver>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1AllowedCSIDriver.class));
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.listV1beta1AllowedFlexVolumeAdapter =
+        (TypeAdapter<List<V1beta1AllowedFlexVolume>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1AllowedFlexVolume.class));
+    this.listV1beta1AllowedHostPathAdapter =
+        (TypeAdapter<List<V1beta1AllowedHostPath>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1AllowedHostPath.class));
+    this.v1beta1FSGroupStrategyOptionsAdapter =
+        gson.getAdapter(V1beta1FSGroupStrategyOptions.class);
+    this.listV1beta1HostPortRangeAdapter =
+        (TypeAdapter<List<V1beta1HostPortRange>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1HostPortRange.class));
+    this.v1beta1RunAsGroupStrategyOptionsAdapter =
+        gson.getAdapter(V1beta1RunAsGroupStrategyOptions.class);
+    this.v1beta1RunAsUserStrategyOptionsAdapter =
+        gson.getAdapter(V1beta1RunAsUserStrategyOptions.class);
+    this.v1beta1RuntimeClassStrategyOptionsAdapter =
+        gson.getAdapter(V1beta1RuntimeClassStrategyOptions.class);
+    this.v1beta1SELinuxStrategyOptionsAdapter =
+        gson.getAdapter(V1beta1SELinuxStrategyOptions.class);
+    this.v1beta1SupplementalGroupsStrategyOptionsAdapter =
+        gson.getAdapter(V1beta1SupplementalGroupsStrategyOptions.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1PodSecurityPolicySpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("allowPrivilegeEscalation");
+    booleanAdapter.write(out, value.getAllowPrivilegeEscalation());
+    out.name("allowedCSIDrivers");
+    listV1beta1AllowedCSIDriverAdapter.write(out, value.getAllowedCSIDrivers());
+    out.name("allowedCapabilities");
+    listStringAdapter.write(out, value.getAllowedCapabilities());
+    out.name("allowedFlexVolumes");
+    listV1beta1AllowedFlexVolumeAdapter.write(out, value.getAllowedFlexVolumes());
+    out.name("allowedHostPaths");
+    listV1beta1AllowedHostPathAdapter.write(out, value.getAllowedHostPaths());
+    out.name("allowedProcMountTypes");
+    listStringAdapter.write(out, value.getAllowedProcMountTypes());
+    out.name("allowedUnsafeSysctls");
+    listStringAdapter.write(out, value.getAllowedUnsafeSysctls());
+    out.name("defaultAddCapabilities");
+    listStringAdapter.write(out, value.getDefaultAddCapabilities());
+    out.name("defaultAllowPrivilegeEscalation");
+    booleanAdapter.write(out, value.getDefaultAllowPrivilegeEscalation());
+    out.name("forbiddenSysctls");
+    listStringAdapter.write(out, value.getForbiddenSysctls());
+    out.name("fsGroup");
+    v1beta1FSGroupStrategyOptionsAdapter.write(out, value.getFsGroup());
+    out.name("hostIPC");
+    booleanAdapter.write(out, value.getHostIPC());
+    out.name("hostNetwork");
+    booleanAdapter.write(out, value.getHostNetwork());
+    out.name("hostPID");
+    booleanAdapter.write(out, value.getHostPID());
+    out.name("hostPorts");
+    listV1beta1HostPortRangeAdapter.write(out, value.getHostPorts());
+    out.name("privileged");
+    booleanAdapter.write(out, value.getPrivileged());
+    out.name("readOnlyRootFilesystem");
+    booleanAdapter.write(out, value.getReadOnlyRootFilesystem());
+    out.name("requiredDropCapabilities");
+    listStringAdapter.write(out, value.getRequiredDropCapabilities());
+    out.name("runAsGroup");
+    v1beta1RunAsGroupStrategyOptionsAdapter.write(out, value.getRunAsGroup());
+    out.name("runAsUser");
+    v1beta1RunAsUserStrategyOptionsAdapter.write(out, value.getRunAsUser());
+    out.name("runtimeClass");
+    v1beta1RuntimeClassStrategyOptionsAdapter.write(out, value.getRuntimeClass());
+    out.name("seLinux");
+    v1beta1SELinuxStrategyOptionsAdapter.write(out, value.getSeLinux());
+    out.name("supplementalGroups");
+    v1beta1SupplementalGroupsStrategyOptionsAdapter.write(out, value.getSupplementalGroups());
+    out.name("volumes");
+    listStringAdapter.write(out, value.getVolumes());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1PodSecurityPolicySpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1PodSecurityPolicySpec value = new V1beta1PodSecurityPolicySpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "allowPrivilegeEscalation":
+          value.setAllowPrivilegeEscalation(booleanAdapter.read(in));
+          break;
+        case "allowedCSIDrivers":
+          value.setAllowedCSIDrivers(listV1beta1AllowedCSIDriverAdapter.read(in));
+          break;
+        case "allowedCapabilities":
+          value.setAllowedCapabilities(listStringAdapter.read(in));
+          break;
+        case "allowedFlexVolumes":
+          value.setAllowedFlexVolumes(listV1beta1AllowedFlexVolumeAdapter.read(in));
+          break;
+        case "allowedHostPaths":
+          value.setAllowedHostPaths(listV1beta1AllowedHostPathAdapter.read(in));
+          break;
+        case "allowedProcMountTypes":
+          value.setAllowedProcMountTypes(listStringAdapter.read(in));
+          break;
+        case "allowedUnsafeSysctls":
+          value.setAllowedUnsafeSysctls(listStringAdapter.read(in));
+          break;
+        case "defaultAddCapabilities":
+          value.setDefaultAddCapabilities(listStringAdapter.read(in));
+          break;
+        case "defaultAllowPrivilegeEscalation":
+          value.setDefaultAllowPrivilegeEscalation(booleanAdapter.read(in));
+          break;
+        case "forbiddenSysctls":
+          value.setForbiddenSysctls(listStringAdapter.read(in));
+          break;
+        case "fsGroup":
+          value.setFsGroup(v1beta1FSGroupStrategyOptionsAdapter.read(in));
+          break;
+        case "hostIPC":
+          value.setHostIPC(booleanAdapter.read(in));
+          break;
+        case "hostNetwork":
+          value.setHostNetwork(booleanAdapter.read(in));
+          break;
+        case "hostPID":
+          value.setHostPID(booleanAdapter.read(in));
+          break;
+        case "hostPorts":
+          value.setHostPorts(listV1beta1HostPortRangeAdapter.read(in));
+          break;
+        case "privileged":
+          value.setPrivileged(booleanAdapter.read(in));
+          break;
+        case "readOnlyRootFilesystem":
+          value.setReadOnlyRootFilesystem(booleanAdapter.read(in));
+          break;
+        case "requiredDropCapabilities":
+          value.setRequiredDropCapabilities(listStringAdapter.read(in));
+          break;
+        case "runAsGroup":
+          value.setRunAsGroup(v1beta1RunAsGroupStrategyOptionsAdapter.read(in));
+          break;
+        case "runAsUser":
+          value.setRunAsUser(v1beta1RunAsUserStrategyOptionsAdapter.read(in));
+          break;
+        case "runtimeClass":
+          value.setRuntimeClass(v1beta1RuntimeClassStrategyOptionsAdapter.read(in));
+          break;
+        case "seLinux":
+          value.setSeLinux(v1beta1SELinuxStrategyOptionsAdapter.read(in));
+          break;
+        case "supplementalGroups":
+          value.setSupplementalGroups(v1beta1SupplementalGroupsStrategyOptionsAdapter.read(in));
+          break;
+        case "volumes":
+          value.setVolumes(listStringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
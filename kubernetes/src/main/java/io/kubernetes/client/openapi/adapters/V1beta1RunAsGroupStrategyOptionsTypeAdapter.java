@@ -0,0 +1,78 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1IDRange;
+import io.kubernetes.client.openapi.models.V1beta1RunAsGroupStrategyOptions;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1RunAsGroupStrategyOptions} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1RunAsGroupStrategyOptionsTypeAdapter
+    extends TypeAdapter<V1beta1RunAsGroupStrategyOptions> {
+  private final TypeAdapter<List<V1beta1IDRange>> listV1beta1IDRangeAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1RunAsGroupStrategyOptionsTypeAdapter(Gson gson) {
+    this.listV1beta1IDRangeAdapter =
+        (TypeAdapter<List<V1beta1IDRange>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1IDRange.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1RunAsGroupStrategyOptions value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("ranges");
+    listV1beta1IDRangeAdapter.write(out, value.getRanges());
+    out.name("rule");
+    stringAdapter.write(out, value.getRule());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1RunAsGroupStrategyOptions read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1RunAsGroupStrategyOptions value = new V1beta1RunAsGroupStrategyOptions();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "ranges":
+          value.setRanges(listV1beta1IDRangeAdapter.read(in));
+          break;
+        case "rule":
+          value.setRule(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import io.kubernetes.client.openapi.models.V1beta1Scheduling;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1beta1Scheduling} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1SchedulingTypeAdapter extends TypeAdapter<V1beta1Scheduling> {
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+  private final TypeAdapter<List<V1Toleration>> listV1TolerationAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1SchedulingTypeAdapter(Gson gson) {
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+    this.listV1TolerationAdapter =
+        (TypeAdapter<List<V1Toleration>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1Toleration.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1Scheduling value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("nodeSelector");
+    mapStringStringAdapter.write(out, value.getNodeSelector());
+    out.name("tolerations");
+    listV1TolerationAdapter.write(out, value.getTolerations());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1Scheduling read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1Scheduling value = new V1beta1Scheduling();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "nodeSelector":
+          value.setNodeSelector(mapStringStringAdapter.read(in));
+          break;
+        case "tolerations":
+          value.setTolerations(listV1TolerationAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
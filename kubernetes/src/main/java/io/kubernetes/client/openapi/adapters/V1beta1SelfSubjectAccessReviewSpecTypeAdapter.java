@@ -0,0 +1,74 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1NonResourceAttributes;
+import io.kubernetes.client.openapi.models.V1beta1ResourceAttributes;
+import io.kubernetes.client.openapi.models.V1beta1SelfSubjectAccessReviewSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1SelfSubjectAccessReviewSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1SelfSubjectAccessReviewSpecTypeAdapter
+    extends TypeAdapter<V1beta1SelfSubjectAccessReviewSpec> {
+  private final TypeAdapter<V1beta1NonResourceAttributes> v1beta1NonResourceAttributesAdapter;
+  private final TypeAdapter<V1beta1ResourceAttributes> v1beta1ResourceAttributesAdapter;
+
+  public V1beta1SelfSubjectAccessReviewSpecTypeAdapter(Gson gson) {
+    this.v1beta1NonResourceAttributesAdapter = gson.getAdapter(V1beta1NonResourceAttributes.class);
+    this.v1beta1ResourceAttributesAdapter = gson.getAdapter(V1beta1ResourceAttributes.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1SelfSubjectAccessReviewSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("nonResourceAttributes");
+    v1beta1NonResourceAttributesAdapter.write(out, value.getNonResourceAttributes());
+    out.name("resourceAttributes");
+    v1beta1ResourceAttributesAdapter.write(out, value.getResourceAttributes());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1SelfSubjectAccessReviewSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1SelfSubjectAccessReviewSpec value = new V1beta1SelfSubjectAccessReviewSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "nonResourceAttributes":
+          value.setNonResourceAttributes(v1beta1NonResourceAttributesAdapter.read(in));
+          break;
+        case "resourceAttributes":
+          value.setResourceAttributes(v1beta1ResourceAttributesAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1TopologySelectorTerm;
+import io.kubernetes.client.openapi.models.V1beta1StorageClass;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Reads and writes {@link V1beta1StorageClass} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1StorageClassTypeAdapter extends TypeAdapter<V1beta1StorageClass> {
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1TopologySelectorTerm>> listV1TopologySelectorTermAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1ObjectMeta> v1ObjectMetaAdapter;
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<Map<String, String>> mapStringStringAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1StorageClassTypeAdapter(Gson gson) {
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1TopologySelectorTermAdapter =
+        (TypeAdapter<List<V1TopologySelectorTerm>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1TopologySelectorTerm.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1ObjectMetaAdapter = gson.getAdapter(V1ObjectMeta.class);
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.mapStringStringAdapter =
+        (TypeAdapter<Map<String, String>>)
+            gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, String.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1StorageClass value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("allowVolumeExpansion");
+    booleanAdapter.write(out, value.getAllowVolumeExpansion());
+    out.name("allowedTopologies");
+    listV1TopologySelectorTermAdapter.write(out, value.getAllowedTopologies());
+    out.name("apiVersion");
+    stringAdapter.write(out, value.getApiVersion());
+    out.name("kind");
+    stringAdapter.write(out, value.getKind());
+    out.name("metadata");
+    v1ObjectMetaAdapter.write(out, value.getMetadata());
+    out.name("mountOptions");
+    listStringAdapter.write(out, value.getMountOptions());
+    out.name("parameters");
+    mapStringStringAdapter.write(out, value.getParameters());
+    out.name("provisioner");
+    stringAdapter.write(out, value.getProvisioner());
+    out.name("reclaimPolicy");
+    stringAdapter.write(out, value.getReclaimPolicy());
+    out.name("volumeBindingMode");
+    stringAdapter.write(out, value.getVolumeBindingMode());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1StorageClass read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1StorageClass value = new V1beta1StorageClass();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "allowVolumeExpansion":
+          value.setAllowVolumeExpansion(booleanAdapter.read(in));
+          break;
+        case "allowedTopologies":
+          value.setAllowedTopologies(listV1TopologySelectorTermAdapter.read(in));
+          break;
+        case "apiVersion":
+          value.setApiVersion(stringAdapter.read(in));
+          break;
+        case "kind":
+          value.setKind(stringAdapter.read(in));
+          break;
+        case "metadata":
+          value.setMetadata(v1ObjectMetaAdapter.read(in));
+          break;
+        case "mountOptions":
+          value.setMountOptions(listStringAdapter.read(in));
+          break;
+        case "parameters":
+          value.setParameters(mapStringStringAdapter.read(in));
+          break;
+        case "provisioner":
+          value.setProvisioner(stringAdapter.read(in));
+          break;
+        case "reclaimPolicy":
+          value.setReclaimPolicy(stringAdapter.read(in));
+          break;
+        case "volumeBindingMode":
+          value.setVolumeBindingMode(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
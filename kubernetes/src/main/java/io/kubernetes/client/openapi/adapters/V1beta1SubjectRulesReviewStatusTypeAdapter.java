@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1beta1NonResourceRule;
+import io.kubernetes.client.openapi.models.V1beta1ResourceRule;
+import io.kubernetes.client.openapi.models.V1beta1SubjectRulesReviewStatus;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1SubjectRulesReviewStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1SubjectRulesReviewStatusTypeAdapter
+    extends TypeAdapter<V1beta1SubjectRulesReviewStatus> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+  private final TypeAdapter<List<V1beta1NonResourceRule>> listV1beta1NonResourceRuleAdapter;
+  private final TypeAdapter<List<V1beta1ResourceRule>> listV1beta1ResourceRuleAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1SubjectRulesReviewStatusTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+    this.listV1beta1NonResourceRuleAdapter =
+        (TypeAdapter<List<V1beta1NonResourceRule>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1NonResourceRule.class));
+    this.listV1beta1ResourceRuleAdapter =
+        (TypeAdapter<List<V1beta1ResourceRule>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V1beta1ResourceRule.class));
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1SubjectRulesReviewStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("evaluationError");
+    stringAdapter.write(out, value.getEvaluationError());
+    out.name("incomplete");
+    booleanAdapter.write(out, value.getIncomplete());
+    out.name("nonResourceRules");
+    listV1beta1NonResourceRuleAdapter.write(out, value.getNonResourceRules());
+    out.name("resourceRules");
+    listV1beta1ResourceRuleAdapter.write(out, value.getResourceRules());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1SubjectRulesReviewStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1SubjectRulesReviewStatus value = new V1beta1SubjectRulesReviewStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "evaluationError":
+          value.setEvaluationError(stringAdapter.read(in));
+          break;
+        case "incomplete":
+          value.setIncomplete(booleanAdapter.read(in));
+          break;
+        case "nonResourceRules":
+          value.setNonResourceRules(listV1beta1NonResourceRuleAdapter.read(in));
+          break;
+        case "resourceRules":
+          value.setResourceRules(listV1beta1ResourceRuleAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
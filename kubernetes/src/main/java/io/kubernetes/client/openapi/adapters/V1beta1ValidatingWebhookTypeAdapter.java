@@ -0,0 +1,132 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.AdmissionregistrationV1beta1WebhookClientConfig;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1beta1RuleWithOperations;
+import io.kubernetes.client.openapi.models.V1beta1ValidatingWebhook;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V1beta1ValidatingWebhook} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1ValidatingWebhookTypeAdapter extends TypeAdapter<V1beta1ValidatingWebhook> {
+  private final TypeAdapter<List<String>> listStringAdapter;
+  private final TypeAdapter<AdmissionregistrationV1beta1WebhookClientConfig>
+      admissionregistrationV1beta1WebhookClientConfigAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<List<V1beta1RuleWithOperations>> listV1beta1RuleWithOperationsAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V1beta1ValidatingWebhookTypeAdapter(Gson gson) {
+    this.listStringAdapter =
+        (TypeAdapter<List<String>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, String.class));
+    this.admissionregistrationV1beta1WebhookClientConfigAdapter =
+        gson.getAdapter(AdmissionregistrationV1beta1WebhookClientConfig.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.listV1beta1RuleWithOperationsAdapter =
+        (TypeAdapter<List<V1beta1RuleWithOperations>>)
+            gson.getAdapter(
+                TypeToken.getParameterized(List.class, V1beta1RuleWithOperations.class));
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1ValidatingWebhook value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("admissionReviewVersions");
+    listStringAdapter.write(out, value.getAdmissionReviewVersions());
+    out.name("clientConfig");
+    admissionregistrationV1beta1WebhookClientConfigAdapter.write(out, value.getClientConfig());
+    out.name("failurePolicy");
+    stringAdapter.write(out, value.getFailurePolicy());
+    out.name("matchPolicy");
+    stringAdapter.write(out, value.getMatchPolicy());
+    out.name("name");
+    stringAdapter.write(out, value.getName());
+    out.name("namespaceSelector");
+    v1LabelSelectorAdapter.write(out, value.getNamespaceSelector());
+    out.name("objectSelector");
+    v1LabelSelectorAdapter.write(out, value.getObjectSelector());
+    out.name("rules");
+    listV1beta1RuleWithOperationsAdapter.write(out, value.getRules());
+    out.name("sideEffects");
+    stringAdapter.write(out, value.getSideEffects());
+    out.name("timeoutSeconds");
+    integerAdapter.write(out, value.getTimeoutSeconds());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1ValidatingWebhook read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1ValidatingWebhook value = new V1beta1ValidatingWebhook();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "admissionReviewVersions":
+          value.setAdmissionReviewVersions(listStringAdapter.read(in));
+          break;
+        case "clientConfig":
+          value.setClientConfig(admissionregistrationV1beta1WebhookClientConfigAdapter.read(in));
+          break;
+        case "failurePolicy":
+          value.setFailurePolicy(stringAdapter.read(in));
+          break;
+        case "matchPolicy":
+          value.setMatchPolicy(stringAdapter.read(in));
+          break;
+        case "name":
+          value.setName(stringAdapter.read(in));
+          break;
+        case "namespaceSelector":
+          value.setNamespaceSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "objectSelector":
+          value.setObjectSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "rules":
+          value.setRules(listV1beta1RuleWithOperationsAdapter.read(in));
+          break;
+        case "sideEffects":
+          value.setSideEffects(stringAdapter.read(in));
+          break;
+        case "timeoutSeconds":
+          value.setTimeoutSeconds(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
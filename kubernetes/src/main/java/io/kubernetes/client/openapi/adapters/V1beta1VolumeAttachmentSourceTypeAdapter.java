@@ -0,0 +1,73 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeSpec;
+import io.kubernetes.client.openapi.models.V1beta1VolumeAttachmentSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V1beta1VolumeAttachmentSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V1beta1VolumeAttachmentSourceTypeAdapter
+    extends TypeAdapter<V1beta1VolumeAttachmentSource> {
+  private final TypeAdapter<V1PersistentVolumeSpec> v1PersistentVolumeSpecAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V1beta1VolumeAttachmentSourceTypeAdapter(Gson gson) {
+    this.v1PersistentVolumeSpecAdapter = gson.getAdapter(V1PersistentVolumeSpec.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V1beta1VolumeAttachmentSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("inlineVolumeSpec");
+    v1PersistentVolumeSpecAdapter.write(out, value.getInlineVolumeSpec());
+    out.name("persistentVolumeName");
+    stringAdapter.write(out, value.getPersistentVolumeName());
+    out.endObject();
+  }
+
+  @Override
+  public V1beta1VolumeAttachmentSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V1beta1VolumeAttachmentSource value = new V1beta1VolumeAttachmentSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "inlineVolumeSpec":
+          value.setInlineVolumeSpec(v1PersistentVolumeSpecAdapter.read(in));
+          break;
+        case "persistentVolumeName":
+          value.setPersistentVolumeName(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
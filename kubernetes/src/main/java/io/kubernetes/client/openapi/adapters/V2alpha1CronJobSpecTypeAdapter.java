@@ -0,0 +1,103 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2alpha1CronJobSpec;
+import io.kubernetes.client.openapi.models.V2alpha1JobTemplateSpec;
+import java.io.IOException;
+
+/** Reads and writes {@link V2alpha1CronJobSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2alpha1CronJobSpecTypeAdapter extends TypeAdapter<V2alpha1CronJobSpec> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<V2alpha1JobTemplateSpec> v2alpha1JobTemplateSpecAdapter;
+  private final TypeAdapter<Long> longAdapter;
+  private final TypeAdapter<Boolean> booleanAdapter;
+
+  public V2alpha1CronJobSpecTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.v2alpha1JobTemplateSpecAdapter = gson.getAdapter(V2alpha1JobTemplateSpec.class);
+    this.longAdapter = gson.getAdapter(Long.class);
+    this.booleanAdapter = gson.getAdapter(Boolean.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2alpha1CronJobSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("concurrencyPolicy");
+    stringAdapter.write(out, value.getConcurrencyPolicy());
+    out.name("failedJobsHistoryLimit");
+    integerAdapter.write(out, value.getFailedJobsHistoryLimit());
+    out.name("jobTemplate");
+    v2alpha1JobTemplateSpecAdapter.write(out, value.getJobTemplate());
+    out.name("schedule");
+    stringAdapter.write(out, value.getSchedule());
+    out.name("startingDeadlineSeconds");
+    longAdapter.write(out, value.getStartingDeadlineSeconds());
+    out.name("successfulJobsHistoryLimit");
+    integerAdapter.write(out, value.getSuccessfulJobsHistoryLimit());
+    out.name("suspend");
+    booleanAdapter.write(out, value.getSuspend());
+    out.endObject();
+  }
+
+  @Override
+  public V2alpha1CronJobSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2alpha1CronJobSpec value = new V2alpha1CronJobSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "concurrencyPolicy":
+          value.setConcurrencyPolicy(stringAdapter.read(in));
+          break;
+        case "failedJobsHistoryLimit":
+          value.setFailedJobsHistoryLimit(integerAdapter.read(in));
+          break;
+        case "jobTemplate":
+          value.setJobTemplate(v2alpha1JobTemplateSpecAdapter.read(in));
+          break;
+        case "schedule":
+          value.setSchedule(stringAdapter.read(in));
+          break;
+        case "startingDeadlineSeconds":
+          value.setStartingDeadlineSeconds(longAdapter.read(in));
+          break;
+        case "successfulJobsHistoryLimit":
+          value.setSuccessfulJobsHistoryLimit(integerAdapter.read(in));
+          break;
+        case "suspend":
+          value.setSuspend(booleanAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V2beta1ExternalMetricSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta1ExternalMetricSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta1ExternalMetricSourceTypeAdapter
+    extends TypeAdapter<V2beta1ExternalMetricSource> {
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<Quantity> quantityAdapter;
+
+  public V2beta1ExternalMetricSourceTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.quantityAdapter = gson.getAdapter(Quantity.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta1ExternalMetricSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("metricName");
+    stringAdapter.write(out, value.getMetricName());
+    out.name("metricSelector");
+    v1LabelSelectorAdapter.write(out, value.getMetricSelector());
+    out.name("targetAverageValue");
+    quantityAdapter.write(out, value.getTargetAverageValue());
+    out.name("targetValue");
+    quantityAdapter.write(out, value.getTargetValue());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta1ExternalMetricSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta1ExternalMetricSource value = new V2beta1ExternalMetricSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "metricName":
+          value.setMetricName(stringAdapter.read(in));
+          break;
+        case "metricSelector":
+          value.setMetricSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "targetAverageValue":
+          value.setTargetAverageValue(quantityAdapter.read(in));
+          break;
+        case "targetValue":
+          value.setTargetValue(quantityAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V2beta1ExternalMetricStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta1ExternalMetricStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta1ExternalMetricStatusTypeAdapter
+    extends TypeAdapter<V2beta1ExternalMetricStatus> {
+  private final TypeAdapter<Quantity> quantityAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+
+  public V2beta1ExternalMetricStatusTypeAdapter(Gson gson) {
+    this.quantityAdapter = gson.getAdapter(Quantity.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta1ExternalMetricStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("currentAverageValue");
+    quantityAdapter.write(out, value.getCurrentAverageValue());
+    out.name("currentValue");
+    quantityAdapter.write(out, value.getCurrentValue());
+    out.name("metricName");
+    stringAdapter.write(out, value.getMetricName());
+    out.name("metricSelector");
+    v1LabelSelectorAdapter.write(out, value.getMetricSelector());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta1ExternalMetricStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta1ExternalMetricStatus value = new V2beta1ExternalMetricStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "currentAverageValue":
+          value.setCurrentAverageValue(quantityAdapter.read(in));
+          break;
+        case "currentValue":
+          value.setCurrentValue(quantityAdapter.read(in));
+          break;
+        case "metricName":
+          value.setMetricName(stringAdapter.read(in));
+          break;
+        case "metricSelector":
+          value.setMetricSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta1ExternalMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1MetricSpec;
+import io.kubernetes.client.openapi.models.V2beta1ObjectMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1PodsMetricSource;
+import io.kubernetes.client.openapi.models.V2beta1ResourceMetricSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta1MetricSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta1MetricSpecTypeAdapter extends TypeAdapter<V2beta1MetricSpec> {
+  private final TypeAdapter<V2beta1ExternalMetricSource> v2beta1ExternalMetricSourceAdapter;
+  private final TypeAdapter<V2beta1ObjectMetricSource> v2beta1ObjectMetricSourceAdapter;
+  private final TypeAdapter<V2beta1PodsMetricSource> v2beta1PodsMetricSourceAdapter;
+  private final TypeAdapter<V2beta1ResourceMetricSource> v2beta1ResourceMetricSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V2beta1MetricSpecTypeAdapter(Gson gson) {
+    this.v2beta1ExternalMetricSourceAdapter = gson.getAdapter(V2beta1ExternalMetricSource.class);
+    this.v2beta1ObjectMetricSourceAdapter = gson.getAdapter(V2beta1ObjectMetricSource.class);
+    this.v2beta1PodsMetricSourceAdapter = gson.getAdapter(V2beta1PodsMetricSource.class);
+    this.v2beta1ResourceMetricSourceAdapter = gson.getAdapter(V2beta1ResourceMetricSource.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta1MetricSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("external");
+    v2beta1ExternalMetricSourceAdapter.write(out, value.getExternal());
+    out.name("object");
+    v2beta1ObjectMetricSourceAdapter.write(out, value.getObject());
+    out.name("pods");
+    v2beta1PodsMetricSourceAdapter.write(out, value.getPods());
+    out.name("resource");
+    v2beta1ResourceMetricSourceAdapter.write(out, value.getResource());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta1MetricSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta1MetricSpec value = new V2beta1MetricSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "external":
+          value.setExternal(v2beta1ExternalMetricSourceAdapter.read(in));
+          break;
+        case "object":
+          value.setObject(v2beta1ObjectMetricSourceAdapter.read(in));
+          break;
+        case "pods":
+          value.setPods(v2beta1PodsMetricSourceAdapter.read(in));
+          break;
+        case "resource":
+          value.setResource(v2beta1ResourceMetricSourceAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
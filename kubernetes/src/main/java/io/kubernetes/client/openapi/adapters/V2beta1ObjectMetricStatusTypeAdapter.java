@@ -0,0 +1,95 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V2beta1CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V2beta1ObjectMetricStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta1ObjectMetricStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta1ObjectMetricStatusTypeAdapter extends TypeAdapter<V2beta1ObjectMetricStatus> {
+  private final TypeAdapter<Quantity> quantityAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<V1LabelSelector> v1LabelSelectorAdapter;
+  private final TypeAdapter<V2beta1CrossVersionObjectReference>
+      v2beta1CrossVersionObjectReferenceAdapter;
+
+  public V2beta1ObjectMetricStatusTypeAdapter(Gson gson) {
+    this.quantityAdapter = gson.getAdapter(Quantity.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.v1LabelSelectorAdapter = gson.getAdapter(V1LabelSelector.class);
+    this.v2beta1CrossVersionObjectReferenceAdapter =
+        gson.getAdapter(V2beta1CrossVersionObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta1ObjectMetricStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("averageValue");
+    quantityAdapter.write(out, value.getAverageValue());
+    out.name("currentValue");
+    quantityAdapter.write(out, value.getCurrentValue());
+    out.name("metricName");
+    stringAdapter.write(out, value.getMetricName());
+    out.name("selector");
+    v1LabelSelectorAdapter.write(out, value.getSelector());
+    out.name("target");
+    v2beta1CrossVersionObjectReferenceAdapter.write(out, value.getTarget());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta1ObjectMetricStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta1ObjectMetricStatus value = new V2beta1ObjectMetricStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "averageValue":
+          value.setAverageValue(quantityAdapter.read(in));
+          break;
+        case "currentValue":
+          value.setCurrentValue(quantityAdapter.read(in));
+          break;
+        case "metricName":
+          value.setMetricName(stringAdapter.read(in));
+          break;
+        case "selector":
+          value.setSelector(v1LabelSelectorAdapter.read(in));
+          break;
+        case "target":
+          value.setTarget(v2beta1CrossVersionObjectReferenceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
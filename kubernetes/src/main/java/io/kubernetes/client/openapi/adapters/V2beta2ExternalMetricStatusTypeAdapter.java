@@ -0,0 +1,74 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2ExternalMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2MetricIdentifier;
+import io.kubernetes.client.openapi.models.V2beta2MetricValueStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta2ExternalMetricStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2ExternalMetricStatusTypeAdapter
+    extends TypeAdapter<V2beta2ExternalMetricStatus> {
+  private final TypeAdapter<V2beta2MetricValueStatus> v2beta2MetricValueStatusAdapter;
+  private final TypeAdapter<V2beta2MetricIdentifier> v2beta2MetricIdentifierAdapter;
+
+  public V2beta2ExternalMetricStatusTypeAdapter(Gson gson) {
+    this.v2beta2MetricValueStatusAdapter = gson.getAdapter(V2beta2MetricValueStatus.class);
+    this.v2beta2MetricIdentifierAdapter = gson.getAdapter(V2beta2MetricIdentifier.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2ExternalMetricStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("current");
+    v2beta2MetricValueStatusAdapter.write(out, value.getCurrent());
+    out.name("metric");
+    v2beta2MetricIdentifierAdapter.write(out, value.getMetric());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2ExternalMetricStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2ExternalMetricStatus value = new V2beta2ExternalMetricStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "current":
+          value.setCurrent(v2beta2MetricValueStatusAdapter.read(in));
+          break;
+        case "metric":
+          value.setMetric(v2beta2MetricIdentifierAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
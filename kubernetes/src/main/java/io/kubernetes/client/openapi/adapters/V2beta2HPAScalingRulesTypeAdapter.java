@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2HPAScalingPolicy;
+import io.kubernetes.client.openapi.models.V2beta2HPAScalingRules;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V2beta2HPAScalingRules} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2HPAScalingRulesTypeAdapter extends TypeAdapter<V2beta2HPAScalingRules> {
+  private final TypeAdapter<List<V2beta2HPAScalingPolicy>> listV2beta2HPAScalingPolicyAdapter;
+  private final TypeAdapter<String> stringAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V2beta2HPAScalingRulesTypeAdapter(Gson gson) {
+    this.listV2beta2HPAScalingPolicyAdapter =
+        (TypeAdapter<List<V2beta2HPAScalingPolicy>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V2beta2HPAScalingPolicy.class));
+    this.stringAdapter = gson.getAdapter(String.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2HPAScalingRules value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("policies");
+    listV2beta2HPAScalingPolicyAdapter.write(out, value.getPolicies());
+    out.name("selectPolicy");
+    stringAdapter.write(out, value.getSelectPolicy());
+    out.name("stabilizationWindowSeconds");
+    integerAdapter.write(out, value.getStabilizationWindowSeconds());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2HPAScalingRules read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2HPAScalingRules value = new V2beta2HPAScalingRules();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "policies":
+          value.setPolicies(listV2beta2HPAScalingPolicyAdapter.read(in));
+          break;
+        case "selectPolicy":
+          value.setSelectPolicy(stringAdapter.read(in));
+          break;
+        case "stabilizationWindowSeconds":
+          value.setStabilizationWindowSeconds(integerAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
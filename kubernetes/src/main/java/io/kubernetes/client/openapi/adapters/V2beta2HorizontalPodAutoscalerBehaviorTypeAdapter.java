@@ -0,0 +1,72 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2HPAScalingRules;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerBehavior;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta2HorizontalPodAutoscalerBehavior} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2HorizontalPodAutoscalerBehaviorTypeAdapter
+    extends TypeAdapter<V2beta2HorizontalPodAutoscalerBehavior> {
+  private final TypeAdapter<V2beta2HPAScalingRules> v2beta2HPAScalingRulesAdapter;
+
+  public V2beta2HorizontalPodAutoscalerBehaviorTypeAdapter(Gson gson) {
+    this.v2beta2HPAScalingRulesAdapter = gson.getAdapter(V2beta2HPAScalingRules.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2HorizontalPodAutoscalerBehavior value)
+      throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("scaleDown");
+    v2beta2HPAScalingRulesAdapter.write(out, value.getScaleDown());
+    out.name("scaleUp");
+    v2beta2HPAScalingRulesAdapter.write(out, value.getScaleUp());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2HorizontalPodAutoscalerBehavior read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2HorizontalPodAutoscalerBehavior value = new V2beta2HorizontalPodAutoscalerBehavior();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "scaleDown":
+          value.setScaleDown(v2beta2HPAScalingRulesAdapter.read(in));
+          break;
+        case "scaleUp":
+          value.setScaleUp(v2beta2HPAScalingRulesAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
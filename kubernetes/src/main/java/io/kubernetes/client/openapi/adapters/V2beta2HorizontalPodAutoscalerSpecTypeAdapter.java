@@ -0,0 +1,103 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerBehavior;
+import io.kubernetes.client.openapi.models.V2beta2HorizontalPodAutoscalerSpec;
+import io.kubernetes.client.openapi.models.V2beta2MetricSpec;
+import java.io.IOException;
+import java.util.List;
+
+/** Reads and writes {@link V2beta2HorizontalPodAutoscalerSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2HorizontalPodAutoscalerSpecTypeAdapter
+    extends TypeAdapter<V2beta2HorizontalPodAutoscalerSpec> {
+  private final TypeAdapter<V2beta2HorizontalPodAutoscalerBehavior>
+      v2beta2HorizontalPodAutoscalerBehaviorAdapter;
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<List<V2beta2MetricSpec>> listV2beta2MetricSpecAdapter;
+  private final TypeAdapter<V2beta2CrossVersionObjectReference>
+      v2beta2CrossVersionObjectReferenceAdapter;
+
+  @SuppressWarnings("unchecked")
+  public V2beta2HorizontalPodAutoscalerSpecTypeAdapter(Gson gson) {
+    this.v2beta2HorizontalPodAutoscalerBehaviorAdapter =
+        gson.getAdapter(V2beta2HorizontalPodAutoscalerBehavior.class);
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.listV2beta2MetricSpecAdapter =
+        (TypeAdapter<List<V2beta2MetricSpec>>)
+            gson.getAdapter(TypeToken.getParameterized(List.class, V2beta2MetricSpec.class));
+    this.v2beta2CrossVersionObjectReferenceAdapter =
+        gson.getAdapter(V2beta2CrossVersionObjectReference.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2HorizontalPodAutoscalerSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("behavior");
+    v2beta2HorizontalPodAutoscalerBehaviorAdapter.write(out, value.getBehavior());
+    out.name("maxReplicas");
+    integerAdapter.write(out, value.getMaxReplicas());
+    out.name("metrics");
+    listV2beta2MetricSpecAdapter.write(out, value.getMetrics());
+    out.name("minReplicas");
+    integerAdapter.write(out, value.getMinReplicas());
+    out.name("scaleTargetRef");
+    v2beta2CrossVersionObjectReferenceAdapter.write(out, value.getScaleTargetRef());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2HorizontalPodAutoscalerSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2HorizontalPodAutoscalerSpec value = new V2beta2HorizontalPodAutoscalerSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "behavior":
+          value.setBehavior(v2beta2HorizontalPodAutoscalerBehaviorAdapter.read(in));
+          break;
+        case "maxReplicas":
+          value.setMaxReplicas(integerAdapter.read(in));
+          break;
+        case "metrics":
+          value.setMetrics(listV2beta2MetricSpecAdapter.read(in));
+          break;
+        case "minReplicas":
+          value.setMinReplicas(integerAdapter.read(in));
+          break;
+        case "scaleTargetRef":
+          value.setScaleTargetRef(v2beta2CrossVersionObjectReferenceAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
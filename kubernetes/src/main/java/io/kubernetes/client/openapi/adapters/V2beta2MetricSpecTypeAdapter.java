@@ -0,0 +1,96 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2ExternalMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2MetricSpec;
+import io.kubernetes.client.openapi.models.V2beta2ObjectMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2PodsMetricSource;
+import io.kubernetes.client.openapi.models.V2beta2ResourceMetricSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta2MetricSpec} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2MetricSpecTypeAdapter extends TypeAdapter<V2beta2MetricSpec> {
+  private final TypeAdapter<V2beta2ExternalMetricSource> v2beta2ExternalMetricSourceAdapter;
+  private final TypeAdapter<V2beta2ObjectMetricSource> v2beta2ObjectMetricSourceAdapter;
+  private final TypeAdapter<V2beta2PodsMetricSource> v2beta2PodsMetricSourceAdapter;
+  private final TypeAdapter<V2beta2ResourceMetricSource> v2beta2ResourceMetricSourceAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V2beta2MetricSpecTypeAdapter(Gson gson) {
+    this.v2beta2ExternalMetricSourceAdapter = gson.getAdapter(V2beta2ExternalMetricSource.class);
+    this.v2beta2ObjectMetricSourceAdapter = gson.getAdapter(V2beta2ObjectMetricSource.class);
+    this.v2beta2PodsMetricSourceAdapter = gson.getAdapter(V2beta2PodsMetricSource.class);
+    this.v2beta2ResourceMetricSourceAdapter = gson.getAdapter(V2beta2ResourceMetricSource.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2MetricSpec value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("external");
+    v2beta2ExternalMetricSourceAdapter.write(out, value.getExternal());
+    out.name("object");
+    v2beta2ObjectMetricSourceAdapter.write(out, value.getObject());
+    out.name("pods");
+    v2beta2PodsMetricSourceAdapter.write(out, value.getPods());
+    out.name("resource");
+    v2beta2ResourceMetricSourceAdapter.write(out, value.getResource());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2MetricSpec read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2MetricSpec value = new V2beta2MetricSpec();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "external":
+          value.setExternal(v2beta2ExternalMetricSourceAdapter.read(in));
+          break;
+        case "object":
+          value.setObject(v2beta2ObjectMetricSourceAdapter.read(in));
+          break;
+        case "pods":
+          value.setPods(v2beta2PodsMetricSourceAdapter.read(in));
+          break;
+        case "resource":
+          value.setResource(v2beta2ResourceMetricSourceAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2ExternalMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2MetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2ObjectMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2PodsMetricStatus;
+import io.kubernetes.client.openapi.models.V2beta2ResourceMetricStatus;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta2MetricStatus} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2MetricStatusTypeAdapter extends TypeAdapter<V2beta2MetricStatus> {
+  private final TypeAdapter<V2beta2ExternalMetricStatus> v2beta2ExternalMetricStatusAdapter;
+  private final TypeAdapter<V2beta2ObjectMetricStatus> v2beta2ObjectMetricStatusAdapter;
+  private final TypeAdapter<V2beta2PodsMetricStatus> v2beta2PodsMetricStatusAdapter;
+  private final TypeAdapter<V2beta2ResourceMetricStatus> v2beta2ResourceMetricStatusAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V2beta2MetricStatusTypeAdapter(Gson gson) {
+    this.v2beta2ExternalMetricStatusAdapter = gson.getAdapter(V2beta2ExternalMetricStatus.class);
+    this.v2beta2ObjectMetricStatusAdapter = gson.getAdapter(V2beta2ObjectMetricStatus.class);
+    this.v2beta2PodsMetricStatusAdapter = gson.getAdapter(V2beta2PodsMetricStatus.class);
+    this.v2beta2ResourceMetricStatusAdapter = gson.getAdapter(V2beta2ResourceMetricStatus.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2MetricStatus value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("external");
+    v2beta2ExternalMetricStatusAdapter.write(out, value.getExternal());
+    out.name("object");
+    v2beta2ObjectMetricStatusAdapter.write(out, value.getObject());
+    out.name("pods");
+    v2beta2PodsMetricStatusAdapter.write(out, value.getPods());
+    out.name("resource");
+    v2beta2ResourceMetricStatusAdapter.write(out, value.getResource());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2MetricStatus read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2MetricStatus value = new V2beta2MetricStatus();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "external":
+          value.setExternal(v2beta2ExternalMetricStatusAdapter.read(in));
+          break;
+        case "object":
+          value.setObject(v2beta2ObjectMetricStatusAdapter.read(in));
+          break;
+        case "pods":
+          value.setPods(v2beta2PodsMetricStatusAdapter.read(in));
+          break;
+        case "resource":
+          value.setResource(v2beta2ResourceMetricStatusAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
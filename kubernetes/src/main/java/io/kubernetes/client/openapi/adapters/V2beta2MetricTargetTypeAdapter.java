@@ -0,0 +1,84 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V2beta2MetricTarget;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta2MetricTarget} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2MetricTargetTypeAdapter extends TypeAdapter<V2beta2MetricTarget> {
+  private final TypeAdapter<Integer> integerAdapter;
+  private final TypeAdapter<Quantity> quantityAdapter;
+  private final TypeAdapter<String> stringAdapter;
+
+  public V2beta2MetricTargetTypeAdapter(Gson gson) {
+    this.integerAdapter = gson.getAdapter(Integer.class);
+    this.quantityAdapter = gson.getAdapter(Quantity.class);
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2MetricTarget value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("averageUtilization");
+    integerAdapter.write(out, value.getAverageUtilization());
+    out.name("averageValue");
+    quantityAdapter.write(out, value.getAverageValue());
+    out.name("type");
+    stringAdapter.write(out, value.getType());
+    out.name("value");
+    quantityAdapter.write(out, value.getValue());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2MetricTarget read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2MetricTarget value = new V2beta2MetricTarget();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "averageUtilization":
+          value.setAverageUtilization(integerAdapter.read(in));
+          break;
+        case "averageValue":
+          value.setAverageValue(quantityAdapter.read(in));
+          break;
+        case "type":
+          value.setType(stringAdapter.read(in));
+          break;
+        case "value":
+          value.setValue(quantityAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.V2beta2CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V2beta2MetricIdentifier;
+import io.kubernetes.client.openapi.models.V2beta2MetricTarget;
+import io.kubernetes.client.openapi.models.V2beta2ObjectMetricSource;
+import java.io.IOException;
+
+/** Reads and writes {@link V2beta2ObjectMetricSource} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class V2beta2ObjectMetricSourceTypeAdapter extends TypeAdapter<V2beta2ObjectMetricSource> {
+  private final TypeAdapter<V2beta2CrossVersionObjectReference>
+      v2beta2CrossVersionObjectReferenceAdapter;
+  private final TypeAdapter<V2beta2MetricIdentifier> v2beta2MetricIdentifierAdapter;
+  private final TypeAdapter<V2beta2MetricTarget> v2beta2MetricTargetAdapter;
+
+  public V2beta2ObjectMetricSourceTypeAdapter(Gson gson) {
+    this.v2beta2CrossVersionObjectReferenceAdapter =
+        gson.getAdapter(V2beta2CrossVersionObjectReference.class);
+    this.v2beta2MetricIdentifierAdapter = gson.getAdapter(V2beta2MetricIdentifier.class);
+    this.v2beta2MetricTargetAdapter = gson.getAdapter(V2beta2MetricTarget.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, V2beta2ObjectMetricSource value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("describedObject");
+    v2beta2CrossVersionObjectReferenceAdapter.write(out, value.getDescribedObject());
+    out.name("metric");
+    v2beta2MetricIdentifierAdapter.write(out, value.getMetric());
+    out.name("target");
+    v2beta2MetricTargetAdapter.write(out, value.getTarget());
+    out.endObject();
+  }
+
+  @Override
+  public V2beta2ObjectMetricSource read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    V2beta2ObjectMetricSource value = new V2beta2ObjectMetricSource();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "describedObject":
+          value.setDescribedObject(v2beta2CrossVersionObjectReferenceAdapter.read(in));
+          break;
+        case "metric":
+          value.setMetric(v2beta2MetricIdentifierAdapter.read(in));
+          break;
+        case "target":
+          value.setTarget(v2beta2MetricTargetAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
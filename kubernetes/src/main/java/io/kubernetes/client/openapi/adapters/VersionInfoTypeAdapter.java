@@ -0,0 +1,104 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.models.VersionInfo;
+import java.io.IOException;
+
+/** Reads and writes {@link VersionInfo} w/o reflection. */
+@javax.annotation.Generated(value = "ModelTypeAdaptersGenerator")
+public class VersionInfoTypeAdapter extends TypeAdapter<VersionInfo> {
+  private final TypeAdapter<String> stringAdapter;
+
+  public VersionInfoTypeAdapter(Gson gson) {
+    this.stringAdapter = gson.getAdapter(String.class);
+  }
+
+  @Override
+  public void write(JsonWriter out, VersionInfo value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("buildDate");
+    stringAdapter.write(out, value.getBuildDate());
+    out.name("compiler");
+    stringAdapter.write(out, value.getCompiler());
+    out.name("gitCommit");
+    stringAdapter.write(out, value.getGitCommit());
+    out.name("gitTreeState");
+    stringAdapter.write(out, value.getGitTreeState());
+    out.name("gitVersion");
+    stringAdapter.write(out, value.getGitVersion());
+    out.name("goVersion");
+    stringAdapter.write(out, value.getGoVersion());
+    out.name("major");
+    stringAdapter.write(out, value.getMajor());
+    out.name("minor");
+    stringAdapter.write(out, value.getMinor());
+    out.name("platform");
+    stringAdapter.write(out, value.getPlatform());
+    out.endObject();
+  }
+
+  @Override
+  public VersionInfo read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    VersionInfo value = new VersionInfo();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "buildDate":
+          value.setBuildDate(stringAdapter.read(in));
+          break;
+        case "compiler":
+          value.setCompiler(stringAdapter.read(in));
+          break;
+        case "gitCommit":
+          value.setGitCommit(stringAdapter.read(in));
+          break;
+        case "gitTreeState":
+          value.setGitTreeState(stringAdapter.read(in));
+          break;
+        case "gitVersion":
+          value.setGitVersion(stringAdapter.read(in));
+          break;
+        case "goVersion":
+          value.setGoVersion(stringAdapter.read(in));
+          break;
+        case "major":
+          value.setMajor(stringAdapter.read(in));
+          break;
+        case "minor":
+          value.setMinor(stringAdapter.read(in));
+          break;
+        case "platform":
+          value.setPlatform(stringAdapter.read(in));
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+    return value;
+  }
+}
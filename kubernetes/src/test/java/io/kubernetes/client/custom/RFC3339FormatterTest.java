@@ -0,0 +1,119 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.custom;
+
+import static org.junit.Assert.*;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.Test;
+
+public class RFC3339FormatterTest {
+
+  private static final DateTimeFormatter isoParser = ISODateTimeFormat.dateOptionalTimeParser();
+  private static final DateTimeFormatter isoPrinter = ISODateTimeFormat.dateTime();
+
+  private final RFC3339Formatter formatter = new RFC3339Formatter();
+
+  @Test
+  public void testParseLikeIsoFormatter() {
+    String[] timestamps = {
+      "2020-11-24T09:31:07Z",
+      "1970-01-01T00:00:00Z",
+      "1969-12-31T23:59:59Z",
+      "2000-02-29T12:00:00Z",
+      "0001-01-01T00:00:00Z",
+      "9999-12-31T23:59:59Z",
+      "2020-11-24T09:31:07.1Z",
+      "2020-11-24T09:31:07.123Z",
+      "2020-11-24T09:31:07.123456Z",
+      "2020-11-24T09:31:07.999999999Z",
+      "2020-11-24T09:31:07+01:00",
+      "2020-11-24T09:31:07.5-05:30",
+      "2020-01-01T00:30:00+14:00",
+    };
+    for (String timestamp : timestamps) {
+      DateTime parsed = formatter.parseDateTime(timestamp);
+      assertNotNull(timestamp, parsed);
+      assertEquals(timestamp, isoParser.parseDateTime(timestamp), parsed);
+      assertEquals(
+          timestamp, OffsetDateTime.parse(timestamp), formatter.parseOffsetDateTime(timestamp));
+    }
+  }
+
+  @Test
+  public void testParseOtherShapes() {
+    String[] timestamps = {
+      "2020-11-24",
+      "2020-11-24T09:31",
+      "2020-11-24T09:31:07",
+      "2020-11-24t09:31:07Z",
+      "2020-11-24T09:31:07z",
+      "2020-11-24T09:31:07.Z",
+      "2020-11-24T09:31:07.1234567890Z",
+      "2020-11-24T09:31:07+01",
+      "2020-11-24T09:31:07+0100",
+      "2020-11-24T09:31:07 Z",
+      "2020-13-24T09:31:07Z",
+      "2021-02-29T09:31:07Z",
+      "2020-11-24T24:00:00Z",
+      "2020-11-24T09:31:60Z",
+      "+2020-11-24T09:31:07Z",
+    };
+    for (String timestamp : timestamps) {
+      assertNull(timestamp, formatter.parseDateTime(timestamp));
+      assertNull(timestamp, formatter.parseOffsetDateTime(timestamp));
+    }
+  }
+
+  @Test
+  public void testPrintLikeIsoFormatter() {
+    DateTimeZone[] zones = {
+      DateTimeZone.UTC,
+      DateTimeZone.forID("Europe/Berlin"),
+      DateTimeZone.forID("America/St_Johns"),
+      DateTimeZone.forID("Asia/Kathmandu"),
+      DateTimeZone.forOffsetHours(-8),
+    };
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      // 0001-01-01..9999-12-31
+      long millis = -62_135_596_800_000L + (long) (random.nextDouble() * 315_537_897_599_999L);
+      for (DateTimeZone zone : zones) {
+        DateTime dateTime = new DateTime(millis, zone);
+        String printed = formatter.print(dateTime);
+        if (printed == null) {
+          // the local mean time of a zone before its standard offset, left to the formatter
+          assertNotEquals(0, zone.getOffset(millis) % 60_000);
+          continue;
+        }
+        assertEquals(isoPrinter.print(dateTime), printed);
+        assertEquals(
+            dateTime.withZone(DateTimeZone.getDefault()), formatter.parseDateTime(printed));
+      }
+    }
+  }
+
+  @Test
+  public void testPrintOtherDateTimes() {
+    assertNull(formatter.print(new DateTime(0, GregorianChronology.getInstanceUTC())));
+    assertNull(formatter.print(new DateTime(10000, 1, 1, 0, 0, DateTimeZone.UTC)));
+    assertNull(formatter.print(new DateTime(-1, 1, 1, 0, 0, DateTimeZone.UTC)));
+    assertNull(formatter.print(new DateTime(0, DateTimeZone.forOffsetMillis(1000))));
+  }
+}
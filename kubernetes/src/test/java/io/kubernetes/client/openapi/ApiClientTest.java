@@ -0,0 +1,78 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi;
+
+import static org.junit.Assert.*;
+
+import com.google.gson.JsonSyntaxException;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+
+public class ApiClientTest {
+
+  private static final String POD_LIST =
+      "{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"100\"},"
+          + "\"items\":[{\"metadata\":{\"name\":\"foo\",\"namespace\":\"default\","
+          + "\"creationTimestamp\":\"2020-01-01T00:00:00Z\"}},"
+          + "{\"metadata\":{\"name\":\"bar\",\"namespace\":\"default\"}}]}";
+
+  private static Response jsonResponse(String body) {
+    return new Response.Builder()
+        .request(new Request.Builder().url("http://localhost/api/v1/pods").build())
+        .protocol(Protocol.HTTP_1_1)
+        .code(200)
+        .message("OK")
+        .header("Content-Type", "application/json")
+        .body(ResponseBody.create(MediaType.parse("application/json"), body))
+        .build();
+  }
+
+  @Test
+  public void testStreamingDeserialization() throws ApiException {
+    ApiClient client = new ApiClient();
+    assertTrue(client.getJSON().isStreamingDeserialization());
+
+    V1PodList streamed = client.deserialize(jsonResponse(POD_LIST), V1PodList.class);
+    client.getJSON().setStreamingDeserialization(false);
+    V1PodList buffered = client.deserialize(jsonResponse(POD_LIST), V1PodList.class);
+
+    assertEquals(2, streamed.getItems().size());
+    assertEquals("100", streamed.getMetadata().getResourceVersion());
+    assertEquals(buffered, streamed);
+  }
+
+  @Test
+  public void testStreamingDeserializationEmptyBody() throws ApiException {
+    ApiClient client = new ApiClient();
+    assertNull(client.deserialize(jsonResponse(""), V1Pod.class));
+  }
+
+  @Test
+  public void testStreamingDeserializationStringType() throws ApiException {
+    ApiClient client = new ApiClient();
+    // strings are never streamed so that non-JSON bodies can still be returned as is
+    assertEquals("not json", client.deserialize(jsonResponse("not json"), String.class));
+  }
+
+  @Test(expected = JsonSyntaxException.class)
+  public void testStreamingDeserializationMalformedBody() throws ApiException {
+    ApiClient client = new ApiClient();
+    client.deserialize(jsonResponse("{\"kind\":\"PodList\",\"items\":[{]}"), V1PodList.class);
+  }
+}
@@ -15,7 +15,11 @@ package io.kubernetes.client.openapi;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import okio.ByteString;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.junit.Test;
 
 public class JSONTest {
@@ -36,4 +40,39 @@ public class JSONTest {
     final String decodedText = new String(byteStr.toByteArray());
     assertThat(decodedText, is(plainText));
   }
+
+  @Test
+  public void testDateTimeRFC3339() {
+    final JSON json = new JSON();
+    final DateTime dateTime = json.deserialize("\"2020-11-24T09:31:07Z\"", DateTime.class);
+    assertThat(
+        dateTime,
+        is(
+            new DateTime(2020, 11, 24, 9, 31, 7, DateTimeZone.UTC)
+                .toDateTime(DateTimeZone.getDefault())));
+    assertThat(
+        json.serialize(dateTime.withZone(DateTimeZone.UTC)), is("\"2020-11-24T09:31:07.000Z\""));
+  }
+
+  @Test
+  public void testDateTimeFallback() {
+    final JSON json = new JSON();
+    // not a RFC3339 timestamp, left to the ISO formatter
+    final DateTime dateTime = json.deserialize("\"2020-11-24\"", DateTime.class);
+    assertThat(dateTime, is(new DateTime(2020, 11, 24, 0, 0)));
+  }
+
+  @Test
+  public void testOffsetDateTime() {
+    final JSON json = new JSON();
+    final OffsetDateTime dateTime =
+        json.deserialize("\"2020-11-24T09:31:07.123456+01:00\"", OffsetDateTime.class);
+    assertThat(
+        dateTime, is(OffsetDateTime.of(2020, 11, 24, 9, 31, 7, 123456000, ZoneOffset.ofHours(1))));
+    assertThat(json.serialize(dateTime), is("\"2020-11-24T09:31:07.123456+01:00\""));
+    // not a RFC3339 timestamp, left to ISO_OFFSET_DATE_TIME
+    assertThat(
+        json.deserialize("\"2020-11-24T09:31+01:00\"", OffsetDateTime.class),
+        is(OffsetDateTime.of(2020, 11, 24, 9, 31, 0, 0, ZoneOffset.ofHours(1))));
+  }
 }
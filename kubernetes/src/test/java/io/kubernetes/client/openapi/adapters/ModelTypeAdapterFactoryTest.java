@@ -0,0 +1,123 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.openapi.adapters;
+
+import static org.junit.Assert.*;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Date;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class ModelTypeAdapterFactoryTest {
+
+  private final JSON generated = new JSON();
+
+  // the json of the models before the generated adapters, w/ gson's reflective adapters
+  private final JSON reflective = reflective();
+
+  private static JSON reflective() {
+    JSON json = new JSON();
+    return json.setGson(
+        JSON.createGson()
+            .registerTypeAdapter(Date.class, new JSON.DateTypeAdapter())
+            .registerTypeAdapter(java.sql.Date.class, new JSON.SqlDateTypeAdapter())
+            .registerTypeAdapter(DateTime.class, new JSON.DateTimeTypeAdapter())
+            .registerTypeAdapter(LocalDate.class, json.new LocalDateTypeAdapter())
+            .registerTypeAdapter(byte[].class, json.new ByteArrayAdapter())
+            .create());
+  }
+
+  private static String fixture(String name) throws Exception {
+    return new String(
+        Files.readAllBytes(
+            Paths.get(ModelTypeAdapterFactoryTest.class.getResource("/fixtures/" + name).toURI())),
+        StandardCharsets.UTF_8);
+  }
+
+  private void assertCompatible(String body, Class<?> type) {
+    Object decoded = generated.deserialize(body, type);
+    Object expected = reflective.deserialize(body, type);
+    assertEquals(expected, decoded);
+    assertEquals(reflective.serialize(expected), generated.serialize(decoded));
+    // round trips
+    assertEquals(decoded, generated.deserialize(generated.serialize(decoded), type));
+  }
+
+  @Test
+  public void testAdaptersRegistered() {
+    assertTrue(generated.getGson().getAdapter(V1Pod.class) instanceof V1PodTypeAdapter);
+    assertTrue(
+        generated.getGson().getAdapter(V1ObjectMeta.class) instanceof V1ObjectMetaTypeAdapter);
+    assertFalse(reflective.getGson().getAdapter(V1Pod.class) instanceof V1PodTypeAdapter);
+  }
+
+  @Test
+  public void testPodCompatible() throws Exception {
+    assertCompatible(fixture("pod.json"), V1Pod.class);
+  }
+
+  @Test
+  public void testDeploymentCompatible() throws Exception {
+    assertCompatible(fixture("deployment.json"), V1Deployment.class);
+  }
+
+  @Test
+  public void testCustomResourceDefinitionCompatible() throws Exception {
+    assertCompatible(fixture("crd.json"), V1CustomResourceDefinition.class);
+  }
+
+  @Test
+  public void testPodListCompatible() throws Exception {
+    String pod = fixture("pod.json");
+    assertCompatible(
+        "{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"1\"},"
+            + "\"items\":["
+            + pod
+            + ","
+            + pod
+            + "]}",
+        V1PodList.class);
+  }
+
+  @Test
+  public void testUnknownFieldsAndNulls() {
+    V1Pod pod =
+        generated.deserialize(
+            "{\"kind\":\"Pod\",\"unknown\":{\"a\":[1,2,{\"b\":null}]},"
+                + "\"metadata\":{\"name\":\"foo\",\"namespace\":null,\"labels\":{\"a\":\"b\"}},"
+                + "\"spec\":null}",
+            V1Pod.class);
+    assertEquals("Pod", pod.getKind());
+    assertEquals("foo", pod.getMetadata().getName());
+    assertNull(pod.getMetadata().getNamespace());
+    assertEquals(Collections.singletonMap("a", "b"), pod.getMetadata().getLabels());
+    assertNull(pod.getSpec());
+    // nulls are left out like the reflective adapters do
+    assertEquals(
+        "{\"kind\":\"Pod\",\"metadata\":{\"labels\":{\"a\":\"b\"},\"name\":\"foo\"}}",
+        generated.serialize(pod));
+    assertEquals(reflective.serialize(pod), generated.serialize(pod));
+    assertNull(generated.deserialize("null", V1Pod.class));
+  }
+}
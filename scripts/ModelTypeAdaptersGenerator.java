@@ -0,0 +1,426 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates a Gson TypeAdapter for each of the generated models, which reads and writes the fields
+ * of the model through its getters and setters instead of reflection, and the TypeAdapterFactory
+ * registering them. The adapters read and write exactly the json Gson's reflective adapters do:
+ * the fields are written in the order they're declared, and the unknown fields are skipped.
+ *
+ * <p>The models are parsed from their sources, so that the adapters can be regenerated before the
+ * models compile. Run by update-client.sh after the models are generated:
+ *
+ * <pre>
+ * javac -d out scripts/ModelTypeAdaptersGenerator.java
+ * java -cp out ModelTypeAdaptersGenerator kubernetes/src/main/java
+ * </pre>
+ */
+public class ModelTypeAdaptersGenerator {
+
+  private static final String MODELS_PACKAGE = "io.kubernetes.client.openapi.models";
+  private static final String ADAPTERS_PACKAGE = "io.kubernetes.client.openapi.adapters";
+
+  private static final String LICENSE =
+      "/*\n"
+          + "Copyright 2020 The Kubernetes Authors.\n"
+          + "Licensed under the Apache License, Version 2.0 (the \"License\");\n"
+          + "you may not use this file except in compliance with the License.\n"
+          + "You may obtain a copy of the License at\n"
+          + "http://www.apache.org/licenses/LICENSE-2.0\n"
+          + "Unless required by applicable law or agreed to in writing, software\n"
+          + "distributed under the License is distributed on an \"AS IS\" BASIS,\n"
+          + "WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n"
+          + "See the License for the specific language governing permissions and\n"
+          + "limitations under the License.\n"
+          + "*/\n";
+
+  // the imports of the types of the fields which aren't models or java.lang
+  private static final Map<String, String> IMPORTS = new HashMap<>();
+
+  static {
+    IMPORTS.put("List", "java.util.List");
+    IMPORTS.put("Map", "java.util.Map");
+    IMPORTS.put("DateTime", "org.joda.time.DateTime");
+    IMPORTS.put("OffsetDateTime", "java.time.OffsetDateTime");
+    IMPORTS.put("IntOrString", "io.kubernetes.client.custom.IntOrString");
+    IMPORTS.put("Quantity", "io.kubernetes.client.custom.Quantity");
+  }
+
+  private static final List<String> JAVA_LANG =
+      Arrays.asList("String", "Boolean", "Integer", "Long", "Double", "Object", "byte");
+
+  private static final Pattern CLASS = Pattern.compile("\\npublic class (\\w+)[\\w\\s.,]* \\{");
+  private static final Pattern SERIALIZED_NAME =
+      Pattern.compile("public static final String (SERIALIZED_NAME_\\w+) =\\s*\"([^\"]*)\";");
+  private static final Pattern FIELD =
+      Pattern.compile(
+          "@SerializedName\\((SERIALIZED_NAME_\\w+)\\)\\s+private ([\\w<>, \\[\\]]+?) ([\\w$]+)\\s*[=;]");
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: ModelTypeAdaptersGenerator <source root>");
+      System.exit(1);
+    }
+    Path root = Paths.get(args[0]);
+    Path modelsDir = root.resolve(MODELS_PACKAGE.replace('.', '/'));
+    Path adaptersDir = root.resolve(ADAPTERS_PACKAGE.replace('.', '/'));
+
+    Map<String, String> sources = new TreeMap<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(modelsDir, "*.java")) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        sources.put(
+            name.substring(0, name.length() - ".java".length()),
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+      }
+    }
+
+    // removes the adapters of the models which are gone
+    Files.createDirectories(adaptersDir);
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(adaptersDir, "*.java")) {
+      for (Path file : files) {
+        Files.delete(file);
+      }
+    }
+
+    List<String> models = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Matcher classMatcher = CLASS.matcher(source.getValue());
+      if (!classMatcher.find() || !classMatcher.group(1).equals(source.getKey())) {
+        // not a plain model, keeps using the reflective adapter
+        System.err.println("Skipping " + source.getKey());
+        continue;
+      }
+      Model model = parse(source.getKey(), source.getValue());
+      write(
+          adaptersDir.resolve(model.name + "TypeAdapter.java"),
+          generateAdapter(model, sources.keySet()));
+      models.add(model.name);
+    }
+    write(adaptersDir.resolve("ModelTypeAdapterFactory.java"), generateFactory(models));
+    System.out.println("Generated the type adapters of " + models.size() + " models");
+  }
+
+  private static Model parse(String name, String source) {
+    Map<String, String> serializedNames = new HashMap<>();
+    Matcher nameMatcher = SERIALIZED_NAME.matcher(source);
+    while (nameMatcher.find()) {
+      serializedNames.put(nameMatcher.group(1), nameMatcher.group(2));
+    }
+    Model model = new Model(name);
+    Matcher fieldMatcher = FIELD.matcher(source);
+    while (fieldMatcher.find()) {
+      String serializedName = serializedNames.get(fieldMatcher.group(1));
+      String type = fieldMatcher.group(2).trim();
+      String field = fieldMatcher.group(3);
+      if (serializedName == null) {
+        throw new IllegalStateException("No serialized name of " + name + "." + field);
+      }
+      model.fields.add(
+          new Field(
+              serializedName,
+              type,
+              accessor(
+                  source,
+                  name,
+                  field,
+                  "public " + Pattern.quote(type) + "\\s+([\\w$]+)\\(\\)\\s*\\{\\s*return\\s+"
+                      + Pattern.quote(field)
+                      + ";"),
+              accessor(
+                  source,
+                  name,
+                  field,
+                  "public void ([\\w$]+)\\(\\s*"
+                      + Pattern.quote(type)
+                      + "\\s+"
+                      + Pattern.quote(field)
+                      + "\\s*\\)")));
+    }
+    return model;
+  }
+
+  // finds the name of the getter or setter of the field by its signature.
+  private static String accessor(String source, String model, String field, String signature) {
+    Matcher matcher = Pattern.compile(signature).matcher(source);
+    if (!matcher.find()) {
+      throw new IllegalStateException("No accessor of " + model + "." + field + ": " + signature);
+    }
+    return matcher.group(1);
+  }
+
+  private static String generateAdapter(Model model, Set<String> models) {
+    // an adapter for each distinct type of the fields, in the order of the fields
+    Map<String, String> adapters = new LinkedHashMap<>();
+    TreeSet<String> imports = new TreeSet<>();
+    imports.add("com.google.gson.Gson");
+    imports.add("com.google.gson.TypeAdapter");
+    imports.add("com.google.gson.stream.JsonReader");
+    imports.add("com.google.gson.stream.JsonToken");
+    imports.add("com.google.gson.stream.JsonWriter");
+    imports.add("java.io.IOException");
+    imports.add(MODELS_PACKAGE + "." + model.name);
+    boolean parameterized = false;
+    for (Field field : model.fields) {
+      if (!adapters.containsKey(field.type)) {
+        adapters.put(field.type, adapterName(field.type, adapters.values()));
+      }
+      for (String token : field.type.split("[^\\w$]+")) {
+        if (token.isEmpty() || JAVA_LANG.contains(token)) {
+          continue;
+        }
+        if (models.contains(token)) {
+          imports.add(MODELS_PACKAGE + "." + token);
+        } else if (IMPORTS.containsKey(token)) {
+          imports.add(IMPORTS.get(token));
+        } else {
+          throw new IllegalStateException("Unknown type " + token + " of " + model.name);
+        }
+      }
+      parameterized |= field.type.contains("<");
+    }
+    if (parameterized) {
+      imports.add("com.google.gson.reflect.TypeToken");
+    }
+
+    StringBuilder out = new StringBuilder(LICENSE);
+    out.append("package ").append(ADAPTERS_PACKAGE).append(";\n\n");
+    for (String i : imports) {
+      out.append("import ").append(i).append(";\n");
+    }
+    out.append("\n/** Reads and writes {@link ").append(model.name).append("} w/o reflection. */\n");
+    out.append("@javax.annotation.Generated(value = \"ModelTypeAdaptersGenerator\")\n");
+    out.append("public class ")
+        .append(model.name)
+        .append("TypeAdapter extends TypeAdapter<")
+        .append(model.name)
+        .append("> {\n");
+    for (Map.Entry<String, String> adapter : adapters.entrySet()) {
+      out.append("  private final TypeAdapter<")
+          .append(adapter.getKey())
+          .append("> ")
+          .append(adapter.getValue())
+          .append(";\n");
+    }
+    out.append("\n");
+    if (parameterized) {
+      out.append("  @SuppressWarnings(\"unchecked\")\n");
+    }
+    out.append("  public ").append(model.name).append("TypeAdapter(Gson gson) {\n");
+    for (Map.Entry<String, String> adapter : adapters.entrySet()) {
+      out.append("    this.").append(adapter.getValue()).append(" = ");
+      if (adapter.getKey().contains("<")) {
+        out.append("(TypeAdapter<")
+            .append(adapter.getKey())
+            .append(">) gson.getAdapter(")
+            .append(typeToken(adapter.getKey()))
+            .append(");\n");
+      } else {
+        out.append("gson.getAdapter(").append(adapter.getKey()).append(".class);\n");
+      }
+    }
+    out.append("  }\n\n");
+
+    out.append("  @Override\n");
+    out.append("  public void write(JsonWriter out, ")
+        .append(model.name)
+        .append(" value) throws IOException {\n");
+    out.append("    if (value == null) {\n");
+    out.append("      out.nullValue();\n");
+    out.append("      return;\n");
+    out.append("    }\n");
+    out.append("    out.beginObject();\n");
+    for (Field field : model.fields) {
+      out.append("    out.name(\"").append(field.serializedName).append("\");\n");
+      out.append("    ")
+          .append(adapters.get(field.type))
+          .append(".write(out, value.")
+          .append(field.getter)
+          .append("());\n");
+    }
+    out.append("    out.endObject();\n");
+    out.append("  }\n\n");
+
+    out.append("  @Override\n");
+    out.append("  public ").append(model.name).append(" read(JsonReader in) throws IOException {\n");
+    out.append("    if (in.peek() == JsonToken.NULL) {\n");
+    out.append("      in.nextNull();\n");
+    out.append("      return null;\n");
+    out.append("    }\n");
+    out.append("    ")
+        .append(model.name)
+        .append(" value = new ")
+        .append(model.name)
+        .append("();\n");
+    out.append("    in.beginObject();\n");
+    out.append("    while (in.hasNext()) {\n");
+    out.append("      switch (in.nextName()) {\n");
+    for (Field field : model.fields) {
+      out.append("        case \"").append(field.serializedName).append("\":\n");
+      out.append("          value.")
+          .append(field.setter)
+          .append("(")
+          .append(adapters.get(field.type))
+          .append(".read(in));\n");
+      out.append("          break;\n");
+    }
+    out.append("        default:\n");
+    out.append("          in.skipValue();\n");
+    out.append("      }\n");
+    out.append("    }\n");
+    out.append("    in.endObject();\n");
+    out.append("    return value;\n");
+    out.append("  }\n");
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static String generateFactory(List<String> models) {
+    StringBuilder out = new StringBuilder(LICENSE);
+    out.append("package ").append(ADAPTERS_PACKAGE).append(";\n\n");
+    out.append("import com.google.gson.Gson;\n");
+    out.append("import com.google.gson.TypeAdapter;\n");
+    out.append("import com.google.gson.TypeAdapterFactory;\n");
+    out.append("import com.google.gson.reflect.TypeToken;\n");
+    for (String model : models) {
+      out.append("import ").append(MODELS_PACKAGE).append(".").append(model).append(";\n");
+    }
+    out.append("import java.util.HashMap;\n");
+    out.append("import java.util.Map;\n");
+    out.append("import java.util.function.Function;\n\n");
+    out.append("/**\n");
+    out.append(" * ModelTypeAdapterFactory creates the generated type adapters of the models, which\n");
+    out.append(" * read and write them w/o reflection. Only the models themselves are handled, the\n");
+    out.append(" * subclasses of a model are left to the reflective adapters.\n");
+    out.append(" */\n");
+    out.append("@javax.annotation.Generated(value = \"ModelTypeAdaptersGenerator\")\n");
+    out.append("public class ModelTypeAdapterFactory implements TypeAdapterFactory {\n\n");
+    out.append("  private static final Map<Class<?>, Function<Gson, TypeAdapter<?>>> adapters =\n");
+    out.append("      new HashMap<>();\n\n");
+    out.append("  static {\n");
+    for (String model : models) {
+      out.append("    adapters.put(")
+          .append(model)
+          .append(".class, ")
+          .append(model)
+          .append("TypeAdapter::new);\n");
+    }
+    out.append("  }\n\n");
+    out.append("  @Override\n");
+    out.append("  @SuppressWarnings(\"unchecked\")\n");
+    out.append("  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n");
+    out.append("    Function<Gson, TypeAdapter<?>> adapter = adapters.get(type.getRawType());\n");
+    out.append("    return adapter != null ? (TypeAdapter<T>) adapter.apply(gson) : null;\n");
+    out.append("  }\n");
+    out.append("}\n");
+    return out.toString();
+  }
+
+  // e.g. "Map<String, List<String>>" is "mapStringListStringAdapter"
+  private static String adapterName(String type, Collection<String> taken) {
+    StringBuilder name = new StringBuilder();
+    for (String token : type.replace("[]", "Array").split("[^\\w]+")) {
+      if (token.isEmpty()) {
+        continue;
+      }
+      name.append(
+          name.length() == 0
+              ? Character.toLowerCase(token.charAt(0)) + token.substring(1)
+              : Character.toUpperCase(token.charAt(0)) + token.substring(1));
+    }
+    name.append("Adapter");
+    if (taken.contains(name.toString())) {
+      throw new IllegalStateException("Conflicting adapter name " + name);
+    }
+    return name.toString();
+  }
+
+  // e.g. "Map<String, List<String>>" is
+  // "TypeToken.getParameterized(Map.class, String.class, TypeToken.getParameterized(List.class,
+  // String.class).getType())"
+  private static String typeToken(String type) {
+    int open = type.indexOf('<');
+    String raw = type.substring(0, open);
+    List<String> arguments = new ArrayList<>();
+    int depth = 0;
+    int start = open + 1;
+    for (int i = start; i < type.length() - 1; i++) {
+      char c = type.charAt(i);
+      if (c == '<') {
+        depth++;
+      } else if (c == '>') {
+        depth--;
+      } else if (c == ',' && depth == 0) {
+        arguments.add(type.substring(start, i).trim());
+        start = i + 1;
+      }
+    }
+    arguments.add(type.substring(start, type.length() - 1).trim());
+    StringBuilder token = new StringBuilder("TypeToken.getParameterized(").append(raw).append(".class");
+    for (String argument : arguments) {
+      token.append(", ");
+      if (argument.contains("<")) {
+        token.append(typeToken(argument)).append(".getType()");
+      } else {
+        token.append(argument).append(".class");
+      }
+    }
+    return token.append(")").toString();
+  }
+
+  private static void write(Path file, String content) throws IOException {
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class Model {
+    private final String name;
+    private final List<Field> fields = new ArrayList<>();
+
+    private Model(String name) {
+      this.name = name;
+    }
+  }
+
+  private static class Field {
+    private final String serializedName;
+    private final String type;
+    private final String getter;
+    private final String setter;
+
+    private Field(String serializedName, String type, String getter, String setter) {
+      this.serializedName = serializedName;
+      this.type = type;
+      this.getter = getter;
+      this.setter = setter;
+    }
+  }
+}
@@ -53,6 +53,23 @@ fi
 echo ">>> Running java generator from the gen repo"
 "${GEN_ROOT}/openapi/java.sh" "${CLIENT_ROOT}" "${SCRIPT_ROOT}/../settings" 
 
+echo ">>> Patching ApiClient to decode JSON responses from the response stream"
+API_CLIENT="${CLIENT_ROOT}/src/main/java/io/kubernetes/client/openapi/ApiClient.java"
+if ! grep -q '^ *String respBody;$' "${API_CLIENT}"; then
+  echo "ApiClient#deserialize not found in ${API_CLIENT}" >&2
+  exit 1
+fi
+# see JSON#isStreamable
+sed -i '/^ *String respBody;$/i\
+    if (json.isStreamable(response, returnType)) {\
+      return json.deserialize(response, returnType);\
+    }\
+' "${API_CLIENT}"
+
+echo ">>> Generating the type adapters of the models"
+javac -d "${TEMP_FOLDER}/adapters-gen" "${SCRIPT_ROOT}/ModelTypeAdaptersGenerator.java"
+java -cp "${TEMP_FOLDER}/adapters-gen" ModelTypeAdaptersGenerator "${CLIENT_ROOT}/src/main/java"
+
 echo ">>> Running formatter"
 ./mvnw spotless:apply
 
@@ -21,6 +21,7 @@ import io.kubernetes.client.extended.controller.reconciler.Request;
 import io.kubernetes.client.extended.workqueue.DefaultRateLimitingQueue;
 import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
 import io.kubernetes.client.extended.workqueue.WorkQueue;
+import io.kubernetes.client.extended.workqueue.ratelimiter.DefaultControllerRateLimiter;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.spring.extended.controller.annotation.AddWatchEventFilter;
 import io.kubernetes.client.spring.extended.controller.annotation.DeleteWatchEventFilter;
@@ -38,6 +39,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -83,7 +85,11 @@ public class KubernetesControllerFactory implements FactoryBean<Controller> {
 
     KubernetesReconcilerWatches watches = kubernetesReconciler.watches();
     DefaultControllerBuilder builder = ControllerBuilder.defaultBuilder(sharedInformerFactory);
-    RateLimitingQueue<Request> workQueue = new DefaultRateLimitingQueue<>();
+    RateLimitingQueue<Request> workQueue =
+        new DefaultRateLimitingQueue<>(
+            reconcilerName,
+            Executors.newSingleThreadExecutor(),
+            new DefaultControllerRateLimiter<>());
     builder = builder.withWorkQueue(workQueue);
     Map<Class, AddFilterAdaptor> addFilters = getAddFilters(watches, r);
     Map<Class, UpdateFilterAdaptor> updateFilters = getUpdateFilters(watches, r);
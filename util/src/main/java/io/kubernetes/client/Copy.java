@@ -28,11 +28,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.codec.binary.Base64InputStream;
 import org.apache.commons.codec.binary.Base64OutputStream;
 import org.apache.commons.compress.archivers.ArchiveEntry;
@@ -41,6 +52,7 @@ import org.apache.commons.compress.archivers.ArchiveOutputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarConstants;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
@@ -49,6 +61,13 @@ import org.slf4j.LoggerFactory;
 public class Copy extends Exec {
   private static final Logger log = LoggerFactory.getLogger(Copy.class);
 
+  // the bytes copied between the progress reports within a file.
+  private static final long PROGRESS_INTERVAL_BYTES = 1024 * 1024;
+
+  private boolean binaryTransfer = false;
+  private int parallelism = 1;
+  private ProgressListener progressListener;
+
   /** Simple Copy constructor, uses default configuration */
   public Copy() {
     super(Configuration.getDefaultApiClient());
@@ -63,6 +82,59 @@ public class Copy extends Exec {
     super(apiClient);
   }
 
+  /**
+   * Whether the files are transferred as is over the exec streams, which are binary-safe w/ the
+   * websocket protocol, rather than base64 encoded by the shell in the container. The base64
+   * encoding inflates the transferred data by a third.
+   *
+   * @return true if the files are transferred as is
+   */
+  public boolean isBinaryTransfer() {
+    return binaryTransfer;
+  }
+
+  /**
+   * Sets whether the files are transferred as is over the exec streams, rather than base64 encoded,
+   * defaults to false.
+   *
+   * @param binaryTransfer true to transfer the files as is
+   */
+  public void setBinaryTransfer(boolean binaryTransfer) {
+    this.binaryTransfer = binaryTransfer;
+  }
+
+  /**
+   * Gets the number of exec sessions copying a directory concurrently.
+   *
+   * @return the parallelism
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the number of exec sessions copying a directory concurrently, defaults to 1. The entries
+   * of the directory are split into groups of about the same size, each of which is archived by a
+   * session of its own.
+   *
+   * @param parallelism the parallelism
+   */
+  public void setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be at least 1");
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Sets the listener notified of the progress of copying directories.
+   *
+   * @param progressListener the listener, or null
+   */
+  public void setProgressListener(ProgressListener progressListener) {
+    this.progressListener = progressListener;
+  }
+
   public InputStream copyFileFromPod(String namespace, String pod, String srcPath)
       throws ApiException, IOException {
     return copyFileFromPod(namespace, pod, null, srcPath);
@@ -80,6 +152,12 @@ public class Copy extends Exec {
 
   public InputStream copyFileFromPod(String namespace, String pod, String container, String srcPath)
       throws ApiException, IOException {
+    if (binaryTransfer) {
+      Process proc =
+          this.exec(
+              namespace, pod, new String[] {"sh", "-c", "cat " + srcPath}, container, false, false);
+      return proc.getInputStream();
+    }
     Process proc =
         this.exec(
             namespace,
@@ -157,6 +235,10 @@ public class Copy extends Exec {
       createDirectoryStructureFromTree(tree, namespace, pod, container, srcPath, destination);
       return;
     }
+    if (parallelism > 1) {
+      copyDirectoryFromPodInParallel(namespace, pod, container, srcPath, destination);
+      return;
+    }
     Future<Integer> future =
         copyDirectoryFromPodAsync(namespace, pod, container, srcPath, destination);
     try {
@@ -172,16 +254,88 @@ public class Copy extends Exec {
   public Future<Integer> copyDirectoryFromPodAsync(
       String namespace, String pod, String container, String srcPath, Path destination)
       throws IOException, ApiException {
+    final Process proc =
+        this.exec(namespace, pod, archiveCommand(srcPath), container, false, false);
+    extractArchive(proc.getInputStream(), destination, new Progress());
+    return new ProcessFuture(proc);
+  }
+
+  private void copyDirectoryFromPodInParallel(
+      String namespace, String pod, String container, String srcPath, Path destination)
+      throws IOException, ApiException {
     final Process proc =
         this.exec(
             namespace,
             pod,
-            new String[] {"sh", "-c", "tar cz - " + srcPath + " | base64"},
+            new String[] {
+              "sh", "-c", "find " + srcPath + " -mindepth 1 -maxdepth 1 -exec du -sk {} \\;"
+            },
             container,
             false,
             false);
-    try (InputStream is = new Base64InputStream(new BufferedInputStream(proc.getInputStream()));
-        ArchiveInputStream archive = new TarArchiveInputStream(new GzipCompressorInputStream(is))) {
+    // each line is the size in KiB and the path of an entry of the directory
+    List<String> paths = new ArrayList<>();
+    List<Long> sizes = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(proc.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int tab = line.indexOf('\t');
+        if (tab < 0) {
+          continue;
+        }
+        try {
+          sizes.add(Long.parseLong(line.substring(0, tab)));
+          paths.add(line.substring(tab + 1));
+        } catch (NumberFormatException e) {
+          log.debug("Unrecognized entry size: {}", line);
+        }
+      }
+    } finally {
+      proc.destroy();
+    }
+    if (paths.isEmpty()) {
+      // empty, or du isn't available, archives the directory as a whole
+      copyDirectoryFromPod(namespace, pod, container, srcPath, destination, true);
+      return;
+    }
+    Progress progress = new Progress();
+    List<List<String>> groups = partition(paths, sizes, parallelism);
+    ExecutorService executor = Executors.newFixedThreadPool(groups.size());
+    try {
+      List<Future<Integer>> futures = new ArrayList<>(groups.size());
+      for (List<String> group : groups) {
+        String[] command =
+            archiveCommand(group.stream().map(Copy::quote).collect(Collectors.joining(" ")));
+        futures.add(
+            executor.submit(
+                () -> {
+                  Process groupProc = this.exec(namespace, pod, command, container, false, false);
+                  extractArchive(groupProc.getInputStream(), destination, progress);
+                  return new ProcessFuture(groupProc).get();
+                }));
+      }
+      awaitAll(futures);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private String[] archiveCommand(String paths) {
+    if (binaryTransfer) {
+      return new String[] {"sh", "-c", "tar czf - " + paths};
+    }
+    return new String[] {"sh", "-c", "tar czf - " + paths + " | base64"};
+  }
+
+  private void extractArchive(InputStream in, Path destination, Progress progress)
+      throws IOException {
+    InputStream is = new BufferedInputStream(in);
+    if (!binaryTransfer) {
+      is = new Base64InputStream(is);
+    }
+    try (ArchiveInputStream archive =
+        new TarArchiveInputStream(new GzipCompressorInputStream(is))) {
       for (ArchiveEntry entry = archive.getNextEntry();
           entry != null;
           entry = archive.getNextEntry()) {
@@ -194,23 +348,18 @@ public class Copy extends Exec {
           throw new IOException("Invalid entry: " + entry.getName());
         }
         File f = new File(destination.toFile(), normalName);
+        // the directories might be created concurrently by the other sessions
         if (entry.isDirectory()) {
-          if (!f.isDirectory() && !f.mkdirs()) {
-            throw new IOException("create directory failed: " + f);
-          }
+          Files.createDirectories(f.toPath());
         } else {
-          File parent = f.getParentFile();
-          if (!parent.isDirectory() && !parent.mkdirs()) {
-            throw new IOException("create directory failed: " + parent);
-          }
+          Files.createDirectories(f.getParentFile().toPath());
           try (OutputStream fs = new FileOutputStream(f)) {
-            Streams.copy(archive, fs);
+            progress.copy(archive, fs);
             fs.flush();
           }
         }
       }
     }
-    return new ProcessFuture(proc);
   }
 
   // This creates directories and files using tree of files and directories under container
@@ -364,9 +513,7 @@ public class Copy extends Exec {
 
     // Send encoded archive output stream
     File srcFile = new File(srcPath.toUri());
-    try (ArchiveOutputStream archiveOutputStream =
-            new TarArchiveOutputStream(
-                new Base64OutputStream(proc.getOutputStream(), true, 0, null));
+    try (ArchiveOutputStream archiveOutputStream = archiveOutputStream(proc);
         FileInputStream input = new FileInputStream(srcFile)) {
       ArchiveEntry tarEntry = new TarArchiveEntry(srcFile, destPath.getFileName().toString());
 
@@ -397,8 +544,7 @@ public class Copy extends Exec {
     // Run decoding and extracting processes
     final Process proc = execCopyToPod(namespace, pod, container, destPath);
 
-    try (ArchiveOutputStream archiveOutputStream =
-        new TarArchiveOutputStream(new Base64OutputStream(proc.getOutputStream(), true, 0, null))) {
+    try (ArchiveOutputStream archiveOutputStream = archiveOutputStream(proc)) {
 
       ArchiveEntry tarEntry = new TarArchiveEntry(new File(destPath.getFileName().toString()));
       ((TarArchiveEntry) tarEntry).setSize(src.length);
@@ -411,16 +557,147 @@ public class Copy extends Exec {
     }
   }
 
+  /**
+   * Copy a local directory to a pod, the directory is created as destPath, and its entries are
+   * split over {@link #getParallelism()} exec sessions.
+   *
+   * @param namespace the namespace of the pod
+   * @param pod the name of the pod
+   * @param container the container, or null for the default one
+   * @param srcPath the local directory
+   * @param destPath the path of the directory in the container
+   * @throws ApiException if an exec session failed to start
+   * @throws IOException if reading the directory or copying failed
+   */
+  public void copyDirectoryToPod(
+      String namespace, String pod, String container, Path srcPath, Path destPath)
+      throws ApiException, IOException {
+    List<Path> entries;
+    try (Stream<Path> list = Files.list(srcPath)) {
+      entries = list.sorted().collect(Collectors.toList());
+    }
+    List<Long> sizes = new ArrayList<>(entries.size());
+    for (Path entry : entries) {
+      try (Stream<Path> walk = Files.walk(entry)) {
+        sizes.add(walk.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum());
+      }
+    }
+    String rootName = destPath.getFileName().toString();
+    Progress progress = new Progress();
+    List<List<Path>> groups = partition(entries, sizes, parallelism);
+    if (groups.isEmpty()) {
+      // an empty directory is archived by a session of its own
+      groups.add(new ArrayList<>());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(groups.size());
+    try {
+      List<Future<Integer>> futures = new ArrayList<>(groups.size());
+      for (List<Path> group : groups) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  Process proc = execCopyToPod(namespace, pod, container, destPath);
+                  try (ArchiveOutputStream archive = archiveOutputStream(proc)) {
+                    archive.putArchiveEntry(new TarArchiveEntry(srcPath.toFile(), rootName));
+                    archive.closeArchiveEntry();
+                    for (Path entry : group) {
+                      archiveTree(archive, srcPath, entry, rootName, progress);
+                    }
+                  }
+                  return new ProcessFuture(proc).get();
+                }));
+      }
+      awaitAll(futures);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void archiveTree(
+      ArchiveOutputStream archive, Path root, Path path, String rootName, Progress progress)
+      throws IOException {
+    List<Path> tree;
+    try (Stream<Path> walk = Files.walk(path)) {
+      tree = walk.sorted().collect(Collectors.toList());
+    }
+    for (Path p : tree) {
+      String name = rootName + "/" + FilenameUtils.separatorsToUnix(root.relativize(p).toString());
+      archive.putArchiveEntry(new TarArchiveEntry(p.toFile(), name));
+      if (Files.isRegularFile(p)) {
+        try (InputStream input = Files.newInputStream(p)) {
+          progress.copy(input, archive);
+        }
+      }
+      archive.closeArchiveEntry();
+    }
+  }
+
+  private ArchiveOutputStream archiveOutputStream(Process proc) {
+    OutputStream out = proc.getOutputStream();
+    if (!binaryTransfer) {
+      out = new Base64OutputStream(out, true, 0, null);
+    }
+    // pads the archive to tar's record size, tar only exits once it has read the whole record as
+    // the stdin of the session isn't closed
+    TarArchiveOutputStream archive = new TarArchiveOutputStream(out, TarConstants.DEFAULT_BLKSIZE);
+    archive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+    archive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+    return archive;
+  }
+
   private Process execCopyToPod(String namespace, String pod, String container, Path destPath)
       throws ApiException, IOException {
     String parentPath = destPath.getParent() != null ? destPath.getParent().toString() : ".";
-    return this.exec(
-        namespace,
-        pod,
-        new String[] {"sh", "-c", "base64 -d | tar -xmf - -C " + parentPath},
-        container,
-        true,
-        false);
+    String command =
+        binaryTransfer ? "tar -xmf - -C " + parentPath : "base64 -d | tar -xmf - -C " + parentPath;
+    return this.exec(namespace, pod, new String[] {"sh", "-c", command}, container, true, false);
+  }
+
+  // splits the items into at most n groups of about the same total size, assigning the largest
+  // items first to the smallest group.
+  private static <T> List<List<T>> partition(List<T> items, List<Long> sizes, int n) {
+    List<Integer> order = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      order.add(i);
+    }
+    order.sort(Comparator.comparing((Integer i) -> sizes.get(i)).reversed());
+    int groupCount = Math.min(n, items.size());
+    List<List<T>> groups = new ArrayList<>(groupCount);
+    long[] groupSizes = new long[groupCount];
+    for (int i = 0; i < groupCount; i++) {
+      groups.add(new ArrayList<>());
+    }
+    for (int i : order) {
+      int smallest = 0;
+      for (int g = 1; g < groupCount; g++) {
+        if (groupSizes[g] < groupSizes[smallest]) {
+          smallest = g;
+        }
+      }
+      groups.get(smallest).add(items.get(i));
+      groupSizes[smallest] += sizes.get(i);
+    }
+    return groups;
+  }
+
+  private static void awaitAll(List<Future<Integer>> futures) throws IOException {
+    try {
+      for (Future<Integer> future : futures) {
+        int code = future.get();
+        if (code != 0) {
+          throw new IOException("Copy failed (" + code + ")");
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException(ex);
+    } catch (ExecutionException ex) {
+      throw new IOException(ex.getCause());
+    }
+  }
+
+  private static String quote(String path) {
+    return "'" + path.replace("'", "'\\''") + "'";
   }
 
   private boolean isTarPresentInContainer(String namespace, String pod, String container)
@@ -471,4 +748,52 @@ public class Copy extends Exec {
       return proc.isAlive();
     }
   }
+
+  /**
+   * ProgressListener is notified of the progress of copying a directory, e.g. for reporting the
+   * throughput. It's called by the threads running the exec sessions, concurrently if the copy is
+   * parallel.
+   */
+  public interface ProgressListener {
+    /**
+     * Called after each file copied, and every megabyte within large files.
+     *
+     * @param files the number of files copied so far
+     * @param bytes the bytes of the file contents copied so far
+     * @param elapsed the time since the copy started
+     */
+    void progress(long files, long bytes, Duration elapsed);
+  }
+
+  // Progress counts the files and bytes copied, reporting them to the progress listener.
+  private class Progress {
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    private void copy(InputStream in, OutputStream out) throws IOException {
+      byte[] buffer = new byte[Streams.BUFFER_SIZE];
+      int bytesRead;
+      long unreported = 0;
+      while ((bytesRead = in.read(buffer)) != -1) {
+        out.write(buffer, 0, bytesRead);
+        bytes.addAndGet(bytesRead);
+        unreported += bytesRead;
+        if (unreported >= PROGRESS_INTERVAL_BYTES) {
+          unreported = 0;
+          report();
+        }
+      }
+      files.incrementAndGet();
+      report();
+    }
+
+    private void report() {
+      ProgressListener listener = progressListener;
+      if (listener != null) {
+        listener.progress(
+            files.get(), bytes.get(), Duration.ofNanos(System.nanoTime() - startNanos));
+      }
+    }
+  }
 }
@@ -106,8 +106,23 @@ public class PortForward {
    */
   public PortForwardResult forward(String namespace, String name, List<Integer> ports)
       throws ApiException, IOException {
+    return forward(namespace, name, ports, new WebSocketStreamHandler());
+  }
+
+  /**
+   * PortForward to a container, demultiplexing the streams w/ the handler, e.g. one delivering the
+   * forwarded data w/o the blocking input streams.
+   *
+   * @param namespace The namespace of the Pod
+   * @param name The name of the Pod
+   * @param ports The ports to forward
+   * @param handler The handler of the web socket, used for this request only
+   * @return The result of the Port Forward request.
+   */
+  public PortForwardResult forward(
+      String namespace, String name, List<Integer> ports, WebSocketStreamHandler handler)
+      throws ApiException, IOException {
     String path = makePath(namespace, name);
-    WebSocketStreamHandler handler = new WebSocketStreamHandler();
     PortForwardResult result = new PortForwardResult(handler, ports);
     List<Pair> queryParams = new ArrayList<>(ports.size());
     for (Integer port : ports) {
@@ -0,0 +1,44 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.cache.ProcessorListener;
+import java.util.List;
+
+/**
+ * BatchResourceEventHandler is a {@link ResourceEventHandler} receiving the notifications queued
+ * for it in batches, so that a burst of events, e.g. upon the initial list, can be handled at once.
+ * By default a batch is dispatched to the per-event methods one by one.
+ */
+public interface BatchResourceEventHandler<ApiType extends KubernetesObject>
+    extends ResourceEventHandler<ApiType> {
+
+  /**
+   * Handles a batch of notifications, from the oldest to the newest.
+   *
+   * @param notifications the notifications, which are either {@link
+   *     ProcessorListener.AddNotification}, {@link ProcessorListener.UpdateNotification} or {@link
+   *     ProcessorListener.DeleteNotification}
+   */
+  default void onBatch(List<ProcessorListener.Notification<ApiType>> notifications) {
+    for (ProcessorListener.Notification<ApiType> notification : notifications) {
+      ProcessorListener.dispatch(this, notification);
+    }
+  }
+
+  /** returns the maximum number of notifications per batch */
+  default int maxBatchSize() {
+    return 100;
+  }
+}
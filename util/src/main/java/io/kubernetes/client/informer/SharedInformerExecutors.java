@@ -0,0 +1,98 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer;
+
+import io.kubernetes.client.util.Threads;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SharedInformerExecutors holds the thread pools shared by informers so that they don't start
+ * threads of their own for resync, delta processing and event handlers:
+ *
+ * <ul>
+ *   <li>a scheduler running the resync timers and draining the delta queues,
+ *   <li>a handler executor on which the event handlers handle their notifications,
+ *   <li>a watch executor on which each reflector runs its blocking list-watch. It uses virtual
+ *       threads where available (Java 21+), otherwise it's a cached thread pool.
+ * </ul>
+ */
+public class SharedInformerExecutors {
+
+  private static final Logger log = LoggerFactory.getLogger(SharedInformerExecutors.class);
+
+  private final ScheduledExecutorService scheduler;
+
+  private final ExecutorService handlerExecutor;
+
+  private final ExecutorService watchExecutor;
+
+  /**
+   * Constructor.
+   *
+   * @param threads the number of threads of the scheduler and the handler executor respectively
+   */
+  public SharedInformerExecutors(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("threads must be positive");
+    }
+    this.scheduler =
+        Executors.newScheduledThreadPool(threads, Threads.threadFactory("informer-scheduler-%d"));
+    this.handlerExecutor =
+        Executors.newFixedThreadPool(threads, Threads.threadFactory("informer-handler-%d"));
+    ThreadFactory watchThreadFactory = virtualThreadFactory("informer-watch-");
+    if (watchThreadFactory == null) {
+      watchThreadFactory = Threads.threadFactory("informer-watch-%d");
+    }
+    this.watchExecutor = Executors.newCachedThreadPool(watchThreadFactory);
+  }
+
+  public ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  public ExecutorService getHandlerExecutor() {
+    return handlerExecutor;
+  }
+
+  public ExecutorService getWatchExecutor() {
+    return watchExecutor;
+  }
+
+  /** Shuts down the thread pools, the informers using them must have been stopped. */
+  public void shutdown() {
+    scheduler.shutdownNow();
+    handlerExecutor.shutdownNow();
+    watchExecutor.shutdownNow();
+  }
+
+  // returns a factory of virtual threads if the runtime supports them, otherwise null.
+  private static ThreadFactory virtualThreadFactory(String namePrefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder =
+          builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+      Method factory = builderClass.getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.debug("SharedInformerExecutors#Virtual threads unavailable, using platform threads");
+      return null;
+    }
+  }
+}
@@ -13,31 +13,49 @@ limitations under the License.
 package io.kubernetes.client.informer;
 
 import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.apimachinery.GroupVersionKind;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.cache.ConcurrentCache;
 import io.kubernetes.client.informer.impl.DefaultSharedIndexInformer;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.Configuration;
+import io.kubernetes.client.proto.Runtime.Unknown;
 import io.kubernetes.client.util.CallGenerator;
 import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.ModelMapper;
 import io.kubernetes.client.util.Namespaces;
+import io.kubernetes.client.util.ProtobufCodec;
+import io.kubernetes.client.util.ProtobufWatch;
+import io.kubernetes.client.util.Strings;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
 import io.kubernetes.client.util.generic.options.ListOptions;
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Function;
 import okhttp3.Call;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.apache.commons.collections4.MapUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** SharedInformerFactory class constructs and caches informers for api types. */
 public class SharedInformerFactory {
 
+  private static final Logger log = LoggerFactory.getLogger(SharedInformerFactory.class);
+
   protected Map<Type, SharedIndexInformer> informers;
 
   private Map<Type, Future> startedInformers;
@@ -46,6 +64,20 @@ public class SharedInformerFactory {
 
   private ApiClient apiClient;
 
+  private int listPageSize;
+
+  private int processBatchSize;
+
+  private int listenerQueueBound;
+
+  private int sharedThreadPoolSize;
+
+  private SharedInformerExecutors sharedExecutors;
+
+  private List<SharedInformerExecutors> createdSharedExecutors = new ArrayList<>();
+
+  private ProtobufCodec protobufCodec;
+
   /** Constructor w/ default thread pool. */
   public SharedInformerFactory() {
     this(Configuration.getDefaultApiClient().setReadTimeout(0), Executors.newCachedThreadPool());
@@ -119,10 +151,40 @@ public class SharedInformerFactory {
           Class<ApiListType> apiListTypeClass,
           long resyncPeriodInMillis) {
     ListerWatcher<ApiType, ApiListType> listerWatcher =
-        listerWatcherFor(callGenerator, apiTypeClass, apiListTypeClass);
+        protobufCodec != null
+            ? protobufListerWatcherFor(callGenerator, apiTypeClass, apiListTypeClass, protobufCodec)
+            : listerWatcherFor(callGenerator, apiTypeClass, apiListTypeClass);
     return sharedIndexInformerFor(listerWatcher, apiTypeClass, resyncPeriodInMillis);
   }
 
+  /**
+   * Constructs and returns a shared index informer w/ resync period and a transform specified, see
+   * {@link DefaultSharedIndexInformer#setTransform}. But the informer cache will not be overwritten
+   * i.e. only the first registered informer will be kept.
+   *
+   * @param <ApiType> the type parameter
+   * @param <ApiListType> the type parameter
+   * @param callGenerator the call generator
+   * @param apiTypeClass the api type class
+   * @param apiListTypeClass the api list type class
+   * @param resyncPeriodInMillis the resync period in millis
+   * @param transform the transform applied to the objects before they're cached
+   * @return the shared index informer
+   */
+  public synchronized <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      SharedIndexInformer<ApiType> sharedIndexInformerFor(
+          CallGenerator callGenerator,
+          Class<ApiType> apiTypeClass,
+          Class<ApiListType> apiListTypeClass,
+          long resyncPeriodInMillis,
+          Function<ApiType, ApiType> transform) {
+    ListerWatcher<ApiType, ApiListType> listerWatcher =
+        protobufCodec != null
+            ? protobufListerWatcherFor(callGenerator, apiTypeClass, apiListTypeClass, protobufCodec)
+            : listerWatcherFor(callGenerator, apiTypeClass, apiListTypeClass);
+    return sharedIndexInformerFor(listerWatcher, apiTypeClass, resyncPeriodInMillis, transform);
+  }
+
   /**
    * Constructs and returns a shared index informer by specifying lister-watcher. But the informer
    * cache will not be overwritten on multiple call w/ the the same apiTypeClass i.e. only the first
@@ -140,10 +202,60 @@ public class SharedInformerFactory {
           ListerWatcher<ApiType, ApiListType> listerWatcher,
           Class<ApiType> apiTypeClass,
           long resyncPeriodInMillis) {
-    SharedIndexInformer<ApiType> informer =
+    return registerInformer(
+        apiTypeClass,
+        new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis));
+  }
+
+  /**
+   * Constructs and returns a shared index informer by specifying lister-watcher and a transform,
+   * see {@link DefaultSharedIndexInformer#setTransform}. But the informer cache will not be
+   * overwritten on multiple call w/ the the same apiTypeClass i.e. only the first registered
+   * informer will be kept.
+   *
+   * @param <ApiType> the type parameter
+   * @param <ApiListType> the type parameter
+   * @param listerWatcher the lister watcher
+   * @param apiTypeClass the api type class
+   * @param resyncPeriodInMillis the resync period in millis
+   * @param transform the transform applied to the objects before they're cached
+   * @return the shared index informer
+   */
+  public synchronized <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      SharedIndexInformer<ApiType> sharedIndexInformerFor(
+          ListerWatcher<ApiType, ApiListType> listerWatcher,
+          Class<ApiType> apiTypeClass,
+          long resyncPeriodInMillis,
+          Function<ApiType, ApiType> transform) {
+    DefaultSharedIndexInformer<ApiType, ApiListType> informer =
         new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis);
-    this.informers.putIfAbsent(TypeToken.get(apiTypeClass).getType(), informer);
-    return informer;
+    informer.setTransform(transform);
+    return registerInformer(apiTypeClass, informer);
+  }
+
+  /**
+   * Constructs and returns a shared index informer by specifying lister-watcher and a {@link
+   * ConcurrentCache} as the backing store, so that reads from the informer cache never block on the
+   * informer updating it. The informer will not be overwritten on multiple call w/ the the same
+   * apiTypeClass i.e. only the first registered informer will be kept.
+   *
+   * @param <ApiType> the type parameter
+   * @param <ApiListType> the type parameter
+   * @param listerWatcher the lister watcher
+   * @param apiTypeClass the api type class
+   * @param resyncPeriodInMillis the resync period in millis
+   * @param cache the concurrent cache backing the informer
+   * @return the shared index informer
+   */
+  public synchronized <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      SharedIndexInformer<ApiType> sharedIndexInformerFor(
+          ListerWatcher<ApiType, ApiListType> listerWatcher,
+          Class<ApiType> apiTypeClass,
+          long resyncPeriodInMillis,
+          ConcurrentCache<ApiType> cache) {
+    return registerInformer(
+        apiTypeClass,
+        new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis, cache));
   }
 
   /**
@@ -191,6 +303,110 @@ public class SharedInformerFactory {
     return sharedIndexInformerFor(listerWatcher, apiTypeClass, resyncPeriodInMillis);
   }
 
+  /**
+   * Sets the maximum number of items listed per request by the informers constructed afterwards, so
+   * that their initial list and relists are paginated. Zero, which is the default, disables
+   * paginated listing. Note that a {@link CallGenerator} must pass {@link
+   * CallGeneratorParams#limit} and {@link CallGeneratorParams#continueToken} to the list call for
+   * the pagination to take effect.
+   *
+   * @param listPageSize the list page size
+   */
+  public synchronized void setListPageSize(int listPageSize) {
+    if (listPageSize < 0) {
+      throw new IllegalArgumentException("list page size must not be negative");
+    }
+    this.listPageSize = listPageSize;
+  }
+
+  /**
+   * Sets the maximum number of keys the informers constructed afterwards pop from their delta queue
+   * at once, so that deltas are processed and distributed in batches. Zero or one, which is the
+   * default, disables batch processing.
+   *
+   * @param processBatchSize the process batch size
+   */
+  public synchronized void setProcessBatchSize(int processBatchSize) {
+    if (processBatchSize < 0) {
+      throw new IllegalArgumentException("process batch size must not be negative");
+    }
+    this.processBatchSize = processBatchSize;
+  }
+
+  /**
+   * Sets the bound of the event handler queues of the informers constructed afterwards, see {@link
+   * DefaultSharedIndexInformer#setListenerQueueBound}. Zero, which is the default, keeps the queues
+   * unbounded.
+   *
+   * @param listenerQueueBound the listener queue bound
+   */
+  public synchronized void setListenerQueueBound(int listenerQueueBound) {
+    if (listenerQueueBound < 0) {
+      throw new IllegalArgumentException("listener queue bound must not be negative");
+    }
+    this.listenerQueueBound = listenerQueueBound;
+  }
+
+  /**
+   * Sets whether the informers constructed afterwards from a {@link CallGenerator} list and watch
+   * over the kubernetes protobuf wire format. The decoded proto messages are converted into the
+   * OpenAPI model classes, see {@link ProtobufCodec}, which is about as fast as parsing the same
+   * list from json once warmed up but allocates more, see ProtobufCodecBenchmark, so the gain is
+   * mostly the smaller responses and the cheaper encoding on the apiserver's side. Resources the
+   * apiserver or the proto module doesn't support in protobuf are still listed and watched in json,
+   * e.g. custom resources, as well as the core/v1 kinds like pods, secrets, configmaps and nodes,
+   * since the proto module built from this tree lacks the core/v1 messages ({@code
+   * io.kubernetes.client.proto.V1}). Disabled by default.
+   *
+   * @param protobufEnabled whether to prefer protobuf
+   */
+  public synchronized void setProtobufEnabled(boolean protobufEnabled) {
+    if (!protobufEnabled) {
+      this.protobufCodec = null;
+    } else if (this.protobufCodec == null) {
+      this.protobufCodec = new ProtobufCodec(apiClient.getJSON());
+    }
+  }
+
+  /**
+   * Sets the size of the thread pools shared by the informers constructed afterwards, so that they
+   * multiplex their resync timers, delta processing and event handlers onto a small fixed number of
+   * threads instead of starting several threads each, see {@link SharedInformerExecutors}. Only the
+   * reflectors' blocking list-watches still take a thread each, which are virtual threads where
+   * available. Delivering notifications to the event handlers never blocks the shared threads, not
+   * even when a handler's bounded queue is full, see {@link #setListenerQueueBound}. Zero, which is
+   * the default, runs each informer on its own threads.
+   *
+   * @param sharedThreadPoolSize the shared thread pool size
+   */
+  public synchronized void setSharedThreadPoolSize(int sharedThreadPoolSize) {
+    if (sharedThreadPoolSize < 0) {
+      throw new IllegalArgumentException("shared thread pool size must not be negative");
+    }
+    if (sharedThreadPoolSize != this.sharedThreadPoolSize) {
+      // the informers constructed already keep using the previous pools
+      this.sharedExecutors = null;
+    }
+    this.sharedThreadPoolSize = sharedThreadPoolSize;
+  }
+
+  private <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      SharedIndexInformer<ApiType> registerInformer(
+          Class<ApiType> apiTypeClass, DefaultSharedIndexInformer<ApiType, ApiListType> informer) {
+    informer.setListPageSize(listPageSize);
+    informer.setProcessBatchSize(processBatchSize);
+    informer.setListenerQueueBound(listenerQueueBound);
+    if (sharedThreadPoolSize > 0) {
+      if (sharedExecutors == null) {
+        sharedExecutors = new SharedInformerExecutors(sharedThreadPoolSize);
+        createdSharedExecutors.add(sharedExecutors);
+      }
+      informer.setSharedExecutors(sharedExecutors);
+    }
+    this.informers.putIfAbsent(TypeToken.get(apiTypeClass).getType(), informer);
+    return informer;
+  }
+
   private <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
       ListerWatcher<ApiType, ApiListType> listerWatcherFor(
           CallGenerator callGenerator,
@@ -220,6 +436,80 @@ public class SharedInformerFactory {
     };
   }
 
+  private <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      ListerWatcher<ApiType, ApiListType> protobufListerWatcherFor(
+          CallGenerator callGenerator,
+          Class<ApiType> apiTypeClass,
+          Class<ApiListType> apiListTypeClass,
+          ProtobufCodec codec) {
+    ListerWatcher<ApiType, ApiListType> jsonListerWatcher =
+        listerWatcherFor(callGenerator, apiTypeClass, apiListTypeClass);
+    boolean decodable = isProtobufDecodable(apiListTypeClass, codec);
+    if (!decodable) {
+      log.info("{}#No protobuf message for {}, using json", apiTypeClass, apiListTypeClass);
+    }
+    return new ListerWatcher<ApiType, ApiListType>() {
+      // turns true if the list isn't decodable from protobuf, e.g. the proto module lacks the kind.
+      private volatile boolean protobufUnsupported = !decodable;
+
+      @Override
+      public ApiListType list(CallGeneratorParams params) throws ApiException {
+        if (protobufUnsupported) {
+          return jsonListerWatcher.list(params);
+        }
+        Call call = callGenerator.generate(params);
+        Request request =
+            call.request().newBuilder().header("Accept", ProtobufCodec.ACCEPT).build();
+        try (Response response = apiClient.getHttpClient().newCall(request).execute()) {
+          if (!response.isSuccessful() || !ProtobufCodec.isProtobuf(response)) {
+            return apiClient.handleResponse(response, apiListTypeClass);
+          }
+          Unknown envelope = codec.parseEnvelope(response.body().byteStream());
+          String apiVersion = envelope.getTypeMeta().getApiVersion();
+          String kind = envelope.getTypeMeta().getKind();
+          if (!codec.supports(apiVersion, kind)) {
+            log.info(
+                "{}#No protobuf message for {} {}, falling back to json",
+                apiTypeClass,
+                apiVersion,
+                kind);
+            protobufUnsupported = true;
+            return jsonListerWatcher.list(params);
+          }
+          return codec.decode(envelope, apiListTypeClass);
+        } catch (IOException e) {
+          throw new ApiException(e);
+        }
+      }
+
+      @Override
+      public Watchable<ApiType> watch(CallGeneratorParams params) throws ApiException {
+        if (protobufUnsupported) {
+          return jsonListerWatcher.watch(params);
+        }
+        return ProtobufWatch.createWatch(
+            apiClient, callGenerator.generate(params), apiTypeClass, codec);
+      }
+    };
+  }
+
+  // checks up front if the proto module has a message for a built-in list class, so that the kinds
+  // it lacks aren't listed in protobuf only to be listed again in json. Other classes, e.g. custom
+  // resources, are left to the content type the apiserver responds w/.
+  private static boolean isProtobufDecodable(Class<?> apiListTypeClass, ProtobufCodec codec) {
+    GroupVersionKind gvk;
+    try {
+      gvk = ModelMapper.preBuiltGetGroupVersionKindByClass(apiListTypeClass);
+    } catch (NoSuchElementException e) {
+      return true;
+    }
+    String apiVersion =
+        Strings.isNullOrEmpty(gvk.getGroup())
+            ? gvk.getVersion()
+            : gvk.getGroup() + "/" + gvk.getVersion();
+    return codec.supports(apiVersion, gvk.getKind());
+  }
+
   private <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
       ListerWatcher<ApiType, ApiListType> listerWatcherFor(
           GenericKubernetesApi<ApiType, ApiListType> genericKubernetesApi, String namespace) {
@@ -237,6 +527,8 @@ public class SharedInformerFactory {
                     {
                       setResourceVersion(params.resourceVersion);
                       setTimeoutSeconds(params.timeoutSeconds);
+                      setLimit(params.limit);
+                      setContinue(params.continueToken);
                     }
                   })
               .throwsApiException()
@@ -249,6 +541,8 @@ public class SharedInformerFactory {
                     {
                       setResourceVersion(params.resourceVersion);
                       setTimeoutSeconds(params.timeoutSeconds);
+                      setLimit(params.limit);
+                      setContinue(params.continueToken);
                     }
                   })
               .throwsApiException()
@@ -257,10 +551,18 @@ public class SharedInformerFactory {
       }
 
       public Watchable<ApiType> watch(CallGeneratorParams params) throws ApiException {
+        ListOptions listOptions =
+            new ListOptions() {
+              {
+                setResourceVersion(params.resourceVersion);
+                setTimeoutSeconds(params.timeoutSeconds);
+                setAllowWatchBookmarks(params.allowWatchBookmarks);
+              }
+            };
         if (Namespaces.NAMESPACE_ALL.equals(namespace)) {
-          return genericKubernetesApi.watch();
+          return genericKubernetesApi.watch(listOptions);
         } else {
-          return genericKubernetesApi.watch(namespace);
+          return genericKubernetesApi.watch(namespace, listOptions);
         }
       }
     };
@@ -284,13 +586,17 @@ public class SharedInformerFactory {
     if (MapUtils.isEmpty(informers)) {
       return;
     }
+    // starting an informer returns right away, so that the shared scheduler can start them w/o
+    // growing the thread pool.
+    ExecutorService starter =
+        sharedExecutors != null ? sharedExecutors.getScheduler() : informerExecutor;
     informers.forEach(
         (informerType, informer) ->
             startedInformers.computeIfAbsent(
-                informerType, key -> informerExecutor.submit((Runnable) informer::run)));
+                informerType, key -> starter.submit((Runnable) informer::run)));
   }
 
-  /** Stop all registered informers and shut down the thread pool. */
+  /** Stop all registered informers and shut down the thread pools. */
   public synchronized void stopAllRegisteredInformers() {
     stopAllRegisteredInformers(true);
   }
@@ -312,6 +618,9 @@ public class SharedInformerFactory {
         });
     if (shutdownThreadPool) {
       informerExecutor.shutdown();
+      createdSharedExecutors.forEach(SharedInformerExecutors::shutdown);
+      createdSharedExecutors.clear();
+      sharedExecutors = null;
     }
   }
 }
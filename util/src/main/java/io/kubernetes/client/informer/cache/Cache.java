@@ -242,6 +242,9 @@ public class Cache<ApiType extends KubernetesObject> implements Indexer<ApiType>
     }
     Map<String, Set<String>> index = this.indices.get(indexName);
     Set<String> set = index.get(indexKey);
+    if (set == null) {
+      return new ArrayList<>();
+    }
     List<String> keys = new ArrayList<>(set.size());
     for (String key : set) {
       keys.add(key);
@@ -362,6 +365,10 @@ public class Cache<ApiType extends KubernetesObject> implements Indexer<ApiType>
         Set<String> indexSet = index.get(indexValue);
         if (indexSet != null) {
           indexSet.remove(key);
+          // drops the emptied sets, as the indexed values e.g. labels may never come back
+          if (indexSet.isEmpty()) {
+            index.remove(indexValue);
+          }
         }
       }
     }
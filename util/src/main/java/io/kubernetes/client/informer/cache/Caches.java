@@ -14,9 +14,16 @@ package io.kubernetes.client.informer.cache;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Strings;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 /** A set of helper utilities for constructing a cache. */
 public class Caches {
@@ -24,6 +31,25 @@ public class Caches {
   /** NAMESPACE_INDEX is the default index function for caching objects */
   public static final String NAMESPACE_INDEX = "namespace";
 
+  /**
+   * LABEL_INDEX is the name of the index by {@link #metaLabelIndexFunc}, which is looked up by
+   * {@link Lister#list(io.kubernetes.client.util.labels.LabelSelector)} when registered.
+   */
+  public static final String LABEL_INDEX = "label";
+
+  /** OWNER_UID_INDEX is the name of the index by {@link #metaOwnerUidIndexFunc}. */
+  public static final String OWNER_UID_INDEX = "ownerUid";
+
+  /** NODE_NAME_INDEX is the name of the index by {@link #podNodeNameIndexFunc}. */
+  public static final String NODE_NAME_INDEX = "nodeName";
+
+  /**
+   * LAST_APPLIED_CONFIGURATION_ANNOTATION is the annotation of the configuration last applied by
+   * kubectl, stripped by {@link #stripLastAppliedConfigurationTransform}.
+   */
+  public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION =
+      "kubectl.kubernetes.io/last-applied-configuration";
+
   /**
    * deletionHandlingMetaNamespaceKeyFunc checks for DeletedFinalStateUnknown objects before calling
    * metaNamespaceKeyFunc.
@@ -71,4 +97,137 @@ public class Caches {
     }
     return Collections.singletonList(metadata.getNamespace());
   }
+
+  /**
+   * metaLabelIndexFunc is an index function that indexes based on an object's labels, each label is
+   * indexed as "key=value", see {@link #labelIndexKey}.
+   *
+   * @param obj specific object
+   * @return the indexed values
+   */
+  public static List<String> metaLabelIndexFunc(KubernetesObject obj) {
+    V1ObjectMeta metadata = obj.getMetadata();
+    if (metadata == null || metadata.getLabels() == null) {
+      return Collections.emptyList();
+    }
+    List<String> indexValues = new ArrayList<>(metadata.getLabels().size());
+    for (Map.Entry<String, String> label : metadata.getLabels().entrySet()) {
+      indexValues.add(labelIndexKey(label.getKey(), label.getValue()));
+    }
+    return indexValues;
+  }
+
+  /**
+   * labelIndexKey returns the key looking up the objects labelled w/ the value in the label index.
+   *
+   * @param key the label key
+   * @param value the label value
+   * @return the index key
+   */
+  public static String labelIndexKey(String key, String value) {
+    return key + "=" + value;
+  }
+
+  /**
+   * metaOwnerUidIndexFunc is an index function that indexes based on the uids of an object's
+   * owners, e.g. for looking up the pods of a replicaset.
+   *
+   * @param obj specific object
+   * @return the indexed values
+   */
+  public static List<String> metaOwnerUidIndexFunc(KubernetesObject obj) {
+    V1ObjectMeta metadata = obj.getMetadata();
+    if (metadata == null || metadata.getOwnerReferences() == null) {
+      return Collections.emptyList();
+    }
+    List<String> indexValues = new ArrayList<>(metadata.getOwnerReferences().size());
+    for (V1OwnerReference ownerReference : metadata.getOwnerReferences()) {
+      indexValues.add(ownerReference.getUid());
+    }
+    return indexValues;
+  }
+
+  /**
+   * podNodeNameIndexFunc is an index function that indexes pods based on the node they're scheduled
+   * to, pods not scheduled yet are not indexed.
+   *
+   * @param pod specific pod
+   * @return the indexed value
+   */
+  public static List<String> podNodeNameIndexFunc(V1Pod pod) {
+    if (pod.getSpec() == null || Strings.isNullOrEmpty(pod.getSpec().getNodeName())) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(pod.getSpec().getNodeName());
+  }
+
+  /**
+   * stripManagedFieldsTransform is an informer transform that drops an object's managed fields,
+   * which take up a large part of the memory of the cached objects and are rarely read by
+   * controllers, see {@link
+   * io.kubernetes.client.informer.impl.DefaultSharedIndexInformer#setTransform}.
+   *
+   * @param <ApiType> the type parameter
+   * @param obj specific object
+   * @return the object w/o managed fields
+   */
+  public static <ApiType extends KubernetesObject> ApiType stripManagedFieldsTransform(
+      ApiType obj) {
+    V1ObjectMeta metadata = obj.getMetadata();
+    if (metadata != null) {
+      metadata.setManagedFields(null);
+    }
+    return obj;
+  }
+
+  /**
+   * stripLastAppliedConfigurationTransform is an informer transform that drops an object's {@link
+   * #LAST_APPLIED_CONFIGURATION_ANNOTATION} annotation, a copy of the whole object as applied.
+   *
+   * @param <ApiType> the type parameter
+   * @param obj specific object
+   * @return the object w/o the annotation
+   */
+  public static <ApiType extends KubernetesObject> ApiType stripLastAppliedConfigurationTransform(
+      ApiType obj) {
+    stripAnnotations(obj, (key, value) -> LAST_APPLIED_CONFIGURATION_ANNOTATION.equals(key));
+    return obj;
+  }
+
+  /**
+   * stripLargeAnnotationsTransform returns an informer transform that drops the annotations of an
+   * object whose values are longer than the given length.
+   *
+   * @param <ApiType> the type parameter
+   * @param maxValueLength the maximum length of the annotation values kept
+   * @return the transform
+   */
+  public static <ApiType extends KubernetesObject>
+      Function<ApiType, ApiType> stripLargeAnnotationsTransform(int maxValueLength) {
+    return obj -> {
+      stripAnnotations(obj, (key, value) -> value != null && value.length() > maxValueLength);
+      return obj;
+    };
+  }
+
+  private static void stripAnnotations(
+      KubernetesObject obj, BiPredicate<String, String> predicate) {
+    V1ObjectMeta metadata = obj.getMetadata();
+    if (metadata == null || metadata.getAnnotations() == null) {
+      return;
+    }
+    Map<String, String> annotations = null;
+    for (Map.Entry<String, String> annotation : metadata.getAnnotations().entrySet()) {
+      if (predicate.test(annotation.getKey(), annotation.getValue())) {
+        if (annotations == null) {
+          // copies the annotations instead of removing in place, they may be immutable
+          annotations = new LinkedHashMap<>(metadata.getAnnotations());
+        }
+        annotations.remove(annotation.getKey());
+      }
+    }
+    if (annotations != null) {
+      metadata.setAnnotations(annotations);
+    }
+  }
 }
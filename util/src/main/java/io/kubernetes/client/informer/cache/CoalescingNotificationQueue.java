@@ -0,0 +1,335 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.common.KubernetesObject;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * CoalescingNotificationQueue is a bounded queue of notifications for a {@link ProcessorListener}
+ * which keeps only the latest state of each object while its notifications are pending, so that a
+ * slow event handler doesn't accumulate every intermediate state of frequently updated objects.
+ *
+ * <p>A pending add followed by an update is delivered as an add of the new state, consecutive
+ * updates are delivered as one update from the first old state to the last new state, an update
+ * followed by a delete is delivered as the delete, and a pending add followed by a delete is
+ * dropped. A delete followed by a re-creation is delivered as both. Notifications of different
+ * objects are delivered in the order their objects were first queued.
+ *
+ * <p>The capacity bounds the number of objects having pending notifications. The notifications of
+ * objects already pending, which coalesce in place, and deletions are always accepted, so that no
+ * notification is ever lost. Putting a notification of another object into a full queue blocks
+ * until the handler catches up, while offering it fails. A {@link ProcessorListener} holds back the
+ * notifications which don't fit, and the informer holds back further deltas, until the handler
+ * makes room, see {@link ProcessorListener#addHeldBack}.
+ */
+public class CoalescingNotificationQueue<ApiType extends KubernetesObject>
+    extends AbstractQueue<ProcessorListener.Notification<ApiType>>
+    implements BlockingQueue<ProcessorListener.Notification<ApiType>> {
+
+  private final Function<KubernetesObject, String> keyFunc;
+
+  private final int capacity;
+
+  /** pending notifications by object key, in the order the keys were queued */
+  private final LinkedHashMap<String, Deque<ProcessorListener.Notification<ApiType>>> pending =
+      new LinkedHashMap<>();
+
+  private int count;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition notEmpty = lock.newCondition();
+
+  private final Condition notFull = lock.newCondition();
+
+  public CoalescingNotificationQueue(int capacity) {
+    this(Caches::deletionHandlingMetaNamespaceKeyFunc, capacity);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param keyFunc the key func by which notifications of the same object are matched
+   * @param capacity the maximum number of objects having pending notifications
+   */
+  public CoalescingNotificationQueue(Function<KubernetesObject, String> keyFunc, int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.keyFunc = keyFunc;
+    this.capacity = capacity;
+  }
+
+  @Override
+  public boolean offer(ProcessorListener.Notification<ApiType> notification) {
+    lock.lock();
+    try {
+      return enqueueLocked(notification);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void put(ProcessorListener.Notification<ApiType> notification)
+      throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (!enqueueLocked(notification)) {
+        notFull.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(
+      ProcessorListener.Notification<ApiType> notification, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (!enqueueLocked(notification)) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = notFull.awaitNanos(nanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public ProcessorListener.Notification<ApiType> take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (count == 0) {
+        notEmpty.await();
+      }
+      return dequeueLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public ProcessorListener.Notification<ApiType> poll(long timeout, TimeUnit unit)
+      throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (count == 0) {
+        if (nanos <= 0) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      return dequeueLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public ProcessorListener.Notification<ApiType> poll() {
+    lock.lock();
+    try {
+      return count == 0 ? null : dequeueLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public ProcessorListener.Notification<ApiType> peek() {
+    lock.lock();
+    try {
+      return count == 0 ? null : pending.values().iterator().next().peekFirst();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int remainingCapacity() {
+    lock.lock();
+    try {
+      return Math.max(0, capacity - pending.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int drainTo(Collection<? super ProcessorListener.Notification<ApiType>> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(
+      Collection<? super ProcessorListener.Notification<ApiType>> c, int maxElements) {
+    lock.lock();
+    try {
+      int n = 0;
+      while (n < maxElements && count > 0) {
+        c.add(dequeueLocked());
+        n++;
+      }
+      return n;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns a snapshot of the pending notifications. */
+  @Override
+  public Iterator<ProcessorListener.Notification<ApiType>> iterator() {
+    lock.lock();
+    try {
+      List<ProcessorListener.Notification<ApiType>> snapshot = new ArrayList<>(count);
+      for (Deque<ProcessorListener.Notification<ApiType>> notifications : pending.values()) {
+        snapshot.addAll(notifications);
+      }
+      return snapshot.iterator();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Caller must hold the lock. Returns false if the queue is full and the notification is neither
+   * of a pending object nor a deletion.
+   */
+  private boolean enqueueLocked(ProcessorListener.Notification<ApiType> notification) {
+    String key = keyFunc.apply(objectOf(notification));
+    Deque<ProcessorListener.Notification<ApiType>> notifications = pending.get(key);
+    if (notifications != null) {
+      ProcessorListener.Notification<ApiType> last = notifications.peekLast();
+      if (last instanceof ProcessorListener.AddNotification
+          && notification instanceof ProcessorListener.DeleteNotification) {
+        // the handler never saw the object
+        notifications.pollLast();
+        count--;
+        if (notifications.isEmpty()) {
+          pending.remove(key);
+        }
+        notFull.signal();
+        return true;
+      }
+      ProcessorListener.Notification<ApiType> coalesced = coalesce(last, notification);
+      if (coalesced != null) {
+        notifications.pollLast();
+        notifications.addLast(coalesced);
+        return true;
+      }
+    }
+    if (notifications == null
+        && pending.size() >= capacity
+        && !(notification instanceof ProcessorListener.DeleteNotification)) {
+      return false;
+    }
+    if (notifications == null) {
+      notifications = new ArrayDeque<>(2);
+      pending.put(key, notifications);
+    }
+    notifications.addLast(notification);
+    count++;
+    notEmpty.signal();
+    return true;
+  }
+
+  /** Caller must hold the lock and there must be a pending notification. */
+  private ProcessorListener.Notification<ApiType> dequeueLocked() {
+    Iterator<Map.Entry<String, Deque<ProcessorListener.Notification<ApiType>>>> it =
+        pending.entrySet().iterator();
+    Deque<ProcessorListener.Notification<ApiType>> notifications = it.next().getValue();
+    ProcessorListener.Notification<ApiType> notification = notifications.pollFirst();
+    if (notifications.isEmpty()) {
+      it.remove();
+    }
+    count--;
+    notFull.signal();
+    return notification;
+  }
+
+  // returns the notification carrying the latest state of both, or null if they can't be merged.
+  private static <ApiType> ProcessorListener.Notification<ApiType> coalesce(
+      ProcessorListener.Notification<ApiType> last,
+      ProcessorListener.Notification<ApiType> notification) {
+    if (last instanceof ProcessorListener.DeleteNotification) {
+      // a re-created object must be delivered after its deletion
+      return null;
+    }
+    if (notification instanceof ProcessorListener.UpdateNotification) {
+      ApiType newObj = ((ProcessorListener.UpdateNotification<ApiType>) notification).getNewObj();
+      if (last instanceof ProcessorListener.AddNotification) {
+        return new ProcessorListener.AddNotification<>(newObj);
+      }
+      if (last instanceof ProcessorListener.UpdateNotification) {
+        ApiType oldObj = ((ProcessorListener.UpdateNotification<ApiType>) last).getOldObj();
+        return new ProcessorListener.UpdateNotification<>(oldObj, newObj);
+      }
+    }
+    if (notification instanceof ProcessorListener.DeleteNotification
+        && last instanceof ProcessorListener.UpdateNotification) {
+      return notification;
+    }
+    if (notification instanceof ProcessorListener.AddNotification
+        && last instanceof ProcessorListener.AddNotification) {
+      return notification;
+    }
+    return null;
+  }
+
+  private static KubernetesObject objectOf(ProcessorListener.Notification<?> notification) {
+    if (notification instanceof ProcessorListener.AddNotification) {
+      return (KubernetesObject) ((ProcessorListener.AddNotification<?>) notification).getNewObj();
+    }
+    if (notification instanceof ProcessorListener.UpdateNotification) {
+      return (KubernetesObject)
+          ((ProcessorListener.UpdateNotification<?>) notification).getNewObj();
+    }
+    if (notification instanceof ProcessorListener.DeleteNotification) {
+      return (KubernetesObject)
+          ((ProcessorListener.DeleteNotification<?>) notification).getOldObj();
+    }
+    throw new IllegalArgumentException("unrecognized notification");
+  }
+}
@@ -0,0 +1,327 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.common.KubernetesObject;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.apache.commons.collections4.CollectionUtils;
+
+/**
+ * ConcurrentCache is an {@link Indexer} that allows readers to proceed without blocking on writers.
+ * Items and index buckets are kept in concurrent maps, so list/get/index lookups never take a lock.
+ * Writes, which normally come only from the informer thread, are serialized by a single lock so
+ * that an object and its index entries are always updated together.
+ *
+ * <p>Unlike {@link Cache}, readers may observe a write in progress, e.g. an index lookup running
+ * concurrently with an update can return the object in either its old or its new state. A replace
+ * is published atomically. Null objects and null keys are not accepted, a null index value (e.g.
+ * the namespace of a cluster-scoped object) is supported.
+ */
+public class ConcurrentCache<ApiType extends KubernetesObject> implements Indexer<ApiType> {
+
+  // concurrent maps reject null keys, null index values are stored under this placeholder which
+  // can never be a valid kubernetes name.
+  private static final String NULL_INDEX_VALUE = "\u0000";
+
+  /** keyFunc defines how to map objects into indices */
+  private Function<ApiType, String> keyFunc;
+
+  /** indexers stores index functions by their names */
+  private final Map<String, Function<ApiType, List<String>>> indexers = new ConcurrentHashMap<>();
+
+  /** state holds the items and their indices, swapped as a whole upon replace */
+  private volatile State<ApiType> state = new State<>();
+
+  /** writeLock serializes mutations */
+  private final Lock writeLock = new ReentrantLock();
+
+  public ConcurrentCache() {
+    this(
+        Caches.NAMESPACE_INDEX,
+        Caches::metaNamespaceIndexFunc,
+        Caches::deletionHandlingMetaNamespaceKeyFunc);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param indexName the index name, an unique name representing the index
+   * @param indexFunc the index func by which we map multiple object to an index for querying
+   * @param keyFunc the key func by which we map one object to an unique key for storing
+   */
+  public ConcurrentCache(
+      String indexName,
+      Function<ApiType, List<String>> indexFunc,
+      Function<ApiType, String> keyFunc) {
+    this.indexers.put(indexName, indexFunc);
+    this.keyFunc = keyFunc;
+    this.state.indices.put(indexName, new ConcurrentHashMap<>());
+  }
+
+  @Override
+  public void add(ApiType obj) {
+    String key = keyFunc.apply(obj);
+    writeLock.lock();
+    try {
+      State<ApiType> current = this.state;
+      ApiType oldObj = current.items.put(key, obj);
+      updateIndicesLocked(current, oldObj, obj, key);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void update(ApiType obj) {
+    add(obj);
+  }
+
+  @Override
+  public void delete(ApiType obj) {
+    String key = keyFunc.apply(obj);
+    writeLock.lock();
+    try {
+      State<ApiType> current = this.state;
+      ApiType oldObj = current.items.remove(key);
+      if (oldObj != null) {
+        deleteFromIndicesLocked(current, oldObj, key);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Replace the content in the cache completely. The new content is built aside and published at
+   * once, readers keep seeing the previous content until then.
+   *
+   * @param list the list
+   * @param resourceVersion the resource version
+   */
+  @Override
+  public void replace(List<ApiType> list, String resourceVersion) {
+    writeLock.lock();
+    try {
+      State<ApiType> newState = new State<>();
+      for (String indexName : this.indexers.keySet()) {
+        newState.indices.put(indexName, new ConcurrentHashMap<>());
+      }
+      for (ApiType item : list) {
+        String key = keyFunc.apply(item);
+        ApiType oldObj = newState.items.put(key, item);
+        updateIndicesLocked(newState, oldObj, item, key);
+      }
+      this.state = newState;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /** Resync. */
+  @Override
+  public void resync() {
+    // Do nothing by default
+  }
+
+  @Override
+  public List<String> listKeys() {
+    return new ArrayList<>(this.state.items.keySet());
+  }
+
+  @Override
+  public ApiType get(ApiType obj) {
+    return getByKey(this.keyFunc.apply(obj));
+  }
+
+  @Override
+  public List<ApiType> list() {
+    return new ArrayList<>(this.state.items.values());
+  }
+
+  @Override
+  public ApiType getByKey(String key) {
+    return this.state.items.get(key);
+  }
+
+  @Override
+  public List<ApiType> index(String indexName, ApiType obj) {
+    Function<ApiType, List<String>> indexFunc = getIndexFunc(indexName);
+    List<String> indexKeys = indexFunc.apply(obj);
+    State<ApiType> current = this.state;
+    Map<String, Set<String>> index = current.indices.get(indexName);
+    if (index == null || CollectionUtils.isEmpty(indexKeys)) {
+      return new ArrayList<>();
+    }
+    Set<String> returnKeySet = new HashSet<>();
+    for (String indexKey : indexKeys) {
+      Set<String> set = index.get(indexValueOf(indexKey));
+      if (set != null) {
+        returnKeySet.addAll(set);
+      }
+    }
+    return current.getAll(returnKeySet);
+  }
+
+  @Override
+  public List<String> indexKeys(String indexName, String indexKey) {
+    getIndexFunc(indexName);
+    Map<String, Set<String>> index = this.state.indices.get(indexName);
+    Set<String> set = index == null ? null : index.get(indexValueOf(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(set);
+  }
+
+  @Override
+  public List<ApiType> byIndex(String indexName, String indexKey) {
+    getIndexFunc(indexName);
+    State<ApiType> current = this.state;
+    Map<String, Set<String>> index = current.indices.get(indexName);
+    Set<String> set = index == null ? null : index.get(indexValueOf(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
+    }
+    return current.getAll(set);
+  }
+
+  @Override
+  public Map<String, Function<ApiType, List<String>>> getIndexers() {
+    return indexers;
+  }
+
+  @Override
+  public void addIndexers(Map<String, Function<ApiType, List<String>>> newIndexers) {
+    writeLock.lock();
+    try {
+      if (!this.state.items.isEmpty()) {
+        throw new IllegalStateException("cannot add indexers to a non-empty cache");
+      }
+      Set<String> intersection = new HashSet<>(indexers.keySet());
+      intersection.retainAll(newIndexers.keySet());
+      if (!intersection.isEmpty()) {
+        throw new IllegalArgumentException("indexer conflict: " + intersection);
+      }
+      for (Map.Entry<String, Function<ApiType, List<String>>> indexEntry : newIndexers.entrySet()) {
+        addIndexFunc(indexEntry.getKey(), indexEntry.getValue());
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Add index func.
+   *
+   * @param indexName the index name
+   * @param indexFunc the index func
+   */
+  public void addIndexFunc(String indexName, Function<ApiType, List<String>> indexFunc) {
+    writeLock.lock();
+    try {
+      this.state.indices.put(indexName, new ConcurrentHashMap<>());
+      this.indexers.put(indexName, indexFunc);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public Function<ApiType, String> getKeyFunc() {
+    return keyFunc;
+  }
+
+  public void setKeyFunc(Function<ApiType, String> keyFunc) {
+    this.keyFunc = keyFunc;
+  }
+
+  private Function<ApiType, List<String>> getIndexFunc(String indexName) {
+    Function<ApiType, List<String>> indexFunc = this.indexers.get(indexName);
+    if (indexFunc == null) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
+    }
+    return indexFunc;
+  }
+
+  private static String indexValueOf(String indexValue) {
+    return indexValue == null ? NULL_INDEX_VALUE : indexValue;
+  }
+
+  /** Caller must hold the write lock. */
+  private void updateIndicesLocked(
+      State<ApiType> current, ApiType oldObj, ApiType newObj, String key) {
+    if (oldObj != null) {
+      deleteFromIndicesLocked(current, oldObj, key);
+    }
+    for (Map.Entry<String, Function<ApiType, List<String>>> indexEntry : indexers.entrySet()) {
+      List<String> indexValues = indexEntry.getValue().apply(newObj);
+      if (CollectionUtils.isEmpty(indexValues)) {
+        continue;
+      }
+      Map<String, Set<String>> index =
+          current.indices.computeIfAbsent(indexEntry.getKey(), k -> new ConcurrentHashMap<>());
+      for (String indexValue : indexValues) {
+        index
+            .computeIfAbsent(indexValueOf(indexValue), k -> ConcurrentHashMap.newKeySet())
+            .add(key);
+      }
+    }
+  }
+
+  /** Caller must hold the write lock. Drops index buckets once they become empty. */
+  private void deleteFromIndicesLocked(State<ApiType> current, ApiType oldObj, String key) {
+    for (Map.Entry<String, Function<ApiType, List<String>>> indexEntry : indexers.entrySet()) {
+      List<String> indexValues = indexEntry.getValue().apply(oldObj);
+      if (CollectionUtils.isEmpty(indexValues)) {
+        continue;
+      }
+      Map<String, Set<String>> index = current.indices.get(indexEntry.getKey());
+      if (index == null) {
+        continue;
+      }
+      for (String indexValue : indexValues) {
+        String indexValueKey = indexValueOf(indexValue);
+        Set<String> indexSet = index.get(indexValueKey);
+        if (indexSet != null && indexSet.remove(key) && indexSet.isEmpty()) {
+          index.remove(indexValueKey);
+        }
+      }
+    }
+  }
+
+  private static class State<ApiType> {
+
+    private final Map<String, ApiType> items = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Set<String>>> indices = new ConcurrentHashMap<>();
+
+    // keys can be removed concurrently, so missing items are skipped
+    private List<ApiType> getAll(Set<String> keys) {
+      List<ApiType> result = new ArrayList<>(keys.size());
+      for (String key : keys) {
+        ApiType item = items.get(key);
+        if (item != null) {
+          result.add(item);
+        }
+      }
+      return result;
+    }
+  }
+}
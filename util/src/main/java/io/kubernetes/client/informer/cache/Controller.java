@@ -18,11 +18,15 @@ import io.kubernetes.client.informer.ListerWatcher;
 import io.kubernetes.client.informer.ResyncRunnable;
 import io.kubernetes.client.util.Threads;
 import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -40,6 +44,8 @@ public class Controller<
 
   private static final long DEFAULT_PERIOD = 1000L;
 
+  private static final long PROCESSABLE_POLL_MILLIS = 10L;
+
   /** resync fifo internal in millis */
   private long fullResyncPeriod;
 
@@ -55,6 +61,19 @@ public class Controller<
   /** how we actually process items from the queue */
   private Consumer<Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>>> processFunc;
 
+  /** how we process items from the queue in batches, null disables batch processing */
+  private Consumer<List<Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>>>>
+      batchProcessFunc;
+
+  /** the maximum number of keys popped from the queue per batch */
+  private int processBatchSize;
+
+  /** polled w/o holding the queue's lock before popping items, null always pops them */
+  private Supplier<Boolean> processableFunc;
+
+  /** whether a drain is scheduled to retry once the items are processable */
+  private final AtomicBoolean retryScheduled = new AtomicBoolean();
+
   private ScheduledExecutorService reflectExecutor;
 
   private ScheduledExecutorService resyncExecutor;
@@ -63,7 +82,18 @@ public class Controller<
 
   private Class<ApiType> apiTypeClass;
 
-  private ScheduledFuture reflectorFuture;
+  private Future reflectorFuture;
+
+  /** the shared scheduler running resync and queue draining, null runs them on own threads */
+  private ScheduledExecutorService sharedScheduler;
+
+  /** the shared executor running the reflector's blocking list-watch */
+  private ExecutorService sharedWatchExecutor;
+
+  private SerialDrainer processDrainer;
+
+  /** the maximum number of items per list request, zero disables paginated listing */
+  private int listPageSize;
 
   public Controller(
       Class<ApiType> apiTypeClass,
@@ -98,14 +128,21 @@ public class Controller<
     this(apiTypeClass, queue, listerWatcher, popProcessFunc, null, 0);
   }
 
+  /**
+   * run starts the resync and reflector runnable, then processes the queue until interrupted. If
+   * shared executors are set, the queue is drained by tasks on the shared scheduler instead and run
+   * returns right away.
+   */
   public void run() {
     log.info("informer#Controller: ready to run resync & reflector runnable");
 
     // start the resync runnable
     if (fullResyncPeriod > 0) {
       ResyncRunnable resyncRunnable = new ResyncRunnable(queue, resyncFunc);
+      ScheduledExecutorService resyncScheduler =
+          sharedScheduler != null ? sharedScheduler : resyncExecutor;
       resyncFuture =
-          resyncExecutor.scheduleAtFixedRate(
+          resyncScheduler.scheduleAtFixedRate(
               resyncRunnable::run, fullResyncPeriod, fullResyncPeriod, TimeUnit.MILLISECONDS);
     } else {
       log.info("informer#Controller: resync skipped due to 0 full resync period");
@@ -113,11 +150,22 @@ public class Controller<
 
     synchronized (this) {
       // TODO(yue9944882): proper naming for reflector
-      reflector = new ReflectorRunnable<ApiType, ApiListType>(apiTypeClass, listerWatcher, queue);
+      reflector =
+          new ReflectorRunnable<ApiType, ApiListType>(
+              apiTypeClass,
+              listerWatcher,
+              queue,
+              ReflectorRunnable::defaultWatchErrorHandler,
+              listPageSize);
       try {
-        reflectorFuture =
-            reflectExecutor.scheduleWithFixedDelay(
-                reflector::run, 0L, DEFAULT_PERIOD, TimeUnit.MILLISECONDS);
+        if (sharedWatchExecutor != null) {
+          ReflectorRunnable<ApiType, ApiListType> reflector = this.reflector;
+          reflectorFuture = sharedWatchExecutor.submit(() -> reflectLoop(reflector));
+        } else {
+          reflectorFuture =
+              reflectExecutor.scheduleWithFixedDelay(
+                  reflector::run, 0L, DEFAULT_PERIOD, TimeUnit.MILLISECONDS);
+        }
       } catch (RejectedExecutionException e) {
         // submitting reflector list-watching job can fail due to concurrent invocation of
         // `shutdown`. handling exception with a warning then return.
@@ -126,6 +174,16 @@ public class Controller<
       }
     }
 
+    if (sharedScheduler != null) {
+      // drain the queue on demand
+      synchronized (this) {
+        processDrainer = new SerialDrainer(sharedScheduler, this::processAvailable);
+        queue.setQueuedFunc(processDrainer::signal);
+      }
+      processDrainer.signal();
+      return;
+    }
+
     // start the process loop
     this.processLoop();
   }
@@ -133,14 +191,61 @@ public class Controller<
   /** stops the resync thread pool firstly, then stop the reflector */
   public void stop() {
     synchronized (this) {
+      if (resyncFuture != null) {
+        resyncFuture.cancel(false);
+      }
       if (reflectorFuture != null) {
         reflector.stop();
         reflectorFuture.cancel(true);
       }
+      if (processDrainer != null) {
+        queue.setQueuedFunc(null);
+        processDrainer.stop();
+      }
     }
     reflectExecutor.shutdown();
   }
 
+  /**
+   * Sets shared executors so that the controller doesn't start threads of its own, it takes effect
+   * from the next run. The resync runnable is scheduled and the queue is drained on the scheduler,
+   * which must not be shut down by the controller, and the reflector runs its blocking list-watch
+   * on the watch executor.
+   *
+   * @param scheduler the shared scheduler
+   * @param watchExecutor the shared executor for list-watching
+   */
+  public void setSharedExecutors(
+      ScheduledExecutorService scheduler, ExecutorService watchExecutor) {
+    this.sharedScheduler = scheduler;
+    this.sharedWatchExecutor = watchExecutor;
+  }
+
+  /**
+   * Sets the maximum number of items the reflector lists per request, it takes effect from the next
+   * run. Zero, which is the default, disables paginated listing.
+   *
+   * @param listPageSize the list page size
+   */
+  public void setListPageSize(int listPageSize) {
+    this.listPageSize = listPageSize;
+  }
+
+  /**
+   * Sets the func processing items popped from the queue in batches of up to processBatchSize keys,
+   * which cuts lock hand-offs when there're lots of items, e.g. upon the initial list. It takes
+   * effect from the next run, a null func restores one-by-one processing.
+   *
+   * @param processBatchSize the maximum number of keys per batch
+   * @param batchProcessFunc the batch process func
+   */
+  public void setBatchProcessFunc(
+      int processBatchSize,
+      Consumer<List<Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>>>> batchProcessFunc) {
+    this.processBatchSize = processBatchSize;
+    this.batchProcessFunc = batchProcessFunc;
+  }
+
   /** returns true if the queue has been resycned */
   public boolean hasSynced() {
     return this.queue.hasSynced();
@@ -154,11 +259,92 @@ public class Controller<
     return reflector.getLastSyncResourceVersion();
   }
 
+  /** returns how many times the reflector listed again after its initial list */
+  public long relistCount() {
+    if (reflector == null) {
+      return 0;
+    }
+    return reflector.getRelistCount();
+  }
+
+  /** returns how many times the reflector restarted watching w/o listing */
+  public long watchRestartCount() {
+    if (reflector == null) {
+      return 0;
+    }
+    return reflector.getWatchRestartCount();
+  }
+
+  // reflectLoop runs the reflector again after a period every time it returns, just like the
+  // reflector executor does, until the reflector is stopped.
+  private void reflectLoop(ReflectorRunnable<ApiType, ApiListType> reflector) {
+    while (reflector.isActive()) {
+      reflector.run();
+      try {
+        Thread.sleep(DEFAULT_PERIOD);
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Sets the func telling whether further items can be popped from the queue, e.g. false while the
+   * event handlers can't take more notifications. It's called w/o holding the queue's lock and
+   * polled until it returns true, so it must not block. Null, which is the default, always pops the
+   * items.
+   *
+   * @param processableFunc the processable func
+   */
+  public void setProcessableFunc(Supplier<Boolean> processableFunc) {
+    this.processableFunc = processableFunc;
+  }
+
+  // processAvailable processes the items available in the queue w/o waiting, returns false if
+  // there was none, or if they aren't processable yet in which case the drain is retried later.
+  private boolean processAvailable() {
+    if (!isProcessable()) {
+      if (retryScheduled.compareAndSet(false, true)) {
+        try {
+          sharedScheduler.schedule(
+              () -> {
+                retryScheduled.set(false);
+                SerialDrainer drainer = this.processDrainer;
+                if (drainer != null) {
+                  drainer.signal();
+                }
+              },
+              PROCESSABLE_POLL_MILLIS,
+              TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+          retryScheduled.set(false);
+        }
+      }
+      return false;
+    }
+    if (this.batchProcessFunc != null) {
+      return !this.queue.pollBatch(this.processBatchSize, this.batchProcessFunc).isEmpty();
+    }
+    return this.queue.poll(this.processFunc) != null;
+  }
+
+  private boolean isProcessable() {
+    Supplier<Boolean> processableFunc = this.processableFunc;
+    return processableFunc == null || processableFunc.get();
+  }
+
   /** processLoop drains the work queue. */
   private void processLoop() {
     while (true) {
       try {
-        this.queue.pop(this.processFunc);
+        while (!isProcessable()) {
+          Thread.sleep(PROCESSABLE_POLL_MILLIS);
+        }
+        if (this.batchProcessFunc != null) {
+          this.queue.popBatch(this.processBatchSize, this.batchProcessFunc);
+        } else {
+          this.queue.pop(this.processFunc);
+        }
       } catch (InterruptedException t) {
         log.error("DefaultController#processLoop get interrupted {}", t.getMessage(), t);
         return;
@@ -14,11 +14,11 @@ package io.kubernetes.client.informer.cache;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -41,7 +41,8 @@ public class DeltaFIFO {
 
   private Function<KubernetesObject, String> keyFunc;
 
-  // `items` maps keys to Deltas.
+  // `items` maps keys to Deltas. Deltas of a key are appended and de-duplicated in place until
+  // the key is popped.
   private Map<String, Deque<MutablePair<DeltaType, KubernetesObject>>> items;
 
   // `queue` maintains FIFO order of keys for consumption in Pop().
@@ -68,6 +69,9 @@ public class DeltaFIFO {
   /** indicates if the store is empty * */
   private Condition notEmpty;
 
+  /** notified whenever deltas are queued, e.g. to schedule draining on a shared executor */
+  private volatile Runnable queuedFunc;
+
   /**
    * Constructor.
    *
@@ -79,7 +83,7 @@ public class DeltaFIFO {
     this.keyFunc = keyFunc;
     this.knownObjects = knownObjects;
     this.items = new HashMap<>();
-    this.queue = new LinkedList<>();
+    this.queue = new ArrayDeque<>();
     this.notEmpty = lock.writeLock().newCondition();
   }
 
@@ -152,41 +156,92 @@ public class DeltaFIFO {
     lock.writeLock().lock();
     try {
       Set<String> keys = new HashSet<>();
-      for (KubernetesObject obj : list) {
-        String key = this.keyOf(obj);
-        keys.add(key);
-        this.queueActionLocked(DeltaType.Sync, obj);
+      this.queueReplacingLocked(list, keys);
+      this.completeReplaceLocked(keys);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Queues one page of a paginated list as Sync deltas. Keys of the queued objects are collected
+   * into replacingKeys, which must be passed to {@link #completeReplace} once the last page has
+   * been queued. Until then the FIFO is not considered synced.
+   *
+   * @param page the objects in the page
+   * @param replacingKeys keys of all the objects listed so far
+   */
+  public void replacePage(List<KubernetesObject> page, Set<String> replacingKeys) {
+    lock.writeLock().lock();
+    try {
+      this.queueReplacingLocked(page, replacingKeys);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Completes a paginated replace started by {@link #replacePage}, queueing deletions for the
+   * objects which didn't show up in any page.
+   *
+   * @param replacingKeys keys of all the listed objects
+   * @param resourceVersion the resource version
+   */
+  public void completeReplace(Set<String> replacingKeys, String resourceVersion) {
+    lock.writeLock().lock();
+    try {
+      this.completeReplaceLocked(replacingKeys);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Caller must hold the lock. */
+  private void queueReplacingLocked(List<KubernetesObject> list, Set<String> keys) {
+    for (KubernetesObject obj : list) {
+      String key = this.keyOf(obj);
+      keys.add(key);
+      if (this.queueActionLocked(DeltaType.Sync, obj) && !this.populated) {
+        // items of the initial list can be popped before the list completes. keys still queued,
+        // e.g. from the pages of a list which was retried, are only counted once.
+        this.initialPopulationCount++;
       }
+    }
+  }
 
-      if (this.knownObjects == null) {
-        for (Map.Entry<String, Deque<MutablePair<DeltaType, KubernetesObject>>> entry :
-            this.items.entrySet()) {
-          if (keys.contains(entry.getKey())) {
-            continue;
-          }
-
-          KubernetesObject deletedObj = null;
-          MutablePair<DeltaType, KubernetesObject> delta =
-              entry.getValue().peekLast(); // get newest
-          if (delta != null) {
-            deletedObj = delta.getRight();
-          }
-          this.queueActionLocked(
-              DeltaType.Deleted, new DeletedFinalStateUnknown(entry.getKey(), deletedObj));
-        }
+  /** Caller must hold the lock. */
+  private void completeReplaceLocked(Set<String> keys) {
+    // Detect deletions against the queued items, e.g. items queued by the earlier pages of a
+    // paginated list which fell back to a full list, otherwise they'd be popped as Sync deltas
+    // even though they're gone.
+    Set<String> deletedKeys = new HashSet<>();
+    for (Map.Entry<String, Deque<MutablePair<DeltaType, KubernetesObject>>> entry :
+        this.items.entrySet()) {
+      if (keys.contains(entry.getKey())) {
+        continue;
+      }
 
-        if (!this.populated) {
-          this.populated = true;
-          this.initialPopulationCount = list.size();
+      KubernetesObject deletedObj = null;
+      MutablePair<DeltaType, KubernetesObject> delta = entry.getValue().peekLast(); // get newest
+      if (delta != null) {
+        deletedObj = delta.getRight();
+        // the newest delta may be the deletion detected by an earlier replace, in which case the
+        // actual object has to be extracted.
+        if (deletedObj instanceof DeletedFinalStateUnknown) {
+          deletedObj = ((DeletedFinalStateUnknown) deletedObj).getObj();
         }
-        return;
       }
+      deletedKeys.add(entry.getKey());
+      this.queueActionLocked(
+          DeltaType.Deleted, new DeletedFinalStateUnknown(entry.getKey(), deletedObj));
+    }
 
+    int queuedDeletion = 0;
+    if (this.knownObjects != null) {
       // Detect deletions not already in the queue.
       List<String> knownKeys = this.knownObjects.listKeys();
-      int queueDeletion = 0;
       for (String knownKey : knownKeys) {
-        if (keys.contains(knownKey)) {
+        if (keys.contains(knownKey) || deletedKeys.contains(knownKey)) {
           continue;
         }
 
@@ -196,17 +251,16 @@ public class DeltaFIFO {
               "Key {} does not exist in known objects store, placing DeleteFinalStateUnknown marker without object",
               knownKey);
         }
-        queueDeletion++;
-        this.queueActionLocked(
-            DeltaType.Deleted, new DeletedFinalStateUnknown(knownKey, deletedObj));
+        if (this.queueActionLocked(
+            DeltaType.Deleted, new DeletedFinalStateUnknown(knownKey, deletedObj))) {
+          queuedDeletion++;
+        }
       }
+    }
 
-      if (!this.populated) {
-        this.populated = true;
-        this.initialPopulationCount = list.size() + queueDeletion;
-      }
-    } finally {
-      lock.writeLock().unlock();
+    if (!this.populated) {
+      this.populated = true;
+      this.initialPopulationCount += queuedDeletion;
     }
   }
 
@@ -271,8 +325,7 @@ public class DeltaFIFO {
     try {
       Deque<MutablePair<DeltaType, KubernetesObject>> deltas = this.items.get(key);
       if (deltas != null) {
-        // returning a shallow copy
-        return new LinkedList<>(deltas);
+        return copyDeltas(deltas);
       }
     } finally {
       lock.readLock().unlock();
@@ -287,14 +340,11 @@ public class DeltaFIFO {
    */
   public List<Deque<MutablePair<DeltaType, KubernetesObject>>> list() {
     lock.readLock().lock();
-    List<Deque<MutablePair<DeltaType, KubernetesObject>>> objects = new ArrayList<>();
+    List<Deque<MutablePair<DeltaType, KubernetesObject>>> objects;
     try {
-      // TODO: make a generic deep copy utility
-      for (Map.Entry<String, Deque<MutablePair<DeltaType, KubernetesObject>>> entry :
-          items.entrySet()) {
-        Deque<MutablePair<DeltaType, KubernetesObject>> copiedDeltas =
-            new LinkedList<>(entry.getValue());
-        objects.add(copiedDeltas);
+      objects = new ArrayList<>(items.size());
+      for (Deque<MutablePair<DeltaType, KubernetesObject>> deltas : items.values()) {
+        objects.add(copyDeltas(deltas));
       }
     } finally {
       lock.readLock().unlock();
@@ -318,26 +368,130 @@ public class DeltaFIFO {
           notEmpty.await();
         }
         // there should have data now
-        String id = this.queue.removeFirst();
-        if (this.initialPopulationCount > 0) {
-          this.initialPopulationCount--;
-        }
-        if (!this.items.containsKey(id)) {
-          // Item may have been deleted subsequently.
-          continue;
+        Deque<MutablePair<DeltaType, KubernetesObject>> deltas = popLocked(func);
+        if (deltas != null) {
+          return deltas;
         }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
 
-        Deque<MutablePair<DeltaType, KubernetesObject>> deltas = this.items.get(id);
-        this.items.remove(id);
-        func.accept(deltas);
-        // Don't make any copyDeltas here
-        return deltas;
+  /**
+   * Pops deltas like {@link #pop} but w/o waiting.
+   *
+   * @param func the func
+   * @return the deltas, or null if the queue is empty
+   */
+  public Deque<MutablePair<DeltaType, KubernetesObject>> poll(
+      Consumer<Deque<MutablePair<DeltaType, KubernetesObject>>> func) {
+    lock.writeLock().lock();
+    try {
+      return popLocked(func);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Pops deltas of up to maxKeys keys at once, waiting until there's at least one. The deltas are
+   * processed while holding the lock just like {@link #pop}, but the lock is acquired once per
+   * batch instead of once per key.
+   *
+   * @param maxKeys the maximum number of keys to pop
+   * @param func the func processing the popped deltas, from the oldest key to the newest
+   * @return the popped deltas
+   * @throws InterruptedException the interrupted exception
+   */
+  public List<Deque<MutablePair<DeltaType, KubernetesObject>>> popBatch(
+      int maxKeys, Consumer<List<Deque<MutablePair<DeltaType, KubernetesObject>>>> func)
+      throws InterruptedException {
+    lock.writeLock().lock();
+    try {
+      while (true) {
+        while (queue.isEmpty()) {
+          notEmpty.await();
+        }
+        List<Deque<MutablePair<DeltaType, KubernetesObject>>> batch = popBatchLocked(maxKeys, func);
+        if (!batch.isEmpty()) {
+          return batch;
+        }
       }
     } finally {
       lock.writeLock().unlock();
     }
   }
 
+  /**
+   * Pops deltas in a batch like {@link #popBatch} but w/o waiting.
+   *
+   * @param maxKeys the maximum number of keys to pop
+   * @param func the func processing the popped deltas, from the oldest key to the newest
+   * @return the popped deltas, empty if the queue is empty
+   */
+  public List<Deque<MutablePair<DeltaType, KubernetesObject>>> pollBatch(
+      int maxKeys, Consumer<List<Deque<MutablePair<DeltaType, KubernetesObject>>>> func) {
+    lock.writeLock().lock();
+    try {
+      return popBatchLocked(maxKeys, func);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Sets the func notified whenever deltas are queued, so that the queue can be drained by tasks
+   * scheduled on demand instead of a thread blocking in {@link #pop}. The func is called while
+   * holding the lock, so it must not block.
+   *
+   * @param queuedFunc the func
+   */
+  public void setQueuedFunc(Runnable queuedFunc) {
+    this.queuedFunc = queuedFunc;
+  }
+
+  /** Pops the first key having deltas, returns null if there's none. Caller must hold the lock. */
+  private Deque<MutablePair<DeltaType, KubernetesObject>> popLocked(
+      Consumer<Deque<MutablePair<DeltaType, KubernetesObject>>> func) {
+    while (!queue.isEmpty()) {
+      String id = this.queue.removeFirst();
+      if (this.initialPopulationCount > 0) {
+        this.initialPopulationCount--;
+      }
+      Deque<MutablePair<DeltaType, KubernetesObject>> deltas = this.items.remove(id);
+      if (deltas == null) {
+        // Item may have been deleted subsequently.
+        continue;
+      }
+      func.accept(deltas);
+      // Don't make any copyDeltas here
+      return deltas;
+    }
+    return null;
+  }
+
+  /** Pops up to maxKeys keys having deltas. Caller must hold the lock. */
+  private List<Deque<MutablePair<DeltaType, KubernetesObject>>> popBatchLocked(
+      int maxKeys, Consumer<List<Deque<MutablePair<DeltaType, KubernetesObject>>>> func) {
+    List<Deque<MutablePair<DeltaType, KubernetesObject>>> batch = new ArrayList<>();
+    while (batch.size() < maxKeys && !queue.isEmpty()) {
+      String id = this.queue.removeFirst();
+      if (this.initialPopulationCount > 0) {
+        this.initialPopulationCount--;
+      }
+      Deque<MutablePair<DeltaType, KubernetesObject>> deltas = this.items.remove(id);
+      if (deltas != null) {
+        // Item may have been deleted subsequently.
+        batch.add(deltas);
+      }
+    }
+    if (!batch.isEmpty()) {
+      func.accept(batch);
+    }
+    return batch;
+  }
+
   /**
    * Has synced boolean.
    *
@@ -352,33 +506,30 @@ public class DeltaFIFO {
     }
   }
 
-  /** queueActionLocked appends to the delta list for the object. Caller must hold the lock. */
-  private void queueActionLocked(DeltaType actionType, KubernetesObject obj) {
+  /**
+   * queueActionLocked appends to the delta list for the object, or replaces the newest delta in
+   * place if the new one duplicates it. Caller must hold the lock. Returns true if the object's key
+   * wasn't queued before.
+   */
+  private boolean queueActionLocked(DeltaType actionType, KubernetesObject obj) {
     String id = this.keyOf(obj);
 
     Deque<MutablePair<DeltaType, KubernetesObject>> deltas = items.get(id);
-    if (deltas == null) {
-      Deque<MutablePair<DeltaType, KubernetesObject>> deltaList = new LinkedList<>();
-      deltaList.add(new MutablePair(actionType, obj));
-      deltas = new LinkedList<>(deltaList);
-    } else {
-      deltas.add(new MutablePair<DeltaType, KubernetesObject>(actionType, obj));
-    }
-
-    // TODO(yue9944882): Eliminate the force class casting here
-    Deque<MutablePair<DeltaType, KubernetesObject>> combinedDeltaList =
-        combineDeltas((LinkedList<MutablePair<DeltaType, KubernetesObject>>) deltas);
-
-    boolean exist = items.containsKey(id);
-    if (combinedDeltaList != null && combinedDeltaList.size() > 0) {
-      if (!exist) {
-        this.queue.add(id);
-      }
-      this.items.put(id, new LinkedList<>(combinedDeltaList));
-      notEmpty.signalAll();
-    } else {
-      this.items.remove(id);
+    boolean newlyQueued = deltas == null;
+    if (newlyQueued) {
+      deltas = new ArrayDeque<>();
+      deltas.add(new MutablePair<>(actionType, obj));
+      this.items.put(id, deltas);
+      this.queue.add(id);
+    } else if (!combineDeltaLocked(deltas.peekLast(), actionType, obj)) {
+      deltas.add(new MutablePair<>(actionType, obj));
     }
+    notEmpty.signalAll();
+    Runnable queuedFunc = this.queuedFunc;
+    if (queuedFunc != null) {
+      queuedFunc.run();
+    }
+    return newlyQueued;
   }
 
   // KeyOf exposes f's keyFunc, but also detects the key of a Deltas object or
@@ -416,69 +567,41 @@ public class DeltaFIFO {
   }
 
   // re-listing and watching can deliver the same update multiple times in any
-  // order. This will combine the most recent two deltas if they are the same.
-  private Deque<MutablePair<DeltaType, KubernetesObject>> combineDeltas(
-      LinkedList<MutablePair<DeltaType, KubernetesObject>> deltas) {
-    if (deltas.size() < 2) {
-      return deltas;
+  // order. This will combine the new delta into the most recent one if they are the same, returns
+  // false if they are not.
+  private boolean combineDeltaLocked(
+      MutablePair<DeltaType, KubernetesObject> newest, DeltaType actionType, KubernetesObject obj) {
+    if (newest.getLeft() == DeltaType.Deleted && actionType == DeltaType.Deleted) {
+      // keep the one with the most information if both are deletions.
+      if (newest.getRight() instanceof DeletedFinalStateUnknown) {
+        newest.setRight(obj);
+      }
+      return true;
     }
-    int size = deltas.size();
-    MutablePair<DeltaType, KubernetesObject> d1 = deltas.peekLast();
-    MutablePair<DeltaType, KubernetesObject> d2 = deltas.get(size - 2);
-    MutablePair<DeltaType, KubernetesObject> out = isDuplicate(d1, d2);
-    if (out != null) {
-      Deque<MutablePair<DeltaType, KubernetesObject>> newDeltas = new LinkedList<>();
-      newDeltas.addAll(deltas.subList(0, size - 2));
-      newDeltas.add(out);
-      return newDeltas;
-    }
-    return deltas;
-  }
-
-  /**
-   * If d1 & d2 represent the same event, returns the delta that ought to be kept.
-   *
-   * @param d1 the elder one
-   * @param d2 the most one
-   * @return the one ought to be kept
-   */
-  private MutablePair<DeltaType, KubernetesObject> isDuplicate(
-      MutablePair<DeltaType, KubernetesObject> d1, MutablePair<DeltaType, KubernetesObject> d2) {
-    MutablePair<DeltaType, KubernetesObject> deletionDelta = isDeletionDup(d1, d2);
 
     // TODO: remove this after the cause of memory leakage is confirmed
     // Squashing deltas w/ the same resource version, note that is a temporary fix that eases memory
     // intensity.
-    if (deletionDelta != null) {
-      return deletionDelta;
-    }
-    if (d1.getLeft() != DeltaType.Deleted
-        && d2.getLeft() != DeltaType.Deleted
+    if (newest.getLeft() != DeltaType.Deleted
+        && actionType != DeltaType.Deleted
         && StringUtils.equals(
-            d1.getRight().getMetadata().getResourceVersion(),
-            d2.getRight().getMetadata().getResourceVersion())) {
-      return d1;
+            newest.getRight().getMetadata().getResourceVersion(),
+            obj.getMetadata().getResourceVersion())) {
+      newest.setLeft(actionType);
+      newest.setRight(obj);
+      return true;
     }
-    return null;
+    return false;
   }
 
-  /**
-   * keep the one with the most information if both are deletions.
-   *
-   * @param d1 the most one
-   * @param d2 the elder one
-   * @return the most one
-   */
-  private MutablePair<DeltaType, KubernetesObject> isDeletionDup(
-      MutablePair<DeltaType, KubernetesObject> d1, MutablePair<DeltaType, KubernetesObject> d2) {
-    if (!d1.getLeft().equals(DeltaType.Deleted) || !d2.getLeft().equals(DeltaType.Deleted)) {
-      return null;
-    }
-    Object obj = d2.getRight();
-    if (obj instanceof DeletedFinalStateUnknown) {
-      return d1;
+  // deltas are combined in place, copies handed out must not share them.
+  private static Deque<MutablePair<DeltaType, KubernetesObject>> copyDeltas(
+      Deque<MutablePair<DeltaType, KubernetesObject>> deltas) {
+    Deque<MutablePair<DeltaType, KubernetesObject>> copiedDeltas = new ArrayDeque<>(deltas.size());
+    for (MutablePair<DeltaType, KubernetesObject> delta : deltas) {
+      copiedDeltas.add(new MutablePair<>(delta.getLeft(), delta.getRight()));
     }
-    return d2;
+    return copiedDeltas;
   }
 
   // Note: this should only used in test
@@ -14,7 +14,16 @@ package io.kubernetes.client.informer.cache;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.util.Strings;
+import io.kubernetes.client.util.labels.LabelMatcher;
+import io.kubernetes.client.util.labels.LabelSelector;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Lister interface is used to list cached items from a running informer. */
 public class Lister<ApiType extends KubernetesObject> {
@@ -47,6 +56,83 @@ public class Lister<ApiType extends KubernetesObject> {
     }
   }
 
+  /**
+   * Lists the cached items matching the label selector.
+   *
+   * <p>If the {@link Caches#LABEL_INDEX} is registered w/ the indexer, the candidates are looked up
+   * by intersecting the index entries of the requirements demanding certain values, i.e. "=", "=="
+   * and "in", and only the candidates are tested against the whole selector. Otherwise, or if the
+   * selector has no such requirement, every item is tested.
+   *
+   * @param selector the label selector
+   * @return the matching items
+   */
+  public List<ApiType> list(LabelSelector selector) {
+    if (!indexer.getIndexers().containsKey(Caches.LABEL_INDEX)) {
+      return filter(list(), selector);
+    }
+    List<List<String>> postings = new ArrayList<>();
+    for (LabelMatcher matcher : selector.getMatchers()) {
+      Set<String> values = matcher.getRequiredValues();
+      if (values == null) {
+        continue;
+      }
+      List<String> keys = new ArrayList<>();
+      for (String value : values) {
+        keys.addAll(
+            indexer.indexKeys(Caches.LABEL_INDEX, Caches.labelIndexKey(matcher.getKey(), value)));
+      }
+      if (keys.isEmpty()) {
+        return new ArrayList<>();
+      }
+      postings.add(keys);
+    }
+    if (postings.isEmpty()) {
+      return filter(list(), selector);
+    }
+    // intersects starting from the smallest set so that the candidates only shrink
+    postings.sort(Comparator.comparingInt(List::size));
+    Set<String> candidates = new HashSet<>(postings.get(0));
+    for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+      Set<String> intersection = new HashSet<>();
+      for (String key : postings.get(i)) {
+        if (candidates.contains(key)) {
+          intersection.add(key);
+        }
+      }
+      candidates = intersection;
+    }
+    List<ApiType> items = new ArrayList<>(candidates.size());
+    for (String key : candidates) {
+      ApiType item = indexer.getByKey(key);
+      // the item might have been deleted since the index was looked up
+      if (item == null) {
+        continue;
+      }
+      if (!Strings.isNullOrEmpty(namespace)
+          && !namespace.equals(item.getMetadata().getNamespace())) {
+        continue;
+      }
+      items.add(item);
+    }
+    // tests the requirements not looked up in the index, and the labels updated meanwhile
+    return filter(items, selector);
+  }
+
+  private static <ApiType extends KubernetesObject> List<ApiType> filter(
+      List<ApiType> items, LabelSelector selector) {
+    return items.stream()
+        .filter(item -> selector.apply(labelsOf(item)))
+        .collect(Collectors.toList());
+  }
+
+  private static Map<String, String> labelsOf(KubernetesObject item) {
+    if (item.getMetadata() == null || item.getMetadata().getLabels() == null) {
+      return Collections.emptyMap();
+    }
+    return item.getMetadata().getLabels();
+  }
+
   public ApiType get(String name) {
     String key = name;
     if (!Strings.isNullOrEmpty(namespace)) {
@@ -0,0 +1,210 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * ObjectInterner deduplicates the strings which repeat across the cached objects, e.g. namespaces,
+ * label keys and values, annotation keys, owners and container images, so that the objects share a
+ * single copy of each instead of the copies decoded for each object. Identical label and annotation
+ * maps are shared as well, which makes them immutable.
+ *
+ * <p>It's applied by an informer as a transform, see {@link
+ * io.kubernetes.client.informer.impl.DefaultSharedIndexInformer#setTransform}, and can be shared by
+ * the informers of several resources. The interned values are weakly referenced, so that they're
+ * dropped along w/ the last object referencing them.
+ */
+public class ObjectInterner {
+
+  private final WeakInterner<String> strings = new WeakInterner<>();
+
+  private final WeakInterner<Map<String, String>> maps = new WeakInterner<>();
+
+  /**
+   * Interns the metadata of an object, and the spec and status of a pod, in place.
+   *
+   * @param <ApiType> the type parameter
+   * @param obj the object
+   * @return the object
+   */
+  public <ApiType extends KubernetesObject> ApiType intern(ApiType obj) {
+    internMetadata(obj.getMetadata());
+    if (obj instanceof V1Pod) {
+      internPod((V1Pod) obj);
+    }
+    return obj;
+  }
+
+  /**
+   * Interns a string.
+   *
+   * @param value the string
+   * @return the interned string equal to the given one
+   */
+  public String internString(String value) {
+    return value == null ? null : strings.intern(value);
+  }
+
+  /**
+   * Interns a map of strings, e.g. labels. The interned map is immutable.
+   *
+   * @param map the map
+   * @param internValues whether to intern the values, besides the keys
+   * @return the interned map equal to the given one
+   */
+  public Map<String, String> internMap(Map<String, String> map, boolean internValues) {
+    if (map == null) {
+      return null;
+    }
+    Map<String, String> interned = maps.get(map);
+    if (interned != null) {
+      return interned;
+    }
+    Map<String, String> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      copy.put(
+          internString(entry.getKey()),
+          internValues ? internString(entry.getValue()) : entry.getValue());
+    }
+    return maps.intern(Collections.unmodifiableMap(copy));
+  }
+
+  private void internMetadata(V1ObjectMeta metadata) {
+    if (metadata == null) {
+      return;
+    }
+    metadata.setNamespace(internString(metadata.getNamespace()));
+    metadata.setGenerateName(internString(metadata.getGenerateName()));
+    metadata.setLabels(internMap(metadata.getLabels(), true));
+    // the annotation values are usually unique to the object, e.g. a last applied configuration
+    metadata.setAnnotations(internMap(metadata.getAnnotations(), false));
+    if (metadata.getOwnerReferences() != null) {
+      for (V1OwnerReference ownerReference : metadata.getOwnerReferences()) {
+        ownerReference.setApiVersion(internString(ownerReference.getApiVersion()));
+        ownerReference.setKind(internString(ownerReference.getKind()));
+        ownerReference.setName(internString(ownerReference.getName()));
+        ownerReference.setUid(internString(ownerReference.getUid()));
+      }
+    }
+    if (metadata.getManagedFields() != null) {
+      for (V1ManagedFieldsEntry managedFields : metadata.getManagedFields()) {
+        managedFields.setApiVersion(internString(managedFields.getApiVersion()));
+        managedFields.setFieldsType(internString(managedFields.getFieldsType()));
+        managedFields.setManager(internString(managedFields.getManager()));
+        managedFields.setOperation(internString(managedFields.getOperation()));
+      }
+    }
+  }
+
+  private void internPod(V1Pod pod) {
+    pod.setApiVersion(internString(pod.getApiVersion()));
+    pod.setKind(internString(pod.getKind()));
+    V1PodSpec spec = pod.getSpec();
+    if (spec != null) {
+      spec.setNodeName(internString(spec.getNodeName()));
+      spec.setServiceAccountName(internString(spec.getServiceAccountName()));
+      spec.setServiceAccount(internString(spec.getServiceAccount()));
+      spec.setSchedulerName(internString(spec.getSchedulerName()));
+      spec.setPriorityClassName(internString(spec.getPriorityClassName()));
+      spec.setRestartPolicy(internString(spec.getRestartPolicy()));
+      spec.setDnsPolicy(internString(spec.getDnsPolicy()));
+      spec.setNodeSelector(internMap(spec.getNodeSelector(), true));
+      internContainers(spec.getInitContainers());
+      internContainers(spec.getContainers());
+      if (spec.getTolerations() != null) {
+        for (V1Toleration toleration : spec.getTolerations()) {
+          toleration.setKey(internString(toleration.getKey()));
+          toleration.setOperator(internString(toleration.getOperator()));
+          toleration.setValue(internString(toleration.getValue()));
+          toleration.setEffect(internString(toleration.getEffect()));
+        }
+      }
+    }
+    V1PodStatus status = pod.getStatus();
+    if (status != null) {
+      status.setPhase(internString(status.getPhase()));
+      status.setHostIP(internString(status.getHostIP()));
+      status.setQosClass(internString(status.getQosClass()));
+      if (status.getConditions() != null) {
+        for (V1PodCondition condition : status.getConditions()) {
+          condition.setType(internString(condition.getType()));
+          condition.setStatus(internString(condition.getStatus()));
+          condition.setReason(internString(condition.getReason()));
+        }
+      }
+      internContainerStatuses(status.getInitContainerStatuses());
+      internContainerStatuses(status.getContainerStatuses());
+    }
+  }
+
+  private void internContainers(List<V1Container> containers) {
+    if (containers == null) {
+      return;
+    }
+    for (V1Container container : containers) {
+      container.setName(internString(container.getName()));
+      container.setImage(internString(container.getImage()));
+      container.setImagePullPolicy(internString(container.getImagePullPolicy()));
+      container.setTerminationMessagePath(internString(container.getTerminationMessagePath()));
+      container.setTerminationMessagePolicy(internString(container.getTerminationMessagePolicy()));
+    }
+  }
+
+  private void internContainerStatuses(List<V1ContainerStatus> containerStatuses) {
+    if (containerStatuses == null) {
+      return;
+    }
+    for (V1ContainerStatus containerStatus : containerStatuses) {
+      containerStatus.setName(internString(containerStatus.getName()));
+      containerStatus.setImage(internString(containerStatus.getImage()));
+      containerStatus.setImageID(internString(containerStatus.getImageID()));
+    }
+  }
+
+  // WeakInterner maps values to their canonical instances, which are only weakly referenced.
+  private static class WeakInterner<T> {
+
+    private final Map<T, WeakReference<T>> canonical = new WeakHashMap<>();
+
+    private synchronized T get(T value) {
+      WeakReference<T> reference = canonical.get(value);
+      return reference != null ? reference.get() : null;
+    }
+
+    private synchronized T intern(T value) {
+      T interned = get(value);
+      if (interned != null) {
+        return interned;
+      }
+      canonical.put(value, new WeakReference<>(value));
+      return value;
+    }
+  }
+}
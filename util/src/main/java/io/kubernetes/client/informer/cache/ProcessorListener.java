@@ -13,9 +13,20 @@ limitations under the License.
 package io.kubernetes.client.informer.cache;
 
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.BatchResourceEventHandler;
 import io.kubernetes.client.informer.ResourceEventHandler;
 import io.kubernetes.client.informer.exception.BadNotificationException;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import io.prometheus.client.SimpleTimer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
@@ -29,6 +40,28 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
 
   private static final Logger log = LoggerFactory.getLogger(ProcessorListener.class);
 
+  private static final Gauge queueDepthGauge =
+      Gauge.build()
+          .name("k8s_java_informer_listener_queue_depth")
+          .help("Current number of notifications pending in an informer event handler's queue")
+          .labelNames("listener")
+          .register();
+
+  private static final Counter heldBackNotificationsCounter =
+      Counter.build()
+          .name("k8s_java_informer_listener_held_back_notifications_total")
+          .help(
+              "Total number of notifications held back until an informer event handler's full queue had room")
+          .labelNames("listener")
+          .register();
+
+  private static final Histogram handlerLatencyHistogram =
+      Histogram.build()
+          .name("k8s_java_informer_listener_handler_latency_seconds")
+          .help("Informer event handler latency (seconds) per dispatched notification or batch")
+          .labelNames("listener")
+          .register();
+
   // resyncPeriod is how frequently the listener wants a full resync from the shared informer.
   // This
   // value may differ from requestedResyncPeriod if the shared informer adjusts it to align with
@@ -37,15 +70,70 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
   private long resyncPeriod;
   private DateTime nextResync;
 
-  private BlockingQueue<Notification> queue;
+  private BlockingQueue<Notification<ApiType>> queue;
 
   private ResourceEventHandler<ApiType> handler;
 
+  private final String name;
+
+  // the metrics, null unless the listener is named.
+  private final Counter.Child heldBackNotifications;
+  private final Gauge.Child queueDepth;
+  private final Histogram.Child handlerLatency;
+
+  // the notifications which didn't fit into the full queue, in order, until the informer waits
+  // for room outside of its locks.
+  private final Deque<Notification<ApiType>> heldBack = new ArrayDeque<>();
+
+  private volatile boolean holdingBack;
+
+  private volatile SerialDrainer drainer;
+
   public ProcessorListener(ResourceEventHandler<ApiType> handler, long resyncPeriod) {
+    this(handler, resyncPeriod, new LinkedBlockingQueue<>());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param handler the event handler
+   * @param resyncPeriod the resync period
+   * @param queue the queue buffering notifications for the handler, e.g. a bounded {@link
+   *     CoalescingNotificationQueue}. notifications which can't be added to a full bounded queue
+   *     are held back, see {@link #add}.
+   */
+  public ProcessorListener(
+      ResourceEventHandler<ApiType> handler,
+      long resyncPeriod,
+      BlockingQueue<Notification<ApiType>> queue) {
+    this(handler, resyncPeriod, queue, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param handler the event handler
+   * @param resyncPeriod the resync period
+   * @param queue the queue buffering notifications for the handler
+   * @param name the name labelling the listener's metrics. Naming a listener opts into its queue
+   *     depth, handler latency and held back notifications metrics, which are recorded per
+   *     notification. If null, the listener records no metrics, so that the handlers added and
+   *     removed over time don't leave a series each behind.
+   */
+  public ProcessorListener(
+      ResourceEventHandler<ApiType> handler,
+      long resyncPeriod,
+      BlockingQueue<Notification<ApiType>> queue,
+      String name) {
     this.resyncPeriod = resyncPeriod;
     this.handler = handler;
 
-    this.queue = new LinkedBlockingQueue<>();
+    this.queue = queue;
+
+    this.name = name;
+    this.heldBackNotifications = name != null ? heldBackNotificationsCounter.labels(name) : null;
+    this.queueDepth = name != null ? queueDepthGauge.labels(name) : null;
+    this.handlerLatency = name != null ? handlerLatencyHistogram.labels(name) : null;
 
     determineNextResync(DateTime.now());
   }
@@ -54,43 +142,8 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
   public void run() {
     while (true) {
       try {
-        Notification obj = queue.take();
-        if (obj instanceof UpdateNotification) {
-          UpdateNotification notification = (UpdateNotification) obj;
-          try {
-            this.handler.onUpdate(
-                (ApiType) notification.getOldObj(), (ApiType) notification.getNewObj());
-          } catch (Throwable t) {
-            // Catch all exceptions here so that listeners won't quit unexpectedly
-            log.error("failed invoking UPDATE event handler: {}", t);
-            continue;
-          }
-        } else if (obj instanceof AddNotification) {
-          AddNotification notification = (AddNotification) obj;
-          try {
-            this.handler.onAdd((ApiType) notification.getNewObj());
-          } catch (Throwable t) {
-            // Catch all exceptions here so that listeners won't quit unexpectedly
-            log.error("failed invoking ADD event handler: {}", t);
-            continue;
-          }
-        } else if (obj instanceof DeleteNotification) {
-          Object deletedObj = ((DeleteNotification) obj).getOldObj();
-          try {
-            if (deletedObj instanceof DeltaFIFO.DeletedFinalStateUnknown) {
-              this.handler.onDelete(
-                  ((DeltaFIFO.DeletedFinalStateUnknown<ApiType>) deletedObj).getObj(), true);
-            } else {
-              this.handler.onDelete((ApiType) deletedObj, false);
-            }
-          } catch (Throwable t) {
-            // Catch all exceptions here so that listeners won't quit unexpectedly
-            log.error("failed invoking DELETE event handler: {}", t);
-            continue;
-          }
-        } else {
-          throw new BadNotificationException("unrecognized notification");
-        }
+        Notification<ApiType> obj = queue.take();
+        handle(obj);
       } catch (InterruptedException e) {
         log.error("processor interrupted: {}", e);
         return;
@@ -98,11 +151,204 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
     }
   }
 
+  /**
+   * Starts handling notifications by tasks scheduled on the executor whenever notifications are
+   * added, instead of running a thread blocking on the queue, so that listeners can share a small
+   * thread pool. At most one task of the listener runs at a time.
+   *
+   * @param executor the shared executor
+   */
+  public void startDraining(Executor executor) {
+    SerialDrainer drainer = new SerialDrainer(executor, this::handleAvailable);
+    this.drainer = drainer;
+    // handles the notifications added before start
+    drainer.signal();
+  }
+
+  /** Stops the tasks started by {@link #startDraining}. */
+  public void stopDraining() {
+    SerialDrainer drainer = this.drainer;
+    if (drainer != null) {
+      drainer.stop();
+    }
+  }
+
+  private boolean handleAvailable() {
+    Notification<ApiType> obj = queue.poll();
+    if (obj == null) {
+      return false;
+    }
+    handle(obj);
+    return true;
+  }
+
+  private void handle(Notification<ApiType> obj) {
+    if (handler instanceof BatchResourceEventHandler) {
+      BatchResourceEventHandler<ApiType> batchHandler =
+          (BatchResourceEventHandler<ApiType>) handler;
+      List<Notification<ApiType>> batch = new ArrayList<>();
+      batch.add(obj);
+      queue.drainTo(batch, batchHandler.maxBatchSize() - 1);
+      SimpleTimer timer = startTimer();
+      try {
+        batchHandler.onBatch(batch);
+      } catch (Throwable t) {
+        // Catch all exceptions here so that listeners won't quit unexpectedly
+        log.error("failed invoking BATCH event handler: {}", t);
+      }
+      observe(timer);
+    } else {
+      SimpleTimer timer = startTimer();
+      dispatch(this.handler, obj);
+      observe(timer);
+    }
+  }
+
+  // records the queue depth and starts timing the handler, returns null if metrics are disabled.
+  private SimpleTimer startTimer() {
+    if (queueDepth == null) {
+      return null;
+    }
+    queueDepth.set(queue.size());
+    return new SimpleTimer();
+  }
+
+  private void observe(SimpleTimer timer) {
+    if (timer != null) {
+      handlerLatency.observe(timer.elapsedSeconds());
+    }
+  }
+
+  /**
+   * Invokes the handler method matching the notification.
+   *
+   * @param handler the handler
+   * @param obj the notification
+   * @param <ApiType> the api type
+   */
+  public static <ApiType extends KubernetesObject> void dispatch(
+      ResourceEventHandler<ApiType> handler, Notification<ApiType> obj) {
+    if (obj instanceof UpdateNotification) {
+      UpdateNotification<ApiType> notification = (UpdateNotification<ApiType>) obj;
+      try {
+        handler.onUpdate(notification.getOldObj(), notification.getNewObj());
+      } catch (Throwable t) {
+        // Catch all exceptions here so that listeners won't quit unexpectedly
+        log.error("failed invoking UPDATE event handler: {}", t);
+      }
+    } else if (obj instanceof AddNotification) {
+      AddNotification<ApiType> notification = (AddNotification<ApiType>) obj;
+      try {
+        handler.onAdd(notification.getNewObj());
+      } catch (Throwable t) {
+        // Catch all exceptions here so that listeners won't quit unexpectedly
+        log.error("failed invoking ADD event handler: {}", t);
+      }
+    } else if (obj instanceof DeleteNotification) {
+      Object deletedObj = ((DeleteNotification) obj).getOldObj();
+      try {
+        if (deletedObj instanceof DeltaFIFO.DeletedFinalStateUnknown) {
+          handler.onDelete(
+              ((DeltaFIFO.DeletedFinalStateUnknown<ApiType>) deletedObj).getObj(), true);
+        } else {
+          handler.onDelete((ApiType) deletedObj, false);
+        }
+      } catch (Throwable t) {
+        // Catch all exceptions here so that listeners won't quit unexpectedly
+        log.error("failed invoking DELETE event handler: {}", t);
+      }
+    } else {
+      throw new BadNotificationException("unrecognized notification");
+    }
+  }
+
+  /**
+   * Adds a notification for the handler w/o blocking, since it's called by the informer while
+   * holding its locks. If the listener's queue is bounded and full, the notification and the ones
+   * following it are held back until {@link #addHeldBack} adds them. A named listener counts them
+   * by the k8s_java_informer_listener_held_back_notifications_total metric.
+   *
+   * @param obj the notification
+   */
   public void add(Notification<ApiType> obj) {
     if (obj == null) {
       return;
     }
-    this.queue.add(obj);
+    synchronized (heldBack) {
+      if (!holdingBack && this.queue.offer(obj)) {
+        queued();
+        return;
+      }
+      if (!holdingBack) {
+        holdingBack = true;
+        log.warn("event handler queue is full, holding back notifications until it catches up");
+      }
+      heldBack.addLast(obj);
+      if (heldBackNotifications != null) {
+        heldBackNotifications.inc();
+      }
+    }
+  }
+
+  /**
+   * Returns whether notifications are held back by {@link #add}.
+   *
+   * @return true if notifications are held back
+   */
+  public boolean isHoldingBack() {
+    return holdingBack;
+  }
+
+  /**
+   * Adds the notifications held back by {@link #add}, as far as the handler has made room in its
+   * queue, w/o blocking. The informer calls it after releasing its locks, and holds back further
+   * deltas until it returns true, so that a slow handler slows down the informer instead of losing
+   * notifications.
+   *
+   * @return true if no notification is held back anymore
+   */
+  public boolean addHeldBack() {
+    if (!holdingBack) {
+      return true;
+    }
+    synchronized (heldBack) {
+      boolean added = false;
+      Notification<ApiType> obj;
+      while ((obj = heldBack.peekFirst()) != null && this.queue.offer(obj)) {
+        heldBack.pollFirst();
+        added = true;
+      }
+      holdingBack = !heldBack.isEmpty();
+      if (added) {
+        queued();
+      }
+      return !holdingBack;
+    }
+  }
+
+  private void queued() {
+    if (queueDepth != null) {
+      queueDepth.set(queue.size());
+    }
+    SerialDrainer drainer = this.drainer;
+    if (drainer != null) {
+      drainer.signal();
+    }
+  }
+
+  /**
+   * Returns the name labelling the listener's metrics.
+   *
+   * @return the name, or null if the listener is unnamed
+   */
+  public String getName() {
+    return name;
+  }
+
+  public void addAll(Collection<Notification<ApiType>> objs) {
+    for (Notification<ApiType> obj : objs) {
+      add(obj);
+    }
   }
 
   public void determineNextResync(DateTime now) {
@@ -125,11 +371,11 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
       this.newObj = newObj;
     }
 
-    ApiType getOldObj() {
+    public ApiType getOldObj() {
       return oldObj;
     }
 
-    ApiType getNewObj() {
+    public ApiType getNewObj() {
       return newObj;
     }
   }
@@ -142,7 +388,7 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
       this.newObj = newObj;
     }
 
-    ApiType getNewObj() {
+    public ApiType getNewObj() {
       return newObj;
     }
   }
@@ -155,7 +401,7 @@ public class ProcessorListener<ApiType extends KubernetesObject> implements Runn
       this.oldObj = oldObj;
     }
 
-    ApiType getOldObj() {
+    public ApiType getOldObj() {
       return oldObj;
     }
   }
@@ -16,16 +16,20 @@ import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.EventType;
 import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.CallGeneratorParams;
 import io.kubernetes.client.util.Strings;
 import io.kubernetes.client.util.Watchable;
 import java.io.IOException;
-import java.net.ConnectException;
+import java.net.HttpURLConnection;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +40,16 @@ public class ReflectorRunnable<
 
   private static final Logger log = LoggerFactory.getLogger(ReflectorRunnable.class);
 
+  /**
+   * a watch ending sooner than this w/o any event is considered broken, like client-go does, so
+   * that an apiserver or proxy closing watches right away doesn't make the reflector hammer it.
+   */
+  private static final Duration MIN_WATCH_DURATION = Duration.ofSeconds(1);
+
+  private static final Duration INITIAL_WATCH_BACKOFF = Duration.ofSeconds(1);
+
+  private static final Duration MAX_WATCH_BACKOFF = Duration.ofSeconds(30);
+
   private String lastSyncResourceVersion;
   private Watchable<ApiType> watch;
 
@@ -49,6 +63,18 @@ public class ReflectorRunnable<
 
   private final BiConsumer<Class<ApiType>, Throwable> exceptionHandler;
 
+  /** the maximum number of items per list request, zero disables paginated listing */
+  private final int listPageSize;
+
+  /** whether the last synced resource version expired, i.e. the apiserver responded 410 Gone */
+  private volatile boolean isLastSyncResourceVersionUnavailable;
+
+  private volatile boolean listed;
+
+  private final AtomicLong relistCount = new AtomicLong();
+
+  private final AtomicLong watchRestartCount = new AtomicLong();
+
   public ReflectorRunnable(
       Class<ApiType> apiTypeClass, ListerWatcher listerWatcher, DeltaFIFO store) {
     this(apiTypeClass, listerWatcher, store, ReflectorRunnable::defaultWatchErrorHandler);
@@ -59,42 +85,69 @@ public class ReflectorRunnable<
       ListerWatcher listerWatcher,
       DeltaFIFO store,
       BiConsumer<Class<ApiType>, Throwable> exceptionHandler) {
+    this(apiTypeClass, listerWatcher, store, exceptionHandler, 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param apiTypeClass the api type class
+   * @param listerWatcher the lister watcher
+   * @param store the delta FIFO to fill
+   * @param exceptionHandler the exception handler
+   * @param listPageSize the maximum number of items per list request, zero disables paginated
+   *     listing
+   */
+  public ReflectorRunnable(
+      Class<ApiType> apiTypeClass,
+      ListerWatcher listerWatcher,
+      DeltaFIFO store,
+      BiConsumer<Class<ApiType>, Throwable> exceptionHandler,
+      int listPageSize) {
     this.listerWatcher = listerWatcher;
     this.store = store;
     this.apiTypeClass = apiTypeClass;
     this.exceptionHandler = exceptionHandler;
+    this.listPageSize = listPageSize;
   }
 
   /**
    * run first lists all items and get the resource version at the moment of call, and then use the
-   * resource version to watch.
+   * resource version to watch. The watch is restarted from the last synced resource version when it
+   * times out or breaks, it returns for a relist only when the resource version expired or an
+   * unexpected error happens.
    */
   public void run() {
     log.info("{}#Start listing and watching...", apiTypeClass);
 
     try {
-      ApiListType list =
-          listerWatcher.list(
-              new CallGeneratorParams(Boolean.FALSE, getRelistResourceVersion(), null));
-
-      V1ListMeta listMeta = list.getMetadata();
-      String resourceVersion = listMeta.getResourceVersion();
-      List<? extends KubernetesObject> items = list.getItems();
-
-      if (log.isDebugEnabled()) {
-        log.debug("{}#Extract resourceVersion {} list meta", apiTypeClass, resourceVersion);
+      if (listed) {
+        relistCount.incrementAndGet();
       }
-      this.syncWith(items, resourceVersion);
+      String resourceVersion;
+      if (listPageSize > 0) {
+        resourceVersion = pagedListAndSync();
+      } else {
+        resourceVersion = listAndSync();
+      }
+      this.listed = true;
+      this.isLastSyncResourceVersionUnavailable = false;
       this.lastSyncResourceVersion = resourceVersion;
 
       if (log.isDebugEnabled()) {
         log.debug("{}#Start watching with {}...", apiTypeClass, lastSyncResourceVersion);
       }
+      boolean watchStarted = false;
+      Duration watchBackoff = INITIAL_WATCH_BACKOFF;
       while (true) {
         if (!isActive.get()) {
           closeWatch();
           return;
         }
+        if (watchStarted) {
+          watchRestartCount.incrementAndGet();
+        }
+        watchStarted = true;
 
         try {
           if (log.isDebugEnabled()) {
@@ -106,7 +159,10 @@ public class ReflectorRunnable<
                   new CallGeneratorParams(
                       Boolean.TRUE,
                       lastSyncResourceVersion,
-                      Long.valueOf(Duration.ofMinutes(5).getSeconds()).intValue()));
+                      Long.valueOf(Duration.ofMinutes(5).getSeconds()).intValue(),
+                      null,
+                      null,
+                      Boolean.TRUE));
 
           synchronized (this) {
             if (!isActive.get()) {
@@ -115,30 +171,42 @@ public class ReflectorRunnable<
             }
             watch = newWatch;
           }
-          watchHandler(newWatch);
-        } catch (Throwable t) {
-          if (isConnectException(t)) {
-            // If this is "connection refused" error, it means that most likely
-            // apiserver is not
-            // responsive.
-            // It doesn't make sense to re-list all objects because most likely we will
-            // be able to
-            // restart
-            // watch where we ended.
-            // If that's the case wait and resend watch request.
-            log.info("{}#Watch get connect exception, retry watch", this.apiTypeClass);
-            try {
-              Thread.sleep(1000L);
-            } catch (InterruptedException e) {
-              // no-op
-            }
+          long watchStartNanos = System.nanoTime();
+          int events = watchHandler(newWatch);
+          if (events > 0 || System.nanoTime() - watchStartNanos >= MIN_WATCH_DURATION.toNanos()) {
+            watchBackoff = INITIAL_WATCH_BACKOFF;
             continue;
           }
-          if ((t instanceof RuntimeException)
-              && t.getMessage().contains("IO Exception during hasNext")) {
-            log.info("{}#Read timeout retry list and watch", this.apiTypeClass);
+          log.warn(
+              "{}#Very short watch ended w/o any event, retry watch in {}ms",
+              this.apiTypeClass,
+              watchBackoff.toMillis());
+          watchBackoff = backoff(watchBackoff);
+        } catch (Throwable t) {
+          if (isResourceVersionExpired(t)) {
+            // the watched resource version has been compacted, the only way forward is to relist.
+            log.info(
+                "{}#Watch resource version {} expired, retry list and watch",
+                this.apiTypeClass,
+                lastSyncResourceVersion);
+            this.isLastSyncResourceVersionUnavailable = true;
             return;
           }
+          if (isTransientException(t)) {
+            // Connection refused, read timeouts and broken streams don't invalidate the resource
+            // version we ended at, so instead of re-listing all objects wait and resend the watch
+            // request.
+            if (!isActive.get()) {
+              return;
+            }
+            log.info(
+                "{}#Watch interrupted by {}, retry watch in {}ms",
+                this.apiTypeClass,
+                t.getMessage(),
+                watchBackoff.toMillis());
+            watchBackoff = backoff(watchBackoff);
+            continue;
+          }
           this.exceptionHandler.accept(apiTypeClass, t);
           return;
         } finally {
@@ -159,6 +227,20 @@ public class ReflectorRunnable<
     }
   }
 
+  /**
+   * backoff sleeps for the given duration before the watch is resent and returns the doubled,
+   * capped, duration to wait before the next one.
+   */
+  private Duration backoff(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      // no-op
+    }
+    Duration next = duration.multipliedBy(2);
+    return next.compareTo(MAX_WATCH_BACKOFF) > 0 ? MAX_WATCH_BACKOFF : next;
+  }
+
   private synchronized void closeWatch() throws IOException {
     if (watch != null) {
       watch.close();
@@ -166,6 +248,81 @@ public class ReflectorRunnable<
     }
   }
 
+  private String listAndSync() throws ApiException {
+    ApiListType list;
+    try {
+      list =
+          listerWatcher.list(
+              new CallGeneratorParams(Boolean.FALSE, getRelistResourceVersion(), null));
+    } catch (ApiException e) {
+      if (e.getCode() != HttpURLConnection.HTTP_GONE || isLastSyncResourceVersionUnavailable) {
+        throw e;
+      }
+      log.info(
+          "{}#Resource version {} expired, falling back to list at the latest resource version",
+          apiTypeClass,
+          lastSyncResourceVersion);
+      this.isLastSyncResourceVersionUnavailable = true;
+      list =
+          listerWatcher.list(
+              new CallGeneratorParams(Boolean.FALSE, getRelistResourceVersion(), null));
+    }
+
+    V1ListMeta listMeta = list.getMetadata();
+    String resourceVersion = listMeta.getResourceVersion();
+    List<? extends KubernetesObject> items = list.getItems();
+
+    if (log.isDebugEnabled()) {
+      log.debug("{}#Extract resourceVersion {} list meta", apiTypeClass, resourceVersion);
+    }
+    this.syncWith(items, resourceVersion);
+    return resourceVersion;
+  }
+
+  /**
+   * pagedListAndSync lists with limit/continue and queues each page into the store as soon as it
+   * arrives, so that only one page is held in memory at a time. The first page is requested w/o a
+   * resource version because a list served from the apiserver's watch cache ignores the limit.
+   * Falls back to a full list if the continue token expires in the middle of paging.
+   */
+  private String pagedListAndSync() throws ApiException {
+    Set<String> listedKeys = new HashSet<>();
+    String continueToken = null;
+    String resourceVersion;
+    do {
+      ApiListType page;
+      try {
+        page =
+            listerWatcher.list(
+                new CallGeneratorParams(Boolean.FALSE, null, null, listPageSize, continueToken));
+      } catch (ApiException e) {
+        if (continueToken != null && e.getCode() == HttpURLConnection.HTTP_GONE) {
+          log.info(
+              "{}#Continue token expired during paginated list, falling back to full list",
+              apiTypeClass);
+          return listAndSync();
+        }
+        throw e;
+      }
+
+      V1ListMeta listMeta = page.getMetadata();
+      resourceVersion = listMeta.getResourceVersion();
+      continueToken = listMeta.getContinue();
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "{}#Received page of {} items at resourceVersion {}",
+            apiTypeClass,
+            page.getItems().size(),
+            resourceVersion);
+      }
+      this.store.replacePage(
+          (List<KubernetesObject>) page.getItems(), listedKeys); // down-casting is safe here
+    } while (!Strings.isNullOrEmpty(continueToken));
+
+    this.store.completeReplace(listedKeys, resourceVersion);
+    return resourceVersion;
+  }
+
   private void syncWith(List<? extends KubernetesObject> items, String resourceVersion) {
     this.store.replace(
         (List<KubernetesObject>) items, resourceVersion); // down-casting is safe here
@@ -175,14 +332,36 @@ public class ReflectorRunnable<
     return lastSyncResourceVersion;
   }
 
+  /** returns how many times the reflector listed again after its initial list */
+  public long getRelistCount() {
+    return relistCount.get();
+  }
+
+  /** returns how many times the reflector restarted watching w/o listing */
+  public long getWatchRestartCount() {
+    return watchRestartCount.get();
+  }
+
+  /** returns false once the reflector is stopped */
+  boolean isActive() {
+    return isActive.get();
+  }
+
   private String getRelistResourceVersion() {
+    if (isLastSyncResourceVersionUnavailable) {
+      // the last synced resource version is too old to list from, an empty resource version makes
+      // the apiserver serve the list from etcd at its latest resource version.
+      return "";
+    }
     if (Strings.isNullOrEmpty(lastSyncResourceVersion)) {
       return "0";
     }
     return lastSyncResourceVersion;
   }
 
-  private void watchHandler(Watchable<ApiType> watch) {
+  /** watchHandler applies the events of the watch to the store and returns how many it got. */
+  private int watchHandler(Watchable<ApiType> watch) throws ApiException {
+    int events = 0;
     while (watch.hasNext()) {
       io.kubernetes.client.util.Watch.Response<ApiType> item = watch.next();
 
@@ -194,10 +373,15 @@ public class ReflectorRunnable<
       if (eventType == EventType.ERROR) {
         String errorMessage =
             String.format("got ERROR event and its status: %s", item.status.toString());
-        log.error(errorMessage);
-        throw new RuntimeException(errorMessage);
+        int code = item.status.getCode() == null ? 0 : item.status.getCode();
+        if (code != HttpURLConnection.HTTP_GONE) {
+          // an expired resource version is expected, it's handled by relisting
+          log.error(errorMessage);
+        }
+        throw new ApiException(code, errorMessage);
       }
 
+      events++;
       ApiType obj = item.object;
 
       V1ObjectMeta meta = obj.getMetadata();
@@ -214,27 +398,33 @@ public class ReflectorRunnable<
           store.delete(obj);
           break;
         case BOOKMARK:
+          // A `Bookmark` means watch has synced here, just update the resourceVersion so that a
+          // restarted watch resumes from here instead of an older, possibly compacted, one.
           break;
-          // A `Bookmark` means watch has synced here, just update the resourceVersion
       }
       lastSyncResourceVersion = newResourceVersion;
       if (log.isDebugEnabled()) {
         log.debug("{}#Receiving resourceVersion {}", apiTypeClass, lastSyncResourceVersion);
       }
     }
+    return events;
   }
 
-  private static <ApiType extends KubernetesObject> void defaultWatchErrorHandler(
+  static <ApiType extends KubernetesObject> void defaultWatchErrorHandler(
       Class<ApiType> watchingApiTypeClass, Throwable t) {
     log.error(String.format("%s#Reflector loop failed unexpectedly", watchingApiTypeClass), t);
   }
 
-  private boolean isConnectException(Throwable t) {
-    if (t instanceof ConnectException) {
+  private boolean isResourceVersionExpired(Throwable t) {
+    return t instanceof ApiException && ((ApiException) t).getCode() == HttpURLConnection.HTTP_GONE;
+  }
+
+  private boolean isTransientException(Throwable t) {
+    if (t instanceof IOException) {
       return true;
     }
-    // ApiException can nest a ConnectException
+    // ApiException can nest an IOException, Watch#hasNext wraps it in a RuntimeException
     Throwable cause = t.getCause();
-    return cause instanceof ConnectException;
+    return cause instanceof IOException;
   }
 }
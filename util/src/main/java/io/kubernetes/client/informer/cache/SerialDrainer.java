@@ -0,0 +1,100 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SerialDrainer drains a queue on a shared executor instead of a dedicated thread blocking on the
+ * queue. Producers call {@link #signal} after queueing work, and at most one drain runs at a time
+ * so that the work is still consumed in order. A drain yields the executor after a fixed number of
+ * steps so that a busy queue can't starve the others sharing the executor.
+ */
+final class SerialDrainer implements Runnable {
+
+  private static final Logger log = LoggerFactory.getLogger(SerialDrainer.class);
+
+  private static final int MAX_STEPS_PER_DRAIN = 256;
+
+  private final Executor executor;
+
+  /** consumes one unit of work, returns false if there's none. */
+  private final BooleanSupplier step;
+
+  /**
+   * the number of signals not yet observed by a drain, a drain is pending or running if non-zero
+   */
+  private final AtomicInteger pending = new AtomicInteger();
+
+  private volatile boolean stopped;
+
+  SerialDrainer(Executor executor, BooleanSupplier step) {
+    this.executor = executor;
+    this.step = step;
+  }
+
+  /** signals that there's work to drain. */
+  void signal() {
+    if (pending.getAndIncrement() == 0) {
+      submit();
+    }
+  }
+
+  /** stops draining, the work queued afterwards is left in the queue. */
+  void stop() {
+    stopped = true;
+  }
+
+  @Override
+  public void run() {
+    int missed = pending.get();
+    for (int i = 0; i < MAX_STEPS_PER_DRAIN; i++) {
+      if (stopped) {
+        return;
+      }
+      if (!step()) {
+        missed = pending.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+    // yields to the other drainers sharing the executor, the signals not observed yet keep the
+    // drain pending.
+    submit();
+  }
+
+  private boolean step() {
+    try {
+      return step.getAsBoolean();
+    } catch (Throwable t) {
+      // Catch all exceptions here so that the drain won't stall unexpectedly
+      log.error("SerialDrainer#Step recovered from crashing {}", t.getMessage(), t);
+      return true;
+    }
+  }
+
+  private void submit() {
+    try {
+      executor.execute(this);
+    } catch (RejectedExecutionException e) {
+      log.warn("SerialDrainer#Executor is shutting down, stop draining");
+      stopped = true;
+    }
+  }
+}
@@ -16,6 +16,7 @@ import io.kubernetes.client.common.KubernetesObject;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +43,9 @@ public class SharedProcessor<ApiType extends KubernetesObject> {
 
   private final Duration timeout;
 
+  /** the executor shared w/ other processors, null runs a thread per listener */
+  private Executor sharedExecutor;
+
   public SharedProcessor() {
     this(Executors.newCachedThreadPool());
   }
@@ -69,7 +73,7 @@ public class SharedProcessor<ApiType extends KubernetesObject> {
     try {
       addListenerLocked(processorListener);
 
-      executorService.execute(processorListener);
+      startListenerLocked(processorListener);
     } finally {
       lock.writeLock().unlock();
     }
@@ -94,6 +98,30 @@ public class SharedProcessor<ApiType extends KubernetesObject> {
     this.syncingListeners.add(processorListener);
   }
 
+  private void startListenerLocked(final ProcessorListener<ApiType> processorListener) {
+    if (sharedExecutor != null) {
+      processorListener.startDraining(sharedExecutor);
+    } else {
+      executorService.execute(processorListener);
+    }
+  }
+
+  /**
+   * Sets an executor shared w/ other processors, on which the listeners started afterwards handle
+   * their notifications by tasks instead of occupying a thread each. Stopping the processor doesn't
+   * shut down the shared executor.
+   *
+   * @param sharedExecutor the shared executor
+   */
+  public void setSharedExecutor(Executor sharedExecutor) {
+    lock.writeLock().lock();
+    try {
+      this.sharedExecutor = sharedExecutor;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
   /** starts the processor listeners. */
   public void run() {
     lock.readLock().lock();
@@ -101,8 +129,8 @@ public class SharedProcessor<ApiType extends KubernetesObject> {
       if (CollectionUtils.isEmpty(listeners)) {
         return;
       }
-      for (ProcessorListener listener : listeners) {
-        executorService.execute(listener);
+      for (ProcessorListener<ApiType> listener : listeners) {
+        startListenerLocked(listener);
       }
     } finally {
       lock.readLock().unlock();
@@ -132,6 +160,52 @@ public class SharedProcessor<ApiType extends KubernetesObject> {
     }
   }
 
+  /**
+   * distribute a batch of objects among listeners, acquiring the lock once for the whole batch.
+   *
+   * @param objs the objects in order
+   * @param isSync is sync or not
+   */
+  public void distribute(List<ProcessorListener.Notification<ApiType>> objs, boolean isSync) {
+    lock.readLock().lock();
+    try {
+      if (isSync) {
+        for (ProcessorListener<ApiType> listener : syncingListeners) {
+          listener.addAll(objs);
+        }
+      } else {
+        for (ProcessorListener<ApiType> listener : listeners) {
+          listener.addAll(objs);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Adds the notifications the listeners held back because their queues were full, as far as they
+   * fit now, see {@link ProcessorListener#addHeldBack}. It must be called w/o holding the
+   * informer's locks.
+   *
+   * @return true if no listener holds back notifications anymore
+   */
+  public boolean addHeldBack() {
+    lock.readLock().lock();
+    try {
+      if (listeners == null) {
+        return true;
+      }
+      boolean added = true;
+      for (ProcessorListener<ApiType> listener : listeners) {
+        added &= listener.addHeldBack();
+      }
+      return added;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
   public boolean shouldResync() {
     lock.writeLock().lock();
     boolean resyncNeeded = false;
@@ -155,6 +229,11 @@ public class SharedProcessor<ApiType extends KubernetesObject> {
   public void stop() {
     lock.writeLock().lock();
     try {
+      if (sharedExecutor != null && listeners != null) {
+        for (ProcessorListener<ApiType> listener : listeners) {
+          listener.stopDraining();
+        }
+      }
       listeners = null;
     } finally {
       lock.writeLock().unlock();
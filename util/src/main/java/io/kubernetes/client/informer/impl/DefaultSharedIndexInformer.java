@@ -17,15 +17,20 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.ListerWatcher;
 import io.kubernetes.client.informer.ResourceEventHandler;
 import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerExecutors;
 import io.kubernetes.client.informer.cache.Cache;
+import io.kubernetes.client.informer.cache.CoalescingNotificationQueue;
+import io.kubernetes.client.informer.cache.ConcurrentCache;
 import io.kubernetes.client.informer.cache.Controller;
 import io.kubernetes.client.informer.cache.DeltaFIFO;
 import io.kubernetes.client.informer.cache.Indexer;
 import io.kubernetes.client.informer.cache.ProcessorListener;
 import io.kubernetes.client.informer.cache.SharedProcessor;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -57,6 +62,18 @@ public class DefaultSharedIndexInformer<
 
   private Thread controllerThread;
 
+  // listenerQueueBound bounds the queues of the event handlers added afterwards, zero means
+  // unbounded.
+  private int listenerQueueBound;
+
+  // sharedExecutors are the thread pools shared w/ other informers, null runs the informer on its
+  // own threads.
+  private SharedInformerExecutors sharedExecutors;
+
+  // transform is applied to the objects before they're stored and distributed, null keeps them as
+  // they're decoded.
+  private Function<ApiType, ApiType> transform;
+
   private volatile boolean started = false;
   private volatile boolean stopped = false;
 
@@ -85,6 +102,23 @@ public class DefaultSharedIndexInformer<
         cache);
   }
 
+  public DefaultSharedIndexInformer(
+      Class<ApiType> apiTypeClass,
+      ListerWatcher<ApiType, ApiListType> listerWatcher,
+      long resyncPeriod,
+      ConcurrentCache<ApiType> cache) {
+    this(
+        apiTypeClass,
+        listerWatcher,
+        resyncPeriod,
+        // down-casting should be safe here because one delta FIFO instance only serves one
+        // resource type
+        new DeltaFIFO(
+            (Function<KubernetesObject, String>) cache.getKeyFunc(),
+            (ConcurrentCache<KubernetesObject>) cache),
+        cache);
+  }
+
   public DefaultSharedIndexInformer(
       Class<ApiType> apiTypeClass,
       ListerWatcher<ApiType, ApiListType> listerWatcher,
@@ -119,6 +153,20 @@ public class DefaultSharedIndexInformer<
   @Override
   public void addEventHandlerWithResyncPeriod(
       ResourceEventHandler<ApiType> handler, long resyncPeriodMillis) {
+    addEventHandlerWithResyncPeriod(handler, resyncPeriodMillis, null);
+  }
+
+  /**
+   * Adds an event handler w/ a resync period like {@link
+   * #addEventHandlerWithResyncPeriod(ResourceEventHandler, long)}, naming it so that its queue
+   * depth and handler latency are exported as metrics labelled by the name.
+   *
+   * @param handler the event handler
+   * @param resyncPeriodMillis the specific resync period
+   * @param name the name labelling the handler's metrics, null disables them
+   */
+  public void addEventHandlerWithResyncPeriod(
+      ResourceEventHandler<ApiType> handler, long resyncPeriodMillis, String name) {
     if (stopped) {
       log.info(
           "DefaultSharedIndexInformer#Handler was not added to shared informer because it has stopped already");
@@ -153,9 +201,16 @@ public class DefaultSharedIndexInformer<
       }
     }
 
+    long listenerResyncPeriod =
+        determineResyncPeriod(resyncCheckPeriodMillis, this.resyncCheckPeriodMillis);
     ProcessorListener<ApiType> listener =
-        new ProcessorListener(
-            handler, determineResyncPeriod(resyncCheckPeriodMillis, this.resyncCheckPeriodMillis));
+        new ProcessorListener<>(
+            handler,
+            listenerResyncPeriod,
+            listenerQueueBound > 0
+                ? new CoalescingNotificationQueue<>(listenerQueueBound)
+                : new LinkedBlockingQueue<>(),
+            name);
     if (!started) {
       this.processor.addListener(listener);
       return;
@@ -187,6 +242,11 @@ public class DefaultSharedIndexInformer<
 
     this.processor.run();
 
+    if (sharedExecutors != null) {
+      // returns right away, the controller runs on the shared executors
+      controller.run();
+      return;
+    }
     controllerThread.start();
   }
 
@@ -223,30 +283,65 @@ public class DefaultSharedIndexInformer<
 
     // from oldest to newest
     for (MutablePair<DeltaFIFO.DeltaType, KubernetesObject> delta : deltas) {
-      DeltaFIFO.DeltaType deltaType = delta.getLeft();
-      switch (deltaType) {
-        case Sync:
-        case Added:
-        case Updated:
-          boolean isSync = deltaType == DeltaFIFO.DeltaType.Sync;
-          Object oldObj = this.indexer.get((ApiType) delta.getRight());
-          if (oldObj != null) {
-            this.indexer.update((ApiType) delta.getRight());
-            this.processor.distribute(
-                new ProcessorListener.UpdateNotification(oldObj, delta.getRight()), isSync);
-          } else {
-            this.indexer.add((ApiType) delta.getRight());
-            this.processor.distribute(
-                new ProcessorListener.AddNotification(delta.getRight()), isSync);
-          }
-          break;
-        case Deleted:
-          this.indexer.delete((ApiType) delta.getRight());
-          this.processor.distribute(
-              new ProcessorListener.DeleteNotification(delta.getRight()), false);
-          break;
+      this.processor.distribute(applyDelta(delta), delta.getLeft() == DeltaFIFO.DeltaType.Sync);
+    }
+  }
+
+  /**
+   * handleDeltasBatch handles deltas of multiple keys and distributes the resulting notifications
+   * in batches, one batch per run of sync or non-sync notifications to keep them in order.
+   *
+   * @param deltasList deltas of multiple keys
+   */
+  public void handleDeltasBatch(
+      List<Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>>> deltasList) {
+    List<ProcessorListener.Notification<ApiType>> notifications = new ArrayList<>();
+    boolean isSync = false;
+    for (Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>> deltas : deltasList) {
+      if (CollectionUtils.isEmpty(deltas)) {
+        continue;
+      }
+      // from oldest to newest
+      for (MutablePair<DeltaFIFO.DeltaType, KubernetesObject> delta : deltas) {
+        boolean isSyncDelta = delta.getLeft() == DeltaFIFO.DeltaType.Sync;
+        if (isSyncDelta != isSync && !notifications.isEmpty()) {
+          this.processor.distribute(notifications, isSync);
+          notifications = new ArrayList<>();
+        }
+        isSync = isSyncDelta;
+        notifications.add(applyDelta(delta));
       }
     }
+    if (!notifications.isEmpty()) {
+      this.processor.distribute(notifications, isSync);
+    }
+  }
+
+  // applyDelta updates the indexer with the delta and returns the notification to distribute.
+  private ProcessorListener.Notification<ApiType> applyDelta(
+      MutablePair<DeltaFIFO.DeltaType, KubernetesObject> delta) {
+    KubernetesObject obj = delta.getRight();
+    if (transform != null && !(obj instanceof DeltaFIFO.DeletedFinalStateUnknown)) {
+      obj = transform.apply((ApiType) obj);
+    }
+    switch (delta.getLeft()) {
+      case Sync:
+      case Added:
+      case Updated:
+        ApiType oldObj = (ApiType) this.indexer.get((ApiType) obj);
+        if (oldObj != null) {
+          this.indexer.update((ApiType) obj);
+          return new ProcessorListener.UpdateNotification<>(oldObj, (ApiType) obj);
+        }
+        this.indexer.add((ApiType) obj);
+        return new ProcessorListener.AddNotification<>((ApiType) obj);
+      case Deleted:
+        this.indexer.delete((ApiType) obj);
+        // the deleted object can be a DeletedFinalStateUnknown
+        return new ProcessorListener.DeleteNotification(obj);
+      default:
+        throw new IllegalStateException("unknown delta type " + delta.getLeft());
+    }
   }
 
   @Override
@@ -257,6 +352,106 @@ public class DefaultSharedIndexInformer<
     indexer.addIndexers(indexers);
   }
 
+  /**
+   * Sets the maximum number of items listed per request, so that the initial list and relists are
+   * paginated instead of fetched in a single response. Zero, which is the default, disables
+   * paginated listing.
+   *
+   * @param listPageSize the list page size
+   */
+  public void setListPageSize(int listPageSize) {
+    if (started) {
+      throw new IllegalStateException("cannot set list page size of a running informer");
+    }
+    if (listPageSize < 0) {
+      throw new IllegalArgumentException("list page size must not be negative");
+    }
+    this.controller.setListPageSize(listPageSize);
+  }
+
+  /**
+   * Sets the maximum number of keys popped from the delta queue at once, so that deltas are applied
+   * and distributed to the handlers in batches instead of one by one, which cuts lock hand-offs
+   * when there're lots of deltas, e.g. upon the initial list. Zero or one, which is the default,
+   * disables batch processing.
+   *
+   * @param processBatchSize the process batch size
+   */
+  public void setProcessBatchSize(int processBatchSize) {
+    if (started) {
+      throw new IllegalStateException("cannot set process batch size of a running informer");
+    }
+    if (processBatchSize < 0) {
+      throw new IllegalArgumentException("process batch size must not be negative");
+    }
+    this.controller.setBatchProcessFunc(
+        processBatchSize, processBatchSize > 1 ? this::handleDeltasBatch : null);
+  }
+
+  /**
+   * Sets the bound of the notification queues of the event handlers added afterwards. A bounded
+   * queue coalesces the pending notifications of each object into its latest state, and bounds the
+   * number of objects pending for the handler, so that a slow handler can't grow the memory without
+   * limit. Notifications of pending objects and deletions are always queued. When a notification of
+   * another object doesn't fit, the informer waits for the handler to make room before processing
+   * further deltas, after releasing its locks so that the indexer stays readable. A slow handler
+   * thus holds back the other handlers of the informer, but no notification is dropped. Zero, which
+   * is the default, keeps the queues unbounded.
+   *
+   * @param listenerQueueBound the listener queue bound
+   */
+  public void setListenerQueueBound(int listenerQueueBound) {
+    if (started) {
+      throw new IllegalStateException("cannot set listener queue bound of a running informer");
+    }
+    if (listenerQueueBound < 0) {
+      throw new IllegalArgumentException("listener queue bound must not be negative");
+    }
+    this.listenerQueueBound = listenerQueueBound;
+    this.controller.setProcessableFunc(listenerQueueBound > 0 ? processor::addHeldBack : null);
+  }
+
+  /**
+   * Sets the function transforming the objects popped from the delta queue before they're stored in
+   * the indexer and distributed to the event handlers, e.g. to strip the fields which no handler
+   * reads from the cached objects, see {@link
+   * io.kubernetes.client.informer.cache.Caches#stripManagedFieldsTransform}. The function may
+   * modify the object in place but must keep its key, and must be idempotent because the objects
+   * resynced come from the indexer. Null, which is the default, stores the objects as they're
+   * decoded.
+   *
+   * @param transform the transform
+   */
+  public void setTransform(Function<ApiType, ApiType> transform) {
+    if (started) {
+      throw new IllegalStateException("cannot set transform of a running informer");
+    }
+    this.transform = transform;
+  }
+
+  /**
+   * Sets the thread pools shared w/ other informers, so that the informer doesn't start threads of
+   * its own but for the reflector's list-watch, which runs on the shared watch executor as well. By
+   * default, an informer runs a controller thread, a reflector thread, a resync thread and a thread
+   * per event handler.
+   *
+   * @param sharedExecutors the shared executors
+   */
+  public void setSharedExecutors(SharedInformerExecutors sharedExecutors) {
+    if (started) {
+      throw new IllegalStateException("cannot set shared executors of a running informer");
+    }
+    this.sharedExecutors = sharedExecutors;
+    if (sharedExecutors != null) {
+      this.controller.setSharedExecutors(
+          sharedExecutors.getScheduler(), sharedExecutors.getWatchExecutor());
+      this.processor.setSharedExecutor(sharedExecutors.getHandlerExecutor());
+    } else {
+      this.controller.setSharedExecutors(null, null);
+      this.processor.setSharedExecutor(null);
+    }
+  }
+
   @Override
   public Indexer getIndexer() {
     return this.indexer;
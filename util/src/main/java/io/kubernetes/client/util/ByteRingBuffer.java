@@ -0,0 +1,195 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ByteRingBuffer is a bounded buffer of the bytes received on a stream of a web socket, which are
+ * read through {@link #getInputStream()}. The writer blocks while the buffer is full, holding back
+ * the web socket, and the reader while it's empty. Unlike the piped streams, the waiting threads
+ * are signalled instead of polling, and neither end is bound to a thread.
+ */
+class ByteRingBuffer {
+
+  private final byte[] buffer;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final InputStream inputStream = new RingBufferInputStream();
+
+  // the following fields are guarded by the lock.
+  private int head;
+  private int size;
+  // no more bytes will be written, the reader gets EOF once the buffer is drained.
+  private boolean writeClosed;
+  // no more bytes will be read, the written bytes are discarded.
+  private boolean readClosed;
+
+  ByteRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.buffer = new byte[capacity];
+  }
+
+  /**
+   * Writes the bytes read from the stream into the buffer until the end of the stream, reading
+   * directly into the free space of the buffer. The stream is read while holding the lock, so it's
+   * meant to be an in-memory message.
+   *
+   * @param in the stream to write
+   * @throws IOException if the stream fails or the writer is interrupted
+   */
+  void writeFrom(InputStream in) throws IOException {
+    lock.lock();
+    try {
+      while (true) {
+        while (size == buffer.length && !readClosed && !writeClosed) {
+          try {
+            notFull.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+          }
+        }
+        if (readClosed || writeClosed) {
+          return;
+        }
+        int tail = (head + size) % buffer.length;
+        int free = tail < head ? head - tail : buffer.length - tail;
+        int n = in.read(buffer, tail, free);
+        if (n < 0) {
+          return;
+        }
+        if (n > 0) {
+          size += n;
+          notEmpty.signal();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Closes the writing end, the reader gets EOF once the buffered bytes are read. */
+  void closeWrite() {
+    lock.lock();
+    try {
+      writeClosed = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the stream reading the buffer.
+   *
+   * @return the input stream
+   */
+  InputStream getInputStream() {
+    return inputStream;
+  }
+
+  private class RingBufferInputStream extends InputStream {
+
+    @Override
+    public int read() throws IOException {
+      lock.lock();
+      try {
+        if (!awaitData()) {
+          return -1;
+        }
+        int b = buffer[head] & 0xFF;
+        head = (head + 1) % buffer.length;
+        size--;
+        notFull.signal();
+        return b;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (off < 0 || len < 0 || len > b.length - off) {
+        throw new IndexOutOfBoundsException();
+      }
+      if (len == 0) {
+        return 0;
+      }
+      lock.lock();
+      try {
+        if (!awaitData()) {
+          return -1;
+        }
+        int n = Math.min(len, size);
+        // copies up to the end of the array, and the wrapped around remainder
+        int first = Math.min(n, buffer.length - head);
+        System.arraycopy(buffer, head, b, off, first);
+        System.arraycopy(buffer, 0, b, off + first, n - first);
+        head = (head + n) % buffer.length;
+        size -= n;
+        notFull.signal();
+        return n;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    // waits for bytes to read, returns false on EOF. Must be called w/ the lock held.
+    private boolean awaitData() throws InterruptedIOException {
+      while (size == 0) {
+        if (writeClosed || readClosed) {
+          return false;
+        }
+        try {
+          notEmpty.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int available() {
+      lock.lock();
+      try {
+        return size;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void close() {
+      lock.lock();
+      try {
+        readClosed = true;
+        size = 0;
+        notEmpty.signalAll();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
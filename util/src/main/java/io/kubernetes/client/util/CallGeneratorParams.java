@@ -17,10 +17,35 @@ public class CallGeneratorParams {
   public Boolean watch;
   public String resourceVersion;
   public Integer timeoutSeconds;
+  public Integer limit;
+  public String continueToken;
+  public Boolean allowWatchBookmarks;
 
   public CallGeneratorParams(Boolean watch, String resourceVersion, Integer timeoutSeconds) {
+    this(watch, resourceVersion, timeoutSeconds, null, null);
+  }
+
+  public CallGeneratorParams(
+      Boolean watch,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Integer limit,
+      String continueToken) {
+    this(watch, resourceVersion, timeoutSeconds, limit, continueToken, null);
+  }
+
+  public CallGeneratorParams(
+      Boolean watch,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Integer limit,
+      String continueToken,
+      Boolean allowWatchBookmarks) {
     this.watch = watch;
     this.resourceVersion = resourceVersion;
     this.timeoutSeconds = timeoutSeconds;
+    this.limit = limit;
+    this.continueToken = continueToken;
+    this.allowWatchBookmarks = allowWatchBookmarks;
   }
 }
@@ -41,7 +41,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.security.PrivateKey;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
@@ -55,6 +60,11 @@ public class ClientBuilder {
   private byte[] caCertBytes = null;
   private boolean verifyingSsl = true;
   private Authentication authentication;
+  private boolean http2Enabled = false;
+  private int maxRequests = 0;
+  private int maxRequestsPerHost = 0;
+  private int maxIdleConnections = 0;
+  private Duration keepAliveDuration = Duration.ofMinutes(5);
 
   /**
    * Creates an {@link ApiClient} by calling {@link #standard()} and {@link #build()}.
@@ -367,13 +377,76 @@ public class ClientBuilder {
     return this;
   }
 
+  public boolean isHttp2Enabled() {
+    return http2Enabled;
+  }
+
+  /**
+   * Enables HTTP/2 so that the requests to the apiserver, including the long-running watches,
+   * multiplex on a shared connection instead of each holding a connection of its own. Over https
+   * the protocol is negotiated w/ ALPN and falls back to HTTP/1.1, over plain http the server must
+   * support HTTP/2 w/ prior knowledge. Defaults to false, i.e. HTTP/1.1 only.
+   *
+   * @param http2Enabled whether to enable HTTP/2
+   * @return the client builder
+   */
+  public ClientBuilder setHttp2Enabled(boolean http2Enabled) {
+    this.http2Enabled = http2Enabled;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of asynchronous requests executing concurrently, the exceeding ones are
+   * queued. Synchronous calls, e.g. watches, are not bounded by it.
+   *
+   * @param maxRequests the maximum number of requests
+   * @return the client builder
+   */
+  public ClientBuilder setMaxRequests(int maxRequests) {
+    if (maxRequests < 1) {
+      throw new IllegalArgumentException("maxRequests must be positive");
+    }
+    this.maxRequests = maxRequests;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of asynchronous requests executing concurrently against the apiserver
+   * host, the exceeding ones are queued. Synchronous calls, e.g. watches, are not bounded by it.
+   *
+   * @param maxRequestsPerHost the maximum number of requests per host
+   * @return the client builder
+   */
+  public ClientBuilder setMaxRequestsPerHost(int maxRequestsPerHost) {
+    if (maxRequestsPerHost < 1) {
+      throw new IllegalArgumentException("maxRequestsPerHost must be positive");
+    }
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    return this;
+  }
+
+  /**
+   * Sizes the connection pool of the client.
+   *
+   * @param maxIdleConnections the maximum number of idle connections kept in the pool
+   * @param keepAliveDuration how long an idle connection is kept in the pool
+   * @return the client builder
+   */
+  public ClientBuilder setConnectionPool(int maxIdleConnections, Duration keepAliveDuration) {
+    if (maxIdleConnections < 1) {
+      throw new IllegalArgumentException("maxIdleConnections must be positive");
+    }
+    if (keepAliveDuration.isNegative() || keepAliveDuration.isZero()) {
+      throw new IllegalArgumentException("keepAliveDuration must be positive");
+    }
+    this.maxIdleConnections = maxIdleConnections;
+    this.keepAliveDuration = keepAliveDuration;
+    return this;
+  }
+
   public ApiClient build() {
     final ApiClient client = new ApiClient();
 
-    // defaulting client protocols to HTTP1.1
-    client.setHttpClient(
-        client.getHttpClient().newBuilder().protocols(Arrays.asList(Protocol.HTTP_1_1)).build());
-
     if (basePath != null) {
       if (basePath.endsWith("/")) {
         basePath = basePath.substring(0, basePath.length() - 1);
@@ -381,6 +454,33 @@ public class ClientBuilder {
       client.setBasePath(basePath);
     }
 
+    OkHttpClient.Builder httpClientBuilder = client.getHttpClient().newBuilder();
+    if (!http2Enabled) {
+      // defaulting client protocols to HTTP1.1
+      httpClientBuilder.protocols(Arrays.asList(Protocol.HTTP_1_1));
+    } else if (basePath != null && basePath.startsWith("http://")) {
+      // w/o TLS there's no ALPN to negotiate the protocol with
+      httpClientBuilder.protocols(Arrays.asList(Protocol.H2_PRIOR_KNOWLEDGE));
+    } else {
+      httpClientBuilder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+    }
+    if (maxRequests > 0 || maxRequestsPerHost > 0) {
+      Dispatcher dispatcher = new Dispatcher();
+      if (maxRequests > 0) {
+        dispatcher.setMaxRequests(maxRequests);
+      }
+      if (maxRequestsPerHost > 0) {
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+      }
+      httpClientBuilder.dispatcher(dispatcher);
+    }
+    if (maxIdleConnections > 0) {
+      httpClientBuilder.connectionPool(
+          new ConnectionPool(
+              maxIdleConnections, keepAliveDuration.toMillis(), TimeUnit.MILLISECONDS));
+    }
+    client.setHttpClient(httpClientBuilder.build());
+
     client.setVerifyingSsl(verifyingSsl);
 
     if (authentication != null) {
@@ -12,18 +12,13 @@ limitations under the License.
 */
 package io.kubernetes.client.util;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
 import io.kubernetes.client.util.authenticators.Authenticator;
 import io.kubernetes.client.util.authenticators.AzureActiveDirectoryAuthenticator;
 import io.kubernetes.client.util.authenticators.GCPAuthenticator;
 import io.kubernetes.client.util.authenticators.OpenIDConnectAuthenticator;
+import io.kubernetes.client.util.credentials.ExecCredentialAuthentication;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
@@ -32,6 +27,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.codec.binary.Base64;
@@ -227,11 +223,23 @@ public class KubeConfig {
         }
       }
     }
-    String tokenViaExecCredential =
-        tokenViaExecCredential((Map<String, Object>) currentUser.get("exec"));
+    String tokenViaExecCredential = tokenViaExecCredential();
     if (tokenViaExecCredential != null) {
       return tokenViaExecCredential;
     }
+    return getStaticAccessToken();
+  }
+
+  /**
+   * Returns the token of the current user given by its token or tokenFile, w/o running its auth
+   * provider or credential plugin.
+   *
+   * @return the token, or null if there's none
+   */
+  public String getStaticAccessToken() {
+    if (currentUser == null) {
+      return null;
+    }
     if (currentUser.containsKey("token")) {
       return (String) currentUser.get("token");
     }
@@ -254,8 +262,26 @@ public class KubeConfig {
    *     href="https://kubernetes.io/docs/reference/access-authn-authz/authentication/#client-go-credential-plugins">
    *     Authenticating » client-go credential plugins</a>
    */
+  private String tokenViaExecCredential() {
+    ExecCredentialAuthentication execCredentialAuthentication = getExecCredentialAuthentication();
+    if (execCredentialAuthentication == null) {
+      return null;
+    }
+    return execCredentialAuthentication.getToken();
+  }
+
+  /**
+   * Returns the authentication running the external program configured for the current user, the
+   * credentials it produces are cached and shared by the configs running the same program.
+   *
+   * @return the authentication, or null if the current user doesn't authenticate by a program
+   */
   @SuppressWarnings("unchecked")
-  private String tokenViaExecCredential(Map<String, Object> execMap) {
+  public ExecCredentialAuthentication getExecCredentialAuthentication() {
+    if (currentUser == null || currentUser.get("auth-provider") != null) {
+      return null;
+    }
+    Map<String, Object> execMap = (Map<String, Object>) currentUser.get("exec");
     if (execMap == null) {
       return null;
     }
@@ -265,38 +291,22 @@ public class KubeConfig {
       log.error("Unrecognized user.exec.apiVersion: {}", apiVersion);
       return null;
     }
-    String command = (String) execMap.get("command");
-    JsonElement root = runExec(command, (List) execMap.get("args"), (List) execMap.get("env"));
-    if (root == null) {
-      return null;
-    }
-    if (!"ExecCredential".equals(root.getAsJsonObject().get("kind").getAsString())) {
-      log.error("Unrecognized kind in response");
-      return null;
-    }
-    if (!apiVersion.equals(root.getAsJsonObject().get("apiVersion").getAsString())) {
-      log.error("Mismatched apiVersion in response");
+    List<String> argv =
+        execCommand((String) execMap.get("command"), (List<String>) execMap.get("args"));
+    if (argv == null) {
       return null;
     }
-    JsonObject status = root.getAsJsonObject().get("status").getAsJsonObject();
-    JsonElement token = status.get("token");
-    if (token == null) {
-      // TODO handle clientCertificateData/clientKeyData
-      // (KubeconfigAuthentication is not yet set up for that to be dynamic)
-      log.warn("No token produced by {}", command);
-      return null;
+    Map<String, String> env = new LinkedHashMap<>();
+    List<Map<String, String>> envList = (List<Map<String, String>>) execMap.get("env");
+    if (envList != null) {
+      for (Map<String, String> entry : envList) {
+        env.put(entry.get("name"), entry.get("value"));
+      }
     }
-    log.debug("Obtained a token from {}", command);
-    return token.getAsString();
-    // TODO cache tokens between calls, up to .status.expirationTimestamp
-    // TODO a 401 is supposed to force a refresh,
-    // but KubeconfigAuthentication hardcodes AccessTokenAuthentication which does not support
-    // that
-    // and anyway ClientBuilder only calls Authenticator.provide once per ApiClient;
-    // we would need to do it on every request
+    return ExecCredentialAuthentication.shared(apiVersion, argv, env);
   }
 
-  private JsonElement runExec(String command, List<String> args, List<Map<String, String>> env) {
+  private List<String> execCommand(String command, List<String> args) {
     List<String> argv = new ArrayList<>();
     if (command.contains("/") || command.contains("\\")) {
       // Spec is unclear on what should be treated as a “relative command path”.
@@ -315,33 +325,7 @@ public class KubeConfig {
     if (args != null) {
       argv.addAll(args);
     }
-    ProcessBuilder pb = new ProcessBuilder(argv);
-    if (env != null) {
-      for (Map<String, String> entry : env) {
-        pb.environment().put(entry.get("name"), entry.get("value"));
-      }
-    }
-    pb.redirectError(ProcessBuilder.Redirect.INHERIT);
-    try {
-      Process proc = pb.start();
-      JsonElement root;
-      try (InputStream is = proc.getInputStream();
-          Reader r = new InputStreamReader(is, StandardCharsets.UTF_8)) {
-        root = JsonParser.parseReader(r);
-      } catch (JsonParseException x) {
-        log.error("Failed to parse output of " + command, x);
-        return null;
-      }
-      int r = proc.waitFor();
-      if (r != 0) {
-        log.error("{} failed with exit code {}", command, r);
-        return null;
-      }
-      return root;
-    } catch (IOException | InterruptedException x) {
-      log.error("Failed to run " + command, x);
-      return null;
-    }
+    return argv;
   }
 
   public boolean verifySSL() {
@@ -0,0 +1,642 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import com.google.gson.annotations.SerializedName;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.Message;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.Runtime.Unknown;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import org.apache.commons.codec.binary.Hex;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+/**
+ * ProtobufCodec decodes responses in the kubernetes protobuf wire format, i.e. the magic number
+ * followed by a runtime.Unknown envelope wrapping the encoded object, into the OpenAPI model
+ * classes, so that the models can be fetched w/o the cost of parsing JSON.
+ *
+ * <p>The proto message of an envelope is resolved from its apiVersion and kind among the messages
+ * generated into the proto module, e.g. apps/v1 DeploymentList resolves to {@code
+ * V1Apps.DeploymentList}, messages can be registered explicitly as well. Proto fields are copied to
+ * the model fields of the same json name. Note the proto module built from this tree lacks the
+ * core/v1 messages, so e.g. pods aren't supported unless {@code io.kubernetes.client.proto.V1} is
+ * on the classpath, see {@link #supports}.
+ */
+public class ProtobufCodec {
+
+  /** The media type of the kubernetes protobuf wire format. */
+  public static final String MEDIA_TYPE = "application/vnd.kubernetes.protobuf";
+
+  /** The accept header preferring protobuf, w/ json for the resources not supporting protobuf. */
+  public static final String ACCEPT = MEDIA_TYPE + ", application/json";
+
+  // Magic number for the beginning of proto encoded.
+  // https://github.com/kubernetes/apimachinery/blob/release-1.13/pkg/runtime/serializer/protobuf/protobuf.go#L44
+  private static final byte[] MAGIC = new byte[] {0x6b, 0x38, 0x73, 0x00};
+
+  private static final String PROTO_PACKAGE = "io.kubernetes.client.proto.";
+
+  private static final String META_PACKAGE = "k8s.io.apimachinery.pkg.apis.meta.v1.";
+
+  private final JSON json;
+
+  private final Map<String, Optional<Message>> prototypes = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, Map<String, ModelField>> modelFields = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, Map<Object, MessageConverter>> converters = new ConcurrentHashMap<>();
+
+  public ProtobufCodec(JSON json) {
+    this.json = json;
+    registerType("v1", "Status", Meta.Status.getDefaultInstance());
+  }
+
+  /**
+   * Registers the proto message encoding objects of the apiVersion and kind.
+   *
+   * @param apiVersion the api version
+   * @param kind the kind
+   * @param prototype an instance of the message, e.g. the default instance
+   */
+  public void registerType(String apiVersion, String kind, Message prototype) {
+    prototypes.put(typeKey(apiVersion, kind), Optional.of(prototype));
+  }
+
+  /**
+   * Checks if there's a proto message for the apiVersion and kind.
+   *
+   * @param apiVersion the api version
+   * @param kind the kind
+   * @return true if objects of the apiVersion and kind can be decoded
+   */
+  public boolean supports(String apiVersion, String kind) {
+    return prototypeOf(apiVersion, kind) != null;
+  }
+
+  /**
+   * Checks if the response is encoded in protobuf.
+   *
+   * @param response the response
+   * @return true if the content type of the response is protobuf
+   */
+  public static boolean isProtobuf(Response response) {
+    String contentType = response.header("Content-Type");
+    if (contentType == null) {
+      return false;
+    }
+    MediaType mediaType = MediaType.parse(contentType);
+    return mediaType != null && MEDIA_TYPE.equals(mediaType.type() + "/" + mediaType.subtype());
+  }
+
+  /**
+   * Parses the envelope of a protobuf encoded object.
+   *
+   * @param stream the stream of the encoded object
+   * @return the envelope
+   * @throws IOException if the stream isn't protobuf encoded
+   */
+  public Unknown parseEnvelope(InputStream stream) throws IOException {
+    byte[] magic = new byte[MAGIC.length];
+    Streams.readFully(stream, magic);
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new IOException("Unexpected magic number: " + Hex.encodeHexString(magic));
+    }
+    return Unknown.parseFrom(stream);
+  }
+
+  /**
+   * Decodes the object wrapped in the envelope into the model class.
+   *
+   * @param <T> the model type
+   * @param envelope the envelope
+   * @param modelClass the model class
+   * @return the model
+   * @throws IOException if the wrapped object can't be decoded
+   */
+  public <T> T decode(Unknown envelope, Class<T> modelClass) throws IOException {
+    String apiVersion = envelope.getTypeMeta().getApiVersion();
+    String kind = envelope.getTypeMeta().getKind();
+    Message prototype = prototypeOf(apiVersion, kind);
+    if (prototype == null) {
+      throw new IOException("No protobuf message for " + apiVersion + " " + kind);
+    }
+    Message message = prototype.getParserForType().parseFrom(envelope.getRaw());
+    T model = convert(message, modelClass);
+    // type meta isn't encoded in the message
+    setIfAbsent(model, "apiVersion", apiVersion);
+    setIfAbsent(model, "kind", kind);
+    return model;
+  }
+
+  /**
+   * Converts a proto message into the model class.
+   *
+   * @param <T> the model type
+   * @param message the message
+   * @param modelClass the model class
+   * @return the model
+   */
+  public <T> T convert(Message message, Class<T> modelClass) {
+    return modelClass.cast(converterOf(message, modelClass).convert(message));
+  }
+
+  private MessageConverter converterOf(Message message, Class<?> modelClass) {
+    // the converters of generated messages are resolved per message class, since they call the
+    // generated accessors, those of dynamic messages per descriptor.
+    Object key =
+        message instanceof GeneratedMessageV3 ? message.getClass() : message.getDescriptorForType();
+    return converters
+        .computeIfAbsent(modelClass, clazz -> new ConcurrentHashMap<>())
+        .computeIfAbsent(key, k -> new MessageConverter(message, modelClass));
+  }
+
+  /**
+   * MessageConverter converts messages into a model class, by the accessors, value converters and
+   * setters of their fields resolved once, instead of reflecting upon the fields of every message.
+   * The fields are read by the accessors generated into the message class where possible, which
+   * saves the reflective calls behind {@link Message#getField} and the map entries it builds for
+   * map fields. The generated accessors and the model constructor are bound into lambdas, since
+   * method handles that aren't constants don't get inlined, which made the conversion slower than
+   * parsing json.
+   */
+  private class MessageConverter {
+
+    private final Supplier<Object> constructor;
+
+    // per converted field, checks if the field is set on a message
+    private final List<Predicate<Object>> presences = new ArrayList<>();
+    // per converted field, gets the field of a message, a java map for map fields
+    private final List<Function<Object, Object>> getters = new ArrayList<>();
+    private final List<Function<Object, Object>> valueConverters = new ArrayList<>();
+    private final List<Field> setters = new ArrayList<>();
+
+    private MessageConverter(Message prototype, Class<?> modelClass) {
+      try {
+        this.constructor =
+            bind(
+                Supplier.class,
+                "get",
+                MethodType.methodType(Object.class),
+                MethodHandles.lookup().unreflectConstructor(modelClass.getConstructor()));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException("Cannot instantiate " + modelClass, e);
+      }
+      Map<String, ModelField> fields = fieldsOf(modelClass);
+      for (FieldDescriptor descriptor : prototype.getDescriptorForType().getFields()) {
+        ModelField field = fields.get(descriptor.getName());
+        if (field == null) {
+          // not in the model
+          continue;
+        }
+        FieldAccessors accessors;
+        try {
+          accessors =
+              prototype instanceof GeneratedMessageV3
+                  ? generatedAccessors(prototype.getClass(), descriptor)
+                  : reflectiveAccessors(descriptor);
+        } catch (ReflectiveOperationException e) {
+          accessors = reflectiveAccessors(descriptor);
+        }
+        presences.add(accessors.presence);
+        getters.add(accessors.getter);
+        valueConverters.add(fieldConverter(descriptor, field.type));
+        setters.add(field.field);
+      }
+    }
+
+    private Object convert(Message message) {
+      Object model = constructor.get();
+      try {
+        for (int i = 0; i < setters.size(); i++) {
+          // unset fields are left null
+          if (!presences.get(i).test(message)) {
+            continue;
+          }
+          Object value = getters.get(i).apply(message);
+          setters.get(i).set(model, valueConverters.get(i).apply(value));
+        }
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+      return model;
+    }
+  }
+
+  /** FieldAccessors checks if a field is set on a message and gets it. */
+  private static class FieldAccessors {
+
+    private final Predicate<Object> presence;
+    private final Function<Object, Object> getter;
+
+    private FieldAccessors(Predicate<Object> presence, Function<Object, Object> getter) {
+      this.presence = presence;
+      this.getter = getter;
+    }
+  }
+
+  // resolves the generated accessors checking and getting the field, e.g. hasNodeName and
+  // getNodeName, getContainersCount and getContainersList, or getLabelsCount and getLabelsMap.
+  private static FieldAccessors generatedAccessors(
+      Class<?> messageClass, FieldDescriptor descriptor) throws ReflectiveOperationException {
+    String name = accessorName(descriptor.getName());
+    if (descriptor.isMapField()) {
+      return new FieldAccessors(
+          positive(accessor(messageClass, "get" + name + "Count")),
+          getter(accessor(messageClass, "get" + name + "Map")));
+    }
+    if (descriptor.isRepeated()) {
+      return new FieldAccessors(
+          positive(accessor(messageClass, "get" + name + "Count")),
+          getter(accessor(messageClass, "get" + name + "List")));
+    }
+    if (descriptor.getJavaType() == FieldDescriptor.JavaType.ENUM) {
+      // the generated getter returns the java enum rather than the value descriptor
+      throw new NoSuchMethodException(name);
+    }
+    return new FieldAccessors(
+        bind(
+            Predicate.class,
+            "test",
+            MethodType.methodType(boolean.class, Object.class),
+            accessor(messageClass, "has" + name)),
+        getter(accessor(messageClass, "get" + name)));
+  }
+
+  private static FieldAccessors reflectiveAccessors(FieldDescriptor descriptor) {
+    Predicate<Object> presence =
+        descriptor.isRepeated()
+            ? message -> ((Message) message).getRepeatedFieldCount(descriptor) > 0
+            : message -> ((Message) message).hasField(descriptor);
+    Function<Object, Object> getter =
+        descriptor.isMapField()
+            ? message -> entriesToMap(((Message) message).getField(descriptor))
+            : message -> ((Message) message).getField(descriptor);
+    return new FieldAccessors(presence, getter);
+  }
+
+  private static MethodHandle accessor(Class<?> messageClass, String name)
+      throws ReflectiveOperationException {
+    return MethodHandles.lookup().unreflect(messageClass.getMethod(name));
+  }
+
+  private static Function<Object, Object> getter(MethodHandle accessor)
+      throws ReflectiveOperationException {
+    return bind(
+        Function.class, "apply", MethodType.methodType(Object.class, Object.class), accessor);
+  }
+
+  // adapts an accessor counting the elements of a field into one checking the field is set
+  private static Predicate<Object> positive(MethodHandle count)
+      throws ReflectiveOperationException {
+    ToIntFunction<Object> counter =
+        bind(
+            ToIntFunction.class,
+            "applyAsInt",
+            MethodType.methodType(int.class, Object.class),
+            count);
+    return message -> counter.applyAsInt(message) > 0;
+  }
+
+  // binds a direct method handle into an instance of the functional interface, like a method
+  // reference compiled by javac.
+  @SuppressWarnings("unchecked")
+  private static <T> T bind(
+      Class<? super T> functionalInterface,
+      String methodName,
+      MethodType methodType,
+      MethodHandle target)
+      throws ReflectiveOperationException {
+    MethodType instantiatedType = target.type();
+    // a primitive returned by a getter is boxed into the object returned by the interface
+    if (instantiatedType.returnType().isPrimitive() != methodType.returnType().isPrimitive()) {
+      instantiatedType = instantiatedType.changeReturnType(methodType.returnType());
+    }
+    try {
+      return (T)
+          LambdaMetafactory.metafactory(
+                  MethodHandles.lookup(),
+                  methodName,
+                  MethodType.methodType(functionalInterface),
+                  methodType,
+                  target,
+                  instantiatedType)
+              .getTarget()
+              .invoke();
+    } catch (ReflectiveOperationException | RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  // the map entries of a map field, as returned by getField, into a map
+  private static Map<Object, Object> entriesToMap(Object entries) {
+    Map<Object, Object> map = new LinkedHashMap<>();
+    for (Object element : (List<?>) entries) {
+      Message entry = (Message) element;
+      Descriptor descriptor = entry.getDescriptorForType();
+      map.put(
+          entry.getField(descriptor.findFieldByName("key")),
+          entry.getField(descriptor.findFieldByName("value")));
+    }
+    return map;
+  }
+
+  // the name of a field in its generated accessors, see protobuf's underscoresToCamelCase.
+  private static String accessorName(String fieldName) {
+    StringBuilder name = new StringBuilder(fieldName.length());
+    boolean capitalizeNext = true;
+    for (char c : fieldName.toCharArray()) {
+      if (c == '_') {
+        capitalizeNext = true;
+      } else if (Character.isDigit(c)) {
+        name.append(c);
+        capitalizeNext = true;
+      } else if (capitalizeNext) {
+        name.append(Character.toUpperCase(c));
+        capitalizeNext = false;
+      } else {
+        name.append(c);
+      }
+    }
+    return name.toString();
+  }
+
+  private Function<Object, Object> fieldConverter(FieldDescriptor descriptor, Type type) {
+    if (descriptor.isMapField()) {
+      FieldDescriptor valueDescriptor = descriptor.getMessageType().findFieldByName("value");
+      Function<Object, Object> valueConverter =
+          valueConverter(valueDescriptor, typeArgument(type, 1));
+      return value -> {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          map.put((String) entry.getKey(), valueConverter.apply(entry.getValue()));
+        }
+        return map;
+      };
+    }
+    if (descriptor.isRepeated()) {
+      Function<Object, Object> elementConverter = valueConverter(descriptor, typeArgument(type, 0));
+      return value -> {
+        List<?> elements = (List<?>) value;
+        List<Object> list = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+          list.add(elementConverter.apply(element));
+        }
+        return list;
+      };
+    }
+    return valueConverter(descriptor, type);
+  }
+
+  private Function<Object, Object> valueConverter(FieldDescriptor descriptor, Type type) {
+    switch (descriptor.getJavaType()) {
+      case MESSAGE:
+        return messageConverter(descriptor.getMessageType(), type);
+      case BYTE_STRING:
+        if (type == String.class) {
+          return value -> ((ByteString) value).toStringUtf8();
+        }
+        return value -> ((ByteString) value).toByteArray();
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        if (type == Integer.class) {
+          return value -> ((Number) value).intValue();
+        } else if (type == Long.class) {
+          return value -> ((Number) value).longValue();
+        } else if (type == Double.class) {
+          return value -> ((Number) value).doubleValue();
+        } else if (type == Float.class) {
+          return value -> ((Number) value).floatValue();
+        } else if (type == BigDecimal.class) {
+          return value -> new BigDecimal(value.toString());
+        } else if (type == String.class) {
+          return Object::toString;
+        }
+        return Function.identity();
+      default:
+        return Function.identity();
+    }
+  }
+
+  private Function<Object, Object> messageConverter(Descriptor descriptor, Type type) {
+    switch (descriptor.getFullName()) {
+      case META_PACKAGE + "Time":
+      case META_PACKAGE + "MicroTime":
+        FieldDescriptor seconds = descriptor.findFieldByName("seconds");
+        FieldDescriptor nanos = descriptor.findFieldByName("nanos");
+        return value -> {
+          if (value instanceof Meta.Time) {
+            Meta.Time time = (Meta.Time) value;
+            return dateTime(time.getSeconds(), time.getNanos());
+          }
+          Message message = (Message) value;
+          return dateTime((Long) message.getField(seconds), (Integer) message.getField(nanos));
+        };
+      case "k8s.io.apimachinery.pkg.util.intstr.IntOrString":
+        FieldDescriptor intOrStringType = descriptor.findFieldByName("type");
+        FieldDescriptor intVal = descriptor.findFieldByName("intVal");
+        FieldDescriptor strVal = descriptor.findFieldByName("strVal");
+        return value -> {
+          if (value instanceof IntStr.IntOrString) {
+            IntStr.IntOrString intOrString = (IntStr.IntOrString) value;
+            return intOrString.getType() == 1L
+                ? new IntOrString(intOrString.getStrVal())
+                : new IntOrString(intOrString.getIntVal());
+          }
+          Message message = (Message) value;
+          if ((Long) message.getField(intOrStringType) == 1L) {
+            return new IntOrString((String) message.getField(strVal));
+          }
+          return new IntOrString((Integer) message.getField(intVal));
+        };
+      case "k8s.io.apimachinery.pkg.api.resource.Quantity":
+        FieldDescriptor string = descriptor.findFieldByName("string");
+        return value ->
+            Quantity.fromString(
+                value instanceof Resource.Quantity
+                    ? ((Resource.Quantity) value).getString()
+                    : (String) ((Message) value).getField(string));
+      default:
+    }
+    if (type == Object.class) {
+      // raw extensions and alike embed the json of arbitrary objects
+      FieldDescriptor raw = descriptor.findFieldByName("raw");
+      if (raw == null) {
+        return value -> null;
+      }
+      return value -> {
+        Message message = (Message) value;
+        if (!message.hasField(raw)) {
+          return null;
+        }
+        String content = ((ByteString) message.getField(raw)).toStringUtf8();
+        return json.getGson().fromJson(content, Object.class);
+      };
+    }
+    // resolved on first use, since messages may nest themselves. The messages of a field are all
+    // of the same class, so the converter is looked up only once.
+    Class<?> modelClass = rawClass(type);
+    AtomicReference<MessageConverter> resolved = new AtomicReference<>();
+    return value -> {
+      MessageConverter converter = resolved.get();
+      if (converter == null) {
+        converter = converterOf((Message) value, modelClass);
+        resolved.set(converter);
+      }
+      return converter.convert((Message) value);
+    };
+  }
+
+  private Message prototypeOf(String apiVersion, String kind) {
+    return prototypes
+        .computeIfAbsent(
+            typeKey(apiVersion, kind),
+            key -> Optional.ofNullable(lookupPrototype(apiVersion, kind)))
+        .orElse(null);
+  }
+
+  // resolves the message generated into the proto module, e.g. batch/v1beta1 CronJob to
+  // V1beta1Batch.CronJob and v1 Pod to V1.Pod.
+  private static Message lookupPrototype(String apiVersion, String kind) {
+    String group = "";
+    String version = apiVersion;
+    int slash = apiVersion.indexOf('/');
+    if (slash >= 0) {
+      group = apiVersion.substring(0, slash);
+      version = apiVersion.substring(slash + 1);
+      int dot = group.indexOf('.');
+      if (dot >= 0) {
+        group = group.substring(0, dot);
+      }
+    }
+    String outerClass = capitalize(version) + capitalize(group);
+    try {
+      Class<?> messageClass = Class.forName(PROTO_PACKAGE + outerClass + "$" + kind);
+      return (Message) messageClass.getMethod("getDefaultInstance").invoke(null);
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      return null;
+    }
+  }
+
+  private Map<String, ModelField> fieldsOf(Class<?> modelClass) {
+    return modelFields.computeIfAbsent(
+        modelClass,
+        clazz -> {
+          Map<String, ModelField> fields = new HashMap<>();
+          for (Field field : clazz.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+              continue;
+            }
+            SerializedName serializedName = field.getAnnotation(SerializedName.class);
+            String name = serializedName != null ? serializedName.value() : field.getName();
+            fields.put(name, new ModelField(field));
+          }
+          return Collections.unmodifiableMap(fields);
+        });
+  }
+
+  private void setIfAbsent(Object model, String name, String value) {
+    ModelField field = fieldsOf(model.getClass()).get(name);
+    if (field == null || field.type != String.class) {
+      return;
+    }
+    try {
+      if (field.field.get(model) == null) {
+        field.field.set(model, value);
+      }
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /** ModelField is a field of a model class, made accessible once. */
+  private static class ModelField {
+
+    private final Type type;
+    private final Field field;
+
+    private ModelField(Field field) {
+      this.type = field.getGenericType();
+      field.setAccessible(true);
+      this.field = field;
+    }
+  }
+
+  private static DateTime dateTime(long seconds, int nanos) {
+    return new DateTime(seconds * 1000L + nanos / 1000000, DateTimeZone.UTC);
+  }
+
+  private static Type typeArgument(Type type, int index) {
+    if (type instanceof ParameterizedType) {
+      return ((ParameterizedType) type).getActualTypeArguments()[index];
+    }
+    return Object.class;
+  }
+
+  private static Class<?> rawClass(Type type) {
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+    return (Class<?>) type;
+  }
+
+  private static String typeKey(String apiVersion, String kind) {
+    return apiVersion + "/" + kind;
+  }
+
+  private static String capitalize(String s) {
+    if (s.isEmpty()) {
+      return s;
+    }
+    return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.Meta.WatchEvent;
+import io.kubernetes.client.proto.Runtime.Unknown;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import okhttp3.Call;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+/**
+ * ProtobufWatch watches changes over the kubernetes protobuf wire format, where the watch events
+ * are length-delimited frames of WatchEvent messages, each of which embeds the protobuf encoded
+ * object. The objects are decoded into the model classes w/ {@link ProtobufCodec}.
+ */
+public class ProtobufWatch<T> implements Watchable<T>, Closeable {
+
+  private final ProtobufCodec codec;
+  private final ResponseBody response;
+  private final Class<T> modelClass;
+  private final Call call;
+
+  /**
+   * Creates a watch preferring protobuf. The call is sent w/ an accept header preferring protobuf,
+   * and if the apiserver responds in json, e.g. for custom resources, a json {@link Watch} is
+   * returned instead.
+   *
+   * @param <T> the model type
+   * @param client the api client
+   * @param call the watch call
+   * @param modelClass the model class
+   * @param codec the protobuf codec
+   * @return the watch
+   * @throws ApiException on IO exceptions or unsuccessful responses
+   */
+  public static <T> Watchable<T> createWatch(
+      ApiClient client, Call call, Class<T> modelClass, ProtobufCodec codec) throws ApiException {
+    if (client.isDebugging()) {
+      throw new ApiException("Watch is incompatible with debugging mode active.");
+    }
+    Request request = call.request().newBuilder().header("Accept", ProtobufCodec.ACCEPT).build();
+    Call protobufCall = client.getHttpClient().newCall(request);
+    try {
+      okhttp3.Response response = protobufCall.execute();
+      if (!response.isSuccessful()) {
+        String respBody = null;
+        try (ResponseBody body = response.body()) {
+          if (body != null) {
+            respBody = body.string();
+          }
+        } catch (IOException e) {
+          throw new ApiException(
+              response.message(), e, response.code(), response.headers().toMultimap());
+        }
+        throw new ApiException(
+            response.message(), response.code(), response.headers().toMultimap(), respBody);
+      }
+      if (!ProtobufCodec.isProtobuf(response)) {
+        return new Watch<>(
+            client.getJSON(),
+            response.body(),
+            TypeToken.getParameterized(Watch.Response.class, modelClass).getType(),
+            protobufCall);
+      }
+      return new ProtobufWatch<>(codec, response.body(), modelClass, protobufCall);
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+
+  protected ProtobufWatch(
+      ProtobufCodec codec, ResponseBody response, Class<T> modelClass, Call call) {
+    this.codec = codec;
+    this.response = response;
+    this.modelClass = modelClass;
+    this.call = call;
+  }
+
+  @Override
+  public Watch.Response<T> next() {
+    try {
+      BufferedSource source = response.source();
+      // each frame is prefixed w/ its length as a 4-byte big-endian integer
+      long length = source.readInt() & 0xffffffffL;
+      WatchEvent event = WatchEvent.parseFrom(source.readByteArray(length));
+      Unknown envelope = codec.parseEnvelope(event.getObject().getRaw().newInput());
+      if ("v1".equals(envelope.getTypeMeta().getApiVersion())
+          && "Status".equals(envelope.getTypeMeta().getKind())) {
+        V1Status status = codec.decode(envelope, V1Status.class);
+        return new Watch.Response<T>(event.getType(), status);
+      }
+      return new Watch.Response<T>(event.getType(), codec.decode(envelope, modelClass));
+    } catch (IOException e) {
+      throw new RuntimeException("IO Exception during next method.", e);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return !response.source().exhausted();
+    } catch (IOException e) {
+      throw new RuntimeException("IO Exception during hasNext method.", e);
+    }
+  }
+
+  @Override
+  public Iterator<Watch.Response<T>> iterator() {
+    return this;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.call.cancel();
+    this.response.close();
+  }
+}
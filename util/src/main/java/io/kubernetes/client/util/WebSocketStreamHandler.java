@@ -18,29 +18,43 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import okhttp3.WebSocket;
-import okio.ByteString;
+import okio.Buffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * WebSocketStreamHandler understands the Kubernetes streaming protocol and separates a single
  * WebSockets stream into a number of different streams using that protocol.
+ *
+ * <p>The bytes received on each stream are buffered in a bounded ring buffer until they're read
+ * from its input stream, and the web socket is held back while the buffer is full. Writing to an
+ * output stream blocks while the web socket's send queue is full.
  */
 public class WebSocketStreamHandler implements WebSockets.SocketListener, Closeable {
   private static final Logger log = LoggerFactory.getLogger(WebSocketStreamHandler.class);
 
-  private final Map<Integer, PipedInputStream> input = new HashMap<>();
-  private final Map<Integer, PipedOutputStream> pipedOutput = new HashMap<>();
+  /** The default size of the buffer of each input stream. */
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  // OkHTTP3 Web Sockets limits buffer size to 16MiB, so cap messages at 15MiB
+  private static final int MAX_QUEUE_SIZE = 16 * 1024 * 1024;
+  private static final int MAX_MESSAGE_SIZE = 15 * 1024 * 1024;
+  // writes wait for the queue to drain down to this, so that the next message always fits in it,
+  // as OkHTTP3 closes the web socket when it doesn't.
+  private static final int MAX_QUEUED_BYTES = MAX_QUEUE_SIZE - MAX_MESSAGE_SIZE - 1;
+
+  private final int bufferSize;
+  private final Map<Integer, ByteRingBuffer> input = new HashMap<>();
   private final Map<Integer, OutputStream> output = new HashMap<>();
   private WebSocket socket;
   private Throwable error;
+  // serializes the writes to the output streams, which wait for room in the queue.
+  private final Object sendLock = new Object();
 
   @SuppressWarnings("unused")
   private String protocol;
@@ -53,6 +67,22 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
     CLOSED
   }
 
+  public WebSocketStreamHandler() {
+    this(DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Instantiates a new handler.
+   *
+   * @param bufferSize the size of the buffer of each input stream, in bytes
+   */
+  public WebSocketStreamHandler(int bufferSize) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive");
+    }
+    this.bufferSize = bufferSize;
+  }
+
   public synchronized void waitForInitialized() throws InterruptedException {
     if (state != State.UNINITIALIZED) {
       return;
@@ -91,9 +121,7 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
 
   protected void handleMessage(int stream, InputStream inStream) throws IOException {
     try {
-      OutputStream out = getSocketInputOutputStream(stream);
-      Streams.copy(inStream, out);
-      out.flush();
+      getBuffer(stream).writeFrom(inStream);
     } finally {
       inStream.close();
     }
@@ -117,19 +145,10 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
         socket.close(1000, "Triggered client-side terminate");
         log.debug("Successfully closed socket.");
       }
-      // Close all output streams.  Caller of getInputStream(int) is responsible
-      // for closing returned input streams
-      for (PipedOutputStream out : pipedOutput.values()) {
-        try {
-          out.flush();
-        } catch (IOException ex) {
-          log.error("Error on flush", ex);
-        }
-        try {
-          out.close();
-        } catch (IOException ex) {
-          log.error("Error on close", ex);
-        }
+      // Close the writing end of all input streams.  Caller of getInputStream(int) is
+      // responsible for closing returned input streams
+      for (ByteRingBuffer buffer : input.values()) {
+        buffer.closeWrite();
       }
       for (OutputStream out : output.values()) {
         try {
@@ -157,19 +176,7 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
   public synchronized InputStream getInputStream(int stream) {
     if (state == State.CLOSED) throw new IllegalStateException();
 
-    if (!input.containsKey(stream)) {
-      try {
-        PipedInputStream pipeIn = new PipedInputStream();
-        PipedOutputStream pipeOut = new PipedOutputStream(pipeIn);
-        pipedOutput.put(stream, pipeOut);
-        input.put(stream, pipeIn);
-      } catch (IOException ex) {
-        // This is _very_ unlikely, as it requires the above constructor to fail.
-        // don't force callers to catch, but still throw
-        throw new IllegalStateException(ex);
-      }
-    }
-    return input.get(stream);
+    return getBuffer(stream).getInputStream();
   }
 
   /**
@@ -186,26 +193,33 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
   }
 
   /**
-   * Get the pipe to write data to a specific InputStream. This is called when new data is read from
-   * the web socket, to send the data on to the right stream.
+   * Returns the number of bytes queued to be sent on the web socket, see {@link
+   * WebSocket#queueSize()}.
+   *
+   * @return the queued bytes, 0 if the web socket isn't open yet
+   */
+  protected long queueSize() {
+    WebSocket socket = this.socket;
+    return socket != null ? socket.queueSize() : 0;
+  }
+
+  /**
+   * Get the buffer of a specific InputStream. This is called when new data is read from the web
+   * socket, to send the data on to the right stream.
    *
    * @param stream The stream to return
-   * @return The specified stream.
+   * @return The specified buffer.
    */
-  private synchronized OutputStream getSocketInputOutputStream(int stream) {
-    if (!pipedOutput.containsKey(stream)) {
-      try {
-        PipedInputStream pipeIn = new PipedInputStream();
-        PipedOutputStream pipeOut = new PipedOutputStream(pipeIn);
-        pipedOutput.put(stream, pipeOut);
-        input.put(stream, pipeIn);
-      } catch (IOException ex) {
-        // This is _very_ unlikely, as it requires the above constructor to fail.
-        // don't force callers to catch, but still throw
-        throw new IllegalStateException(ex);
+  private synchronized ByteRingBuffer getBuffer(int stream) {
+    ByteRingBuffer buffer = input.get(stream);
+    if (buffer == null) {
+      buffer = new ByteRingBuffer(bufferSize);
+      if (state == State.CLOSED) {
+        buffer.closeWrite();
       }
+      input.put(stream, buffer);
     }
-    return pipedOutput.get(stream);
+    return buffer;
   }
 
   private class WebSocketOutputStream extends OutputStream {
@@ -223,11 +237,13 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
       int i = 0;
       while (WebSocketStreamHandler.this.socket.queueSize() > 0) {
         try {
-          Thread.sleep(100);
+          Thread.sleep(10);
         } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
         }
         // Wait a maximum of 10 seconds.
-        if (i++ > 100) {
+        if (i++ > 1000) {
           throw new IOException("Timed out waiting for web-socket to flush.");
         }
       }
@@ -259,18 +275,36 @@ public class WebSocketStreamHandler implements WebSockets.SocketListener, Closea
         }
       }
       int bytesWritten = 0;
-      int remaining = length;
-      while (bytesWritten < length) {
-        // OkHTTP3 Web Sockets limits buffer size to 16MiB, so cap buffer at 15MiB
-        int bufferSize = Math.min(remaining, 15 * 1024 * 1024);
-        byte[] buffer = new byte[bufferSize + 1];
-        buffer[0] = stream;
-        System.arraycopy(b, offset + bytesWritten, buffer, 1, bufferSize);
-        if (!WebSocketStreamHandler.this.socket.send(ByteString.of(buffer))) {
-          throw new IOException("WebSocket has closed.");
+      synchronized (sendLock) {
+        while (bytesWritten < length) {
+          int messageSize = Math.min(length - bytesWritten, MAX_MESSAGE_SIZE);
+          awaitQueueDrained();
+          // the message is copied once into the pooled segments of the buffer, which the snapshot
+          // shares w/ the web socket instead of copying them into another array
+          Buffer message = new Buffer();
+          message.writeByte(stream);
+          message.write(b, offset + bytesWritten, messageSize);
+          if (!WebSocketStreamHandler.this.socket.send(message.snapshot())) {
+            throw new IOException("WebSocket has closed.");
+          }
+          bytesWritten += messageSize;
+        }
+      }
+    }
+
+    // blocks until the queue drains down to MAX_QUEUED_BYTES, OkHTTP3 doesn't notify it so it's
+    // polled.
+    private void awaitQueueDrained() throws IOException {
+      while (WebSocketStreamHandler.this.socket.queueSize() > MAX_QUEUED_BYTES) {
+        if (state == State.CLOSED) {
+          throw new IOException("Socket is closed!");
+        }
+        try {
+          Thread.sleep(1);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException();
         }
-        bytesWritten += bufferSize;
-        remaining -= bytesWritten;
       }
     }
   }
@@ -15,11 +15,11 @@ package io.kubernetes.client.util;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.Pair;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -139,7 +139,8 @@ public class WebSockets {
 
     @Override
     public void onMessage(WebSocket webSocket, ByteString bytes) {
-      listener.bytesMessage(new ByteArrayInputStream(bytes.toByteArray()));
+      // reads the message in place rather than copying it into another array
+      listener.bytesMessage(new ByteBufferInputStream(bytes.asByteBuffer()));
     }
 
     @Override
@@ -158,4 +159,35 @@ public class WebSockets {
       listener.close();
     }
   }
+
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(len, buffer.remaining());
+      buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
 }
@@ -0,0 +1,349 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util.credentials;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.kubernetes.client.openapi.ApiClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Uses the credentials produced by an external program, i.e. a client-go credential plugin, to
+ * configure {@link ApiClient} authentication to the Kubernetes API.
+ *
+ * <p>The credential is cached until its expirationTimestamp, or until the apiserver rejects it if
+ * it doesn't expire, and shared by the clients built from the same plugin configuration. It's
+ * refreshed in the background once most of its lifetime has passed, and the token is re-obtained
+ * and the request retried once when the apiserver responds 401 Unauthorized. The client
+ * certificates are only configured when the client is built. After the plugin fails, it isn't run
+ * again before an exponentially increasing backoff passes, so that failing requests don't fork it
+ * one after another.
+ *
+ * @see <a
+ *     href="https://kubernetes.io/docs/reference/access-authn-authz/authentication/#client-go-credential-plugins">
+ *     Authenticating » client-go credential plugins</a>
+ */
+public class ExecCredentialAuthentication implements Authentication, Interceptor {
+  private static final Logger log = LoggerFactory.getLogger(ExecCredentialAuthentication.class);
+
+  private static final List<String> SUPPORTED_API_VERSIONS =
+      Arrays.asList(
+          "client.authentication.k8s.io/v1beta1", "client.authentication.k8s.io/v1alpha1");
+
+  // the fraction of the lifetime of a credential after which it's refreshed in the background.
+  private static final double REFRESH_AT_LIFETIME_FRACTION = 0.8;
+
+  // the backoff before running the plugin again after it failed, doubled per consecutive failure.
+  private static final Duration INITIAL_FAILURE_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration MAX_FAILURE_BACKOFF = Duration.ofMinutes(1);
+
+  private static final ConcurrentMap<List<Object>, ExecCredentialAuthentication> shared =
+      new ConcurrentHashMap<>();
+
+  private static final ExecutorService refresher =
+      Executors.newSingleThreadExecutor(
+          r -> {
+            Thread thread = new Thread(r, "exec-credential-refresher");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final String apiVersion;
+  private final List<String> command;
+  private final Map<String, String> env;
+
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+  private volatile Credential credential;
+  // the time before which the plugin isn't run again after failing, null after a success.
+  private volatile Instant retryAt;
+  // guarded by this.
+  private Duration failureBackoff;
+
+  /**
+   * Returns the authentication shared by the clients running the same plugin.
+   *
+   * @param apiVersion the apiVersion of the ExecCredential
+   * @param command the command running the plugin and its arguments
+   * @param env the environment variables added for the plugin
+   * @return the authentication
+   */
+  public static ExecCredentialAuthentication shared(
+      String apiVersion, List<String> command, Map<String, String> env) {
+    return shared.computeIfAbsent(
+        Arrays.asList(apiVersion, command, env),
+        k -> new ExecCredentialAuthentication(apiVersion, command, env));
+  }
+
+  public ExecCredentialAuthentication(
+      String apiVersion, List<String> command, Map<String, String> env) {
+    if (!SUPPORTED_API_VERSIONS.contains(apiVersion)) {
+      throw new IllegalArgumentException("Unrecognized user.exec.apiVersion: " + apiVersion);
+    }
+    this.apiVersion = apiVersion;
+    this.command = Collections.unmodifiableList(new ArrayList<>(command));
+    this.env = Collections.unmodifiableMap(new LinkedHashMap<>(env));
+  }
+
+  /**
+   * Returns the token produced by the plugin, running it if the cached one expired.
+   *
+   * @return the token, or null if the plugin failed or produced no token
+   */
+  public String getToken() {
+    Credential current = current();
+    return current != null ? current.token : null;
+  }
+
+  @Override
+  public void provide(ApiClient client) {
+    Credential current = current();
+    if (current != null && current.clientCertificateData != null && current.clientKeyData != null) {
+      new ClientCertificateAuthentication(current.clientCertificateData, current.clientKeyData)
+          .provide(client);
+    }
+    OkHttpClient withInterceptor = client.getHttpClient().newBuilder().addInterceptor(this).build();
+    client.setHttpClient(withInterceptor);
+  }
+
+  @Override
+  public Response intercept(Interceptor.Chain chain) throws IOException {
+    Request request = chain.request();
+    String token = getToken();
+    Response response = chain.proceed(withToken(request, token));
+    if (response.code() != 401 || token == null) {
+      return response;
+    }
+    // the token might have been revoked before its expiry, re-obtains it and retries once.
+    invalidate(token);
+    String refreshed = getToken();
+    if (refreshed == null || refreshed.equals(token)) {
+      return response;
+    }
+    log.debug("Retrying the request rejected w/ a stale token from {}", command.get(0));
+    response.close();
+    return chain.proceed(withToken(request, refreshed));
+  }
+
+  private static Request withToken(Request request, String token) {
+    if (token == null) {
+      return request;
+    }
+    return request.newBuilder().header("Authorization", "Bearer " + token).build();
+  }
+
+  private Credential current() {
+    Credential current = credential;
+    Instant now = Instant.now();
+    if (current == null || current.isExpired(now)) {
+      if (isBackingOff(now)) {
+        return null;
+      }
+      synchronized (this) {
+        current = credential;
+        if ((current == null || current.isExpired(now)) && !isBackingOff(now)) {
+          current = execWithBackoff();
+          credential = current;
+        } else if (current != null && current.isExpired(now)) {
+          current = null;
+        }
+      }
+    } else if (current.shouldRefresh(now)
+        && !isBackingOff(now)
+        && refreshing.compareAndSet(false, true)) {
+      refresher.execute(
+          () -> {
+            try {
+              Credential refreshed;
+              synchronized (this) {
+                refreshed = execWithBackoff();
+              }
+              if (refreshed != null) {
+                credential = refreshed;
+              }
+            } finally {
+              refreshing.set(false);
+            }
+          });
+    }
+    return current;
+  }
+
+  private boolean isBackingOff(Instant now) {
+    Instant retryAt = this.retryAt;
+    return retryAt != null && now.isBefore(retryAt);
+  }
+
+  // runs the plugin, backing off if it fails. must be called while synchronized on this.
+  private Credential execWithBackoff() {
+    Credential obtained = exec();
+    if (obtained != null) {
+      failureBackoff = null;
+      retryAt = null;
+    } else {
+      failureBackoff =
+          failureBackoff == null
+              ? INITIAL_FAILURE_BACKOFF
+              : min(failureBackoff.multipliedBy(2), MAX_FAILURE_BACKOFF);
+      retryAt = Instant.now().plus(failureBackoff);
+      log.warn("Not running {} again for {}", command.get(0), failureBackoff);
+    }
+    return obtained;
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  private synchronized void invalidate(String staleToken) {
+    Credential current = credential;
+    if (current != null && Objects.equals(current.token, staleToken)) {
+      credential = null;
+    }
+  }
+
+  private Credential exec() {
+    JsonElement root = runExec();
+    if (root == null) {
+      return null;
+    }
+    if (!"ExecCredential".equals(root.getAsJsonObject().get("kind").getAsString())) {
+      log.error("Unrecognized kind in response");
+      return null;
+    }
+    if (!apiVersion.equals(root.getAsJsonObject().get("apiVersion").getAsString())) {
+      log.error("Mismatched apiVersion in response");
+      return null;
+    }
+    JsonObject status = root.getAsJsonObject().get("status").getAsJsonObject();
+    String token = getString(status, "token");
+    String clientCertificateData = getString(status, "clientCertificateData");
+    String clientKeyData = getString(status, "clientKeyData");
+    if (token == null && (clientCertificateData == null || clientKeyData == null)) {
+      log.warn("No credential produced by {}", command.get(0));
+      return null;
+    }
+    Instant expiration = null;
+    String expirationTimestamp = getString(status, "expirationTimestamp");
+    if (expirationTimestamp != null) {
+      try {
+        expiration = OffsetDateTime.parse(expirationTimestamp).toInstant();
+      } catch (DateTimeParseException e) {
+        log.warn("Invalid expirationTimestamp {} produced by {}", expirationTimestamp, command);
+      }
+    }
+    log.debug("Obtained a credential from {} expiring at {}", command.get(0), expiration);
+    return new Credential(
+        token,
+        clientCertificateData != null
+            ? clientCertificateData.getBytes(StandardCharsets.UTF_8)
+            : null,
+        clientKeyData != null ? clientKeyData.getBytes(StandardCharsets.UTF_8) : null,
+        Instant.now(),
+        expiration);
+  }
+
+  private JsonElement runExec() {
+    ProcessBuilder pb = new ProcessBuilder(command);
+    pb.environment().putAll(env);
+    pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+    try {
+      Process proc = pb.start();
+      JsonElement root;
+      try (InputStream is = proc.getInputStream();
+          Reader r = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+        root = JsonParser.parseReader(r);
+      } catch (JsonParseException x) {
+        log.error("Failed to parse output of " + command.get(0), x);
+        return null;
+      }
+      int r = proc.waitFor();
+      if (r != 0) {
+        log.error("{} failed with exit code {}", command.get(0), r);
+        return null;
+      }
+      return root;
+    } catch (IOException | InterruptedException x) {
+      log.error("Failed to run " + command.get(0), x);
+      return null;
+    }
+  }
+
+  private static String getString(JsonObject object, String name) {
+    JsonElement element = object.get(name);
+    return element != null && !element.isJsonNull() ? element.getAsString() : null;
+  }
+
+  private static class Credential {
+    private final String token;
+    private final byte[] clientCertificateData;
+    private final byte[] clientKeyData;
+    // null if the credential doesn't expire
+    private final Instant expiration;
+    private final Instant refreshAt;
+
+    private Credential(
+        String token,
+        byte[] clientCertificateData,
+        byte[] clientKeyData,
+        Instant obtainedAt,
+        Instant expiration) {
+      this.token = token;
+      this.clientCertificateData = clientCertificateData;
+      this.clientKeyData = clientKeyData;
+      this.expiration = expiration;
+      if (expiration != null) {
+        long lifetimeMillis = Math.max(0, Duration.between(obtainedAt, expiration).toMillis());
+        this.refreshAt =
+            obtainedAt.plusMillis((long) (lifetimeMillis * REFRESH_AT_LIFETIME_FRACTION));
+      } else {
+        this.refreshAt = null;
+      }
+    }
+
+    private boolean isExpired(Instant now) {
+      return expiration != null && !now.isBefore(expiration);
+    }
+
+    private boolean shouldRefresh(Instant now) {
+      return refreshAt != null && !now.isBefore(refreshAt);
+    }
+  }
+}
@@ -24,7 +24,9 @@ import java.io.IOException;
  * <ul>
  *   <li>{@link ClientCertificateAuthentication} (using client certificate files or data)
  *   <li>{@link UsernamePasswordAuthentication}
- *   <li>{@link AccessTokenAuthentication}
+ *   <li>{@link AccessTokenAuthentication}, and {@link ExecCredentialAuthentication} if the token is
+ *       produced by an external program, falling back to the static token while the program
+ *       produces none
  * </ul>
  */
 public class KubeconfigAuthentication implements Authentication {
@@ -32,6 +34,7 @@ public class KubeconfigAuthentication implements Authentication {
   private final String username;
   private final String password;
   private final String token;
+  private final ExecCredentialAuthentication execCredentialAuthentication;
   private final byte[] clientCert;
   private final byte[] clientKey;
 
@@ -43,7 +46,11 @@ public class KubeconfigAuthentication implements Authentication {
         config.getDataOrFileRelative(config.getClientKeyData(), config.getClientKeyFile());
     this.username = config.getUsername();
     this.password = config.getPassword();
-    this.token = config.getAccessToken();
+    this.execCredentialAuthentication = config.getExecCredentialAuthentication();
+    this.token =
+        execCredentialAuthentication == null
+            ? config.getAccessToken()
+            : config.getStaticAccessToken();
   }
 
   @Override
@@ -59,5 +66,10 @@ public class KubeconfigAuthentication implements Authentication {
     if (token != null) {
       new AccessTokenAuthentication(token).provide(client);
     }
+
+    if (execCredentialAuthentication != null) {
+      // the token of the plugin, if any, replaces the static one per request
+      execCredentialAuthentication.provide(client);
+    }
   }
 }
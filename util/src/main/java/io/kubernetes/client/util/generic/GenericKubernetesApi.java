@@ -12,10 +12,11 @@ limitations under the License.
 */
 package io.kubernetes.client.util.generic;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.common.KubernetesType;
@@ -36,9 +37,16 @@ import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import okhttp3.Call;
 import okhttp3.HttpUrl;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
 
 /**
  * The Generic kubernetes api provides a unified client interface for not only the non-core-group
@@ -63,6 +71,8 @@ import okhttp3.HttpUrl;
 public class GenericKubernetesApi<
     ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> {
 
+  private static final long STATUS_PEEK_BYTES = 4096;
+
   // TODO(yue9944882): supports status operations..
   // TODO(yue9944882): supports generic sub-resource operations..
   // TODO(yue9944882): supports delete-collections..
@@ -663,6 +673,7 @@ public class GenericKubernetesApi<
             null);
 
     call = tweakCallForCoreV1Group(call);
+    call = tweakCallForAllowWatchBookmarks(call, listOptions);
     return Watch.createWatch(
         customObjectsApi.getApiClient(),
         call,
@@ -699,36 +710,28 @@ public class GenericKubernetesApi<
             null);
 
     call = tweakCallForCoreV1Group(call);
+    call = tweakCallForAllowWatchBookmarks(call, listOptions);
     return Watch.createWatch(
         customObjectsApi.getApiClient(),
         call,
         TypeToken.getParameterized(Watch.Response.class, apiTypeClass).getType());
   }
 
-  private static <DataType extends KubernetesType>
-      KubernetesApiResponse<DataType> getKubernetesApiResponse(
-          Class<DataType> dataClass, JsonElement element, Gson gson) {
-    return getKubernetesApiResponse(dataClass, element, gson, 200);
-  }
-
-  private static <DataType extends KubernetesType>
-      KubernetesApiResponse<DataType> getKubernetesApiResponse(
-          Class<DataType> dataClass, JsonElement element, Gson gson, int httpStatusCode) {
-    JsonElement kindElement = element.getAsJsonObject().get("kind");
-    boolean isStatus = kindElement != null && "Status".equals(kindElement.getAsString());
-    if (isStatus) {
-      return new KubernetesApiResponse<>(gson.fromJson(element, V1Status.class), httpStatusCode);
-    }
-    return new KubernetesApiResponse<>(gson.fromJson(element, dataClass));
-  }
-
   private <DataType extends KubernetesType> KubernetesApiResponse<DataType> executeCall(
       ApiClient apiClient, Class<DataType> dataClass, CallBuilder callBuilder) {
     try {
       Call call = callBuilder.build();
       call = tweakCallForCoreV1Group(call);
-      JsonElement element = apiClient.<JsonElement>execute(call, JsonElement.class).getData();
-      return getKubernetesApiResponse(dataClass, element, apiClient.getJSON().getGson());
+      Response response = call.execute();
+      // decoding the body in one pass straight into either the status or the data class
+      if (response.isSuccessful() && isStatusResponse(response)) {
+        V1Status status = apiClient.handleResponse(response, V1Status.class);
+        return new KubernetesApiResponse<>(status, response.code());
+      }
+      DataType data = apiClient.handleResponse(response, dataClass);
+      return new KubernetesApiResponse<>(data);
+    } catch (IOException e) {
+      throw new IllegalStateException(e); // make this a checked exception?
     } catch (ApiException e) {
       if (e.getCause() instanceof IOException) {
         throw new IllegalStateException(e.getCause()); // make this a checked exception?
@@ -749,6 +752,39 @@ public class GenericKubernetesApi<
     }
   }
 
+  /**
+   * Peeks the leading bytes of the response body, w/o consuming them, for a top-level "kind" field
+   * of value "Status". A status is small, so a body whose kind doesn't show up within the peeked
+   * bytes is never a status. This avoids decoding e.g. large lists into a JSON tree just to find
+   * out their kind.
+   */
+  private static boolean isStatusResponse(Response response) throws IOException {
+    ResponseBody body = response.body();
+    if (body == null) {
+      return false;
+    }
+    BufferedSource source = body.source();
+    source.request(STATUS_PEEK_BYTES);
+    Buffer prefix = source.buffer().clone();
+    try (JsonReader reader =
+        new JsonReader(new InputStreamReader(prefix.inputStream(), StandardCharsets.UTF_8))) {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        return false;
+      }
+      reader.beginObject();
+      while (reader.hasNext()) {
+        if ("kind".equals(reader.nextName())) {
+          return reader.peek() == JsonToken.STRING && "Status".equals(reader.nextString());
+        }
+        reader.skipValue();
+      }
+      return false;
+    } catch (EOFException | MalformedJsonException e) {
+      // the peeked bytes end in the middle of the object
+      return false;
+    }
+  }
+
   // CallBuilder builds a call and throws ApiException otherwise.
   private interface CallBuilder {
     /**
@@ -771,4 +807,21 @@ public class GenericKubernetesApi<
         .getHttpClient()
         .newCall(call.request().newBuilder().url(tweakedUrl).build());
   }
+
+  // the custom objects api doesn't take the allowWatchBookmarks parameter, appending it to the url.
+  private Call tweakCallForAllowWatchBookmarks(Call call, ListOptions listOptions) {
+    if (listOptions.getAllowWatchBookmarks() == null) {
+      return call;
+    }
+    HttpUrl url = call.request().url();
+    HttpUrl tweakedUrl =
+        url.newBuilder()
+            .addQueryParameter(
+                "allowWatchBookmarks", String.valueOf(listOptions.getAllowWatchBookmarks()))
+            .build();
+    return this.customObjectsApi
+        .getApiClient()
+        .getHttpClient()
+        .newCall(call.request().newBuilder().url(tweakedUrl).build());
+  }
 }
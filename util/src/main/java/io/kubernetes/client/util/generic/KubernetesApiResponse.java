@@ -60,7 +60,7 @@ public class KubernetesApiResponse<DataType extends KubernetesType> {
   public KubernetesApiResponse<DataType> throwsApiException() throws ApiException {
     return onFailure(
         errorStatus -> {
-          throw new ApiException(errorStatus.toString());
+          throw new ApiException(httpStatusCode, errorStatus.toString());
         });
   }
 
@@ -33,6 +33,9 @@ public class ListOptions {
   @SerializedName("continue")
   private String _continue;
 
+  @SerializedName("allowWatchBookmarks")
+  private Boolean allowWatchBookmarks;
+
   public String getFieldSelector() {
     return fieldSelector;
   }
@@ -80,4 +83,12 @@ public class ListOptions {
   public void setTimeoutSeconds(Integer timeoutSeconds) {
     this.timeoutSeconds = timeoutSeconds;
   }
+
+  public Boolean getAllowWatchBookmarks() {
+    return allowWatchBookmarks;
+  }
+
+  public void setAllowWatchBookmarks(Boolean allowWatchBookmarks) {
+    this.allowWatchBookmarks = allowWatchBookmarks;
+  }
 }
@@ -12,6 +12,8 @@ limitations under the License.
 */
 package io.kubernetes.client.util.labels;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -74,6 +76,14 @@ public class EqualityMatcher implements LabelMatcher {
     return key;
   }
 
+  @Override
+  public Set<String> getRequiredValues() {
+    if (operator == Operator.NOT_EQUAL) {
+      return null;
+    }
+    return Collections.singleton(value);
+  }
+
   private enum Operator {
     EQUAL(
         "=",
@@ -12,6 +12,8 @@ limitations under the License.
 */
 package io.kubernetes.client.util.labels;
 
+import java.util.Set;
+
 /**
  * The interface LabelValueMatcher is a boolean test checking whether a label value meets
  * requirements.
@@ -25,4 +27,14 @@ public interface LabelMatcher {
    * @return the boolean
    */
   boolean test(String s);
+
+  /**
+   * Returns the values one of which the label must be present with for the matcher to match, which
+   * allows looking the matching objects up by their labels, e.g. in an index.
+   *
+   * @return the values, or null if the matcher also matches other values or an absent label
+   */
+  default Set<String> getRequiredValues() {
+    return null;
+  }
 }
@@ -14,6 +14,8 @@ package io.kubernetes.client.util.labels;
 
 import io.kubernetes.client.fluent.Predicate;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -48,6 +50,15 @@ public class LabelSelector implements Predicate<Map<String, String>> {
 
   private LabelMatcher[] labelMatchers;
 
+  /**
+   * Returns the label matchers the selector requires all to match.
+   *
+   * @return the label matchers
+   */
+  public List<LabelMatcher> getMatchers() {
+    return Collections.unmodifiableList(Arrays.asList(labelMatchers));
+  }
+
   @Override
   public Boolean apply(Map<String, String> labels) {
     return Arrays.stream(labelMatchers)
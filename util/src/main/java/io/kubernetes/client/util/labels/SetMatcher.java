@@ -13,6 +13,8 @@ limitations under the License.
 package io.kubernetes.client.util.labels;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -113,6 +115,14 @@ public class SetMatcher implements LabelMatcher {
     return key;
   }
 
+  @Override
+  public Set<String> getRequiredValues() {
+    if (operator != Operator.IN) {
+      return null;
+    }
+    return new HashSet<>(Arrays.asList(values));
+  }
+
   @Override
   public boolean test(String s) {
     return operator.with(values).test(s);
@@ -18,6 +18,8 @@ import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.AnythingPattern;
@@ -29,7 +31,27 @@ import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.exception.CopyNotSupportedException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.ByteString;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -225,4 +247,166 @@ public class CopyTest {
             .withQueryParam("command", equalTo("-c"))
             .withQueryParam("command", equalTo("tar --version")));
   }
+
+  @Test
+  public void testCopyDirectoryRoundTrip() throws Exception {
+    File src = folder.newFolder("src");
+    Random random = new Random(0);
+    for (int i = 0; i < 24; i++) {
+      Path dir = src.toPath().resolve("dir" + (i % 4)).resolve("sub" + (i % 3));
+      Files.createDirectories(dir);
+      byte[] data = new byte[i % 5 == 0 ? 0 : random.nextInt(256 * 1024)];
+      random.nextBytes(data);
+      Files.write(dir.resolve("file" + i + ".bin"), data);
+    }
+    Files.write(src.toPath().resolve("top level's file"), "hello".getBytes(StandardCharsets.UTF_8));
+    Files.createDirectories(src.toPath().resolve("empty"));
+
+    // the fake exec endpoint runs the commands locally, the pod's filesystem being the local one
+    MockWebServer server = new MockWebServer();
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                .withWebSocketUpgrade(
+                    new ExecListener(request.getRequestUrl().queryParameterValues("command")));
+          }
+        });
+    server.start();
+    try {
+      ApiClient execClient =
+          new ClientBuilder()
+              .setBasePath(server.url("/").toString())
+              .setMaxRequestsPerHost(16)
+              .build();
+      Copy copy = new Copy(execClient);
+      copy.setBinaryTransfer(true);
+      copy.setParallelism(4);
+      AtomicLong copiedBytes = new AtomicLong();
+      copy.setProgressListener(
+          (files, bytes, elapsed) -> copiedBytes.accumulateAndGet(bytes, Math::max));
+
+      Path podPath = folder.newFolder("pod").toPath().resolve("data");
+      copy.copyDirectoryToPod(namespace, podName, "container", src.toPath(), podPath);
+      assertEquals(tree(src.toPath()), tree(podPath));
+      assertEquals(
+          tree(src.toPath()).values().stream().mapToLong(String::length).sum() / 2,
+          copiedBytes.get());
+
+      for (boolean binaryTransfer : new boolean[] {true, false}) {
+        File dest = folder.newFolder("dest-" + binaryTransfer);
+        copy.setBinaryTransfer(binaryTransfer);
+        copy.copyDirectoryFromPod(
+            namespace, podName, "container", podPath.toString(), dest.toPath());
+        // the tar entries are named after the source path, w/o the leading slash
+        Path copied = dest.toPath().resolve(podPath.toString().substring(1));
+        assertEquals(tree(src.toPath()), tree(copied));
+      }
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  // maps the relative paths of the files and directories of the tree to their hex contents
+  private static Map<String, String> tree(Path root) throws IOException {
+    assertTrue(Files.isDirectory(root));
+    Map<String, String> tree = new TreeMap<>();
+    try (Stream<Path> walk = Files.walk(root)) {
+      for (Path p : walk.collect(Collectors.toList())) {
+        tree.put(
+            root.relativize(p).toString(),
+            Files.isDirectory(p) ? "" : ByteString.of(Files.readAllBytes(p)).hex());
+      }
+    }
+    return tree;
+  }
+
+  // ExecListener runs a command like the kubelet would in the container, over the v4 streaming
+  // protocol.
+  private static class ExecListener extends WebSocketListener {
+    private final List<String> command;
+    private Process process;
+
+    private ExecListener(List<String> command) {
+      this.command = command;
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket, Response response) {
+      try {
+        process = new ProcessBuilder(command).start();
+      } catch (IOException e) {
+        webSocket.close(1011, e.getMessage());
+        return;
+      }
+      Thread stdout = pump(process.getInputStream(), 1, webSocket);
+      Thread stderr = pump(process.getErrorStream(), 2, webSocket);
+      new Thread(
+              () -> {
+                try {
+                  int exitCode = process.waitFor();
+                  stdout.join();
+                  stderr.join();
+                  String status =
+                      exitCode == 0
+                          ? "{\"status\":\"Success\"}"
+                          : "{\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\","
+                              + "\"details\":{\"causes\":[{\"reason\":\"ExitCode\","
+                              + "\"message\":\""
+                              + exitCode
+                              + "\"}]}}";
+                  send(webSocket, 3, status.getBytes(StandardCharsets.UTF_8), status.length());
+                } catch (InterruptedException e) {
+                  process.destroy();
+                }
+              })
+          .start();
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, ByteString bytes) {
+      if (bytes.getByte(0) != 0) {
+        return;
+      }
+      try {
+        OutputStream stdin = process.getOutputStream();
+        stdin.write(bytes.substring(1).toByteArray());
+        stdin.flush();
+      } catch (IOException e) {
+        // the command has exited w/o reading the whole input
+      }
+    }
+
+    @Override
+    public void onClosing(WebSocket webSocket, int code, String reason) {
+      webSocket.close(code, reason);
+      process.destroy();
+    }
+
+    private static Thread pump(InputStream in, int stream, WebSocket webSocket) {
+      Thread thread =
+          new Thread(
+              () -> {
+                byte[] buffer = new byte[32 * 1024];
+                try {
+                  int n;
+                  while ((n = in.read(buffer)) > 0) {
+                    send(webSocket, stream, buffer, n);
+                  }
+                } catch (IOException e) {
+                  // the process has been destroyed
+                }
+              });
+      thread.start();
+      return thread;
+    }
+
+    private static void send(WebSocket webSocket, int stream, byte[] data, int length) {
+      byte[] message = new byte[length + 1];
+      message[0] = (byte) stream;
+      System.arraycopy(data, 0, message, 1, length);
+      webSocket.send(ByteString.of(message));
+    }
+  }
 }
@@ -14,6 +14,8 @@ package io.kubernetes.client;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import io.kubernetes.client.util.WebSocketStreamHandler;
@@ -21,7 +23,11 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import okhttp3.Request;
 import okhttp3.WebSocket;
 import okio.ByteString;
@@ -122,8 +128,75 @@ public class WebsocketStreamHandlerTest {
     assertArrayEquals(output, mockWebSocket.data);
   }
 
+  @Test
+  public void testHandlerReceivingLargeData() throws Exception {
+    int testStreamId = 1;
+    int messageSize = 16 * 1024;
+    byte[] data = new byte[4 * 1024 * 1024];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) i;
+    }
+
+    // the data is many times the size of the buffer, so the reader and the writer take turns
+    WebSocketStreamHandler handler = new WebSocketStreamHandler(64 * 1024);
+    handler.open(testProtocol, new MockWebSocket());
+    InputStream inputStream = handler.getInputStream(testStreamId);
+
+    CompletableFuture<Void> receiving =
+        CompletableFuture.runAsync(
+            () -> {
+              for (int offset = 0; offset < data.length; offset += messageSize) {
+                byte[] message = new byte[messageSize + 1];
+                message[0] = (byte) testStreamId;
+                System.arraycopy(data, offset, message, 1, messageSize);
+                handler.bytesMessage(new ByteArrayInputStream(message));
+              }
+              handler.close();
+            });
+
+    byte[] received = new byte[data.length + 1];
+    int total = 0;
+    int n;
+    while ((n = inputStream.read(received, total, received.length - total)) > 0) {
+      total += n;
+    }
+    receiving.get(10, TimeUnit.SECONDS);
+
+    assertEquals(data.length, total);
+    assertArrayEquals(data, Arrays.copyOf(received, total));
+  }
+
+  @Test
+  public void testHandlerSendingWaitsForQueueToDrain() throws Exception {
+    WebSocketStreamHandler handler = new WebSocketStreamHandler();
+    MockWebSocket mockWebSocket = new MockWebSocket();
+    handler.open(testProtocol, mockWebSocket);
+    OutputStream outputStream = handler.getOutputStream(0);
+
+    // a 15MiB message wouldn't fit the 16MiB queue of OkHttp
+    mockWebSocket.queueSize = 2 * 1024 * 1024;
+    byte[] bytes = new byte[15 * 1024 * 1024];
+    CompletableFuture<Void> writing =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                outputStream.write(bytes);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+    Thread.sleep(200);
+    assertFalse(writing.isDone());
+    assertNull(mockWebSocket.data);
+
+    mockWebSocket.queueSize = 0;
+    writing.get(10, TimeUnit.SECONDS);
+    assertEquals(bytes.length + 1, mockWebSocket.data.length);
+  }
+
   private static class MockWebSocket implements WebSocket {
-    byte[] data;
+    volatile byte[] data;
+    volatile long queueSize;
     private boolean closed = false;
 
     private byte[] append(byte[] one, byte[] two) {
@@ -160,7 +233,7 @@ public class WebsocketStreamHandlerTest {
 
     @Override
     public long queueSize() {
-      return 0;
+      return queueSize;
     }
 
     @Override
@@ -20,18 +20,38 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.kubernetes.client.openapi.models.V1NodeList;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceAccount;
+import io.kubernetes.client.openapi.models.V1ServiceAccountList;
+import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -103,4 +123,240 @@ public class SharedInformerFactoryTest {
     await().timeout(Duration.ofSeconds(2)).until(podInformer::hasSynced);
     verify(genericKubernetesApi, atLeastOnce()).list(eq("default"), any(ListOptions.class));
   }
+
+  @Test
+  public void testSharedThreadPoolKeepsThreadCountFlat() {
+    int legacyThreadsBefore =
+        countThreads("informer-controller-") + countThreads("controller-reflector-");
+
+    SharedInformerFactory factory = new SharedInformerFactory();
+    factory.setSharedThreadPoolSize(2);
+
+    AtomicInteger podAdds = new AtomicInteger();
+    AtomicInteger podResyncs = new AtomicInteger();
+    SharedIndexInformer<V1Pod> podInformer =
+        factory.sharedIndexInformerFor(
+            new BlockingListerWatcher<>(
+                new V1PodList()
+                    .metadata(new V1ListMeta().resourceVersion("1"))
+                    .addItemsItem(
+                        new V1Pod()
+                            .metadata(
+                                new V1ObjectMeta()
+                                    .namespace("default")
+                                    .name("foo")
+                                    .resourceVersion("1")))),
+            V1Pod.class,
+            1000L);
+    for (int i = 0; i < 3; i++) {
+      podInformer.addEventHandler(
+          new ResourceEventHandler<V1Pod>() {
+            @Override
+            public void onAdd(V1Pod obj) {
+              podAdds.incrementAndGet();
+            }
+
+            @Override
+            public void onUpdate(V1Pod oldObj, V1Pod newObj) {
+              podResyncs.incrementAndGet();
+            }
+
+            @Override
+            public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+          });
+    }
+    registerWithHandlers(
+        factory,
+        V1Service.class,
+        new V1ServiceList().metadata(new V1ListMeta().resourceVersion("1")));
+    registerWithHandlers(
+        factory,
+        V1ConfigMap.class,
+        new V1ConfigMapList().metadata(new V1ListMeta().resourceVersion("1")));
+    registerWithHandlers(
+        factory,
+        V1Secret.class,
+        new V1SecretList().metadata(new V1ListMeta().resourceVersion("1")));
+    registerWithHandlers(
+        factory,
+        V1Namespace.class,
+        new V1NamespaceList().metadata(new V1ListMeta().resourceVersion("1")));
+    registerWithHandlers(
+        factory, V1Node.class, new V1NodeList().metadata(new V1ListMeta().resourceVersion("1")));
+    registerWithHandlers(
+        factory,
+        V1Endpoints.class,
+        new V1EndpointsList().metadata(new V1ListMeta().resourceVersion("1")));
+    registerWithHandlers(
+        factory,
+        V1ServiceAccount.class,
+        new V1ServiceAccountList().metadata(new V1ListMeta().resourceVersion("1")));
+
+    try {
+      factory.startAllRegisteredInformers();
+      await().timeout(Duration.ofSeconds(5)).until(podInformer::hasSynced);
+      await().timeout(Duration.ofSeconds(5)).until(() -> podAdds.get() == 3);
+      // resync is scheduled on the shared scheduler
+      await().timeout(Duration.ofSeconds(5)).until(() -> podResyncs.get() >= 3);
+
+      // 8 informers w/ 3 handlers each used to start 8 * (3 + 3) threads, now there's only the
+      // shared pools of 2 threads each and a watch thread per informer.
+      assertThat(countThreads("informer-scheduler-")).isLessThanOrEqualTo(2);
+      assertThat(countThreads("informer-handler-")).isLessThanOrEqualTo(2);
+      assertThat(countThreads("informer-watch-")).isLessThanOrEqualTo(8);
+      assertThat(countThreads("informer-controller-") + countThreads("controller-reflector-"))
+          .isEqualTo(legacyThreadsBefore);
+    } finally {
+      factory.stopAllRegisteredInformers();
+    }
+  }
+
+  @Test
+  public void testSharedThreadPoolNotBlockedByStuckHandler() {
+    SharedInformerFactory factory = new SharedInformerFactory();
+    factory.setSharedThreadPoolSize(1);
+    factory.setListenerQueueBound(1);
+
+    V1PodList pods = new V1PodList().metadata(new V1ListMeta().resourceVersion("1"));
+    for (int i = 0; i < 5; i++) {
+      pods.addItemsItem(
+          new V1Pod()
+              .metadata(
+                  new V1ObjectMeta().namespace("default").name("foo" + i).resourceVersion("1")));
+    }
+    SharedIndexInformer<V1Pod> podInformer =
+        factory.sharedIndexInformerFor(new BlockingListerWatcher<>(pods), V1Pod.class, 0);
+    CountDownLatch stuck = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger added = new AtomicInteger();
+    podInformer.addEventHandler(
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {
+            added.incrementAndGet();
+            stuck.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+        });
+    SharedIndexInformer<V1ConfigMap> configMapInformer =
+        factory.sharedIndexInformerFor(
+            new BlockingListerWatcher<>(
+                new V1ConfigMapList()
+                    .metadata(new V1ListMeta().resourceVersion("1"))
+                    .addItemsItem(
+                        new V1ConfigMap()
+                            .metadata(
+                                new V1ObjectMeta()
+                                    .namespace("default")
+                                    .name("bar")
+                                    .resourceVersion("1")))),
+            V1ConfigMap.class,
+            0);
+
+    try {
+      factory.startAllRegisteredInformers();
+      await().timeout(Duration.ofSeconds(5)).until(() -> stuck.getCount() == 0);
+      // the pod handler's queue is full while its handler is stuck, holding back the rest of the
+      // pods must neither block the shared scheduler nor the other informers draining on it
+      await().timeout(Duration.ofSeconds(5)).until(configMapInformer::hasSynced);
+      assertThat(podInformer.hasSynced()).isFalse();
+      // no pod is lost once the handler catches up
+      release.countDown();
+      await().timeout(Duration.ofSeconds(5)).until(podInformer::hasSynced);
+      await().timeout(Duration.ofSeconds(5)).until(() -> added.get() == 5);
+      assertThat(podInformer.getIndexer().list()).hasSize(5);
+    } finally {
+      release.countDown();
+      factory.stopAllRegisteredInformers();
+    }
+  }
+
+  private static <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      void registerWithHandlers(
+          SharedInformerFactory factory, Class<ApiType> apiTypeClass, ApiListType list) {
+    SharedIndexInformer<ApiType> informer =
+        factory.sharedIndexInformerFor(
+            new BlockingListerWatcher<ApiType, ApiListType>(list), apiTypeClass, 1000L);
+    for (int i = 0; i < 3; i++) {
+      informer.addEventHandler(
+          new ResourceEventHandler<ApiType>() {
+            @Override
+            public void onAdd(ApiType obj) {}
+
+            @Override
+            public void onUpdate(ApiType oldObj, ApiType newObj) {}
+
+            @Override
+            public void onDelete(ApiType obj, boolean deletedFinalStateUnknown) {}
+          });
+    }
+  }
+
+  private static int countThreads(String namePrefix) {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.isAlive() && thread.getName().startsWith(namePrefix)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** lists the given list and then watches w/o events until closed, like a quiet apiserver. */
+  private static class BlockingListerWatcher<
+          ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+      implements ListerWatcher<ApiType, ApiListType> {
+
+    private final ApiListType list;
+
+    BlockingListerWatcher(ApiListType list) {
+      this.list = list;
+    }
+
+    @Override
+    public ApiListType list(CallGeneratorParams params) {
+      return list;
+    }
+
+    @Override
+    public Watchable<ApiType> watch(CallGeneratorParams params) {
+      CountDownLatch closed = new CountDownLatch(1);
+      return new Watchable<ApiType>() {
+        @Override
+        public boolean hasNext() {
+          try {
+            closed.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return false;
+        }
+
+        @Override
+        public Watch.Response<ApiType> next() {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<Watch.Response<ApiType>> iterator() {
+          return this;
+        }
+
+        @Override
+        public void close() {
+          closed.countDown();
+        }
+      };
+    }
+  }
 }
@@ -20,6 +20,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -200,4 +201,33 @@ public class CacheTest {
     List<V1Pod> clusterNameIndexedPods = podCache.byIndex(clusterIndex, "cluster1");
     assertEquals(1, clusterNameIndexedPods.size());
   }
+
+  @Test
+  public void testIndexKeysDroppedOnceEmpty() {
+    Cache<V1Pod> podCache = new Cache<>();
+    podCache.addIndexFunc(Caches.LABEL_INDEX, Caches::metaLabelIndexFunc);
+
+    V1Pod testPod =
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .namespace("ns")
+                    .name("n")
+                    .labels(Collections.singletonMap("rev", "1")));
+    podCache.add(testPod);
+    assertEquals(Arrays.asList("ns/n"), podCache.indexKeys(Caches.LABEL_INDEX, "rev=1"));
+
+    podCache.update(
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .namespace("ns")
+                    .name("n")
+                    .labels(Collections.singletonMap("rev", "2"))));
+    assertEquals(0, podCache.indexKeys(Caches.LABEL_INDEX, "rev=1").size());
+    assertEquals(Arrays.asList("ns/n"), podCache.indexKeys(Caches.LABEL_INDEX, "rev=2"));
+
+    podCache.delete(testPod);
+    assertEquals(0, podCache.indexKeys(Caches.LABEL_INDEX, "rev=2").size());
+  }
 }
@@ -13,10 +13,20 @@ limitations under the License.
 package io.kubernetes.client.informer.cache;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 
 public class CachesTest {
@@ -37,4 +47,79 @@ public class CachesTest {
     List<String> indices = Caches.metaNamespaceIndexFunc(pod);
     assertEquals(pod.getMetadata().getNamespace(), indices.get(0));
   }
+
+  @Test
+  public void testLabelIndex() {
+    Map<String, String> labels = new HashMap<>();
+    labels.put("app", "foo");
+    labels.put("tier", "backend");
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("test-name").labels(labels));
+    List<String> indices = Caches.metaLabelIndexFunc(pod);
+    Collections.sort(indices);
+    assertEquals(Arrays.asList("app=foo", "tier=backend"), indices);
+    assertEquals(
+        Collections.emptyList(),
+        Caches.metaLabelIndexFunc(new V1Pod().metadata(new V1ObjectMeta().name("test-name"))));
+  }
+
+  @Test
+  public void testOwnerUidIndex() {
+    V1Pod pod =
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .name("test-name")
+                    .addOwnerReferencesItem(new V1OwnerReference().kind("ReplicaSet").uid("uid1")));
+    assertEquals(Arrays.asList("uid1"), Caches.metaOwnerUidIndexFunc(pod));
+  }
+
+  @Test
+  public void testNodeNameIndex() {
+    V1Pod pod =
+        new V1Pod()
+            .metadata(new V1ObjectMeta().name("test-name"))
+            .spec(new V1PodSpec().nodeName("node1"));
+    assertEquals(Arrays.asList("node1"), Caches.podNodeNameIndexFunc(pod));
+    assertEquals(Collections.emptyList(), Caches.podNodeNameIndexFunc(pod.spec(new V1PodSpec())));
+  }
+
+  @Test
+  public void testStripManagedFieldsTransform() {
+    V1Pod pod =
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .name("test-name")
+                    .addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubectl")));
+    assertSame(pod, Caches.stripManagedFieldsTransform(pod));
+    assertNull(pod.getMetadata().getManagedFields());
+    assertSame(pod, Caches.stripManagedFieldsTransform(pod));
+  }
+
+  @Test
+  public void testStripAnnotationsTransforms() {
+    Map<String, String> annotations = new HashMap<>();
+    annotations.put(Caches.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{\"kind\":\"Pod\"}");
+    annotations.put("small", "value");
+    annotations.put("large", "a very long value");
+    V1Pod pod =
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .name("test-name")
+                    .annotations(Collections.unmodifiableMap(annotations)));
+
+    Caches.stripLastAppliedConfigurationTransform(pod);
+    assertEquals(2, pod.getMetadata().getAnnotations().size());
+    assertFalse(
+        pod.getMetadata()
+            .getAnnotations()
+            .containsKey(Caches.LAST_APPLIED_CONFIGURATION_ANNOTATION));
+
+    Caches.<V1Pod>stripLargeAnnotationsTransform(5).apply(pod);
+    assertEquals(Collections.singletonMap("small", "value"), pod.getMetadata().getAnnotations());
+    // w/o annotations
+    Caches.stripLastAppliedConfigurationTransform(pod.metadata(new V1ObjectMeta()));
+    assertNull(pod.getMetadata().getAnnotations());
+  }
 }
@@ -0,0 +1,192 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import static org.junit.Assert.*;
+
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class CoalescingNotificationQueueTest {
+
+  private static V1Pod pod(String name, String resourceVersion) {
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta().namespace("default").name(name).resourceVersion(resourceVersion));
+  }
+
+  @Test
+  public void testCoalescePendingNotificationsOfSameObject() throws InterruptedException {
+    CoalescingNotificationQueue<V1Pod> queue = new CoalescingNotificationQueue<>(10);
+
+    V1Pod foo1 = pod("foo", "1");
+    V1Pod foo2 = pod("foo", "2");
+    V1Pod foo3 = pod("foo", "3");
+    V1Pod bar1 = pod("bar", "1");
+    V1Pod bar2 = pod("bar", "2");
+    V1Pod bar3 = pod("bar", "3");
+
+    queue.put(new ProcessorListener.AddNotification<>(foo1));
+    queue.put(new ProcessorListener.UpdateNotification<>(bar1, bar2));
+    queue.put(new ProcessorListener.UpdateNotification<>(foo1, foo2));
+    queue.put(new ProcessorListener.UpdateNotification<>(bar2, bar3));
+    queue.put(new ProcessorListener.UpdateNotification<>(foo2, foo3));
+    assertEquals(2, queue.size());
+
+    ProcessorListener.Notification<V1Pod> first = queue.take();
+    assertTrue(first instanceof ProcessorListener.AddNotification);
+    assertEquals(foo3, ((ProcessorListener.AddNotification<V1Pod>) first).getNewObj());
+
+    ProcessorListener.Notification<V1Pod> second = queue.take();
+    assertTrue(second instanceof ProcessorListener.UpdateNotification);
+    assertEquals(bar1, ((ProcessorListener.UpdateNotification<V1Pod>) second).getOldObj());
+    assertEquals(bar3, ((ProcessorListener.UpdateNotification<V1Pod>) second).getNewObj());
+
+    assertNull(queue.poll());
+  }
+
+  @Test
+  public void testCoalesceDeletions() throws InterruptedException {
+    CoalescingNotificationQueue<V1Pod> queue = new CoalescingNotificationQueue<>(10);
+
+    V1Pod foo1 = pod("foo", "1");
+    V1Pod foo2 = pod("foo", "2");
+    V1Pod bar1 = pod("bar", "1");
+    V1Pod bar2 = pod("bar", "2");
+
+    // the handler never sees foo, which is deleted before delivery
+    queue.put(new ProcessorListener.AddNotification<>(foo1));
+    queue.put(new ProcessorListener.DeleteNotification<>(foo1));
+    // bar's update is superseded by its deletion
+    queue.put(new ProcessorListener.UpdateNotification<>(bar1, bar2));
+    queue.put(new ProcessorListener.DeleteNotification<>(bar2));
+    // a re-created foo is delivered after its deletion
+    queue.put(new ProcessorListener.DeleteNotification<>(foo1));
+    queue.put(new ProcessorListener.AddNotification<>(foo2));
+    assertEquals(3, queue.size());
+
+    List<ProcessorListener.Notification<V1Pod>> notifications = new ArrayList<>();
+    assertEquals(3, queue.drainTo(notifications));
+
+    assertTrue(notifications.get(0) instanceof ProcessorListener.DeleteNotification);
+    assertEquals(
+        bar2, ((ProcessorListener.DeleteNotification<V1Pod>) notifications.get(0)).getOldObj());
+    assertTrue(notifications.get(1) instanceof ProcessorListener.DeleteNotification);
+    assertEquals(
+        foo1, ((ProcessorListener.DeleteNotification<V1Pod>) notifications.get(1)).getOldObj());
+    assertTrue(notifications.get(2) instanceof ProcessorListener.AddNotification);
+    assertEquals(
+        foo2, ((ProcessorListener.AddNotification<V1Pod>) notifications.get(2)).getNewObj());
+  }
+
+  @Test
+  public void testBoundedQueueBlocksUntilConsumed() throws InterruptedException {
+    CoalescingNotificationQueue<V1Pod> queue = new CoalescingNotificationQueue<>(2);
+
+    assertTrue(queue.offer(new ProcessorListener.AddNotification<>(pod("foo", "1"))));
+    assertTrue(
+        queue.offer(new ProcessorListener.UpdateNotification<>(pod("bar", "1"), pod("bar", "2"))));
+    // coalescing into a full queue doesn't need capacity
+    assertTrue(
+        queue.offer(new ProcessorListener.UpdateNotification<>(pod("foo", "1"), pod("foo", "2"))));
+    assertFalse(queue.offer(new ProcessorListener.AddNotification<>(pod("baz", "1"))));
+    assertEquals(0, queue.remainingCapacity());
+    // notifications of pending objects and deletions are accepted beyond the bound
+    assertTrue(queue.offer(new ProcessorListener.DeleteNotification<>(pod("bar", "2"))));
+    assertTrue(queue.offer(new ProcessorListener.AddNotification<>(pod("bar", "3"))));
+    assertTrue(queue.offer(new ProcessorListener.DeleteNotification<>(pod("qux", "1"))));
+    assertEquals(4, queue.size());
+    assertEquals(0, queue.remainingCapacity());
+
+    CountDownLatch added = new CountDownLatch(1);
+    Thread producer =
+        new Thread(
+            () -> {
+              try {
+                queue.put(new ProcessorListener.AddNotification<>(pod("baz", "1")));
+                added.countDown();
+              } catch (InterruptedException e) {
+              }
+            });
+    producer.setDaemon(true);
+    producer.start();
+
+    assertFalse(added.await(200, TimeUnit.MILLISECONDS));
+    assertTrue(queue.take() instanceof ProcessorListener.AddNotification);
+    // bar's deletion and re-creation are still pending
+    assertTrue(queue.take() instanceof ProcessorListener.DeleteNotification);
+    assertFalse(added.await(200, TimeUnit.MILLISECONDS));
+    assertTrue(queue.take() instanceof ProcessorListener.AddNotification);
+    assertTrue(added.await(5, TimeUnit.SECONDS));
+    assertEquals(2, queue.size());
+  }
+
+  @Test
+  public void testProcessorListenerWithCoalescingQueue() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> received = new ArrayList<>();
+    CountDownLatch done = new CountDownLatch(2);
+
+    ProcessorListener<V1Pod> listener =
+        new ProcessorListener<>(
+            new ResourceEventHandler<V1Pod>() {
+              @Override
+              public void onAdd(V1Pod obj) {
+                if (blocked.getCount() > 0) {
+                  blocked.countDown();
+                  try {
+                    release.await();
+                  } catch (InterruptedException e) {
+                  }
+                }
+                received.add(
+                    obj.getMetadata().getName() + "@" + obj.getMetadata().getResourceVersion());
+                done.countDown();
+              }
+
+              @Override
+              public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+              @Override
+              public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+            },
+            0,
+            new CoalescingNotificationQueue<>(10));
+
+    Thread listenerThread = new Thread(listener::run);
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+
+    listener.add(new ProcessorListener.AddNotification<>(pod("foo", "1")));
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    // the handler is busy, so that the pending notifications of bar are coalesced
+    listener.add(new ProcessorListener.AddNotification<>(pod("bar", "1")));
+    for (int i = 2; i <= 100; i++) {
+      listener.add(
+          new ProcessorListener.UpdateNotification<>(
+              pod("bar", String.valueOf(i - 1)), pod("bar", String.valueOf(i))));
+    }
+    release.countDown();
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals("foo@1", received.get(0));
+    assertEquals("bar@100", received.get(1));
+  }
+}
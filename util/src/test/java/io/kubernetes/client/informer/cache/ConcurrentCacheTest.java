@@ -0,0 +1,174 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.junit.Test;
+
+public class ConcurrentCacheTest {
+
+  @Test
+  public void testCacheStore() {
+    ConcurrentCache<V1Pod> podCache = new ConcurrentCache<>();
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().namespace("ns").name("foo"));
+
+    podCache.add(pod);
+    assertEquals(pod, podCache.getByKey("ns/foo"));
+    assertEquals(pod, podCache.get(pod));
+    assertEquals(Arrays.asList("ns/foo"), podCache.listKeys());
+
+    V1Pod updatedPod =
+        new V1Pod().metadata(new V1ObjectMeta().namespace("ns").name("foo").clusterName("c"));
+    podCache.update(updatedPod);
+    assertEquals(1, podCache.list().size());
+    assertEquals("c", podCache.getByKey("ns/foo").getMetadata().getClusterName());
+    assertEquals(1, podCache.byIndex(Caches.NAMESPACE_INDEX, "ns").size());
+
+    podCache.delete(updatedPod);
+    assertNull(podCache.getByKey("ns/foo"));
+    assertEquals(0, podCache.list().size());
+    assertEquals(0, podCache.byIndex(Caches.NAMESPACE_INDEX, "ns").size());
+    assertEquals(0, podCache.indexKeys(Caches.NAMESPACE_INDEX, "ns").size());
+  }
+
+  @Test
+  public void testCacheReplace() {
+    ConcurrentCache<V1Pod> podCache = new ConcurrentCache<>();
+    podCache.add(new V1Pod().metadata(new V1ObjectMeta().namespace("ns1").name("foo")));
+
+    podCache.replace(
+        Arrays.asList(
+            new V1Pod().metadata(new V1ObjectMeta().namespace("ns2").name("foo")),
+            new V1Pod().metadata(new V1ObjectMeta().namespace("ns2").name("bar"))),
+        "0");
+
+    assertEquals(2, podCache.list().size());
+    assertEquals(0, podCache.byIndex(Caches.NAMESPACE_INDEX, "ns1").size());
+    assertEquals(2, podCache.byIndex(Caches.NAMESPACE_INDEX, "ns2").size());
+    assertEquals(
+        2,
+        podCache
+            .index(
+                Caches.NAMESPACE_INDEX,
+                new V1Pod().metadata(new V1ObjectMeta().namespace("ns2").name("baz")))
+            .size());
+  }
+
+  @Test
+  public void testClusterScopedIndex() {
+    ConcurrentCache<V1Namespace> namespaceCache = new ConcurrentCache<>();
+    namespaceCache.add(new V1Namespace().metadata(new V1ObjectMeta().name("foo")));
+
+    assertEquals(1, namespaceCache.byIndex(Caches.NAMESPACE_INDEX, null).size());
+    assertEquals(Arrays.asList("foo"), namespaceCache.indexKeys(Caches.NAMESPACE_INDEX, null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownIndex() {
+    new ConcurrentCache<V1Pod>().byIndex("unknown", "foo");
+  }
+
+  @Test
+  public void testAddIndexers() {
+    ConcurrentCache<V1Pod> podCache = new ConcurrentCache<>();
+
+    String nodeIndex = "node-index";
+    Map<String, Function<V1Pod, List<String>>> indexers = new HashMap<>();
+    indexers.put(nodeIndex, (V1Pod pod) -> Arrays.asList(pod.getSpec().getNodeName()));
+    podCache.addIndexers(indexers);
+
+    V1Pod testPod =
+        new V1Pod()
+            .metadata(new V1ObjectMeta().namespace("ns").name("n"))
+            .spec(new V1PodSpec().nodeName("node1"));
+    podCache.add(testPod);
+
+    assertEquals(1, podCache.byIndex(Caches.NAMESPACE_INDEX, "ns").size());
+    assertEquals(1, podCache.byIndex(nodeIndex, "node1").size());
+
+    podCache.update(
+        new V1Pod()
+            .metadata(new V1ObjectMeta().namespace("ns").name("n"))
+            .spec(new V1PodSpec().nodeName("node2")));
+    assertEquals(0, podCache.byIndex(nodeIndex, "node1").size());
+    assertEquals(1, podCache.byIndex(nodeIndex, "node2").size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAddIndexersToNonEmptyCache() {
+    ConcurrentCache<V1Pod> podCache = new ConcurrentCache<>();
+    podCache.add(new V1Pod().metadata(new V1ObjectMeta().namespace("ns").name("n")));
+    podCache.addIndexers(new HashMap<>());
+  }
+
+  @Test
+  public void testConcurrentReadsDuringWrites() throws Exception {
+    ConcurrentCache<V1Pod> podCache = new ConcurrentCache<>();
+    List<V1Pod> pods = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      pods.add(new V1Pod().metadata(new V1ObjectMeta().namespace("ns").name("pod-" + i)));
+    }
+    podCache.replace(pods, "0");
+
+    AtomicBoolean stopped = new AtomicBoolean(false);
+    ExecutorService readers = Executors.newFixedThreadPool(4);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      futures.add(
+          readers.submit(
+              () -> {
+                while (!stopped.get()) {
+                  for (V1Pod pod : podCache.byIndex(Caches.NAMESPACE_INDEX, "ns")) {
+                    assertEquals("ns", pod.getMetadata().getNamespace());
+                  }
+                  assertTrue(podCache.list().size() <= 1000);
+                }
+              }));
+    }
+
+    for (int round = 0; round < 20; round++) {
+      for (V1Pod pod : pods) {
+        podCache.delete(pod);
+      }
+      for (V1Pod pod : pods) {
+        podCache.add(pod);
+      }
+    }
+    stopped.set(true);
+    for (Future<?> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    readers.shutdown();
+
+    assertEquals(1000, podCache.list().size());
+    assertEquals(1000, podCache.byIndex(Caches.NAMESPACE_INDEX, "ns").size());
+  }
+}
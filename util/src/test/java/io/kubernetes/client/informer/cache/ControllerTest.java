@@ -14,6 +14,7 @@ package io.kubernetes.client.informer.cache;
 
 import static org.junit.Assert.*;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.EventType;
 import io.kubernetes.client.informer.ListerWatcher;
 import io.kubernetes.client.openapi.models.V1ListMeta;
@@ -22,8 +23,10 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.util.Watch;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.MutablePair;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
@@ -48,7 +51,16 @@ public class ControllerTest {
 
     ListerWatcher<V1Pod, V1PodList> listerWatcher =
         new MockRunOnceListerWatcher<V1Pod, V1PodList>(
-            podList, new Watch.Response<V1Pod>(EventType.MODIFIED.name(), foo3));
+            podList,
+            // a new resource version so that the update isn't squashed into the sync
+            new Watch.Response<V1Pod>(
+                EventType.MODIFIED.name(),
+                new V1Pod()
+                    .metadata(
+                        new V1ObjectMeta()
+                            .name("foo3")
+                            .namespace("default")
+                            .resourceVersion("1"))));
 
     Controller<V1Pod, V1PodList> controller =
         new Controller<>(
@@ -56,7 +68,8 @@ public class ControllerTest {
             deltaFIFO,
             listerWatcher,
             (deltas) -> {
-              receivingDeltasCount.incrementAndGet();
+              // the update can be queued onto the pending sync of foo3 before it's popped
+              receivingDeltasCount.addAndGet(deltas.size());
             });
     Thread controllerThread = new Thread(controller::run);
     controllerThread.setDaemon(true);
@@ -74,4 +87,61 @@ public class ControllerTest {
       controller.stop();
     }
   }
+
+  @Test
+  public void testControllerProcessDeltasInBatches() throws InterruptedException {
+
+    AtomicInteger receivingDeltasCount = new AtomicInteger(0);
+    AtomicInteger receivingBatchCount = new AtomicInteger(0);
+    V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().name("foo1").namespace("default"));
+    V1Pod foo2 = new V1Pod().metadata(new V1ObjectMeta().name("foo2").namespace("default"));
+    V1Pod foo3 = new V1Pod().metadata(new V1ObjectMeta().name("foo3").namespace("default"));
+
+    V1PodList podList =
+        new V1PodList().metadata(new V1ListMeta()).items(Arrays.asList(foo1, foo2, foo3));
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, new Cache());
+
+    ListerWatcher<V1Pod, V1PodList> listerWatcher =
+        new MockRunOnceListerWatcher<V1Pod, V1PodList>(
+            podList,
+            new Watch.Response<V1Pod>(
+                EventType.MODIFIED.name(),
+                new V1Pod()
+                    .metadata(
+                        new V1ObjectMeta()
+                            .name("foo3")
+                            .namespace("default")
+                            .resourceVersion("1"))));
+
+    Controller<V1Pod, V1PodList> controller =
+        new Controller<>(
+            V1Pod.class,
+            deltaFIFO,
+            listerWatcher,
+            (deltas) -> {
+              fail("deltas are expected to be processed in batches");
+            });
+    controller.setBatchProcessFunc(
+        10,
+        (deltasList) -> {
+          receivingBatchCount.incrementAndGet();
+          for (Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>> deltas : deltasList) {
+            receivingDeltasCount.addAndGet(deltas.size());
+          }
+        });
+    Thread controllerThread = new Thread(controller::run);
+    controllerThread.setDaemon(true);
+    controllerThread.start();
+
+    // sleep 1s for processing all the deltas
+    Thread.sleep(1000);
+
+    try {
+      assertEquals(4, receivingDeltasCount.get());
+      // the listed items are popped at once
+      assertTrue(receivingBatchCount.get() <= 2);
+    } finally {
+      controller.stop();
+    }
+  }
 }
@@ -21,7 +21,10 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.junit.Rule;
 import org.junit.Test;
@@ -131,6 +134,95 @@ public class DeltaFIFOTest {
     assertEquals(1, deltas.size());
   }
 
+  @Test
+  public void testDeltaFIFODedupInPlace() {
+    V1Pod foo1 =
+        new V1Pod()
+            .metadata(new V1ObjectMeta().name("foo1").namespace("default").resourceVersion("ver"));
+    V1Pod foo1Updated =
+        new V1Pod()
+            .metadata(new V1ObjectMeta().name("foo1").namespace("default").resourceVersion("ver"));
+    Cache cache = new Cache();
+    cache.add(foo1);
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, cache);
+    String key = Caches.deletionHandlingMetaNamespaceKeyFunc(foo1);
+
+    deltaFIFO.add(foo1);
+    Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>> copiedDeltas =
+        deltaFIFO.getByKey(key);
+    // same resource version, the newest delta is replaced
+    deltaFIFO.update(foo1Updated);
+    Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>> deltas = deltaFIFO.getByKey(key);
+    assertEquals(1, deltas.size());
+    assertEquals(DeltaFIFO.DeltaType.Updated, deltas.peekLast().getLeft());
+    assertSame(foo1Updated, deltas.peekLast().getRight());
+    // copies handed out earlier are left untouched
+    assertEquals(DeltaFIFO.DeltaType.Added, copiedDeltas.peekLast().getLeft());
+    assertSame(foo1, copiedDeltas.peekLast().getRight());
+
+    // a deletion w/ the final state replaces the one w/o it
+    cache.delete(foo1);
+    cache.add(foo1Updated);
+    deltaFIFO.replace(Collections.emptyList(), "0");
+    deltaFIFO.delete(foo1Updated);
+    deltas = deltaFIFO.getByKey(key);
+    assertEquals(2, deltas.size());
+    assertEquals(DeltaFIFO.DeltaType.Deleted, deltas.peekLast().getLeft());
+    assertSame(foo1Updated, deltas.peekLast().getRight());
+  }
+
+  @Test
+  public void testDeltaFIFOPopBatch() throws InterruptedException {
+    V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().name("foo1").namespace("default"));
+    V1Pod foo2 = new V1Pod().metadata(new V1ObjectMeta().name("foo2").namespace("default"));
+    V1Pod foo3 = new V1Pod().metadata(new V1ObjectMeta().name("foo3").namespace("default"));
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, new Cache());
+
+    deltaFIFO.replace(Arrays.asList(foo1, foo2, foo3), "0");
+    assertFalse(deltaFIFO.hasSynced());
+
+    List<Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>>> batch =
+        deltaFIFO.popBatch(2, (deltasList) -> assertEquals(2, deltasList.size()));
+    assertEquals(foo1, batch.get(0).peekFirst().getRight());
+    assertEquals(foo2, batch.get(1).peekFirst().getRight());
+    assertFalse(deltaFIFO.hasSynced());
+
+    batch = deltaFIFO.popBatch(2, (deltasList) -> {});
+    assertEquals(1, batch.size());
+    assertEquals(foo3, batch.get(0).peekFirst().getRight());
+    assertTrue(deltaFIFO.hasSynced());
+  }
+
+  @Test
+  public void testDeltaFIFOPollWithQueuedFunc() {
+    V1Pod foo1 =
+        new V1Pod()
+            .metadata(new V1ObjectMeta().name("foo1").namespace("default").resourceVersion("1"));
+    V1Pod foo1v2 =
+        new V1Pod()
+            .metadata(new V1ObjectMeta().name("foo1").namespace("default").resourceVersion("2"));
+    V1Pod foo2 = new V1Pod().metadata(new V1ObjectMeta().name("foo2").namespace("default"));
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, new Cache());
+    int[] queued = {0};
+    deltaFIFO.setQueuedFunc(() -> queued[0]++);
+
+    assertNull(deltaFIFO.poll((deltas) -> fail("nothing to pop")));
+    assertTrue(deltaFIFO.pollBatch(2, (deltasList) -> fail("nothing to pop")).isEmpty());
+
+    deltaFIFO.add(foo1);
+    deltaFIFO.update(foo1v2);
+    deltaFIFO.add(foo2);
+    assertEquals(3, queued[0]);
+
+    Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>> deltas =
+        deltaFIFO.poll((popped) -> assertEquals(2, popped.size()));
+    assertEquals(foo1, deltas.peekFirst().getRight());
+    List<Deque<MutablePair<DeltaFIFO.DeltaType, KubernetesObject>>> batch =
+        deltaFIFO.pollBatch(2, (deltasList) -> assertEquals(1, deltasList.size()));
+    assertEquals(foo2, batch.get(0).peekFirst().getRight());
+    assertNull(deltaFIFO.poll((popped) -> fail("nothing to pop")));
+  }
+
   @Test
   public void testDeltaFIFOResync() {
     V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().name("foo1").namespace("default"));
@@ -173,4 +265,107 @@ public class DeltaFIFOTest {
           assertEquals(newPod, deltas.getFirst().getRight());
         });
   }
+
+  @Test
+  public void testDeltaFIFOConsecutiveReplacesOmittingQueuedKey() throws InterruptedException {
+    V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo1"));
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, new Cache());
+
+    deltaFIFO.add(foo1);
+    // two relists in a row before foo1 is popped
+    deltaFIFO.replace(Collections.emptyList(), "1");
+    deltaFIFO.replace(Collections.emptyList(), "2");
+
+    deltaFIFO.pop(
+        (deltas) -> {
+          assertEquals(2, deltas.size());
+          assertEquals(DeltaFIFO.DeltaType.Added, deltas.getFirst().getLeft());
+          assertEquals(DeltaFIFO.DeltaType.Deleted, deltas.getLast().getLeft());
+          assertEquals(
+              foo1, ((DeltaFIFO.DeletedFinalStateUnknown) deltas.getLast().getRight()).getObj());
+        });
+  }
+
+  @Test
+  public void testDeltaFIFOPaginatedReplace() throws InterruptedException {
+    V1Pod stalePod = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo0"));
+    V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo1"));
+    V1Pod foo2 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo2"));
+    Cache cache = new Cache();
+    cache.add(stalePod);
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, cache);
+
+    Set<String> listedKeys = new HashSet<>();
+    deltaFIFO.replacePage(Arrays.asList(foo1), listedKeys);
+    // items from a page can be consumed before the list completes
+    deltaFIFO.pop(
+        (deltas) -> {
+          assertEquals(DeltaFIFO.DeltaType.Sync, deltas.getFirst().getLeft());
+          assertEquals(foo1, deltas.getFirst().getRight());
+        });
+    assertFalse(deltaFIFO.hasSynced());
+
+    deltaFIFO.replacePage(Arrays.asList(foo2), listedKeys);
+    deltaFIFO.completeReplace(listedKeys, "0");
+    assertFalse(deltaFIFO.hasSynced());
+
+    deltaFIFO.pop(
+        (deltas) -> {
+          assertEquals(DeltaFIFO.DeltaType.Sync, deltas.getFirst().getLeft());
+          assertEquals(foo2, deltas.getFirst().getRight());
+        });
+    deltaFIFO.pop(
+        (deltas) -> {
+          assertEquals(DeltaFIFO.DeltaType.Deleted, deltas.getFirst().getLeft());
+          assertEquals(
+              stalePod,
+              ((DeltaFIFO.DeletedFinalStateUnknown) deltas.getFirst().getRight()).getObj());
+        });
+    assertTrue(deltaFIFO.hasSynced());
+  }
+
+  @Test
+  public void testDeltaFIFORetriedPaginatedReplace() throws InterruptedException {
+    V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo1"));
+    V1Pod foo2 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo2"));
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, new Cache());
+
+    deltaFIFO.replacePage(Arrays.asList(foo1), new HashSet<>());
+    // the list is retried from its first page while foo1 is still queued
+    Set<String> listedKeys = new HashSet<>();
+    deltaFIFO.replacePage(Arrays.asList(foo1), listedKeys);
+    deltaFIFO.replacePage(Arrays.asList(foo2), listedKeys);
+    deltaFIFO.completeReplace(listedKeys, "0");
+
+    deltaFIFO.pop((deltas) -> assertEquals(foo1, deltas.getFirst().getRight()));
+    assertFalse(deltaFIFO.hasSynced());
+    deltaFIFO.pop((deltas) -> assertEquals(foo2, deltas.getFirst().getRight()));
+    assertTrue(deltaFIFO.hasSynced());
+  }
+
+  @Test
+  public void testDeltaFIFOPaginatedReplaceFallingBackToReplace() throws InterruptedException {
+    V1Pod foo1 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo1"));
+    V1Pod foo2 = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo2"));
+    DeltaFIFO deltaFIFO = new DeltaFIFO(Caches::deletionHandlingMetaNamespaceKeyFunc, new Cache());
+
+    deltaFIFO.replacePage(Arrays.asList(foo1), new HashSet<>());
+    // the continue token expired, foo1 was deleted before the full list
+    deltaFIFO.replace(Arrays.asList(foo2), "0");
+
+    deltaFIFO.pop(
+        (deltas) -> {
+          assertEquals(DeltaFIFO.DeltaType.Sync, deltas.getFirst().getLeft());
+          assertEquals(DeltaFIFO.DeltaType.Deleted, deltas.getLast().getLeft());
+          assertEquals(
+              foo1, ((DeltaFIFO.DeletedFinalStateUnknown) deltas.getLast().getRight()).getObj());
+        });
+    assertFalse(deltaFIFO.hasSynced());
+    deltaFIFO.pop(
+        (deltas) -> {
+          assertEquals(DeltaFIFO.DeltaType.Sync, deltas.getFirst().getLeft());
+          assertEquals(foo2, deltas.getFirst().getRight());
+        });
+    assertTrue(deltaFIFO.hasSynced());
+  }
 }
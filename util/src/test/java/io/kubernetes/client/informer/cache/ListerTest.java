@@ -16,8 +16,15 @@ import static org.junit.Assert.*;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.labels.EqualityMatcher;
+import io.kubernetes.client.util.labels.LabelSelector;
+import io.kubernetes.client.util.labels.SetMatcher;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
@@ -49,4 +56,67 @@ public class ListerTest {
     namespacedPodList = allNamespacedPodLister.namespace("default").list();
     assertEquals(3, namespacedPodList.size());
   }
+
+  @Test
+  public void testListByLabelSelector() {
+    Cache<V1Pod> indexedPodCache = new Cache<>();
+    indexedPodCache.addIndexFunc(Caches.LABEL_INDEX, Caches::metaLabelIndexFunc);
+    Cache<V1Pod> podCache = new Cache<>();
+
+    List<V1Pod> pods =
+        Arrays.asList(
+            pod("default", "foo1", "app", "foo", "tier", "frontend"),
+            pod("default", "foo2", "app", "foo", "tier", "backend"),
+            pod("default", "bar1", "app", "bar", "tier", "backend"),
+            pod("kube-system", "foo3", "app", "foo", "tier", "backend"),
+            pod("default", "baz1"));
+    indexedPodCache.replace(pods, "0");
+    podCache.replace(pods, "0");
+
+    for (Cache<V1Pod> cache : Arrays.asList(indexedPodCache, podCache)) {
+      Lister<V1Pod> lister = new Lister<>(cache);
+      assertEquals(
+          Arrays.asList("foo1", "foo2", "foo3"),
+          names(lister.list(LabelSelector.and(EqualityMatcher.equal("app", "foo")))));
+      assertEquals(
+          Arrays.asList("foo2", "foo3"),
+          names(
+              lister.list(
+                  LabelSelector.and(
+                      EqualityMatcher.equal("app", "foo"),
+                      EqualityMatcher.equal("tier", "backend")))));
+      assertEquals(
+          Arrays.asList("bar1", "foo2"),
+          names(
+              lister
+                  .namespace("default")
+                  .list(
+                      LabelSelector.and(
+                          SetMatcher.in("app", "foo", "bar"),
+                          EqualityMatcher.notEqual("tier", "frontend")))));
+      assertEquals(
+          Arrays.asList("baz1"),
+          names(lister.list(LabelSelector.and(SetMatcher.notExists("app")))));
+      assertEquals(
+          Collections.emptyList(),
+          names(lister.list(LabelSelector.and(EqualityMatcher.equal("app", "qux")))));
+      assertEquals(5, lister.list(LabelSelector.empty()).size());
+    }
+  }
+
+  private static V1Pod pod(String namespace, String name, String... labels) {
+    Map<String, String> labelMap = new HashMap<>();
+    for (int i = 0; i < labels.length; i += 2) {
+      labelMap.put(labels[i], labels[i + 1]);
+    }
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().namespace(namespace).name(name).labels(labelMap));
+  }
+
+  private static List<String> names(List<V1Pod> pods) {
+    return pods.stream()
+        .map(pod -> pod.getMetadata().getName())
+        .sorted()
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,83 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.informer.cache;
+
+import static org.junit.Assert.*;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class ObjectInternerTest {
+
+  private final JSON json = new JSON();
+
+  @Test
+  public void testInternSharesStringsAndMaps() {
+    ObjectInterner interner = new ObjectInterner();
+    V1Pod pod1 = interner.intern(pod("app-7d9c6b8f-1", 1));
+    V1Pod pod2 = interner.intern(pod("app-7d9c6b8f-2", 2));
+    V1Pod decoded = pod("app-7d9c6b8f-1", 1);
+
+    assertEquals(decoded, pod1);
+    assertSame(pod1.getMetadata().getNamespace(), pod2.getMetadata().getNamespace());
+    assertSame(pod1.getMetadata().getLabels(), pod2.getMetadata().getLabels());
+    assertSame(pod1.getMetadata().getAnnotations(), pod2.getMetadata().getAnnotations());
+    assertSame(
+        pod1.getMetadata().getOwnerReferences().get(0).getUid(),
+        pod2.getMetadata().getOwnerReferences().get(0).getUid());
+    assertSame(
+        pod1.getSpec().getContainers().get(0).getImage(),
+        pod2.getSpec().getContainers().get(0).getImage());
+    assertSame(pod1.getSpec().getNodeName(), pod2.getSpec().getNodeName());
+    assertSame(
+        pod1.getStatus().getContainerStatuses().get(0).getImageID(),
+        pod2.getStatus().getContainerStatuses().get(0).getImageID());
+    assertNotSame(pod1.getMetadata().getName(), pod2.getMetadata().getName());
+
+    // interning is idempotent
+    Map<String, String> labels = pod1.getMetadata().getLabels();
+    assertSame(pod1, interner.intern(pod1));
+    assertSame(labels, pod1.getMetadata().getLabels());
+    assertEquals(decoded, pod1);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testInternedMapsImmutable() {
+    ObjectInterner interner = new ObjectInterner();
+    Map<String, String> labels = new HashMap<>();
+    labels.put("app", "foo");
+    interner.internMap(labels, true).put("app", "bar");
+  }
+
+  // a pod of a deployment, as decoded from the apiserver's response.
+  private V1Pod pod(String name, int i) {
+    return json.deserialize(
+        "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\""
+            + name
+            + "\",\"namespace\":\"team-1\",\"uid\":\"00000000-0000-0000-0000-"
+            + String.format("%012d", i)
+            + "\",\"labels\":{\"app.kubernetes.io/name\":\"app\",\"pod-template-hash\":\"7d9c6b8f\"},"
+            + "\"annotations\":{\"prometheus.io/scrape\":\"true\"},"
+            + "\"ownerReferences\":[{\"apiVersion\":\"apps/v1\",\"kind\":\"ReplicaSet\","
+            + "\"name\":\"app-7d9c6b8f\",\"uid\":\"10000000-0000-0000-0000-000000000001\"}]},"
+            + "\"spec\":{\"nodeName\":\"node-1\",\"containers\":[{\"name\":\"app\","
+            + "\"image\":\"registry.example.com/team/app:1.0.0\"}]},"
+            + "\"status\":{\"phase\":\"Running\",\"containerStatuses\":[{\"name\":\"app\","
+            + "\"ready\":true,\"restartCount\":0,\"image\":\"registry.example.com/team/app:1.0.0\","
+            + "\"imageID\":\"docker-pullable://registry.example.com/team/app@sha256:9f86d081\"}]}}",
+        V1Pod.class);
+  }
+}
@@ -12,11 +12,25 @@ limitations under the License.
 */
 package io.kubernetes.client.informer.cache;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.*;
 
+import io.kubernetes.client.informer.BatchResourceEventHandler;
 import io.kubernetes.client.informer.ResourceEventHandler;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
@@ -107,4 +121,190 @@ public class ProcessorListenerTest {
 
     assertEquals(count[0], 2000);
   }
+
+  @Test
+  public void testBatchNotificationsHandling() throws InterruptedException {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("foo").namespace("default"));
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    AtomicInteger addCount = new AtomicInteger();
+
+    ProcessorListener<V1Pod> listener =
+        new ProcessorListener<>(
+            new BatchResourceEventHandler<V1Pod>() {
+              @Override
+              public void onBatch(List<ProcessorListener.Notification<V1Pod>> notifications) {
+                batchSizes.add(notifications.size());
+                BatchResourceEventHandler.super.onBatch(notifications);
+              }
+
+              @Override
+              public void onAdd(V1Pod obj) {
+                assertEquals(pod, obj);
+                addCount.incrementAndGet();
+              }
+
+              @Override
+              public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+              @Override
+              public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+            },
+            0);
+
+    List<ProcessorListener.Notification<V1Pod>> notifications = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      notifications.add(new ProcessorListener.AddNotification<>(pod));
+    }
+    listener.addAll(notifications);
+
+    Thread listenerThread = new Thread(listener);
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+
+    Thread.sleep(1000);
+
+    assertEquals(250, addCount.get());
+    assertEquals(Arrays.asList(100, 100, 50), batchSizes);
+  }
+
+  @Test
+  public void testAddHoldsBackNotificationsWhenQueueFull() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> received = new CopyOnWriteArrayList<>();
+    ResourceEventHandler<V1Pod> handler =
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {
+            blocked.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+            }
+            received.add(obj.getMetadata().getName());
+          }
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {
+            received.add("-" + obj.getMetadata().getName());
+          }
+        };
+    ProcessorListener<V1Pod> listener =
+        new ProcessorListener<>(handler, 0, new CoalescingNotificationQueue<>(1), "stuck-handler");
+    Thread listenerThread = new Thread(listener);
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+
+    listener.add(new ProcessorListener.AddNotification<>(pod("foo")));
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    // the handler is stuck, adding to its full queue must not block the informer
+    listener.add(new ProcessorListener.AddNotification<>(pod("bar")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("baz")));
+    listener.add(new ProcessorListener.DeleteNotification<>(pod("foo")));
+    assertTrue(listener.isHoldingBack());
+    assertEquals(
+        2.0,
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "k8s_java_informer_listener_held_back_notifications_total",
+            new String[] {"listener"},
+            new String[] {"stuck-handler"}),
+        0);
+
+    // the held back notifications are added once the handler makes room
+    assertFalse(listener.addHeldBack());
+    release.countDown();
+    await().atMost(Duration.ofSeconds(5)).until(listener::addHeldBack);
+    assertFalse(listener.isHoldingBack());
+
+    Thread.sleep(500);
+    assertEquals(Arrays.asList("foo", "bar", "baz", "-foo"), received);
+  }
+
+  private static V1Pod pod(String name) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(name).namespace("default"));
+  }
+
+  @Test
+  public void testMetricsOfNamedListener() throws InterruptedException {
+    V1Pod pod = pod("foo");
+    AtomicInteger addCount = new AtomicInteger();
+    ResourceEventHandler<V1Pod> handler =
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {
+            addCount.incrementAndGet();
+          }
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+        };
+    ProcessorListener<V1Pod> named =
+        new ProcessorListener<>(handler, 0, new LinkedBlockingQueue<>(), "pod-handler");
+    ProcessorListener<V1Pod> unnamed = new ProcessorListener<>(handler, 0);
+    assertEquals("pod-handler", named.getName());
+    assertNull(unnamed.getName());
+
+    for (ProcessorListener<V1Pod> listener : Arrays.asList(named, unnamed)) {
+      Thread listenerThread = new Thread(listener);
+      listenerThread.setDaemon(true);
+      listenerThread.start();
+      listener.add(new ProcessorListener.AddNotification<>(pod));
+      listener.add(new ProcessorListener.AddNotification<>(pod));
+    }
+    Thread.sleep(500);
+    assertEquals(4, addCount.get());
+
+    assertEquals(
+        2.0,
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "k8s_java_informer_listener_handler_latency_seconds_count",
+            new String[] {"listener"},
+            new String[] {"pod-handler"}),
+        0);
+  }
+
+  @Test
+  public void testUnnamedListenerRecordsNoMetrics() {
+    ResourceEventHandler<V1Pod> handler =
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {}
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+        };
+    int series = listenerSeries();
+    for (int i = 0; i < 3; i++) {
+      // the listeners aren't started, so that their full queues hold back notifications
+      ProcessorListener<V1Pod> listener =
+          new ProcessorListener<>(handler, 0, new CoalescingNotificationQueue<>(1));
+      listener.add(new ProcessorListener.AddNotification<>(pod("foo")));
+      listener.add(new ProcessorListener.AddNotification<>(pod("bar")));
+      assertTrue(listener.isHoldingBack());
+    }
+    assertEquals(series, listenerSeries());
+  }
+
+  // the number of samples of the listener metrics
+  private static int listenerSeries() {
+    int series = 0;
+    Enumeration<Collector.MetricFamilySamples> families =
+        CollectorRegistry.defaultRegistry.metricFamilySamples();
+    while (families.hasMoreElements()) {
+      Collector.MetricFamilySamples family = families.nextElement();
+      if (family.name.startsWith("k8s_java_informer_listener_")) {
+        series += family.samples.size();
+      }
+    }
+    return series;
+  }
 }
@@ -12,6 +12,9 @@ limitations under the License.
 */
 package io.kubernetes.client.informer.cache;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -22,13 +25,17 @@ import io.kubernetes.client.informer.EventType;
 import io.kubernetes.client.informer.ListerWatcher;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.CallGeneratorParams;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
+import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicReference;
 import org.awaitility.Awaitility;
 import org.hamcrest.core.IsEqual;
@@ -36,6 +43,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -215,4 +223,231 @@ public class ReflectorRunnableTest {
       reflectorRunnable.stop();
     }
   }
+
+  @Test
+  public void testReflectorPaginatedList() throws ApiException {
+    String mockResourceVersion = "1000";
+    V1Pod foo = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("foo"));
+    V1Pod bar = new V1Pod().metadata(new V1ObjectMeta().namespace("default").name("bar"));
+    when(listerWatcher.list(any()))
+        .thenReturn(
+            new V1PodList()
+                .metadata(new V1ListMeta().resourceVersion(mockResourceVersion)._continue("next"))
+                .addItemsItem(foo))
+        .thenReturn(
+            new V1PodList()
+                .metadata(new V1ListMeta().resourceVersion(mockResourceVersion))
+                .addItemsItem(bar));
+    when(listerWatcher.watch(any()))
+        .then(
+            (v) -> {
+              Awaitility.await().forever(); // block forever
+              return null;
+            });
+    ReflectorRunnable<V1Pod, V1PodList> reflectorRunnable =
+        new ReflectorRunnable<V1Pod, V1PodList>(
+            V1Pod.class, listerWatcher, deltaFIFO, (apiType, t) -> {}, 1);
+
+    try {
+      Thread thread = new Thread(reflectorRunnable::run);
+      thread.setDaemon(true);
+      thread.start();
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(1))
+          .pollInterval(Duration.ofMillis(100))
+          .until(() -> mockResourceVersion.equals(reflectorRunnable.getLastSyncResourceVersion()));
+    } finally {
+      reflectorRunnable.stop();
+    }
+    ArgumentCaptor<CallGeneratorParams> paramsCaptor =
+        ArgumentCaptor.forClass(CallGeneratorParams.class);
+    verify(listerWatcher, times(2)).list(paramsCaptor.capture());
+    assertEquals(Integer.valueOf(1), paramsCaptor.getAllValues().get(0).limit);
+    assertNull(paramsCaptor.getAllValues().get(0).continueToken);
+    assertEquals("next", paramsCaptor.getAllValues().get(1).continueToken);
+    verify(deltaFIFO, times(1)).replacePage(eq(Collections.singletonList(foo)), any());
+    verify(deltaFIFO, times(1)).replacePage(eq(Collections.singletonList(bar)), any());
+    verify(deltaFIFO, times(1)).completeReplace(any(), eq(mockResourceVersion));
+    verify(deltaFIFO, never()).replace(any(), any());
+  }
+
+  @Test
+  public void testReflectorPaginatedListFallbackOnExpiredContinue() throws ApiException {
+    String mockResourceVersion = "1000";
+    when(listerWatcher.list(any()))
+        .thenReturn(
+            new V1PodList()
+                .metadata(new V1ListMeta().resourceVersion("999")._continue("expired"))
+                .addItemsItem(new V1Pod().metadata(new V1ObjectMeta().name("foo"))))
+        .thenThrow(new ApiException(HttpURLConnection.HTTP_GONE, "continue token expired"))
+        .thenReturn(
+            new V1PodList().metadata(new V1ListMeta().resourceVersion(mockResourceVersion)));
+    when(listerWatcher.watch(any()))
+        .then(
+            (v) -> {
+              Awaitility.await().forever(); // block forever
+              return null;
+            });
+    ReflectorRunnable<V1Pod, V1PodList> reflectorRunnable =
+        new ReflectorRunnable<V1Pod, V1PodList>(
+            V1Pod.class, listerWatcher, deltaFIFO, (apiType, t) -> {}, 1);
+
+    try {
+      Thread thread = new Thread(reflectorRunnable::run);
+      thread.setDaemon(true);
+      thread.start();
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(1))
+          .pollInterval(Duration.ofMillis(100))
+          .until(() -> mockResourceVersion.equals(reflectorRunnable.getLastSyncResourceVersion()));
+    } finally {
+      reflectorRunnable.stop();
+    }
+    ArgumentCaptor<CallGeneratorParams> paramsCaptor =
+        ArgumentCaptor.forClass(CallGeneratorParams.class);
+    verify(listerWatcher, times(3)).list(paramsCaptor.capture());
+    assertNull(paramsCaptor.getAllValues().get(2).limit);
+    verify(deltaFIFO, times(1)).replace(any(), eq(mockResourceVersion));
+    verify(deltaFIFO, never()).completeReplace(any(), any());
+  }
+
+  @Test
+  public void testReflectorWatchResumesFromBookmark() throws ApiException {
+    when(listerWatcher.list(any()))
+        .thenReturn(new V1PodList().metadata(new V1ListMeta().resourceVersion("1000")));
+    when(listerWatcher.watch(any()))
+        .thenReturn(
+            new MockWatch<V1Pod>(
+                new Watch.Response<V1Pod>(
+                    EventType.BOOKMARK.name(),
+                    new V1Pod().metadata(new V1ObjectMeta().resourceVersion("1010")))))
+        .then(
+            (v) -> {
+              Awaitility.await().forever(); // block forever
+              return null;
+            });
+    ReflectorRunnable<V1Pod, V1PodList> reflectorRunnable =
+        new ReflectorRunnable<V1Pod, V1PodList>(V1Pod.class, listerWatcher, deltaFIFO);
+
+    try {
+      Thread thread = new Thread(reflectorRunnable::run);
+      thread.setDaemon(true);
+      thread.start();
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(1))
+          .pollInterval(Duration.ofMillis(100))
+          .until(() -> reflectorRunnable.getWatchRestartCount() == 1);
+    } finally {
+      reflectorRunnable.stop();
+    }
+    ArgumentCaptor<CallGeneratorParams> paramsCaptor =
+        ArgumentCaptor.forClass(CallGeneratorParams.class);
+    verify(listerWatcher, times(2)).watch(paramsCaptor.capture());
+    assertEquals("1000", paramsCaptor.getAllValues().get(0).resourceVersion);
+    assertEquals(Boolean.TRUE, paramsCaptor.getAllValues().get(0).allowWatchBookmarks);
+    assertEquals("1010", paramsCaptor.getAllValues().get(1).resourceVersion);
+    assertEquals("1010", reflectorRunnable.getLastSyncResourceVersion());
+    assertEquals(0, reflectorRunnable.getRelistCount());
+    verify(listerWatcher, times(1)).list(any());
+    verify(deltaFIFO, never()).add(any());
+  }
+
+  @Test
+  public void testReflectorBacksOffVeryShortWatches() throws ApiException {
+    when(listerWatcher.list(any()))
+        .thenReturn(new V1PodList().metadata(new V1ListMeta().resourceVersion("1000")));
+    // every watch ends right away w/o any event, like behind a proxy closing them immediately
+    when(listerWatcher.watch(any())).then((v) -> new MockWatch<V1Pod>());
+    ReflectorRunnable<V1Pod, V1PodList> reflectorRunnable =
+        new ReflectorRunnable<V1Pod, V1PodList>(V1Pod.class, listerWatcher, deltaFIFO);
+
+    try {
+      Thread thread = new Thread(reflectorRunnable::run);
+      thread.setDaemon(true);
+      thread.start();
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(2))
+          .pollInterval(Duration.ofMillis(100))
+          .until(() -> reflectorRunnable.getWatchRestartCount() == 1);
+      // the next restart is backed off for 2s
+      Awaitility.await()
+          .pollDelay(Duration.ofMillis(1500))
+          .atMost(Duration.ofSeconds(2))
+          .until(() -> reflectorRunnable.getWatchRestartCount() == 1);
+    } finally {
+      reflectorRunnable.stop();
+    }
+    verify(listerWatcher, times(2)).watch(any());
+    assertEquals(0, reflectorRunnable.getRelistCount());
+  }
+
+  @Test
+  public void testReflectorWatchRestartsOnTransientError() throws ApiException {
+    when(listerWatcher.list(any()))
+        .thenReturn(new V1PodList().metadata(new V1ListMeta().resourceVersion("1000")));
+    when(listerWatcher.watch(any()))
+        .thenThrow(
+            new RuntimeException("IO Exception during hasNext method.", new IOException("eof")))
+        .then(
+            (v) -> {
+              Awaitility.await().forever().until(() -> false); // block forever
+              return null;
+            });
+    AtomicReference<Throwable> actualException = new AtomicReference<>();
+    ReflectorRunnable<V1Pod, V1PodList> reflectorRunnable =
+        new ReflectorRunnable<V1Pod, V1PodList>(
+            V1Pod.class, listerWatcher, deltaFIFO, (apiType, t) -> actualException.set(t));
+
+    try {
+      Thread thread = new Thread(reflectorRunnable::run);
+      thread.setDaemon(true);
+      thread.start();
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(3))
+          .pollInterval(Duration.ofMillis(100))
+          .until(() -> reflectorRunnable.getWatchRestartCount() == 1);
+      ArgumentCaptor<CallGeneratorParams> paramsCaptor =
+          ArgumentCaptor.forClass(CallGeneratorParams.class);
+      verify(listerWatcher, times(2)).watch(paramsCaptor.capture());
+      assertEquals("1000", paramsCaptor.getAllValues().get(1).resourceVersion);
+      verify(listerWatcher, times(1)).list(any());
+      assertEquals(0, reflectorRunnable.getRelistCount());
+      assertNull(actualException.get());
+    } finally {
+      reflectorRunnable.stop();
+    }
+  }
+
+  @Test
+  public void testReflectorRelistOnExpiredResourceVersion() throws ApiException {
+    when(listerWatcher.list(any()))
+        .thenReturn(new V1PodList().metadata(new V1ListMeta().resourceVersion("1000")));
+    when(listerWatcher.watch(any()))
+        .thenReturn(
+            new MockWatch<V1Pod>(
+                new Watch.Response<V1Pod>(
+                    EventType.ERROR.name(),
+                    new V1Status().code(HttpURLConnection.HTTP_GONE).message("too old"))));
+    AtomicReference<Throwable> actualException = new AtomicReference<>();
+    ReflectorRunnable<V1Pod, V1PodList> reflectorRunnable =
+        new ReflectorRunnable<V1Pod, V1PodList>(
+            V1Pod.class, listerWatcher, deltaFIFO, (apiType, t) -> actualException.set(t));
+
+    // the expired watch returns for a relist
+    reflectorRunnable.run();
+    assertEquals(0, reflectorRunnable.getRelistCount());
+    // stop before relisting so that the second run returns right after listing
+    reflectorRunnable.stop();
+    reflectorRunnable.run();
+
+    ArgumentCaptor<CallGeneratorParams> paramsCaptor =
+        ArgumentCaptor.forClass(CallGeneratorParams.class);
+    verify(listerWatcher, times(2)).list(paramsCaptor.capture());
+    assertEquals("0", paramsCaptor.getAllValues().get(0).resourceVersion);
+    // the expired resource version isn't listed from
+    assertEquals("", paramsCaptor.getAllValues().get(1).resourceVersion);
+    assertEquals(1, reflectorRunnable.getRelistCount());
+    assertEquals(0, reflectorRunnable.getWatchRestartCount());
+    assertNull(actualException.get());
+  }
 }
@@ -14,6 +14,7 @@ package io.kubernetes.client.informer.impl;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.*;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
@@ -21,11 +22,14 @@ import io.kubernetes.client.informer.EventType;
 import io.kubernetes.client.informer.ResourceEventHandler;
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.informer.cache.Caches;
+import io.kubernetes.client.informer.cache.MockRunOnceListerWatcher;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
@@ -34,7 +38,12 @@ import io.kubernetes.client.util.CallGeneratorParams;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.Watch;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Before;
 import org.junit.Rule;
@@ -374,4 +383,100 @@ public class DefaultSharedIndexInformerTest {
             .withQueryParam("watch", equalTo("false")));
     factory.stopAllRegisteredInformers();
   }
+
+  @Test
+  public void testTransformBeforeStoringAndDistributing() {
+    V1Pod pod =
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .namespace(namespace)
+                    .name(podName)
+                    .resourceVersion("1")
+                    .putAnnotationsItem(Caches.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}")
+                    .putAnnotationsItem("foo", "bar")
+                    .addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubectl")));
+    V1PodList podList =
+        new V1PodList().metadata(new V1ListMeta().resourceVersion("1")).items(Arrays.asList(pod));
+
+    DefaultSharedIndexInformer<V1Pod, V1PodList> informer =
+        new DefaultSharedIndexInformer<>(
+            V1Pod.class, new MockRunOnceListerWatcher<V1Pod, V1PodList>(podList), 0);
+    informer.setTransform(
+        obj ->
+            Caches.stripLastAppliedConfigurationTransform(Caches.stripManagedFieldsTransform(obj)));
+    List<V1Pod> added = Collections.synchronizedList(new ArrayList<>());
+    informer.addEventHandler(
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {
+            added.add(obj);
+          }
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+        });
+    informer.run();
+    try {
+      await().atMost(Duration.ofSeconds(10)).until(() -> added.size() == 1);
+      V1Pod cached = (V1Pod) informer.getIndexer().getByKey(namespace + "/" + podName);
+      assertNull(cached.getMetadata().getManagedFields());
+      assertEquals(Collections.singletonMap("foo", "bar"), cached.getMetadata().getAnnotations());
+      assertSame(cached, added.get(0));
+    } finally {
+      informer.stop();
+    }
+  }
+
+  @Test
+  public void testBoundedListenerQueueHoldsBackInformer() throws InterruptedException {
+    V1PodList podList = new V1PodList().metadata(new V1ListMeta().resourceVersion("1"));
+    for (int i = 0; i < 5; i++) {
+      podList.addItemsItem(
+          new V1Pod()
+              .metadata(
+                  new V1ObjectMeta().namespace(namespace).name("foo" + i).resourceVersion("1")));
+    }
+    DefaultSharedIndexInformer<V1Pod, V1PodList> informer =
+        new DefaultSharedIndexInformer<>(
+            V1Pod.class, new MockRunOnceListerWatcher<V1Pod, V1PodList>(podList), 0);
+    informer.setListenerQueueBound(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> added = Collections.synchronizedList(new ArrayList<>());
+    informer.addEventHandler(
+        new ResourceEventHandler<V1Pod>() {
+          @Override
+          public void onAdd(V1Pod obj) {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            added.add(obj.getMetadata().getName());
+          }
+
+          @Override
+          public void onUpdate(V1Pod oldObj, V1Pod newObj) {}
+
+          @Override
+          public void onDelete(V1Pod obj, boolean deletedFinalStateUnknown) {}
+        });
+    Thread informerThread = new Thread(informer::run);
+    informerThread.setDaemon(true);
+    informerThread.start();
+    try {
+      // the stuck handler holds back the informer instead of losing notifications
+      Thread.sleep(500);
+      assertFalse(informer.hasSynced());
+      release.countDown();
+      await().atMost(Duration.ofSeconds(10)).until(() -> added.size() == 5);
+      assertEquals(Arrays.asList("foo0", "foo1", "foo2", "foo3", "foo4"), added);
+      assertTrue(informer.hasSynced());
+    } finally {
+      informer.stop();
+    }
+  }
 }
@@ -0,0 +1,102 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+public class ByteRingBufferTest {
+
+  @Test
+  public void testWrapAround() throws Exception {
+    ByteRingBuffer buffer = new ByteRingBuffer(8);
+    InputStream in = buffer.getInputStream();
+
+    buffer.writeFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6}));
+    byte[] read = new byte[4];
+    assertEquals(4, in.read(read));
+    assertArrayEquals(new byte[] {1, 2, 3, 4}, read);
+
+    // wraps around the end of the array
+    buffer.writeFrom(new ByteArrayInputStream(new byte[] {7, 8, 9, 10, 11}));
+    assertEquals(7, in.available());
+    read = new byte[7];
+    assertEquals(7, in.read(read));
+    assertArrayEquals(new byte[] {5, 6, 7, 8, 9, 10, 11}, read);
+    assertEquals(0, in.available());
+  }
+
+  @Test
+  public void testWriterBlocksWhileFull() throws Exception {
+    ByteRingBuffer buffer = new ByteRingBuffer(4);
+    InputStream in = buffer.getInputStream();
+    byte[] data = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+    CompletableFuture<Void> writing =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                buffer.writeFrom(new ByteArrayInputStream(data));
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    try {
+      writing.get(100, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // expected, the buffer is full
+    }
+    assertFalse(writing.isDone());
+
+    byte[] read = new byte[data.length];
+    Streams.readFully(in, read);
+    writing.get(1, TimeUnit.SECONDS);
+    assertArrayEquals(data, read);
+  }
+
+  @Test
+  public void testCloseWrite() throws Exception {
+    ByteRingBuffer buffer = new ByteRingBuffer(4);
+    InputStream in = buffer.getInputStream();
+
+    buffer.writeFrom(new ByteArrayInputStream(new byte[] {1, 2}));
+    buffer.closeWrite();
+    // the buffered bytes are read before EOF
+    assertEquals(1, in.read());
+    assertEquals(2, in.read());
+    assertEquals(-1, in.read());
+
+    buffer.writeFrom(new ByteArrayInputStream(new byte[] {3}));
+    assertEquals(-1, in.read());
+  }
+
+  @Test
+  public void testCloseReadDiscards() throws Exception {
+    ByteRingBuffer buffer = new ByteRingBuffer(4);
+    InputStream in = buffer.getInputStream();
+
+    in.close();
+    // doesn't block although more bytes than the capacity are written
+    buffer.writeFrom(new ByteArrayInputStream(new byte[16]));
+    assertEquals(0, in.available());
+    assertEquals(-1, in.read());
+  }
+}
@@ -17,16 +17,31 @@ import static io.kubernetes.client.util.Config.ENV_SERVICE_PORT;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.google.gson.reflect.TypeToken;
 import io.kubernetes.client.Resources;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.credentials.Authentication;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -218,4 +233,94 @@ public class ClientBuilderTest {
 
     assertEquals("https://[::1]:6443", builder.getBasePath());
   }
+
+  @Test
+  public void testDefaultsToHttp1() throws Exception {
+    final ApiClient client = new ClientBuilder().setBasePath("https://localhost:6443").build();
+    assertEquals(Arrays.asList(Protocol.HTTP_1_1), client.getHttpClient().protocols());
+  }
+
+  @Test
+  public void testHttp2Settings() throws Exception {
+    final ApiClient client =
+        new ClientBuilder()
+            .setBasePath("https://localhost:6443")
+            .setHttp2Enabled(true)
+            .setMaxRequests(32)
+            .setMaxRequestsPerHost(16)
+            .setConnectionPool(2, Duration.ofSeconds(30))
+            .build();
+    OkHttpClient httpClient = client.getHttpClient();
+    assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1), httpClient.protocols());
+    assertEquals(32, httpClient.dispatcher().getMaxRequests());
+    assertEquals(16, httpClient.dispatcher().getMaxRequestsPerHost());
+    assertNotNull(httpClient.connectionPool());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxRequests() {
+    new ClientBuilder().setMaxRequests(0);
+  }
+
+  @Test
+  public void testHttp2WatchesShareConnection() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.setProtocols(Arrays.asList(Protocol.H2_PRIOR_KNOWLEDGE));
+    server.start();
+    try {
+      final ApiClient client =
+          new ClientBuilder().setBasePath(server.url("/").toString()).setHttp2Enabled(true).build();
+      assertEquals(Arrays.asList(Protocol.H2_PRIOR_KNOWLEDGE), client.getHttpClient().protocols());
+
+      List<Watch<V1Pod>> watches = openWatches(server, client, 8);
+      assertEquals(1, client.getHttpClient().connectionPool().connectionCount());
+      Set<Integer> sequenceNumbers = new HashSet<>();
+      for (int i = 0; i < 8; i++) {
+        sequenceNumbers.add(server.takeRequest().getSequenceNumber());
+      }
+      // all the streams were multiplexed on the same connection
+      assertEquals(8, sequenceNumbers.size());
+      for (Watch<V1Pod> watch : watches) {
+        watch.close();
+      }
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void testHttp1WatchesHoldConnectionEach() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.start();
+    try {
+      final ApiClient client = new ClientBuilder().setBasePath(server.url("/").toString()).build();
+
+      List<Watch<V1Pod>> watches = openWatches(server, client, 8);
+      assertEquals(8, client.getHttpClient().connectionPool().connectionCount());
+      for (Watch<V1Pod> watch : watches) {
+        watch.close();
+      }
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  private static List<Watch<V1Pod>> openWatches(MockWebServer server, ApiClient client, int n)
+      throws ApiException {
+    CoreV1Api api = new CoreV1Api(client);
+    List<Watch<V1Pod>> watches = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      server.enqueue(
+          new MockResponse()
+              .setHeader("Content-Type", "application/json")
+              .setBody("{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\"}}\n"));
+      watches.add(
+          Watch.createWatch(
+              client,
+              api.listPodForAllNamespacesCall(
+                  null, null, null, null, null, null, null, null, null, true, null),
+              new TypeToken<Watch.Response<V1Pod>>() {}.getType()));
+    }
+    return watches;
+  }
 }
@@ -0,0 +1,166 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.Runtime.Unknown;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class ProtobufCodecTest {
+
+  private static final byte[] MAGIC = new byte[] {0x6b, 0x38, 0x73, 0x00};
+
+  private final ProtobufCodec codec = new ProtobufCodec(new JSON());
+
+  @Test
+  public void testConvertObjectMeta() {
+    Meta.ObjectMeta meta =
+        Meta.ObjectMeta.newBuilder()
+            .setName("foo")
+            .setNamespace("default")
+            .setGeneration(3)
+            .setCreationTimestamp(Meta.Time.newBuilder().setSeconds(1577836800L).build())
+            .putLabels("app", "foo")
+            .addOwnerReferences(
+                Meta.OwnerReference.newBuilder()
+                    .setApiVersion("apps/v1")
+                    .setKind("ReplicaSet")
+                    .setName("foo-1")
+                    .setUid("uid-1")
+                    .setController(true))
+            .build();
+
+    V1ObjectMeta converted = codec.convert(meta, V1ObjectMeta.class);
+
+    assertEquals("foo", converted.getName());
+    assertEquals("default", converted.getNamespace());
+    assertEquals(Long.valueOf(3), converted.getGeneration());
+    assertEquals(
+        new DateTime(2020, 1, 1, 0, 0, DateTimeZone.UTC), converted.getCreationTimestamp());
+    assertEquals("foo", converted.getLabels().get("app"));
+    assertEquals(1, converted.getOwnerReferences().size());
+    assertEquals("ReplicaSet", converted.getOwnerReferences().get(0).getKind());
+    assertEquals("uid-1", converted.getOwnerReferences().get(0).getUid());
+    assertTrue(converted.getOwnerReferences().get(0).getController());
+    // unset fields are left null
+    assertNull(converted.getAnnotations());
+    assertNull(converted.getResourceVersion());
+  }
+
+  @Test
+  public void testDecodeStatus() throws IOException {
+    Meta.Status status =
+        Meta.Status.newBuilder()
+            .setStatus("Failure")
+            .setReason("Gone")
+            .setMessage("too old resource version")
+            .setCode(410)
+            .build();
+
+    Unknown envelope =
+        codec.parseEnvelope(new ByteArrayInputStream(encode("v1", "Status", status)));
+    V1Status decoded = codec.decode(envelope, V1Status.class);
+
+    assertEquals("v1", decoded.getApiVersion());
+    assertEquals("Status", decoded.getKind());
+    assertEquals("Gone", decoded.getReason());
+    assertEquals(Integer.valueOf(410), decoded.getCode());
+  }
+
+  @Test(expected = IOException.class)
+  public void testParseEnvelopeBadMagic() throws IOException {
+    codec.parseEnvelope(new ByteArrayInputStream("{\"kind\":\"Pod\"}".getBytes()));
+  }
+
+  @Test
+  public void testSupports() {
+    assertTrue(codec.supports("v1", "Status"));
+    assertFalse(codec.supports("example.com/v1", "Foo"));
+    codec.registerType("example.com/v1", "Foo", Meta.ObjectMeta.getDefaultInstance());
+    assertTrue(codec.supports("example.com/v1", "Foo"));
+  }
+
+  @Test
+  public void testWatch() throws IOException {
+    codec.registerType("example.com/v1", "Meta", Meta.ObjectMeta.getDefaultInstance());
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    writeEvent(
+        stream,
+        "ADDED",
+        encode("example.com/v1", "Meta", Meta.ObjectMeta.newBuilder().setName("foo").build()));
+    writeEvent(
+        stream,
+        "ERROR",
+        encode("v1", "Status", Meta.Status.newBuilder().setReason("Gone").setCode(410).build()));
+    ResponseBody body =
+        ResponseBody.create(MediaType.parse(ProtobufCodec.MEDIA_TYPE), stream.toByteArray());
+
+    ProtobufWatch<V1ObjectMeta> watch = new ProtobufWatch<>(codec, body, V1ObjectMeta.class, null);
+
+    assertTrue(watch.hasNext());
+    Watch.Response<V1ObjectMeta> added = watch.next();
+    assertEquals("ADDED", added.type);
+    assertEquals("foo", added.object.getName());
+
+    assertTrue(watch.hasNext());
+    Watch.Response<V1ObjectMeta> error = watch.next();
+    assertEquals("ERROR", error.type);
+    assertNull(error.object);
+    assertEquals(Integer.valueOf(410), error.status.getCode());
+
+    assertFalse(watch.hasNext());
+  }
+
+  private static byte[] encode(String apiVersion, String kind, Message message) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    stream.write(MAGIC);
+    Unknown.newBuilder()
+        .setTypeMeta(Runtime.TypeMeta.newBuilder().setApiVersion(apiVersion).setKind(kind))
+        .setRaw(message.toByteString())
+        .build()
+        .writeTo(stream);
+    return stream.toByteArray();
+  }
+
+  private static void writeEvent(ByteArrayOutputStream stream, String type, byte[] object)
+      throws IOException {
+    byte[] event =
+        Meta.WatchEvent.newBuilder()
+            .setType(type)
+            .setObject(Runtime.RawExtension.newBuilder().setRaw(ByteString.copyFrom(object)))
+            .build()
+            .toByteArray();
+    DataOutputStream out = new DataOutputStream(stream);
+    out.writeInt(event.length);
+    out.write(event);
+  }
+}
@@ -0,0 +1,206 @@
+/*
+Copyright 2020 The Kubernetes Authors.
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+http://www.apache.org/licenses/LICENSE-2.0
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+*/
+package io.kubernetes.client.util.credentials;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.util.KubeConfig;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExecCredentialAuthenticationTest {
+
+  private static final String API_VERSION = "client.authentication.k8s.io/v1beta1";
+
+  // a fake credential plugin counting its invocations, the n-th invocation produces the token
+  // "tok-n" expiring at the time in the expiry file, if any, or fails if there's a fail file.
+  private static final String PLUGIN_SCRIPT =
+      "#!/bin/sh\n"
+          + "DIR=$(dirname \"$0\")\n"
+          + "echo x >> \"$DIR/invocations\"\n"
+          + "if [ -f \"$DIR/fail\" ]; then exit 1; fi\n"
+          + "N=$(wc -l < \"$DIR/invocations\" | tr -d ' ')\n"
+          + "EXP=$(cat \"$DIR/expiry\" 2>/dev/null)\n"
+          + "if [ -n \"$EXP\" ]; then EXPJSON=\", \\\"expirationTimestamp\\\": \\\"$EXP\\\"\"; fi\n"
+          + "echo \"{\\\"apiVersion\\\": \\\"$API_VERSION\\\", \\\"kind\\\": \\\"ExecCredential\\\", "
+          + "\\\"status\\\": {\\\"token\\\": \\\"tok-$N\\\"$EXPJSON}}\"\n";
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private File pluginDir;
+  private File plugin;
+
+  @Before
+  public void setup() throws IOException {
+    pluginDir = folder.newFolder();
+    plugin = new File(pluginDir, "plugin");
+    Files.write(plugin.toPath(), PLUGIN_SCRIPT.getBytes(StandardCharsets.UTF_8));
+    plugin.setExecutable(true);
+  }
+
+  @Test
+  public void testCachesTokenWithoutExpiry() throws IOException {
+    ExecCredentialAuthentication auth = newAuthentication();
+
+    assertEquals("tok-1", auth.getToken());
+    assertEquals("tok-1", auth.getToken());
+    assertEquals(1, invocations());
+    // the clients built from the same plugin config share the credential
+    assertSame(auth, newAuthentication());
+  }
+
+  @Test
+  public void testRerunsPluginOnceExpired() throws IOException {
+    writeExpiry(Instant.now().minusSeconds(60));
+    ExecCredentialAuthentication auth = newAuthentication();
+
+    assertEquals("tok-1", auth.getToken());
+    assertEquals("tok-2", auth.getToken());
+    assertEquals(2, invocations());
+  }
+
+  @Test
+  public void testRefreshesAheadOfExpiry() throws Exception {
+    writeExpiry(Instant.now().plusSeconds(4));
+    ExecCredentialAuthentication auth = newAuthentication();
+    assertEquals("tok-1", auth.getToken());
+
+    // most of the lifetime passed, the valid token is returned while refreshing. the refreshed
+    // token doesn't expire during the test.
+    Thread.sleep(3400);
+    writeExpiry(Instant.now().plusSeconds(3600));
+    assertEquals("tok-1", auth.getToken());
+    await().atMost(Duration.ofSeconds(5)).until(() -> "tok-2".equals(auth.getToken()));
+    assertEquals(2, invocations());
+  }
+
+  @Test
+  public void testReauthenticatesOnUnauthorized() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setResponseCode(401));
+    server.enqueue(new MockResponse().setResponseCode(200));
+    server.start();
+    try {
+      ExecCredentialAuthentication auth = newAuthentication();
+      ApiClient client = new ApiClient();
+      auth.provide(client);
+
+      try (Response response =
+          client
+              .getHttpClient()
+              .newCall(new Request.Builder().url(server.url("/api")).build())
+              .execute()) {
+        assertEquals(200, response.code());
+      }
+      assertEquals("Bearer tok-1", server.takeRequest().getHeader("Authorization"));
+      assertEquals("Bearer tok-2", server.takeRequest().getHeader("Authorization"));
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void testBacksOffAfterFailure() throws Exception {
+    File fail = new File(pluginDir, "fail");
+    fail.createNewFile();
+    ExecCredentialAuthentication auth = newAuthentication();
+
+    assertNull(auth.getToken());
+    assertNull(auth.getToken());
+    assertNull(auth.getToken());
+    assertEquals(1, invocations());
+
+    fail.delete();
+    await().atMost(Duration.ofSeconds(5)).until(() -> "tok-2".equals(auth.getToken()));
+    assertEquals(2, invocations());
+  }
+
+  @Test
+  public void testKubeconfigFallsBackToStaticToken() throws Exception {
+    new File(pluginDir, "fail").createNewFile();
+    MockWebServer server = new MockWebServer();
+    server.enqueue(
+        new MockResponse()
+            .setBody("{\"kind\":\"APIResourceList\",\"groupVersion\":\"v1\",\"resources\":[]}"));
+    server.start();
+    try {
+      KubeConfig config =
+          KubeConfig.loadKubeConfig(
+              new StringReader(
+                  "current-context: ctx\n"
+                      + "contexts:\n"
+                      + "- name: ctx\n"
+                      + "  context: {cluster: cluster, user: user}\n"
+                      + "clusters:\n"
+                      + "- name: cluster\n"
+                      + "  cluster: {server: '"
+                      + server.url("/")
+                      + "'}\n"
+                      + "users:\n"
+                      + "- name: user\n"
+                      + "  user:\n"
+                      + "    token: static-token\n"
+                      + "    exec:\n"
+                      + "      apiVersion: "
+                      + API_VERSION
+                      + "\n"
+                      + "      command: "
+                      + plugin.getPath()
+                      + "\n"));
+      config.setFile(new File(pluginDir, "config"));
+      ApiClient client = new ApiClient();
+      client.setBasePath(server.url("/").toString());
+      new KubeconfigAuthentication(config).provide(client);
+
+      new CoreV1Api(client).getAPIResources();
+      assertEquals("Bearer static-token", server.takeRequest().getHeader("Authorization"));
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  private ExecCredentialAuthentication newAuthentication() {
+    return ExecCredentialAuthentication.shared(
+        API_VERSION,
+        Collections.singletonList(plugin.getPath()),
+        Collections.singletonMap("API_VERSION", API_VERSION));
+  }
+
+  private void writeExpiry(Instant expiry) throws IOException {
+    Files.write(
+        new File(pluginDir, "expiry").toPath(), expiry.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private int invocations() throws IOException {
+    return Files.readAllLines(new File(pluginDir, "invocations").toPath()).size();
+  }
+}
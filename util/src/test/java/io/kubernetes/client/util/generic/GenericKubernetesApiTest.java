@@ -122,6 +122,44 @@ public class GenericKubernetesApiTest {
     verify(1, getRequestedFor(urlPathEqualTo("/apis/batch/v1/jobs")));
   }
 
+  @Test
+  public void listNamespacedJobReturningLargeObjectKindLast() {
+    V1JobList jobList = new V1JobList().metadata(new V1ListMeta());
+    for (int i = 0; i < 200; i++) {
+      jobList.addItemsItem(
+          new V1Job().metadata(new V1ObjectMeta().namespace("default").name("foo" + i)));
+    }
+    // the kind field comes after a list body way larger than the peeked bytes
+    String body = new Gson().toJson(jobList);
+    body = body.substring(0, body.length() - 1) + ",\"kind\":\"JobList\"}";
+    jobList.setKind("JobList");
+
+    stubFor(
+        get(urlPathEqualTo("/apis/batch/v1/namespaces/default/jobs"))
+            .willReturn(aResponse().withStatus(200).withBody(body)));
+    KubernetesApiResponse<V1JobList> jobListResp = jobClient.list("default");
+    assertTrue(jobListResp.isSuccess());
+    assertEquals(jobList, jobListResp.getObject());
+    assertNull(jobListResp.getStatus());
+  }
+
+  @Test
+  public void deleteNamespacedJobReturningStatusKindLast() {
+    V1Status status = new V1Status().code(200).message("good!").apiVersion("v1");
+    String body = new Gson().toJson(status);
+    body = body.substring(0, body.length() - 1) + ",\"kind\":\"Status\"}";
+    status.setKind("Status");
+
+    stubFor(
+        delete(urlEqualTo("/apis/batch/v1/namespaces/default/jobs/foo1"))
+            .willReturn(aResponse().withStatus(200).withBody(body)));
+
+    KubernetesApiResponse<V1Job> deleteJobResp = jobClient.delete("default", "foo1");
+    assertTrue(deleteJobResp.isSuccess());
+    assertEquals(status, deleteJobResp.getStatus());
+    assertNull(deleteJobResp.getObject());
+  }
+
   @Test
   public void createNamespacedJobReturningObject() {
     V1Job foo1 =
@@ -17,7 +17,10 @@ import static io.kubernetes.client.util.labels.EqualityMatcher.notEqual;
 import static io.kubernetes.client.util.labels.SetMatcher.*;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import org.junit.Test;
 
 public class LabelSelectorTest {
@@ -198,4 +201,21 @@ public class LabelSelectorTest {
             }));
     assertEquals("", labelSelector.toString());
   }
+
+  @Test
+  public void requiredValuesShouldWork() {
+    LabelSelector labelSelector =
+        LabelSelector.and(
+            equal("foo", "v1"), notEqual("bar", "v2"), in("baz", "v3", "v4"), exists("qux"));
+    assertEquals(4, labelSelector.getMatchers().size());
+    assertEquals(
+        Collections.singleton("v1"), labelSelector.getMatchers().get(0).getRequiredValues());
+    assertNull(labelSelector.getMatchers().get(1).getRequiredValues());
+    assertEquals(
+        new HashSet<>(Arrays.asList("v3", "v4")),
+        labelSelector.getMatchers().get(2).getRequiredValues());
+    assertNull(labelSelector.getMatchers().get(3).getRequiredValues());
+    assertNull(notIn("foo", "v1").getRequiredValues());
+    assertNull(notExists("foo").getRequiredValues());
+  }
 }